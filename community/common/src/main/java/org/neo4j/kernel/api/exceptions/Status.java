@@ -227,6 +227,8 @@ public interface Status
                 "The statement is attempting to perform operations using invalid arguments" ),
         ArithmeticError( ClientError,
                 "Invalid use of arithmetic, such as dividing by zero." ),
+        MemoryLimitExceeded( ClientError,
+                "The statement needed more memory than a single query is allowed to use." ),
 
         // database errors
         ExecutionFailed( DatabaseError,
@@ -235,6 +237,8 @@ public interface Status
         // transient errors
         ExternalResourceFailed( ClientError,
                 "Access to an external resource failed" ),
+        GlobalMemoryLimitExceeded( TransientError,
+                "The statement needed more memory than is currently available to all running queries." ),
 
         // client notifications (performance)
         CartesianProductWarning( ClientNotification,
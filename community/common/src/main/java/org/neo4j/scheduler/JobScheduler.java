@@ -186,6 +186,16 @@ public interface JobScheduler extends Lifecycle
          */
         public static Group cypherWorker = new Group( "CypherWorker" );
 
+        /**
+         * Saving and re-planning the most frequently used Cypher queries.
+         */
+        public static Group cypherCacheWarmup = new Group( "CypherCacheWarmup" );
+
+        /**
+         * Re-planning Cypher queries whose plans have become stale, while the stale plans are still in use.
+         */
+        public static Group cypherReplanning = new Group( "CypherReplanning" );
+
         private Groups()
         {
         }
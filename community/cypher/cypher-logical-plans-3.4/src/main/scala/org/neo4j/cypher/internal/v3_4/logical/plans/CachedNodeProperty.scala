@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.v3_4.logical.plans
+
+import org.neo4j.cypher.internal.frontend.v3_4.SemanticCheck
+import org.neo4j.cypher.internal.frontend.v3_4.semantics.{SemanticCheckResult, SemanticCheckableExpression}
+import org.neo4j.cypher.internal.util.v3_4.InputPosition
+import org.neo4j.cypher.internal.v3_4.expressions.Expression.SemanticContext
+import org.neo4j.cypher.internal.v3_4.expressions.{Expression, PropertyKeyName, Variable}
+
+/**
+  * A property of a node that was found through an index seek on that same property. Runtimes can read the value
+  * handed out by the index, when there is one, instead of going to the property store. When the index did not
+  * provide a value for the current row, this behaves exactly like a normal property lookup.
+  */
+case class CachedNodeProperty(variable: Variable, propertyKey: PropertyKeyName)
+                             (val position: InputPosition) extends Expression with SemanticCheckableExpression {
+
+  def cacheKey: String = CachedNodeProperty.cacheKey(variable.name, propertyKey.name)
+
+  override def semanticCheck(ctx: SemanticContext): SemanticCheck = SemanticCheckResult.success
+
+  override def asCanonicalStringVal = s"${variable.asCanonicalStringVal}.${propertyKey.asCanonicalStringVal}"
+}
+
+object CachedNodeProperty {
+  /**
+    * The name under which runtimes keep the value of a cached node property in a row.
+    */
+  def cacheKey(nodeName: String, propertyKeyName: String): String = s"  cached[$nodeName.$propertyKeyName]"
+}
@@ -100,4 +100,5 @@ case class CypherCompilerConfiguration(queryCacheSize: Int,
                                        errorIfShortestPathFallbackUsedAtRuntime: Boolean,
                                        errorIfShortestPathHasCommonNodesAtRuntime: Boolean,
                                        legacyCsvQuoteEscaping: Boolean,
-                                       nonIndexedLabelWarningThreshold: Long)
+                                       nonIndexedLabelWarningThreshold: Long,
+                                       compiledExpressions: Boolean)
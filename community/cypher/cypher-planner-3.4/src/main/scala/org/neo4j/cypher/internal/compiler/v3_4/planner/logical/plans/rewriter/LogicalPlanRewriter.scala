@@ -47,7 +47,8 @@ case class PlanRewriter(rewriterSequencer: String => RewriterStepSequencer) exte
     removeIdenticalPlans,
     pruningVarExpander,
     useTop,
-    simplifySelections
+    simplifySelections,
+    cacheIndexProvidedProperties
   ).rewriter)
 }
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compiler.v3_4.planner.logical.plans.rewriter
+
+import org.neo4j.cypher.internal.util.v3_4.Foldable._
+import org.neo4j.cypher.internal.util.v3_4.{Rewriter, bottomUp}
+import org.neo4j.cypher.internal.v3_4.expressions.{FunctionInvocation, Property, PropertyKeyName, Variable}
+import org.neo4j.cypher.internal.v3_4.functions.Exists
+import org.neo4j.cypher.internal.v3_4.logical.plans._
+
+/**
+  * When a node is found by an exact index seek, the index may already know the value of the seeked properties.
+  * This rewriter marks reads of such properties as cached, so that the runtimes can use the value from the index
+  * instead of reading it from the property store again.
+  *
+  * This is only done for read only queries, since a cached value would go stale if the property was written to
+  * later on in the same query.
+  */
+case object cacheIndexProvidedProperties extends Rewriter {
+
+  override def apply(input: AnyRef): AnyRef = input match {
+    case plan: LogicalPlan if isReadOnly(plan) =>
+      val cachable = indexProvidedProperties(plan)
+      if (cachable.isEmpty)
+        plan
+      else
+        plan.endoRewrite(bottomUp(Rewriter.lift {
+          case p@Property(v: Variable, key: PropertyKeyName) if cachable((v.name, key.name)) =>
+            CachedNodeProperty(v, key)(p.position)
+        }, stopper = {
+          // exists() needs to inspect the property itself, and is trivially true for seeked nodes anyway
+          case f: FunctionInvocation => f.function == Exists
+          case _ => false
+        }))
+
+    case _ =>
+      input
+  }
+
+  private def isReadOnly(plan: LogicalPlan): Boolean =
+    !plan.treeExists {
+      case p: LogicalPlan => !p.solved.readOnly
+    }
+
+  private def indexProvidedProperties(plan: LogicalPlan): Set[(String, String)] =
+    plan.treeFold(Set.empty[(String, String)]) {
+      case NodeIndexSeek(idName, _, propertyKeys, valueExpr, _) if isExactSeek(valueExpr) =>
+        acc => (acc ++ propertyKeys.map(idName.name -> _.name), None)
+      case NodeUniqueIndexSeek(idName, _, propertyKeys, valueExpr, _) if isExactSeek(valueExpr) =>
+        acc => (acc ++ propertyKeys.map(idName.name -> _.name), None)
+    }
+
+  private def isExactSeek(valueExpr: QueryExpression[_]): Boolean = valueExpr match {
+    case _: RangeQueryExpression[_] => false
+    case _ => true
+  }
+}
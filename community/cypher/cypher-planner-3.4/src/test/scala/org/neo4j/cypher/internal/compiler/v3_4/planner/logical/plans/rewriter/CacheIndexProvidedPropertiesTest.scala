@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compiler.v3_4.planner.logical.plans.rewriter
+
+import org.neo4j.cypher.internal.compiler.v3_4.planner.LogicalPlanningTestSupport
+import org.neo4j.cypher.internal.frontend.v3_4.ast.AstConstructionTestSupport
+import org.neo4j.cypher.internal.ir.v3_4._
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+import org.neo4j.cypher.internal.util.v3_4.{Cardinality, LabelId, NonEmptyList, PropertyKeyId}
+import org.neo4j.cypher.internal.v3_4.expressions._
+import org.neo4j.cypher.internal.v3_4.logical.plans._
+
+class CacheIndexProvidedPropertiesTest extends CypherFunSuite with LogicalPlanningTestSupport with AstConstructionTestSupport {
+
+  private val label = LabelToken("Awesome", LabelId(0))
+  private val propertyKey = PropertyKeyToken(PropertyKeyName("prop") _, PropertyKeyId(0))
+  private val seek = NodeIndexSeek(IdName("n"), label, Seq(propertyKey), SingleQueryExpression(literalInt(42)), Set.empty)(solved)
+
+  test("should cache property read of node from exact index seek") {
+    val projection = Projection(seek, Map("n.prop" -> prop("n", "prop")))(solved)
+
+    projection.endoRewrite(cacheIndexProvidedProperties) should equal(
+      Projection(seek, Map("n.prop" -> CachedNodeProperty(varFor("n"), PropertyKeyName("prop")(pos))(pos)))(solved))
+  }
+
+  test("should cache property read in predicates") {
+    val selection = Selection(Seq(GreaterThan(prop("n", "prop"), literalInt(10))(pos)), seek)(solved)
+
+    selection.endoRewrite(cacheIndexProvidedProperties) should equal(
+      Selection(Seq(GreaterThan(CachedNodeProperty(varFor("n"), PropertyKeyName("prop")(pos))(pos), literalInt(10))(pos)), seek)(solved))
+  }
+
+  test("should not cache other properties of the seeked node") {
+    val projection = Projection(seek, Map("n.other" -> prop("n", "other")))(solved)
+
+    projection.endoRewrite(cacheIndexProvidedProperties) should equal(projection)
+  }
+
+  test("should not cache properties of nodes from range seeks") {
+    val rangeSeek = NodeIndexSeek(IdName("n"), label, Seq(propertyKey),
+      RangeQueryExpression(InequalitySeekRangeWrapper(RangeLessThan(NonEmptyList(ExclusiveBound(literalInt(42)))))(pos)),
+      Set.empty)(solved)
+    val projection = Projection(rangeSeek, Map("n.prop" -> prop("n", "prop")))(solved)
+
+    projection.endoRewrite(cacheIndexProvidedProperties) should equal(projection)
+  }
+
+  test("should not cache properties inside exists()") {
+    val exists = FunctionInvocation(FunctionName("exists")(pos), prop("n", "prop"))(pos)
+    val projection = Projection(seek, Map("e" -> exists))(solved)
+
+    projection.endoRewrite(cacheIndexProvidedProperties) should equal(projection)
+  }
+
+  test("should not cache properties in updating queries") {
+    val writes = QueryGraph(mutatingPatterns = Seq(SetNodePropertyPattern(IdName("n"), PropertyKeyName("prop")(pos), literalInt(1))))
+    val solvedWithWrites = CardinalityEstimation.lift(RegularPlannerQuery(writes), Cardinality(1))
+    val projection = Projection(seek, Map("n.prop" -> prop("n", "prop")))(solvedWithWrites)
+
+    projection.endoRewrite(cacheIndexProvidedProperties) should equal(projection)
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.codegen;
+
+import org.neo4j.values.AnyValue;
+import org.neo4j.values.AnyValues;
+import org.neo4j.values.storable.BooleanValue;
+import org.neo4j.values.storable.FloatingPointValue;
+import org.neo4j.values.storable.LongValue;
+import org.neo4j.values.storable.NumberValue;
+import org.neo4j.values.storable.TextValue;
+import org.neo4j.values.storable.Value;
+
+import static org.neo4j.values.storable.Values.FALSE;
+import static org.neo4j.values.storable.Values.NO_VALUE;
+import static org.neo4j.values.storable.Values.TRUE;
+
+/**
+ * Helper class for predicates in compiled expressions.
+ *
+ * Every method follows the ternary logic of the corresponding interpreted predicate and returns
+ * {@code TRUE}, {@code FALSE} or {@code NO_VALUE}.
+ */
+public final class CompiledExpressionUtils
+{
+    /**
+     * Do not instantiate this class
+     */
+    private CompiledExpressionUtils()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public static Value equals( AnyValue lhs, AnyValue rhs )
+    {
+        Boolean result = lhs.ternaryEquals( rhs );
+        if ( result == null )
+        {
+            return NO_VALUE;
+        }
+        return result ? TRUE : FALSE;
+    }
+
+    public static Value notEquals( AnyValue lhs, AnyValue rhs )
+    {
+        return not( equals( lhs, rhs ) );
+    }
+
+    public static Value lessThan( AnyValue lhs, AnyValue rhs )
+    {
+        if ( lhs instanceof LongValue && rhs instanceof LongValue )
+        {
+            return ((LongValue) lhs).longValue() < ((LongValue) rhs).longValue() ? TRUE : FALSE;
+        }
+        return comparable( lhs, rhs ) ? (AnyValues.COMPARATOR.compare( lhs, rhs ) < 0 ? TRUE : FALSE) : NO_VALUE;
+    }
+
+    public static Value lessThanOrEqual( AnyValue lhs, AnyValue rhs )
+    {
+        if ( lhs instanceof LongValue && rhs instanceof LongValue )
+        {
+            return ((LongValue) lhs).longValue() <= ((LongValue) rhs).longValue() ? TRUE : FALSE;
+        }
+        return comparable( lhs, rhs ) ? (AnyValues.COMPARATOR.compare( lhs, rhs ) <= 0 ? TRUE : FALSE) : NO_VALUE;
+    }
+
+    public static Value greaterThan( AnyValue lhs, AnyValue rhs )
+    {
+        return lessThan( rhs, lhs );
+    }
+
+    public static Value greaterThanOrEqual( AnyValue lhs, AnyValue rhs )
+    {
+        return lessThanOrEqual( rhs, lhs );
+    }
+
+    public static Value not( AnyValue predicate )
+    {
+        if ( predicate == TRUE )
+        {
+            return FALSE;
+        }
+        else if ( predicate == FALSE )
+        {
+            return TRUE;
+        }
+        return NO_VALUE;
+    }
+
+    public static Value xor( AnyValue lhs, AnyValue rhs )
+    {
+        if ( lhs == NO_VALUE || rhs == NO_VALUE )
+        {
+            return NO_VALUE;
+        }
+        return (lhs == TRUE) != (rhs == TRUE) ? TRUE : FALSE;
+    }
+
+    private static boolean comparable( AnyValue lhs, AnyValue rhs )
+    {
+        if ( lhs == NO_VALUE || rhs == NO_VALUE || isNaN( lhs ) || isNaN( rhs ) )
+        {
+            return false;
+        }
+        return lhs instanceof NumberValue && rhs instanceof NumberValue ||
+               lhs instanceof TextValue && rhs instanceof TextValue ||
+               lhs instanceof BooleanValue && rhs instanceof BooleanValue;
+    }
+
+    private static boolean isNaN( AnyValue value )
+    {
+        return value instanceof FloatingPointValue && Double.isNaN( ((FloatingPointValue) value).doubleValue() );
+    }
+}
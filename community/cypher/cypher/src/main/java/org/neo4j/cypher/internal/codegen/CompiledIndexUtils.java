@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.codegen;
+
+import org.neo4j.collection.primitive.PrimitiveLongCollections;
+import org.neo4j.internal.kernel.api.IndexQuery;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.exceptions.index.IndexNotApplicableKernelException;
+import org.neo4j.kernel.api.exceptions.index.IndexNotFoundKernelException;
+import org.neo4j.kernel.api.schema.index.IndexDescriptor;
+import org.neo4j.storageengine.api.schema.IndexValueIterator;
+
+/**
+ * Index range seeks for generated code. Bounds are checked the same way the interpreted runtime checks them: a
+ * {@code null} bound matches nothing, numbers and strings can not be mixed, and any other type of bound is an error.
+ */
+public abstract class CompiledIndexUtils
+{
+    private static final IndexValueIterator EMPTY =
+            IndexValueIterator.withoutValues( PrimitiveLongCollections.emptyIterator() );
+
+    public static IndexValueIterator indexSeekLessThan( ReadOperations readOperations, IndexDescriptor index,
+            Object to, boolean toInclusive ) throws IndexNotFoundKernelException, IndexNotApplicableKernelException
+    {
+        return indexSeekByRange( readOperations, index, false, null, false, true, to, toInclusive );
+    }
+
+    public static IndexValueIterator indexSeekGreaterThan( ReadOperations readOperations, IndexDescriptor index,
+            Object from, boolean fromInclusive ) throws IndexNotFoundKernelException, IndexNotApplicableKernelException
+    {
+        return indexSeekByRange( readOperations, index, true, from, fromInclusive, false, null, false );
+    }
+
+    public static IndexValueIterator indexSeekBetween( ReadOperations readOperations, IndexDescriptor index,
+            Object from, boolean fromInclusive, Object to, boolean toInclusive )
+            throws IndexNotFoundKernelException, IndexNotApplicableKernelException
+    {
+        return indexSeekByRange( readOperations, index, true, from, fromInclusive, true, to, toInclusive );
+    }
+
+    private static IndexValueIterator indexSeekByRange( ReadOperations readOperations, IndexDescriptor index,
+            boolean hasFrom, Object from, boolean fromInclusive, boolean hasTo, Object to, boolean toInclusive )
+            throws IndexNotFoundKernelException, IndexNotApplicableKernelException
+    {
+        if ( (hasFrom && from == null) || (hasTo && to == null) )
+        {
+            return EMPTY;
+        }
+        from = hasFrom ? checkBound( from ) : null;
+        to = hasTo ? checkBound( to ) : null;
+
+        int propertyKeyId = index.schema().getPropertyId();
+        if ( isStringOrAbsent( from ) && isStringOrAbsent( to ) )
+        {
+            return readOperations.indexQueryWithValues( index,
+                    IndexQuery.range( propertyKeyId, (String) from, fromInclusive, (String) to, toInclusive ) );
+        }
+        if ( isNumberOrAbsent( from ) && isNumberOrAbsent( to ) )
+        {
+            return readOperations.indexQueryWithValues( index,
+                    IndexQuery.range( propertyKeyId, (Number) from, fromInclusive, (Number) to, toInclusive ) );
+        }
+
+        // One bound is a number and the other a string. Filtering on both would fail on the first node that
+        // matches either of them, so only an empty result on either side allows the query to succeed.
+        IndexQuery fromQuery = from instanceof Number
+                               ? IndexQuery.range( propertyKeyId, (Number) from, fromInclusive, null, false )
+                               : IndexQuery.range( propertyKeyId, (String) from, fromInclusive, null, false );
+        IndexQuery toQuery = to instanceof Number
+                             ? IndexQuery.range( propertyKeyId, null, false, (Number) to, toInclusive )
+                             : IndexQuery.range( propertyKeyId, null, false, (String) to, toInclusive );
+        if ( !readOperations.indexQuery( index, fromQuery ).hasNext() ||
+             !readOperations.indexQuery( index, toQuery ).hasNext() )
+        {
+            return EMPTY;
+        }
+        throw new IllegalArgumentException(
+                "Cannot compare a property against both numbers and strings. They are incomparable." );
+    }
+
+    private static Object checkBound( Object bound )
+    {
+        if ( bound instanceof Character )
+        {
+            return bound.toString();
+        }
+        if ( bound instanceof Number || bound instanceof String )
+        {
+            return bound;
+        }
+        throw new IllegalArgumentException(
+                "Cannot compare a property against values that are neither strings nor numbers." );
+    }
+
+    private static boolean isStringOrAbsent( Object bound )
+    {
+        return bound == null || bound instanceof String;
+    }
+
+    private static boolean isNumberOrAbsent( Object bound )
+    {
+        return bound == null || bound instanceof Number;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.codegen;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import org.neo4j.cypher.internal.compiler.v3_4.spi.RelationshipIdWrapper;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.impl.api.RelationshipDataExtractor;
+import org.neo4j.kernel.impl.api.store.RelationshipIterator;
+
+/**
+ * Lazily explores all paths of a variable length pattern from a single start node, for use by generated code.
+ * <p>
+ * Paths are explored depth first and never traverse the same relationship twice. Every path whose length lies
+ * between the given bounds is produced, and after each call to {@link #next()} the relationships of the current
+ * path are available through {@link #relationships()}.
+ */
+public final class CompiledVarLengthExpander
+{
+    private final ReadOperations readOperations;
+    private final Direction direction;
+    private final int[] types;
+    private final int minLength;
+    private final int maxLength;
+    private final boolean reversePaths;
+    private final RelationshipDataExtractor extractor = new RelationshipDataExtractor();
+    private final Deque<Step> stack = new ArrayDeque<>();
+    private Step next;
+    private Step current;
+
+    private CompiledVarLengthExpander( ReadOperations readOperations, long fromNode, Direction direction, int[] types,
+            int minLength, int maxLength, boolean reversePaths )
+    {
+        this.readOperations = readOperations;
+        this.direction = direction;
+        this.types = types;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.reversePaths = reversePaths;
+        stack.push( new Step( fromNode, -1L, 0, null ) );
+    }
+
+    /**
+     * @param readOperations the read operations used to traverse the graph
+     * @param fromNode the node all paths start from
+     * @param direction the direction relationships are traversed in
+     * @param types the relationship types to traverse, or {@code null} to traverse all types
+     * @param minLength the minimum length of produced paths
+     * @param maxLength the maximum length of produced paths, or a negative number if unbounded
+     * @param reversePaths whether {@link #relationships()} should list relationships from the end node
+     * @return an expander over all matching paths from {@code fromNode}
+     */
+    public static CompiledVarLengthExpander expand( ReadOperations readOperations, long fromNode, Direction direction,
+            int[] types, int minLength, int maxLength, boolean reversePaths )
+    {
+        return new CompiledVarLengthExpander( readOperations, fromNode, direction, types, minLength, maxLength,
+                reversePaths );
+    }
+
+    public boolean hasNext()
+    {
+        while ( next == null && !stack.isEmpty() )
+        {
+            Step step = stack.pop();
+            if ( maxLength < 0 || step.length < maxLength )
+            {
+                expandFrom( step );
+            }
+            if ( step.length >= minLength )
+            {
+                next = step;
+            }
+        }
+        return next != null;
+    }
+
+    /**
+     * @return the end node of the next path
+     */
+    public long next()
+    {
+        if ( !hasNext() )
+        {
+            throw new IllegalStateException( "No more paths" );
+        }
+        current = next;
+        next = null;
+        return current.node;
+    }
+
+    /**
+     * @return the relationships of the path most recently returned by {@link #next()}
+     */
+    public List<RelationshipIdWrapper> relationships()
+    {
+        List<RelationshipIdWrapper> relationships = new ArrayList<>( current.length );
+        for ( Step step = current; step.previous != null; step = step.previous )
+        {
+            relationships.add( new RelationshipIdWrapperImpl( step.relationship ) );
+        }
+        if ( !reversePaths )
+        {
+            Collections.reverse( relationships );
+        }
+        return relationships;
+    }
+
+    private void expandFrom( Step step )
+    {
+        RelationshipIterator relationships;
+        try
+        {
+            relationships = types == null ? readOperations.nodeGetRelationships( step.node, direction )
+                                          : readOperations.nodeGetRelationships( step.node, direction, types );
+        }
+        catch ( EntityNotFoundException e )
+        {
+            // The node was deleted concurrently, so there is nothing to expand
+            return;
+        }
+        while ( relationships.hasNext() )
+        {
+            relationships.relationshipVisit( relationships.next(), extractor );
+            long relationship = extractor.relationship();
+            if ( !step.traverses( relationship ) )
+            {
+                stack.push( new Step( extractor.otherNode( step.node ), relationship, step.length + 1, step ) );
+            }
+        }
+    }
+
+    private static final class Step
+    {
+        private final long node;
+        private final long relationship;
+        private final int length;
+        private final Step previous;
+
+        Step( long node, long relationship, int length, Step previous )
+        {
+            this.node = node;
+            this.relationship = relationship;
+            this.length = length;
+            this.previous = previous;
+        }
+
+        boolean traverses( long relationship )
+        {
+            for ( Step step = this; step.previous != null; step = step.previous )
+            {
+                if ( step.relationship == relationship )
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
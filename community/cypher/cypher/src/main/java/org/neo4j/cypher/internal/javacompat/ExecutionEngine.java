@@ -19,6 +19,7 @@
  */
 package org.neo4j.cypher.internal.javacompat;
 
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.cypher.CypherException;
@@ -118,4 +119,16 @@ public class ExecutionEngine implements QueryExecutionEngine
     {
         return inner.clearQueryCaches();
     }
+
+    @Override
+    public List<String> cachedQueries()
+    {
+        return inner.cachedQueries();
+    }
+
+    @Override
+    public long warmUpQueryCache( List<String> queries )
+    {
+        return inner.warmUpQueryCache( queries );
+    }
 }
@@ -25,9 +25,62 @@ import org.neo4j.cypher.internal.StringCacheMonitor
 
 class PlanCacheMetricsMonitor extends StringCacheMonitor {
   private val counter = new AtomicLong()
+  private val hits = new AtomicLong()
+  private val misses = new AtomicLong()
+  private val warmupQueries = new AtomicLong()
+  private val warmedUpQueries = new AtomicLong()
+  private val backgroundReplans = new AtomicLong()
+  private val backgroundReplanSwaps = new AtomicLong()
+  private val backgroundReplanSwapTime = new AtomicLong()
+
   override def cacheDiscard(ignored1: String, ignored2: String): Unit = {
     counter.incrementAndGet()
   }
 
+  override def cacheHit(ignored: String): Unit = {
+    hits.incrementAndGet()
+  }
+
+  override def cacheMiss(ignored: String): Unit = {
+    misses.incrementAndGet()
+  }
+
+  override def cacheWarmupStarted(queries: Int): Unit = {
+    warmupQueries.addAndGet(queries)
+  }
+
+  override def cacheWarmupProgress(ignored1: String, ignored2: Boolean): Unit = {
+    warmedUpQueries.incrementAndGet()
+  }
+
+  override def backgroundReplanStarted(ignored: String): Unit = {
+    backgroundReplans.incrementAndGet()
+  }
+
+  override def backgroundReplanCompleted(ignored: String, swapped: Boolean, millis: Long): Unit = {
+    if (swapped) {
+      backgroundReplanSwaps.incrementAndGet()
+      backgroundReplanSwapTime.addAndGet(millis)
+    }
+  }
+
   def numberOfReplans: Long = counter.get()
+
+  def numberOfHits: Long = hits.get()
+
+  def numberOfMisses: Long = misses.get()
+
+  def hitRatio: Double = {
+    val hitCount = hits.get()
+    val total = hitCount + misses.get()
+    if (total == 0) 0.0 else hitCount.toDouble / total
+  }
+
+  def numberOfQueriesToWarmUp: Long = warmupQueries.get() - warmedUpQueries.get()
+
+  def numberOfBackgroundReplans: Long = backgroundReplans.get()
+
+  def numberOfBackgroundReplanSwaps: Long = backgroundReplanSwaps.get()
+
+  def backgroundReplanTimeToSwapMillis: Long = backgroundReplanSwapTime.get()
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal
+
+import java.time.Clock
+import java.util.concurrent.ConcurrentHashMap
+
+import org.neo4j.logging.Log
+import org.neo4j.scheduler.JobScheduler
+
+/**
+  * Plans queries with stale plans again in the background, so that the stale plans can keep being used until their
+  * replacements are ready. A query is replanned at most once at a time, and not again within the minimal replan
+  * interval after replanning it failed. After a successful replan the new plan itself is not considered stale until
+  * it has lived for the minimal replan interval.
+  */
+class BackgroundReplanner(scheduler: JobScheduler,
+                          clock: Clock,
+                          minReplanIntervalMillis: Long,
+                          monitor: StringCacheMonitor,
+                          log: Log) {
+
+  // query -> the time replanning it last failed, or IN_PROGRESS
+  private val replans = new ConcurrentHashMap[String, java.lang.Long]()
+
+  /**
+    * Replans the query in the background, unless it is already being replanned or it failed to replan recently.
+    *
+    * @param query  the text of the query, used as its identity
+    * @param replan plans the query again and swaps the new plan into the query cache, returning whether it did swap
+    */
+  def replan(query: String, replan: () => Boolean): Unit = {
+    val detectedMillis = clock.millis()
+    if (claim(query, detectedMillis)) {
+      monitor.backgroundReplanStarted(query)
+      scheduler.schedule(JobScheduler.Groups.cypherReplanning, new Runnable {
+        override def run(): Unit = {
+          val swapped = tryReplan(query, replan)
+          if (swapped)
+            replans.remove(query)
+          else
+            replans.put(query, clock.millis())
+          monitor.backgroundReplanCompleted(query, swapped, clock.millis() - detectedMillis)
+        }
+      })
+    }
+  }
+
+  private def claim(query: String, nowMillis: Long): Boolean = {
+    val lastFailed = replans.get(query)
+    if (lastFailed == null)
+      replans.putIfAbsent(query, BackgroundReplanner.IN_PROGRESS) == null
+    else
+      lastFailed != BackgroundReplanner.IN_PROGRESS && lastFailed + minReplanIntervalMillis <= nowMillis &&
+        replans.replace(query, lastFailed, BackgroundReplanner.IN_PROGRESS)
+  }
+
+  private def tryReplan(query: String, replan: () => Boolean): Boolean = try {
+    replan()
+  } catch {
+    case e: Exception =>
+      log.debug(s"Could not replan stale query in the background: $query", e)
+      false
+  }
+}
+
+object BackgroundReplanner {
+  private val IN_PROGRESS: java.lang.Long = Long.MaxValue
+}
@@ -40,6 +40,7 @@ object CompilerEngineDelegator {
   val CLOCK: Clock = Clock.systemUTC()
   val DEFAULT_STATISTICS_DIVERGENCE_THRESHOLD = 0.5
   val DEFAULT_NON_INDEXED_LABEL_WARNING_THRESHOLD = 10000
+  val DEFAULT_COMPILED_EXPRESSIONS = true
 }
 
 case class PreParsedQuery(statement: String, rawStatement: String, version: CypherVersion,
@@ -97,7 +98,8 @@ class CompilerEngineDelegator(graph: GraphDatabaseQueryService,
     errorIfShortestPathFallbackUsedAtRuntime = errorIfShortestPathFallbackUsedAtRuntime,
     errorIfShortestPathHasCommonNodesAtRuntime = errorIfShortestPathHasCommonNodesAtRuntime,
     legacyCsvQuoteEscaping = legacyCsvQuoteEscaping,
-    nonIndexedLabelWarningThreshold = getNonIndexedLabelWarningThreshold
+    nonIndexedLabelWarningThreshold = getNonIndexedLabelWarningThreshold,
+    compiledExpressions = getCompiledExpressions
   )
 
   private final val ILLEGAL_PLANNER_RUNTIME_COMBINATIONS: Set[(CypherPlanner, CypherRuntime)] = Set((CypherPlanner.rule, CypherRuntime.compiled))
@@ -229,6 +231,11 @@ class CompilerEngineDelegator(graph: GraphDatabaseQueryService,
     getSetting(graph, setting, DEFAULT_NON_INDEXED_LABEL_WARNING_THRESHOLD)
   }
 
+  private def getCompiledExpressions: Boolean = {
+    val setting: (Config) => Boolean = config => config.get(GraphDatabaseSettings.cypher_compiled_expressions).booleanValue()
+    getSetting(graph, setting, DEFAULT_COMPILED_EXPRESSIONS)
+  }
+
   private def getMinimumTimeBeforeReplanning: Long = {
     val setting: (Config) => Long = config => config.get(GraphDatabaseSettings.cypher_min_replan_interval).toMillis.longValue()
     getSetting(graph, setting, DEFAULT_QUERY_PLAN_TTL)
@@ -19,7 +19,8 @@
  */
 package org.neo4j.cypher.internal
 
-import java.util.{Map => JavaMap}
+import java.io.File
+import java.util.{List => JavaList, Map => JavaMap}
 
 import org.neo4j.cypher._
 import org.neo4j.cypher.internal.compatibility.v3_4._
@@ -31,18 +32,36 @@ import org.neo4j.cypher.internal.tracing.{CompilationTracer, TimingCompilationTr
 import org.neo4j.graphdb.Result
 import org.neo4j.graphdb.config.Setting
 import org.neo4j.graphdb.factory.GraphDatabaseSettings
-import org.neo4j.internal.kernel.api.security.AccessMode
+import org.neo4j.internal.kernel.api.Transaction
+import org.neo4j.internal.kernel.api.security.{AccessMode, SecurityContext}
+import org.neo4j.io.fs.FileSystemAbstraction
 import org.neo4j.kernel.api.query.SchemaIndexUsage
 import org.neo4j.kernel.api.ReadOperations
 import org.neo4j.kernel.configuration.Config
+import org.neo4j.kernel.impl.coreapi.PropertyContainerLocker
+import org.neo4j.kernel.impl.factory.GraphDatabaseFacade
 import org.neo4j.kernel.impl.locking.ResourceTypes
-import org.neo4j.kernel.impl.query.{QueryExecutionMonitor, TransactionalContext}
+import org.neo4j.kernel.impl.query.clientconnection.ClientConnectionInfo
+import org.neo4j.kernel.impl.query.{Neo4jTransactionalContextFactory, QueryExecutionMonitor, TransactionalContext}
 import org.neo4j.kernel.monitoring.{Monitors => KernelMonitors}
-import org.neo4j.kernel.{GraphDatabaseQueryService, api}
+import org.neo4j.kernel.{AvailabilityGuard, GraphDatabaseQueryService, api}
 import org.neo4j.logging.{LogProvider, NullLogProvider}
+import org.neo4j.scheduler.JobScheduler
 import org.neo4j.values.virtual.MapValue
-
-trait StringCacheMonitor extends CypherCacheMonitor[String, api.Statement]
+import org.neo4j.values.virtual.VirtualValues.EMPTY_MAP
+
+import scala.collection.JavaConverters._
+
+trait StringCacheMonitor extends CypherCacheMonitor[String, api.Statement] {
+  /** Called before the given number of queries are planned to warm up the cache. */
+  def cacheWarmupStarted(queries: Int) {}
+  /** Called for each query that was to be planned to warm up the cache, whether planning it succeeded or not. */
+  def cacheWarmupProgress(query: String, planned: Boolean) {}
+  /** Called when a query is replanned in the background, while its stale plan is still in use. */
+  def backgroundReplanStarted(query: String) {}
+  /** Called when replanning a query in the background has finished, with the time since the plan was found stale. */
+  def backgroundReplanCompleted(query: String, swapped: Boolean, millis: Long) {}
+}
 
 /**
   * This class construct and initialize both the cypher compiler and the cypher runtime, which is a very expensive
@@ -69,6 +88,11 @@ class ExecutionEngine(val queryService: GraphDatabaseQueryService,
     override def cacheDiscard(ignored: String, query: String) {
       log.info(s"Discarded stale query from the query cache: $query")
     }
+
+    override def backgroundReplanCompleted(query: String, swapped: Boolean, millis: Long) {
+      if (swapped)
+        log.info(s"Replaced stale query in the query cache after replanning it in the background: $query")
+    }
   })
 
   private val executionMonitor = kernelMonitors.newMonitor(classOf[QueryExecutionMonitor])
@@ -81,6 +105,31 @@ class ExecutionEngine(val queryService: GraphDatabaseQueryService,
   private val javaValues = new RuntimeJavaValueConverter(isGraphKernelResultValue)
   private val scalaValues = new RuntimeScalaValueConverter(isGraphKernelResultValue)
 
+  private lazy val planCacheWarmer = new PlanCacheWarmer(
+    () => hottestQueries(getPlanCacheWarmupSize),
+    warmUpQuery,
+    new File(resolver.resolveDependency(classOf[GraphDatabaseFacade]).getStoreDir, PlanCacheWarmer.FILE_NAME),
+    resolver.resolveDependency(classOf[FileSystemAbstraction]),
+    resolver.resolveDependency(classOf[JobScheduler]),
+    resolver.resolveDependency(classOf[AvailabilityGuard]),
+    cacheMonitor,
+    log)
+  private lazy val backgroundContextFactory = Neo4jTransactionalContextFactory.create(queryService, new PropertyContainerLocker)
+
+  private val replanInBackground: Boolean = optGraphSetting[java.lang.Boolean](
+    queryService, GraphDatabaseSettings.cypher_replan_in_background,
+    GraphDatabaseSettings.cypher_replan_in_background.getDefaultValue.toBoolean)
+  private lazy val backgroundReplanner = new BackgroundReplanner(
+    resolver.resolveDependency(classOf[JobScheduler]),
+    CompilerEngineDelegator.CLOCK,
+    resolver.resolveDependency(classOf[Config]).get(GraphDatabaseSettings.cypher_min_replan_interval).toMillis,
+    cacheMonitor,
+    log)
+
+  if (getPlanCacheWarmupSize > 0)
+    planCacheWarmer.start(
+      resolver.resolveDependency(classOf[Config]).get(GraphDatabaseSettings.query_cache_warmup_save_interval).toMillis)
+
   def profile(query: String, scalaParams: Map[String, Any], context: TransactionalContext): Result = {
     // we got deep scala parameters => convert to deep java parameters
     val javaParams = javaValues.asDeepJavaMap(scalaParams).asInstanceOf[JavaMap[String, AnyRef]]
@@ -138,6 +187,40 @@ class ExecutionEngine(val queryService: GraphDatabaseQueryService,
       preParsedQueries.clear())
   }
 
+  def cachedQueries(): JavaList[String] = hottestQueries(getPlanCacheSize).asJava
+
+  def warmUpQueryCache(queries: JavaList[String]): Long = {
+    planCacheWarmer.warmUpInBackground(queries.asScala.toIndexedSeq)
+    queries.size()
+  }
+
+  // The pre-parser sees every execution of a query, unlike the plan cache that is rebuilt when the schema changes
+  private def hottestQueries(limit: Int): Seq[String] =
+    preParsedQueries.hottest(limit).map(_._2.statementWithVersionAndPlanner).distinct
+
+  private def warmUpQuery(query: String): Unit = {
+    val explainQuery = s"EXPLAIN $query"
+    val tx = queryService.beginTransaction(Transaction.Type.`implicit`, SecurityContext.AUTH_DISABLED)
+    try {
+      val context = backgroundContextFactory.newContext(ClientConnectionInfo.EMBEDDED_CONNECTION, tx, explainQuery, EMPTY_MAP)
+      execute(explainQuery, EMPTY_MAP, context).close()
+      tx.success()
+    } finally tx.close()
+  }
+
+  private def replan(cache: QueryCache[String, (ExecutionPlan, Map[String, Any])], preParsedQuery: PreParsedQuery,
+                     queryText: String, stalePlan: (ExecutionPlan, Map[String, Any])): Boolean = {
+    val tx = queryService.beginTransaction(Transaction.Type.`implicit`, SecurityContext.AUTH_DISABLED)
+    val tc = TransactionalContextWrapper(
+      backgroundContextFactory.newContext(ClientConnectionInfo.EMBEDDED_CONNECTION, tx, queryText, EMPTY_MAP))
+    try {
+      val freshPlan = parsePreParsedQuery(preParsedQuery, CompilationPhaseTracer.NO_TRACING)
+        .plan(tc, CompilationPhaseTracer.NO_TRACING)
+      // a plan for a schema that has changed since must not end up in the cache for the new schema
+      (schemaState(tc) eq cache) && cache.replace(preParsedQuery.statementWithVersionAndPlanner, stalePlan, freshPlan)
+    } finally tc.close(success = true)
+  }
+
   @throws(classOf[SyntaxException])
   protected def planQuery(transactionalContext: TransactionalContext): (PreparedPlanExecution, TransactionalContextWrapper) = {
     val executingQuery = transactionalContext.executingQuery()
@@ -174,7 +257,16 @@ class ExecutionEngine(val queryService: GraphDatabaseQueryService,
             new QueryCache(cacheAccessor, lruCache)
           })
 
-          def isStale(plan: ExecutionPlan, ignored: Map[String, Any]) = plan.isStale(lastCommittedTxId, tc)
+          def isStale(plan: ExecutionPlan, extractedParameters: Map[String, Any]): Boolean =
+            if (!plan.isStale(lastCommittedTxId, tc))
+              false
+            else if (replanInBackground) {
+              // keep using the stale plan until its replacement has been swapped into the cache
+              backgroundReplanner.replan(cacheKey, () => replan(cache, preParsedQuery, queryText, (plan, extractedParameters)))
+              false
+            }
+            else
+              true
           def producePlan() = {
             val parsedQuery = parsePreParsedQuery(preParsedQuery, phaseTracer)
             parsedQuery.plan(tc, phaseTracer)
@@ -315,6 +407,12 @@ class ExecutionEngine(val queryService: GraphDatabaseQueryService,
       GraphDatabaseSettings.query_cache_size.getDefaultValue.toInt
     )
 
+  private def getPlanCacheWarmupSize: Int =
+    optGraphSetting[java.lang.Integer](
+      queryService, GraphDatabaseSettings.query_cache_warmup_size,
+      GraphDatabaseSettings.query_cache_warmup_size.getDefaultValue.toInt
+    )
+
   private def optGraphSetting[V](graph: GraphDatabaseQueryService, setting: Setting[V], defaultValue: V): V = {
     val config = graph.getDependencyResolver.resolveDependency(classOf[Config])
     Option(config.get(setting)).getOrElse(defaultValue)
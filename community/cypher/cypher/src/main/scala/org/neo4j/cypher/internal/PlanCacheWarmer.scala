@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal
+
+import java.io._
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.StandardCopyOption.REPLACE_EXISTING
+import java.util.concurrent.TimeUnit.MILLISECONDS
+
+import org.neo4j.io.fs.FileSystemAbstraction
+import org.neo4j.kernel.AvailabilityGuard
+import org.neo4j.logging.Log
+import org.neo4j.scheduler.JobScheduler
+
+/**
+  * Keeps the text of the most frequently used queries in a file, and plans the queries in that file in the background
+  * when the database starts, so that their plans are cached before the queries are executed again.
+  *
+  * @param hotQueries the text of the queries worth saving, the most frequently used first
+  * @param plan       plans the given query and caches its plan
+  */
+class PlanCacheWarmer(hotQueries: () => Seq[String],
+                      plan: String => Unit,
+                      file: File,
+                      fileSystem: FileSystemAbstraction,
+                      scheduler: JobScheduler,
+                      availabilityGuard: AvailabilityGuard,
+                      monitor: StringCacheMonitor,
+                      log: Log) {
+
+  // Until the saved queries have been planned again, the hottest queries are only those executed since startup
+  @volatile private var warmedUp = false
+  @volatile private var saved: Seq[String] = Seq.empty
+
+  /**
+    * Plans the saved queries in the background, and from then on saves the hottest queries with the given interval.
+    */
+  def start(saveIntervalMillis: Long): Unit = {
+    scheduler.schedule(JobScheduler.Groups.cypherCacheWarmup, new Runnable {
+      override def run(): Unit = {
+        saved = load()
+        warmUp(saved)
+        warmedUp = true
+      }
+    })
+    scheduler.scheduleRecurring(JobScheduler.Groups.cypherCacheWarmup, new Runnable {
+      override def run(): Unit = if (warmedUp) save()
+    }, saveIntervalMillis, saveIntervalMillis, MILLISECONDS)
+  }
+
+  def warmUpInBackground(queries: Seq[String]): Unit =
+    scheduler.schedule(JobScheduler.Groups.cypherCacheWarmup, new Runnable {
+      override def run(): Unit = warmUp(queries)
+    })
+
+  def warmUp(queries: Seq[String]): Unit = {
+    monitor.cacheWarmupStarted(queries.size)
+    if (queries.nonEmpty)
+      awaitAvailability()
+    queries.foreach { query =>
+      val planned = availabilityGuard.isAvailable && tryPlan(query)
+      monitor.cacheWarmupProgress(query, planned)
+    }
+  }
+
+  def save(): Unit = {
+    val queries = hotQueries()
+    if (queries != saved) {
+      try {
+        write(queries)
+        saved = queries
+      } catch {
+        case e: IOException =>
+          log.warn(s"Could not save the most frequently used queries to $file", e)
+      }
+    }
+  }
+
+  def load(): Seq[String] = {
+    if (!fileSystem.fileExists(file))
+      Seq.empty
+    else try {
+      val in = new DataInputStream(new BufferedInputStream(fileSystem.openAsInputStream(file)))
+      try {
+        (0 until in.readInt()).map { _ =>
+          val bytes = new Array[Byte](in.readInt())
+          in.readFully(bytes)
+          new String(bytes, UTF_8)
+        }
+      } finally in.close()
+    } catch {
+      case e: IOException =>
+        log.warn(s"Could not read the saved queries from $file, the query cache will not be warmed up", e)
+        Seq.empty
+    }
+  }
+
+  private def write(queries: Seq[String]): Unit = {
+    val tempFile = new File(file.getParentFile, file.getName + ".tmp")
+    val out = new DataOutputStream(new BufferedOutputStream(fileSystem.openAsOutputStream(tempFile, false)))
+    try {
+      out.writeInt(queries.size)
+      queries.foreach { query =>
+        val bytes = query.getBytes(UTF_8)
+        out.writeInt(bytes.length)
+        out.write(bytes)
+      }
+    } finally out.close()
+    fileSystem.renameFile(tempFile, file, REPLACE_EXISTING)
+  }
+
+  private def awaitAvailability(): Unit =
+    while (!availabilityGuard.isShutdown && !availabilityGuard.isAvailable(PlanCacheWarmer.AVAILABILITY_POLL_MILLIS)) {}
+
+  private def tryPlan(query: String): Boolean = try {
+    plan(query)
+    true
+  } catch {
+    case e: Exception =>
+      log.debug(s"Could not plan query to warm up the query cache: $query", e)
+      false
+  }
+}
+
+object PlanCacheWarmer {
+  val FILE_NAME = "cypher-query-cache"
+  private val AVAILABILITY_POLL_MILLIS = 1000L
+}
@@ -46,6 +46,12 @@ class QueryCache[K <: AnyRef, T <: AnyRef](cacheAccessor: CacheAccessor[K, T], c
       }.next()
     }
   }
+
+  /**
+    * Replaces the cached value with a new one, unless it was already replaced or removed
+    * @return whether the value was replaced
+    */
+  def replace(key: K, oldValue: T, newValue: T): Boolean = cache.replace(key, oldValue, newValue)
 }
 
 class MonitoringCacheAccessor[K <: AnyRef, T <: AnyRef](monitor: CypherCacheHitMonitor[K]) extends CacheAccessor[K, T] {
@@ -40,6 +40,8 @@ import org.neo4j.cypher.internal.javacompat.ExecutionResult
 import org.neo4j.cypher.internal.planner.v3_4.spi.{CostBasedPlannerName, DPPlannerName, IDPPlannerName, PlanContext}
 import org.neo4j.cypher.internal.runtime.interpreted.TransactionBoundQueryContext.IndexSearchMonitor
 import org.neo4j.cypher.internal.runtime.interpreted._
+import org.neo4j.cypher.internal.runtime.planDescription.InternalPlanDescription
+import org.neo4j.cypher.internal.runtime.planDescription.InternalPlanDescription.Arguments
 import org.neo4j.cypher.internal.runtime.{ExplainMode, InternalExecutionResult, NormalMode, ProfileMode}
 import org.neo4j.cypher.internal.util.v3_4.InputPosition
 import org.neo4j.cypher.internal.v3_4.logical.plans.{ExplicitNodeIndexUsage, ExplicitRelationshipIndexUsage, SchemaIndexScanUsage, SchemaIndexSeekUsage}
@@ -180,11 +182,17 @@ trait Compatibility[CONTEXT <: CommunityRuntimeContext,
         val context = queryContext(transactionalContext)
 
         val innerResult: InternalExecutionResult = inner.run(context, innerExecutionMode, params)
-        new ExecutionResult(new ClosingExecutionResult(
-          transactionalContext.tc.executingQuery(),
-          innerResult.withNotifications(preParsingNotifications.toSeq:_*),
-          exceptionHandler.runSafely
-        ))
+        val query = transactionalContext.tc.executingQuery()
+        val result = innerResult.withNotifications(preParsingNotifications.toSeq:_*)
+        new ExecutionResult(inner.runtimeFallback match {
+          case Some(fallback) =>
+            new ClosingExecutionResult(query, result, exceptionHandler.runSafely) {
+              override def executionPlanDescription(): InternalPlanDescription =
+                super.executionPlanDescription().addArgument(Arguments.RuntimeFallback(fallback.toString))
+            }
+          case None =>
+            new ClosingExecutionResult(query, result, exceptionHandler.runSafely)
+        })
       }
     }
 
@@ -199,7 +207,7 @@ trait Compatibility[CONTEXT <: CommunityRuntimeContext,
         case SchemaIndexScanUsage(identifier, labelId, label, propertyKey) => schemaIndexUsage(identifier, labelId, label, propertyKey)
         case ExplicitNodeIndexUsage(identifier, index) => explicitIndexUsage(identifier, "NODE", index)
         case ExplicitRelationshipIndexUsage(identifier, index) => explicitIndexUsage(identifier, "RELATIONSHIP", index)
-      }.asJava)
+      }.asJava, inner.runtimeFallback.map(_.toString).orNull)
     }
   }
 }
@@ -107,6 +107,9 @@ class ExceptionTranslatingQueryContext(val inner: QueryContext) extends QueryCon
   override def indexSeek(index: IndexDescriptor, values: Seq[Any]): Iterator[Node] =
     translateException(inner.indexSeek(index, values))
 
+  override def indexSeekWithValues(index: IndexDescriptor, values: Seq[Any]): Iterator[(Node, Array[Value])] =
+    translateException(inner.indexSeekWithValues(index, values))
+
   override def getNodesByLabel(id: Int): Iterator[Node] =
     translateException(inner.getNodesByLabel(id))
 
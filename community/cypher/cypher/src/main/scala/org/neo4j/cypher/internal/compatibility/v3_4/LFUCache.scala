@@ -23,6 +23,8 @@ import java.util.function.Function
 
 import com.github.benmanes.caffeine.cache.{Cache, Caffeine}
 
+import scala.collection.JavaConverters._
+
 class LFUCache[K <: AnyRef, V <: AnyRef](val size: Int) extends ((K, => V) => V) {
 
   val inner: Cache[K, V] = Caffeine.newBuilder().maximumSize(size).build[K, V]()
@@ -43,10 +45,24 @@ class LFUCache[K <: AnyRef, V <: AnyRef](val size: Int) extends ((K, => V) => V)
 
   def remove(key: K): Option[V] = Option(inner.asMap().remove(key))
 
+  def replace(key: K, oldValue: V, newValue: V): Boolean = inner.asMap().replace(key, oldValue, newValue)
+
   def containsKey(key: K) = inner.asMap().containsKey(key)
 
   def apply(key: K, value: => V): V = getOrElseUpdate(key, value)
 
+  /**
+    * The entries that are the least likely to be evicted, the least likely first
+    * @param limit the maximum number of entries to return
+    */
+  def hottest(limit: Int): Seq[(K, V)] = {
+    // pending writes are applied to the eviction policy asynchronously
+    inner.cleanUp()
+    val eviction = inner.policy().eviction()
+    val entries = if (eviction.isPresent) eviction.get().hottest(limit) else inner.asMap()
+    entries.asScala.take(limit).toIndexedSeq
+  }
+
   /**
     * Method for clearing the LRUCache
     * @return the number of elements in the cache prior to the clearing
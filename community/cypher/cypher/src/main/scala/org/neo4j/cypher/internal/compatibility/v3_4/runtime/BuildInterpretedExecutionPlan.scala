@@ -21,6 +21,7 @@ package org.neo4j.cypher.internal.compatibility.v3_4.runtime
 
 import org.neo4j.cypher.internal.util.v3_4.PeriodicCommitInOpenTransactionException
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.executionplan._
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.expressions.CommunityExpressionCompiler
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.phases.CompilationState
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.profiler.Profiler
 import org.neo4j.cypher.internal.compiler.v3_4.CypherCompilerConfiguration
@@ -46,7 +47,11 @@ object BuildInterpretedExecutionPlan extends Phase[CommunityRuntimeContext, Logi
 
   override def process(from: LogicalPlanState, context: CommunityRuntimeContext): CompilationState = {
     val logicalPlan = from.logicalPlan
-    val converters = new ExpressionConverters(CommunityExpressionConverter)
+    val converters =
+      if (context.config.compiledExpressions)
+        new ExpressionConverters(CommunityExpressionCompiler, CommunityExpressionConverter)
+      else
+        new ExpressionConverters(CommunityExpressionConverter)
     val executionPlanBuilder = new PipeExecutionPlanBuilder(context.clock, context.monitors,
       expressionConverters = converters, pipeBuilderFactory = CommunityPipeBuilderFactory)
     val pipeBuildContext = PipeExecutionBuilderContext(context.metrics.cardinality, from.semanticTable(), from.plannerName)
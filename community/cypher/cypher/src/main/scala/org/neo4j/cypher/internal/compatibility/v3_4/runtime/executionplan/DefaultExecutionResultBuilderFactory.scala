@@ -68,7 +68,8 @@ case class DefaultExecutionResultBuilderFactory(pipeInfo: PipeInfo,
               notificationLogger: InternalNotificationLogger, runtimeName: RuntimeName): InternalExecutionResult = {
       taskCloser.addTask(queryContext.transactionalContext.close)
       val state = new QueryState(queryContext, externalResource, params, pipeDecorator, queryId = queryId,
-        triadicState = mutable.Map.empty, repeatableReads = mutable.Map.empty)
+        triadicState = mutable.Map.empty, repeatableReads = mutable.Map.empty,
+        memoryTracker = queryContext.transactionalContext.memoryTracker)
       try {
         createResults(state, planType, notificationLogger, runtimeName)
       }
@@ -35,4 +35,13 @@ abstract class ExecutionPlan {
   def runtimeUsed: RuntimeName
   def notifications(planContext: PlanContext): Seq[InternalNotification]
   def plannedIndexUsage: Seq[IndexUsage] = Seq.empty
+  def runtimeFallback: Option[RuntimeFallback] = None
+}
+
+/**
+  * Records that the preferred runtime could not handle a query, and why, so that the plan of the runtime
+  * that ran it instead can explain the fallback.
+  */
+case class RuntimeFallback(runtime: RuntimeName, reason: String) {
+  override def toString: String = s"${runtime.name}: $reason"
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.expressions
+
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expression
+import org.neo4j.cypher.internal.runtime.interpreted.commands.predicates.Predicate
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.QueryState
+import org.neo4j.cypher.internal.v3_4.{expressions => ast}
+import org.neo4j.values.AnyValue
+import org.neo4j.values.storable.{Value, Values}
+
+/**
+  * Implemented by the classes that ExpressionCompiler generates, one class per compiled expression.
+  */
+trait CompiledExpression {
+  def evaluate(context: ExecutionContext, state: QueryState): AnyValue
+}
+
+/**
+  * A predicate evaluated by a generated class. The parts of the expression the compiler does not support are
+  * kept as interpreted fallbacks. They are the arguments of this predicate, so rewriting and pipe registration
+  * reach them the same way as for any other expression.
+  */
+case class CompiledPredicate(expression: ast.Expression, fallbacks: Seq[Expression])
+                            (instantiate: Seq[Expression] => CompiledExpression) extends Predicate {
+
+  private val compiled = instantiate(fallbacks)
+
+  override def apply(ctx: ExecutionContext, state: QueryState): Value =
+    compiled.evaluate(ctx, state).asInstanceOf[Value]
+
+  override def isTrue(m: ExecutionContext, state: QueryState): Boolean =
+    compiled.evaluate(m, state) eq Values.TRUE
+
+  override def isMatch(m: ExecutionContext, state: QueryState): Option[Boolean] = compiled.evaluate(m, state) match {
+    case Values.TRUE => Some(true)
+    case Values.FALSE => Some(false)
+    case _ => None
+  }
+
+  override def containsIsNull: Boolean = expression.treeExists {
+    case _: ast.IsNull => true
+  }
+
+  override def rewrite(f: (Expression) => Expression): Expression =
+    f(CompiledPredicate(expression, fallbacks.map(_.rewrite(f)))(instantiate))
+
+  override def arguments: Seq[Expression] = fallbacks
+
+  override def symbolTableDependencies: Set[String] = fallbacks.flatMap(_.symbolTableDependencies).toSet
+
+  override def toString: String = s"Compiled($expression)"
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.expressions
+
+import java.lang.reflect.Modifier
+import java.util.concurrent.atomic.AtomicLong
+import java.util.function.Consumer
+
+import org.neo4j.codegen.Expression._
+import org.neo4j.codegen.bytecode.ByteCode.{BYTECODE, VERIFY_GENERATED_BYTECODE}
+import org.neo4j.codegen.{CodeBlock, CodeGenerator, CodeGeneratorOption, ExpressionTemplate, FieldReference, MethodReference, MethodTemplate, Parameter, TypeReference, Expression => Code}
+import org.neo4j.cypher.internal.codegen.CompiledExpressionUtils
+import org.neo4j.cypher.internal.frontend.v3_4.helpers.using
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.cypher.internal.runtime.interpreted.commands.convert.{ExpressionConverter, ExpressionConverters}
+import org.neo4j.cypher.internal.runtime.interpreted.commands.{expressions => commands}
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.QueryState
+import org.neo4j.cypher.internal.v3_4.{expressions => ast}
+import org.neo4j.values.AnyValue
+import org.neo4j.values.storable.{BooleanValue, LongValue, Value, Values}
+
+import scala.collection.mutable
+
+/**
+  * Compiles boolean expressions into bytecode, generating one class per expression. The generated code keeps
+  * long and boolean intermediate results in primitive locals, short-circuits AND and OR, and calls the interpreted
+  * expression for every subexpression it does not support.
+  *
+  * It is meant to be the first converter of an ExpressionConverters. It only takes expressions that have an
+  * operator at the top, and leaves everything else to the converters after it.
+  */
+abstract class ExpressionCompiler extends ExpressionConverter {
+
+  import ExpressionCompiler._
+
+  override def toCommandExpression(expression: ast.Expression, self: ExpressionConverters): Option[commands.Expression] =
+    if (isOperator(expression)) {
+      val generation = new Generation(self)
+      val root = generation.compilePredicate(expression)
+      if (generation.worthCompiling) Some(generation.generate(expression, root)) else None
+    } else
+      None
+
+  protected def isOperator(expression: ast.Expression): Boolean = expression match {
+    case _: ast.And | _: ast.Ands | _: ast.Or | _: ast.Ors | _: ast.Xor | _: ast.Not => true
+    case _: ast.Equals | _: ast.NotEquals => true
+    case _: ast.LessThan | _: ast.LessThanOrEqual | _: ast.GreaterThan | _: ast.GreaterThanOrEqual => true
+    case _: ast.IsNull | _: ast.IsNotNull => true
+    case _ => false
+  }
+
+  /**
+    * Compiles the expressions this compiler supports. None means that the expression is evaluated by the
+    * interpreted fallback instead.
+    */
+  protected def compile(expression: ast.Expression, generation: Generation): Option[IntermediateExpression] =
+    expression match {
+      case _: ast.True => Some(leaf(BooleanRepresentation, _ => constant(true), isPredicate = true))
+      case _: ast.False => Some(leaf(BooleanRepresentation, _ => constant(false), isPredicate = true))
+      case _: ast.Null => Some(leaf(ValueRepresentation, _ => NO_VALUE))
+      case e: ast.Literal =>
+        val value = generation.constant(commands.Literal(e.value).anyVal)
+        Some(leaf(ValueRepresentation, value))
+      case e: ast.Parameter =>
+        Some(leaf(ValueRepresentation, block => invoke(block.load(STATE), GET_PARAM, constant(e.name)), mayThrow = true))
+
+      case e: ast.And => Some(composite(Seq(e.lhs, e.rhs).map(generation.compilePredicate), exitWhen = false, generation))
+      case e: ast.Ands => Some(composite(e.exprs.toIndexedSeq.map(generation.compilePredicate), exitWhen = false, generation))
+      case e: ast.Or => Some(composite(Seq(e.lhs, e.rhs).map(generation.compilePredicate), exitWhen = true, generation))
+      case e: ast.Ors => Some(composite(e.exprs.toIndexedSeq.map(generation.compilePredicate), exitWhen = true, generation))
+      case e: ast.Not =>
+        val inner = generation.compilePredicate(e.rhs)
+        Some(inner.representation match {
+          case BooleanRepresentation => inner.copy(code = block => not(inner.code(block)))
+          case _ => inner.copy(code = block => invoke(NOT, inner.code(block)))
+        })
+      case e: ast.Xor =>
+        val (lhs, rhs) = (generation.compilePredicate(e.lhs), generation.compilePredicate(e.rhs))
+        if (lhs.representation == BooleanRepresentation && rhs.representation == BooleanRepresentation)
+          Some(binary(lhs, rhs, BooleanRepresentation, generation)(notEqual))
+        else
+          Some(binary(toValue(lhs), toValue(rhs), ValueRepresentation, generation)(invoke(XOR, _, _)))
+
+      case e: ast.Equals => Some(comparison(e.lhs, e.rhs, generation)(equal, EQUALS))
+      case e: ast.NotEquals => Some(comparison(e.lhs, e.rhs, generation)(notEqual, NOT_EQUALS))
+      case e: ast.LessThan => Some(comparison(e.lhs, e.rhs, generation)(lt, LESS_THAN))
+      case e: ast.LessThanOrEqual => Some(comparison(e.lhs, e.rhs, generation)(lte, LESS_THAN_OR_EQUAL))
+      case e: ast.GreaterThan => Some(comparison(e.lhs, e.rhs, generation)(gt, GREATER_THAN))
+      case e: ast.GreaterThanOrEqual => Some(comparison(e.lhs, e.rhs, generation)(gte, GREATER_THAN_OR_EQUAL))
+
+      case e: ast.IsNull => Some(nullCheck(generation.compileExpression(e.lhs), isNull = true))
+      case e: ast.IsNotNull => Some(nullCheck(generation.compileExpression(e.lhs), isNull = false))
+
+      case _ => None
+    }
+
+  /**
+    * Compiles a comparison. Two longs are compared as primitives, anything else by the helper that follows the
+    * interpreted predicate.
+    */
+  private def comparison(lhs: ast.Expression, rhs: ast.Expression, generation: Generation)
+                        (primitive: (Code, Code) => Code, helper: MethodReference): IntermediateExpression = {
+    val (left, right) = (generation.compileExpression(lhs), generation.compileExpression(rhs))
+    if (left.representation == LongRepresentation && right.representation == LongRepresentation)
+      binary(left, right, BooleanRepresentation, generation)(primitive)
+    else
+      binary(toValue(left), toValue(right), ValueRepresentation, generation)(invoke(helper, _, _))
+  }
+
+  private def nullCheck(inner: IntermediateExpression, isNull: Boolean): IntermediateExpression =
+    inner.representation match {
+      // longs and booleans are never null
+      case LongRepresentation | BooleanRepresentation =>
+        leaf(BooleanRepresentation, _ => constant(!isNull), isPredicate = true)
+      case ValueRepresentation =>
+        inner.copy(representation = BooleanRepresentation, isPredicate = true, code = block =>
+          if (isNull) same(inner.code(block), NO_VALUE) else notSame(inner.code(block), NO_VALUE))
+    }
+
+  /**
+    * AND (exitWhen = false) and OR (exitWhen = true) over any number of predicates. Boolean operands that cannot
+    * throw become a short-circuiting primitive expression. Otherwise the ternary result is kept in a local, and
+    * like the interpreted predicate, an error is held back until it is clear that no later operand decides the
+    * result.
+    */
+  private def composite(operands: Seq[IntermediateExpression], exitWhen: Boolean,
+                        generation: Generation): IntermediateExpression =
+    if (operands.forall(o => o.representation == BooleanRepresentation && !o.mayThrow && !o.hasStatements)) {
+      IntermediateExpression(BooleanRepresentation, block => operands.map(_.code(block)).reduceLeft(
+        (l, r) => if (exitWhen) or(l, r) else and(l, r)), isPredicate = true)
+    } else {
+      val exit = if (exitWhen) TRUE else FALSE
+      val mayThrow = operands.exists(_.mayThrow)
+      val guardedOperands = operands.map(o => if (o.mayThrow && o.hasStatements) generation.inMethod(o) else o)
+      IntermediateExpression(ValueRepresentation, block => {
+        val result = block.declare(typeRef[AnyValue], generation.name("result"))
+        block.assign(result, if (exitWhen) FALSE else TRUE)
+        val error = if (mayThrow) {
+          val error = block.declare(typeRef[Exception], generation.name("error"))
+          block.assign(error, constant(null))
+          Some(error)
+        } else None
+
+        def evaluate(operand: IntermediateExpression)(inner: CodeBlock): Unit = operand.representation match {
+          case BooleanRepresentation =>
+            val value = operand.code(inner)
+            using(inner.ifStatement(if (exitWhen) value else not(value))) { _.assign(result, exit) }
+          case _ =>
+            val value = generation.name("value")
+            inner.assign(typeRef[AnyValue], value, operand.code(inner))
+            using(inner.ifStatement(same(inner.load(value), NO_VALUE))) { _.assign(result, NO_VALUE) }
+            using(inner.ifStatement(same(inner.load(value), exit))) { _.assign(result, exit) }
+        }
+
+        def guarded(operand: IntermediateExpression)(inner: CodeBlock): Unit = error match {
+          case Some(firstError) if operand.mayThrow =>
+            val caught = generation.name("e")
+            inner.tryCatch(consumer(evaluate(operand)), consumer { onError =>
+              using(onError.ifStatement(isNull(load(firstError)))) { _.assign(firstError, onError.load(caught)) }
+            }, Parameter.param(typeRef[Exception], caught))
+          case _ =>
+            evaluate(operand)(inner)
+        }
+
+        guarded(guardedOperands.head)(block)
+        guardedOperands.tail.foreach { operand =>
+          using(block.ifStatement(notSame(load(result), exit)))(guarded(operand))
+        }
+        error.foreach { e =>
+          using(block.ifStatement(and(notNull(load(e)), notSame(load(result), exit)))) { _.throwException(load(e)) }
+        }
+        load(result)
+      }, isPredicate = true, mayThrow = mayThrow, hasStatements = true)
+    }
+
+  /**
+    * Combines two operands. When the right operand needs statements of its own, the left one is stored in a
+    * local first, so that the operands are still evaluated from left to right.
+    */
+  private def binary(lhs: IntermediateExpression, rhs: IntermediateExpression, representation: Representation,
+                     generation: Generation)(combine: (Code, Code) => Code): IntermediateExpression =
+    IntermediateExpression(representation, block => {
+      val left = if (rhs.hasStatements) generation.materialize(lhs, block) else lhs.code(block)
+      combine(left, rhs.code(block))
+    }, isPredicate = true, mayThrow = lhs.mayThrow || rhs.mayThrow, hasStatements = lhs.hasStatements || rhs.hasStatements)
+
+  /**
+    * The state of compiling one expression: the interpreted fallbacks and constants that the generated class
+    * gets in its constructor, and the fields and locals it uses.
+    */
+  class Generation(converters: ExpressionConverters) {
+    private val fallbacks = mutable.ArrayBuffer.empty[commands.Expression]
+    private val constants = mutable.ArrayBuffer.empty[AnyValue]
+    private val fields = mutable.Map.empty[String, FieldReference]
+    private val methods = mutable.ArrayBuffer.empty[(String, IntermediateExpression)]
+    private var compiledNodes = 0
+    private var names = 0
+
+    def compileExpression(expression: ast.Expression): IntermediateExpression =
+      compiled(expression).getOrElse(fallback(converters.toCommandExpression(expression), isPredicate = false))
+
+    /**
+      * Compiles an expression that is evaluated as a predicate. Anything that does not evaluate to a boolean
+      * goes to the interpreted predicate, which coerces it.
+      */
+    def compilePredicate(expression: ast.Expression): IntermediateExpression = {
+      val (fallbackCount, constantCount, methodCount, nodeCount) =
+        (fallbacks.size, constants.size, methods.size, compiledNodes)
+      compiled(expression) match {
+        case Some(result) if result.isPredicate => result
+        case _ =>
+          fallbacks.reduceToSize(fallbackCount)
+          constants.reduceToSize(constantCount)
+          methods.reduceToSize(methodCount)
+          compiledNodes = nodeCount
+          fallback(converters.toCommandPredicate(expression), isPredicate = true)
+      }
+    }
+
+    /**
+      * An expression with a single compiled node, like NOT over an unsupported expression, would only add a
+      * call to the interpreted expression.
+      */
+    def worthCompiling: Boolean = fallbacks.isEmpty || compiledNodes > 1
+
+    def constant(value: AnyValue): CodeBlock => Code = {
+      val name = s"constant${constants.size}"
+      constants += value
+      block => get(block.self(), fields(name))
+    }
+
+    def name(prefix: String): String = {
+      names += 1
+      s"$prefix$names"
+    }
+
+    /**
+      * Evaluates an expression in a method of its own. The generator lists try blocks in the order they are
+      * opened, so the handler of an enclosing try block would catch what a nested one should have caught.
+      */
+    def inMethod(expression: IntermediateExpression): IntermediateExpression = {
+      val methodName = name("evaluate")
+      methods += methodName -> expression
+      expression.copy(representation = ValueRepresentation, hasStatements = false, code = block =>
+        invoke(block.self(), MethodReference.methodReference(block.owner(), typeRef[AnyValue], methodName,
+                                                             typeRef[ExecutionContext], typeRef[QueryState]),
+               block.load(CONTEXT), block.load(STATE)))
+    }
+
+    def materialize(expression: IntermediateExpression, block: CodeBlock): Code = {
+      val local = name("v")
+      block.assign(expression.representation.typeReference, local, expression.code(block))
+      block.load(local)
+    }
+
+    def generate(expression: ast.Expression, root: IntermediateExpression): commands.Expression = {
+      val fieldTypes = fallbacks.indices.map(i => s"fallback$i" -> typeRef[commands.Expression]) ++
+        constants.indices.map(i => s"constant$i" -> typeRef[AnyValue])
+      val handle = using(codeGenerator.generateClass(PACKAGE_NAME, "Expression" + COUNTER.incrementAndGet(),
+                                                     typeRef[CompiledExpression])) { clazz =>
+        fieldTypes.foreach {
+          case (name, fieldType) => fields(name) = clazz.field(fieldType, name)
+        }
+        val self = ExpressionTemplate.self(clazz.handle())
+        val constructor = MethodTemplate.constructor(fieldTypes.map { case (name, t) => Parameter.param(t, name) }: _*)
+          .invokeSuper()
+        clazz.generate(fieldTypes.foldLeft(constructor) {
+          case (builder, (name, fieldType)) => builder.put(self, fieldType, name, ExpressionTemplate.load(name, fieldType))
+        }.build())
+        (("evaluate" -> root) +: methods).foreach {
+          case (methodName, body) =>
+            using(clazz.generateMethod(typeRef[AnyValue], methodName,
+                                       Parameter.param(typeRef[ExecutionContext], CONTEXT),
+                                       Parameter.param(typeRef[QueryState], STATE))) { block =>
+              block.returns(toValue(body).code(block))
+            }
+        }
+        clazz.handle()
+      }
+      val constructor = handle.loadClass().getConstructors()(0)
+      val values = constants.toIndexedSeq
+      CompiledPredicate(expression, fallbacks.toIndexedSeq)(arguments =>
+        constructor.newInstance(arguments ++ values: _*).asInstanceOf[CompiledExpression])
+    }
+
+    private def compiled(expression: ast.Expression): Option[IntermediateExpression] = {
+      val result = compile(expression, this)
+      if (result.isDefined) compiledNodes += 1
+      result
+    }
+
+    private def fallback(expression: commands.Expression, isPredicate: Boolean): IntermediateExpression = {
+      val name = s"fallback${fallbacks.size}"
+      fallbacks += expression
+      IntermediateExpression(ValueRepresentation,
+                             block => invoke(get(block.self(), fields(name)), APPLY, block.load(CONTEXT), block.load(STATE)),
+                             isPredicate = isPredicate, mayThrow = true)
+    }
+
+    private def codeGenerator = {
+      val options = if (getClass.desiredAssertionStatus()) Seq[CodeGeneratorOption](VERIFY_GENERATED_BYTECODE) else Seq.empty
+      CodeGenerator.generateCode(classOf[CompiledExpression].getClassLoader, BYTECODE, options: _*)
+    }
+  }
+}
+
+object ExpressionCompiler {
+
+  sealed abstract class Representation(val typeReference: TypeReference)
+
+  case object LongRepresentation extends Representation(TypeReference.LONG)
+
+  case object BooleanRepresentation extends Representation(TypeReference.BOOLEAN)
+
+  case object ValueRepresentation extends Representation(typeRef[AnyValue])
+
+  /**
+    * A compiled expression before it is emitted. The code function may add statements to the block before it
+    * returns the expression, in which case hasStatements is set. isPredicate is set for expressions that
+    * only evaluate to true, false or null, and mayThrow for the ones that can fail at runtime.
+    */
+  case class IntermediateExpression(representation: Representation,
+                                    code: CodeBlock => Code,
+                                    isPredicate: Boolean = false,
+                                    mayThrow: Boolean = false,
+                                    hasStatements: Boolean = false)
+
+  val CONTEXT = "context"
+  val STATE = "state"
+
+  val TRUE: Code = getStatic(staticField[Values, BooleanValue]("TRUE"))
+  val FALSE: Code = getStatic(staticField[Values, BooleanValue]("FALSE"))
+  val NO_VALUE: Code = getStatic(staticField[Values, Value]("NO_VALUE"))
+
+  def leaf(representation: Representation, code: CodeBlock => Code, isPredicate: Boolean = false,
+           mayThrow: Boolean = false) =
+    IntermediateExpression(representation, code, isPredicate = isPredicate, mayThrow = mayThrow)
+
+  /**
+    * Compares two values by reference. The generator only compares expressions of the same static type, so both
+    * sides are seen as [[AnyValue]].
+    */
+  def same(lhs: Code, rhs: Code): Code = equal(anyValue(lhs), anyValue(rhs))
+
+  def notSame(lhs: Code, rhs: Code): Code = notEqual(anyValue(lhs), anyValue(rhs))
+
+  private def anyValue(value: Code): Code =
+    if (value.`type`() == typeRef[AnyValue]) value else cast(typeRef[AnyValue], value)
+
+  def toValue(expression: IntermediateExpression): IntermediateExpression = expression.representation match {
+    case LongRepresentation =>
+      expression.copy(representation = ValueRepresentation, code = block => invoke(LONG_VALUE, expression.code(block)))
+    case BooleanRepresentation =>
+      expression.copy(representation = ValueRepresentation, code = block => invoke(BOOLEAN_VALUE, expression.code(block)))
+    case ValueRepresentation =>
+      expression
+  }
+
+  def method[O <: AnyRef, R](name: String, params: TypeReference*)
+                            (implicit owner: Manifest[O], returns: Manifest[R]): MethodReference =
+    MethodReference.methodReference(typeRef[O], typeRef[R], name, Modifier.PUBLIC, params: _*)
+
+  def staticMethod[O <: AnyRef, R](name: String, params: TypeReference*)
+                                  (implicit owner: Manifest[O], returns: Manifest[R]): MethodReference =
+    MethodReference.methodReference(typeRef[O], typeRef[R], name, Modifier.PUBLIC | Modifier.STATIC, params: _*)
+
+  def staticField[O <: AnyRef, R](name: String)(implicit owner: Manifest[O], fieldType: Manifest[R]): FieldReference =
+    FieldReference.staticField(typeRef[O], typeRef[R], name)
+
+  def typeRef[T](implicit manifest: Manifest[T]): TypeReference = TypeReference.typeReference(manifest.runtimeClass)
+
+  private def consumer(f: CodeBlock => Unit): Consumer[CodeBlock] = new Consumer[CodeBlock] {
+    override def accept(block: CodeBlock): Unit = f(block)
+  }
+
+  private val PACKAGE_NAME = "org.neo4j.cypher.internal.compiled.expressions"
+  private val COUNTER = new AtomicLong()
+
+  private val APPLY = method[commands.Expression, AnyValue]("apply", typeRef[ExecutionContext], typeRef[QueryState])
+  private val GET_PARAM = method[QueryState, AnyValue]("getParam", typeRef[String])
+  private val LONG_VALUE = staticMethod[Values, LongValue]("longValue", TypeReference.LONG)
+  private val BOOLEAN_VALUE = staticMethod[Values, BooleanValue]("booleanValue", TypeReference.BOOLEAN)
+  private val EQUALS = helper("equals")
+  private val NOT_EQUALS = helper("notEquals")
+  private val LESS_THAN = helper("lessThan")
+  private val LESS_THAN_OR_EQUAL = helper("lessThanOrEqual")
+  private val GREATER_THAN = helper("greaterThan")
+  private val GREATER_THAN_OR_EQUAL = helper("greaterThanOrEqual")
+  private val XOR = helper("xor")
+  private val NOT = staticMethod[CompiledExpressionUtils, Value]("not", typeRef[AnyValue])
+
+  private def helper(name: String) =
+    staticMethod[CompiledExpressionUtils, Value](name, typeRef[AnyValue], typeRef[AnyValue])
+}
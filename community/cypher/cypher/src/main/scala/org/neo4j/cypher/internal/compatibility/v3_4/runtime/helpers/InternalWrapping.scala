@@ -39,6 +39,8 @@ object InternalWrapping {
       NotificationCode.PLANNER_UNSUPPORTED.notification(graphdb.InputPosition.empty)
     case RuntimeUnsupportedNotification =>
       NotificationCode.RUNTIME_UNSUPPORTED.notification(graphdb.InputPosition.empty)
+    case RuntimeFallbackNotification(runtime, reason) =>
+      NotificationCode.RUNTIME_UNSUPPORTED.notification(graphdb.InputPosition.empty, NotificationDetail.Factory.message(runtime, reason))
     case IndexHintUnfulfillableNotification(label, propertyKeys) =>
       NotificationCode.INDEX_HINT_UNFULFILLABLE.notification(graphdb.InputPosition.empty, NotificationDetail.Factory.index(label, propertyKeys: _*))
     case JoinHintUnfulfillableNotification(variables) =>
@@ -19,13 +19,14 @@
  */
 package org.neo4j.cypher.internal.compatibility.v3_4.runtime.phases
 
-import org.neo4j.cypher.internal.compatibility.v3_4.runtime.executionplan.ExecutionPlan
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.executionplan.{ExecutionPlan, RuntimeFallback}
 import org.neo4j.cypher.internal.compiler.v3_4.phases.LogicalPlanState
 
 class CompilationState(ls: LogicalPlanState,
-                           val maybeExecutionPlan: Option[ExecutionPlan] = None)
+                           val maybeExecutionPlan: Option[ExecutionPlan] = None,
+                           val maybeRuntimeFallback: Option[RuntimeFallback] = None)
   extends LogicalPlanState(ls.queryText, ls.startPosition, ls.plannerName, ls.maybeStatement, ls.maybeSemantics,
                            ls.maybeExtractedParams, ls.maybeSemanticTable, ls.maybeUnionQuery, ls.maybeLogicalPlan,
                            ls.maybePeriodicCommit, ls.accumulatedConditions) {
-  def withMaybeExecutionPlan(e: Option[ExecutionPlan]): CompilationState = new CompilationState(ls, e)
+  def withMaybeExecutionPlan(e: Option[ExecutionPlan]): CompilationState = new CompilationState(ls, e, maybeRuntimeFallback)
 }
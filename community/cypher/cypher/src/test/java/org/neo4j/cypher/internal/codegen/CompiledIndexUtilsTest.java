@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.codegen;
+
+import org.junit.Test;
+
+import org.neo4j.internal.kernel.api.IndexQuery;
+import org.neo4j.internal.kernel.api.exceptions.KernelException;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.schema.index.IndexDescriptor;
+import org.neo4j.kernel.api.schema.index.IndexDescriptorFactory;
+import org.neo4j.storageengine.api.schema.IndexValueIterator;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.neo4j.collection.primitive.PrimitiveLongCollections.emptyIterator;
+import static org.neo4j.collection.primitive.PrimitiveLongCollections.iterator;
+import static org.neo4j.cypher.internal.codegen.CompiledIndexUtils.indexSeekBetween;
+import static org.neo4j.cypher.internal.codegen.CompiledIndexUtils.indexSeekGreaterThan;
+import static org.neo4j.cypher.internal.codegen.CompiledIndexUtils.indexSeekLessThan;
+
+public class CompiledIndexUtilsTest
+{
+    private final IndexDescriptor index = IndexDescriptorFactory.forLabel( 1, 2 );
+
+    @Test
+    public void shouldSeekNumberRange() throws KernelException
+    {
+        // GIVEN
+        ReadOperations readOperations = mock( ReadOperations.class );
+        IndexValueIterator result = IndexValueIterator.withoutValues( iterator( 42L ) );
+        when( readOperations.indexQueryWithValues( eq( index ), any( IndexQuery.class ) ) ).thenReturn( result );
+
+        // WHEN
+        IndexValueIterator nodes = indexSeekBetween( readOperations, index, 10, true, 20L, false );
+
+        // THEN
+        assertSame( result, nodes );
+        verify( readOperations ).indexQueryWithValues( index, IndexQuery.range( 2, 10, true, 20L, false ) );
+    }
+
+    @Test
+    public void shouldSeekStringRangeAndTreatCharactersAsStrings() throws KernelException
+    {
+        // GIVEN
+        ReadOperations readOperations = mock( ReadOperations.class );
+        IndexValueIterator result = IndexValueIterator.withoutValues( iterator( 42L ) );
+        when( readOperations.indexQueryWithValues( eq( index ), any( IndexQuery.class ) ) ).thenReturn( result );
+
+        // WHEN
+        IndexValueIterator nodes = indexSeekGreaterThan( readOperations, index, 'a', false );
+
+        // THEN
+        assertSame( result, nodes );
+        verify( readOperations ).indexQueryWithValues( index, IndexQuery.range( 2, "a", false, (String) null, false ) );
+    }
+
+    @Test
+    public void shouldFindNothingForNullBound() throws KernelException
+    {
+        // GIVEN
+        ReadOperations readOperations = mock( ReadOperations.class );
+
+        // WHEN
+        IndexValueIterator nodes = indexSeekLessThan( readOperations, index, null, true );
+
+        // THEN
+        assertFalse( nodes.hasNext() );
+        verifyZeroInteractions( readOperations );
+    }
+
+    @Test
+    public void shouldFindNothingForMixedBoundsIfEitherSideIsEmpty() throws KernelException
+    {
+        // GIVEN
+        ReadOperations readOperations = mock( ReadOperations.class );
+        when( readOperations.indexQuery( eq( index ), any( IndexQuery.class ) ) )
+                .thenReturn( iterator( 42L ), emptyIterator() );
+
+        // WHEN
+        IndexValueIterator nodes = indexSeekBetween( readOperations, index, 10, true, "z", true );
+
+        // THEN
+        assertFalse( nodes.hasNext() );
+    }
+
+    @Test
+    public void shouldFailForMixedBoundsIfBothSidesMatch() throws KernelException
+    {
+        // GIVEN
+        ReadOperations readOperations = mock( ReadOperations.class );
+        when( readOperations.indexQuery( eq( index ), any( IndexQuery.class ) ) )
+                .thenReturn( iterator( 42L ), iterator( 43L ) );
+
+        // WHEN
+        try
+        {
+            indexSeekBetween( readOperations, index, 10, true, "z", true );
+            fail( "Expected exception" );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            // THEN expected
+        }
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldFailForBoundsThatAreNeitherNumbersNorStrings() throws KernelException
+    {
+        indexSeekGreaterThan( mock( ReadOperations.class ), index, true, true );
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.codegen;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.cypher.internal.compiler.v3_4.spi.RelationshipIdWrapper;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.impl.api.RelationshipVisitor;
+import org.neo4j.kernel.impl.api.store.RelationshipIterator;
+import org.neo4j.storageengine.api.EntityType;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.neo4j.cypher.internal.codegen.CompiledVarLengthExpander.expand;
+
+public class CompiledVarLengthExpanderTest
+{
+    @Test
+    public void shouldProducePathsWithinLengthBounds() throws EntityNotFoundException
+    {
+        // GIVEN (0)-[10]->(1)-[11]->(2)-[12]->(3)
+        ReadOperations readOperations = graph( rel( 10, 0, 1 ), rel( 11, 1, 2 ), rel( 12, 2, 3 ) );
+
+        // WHEN
+        List<String> paths = paths( expand( readOperations, 0L, Direction.OUTGOING, null, 1, 2, false ) );
+
+        // THEN
+        assertEquals( asList( "1:[10]", "2:[10, 11]" ), paths );
+    }
+
+    @Test
+    public void shouldProduceStartNodeForZeroLengthPaths() throws EntityNotFoundException
+    {
+        // GIVEN (0)-[10]->(1)
+        ReadOperations readOperations = graph( rel( 10, 0, 1 ) );
+
+        // WHEN
+        List<String> paths = paths( expand( readOperations, 0L, Direction.OUTGOING, null, 0, -1, false ) );
+
+        // THEN
+        assertEquals( asList( "0:[]", "1:[10]" ), paths );
+    }
+
+    @Test
+    public void shouldNeverTraverseTheSameRelationshipTwice() throws EntityNotFoundException
+    {
+        // GIVEN (0)-[10]->(1)-[11]->(0)
+        ReadOperations readOperations = graph( rel( 10, 0, 1 ), rel( 11, 1, 0 ) );
+
+        // WHEN
+        List<String> paths = paths( expand( readOperations, 0L, Direction.OUTGOING, null, 1, -1, false ) );
+
+        // THEN
+        assertEquals( asList( "1:[10]", "0:[10, 11]" ), paths );
+    }
+
+    @Test
+    public void shouldListRelationshipsFromTheEndNodeWhenReversed() throws EntityNotFoundException
+    {
+        // GIVEN (0)-[10]->(1)-[11]->(2)
+        ReadOperations readOperations = graph( rel( 10, 0, 1 ), rel( 11, 1, 2 ) );
+
+        // WHEN
+        List<String> paths = paths( expand( readOperations, 0L, Direction.OUTGOING, null, 2, 2, true ) );
+
+        // THEN
+        assertEquals( asList( "2:[11, 10]" ), paths );
+    }
+
+    @Test
+    public void shouldOnlyTraverseGivenTypes() throws EntityNotFoundException
+    {
+        // GIVEN
+        ReadOperations readOperations = mock( ReadOperations.class );
+        int[] types = {3};
+        when( readOperations.nodeGetRelationships( eq( 0L ), eq( Direction.OUTGOING ), eq( types ) ) )
+                .thenAnswer( invocation -> iterator( rel( 10, 0, 1 ) ) );
+        when( readOperations.nodeGetRelationships( eq( 1L ), eq( Direction.OUTGOING ), eq( types ) ) )
+                .thenAnswer( invocation -> iterator() );
+
+        // WHEN
+        List<String> paths = paths( expand( readOperations, 0L, Direction.OUTGOING, types, 1, -1, false ) );
+
+        // THEN
+        assertEquals( asList( "1:[10]" ), paths );
+    }
+
+    @Test
+    public void shouldNotExpandDeletedNodes() throws EntityNotFoundException
+    {
+        // GIVEN
+        ReadOperations readOperations = mock( ReadOperations.class );
+        when( readOperations.nodeGetRelationships( anyLong(), eq( Direction.BOTH ) ) )
+                .thenThrow( new EntityNotFoundException( EntityType.NODE, 0L ) );
+
+        // WHEN
+        CompiledVarLengthExpander expander = expand( readOperations, 0L, Direction.BOTH, null, 1, -1, false );
+
+        // THEN
+        assertFalse( expander.hasNext() );
+        assertEquals( emptyList(), paths( expander ) );
+    }
+
+    private static List<String> paths( CompiledVarLengthExpander expander )
+    {
+        List<String> paths = new ArrayList<>();
+        while ( expander.hasNext() )
+        {
+            long endNode = expander.next();
+            List<Long> relationships = new ArrayList<>();
+            for ( RelationshipIdWrapper relationship : expander.relationships() )
+            {
+                relationships.add( relationship.id() );
+            }
+            paths.add( endNode + ":" + relationships );
+        }
+        return paths;
+    }
+
+    private static long[] rel( long id, long startNode, long endNode )
+    {
+        return new long[]{id, startNode, endNode};
+    }
+
+    private static ReadOperations graph( long[]... relationships ) throws EntityNotFoundException
+    {
+        ReadOperations readOperations = mock( ReadOperations.class );
+        when( readOperations.nodeGetRelationships( anyLong(), eq( Direction.OUTGOING ) ) ).thenAnswer( invocation ->
+        {
+            long node = invocation.getArgument( 0 );
+            List<long[]> outgoing = new ArrayList<>();
+            for ( long[] relationship : relationships )
+            {
+                if ( relationship[1] == node )
+                {
+                    outgoing.add( relationship );
+                }
+            }
+            return iterator( outgoing.toArray( new long[0][] ) );
+        } );
+        return readOperations;
+    }
+
+    private static RelationshipIterator iterator( long[]... relationships )
+    {
+        return new RelationshipIterator.BaseIterator()
+        {
+            private int position;
+            private long[] current;
+
+            @Override
+            protected boolean fetchNext()
+            {
+                if ( position < relationships.length )
+                {
+                    current = relationships[position++];
+                    return next( current[0] );
+                }
+                return false;
+            }
+
+            @Override
+            public <EXCEPTION extends Exception> boolean relationshipVisit( long relationshipId,
+                    RelationshipVisitor<EXCEPTION> visitor ) throws EXCEPTION
+            {
+                visitor.visit( current[0], 0, current[1], current[2] );
+                return false;
+            }
+        };
+    }
+}
@@ -19,14 +19,20 @@
  */
 package org.neo4j.cypher
 
-import org.neo4j.cypher.internal.ExecutionEngine
+import java.io.File
+
+import org.neo4j.cypher.internal.{ExecutionEngine, PlanCacheWarmer, StringCacheMonitor}
 import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
 import org.neo4j.cypher.internal.javacompat.GraphDatabaseCypherService
 import org.neo4j.cypher.internal.planner.v3_4.spi.CostBasedPlannerName
 import org.neo4j.graphdb.factory.GraphDatabaseSettings
+import org.neo4j.graphdb.mockfs.{EphemeralFileSystemAbstraction, UncloseableDelegatingFileSystemAbstraction}
 import org.neo4j.graphdb.{ExecutionPlanDescription, GraphDatabaseService, Result}
+import org.neo4j.kernel.internal.GraphDatabaseAPI
+import org.neo4j.kernel.monitoring.Monitors
 import org.neo4j.test.TestGraphDatabaseFactory
 
+import scala.collection.JavaConverters._
 import scala.collection.immutable.Map
 
 class ExecutionEngineIT extends CypherFunSuite with GraphIcing {
@@ -195,6 +201,64 @@ class ExecutionEngineIT extends CypherFunSuite with GraphIcing {
     db.execute("EXPLAIN    MERGE (a:A) ON MATCH SET a.prop = 42 RETURN *").close()
   }
 
+  test("should plan the most frequently used queries again after a restart") {
+    // given
+    val fs = new EphemeralFileSystemAbstraction
+    val storeDir = new File("plan-cache-warmup")
+    def startDb() = new TestGraphDatabaseFactory()
+      .setFileSystem(new UncloseableDelegatingFileSystemAbstraction(fs))
+      .newImpermanentDatabaseBuilder(storeDir)
+      .setConfig(GraphDatabaseSettings.query_cache_warmup_size, "10")
+      .setConfig(GraphDatabaseSettings.query_cache_warmup_save_interval, "100ms")
+      .newGraphDatabase()
+    val query = "MATCH (n:Warm) RETURN n"
+
+    try {
+      db = startDb()
+      (1 to 3).foreach(_ => db.execute(query).close())
+      eventually(fs.fileExists(new File(storeDir, PlanCacheWarmer.FILE_NAME)))
+      db.shutdown()
+
+      // when
+      db = startDb()
+      eventually(cachedQueries(db).contains(s"CYPHER 3.4 $query"))
+      val cacheCounter = new CacheCounter
+      db.asInstanceOf[GraphDatabaseAPI].getDependencyResolver.resolveDependency(classOf[Monitors])
+        .addMonitorListener(cacheCounter)
+      db.execute(query).close()
+
+      // then
+      cacheCounter.hits should equal(1)
+      cacheCounter.misses should equal(0)
+    } finally {
+      db.shutdown()
+      db = null
+      fs.close()
+    }
+  }
+
+  private def cachedQueries(db: GraphDatabaseService): Seq[String] = {
+    val result = db.execute("CALL dbms.listCachedQueries()")
+    try result.asScala.map(_.get("query").asInstanceOf[String]).toIndexedSeq finally result.close()
+  }
+
+  private def eventually(condition: => Boolean): Unit = {
+    val endTime = System.currentTimeMillis() + 10000
+    while (!condition) {
+      if (System.currentTimeMillis() > endTime) fail("Condition not met in time")
+      Thread.sleep(50)
+    }
+  }
+
+  private class CacheCounter extends StringCacheMonitor {
+    var hits = 0
+    var misses = 0
+
+    override def cacheHit(key: String): Unit = hits += 1
+
+    override def cacheMiss(key: String): Unit = misses += 1
+  }
+
   private implicit class RichDb(db: GraphDatabaseCypherService) {
     def planDescriptionForQuery(query: String): ExecutionPlanDescription = {
       val res = db.execute(query)
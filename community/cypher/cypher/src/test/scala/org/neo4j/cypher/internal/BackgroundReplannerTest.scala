@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal
+
+import java.util.concurrent.TimeUnit.{MILLISECONDS, SECONDS}
+
+import org.mockito.ArgumentMatchers.any
+import org.mockito.Mockito._
+import org.mockito.invocation.InvocationOnMock
+import org.mockito.stubbing.Answer
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+import org.neo4j.logging.NullLog
+import org.neo4j.scheduler.JobScheduler
+import org.neo4j.time.FakeClock
+
+import scala.collection.mutable
+
+class BackgroundReplannerTest extends CypherFunSuite {
+
+  private var clock: FakeClock = _
+  private var jobs: mutable.Queue[Runnable] = _
+  private var monitor: ReplanCounter = _
+  private var replanner: BackgroundReplanner = _
+
+  override protected def initTest(): Unit = {
+    super.initTest()
+    clock = new FakeClock
+    jobs = mutable.Queue[Runnable]()
+    monitor = new ReplanCounter
+    val scheduler = mock[JobScheduler]
+    when(scheduler.schedule(any[JobScheduler.Group](), any[Runnable]())).thenAnswer(new Answer[JobScheduler.JobHandle] {
+      override def answer(invocation: InvocationOnMock): JobScheduler.JobHandle = {
+        jobs += invocation.getArgument[Runnable](1)
+        null
+      }
+    })
+    replanner = new BackgroundReplanner(scheduler, clock, SECONDS.toMillis(10), monitor, NullLog.getInstance())
+  }
+
+  test("should replan in the background and report the time until the new plan was swapped in") {
+    // given
+    var replans = 0
+    replanner.replan("query", () => { replans += 1; true })
+    replans should equal(0)
+
+    // when
+    clock.forward(300, MILLISECONDS)
+    runJobs()
+
+    // then
+    replans should equal(1)
+    monitor.started should equal(Seq("query"))
+    monitor.completed should equal(Seq(("query", true, 300L)))
+  }
+
+  test("should not replan a query that is already being replanned") {
+    // when
+    replanner.replan("query", () => true)
+    replanner.replan("query", () => true)
+    replanner.replan("other query", () => true)
+
+    // then
+    jobs should have size 2
+    monitor.started should equal(Seq("query", "other query"))
+  }
+
+  test("should replan again as soon as the new plan is found stale") {
+    // given
+    replanner.replan("query", () => true)
+    runJobs()
+
+    // when
+    replanner.replan("query", () => true)
+
+    // then
+    jobs should have size 1
+  }
+
+  test("should not retry failed replanning within the minimal replan interval") {
+    // given
+    replanner.replan("query", () => throw new IllegalStateException("planning failed"))
+    runJobs()
+    monitor.completed should equal(Seq(("query", false, 0L)))
+
+    // when
+    clock.forward(9, SECONDS)
+    replanner.replan("query", () => true)
+
+    // then
+    jobs should be(empty)
+
+    // when
+    clock.forward(1, SECONDS)
+    replanner.replan("query", () => true)
+
+    // then
+    jobs should have size 1
+  }
+
+  private def runJobs(): Unit = while (jobs.nonEmpty) jobs.dequeue().run()
+
+  private class ReplanCounter extends StringCacheMonitor {
+    val started = mutable.ArrayBuffer[String]()
+    val completed = mutable.ArrayBuffer[(String, Boolean, Long)]()
+
+    override def backgroundReplanStarted(query: String): Unit = started += query
+
+    override def backgroundReplanCompleted(query: String, swapped: Boolean, millis: Long): Unit =
+      completed += ((query, swapped, millis))
+  }
+}
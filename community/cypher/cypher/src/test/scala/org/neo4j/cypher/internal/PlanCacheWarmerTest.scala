@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal
+
+import java.io.File
+
+import org.mockito.ArgumentMatchers.anyLong
+import org.mockito.Mockito._
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+import org.neo4j.graphdb.mockfs.EphemeralFileSystemAbstraction
+import org.neo4j.kernel.AvailabilityGuard
+import org.neo4j.logging.NullLog
+import org.neo4j.scheduler.JobScheduler
+
+import scala.collection.mutable
+
+class PlanCacheWarmerTest extends CypherFunSuite {
+
+  private val fileSystem = new EphemeralFileSystemAbstraction
+  private val file = new File("store", PlanCacheWarmer.FILE_NAME)
+  private val availabilityGuard = mock[AvailabilityGuard]
+  when(availabilityGuard.isAvailable).thenReturn(true)
+  when(availabilityGuard.isAvailable(anyLong())).thenReturn(true)
+
+  override protected def stopTest(): Unit = {
+    fileSystem.close()
+    super.stopTest()
+  }
+
+  test("should save and load the hottest queries") {
+    // given
+    fileSystem.mkdirs(file.getParentFile)
+    val queries = Seq("CYPHER 3.4 MATCH (n) RETURN n", "CYPHER 3.4 RETURN 'ünïcödé'", "CYPHER 3.4 RETURN 1\nAS one")
+    val warmer = newWarmer(() => queries, _ => ())
+
+    // when
+    warmer.save()
+
+    // then
+    newWarmer(() => Seq.empty, _ => ()).load() should equal(queries)
+  }
+
+  test("should load nothing when no queries have been saved") {
+    newWarmer(() => Seq.empty, _ => ()).load() should be(empty)
+  }
+
+  test("should plan each query and report progress, also for queries that fail to plan") {
+    // given
+    val planned = mutable.ArrayBuffer[String]()
+    val monitor = new WarmupCounter
+    val warmer = newWarmer(() => Seq.empty, query => {
+      if (query == "broken") throw new IllegalArgumentException(query)
+      planned += query
+    }, monitor)
+
+    // when
+    warmer.warmUp(Seq("first", "broken", "second"))
+
+    // then
+    planned should equal(Seq("first", "second"))
+    monitor.started should equal(3)
+    monitor.progress should equal(Seq("first" -> true, "broken" -> false, "second" -> true))
+  }
+
+  test("should not plan queries once the database is shut down") {
+    // given
+    when(availabilityGuard.isShutdown).thenReturn(true)
+    when(availabilityGuard.isAvailable).thenReturn(false)
+    when(availabilityGuard.isAvailable(anyLong())).thenReturn(false)
+    val monitor = new WarmupCounter
+    val warmer = newWarmer(() => Seq.empty, _ => fail("should not plan"), monitor)
+
+    // when
+    warmer.warmUp(Seq("first", "second"))
+
+    // then
+    monitor.progress should equal(Seq("first" -> false, "second" -> false))
+  }
+
+  private def newWarmer(hotQueries: () => Seq[String], plan: String => Unit,
+                        monitor: StringCacheMonitor = new WarmupCounter) =
+    new PlanCacheWarmer(hotQueries, plan, file, fileSystem, mock[JobScheduler], availabilityGuard, monitor,
+                        NullLog.getInstance())
+
+  private class WarmupCounter extends StringCacheMonitor {
+    var started = 0
+    val progress = mutable.ArrayBuffer[(String, Boolean)]()
+
+    override def cacheWarmupStarted(queries: Int): Unit = started += queries
+
+    override def cacheWarmupProgress(query: String, planned: Boolean): Unit = progress += query -> planned
+  }
+}
@@ -48,4 +48,15 @@ class LFUCacheTest extends CypherFunSuite {
     cache.get("D").isEmpty should be (true)
     cache.get("E").isEmpty should be (true)
   }
+
+  test("hottest should leave out entries beyond the limit") {
+    val cache = new LFUCache[String, String](5)
+
+    cache.put("A","A")
+    cache.put("B","B")
+    cache.put("C","C")
+
+    cache.hottest(5).map(_._1).toSet should equal(Set("A", "B", "C"))
+    cache.hottest(2) should have size 2
+  }
 }
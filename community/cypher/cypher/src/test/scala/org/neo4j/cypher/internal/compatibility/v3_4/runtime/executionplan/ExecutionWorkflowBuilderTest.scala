@@ -66,6 +66,7 @@ class ExecutionWorkflowBuilderTest extends CypherFunSuite {
     val pipe = mock[Pipe]
     when(pipe.createResults(any())).thenReturn(Iterator.empty)
     val context = mock[QueryContext]
+    when(context.transactionalContext).thenReturn(mock[QueryTransactionalContext])
     val pipeInfo = PipeInfo(pipe, updating = false, None, None, PlannerName)
     val builderFactory = DefaultExecutionResultBuilderFactory(pipeInfo, List.empty, logicalPlan)
 
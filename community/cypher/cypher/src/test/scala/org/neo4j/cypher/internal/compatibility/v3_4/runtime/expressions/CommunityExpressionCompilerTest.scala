@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.expressions
+
+import org.neo4j.cypher.internal.runtime.interpreted.commands.convert.{CommunityExpressionConverter, ExpressionConverters}
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.{Literal => CommandLiteral, Variable => CommandVariable}
+import org.neo4j.cypher.internal.runtime.interpreted.commands.predicates.{Not => NotPredicate}
+import org.neo4j.cypher.internal.runtime.interpreted.{ExecutionContext, QueryStateHelper}
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+import org.neo4j.cypher.internal.util.v3_4.{DummyPosition, ParameterNotFoundException}
+import org.neo4j.cypher.internal.v3_4.expressions._
+import org.neo4j.values.AnyValue
+import org.neo4j.values.storable.Values
+import org.neo4j.values.storable.Values._
+import org.neo4j.values.virtual.VirtualValues
+
+import scala.collection.JavaConverters._
+import scala.util.{Failure, Success, Try}
+
+class CommunityExpressionCompilerTest extends CypherFunSuite {
+  private val pos = DummyPosition(0)
+
+  private val compiling = new ExpressionConverters(CommunityExpressionCompiler, CommunityExpressionConverter)
+  private val interpreting = new ExpressionConverters(CommunityExpressionConverter)
+
+  private val values: Seq[AnyValue] = Seq(TRUE, FALSE, NO_VALUE, longValue(1), longValue(2), doubleValue(1.0),
+                                          doubleValue(Double.NaN), stringValue("a"), stringValue("b"),
+                                          VirtualValues.list(longValue(1)))
+
+  test("should compare like the interpreter") {
+    val comparisons: Seq[(Expression, Expression) => Expression] = Seq(
+      Equals(_, _)(pos), NotEquals(_, _)(pos), LessThan(_, _)(pos), LessThanOrEqual(_, _)(pos),
+      GreaterThan(_, _)(pos), GreaterThanOrEqual(_, _)(pos))
+
+    for (comparison <- comparisons; a <- values; p <- values) {
+      shouldEvaluateLikeTheInterpreter(comparison(variable("a"), parameter("p")), a, p)
+      shouldEvaluateLikeTheInterpreter(comparison(parameter("p"), literal(1)), a, p)
+    }
+  }
+
+  test("should evaluate boolean operators like the interpreter") {
+    val operators: Seq[(Expression, Expression) => Expression] = Seq(
+      And(_, _)(pos), Or(_, _)(pos), Xor(_, _)(pos), (l, r) => Ands(Set(l, r))(pos), (l, r) => Ors(Set(l, r))(pos),
+      (l, r) => Not(And(l, Not(r)(pos))(pos))(pos), (l, r) => Or(IsNull(l)(pos), IsNotNull(r)(pos))(pos))
+    val predicates = Seq(TRUE, FALSE, NO_VALUE, VirtualValues.EMPTY_LIST, longValue(1))
+
+    for (operator <- operators; a <- predicates; p <- predicates) {
+      shouldEvaluateLikeTheInterpreter(operator(operator(variable("a"), parameter("p")), True()(pos)), a, p)
+      shouldEvaluateLikeTheInterpreter(operator(False()(pos), operator(parameter("p"), variable("a"))), a, p)
+    }
+  }
+
+  test("should only throw when no other operand decides the result") {
+    val missing = Equals(parameter("missing"), literal(1))(pos)
+
+    evaluate(compiling, And(missing, False()(pos))(pos)) should equal(Success(FALSE))
+    evaluate(compiling, Or(missing, True()(pos))(pos)) should equal(Success(TRUE))
+    evaluate(compiling, Ands(Set(missing, Null()(pos), False()(pos)))(pos)) should equal(Success(FALSE))
+    a[ParameterNotFoundException] should be thrownBy evaluate(compiling, And(missing, True()(pos))(pos)).get
+    a[ParameterNotFoundException] should be thrownBy evaluate(compiling, Or(missing, Null()(pos))(pos)).get
+  }
+
+  test("should keep unsupported expressions as interpreted fallbacks") {
+    val expression = And(GreaterThan(Property(variable("a"), PropertyKeyName("x")(pos))(pos), literal(1))(pos),
+                         variable("b"))(pos)
+
+    val predicate = compiling.toCommandExpression(expression)
+
+    predicate shouldBe a[CompiledPredicate]
+    predicate.arguments should have size 2
+    predicate.symbolTableDependencies should equal(Set("a", "b"))
+  }
+
+  test("should not compile a single operator over unsupported expressions") {
+    compiling.toCommandExpression(Not(variable("a"))(pos)) shouldBe a[NotPredicate]
+  }
+
+  test("should rewrite the interpreted fallbacks") {
+    val predicate = compiling.toCommandExpression(And(variable("a"), Equals(parameter("p"), True()(pos))(pos))(pos))
+
+    val rewritten = predicate.rewrite {
+      case CommandVariable("a") => CommandLiteral(false)
+      case e => e
+    }
+
+    rewritten shouldBe a[CompiledPredicate]
+    rewritten(ExecutionContext.from("a" -> TRUE), state(TRUE)) should equal(FALSE)
+    predicate(ExecutionContext.from("a" -> TRUE), state(TRUE)) should equal(TRUE)
+  }
+
+  private def shouldEvaluateLikeTheInterpreter(expression: Expression, valueOfA: AnyValue, valueOfP: AnyValue): Unit = {
+    val command = compiling.toCommandExpression(expression)
+    withClue(expression) {
+      command shouldBe a[CompiledPredicate]
+    }
+    val expected = evaluate(interpreting, expression, valueOfA, valueOfP)
+    val actual = evaluate(compiling, expression, valueOfA, valueOfP)
+    withClue(s"$expression with a = $valueOfA and p = $valueOfP") {
+      (actual, expected) match {
+        case (Failure(actualError), Failure(expectedError)) => actualError.getClass should equal(expectedError.getClass)
+        case _ => actual should equal(expected)
+      }
+    }
+  }
+
+  private def evaluate(converters: ExpressionConverters, expression: Expression,
+                       a: AnyValue = NO_VALUE, p: AnyValue = NO_VALUE): Try[AnyValue] =
+    Try(converters.toCommandExpression(expression)).flatMap(command =>
+      Try(command(ExecutionContext.from("a" -> a), state(p))))
+
+  private def state(p: AnyValue) = QueryStateHelper.emptyWith(params = VirtualValues.map(Map("p" -> p).asJava))
+
+  private def variable(name: String) = Variable(name)(pos)
+
+  private def parameter(name: String) = Parameter(name, org.neo4j.cypher.internal.util.v3_4.symbols.CTAny)(pos)
+
+  private def literal(value: Long) = SignedDecimalIntegerLiteral(value.toString)(pos)
+}
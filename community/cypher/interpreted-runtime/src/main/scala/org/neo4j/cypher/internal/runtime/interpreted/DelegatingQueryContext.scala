@@ -27,6 +27,7 @@ import org.neo4j.cypher.internal.runtime._
 import org.neo4j.cypher.internal.v3_4.expressions.SemanticDirection
 import org.neo4j.cypher.internal.v3_4.logical.plans.QualifiedName
 import org.neo4j.graphdb.{Node, Path, PropertyContainer, Relationship}
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.kernel.impl.api.store.RelationshipIterator
 import org.neo4j.kernel.impl.factory.DatabaseInfo
 import org.neo4j.values.AnyValue
@@ -111,6 +112,9 @@ abstract class DelegatingQueryContext(val inner: QueryContext) extends QueryCont
   override def indexSeek(index: IndexDescriptor, values: Seq[Any]): Iterator[Node] =
     manyDbHits(inner.indexSeek(index, values))
 
+  override def indexSeekWithValues(index: IndexDescriptor, values: Seq[Any]): Iterator[(Node, Array[Value])] =
+    manyDbHits(inner.indexSeekWithValues(index, values))
+
   override def indexSeekByRange(index: IndexDescriptor, value: Any): Iterator[Node] =
     manyDbHits(inner.indexSeekByRange(index, value))
 
@@ -295,4 +299,10 @@ class DelegatingQueryTransactionalContext(val inner: QueryTransactionalContext)
   override def kernelStatisticProvider: KernelStatisticProvider = inner.kernelStatisticProvider
 
   override def databaseInfo: DatabaseInfo = inner.databaseInfo
+
+  override def nodeHighId: Long = inner.nodeHighId
+
+  override def hasTxStateWithChanges: Boolean = inner.hasTxStateWithChanges
+
+  override def memoryTracker: QueryMemoryTracker = inner.memoryTracker
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.interpreted
+
+import org.neo4j.values.AnyValue
+import org.neo4j.values.storable.{ArrayValue, TextValue}
+import org.neo4j.values.virtual.{ListValue, MapValue}
+
+import scala.collection.JavaConverters._
+
+/**
+  * Rough estimates of how much heap values use. They are meant for deciding when an operator holds too much data, not
+  * for exact accounting, so nested values are only looked into where they can be large.
+  */
+object EstimatedValueSize {
+
+  val OBJECT_OVERHEAD = 16L
+  val REFERENCE = 8L
+
+  def of(value: AnyValue): Long = value match {
+    case null => 0L
+    case t: TextValue => OBJECT_OVERHEAD + 2L * t.length()
+    case a: ArrayValue => OBJECT_OVERHEAD + 8L * a.length()
+    case l: ListValue =>
+      var size = OBJECT_OVERHEAD + REFERENCE * l.size()
+      val it = l.iterator()
+      while (it.hasNext)
+        size += of(it.next())
+      size
+    case m: MapValue =>
+      OBJECT_OVERHEAD + m.entrySet().asScala.foldLeft(0L) {
+        (size, entry) => size + OBJECT_OVERHEAD + 2L * entry.getKey.length + of(entry.getValue)
+      }
+    case _ => OBJECT_OVERHEAD
+  }
+}
@@ -183,6 +183,19 @@ final class TransactionBoundQueryContext(val transactionalContext: Transactional
     JavaConversionSupport.mapToScalaENFXSafe(indexResult)(nodeOps.getById)
   }
 
+  override def indexSeekWithValues(index: IndexDescriptor, values: Seq[Any]): Iterator[(Node, Array[Value])] = {
+    indexSearchMonitor.indexSeek(index, values)
+    val predicates = index.properties.zip(values).map(p => IndexQuery.exact(p._1, p._2))
+    val indexResult = transactionalContext.statement.readOperations().indexQueryWithValues(index, predicates: _*)
+    // the values of the index result are only valid until it is advanced again, so they need to be read right away
+    JavaConversionSupport.mapToScalaENFXSafe(indexResult) { nodeId =>
+      val indexedValues =
+        if (indexResult.hasValue) Array.tabulate(index.properties.length)(indexResult.propertyValue)
+        else null
+      (nodeOps.getById(nodeId), indexedValues)
+    }
+  }
+
   override def indexSeekByRange(index: IndexDescriptor, value: Any) = value match {
 
     case PrefixRange(prefix: String) =>
@@ -26,11 +26,12 @@ import org.neo4j.internal.kernel.api.security.SecurityContext
 import org.neo4j.kernel.GraphDatabaseQueryService
 import org.neo4j.kernel.api.KernelTransaction.Revertable
 import org.neo4j.kernel.api.dbms.DbmsOperations
-import org.neo4j.kernel.api.query.PlannerInfo
+import org.neo4j.kernel.api.query.{PlannerInfo, QueryMemoryTracker}
 import org.neo4j.kernel.api.txstate.TxStateHolder
 import org.neo4j.kernel.api.{ReadOperations, Statement}
 import org.neo4j.kernel.impl.factory.DatabaseInfo
 import org.neo4j.kernel.impl.query.TransactionalContext
+import org.neo4j.kernel.impl.store.id.{IdGeneratorFactory, IdType}
 
 case class TransactionalContextWrapper(tc: TransactionalContext) extends QueryTransactionalContext {
 
@@ -72,4 +73,11 @@ case class TransactionalContextWrapper(tc: TransactionalContext) extends QueryTr
   def kernelStatisticProvider: KernelStatisticProvider = new ProfileKernelStatisticProvider(tc.kernelStatisticProvider())
 
   override def databaseInfo: DatabaseInfo = tc.graph().getDependencyResolver.resolveDependency(classOf[DatabaseInfo])
+
+  override def nodeHighId: Long =
+    tc.graph().getDependencyResolver.resolveDependency(classOf[IdGeneratorFactory]).get(IdType.NODE).getHighId
+
+  override def hasTxStateWithChanges: Boolean = stateView.hasTxStateWithChanges
+
+  override def memoryTracker: QueryMemoryTracker = tc.executingQuery().memoryTracker()
 }
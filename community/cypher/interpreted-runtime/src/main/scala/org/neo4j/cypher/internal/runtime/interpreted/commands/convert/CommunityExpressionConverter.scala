@@ -30,7 +30,7 @@ import org.neo4j.cypher.internal.v3_4.functions._
 import org.neo4j.cypher.internal.v3_4.functions
 import org.neo4j.cypher.internal.v3_4.{expressions => ast}
 import org.neo4j.cypher.internal.frontend.v3_4.ast.rewriters.DesugaredMapProjection
-import org.neo4j.cypher.internal.v3_4.logical.plans.{InequalitySeekRangeWrapper, NestedPlanExpression, PrefixSeekRangeWrapper, ResolvedFunctionInvocation}
+import org.neo4j.cypher.internal.v3_4.logical.plans.{CachedNodeProperty, InequalitySeekRangeWrapper, NestedPlanExpression, PrefixSeekRangeWrapper, ResolvedFunctionInvocation}
 
 object CommunityExpressionConverter extends ExpressionConverter {
 
@@ -107,6 +107,7 @@ object CommunityExpressionConverter extends ExpressionConverter {
           else commandexpressions.FunctionInvocation(signature, callArgumentCommands)
         case e: ast.MapProjection => throw new InternalException("should have been rewritten away")
         case e: NestedPlanExpression => commandexpressions.NestedPlanExpression(e.plan)
+        case e: CachedNodeProperty => commandexpressions.CachedNodeProperty(e.variable.name, PropertyKey(e.propertyKey.name), e.cacheKey)
         case _ => null
       }
 
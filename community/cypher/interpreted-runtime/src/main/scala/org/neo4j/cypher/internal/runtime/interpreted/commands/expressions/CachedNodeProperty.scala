@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.interpreted.commands.expressions
+
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.cypher.internal.runtime.interpreted.commands.values.KeyToken
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.QueryState
+import org.neo4j.values.AnyValue
+
+/**
+  * Reads a node property that may have been provided by the index seek that found the node. The value is stored
+  * in the execution context under `cachedPropertyKey`. If it is not there, the property is read from the store.
+  */
+case class CachedNodeProperty(nodeName: String, propertyKey: KeyToken, cachedPropertyKey: String)
+  extends Expression with Product with Serializable
+{
+  private val fallback = Property(Variable(nodeName), propertyKey)
+
+  def apply(ctx: ExecutionContext, state: QueryState): AnyValue = ctx.get(cachedPropertyKey) match {
+    case Some(value) => value
+    case None => fallback(ctx, state)
+  }
+
+  def rewrite(f: (Expression) => Expression) = f(CachedNodeProperty(nodeName, propertyKey.rewrite(f), cachedPropertyKey))
+
+  override def children = Seq(propertyKey)
+
+  def arguments = Seq.empty
+
+  def symbolTableDependencies = Set(nodeName)
+
+  override def toString = s"$nodeName.${propertyKey.name}"
+}
@@ -26,8 +26,7 @@ import org.neo4j.cypher.internal.util.v3_4.CypherTypeException
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.QueryState
 import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
 import org.neo4j.values.AnyValue
-import org.neo4j.values.storable.{DoubleValue, Values}
-import org.neo4j.values.virtual.PointValue
+import org.neo4j.values.storable.{DoubleValue, PointValue, Values}
 
 case class DistanceFunction(p1: Expression, p2: Expression) extends Expression {
 
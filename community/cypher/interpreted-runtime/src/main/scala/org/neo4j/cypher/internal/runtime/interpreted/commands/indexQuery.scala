@@ -27,7 +27,6 @@ import org.neo4j.cypher.internal.runtime.interpreted.{GraphElementPropertyFuncti
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.QueryState
 import org.neo4j.cypher.internal.frontend.v3_4.helpers.SeqCombiner.combine
 import org.neo4j.cypher.internal.v3_4.logical.plans._
-import org.neo4j.graphdb.Node
 import org.neo4j.values.AnyValue
 import org.neo4j.values.storable.Values
 
@@ -35,12 +34,12 @@ import scala.collection.GenTraversableOnce
 import scala.collection.JavaConverters._
 
 object indexQuery extends GraphElementPropertyFunctions {
-  def apply(queryExpression: QueryExpression[Expression],
-            m: ExecutionContext,
-            state: QueryState,
-            index: Seq[Any] => GenTraversableOnce[Node],
-            labelName: String,
-            propertyNames: Seq[String]): Iterator[Node] = queryExpression match {
+  def apply[T](queryExpression: QueryExpression[Expression],
+               m: ExecutionContext,
+               state: QueryState,
+               index: Seq[Any] => GenTraversableOnce[T],
+               labelName: String,
+               propertyNames: Seq[String]): Iterator[T] = queryExpression match {
 
     // Index exact value seek on single value
     case SingleQueryExpression(inner) =>
@@ -82,7 +81,7 @@ object indexQuery extends GraphElementPropertyFunctions {
       index(Seq(range)).toIterator
   }
 
-  private def lookupNodes(values: Seq[AnyValue], index: Seq[Any] => GenTraversableOnce[Node]): Iterator[Node] = {
+  private def lookupNodes[T](values: Seq[AnyValue], index: Seq[Any] => GenTraversableOnce[T]): Iterator[T] = {
     // If any of the values we are searching for is null, the whole expression that this index seek represents
     // collapses into a null value, which will not match any nodes.
     if (values.contains(Values.NO_VALUE))
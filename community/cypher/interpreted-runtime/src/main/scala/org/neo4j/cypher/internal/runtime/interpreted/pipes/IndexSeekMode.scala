@@ -21,9 +21,10 @@ package org.neo4j.cypher.internal.runtime.interpreted.pipes
 
 import org.neo4j.cypher.internal.planner.v3_4.spi.IndexDescriptor
 import org.neo4j.cypher.internal.util.v3_4.InternalException
-import org.neo4j.cypher.internal.runtime.interpreted.pipes.IndexSeekMode.{MultipleValueQuery, assertSingleValue}
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.IndexSeekMode.{MultipleValueQuery, MultipleValueQueryWithValues, assertSingleValue}
 import org.neo4j.cypher.internal.v3_4.logical.plans.{QueryExpression, RangeQueryExpression}
 import org.neo4j.graphdb.Node
+import org.neo4j.values.storable.Value
 
 case class IndexSeekModeFactory(unique: Boolean, readOnly: Boolean) {
   def fromQueryExpression[T](qexpr: QueryExpression[T]): IndexSeekMode = qexpr match {
@@ -37,6 +38,7 @@ case class IndexSeekModeFactory(unique: Boolean, readOnly: Boolean) {
 
 object IndexSeekMode {
   type MultipleValueQuery = (QueryState) => (Seq[Any]) => Iterator[Node]
+  type MultipleValueQueryWithValues = (QueryState) => (Seq[Any]) => Iterator[(Node, Array[Value])]
 
   def assertSingleValue(values: Seq[Any]): Any = {
     if(values.size != 1)
@@ -48,6 +50,11 @@ object IndexSeekMode {
 sealed trait IndexSeekMode {
   def indexFactory(descriptor: IndexDescriptor): MultipleValueQuery
 
+  /**
+    * Seek modes that can hand out the property values stored in the index return a factory for such a seek here.
+    */
+  def indexFactoryWithValues(descriptor: IndexDescriptor): Option[MultipleValueQueryWithValues] = None
+
   def name: String
 }
 
@@ -55,6 +62,9 @@ sealed trait ExactSeek {
   self: IndexSeekMode =>
   override def indexFactory(descriptor: IndexDescriptor): MultipleValueQuery =
     (state: QueryState) => (values: Seq[Any]) => state.query.indexSeek(descriptor, values)
+
+  override def indexFactoryWithValues(descriptor: IndexDescriptor): Option[MultipleValueQueryWithValues] =
+    Some((state: QueryState) => (values: Seq[Any]) => state.query.indexSeekWithValues(descriptor, values))
 }
 
 case object IndexSeek extends IndexSeekMode with ExactSeek {
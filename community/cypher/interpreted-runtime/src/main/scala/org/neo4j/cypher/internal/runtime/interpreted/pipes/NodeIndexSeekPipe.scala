@@ -24,14 +24,15 @@ import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expres
 import org.neo4j.cypher.internal.runtime.interpreted.commands.indexQuery
 import org.neo4j.cypher.internal.planner.v3_4.spi.IndexDescriptor
 import org.neo4j.cypher.internal.v3_4.expressions.{LabelToken, PropertyKeyToken}
-import org.neo4j.cypher.internal.v3_4.logical.plans.{LogicalPlanId, QueryExpression}
+import org.neo4j.cypher.internal.v3_4.logical.plans.{CachedNodeProperty, LogicalPlanId, QueryExpression}
 import org.neo4j.kernel.impl.util.ValueUtils.fromNodeProxy
 
 case class NodeIndexSeekPipe(ident: String,
                              label: LabelToken,
                              propertyKeys: Seq[PropertyKeyToken],
                              valueExpr: QueryExpression[Expression],
-                             indexMode: IndexSeekMode = IndexSeek)
+                             indexMode: IndexSeekMode = IndexSeek,
+                             cacheProperties: Boolean = false)
                             (val id: LogicalPlanId = LogicalPlanId.DEFAULT) extends Pipe {
 
   private val propertyIds: Array[Int] = propertyKeys.map(_.nameId.id).toArray
@@ -40,13 +41,36 @@ case class NodeIndexSeekPipe(ident: String,
 
   private val indexFactory = indexMode.indexFactory(descriptor)
 
+  private val indexFactoryWithValues = if (cacheProperties) indexMode.indexFactoryWithValues(descriptor) else None
+
+  private val cachedPropertyKeys: Array[String] = propertyKeys.map(p => CachedNodeProperty.cacheKey(ident, p.name)).toArray
+
   valueExpr.expressions.foreach(_.registerOwningPipe(this))
 
   protected def internalCreateResults(state: QueryState): Iterator[ExecutionContext] = {
-    val index = indexFactory(state)
     val baseContext = state.createOrGetInitialContext()
-    val resultNodes = indexQuery(valueExpr, baseContext, state, index, label.name, propertyKeys.map(_.name))
-    resultNodes.map(node => baseContext.newWith1(ident, fromNodeProxy(node)))
+    indexFactoryWithValues match {
+      case Some(factory) =>
+        val index = factory(state)
+        val results = indexQuery(valueExpr, baseContext, state, index, label.name, propertyKeys.map(_.name))
+        results.map {
+          case (node, null) =>
+            baseContext.newWith1(ident, fromNodeProxy(node))
+          case (node, values) =>
+            val context = baseContext.newWith1(ident, fromNodeProxy(node))
+            var i = 0
+            while (i < cachedPropertyKeys.length) {
+              context += cachedPropertyKeys(i) -> values(i)
+              i += 1
+            }
+            context
+        }
+
+      case None =>
+        val index = indexFactory(state)
+        val resultNodes = indexQuery(valueExpr, baseContext, state, index, label.name, propertyKeys.map(_.name))
+        resultNodes.map(node => baseContext.newWith1(ident, fromNodeProxy(node)))
+    }
   }
 
 }
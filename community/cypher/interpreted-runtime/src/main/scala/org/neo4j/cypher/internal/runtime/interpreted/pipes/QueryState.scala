@@ -27,6 +27,7 @@ import org.neo4j.cypher.internal.util.v3_4.ParameterNotFoundException
 import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
 import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.PathValueBuilder
 import org.neo4j.cypher.internal.runtime.interpreted.commands.predicates.{InCheckContainer, SingleThreadedLRUCache}
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.values.AnyValue
 import org.neo4j.values.virtual.MapValue
 
@@ -42,7 +43,8 @@ class QueryState(val query: QueryContext,
                  val triadicState: mutable.Map[String, PrimitiveLongSet] = mutable.Map.empty,
                  val repeatableReads: mutable.Map[Pipe, Seq[ExecutionContext]] = mutable.Map.empty,
                  val cachedIn: SingleThreadedLRUCache[Any, InCheckContainer] =
-                   new SingleThreadedLRUCache(maxSize = 16)) {
+                   new SingleThreadedLRUCache(maxSize = 16),
+                 val memoryTracker: QueryMemoryTracker = QueryMemoryTracker.NONE) {
   private var _pathValueBuilder: PathValueBuilder = _
 
   def createOrGetInitialContext(): ExecutionContext = initialContext.getOrElse(ExecutionContext.empty)
@@ -64,10 +66,10 @@ class QueryState(val query: QueryContext,
   def getStatistics: QueryStatistics = query.getOptStatistics.getOrElse(QueryState.defaultStatistics)
 
   def withDecorator(decorator: PipeDecorator) =
-    new QueryState(query, resources, params, decorator, timeReader, initialContext, queryId, triadicState, repeatableReads, cachedIn)
+    new QueryState(query, resources, params, decorator, timeReader, initialContext, queryId, triadicState, repeatableReads, cachedIn, memoryTracker)
 
   def withInitialContext(initialContext: ExecutionContext) =
-    new QueryState(query, resources, params, decorator, timeReader, Some(initialContext), queryId, triadicState, repeatableReads, cachedIn)
+    new QueryState(query, resources, params, decorator, timeReader, Some(initialContext), queryId, triadicState, repeatableReads, cachedIn, memoryTracker)
 
   /**
     * When running on the RHS of an Apply, this method will fill an execution context with argument data
@@ -78,7 +80,7 @@ class QueryState(val query: QueryContext,
   def copyArgumentStateTo(ctx: ExecutionContext): Unit = initialContext.foreach(initData => initData.copyTo(ctx))
 
   def withQueryContext(query: QueryContext) =
-    new QueryState(query, resources, params, decorator, timeReader, initialContext, queryId, triadicState, repeatableReads, cachedIn)
+    new QueryState(query, resources, params, decorator, timeReader, initialContext, queryId, triadicState, repeatableReads, cachedIn, memoryTracker)
 }
 
 object QueryState {
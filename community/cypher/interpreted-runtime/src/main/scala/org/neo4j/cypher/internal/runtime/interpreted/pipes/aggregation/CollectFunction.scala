@@ -19,7 +19,7 @@
  */
 package org.neo4j.cypher.internal.runtime.interpreted.pipes.aggregation
 
-import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.cypher.internal.runtime.interpreted.{EstimatedValueSize, ExecutionContext}
 import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expression
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.QueryState
 import org.neo4j.values.AnyValue
@@ -34,7 +34,10 @@ class CollectFunction(value:Expression) extends AggregationFunction {
   override def apply(data: ExecutionContext, state:QueryState) {
     value(data, state) match {
       case Values.NO_VALUE =>
-      case v    => collection += v
+      case v    =>
+        // the collected values are part of the result, so they are only released when the query finishes
+        state.memoryTracker.allocated(EstimatedValueSize.REFERENCE + EstimatedValueSize.of(v))
+        collection += v
     }
   }
 
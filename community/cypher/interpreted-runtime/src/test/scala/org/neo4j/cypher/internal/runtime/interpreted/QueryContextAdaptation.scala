@@ -29,6 +29,7 @@ import org.neo4j.cypher.internal.v3_4.logical.plans.QualifiedName
 import org.neo4j.graphdb.{Node, Path, PropertyContainer, Relationship}
 import org.neo4j.kernel.impl.api.store.RelationshipIterator
 import org.neo4j.values.AnyValue
+import org.neo4j.values.storable.Value
 import org.neo4j.values.virtual.{EdgeValue, NodeValue}
 
 trait QueryContextAdaptation {
@@ -88,6 +89,8 @@ trait QueryContextAdaptation {
 
   override def indexSeek(index: IndexDescriptor, value: Seq[Any]): scala.Iterator[Node] = ???
 
+  override def indexSeekWithValues(index: IndexDescriptor, value: Seq[Any]): scala.Iterator[(Node, Array[Value])] = ???
+
   override def getRelationshipsForIds(node: Long, dir: SemanticDirection, types: Option[Array[Int]]): scala.Iterator[Relationship] = ???
 
   override def getRelationshipsForIdsPrimitive(node: Long, dir: SemanticDirection, types: Option[Array[Int]]): RelationshipIterator = ???
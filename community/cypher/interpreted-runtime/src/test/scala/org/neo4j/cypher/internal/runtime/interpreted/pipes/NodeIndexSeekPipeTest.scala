@@ -29,9 +29,10 @@ import org.neo4j.cypher.internal.runtime.interpreted.{ExecutionContext, Implicit
 import org.neo4j.cypher.internal.util.v3_4.test_helpers.{CypherFunSuite, WindowsStringSafe}
 import org.neo4j.cypher.internal.util.v3_4.{CypherTypeException, LabelId, PropertyKeyId}
 import org.neo4j.cypher.internal.v3_4.expressions.{LabelName, LabelToken, PropertyKeyName, PropertyKeyToken}
-import org.neo4j.cypher.internal.v3_4.logical.plans.{CompositeQueryExpression, ManyQueryExpression, SingleQueryExpression}
+import org.neo4j.cypher.internal.v3_4.logical.plans.{CachedNodeProperty, CompositeQueryExpression, ManyQueryExpression, SingleQueryExpression}
 import org.neo4j.graphdb.Node
 import org.neo4j.kernel.impl.util.ValueUtils.fromNodeProxy
+import org.neo4j.values.storable.Value
 import org.neo4j.values.storable.Values.stringValue
 
 class NodeIndexSeekPipeTest extends CypherFunSuite with ImplicitDummyPos {
@@ -251,6 +252,23 @@ class NodeIndexSeekPipeTest extends CypherFunSuite with ImplicitDummyPos {
     result.map(_("n")).toList should equal(List(fromNodeProxy(node)))
   }
 
+  test("should keep property values provided by the index when caching properties") {
+    // given
+    val query = mock[QueryContext]
+    when(query.indexSeekWithValues(any(), ArgumentMatchers.eq(Seq("hello"))))
+      .thenReturn(Iterator((node, Array[Value](stringValue("hello"))), (node2, null)))
+    val queryState = QueryStateHelper.emptyWith(query = query)
+
+    // when
+    val pipe = NodeIndexSeekPipe("n", label, propertyKey, SingleQueryExpression(Literal("hello")), cacheProperties = true)()
+    val result = pipe.createResults(queryState).toList
+
+    // then
+    val cacheKey = CachedNodeProperty.cacheKey("n", "PropertyName")
+    result.map(_("n")) should equal(List(fromNodeProxy(node), fromNodeProxy(node2)))
+    result.map(_.get(cacheKey)) should equal(List(Some(stringValue("hello")), None))
+  }
+
   private def indexFor(values: (Seq[Any], Iterator[Node])*): QueryContext = {
     val query = mock[QueryContext]
     when(query.indexSeek(any(), any())).thenReturn(Iterator.empty)
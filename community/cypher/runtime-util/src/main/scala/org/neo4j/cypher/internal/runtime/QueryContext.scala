@@ -26,6 +26,7 @@ import org.neo4j.cypher.internal.planner.v3_4.spi.{IdempotentResult, IndexDescri
 import org.neo4j.cypher.internal.v3_4.expressions.SemanticDirection
 import org.neo4j.cypher.internal.v3_4.logical.plans.QualifiedName
 import org.neo4j.graphdb.{Node, Path, PropertyContainer, Relationship}
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.kernel.impl.api.store.RelationshipIterator
 import org.neo4j.kernel.impl.factory.DatabaseInfo
 import org.neo4j.values.AnyValue
@@ -99,6 +100,12 @@ trait QueryContext extends TokenContext {
   //TODO this should be `Seq[AnyValue]`
   def indexSeek(index: IndexDescriptor, values: Seq[Any]): Iterator[Node]
 
+  /**
+    * Like indexSeek, but also returns the values of the indexed properties for every node, in the order of the
+    * properties of the index. The array of values is null for nodes where the index could not provide them.
+    */
+  def indexSeekWithValues(index: IndexDescriptor, values: Seq[Any]): Iterator[(Node, Array[Value])]
+
   def indexSeekByRange(index: IndexDescriptor, value: Any): Iterator[Node]
 
   def indexScanByContains(index: IndexDescriptor, value: String): Iterator[Node]
@@ -254,6 +261,23 @@ trait QueryTransactionalContext {
   def kernelStatisticProvider: KernelStatisticProvider
 
   def databaseInfo: DatabaseInfo
+
+  /**
+    * Exclusive upper bound of the node ids handed out so far, used to split the node store into id ranges.
+    */
+  def nodeHighId: Long
+
+  /**
+    * Whether this transaction has uncommitted changes. Those are only visible to this transaction, and not to any
+    * new transaction opened on its behalf.
+    */
+  def hasTxStateWithChanges: Boolean
+
+  /**
+    * Accounts for the memory that the operators of the executing query hold on to, shared by all transactional
+    * contexts of that query.
+    */
+  def memoryTracker: QueryMemoryTracker
 }
 
 trait KernelPredicate[T] {
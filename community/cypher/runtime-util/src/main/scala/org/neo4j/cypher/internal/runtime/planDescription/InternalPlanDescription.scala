@@ -190,6 +190,11 @@ object InternalPlanDescription {
       override def name = "runtime-impl"
     }
 
+    case class RuntimeFallback(value: String) extends Argument {
+
+      override def name = "runtime-fallback"
+    }
+
     case class ExpandExpression(from: String, relName: String, relTypes: Seq[String], to: String,
                                 direction: SemanticDirection, minLength: Int, maxLength: Option[Int]) extends Argument
 
@@ -285,7 +290,10 @@ final case class PlanDescriptionImpl(id: LogicalPlanId,
     val runtime = arguments.collectFirst {
       case Runtime(n) => s"Runtime ${n.toUpperCase}$NL"
     }
-    val prefix = version ++ planner ++ runtime
+    val runtimeFallback = arguments.collectFirst {
+      case RuntimeFallback(reason) => s"Runtime fallback $reason$NL"
+    }
+    val prefix = version ++ planner ++ runtime ++ runtimeFallback
     s"${prefix.mkString("", NL, NL)}${renderAsTreeTable(this)}$NL${renderSummary(this)}$renderSources"
   }
 
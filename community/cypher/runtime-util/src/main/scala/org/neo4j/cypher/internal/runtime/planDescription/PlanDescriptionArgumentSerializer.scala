@@ -68,6 +68,7 @@ object PlanDescriptionArgumentSerializer {
       case SourceCode(className, sourceCode) => sourceCode
       case ByteCode(className, byteCode) => byteCode
       case RuntimeImpl(runtimeName) => runtimeName
+      case RuntimeFallback(reason) => reason
       case ExpandExpression(from, rel, typeNames, to, dir: SemanticDirection, min, max) =>
         val left = if (dir == SemanticDirection.INCOMING) "<-" else "-"
         val right = if (dir == SemanticDirection.OUTGOING) "->" else "-"
@@ -166,6 +166,7 @@ object renderAsTreeTable extends (InternalPlanDescription => String) {
         !x.isInstanceOf[ByteCode] &&
         !x.isInstanceOf[Time] &&
         !x.isInstanceOf[RuntimeImpl] &&
+        !x.isInstanceOf[RuntimeFallback] &&
         !x.isInstanceOf[Version] => PlanDescriptionArgumentSerializer.serialize(x)
     }
   }
@@ -24,6 +24,8 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
+import org.neo4j.values.storable.CoordinateReferenceSystem;
+import org.neo4j.values.storable.PointValue;
 import org.neo4j.values.storable.TextValue;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.ValueGroup;
@@ -87,6 +89,20 @@ public abstract class IndexQuery
         return new StringRangePredicate( propertyKeyId, from, fromInclusive, to, toInclusive );
     }
 
+    /**
+     * Searches the index for points inside the bounding box spanned by {@code from} and {@code to}.
+     * Both corners are inclusive and must be in the same coordinate reference system.
+     *
+     * @param propertyKeyId the property ID to match.
+     * @param from the lower left corner of the bounding box.
+     * @param to the upper right corner of the bounding box.
+     * @return an {@link IndexQuery} instance to be used for querying an index.
+     */
+    public static GeometryRangePredicate range( int propertyKeyId, PointValue from, PointValue to )
+    {
+        return new GeometryRangePredicate( propertyKeyId, from, to );
+    }
+
     /**
      * Searches the index string values starting with {@code prefix}.
      *
@@ -187,6 +203,7 @@ public abstract class IndexQuery
         exact,
         rangeString,
         rangeNumeric,
+        rangeGeometric,
         stringPrefix,
         stringSuffix,
         stringContains
@@ -347,6 +364,76 @@ public abstract class IndexQuery
         }
     }
 
+    public static final class GeometryRangePredicate extends IndexQuery
+    {
+        private final PointValue from;
+        private final PointValue to;
+
+        GeometryRangePredicate( int propertyKeyId, PointValue from, PointValue to )
+        {
+            super( propertyKeyId );
+            if ( from.getCoordinateReferenceSystem() != to.getCoordinateReferenceSystem() )
+            {
+                throw new IllegalArgumentException( "Bounding box corners must be in the same coordinate reference system, got " +
+                                                    from + " and " + to );
+            }
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public IndexQueryType type()
+        {
+            return IndexQueryType.rangeGeometric;
+        }
+
+        @Override
+        public boolean acceptsValue( Value value )
+        {
+            if ( !(value instanceof PointValue) )
+            {
+                return false;
+            }
+            PointValue point = (PointValue) value;
+            if ( point.getCoordinateReferenceSystem() != crs() )
+            {
+                return false;
+            }
+            double[] coordinate = point.coordinates();
+            double[] lower = from.coordinates();
+            double[] upper = to.coordinates();
+            for ( int i = 0; i < coordinate.length; i++ )
+            {
+                if ( coordinate[i] < lower[i] || coordinate[i] > upper[i] )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public ValueGroup valueGroup()
+        {
+            return ValueGroup.GEOMETRY;
+        }
+
+        public CoordinateReferenceSystem crs()
+        {
+            return from.getCoordinateReferenceSystem();
+        }
+
+        public PointValue from()
+        {
+            return from;
+        }
+
+        public PointValue to()
+        {
+            return to;
+        }
+    }
+
     public abstract static class StringPredicate extends IndexQuery
     {
         StringPredicate( int propertyKeyId )
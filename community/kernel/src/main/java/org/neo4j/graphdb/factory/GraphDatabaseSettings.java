@@ -196,10 +196,27 @@ public class GraphDatabaseSettings implements LoadableConfig
     @Internal
     public static final Setting<Boolean> cypher_compiler_tracing = setting( "unsupported.cypher.compiler_tracing", BOOLEAN, FALSE );
 
+    @Description( "Compile predicates to bytecode in the interpreted and slotted runtimes. The parts of a predicate " +
+                  "that the expression compiler does not support are still evaluated by the interpreter." )
+    @Internal
+    public static final Setting<Boolean> cypher_compiled_expressions =
+            setting( "unsupported.cypher.compiled_expressions", BOOLEAN, TRUE );
+
     @Description( "The number of Cypher query execution plans that are cached." )
     public static Setting<Integer> query_cache_size =
             buildSetting( "dbms.query_cache_size", INTEGER, "1000" ).constraint( min( 0 ) ).build();
 
+    @Description( "The number of the most frequently used Cypher queries that are saved with the database, so that " +
+                  "their execution plans can be rebuilt in the background when the database starts. " +
+                  "A value of 0 disables saving and warming up the query cache." )
+    public static Setting<Integer> query_cache_warmup_size =
+            buildSetting( "dbms.query_cache_warmup_size", INTEGER, "0" ).constraint( min( 0 ) ).build();
+
+    @Description( "How often the most frequently used Cypher queries are saved with the database, " +
+                  "when `dbms.query_cache_warmup_size` is greater than 0." )
+    public static Setting<Duration> query_cache_warmup_save_interval =
+            setting( "dbms.query_cache_warmup_save_interval", DURATION, "1m" );
+
     @Description( "The threshold when a plan is considered stale. If any of the underlying" +
                   " statistics used to create the plan has changed more than this value, " +
                   "the plan is considered stale and will be replanned. " +
@@ -230,6 +247,13 @@ public class GraphDatabaseSettings implements LoadableConfig
     @Description( "The minimum lifetime of a query plan before a query is considered for replanning" )
     public static Setting<Duration> cypher_min_replan_interval = setting( "cypher.min_replan_interval", DURATION, "10s" );
 
+    @Description( "Set this to specify whether stale query plans are replanned in the background. If enabled, a query " +
+                  "whose plan is found to be stale keeps executing with that plan while the query is planned again in " +
+                  "the background, and the new plan replaces the stale one in the query cache when it is ready. A query " +
+                  "is replanned in the background at most once per `cypher.min_replan_interval`. If disabled, the " +
+                  "query that finds the plan stale waits for the query to be planned again." )
+    public static Setting<Boolean> cypher_replan_in_background = setting( "cypher.replan_in_background", BOOLEAN, FALSE );
+
     @Description( "Determines if Cypher will allow using file URLs when loading data using `LOAD CSV`. Setting this "
                   + "value to `false` will cause Neo4j to fail `LOAD CSV` clauses that load data from the file system." )
     public static Setting<Boolean> allow_file_urls = setting( "dbms.security.allow_csv_import_from_file_urls", BOOLEAN, TRUE );
@@ -252,6 +276,18 @@ public class GraphDatabaseSettings implements LoadableConfig
     @Description( "Enables or disables tracking of how many bytes are allocated by the execution of a query." )
     public static Setting<Boolean> track_query_allocation = setting( "dbms.track_query_allocation", BOOLEAN, TRUE );
 
+    @Description( "The maximum amount of memory a single query may hold on to for operators such as sorting, " +
+            "aggregation, hash joins and collecting lists. A query that needs more fails. " +
+            "Zero means no limit." )
+    public static final Setting<Long> query_max_memory =
+            buildSetting( "dbms.memory.query.max_size", BYTES, "0" ).constraint( min( 0L ) ).build();
+
+    @Description( "The maximum amount of memory all running queries together may hold on to for operators such as " +
+            "sorting, aggregation, hash joins and collecting lists. A query that would exceed it fails with a " +
+            "transient error. Zero means no limit." )
+    public static final Setting<Long> query_max_global_memory =
+            buildSetting( "dbms.memory.query.global_max_size", BYTES, "0" ).constraint( min( 0L ) ).build();
+
     @Description( "The size of the morsels" )
     @Internal
     public static final Setting<Integer> cypher_morsel_size =
@@ -263,6 +299,12 @@ public class GraphDatabaseSettings implements LoadableConfig
     public static final Setting<Integer> cypher_worker_count =
             setting( "unsupported.cypher.number_of_workers", INTEGER, "0" );
 
+    @Description( "The estimated amount of heap that a single sort, top or aggregation of a query may use to hold rows " +
+            "before it starts spilling them to temporary files." )
+    @Internal
+    public static final Setting<Long> cypher_spill_memory_budget =
+            setting( "unsupported.cypher.spill_memory_budget", BYTES, "256m" );
+
     @Description( "The maximum amount of time to wait for the database to become available, when " +
                   "starting a new transaction." )
     @Internal
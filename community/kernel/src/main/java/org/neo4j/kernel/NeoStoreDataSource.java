@@ -44,6 +44,7 @@ import org.neo4j.kernel.api.explicitindex.AutoIndexing;
 import org.neo4j.kernel.api.index.PropertyAccessor;
 import org.neo4j.kernel.api.index.SchemaIndexProvider;
 import org.neo4j.kernel.api.labelscan.LabelScanStore;
+import org.neo4j.kernel.api.query.QueryMemoryPool;
 import org.neo4j.kernel.configuration.Config;
 import org.neo4j.kernel.extension.dependency.AllByPrioritySelectionStrategy;
 import org.neo4j.kernel.impl.api.CommitProcessFactory;
@@ -84,6 +85,7 @@ import org.neo4j.kernel.impl.locking.ReentrantLockService;
 import org.neo4j.kernel.impl.locking.StatementLocksFactory;
 import org.neo4j.kernel.impl.logging.LogService;
 import org.neo4j.kernel.impl.proc.Procedures;
+import org.neo4j.kernel.impl.query.QueryMemoryReleaser;
 import org.neo4j.kernel.impl.storageengine.impl.recordstorage.RecordStorageEngine;
 import org.neo4j.kernel.impl.storageengine.impl.recordstorage.id.IdController;
 import org.neo4j.kernel.impl.store.MetaDataStore;
@@ -668,6 +670,9 @@ public class NeoStoreDataSource implements Lifecycle, IndexProviders
         {
             heapAllocation = HeapAllocation.HEAP_ALLOCATION;
         }
+        QueryMemoryPool queryMemoryPool = new QueryMemoryPool( config.get( GraphDatabaseSettings.query_max_global_memory ),
+                config.get( GraphDatabaseSettings.query_max_memory ) );
+        life.add( new QueryMemoryReleaser( monitors ) );
 
         TransactionCommitProcess transactionCommitProcess = commitProcessFactory.create( appender, storageEngine,
                 config );
@@ -686,7 +691,8 @@ public class NeoStoreDataSource implements Lifecycle, IndexProviders
 
         StatementOperationParts statementOperationParts = dependencies.satisfyDependency(
                 buildStatementOperations( storeLayer, autoIndexing,
-                        constraintIndexCreator, databaseSchemaState, explicitIndexStore, cpuClock, heapAllocation ) );
+                        constraintIndexCreator, databaseSchemaState, explicitIndexStore, cpuClock, heapAllocation,
+                        queryMemoryPool ) );
 
         TransactionHooks hooks = new TransactionHooks();
         KernelTransactions kernelTransactions = life.add( new KernelTransactions( statementLocksFactory,
@@ -815,7 +821,8 @@ public class NeoStoreDataSource implements Lifecycle, IndexProviders
 
     private StatementOperationParts buildStatementOperations( StoreReadLayer storeReadLayer, AutoIndexing autoIndexing,
             ConstraintIndexCreator constraintIndexCreator, DatabaseSchemaState databaseSchemaState,
-            ExplicitIndexStore explicitIndexStore, CpuClock cpuClock, HeapAllocation heapAllocation )
+            ExplicitIndexStore explicitIndexStore, CpuClock cpuClock, HeapAllocation heapAllocation,
+            QueryMemoryPool queryMemoryPool )
     {
         // The passed in StoreReadLayer is the bottom most layer: Read-access to committed data.
         // To it we add:
@@ -824,7 +831,7 @@ public class NeoStoreDataSource implements Lifecycle, IndexProviders
                 autoIndexing, constraintIndexCreator, explicitIndexStore );
 
         QueryRegistrationOperations queryRegistrationOperations =
-                new StackingQueryRegistrationOperations( clock, cpuClock, heapAllocation );
+                new StackingQueryRegistrationOperations( clock, cpuClock, heapAllocation, queryMemoryPool );
 
         StatementOperationParts parts = new StatementOperationParts( stateHandlingContext, stateHandlingContext,
                 stateHandlingContext, stateHandlingContext, stateHandlingContext, stateHandlingContext,
@@ -58,6 +58,7 @@ import org.neo4j.storageengine.api.PropertyItem;
 import org.neo4j.storageengine.api.RelationshipItem;
 import org.neo4j.storageengine.api.Token;
 import org.neo4j.storageengine.api.lock.ResourceType;
+import org.neo4j.storageengine.api.schema.IndexValueIterator;
 import org.neo4j.storageengine.api.schema.PopulationProgress;
 import org.neo4j.values.storable.Value;
 
@@ -129,6 +130,18 @@ public interface ReadOperations
     PrimitiveLongIterator indexQuery( IndexDescriptor index, IndexQuery... predicates )
             throws IndexNotFoundKernelException, IndexNotApplicableKernelException;
 
+    /**
+     * Queries the given index with the given index query, like {@link #indexQuery(IndexDescriptor, IndexQuery...)},
+     * but also exposes the indexed property values for each matching node when the index is able to provide them.
+     *
+     * @param index the index to query against.
+     * @param predicates array of the {@link IndexQuery} predicates to query for.
+     * @return ids of the matching nodes, optionally with their indexed property values.
+     * @throws org.neo4j.kernel.api.exceptions.index.IndexNotFoundKernelException if no such index is found.
+     */
+    IndexValueIterator indexQueryWithValues( IndexDescriptor index, IndexQuery... predicates )
+            throws IndexNotFoundKernelException, IndexNotApplicableKernelException;
+
     /**
      * @return an iterator over all nodes in the database.
      */
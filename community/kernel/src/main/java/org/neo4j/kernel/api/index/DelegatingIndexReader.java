@@ -65,6 +65,12 @@ public class DelegatingIndexReader implements IndexReader
         return delegate.hasFullNumberPrecision( predicates );
     }
 
+    @Override
+    public boolean isCurrent()
+    {
+        return delegate.isCurrent();
+    }
+
     @Override
     public String toString()
     {
@@ -66,6 +66,16 @@ public interface IndexAccessor extends Closeable
      */
     void force() throws IOException;
 
+    /**
+     * Merges the internal structure of this index into as compact a form as possible, typically requested
+     * by operators during maintenance windows. Indexes without such a notion do nothing.
+     *
+     * @throws IOException if there was a problem compacting the index.
+     */
+    default void compact() throws IOException
+    {
+    }
+
     /**
      * Closes this index accessor. There will not be any interactions after this call.
      * After completion of this call there cannot be any essential state that hasn't been forced to disk.
@@ -194,6 +204,12 @@ public interface IndexAccessor extends Closeable
             delegate.force();
         }
 
+        @Override
+        public void compact() throws IOException
+        {
+            delegate.compact();
+        }
+
         @Override
         public void close() throws IOException
         {
@@ -66,6 +66,7 @@ public class ExecutingQuery
     private final SystemNanoClock clock;
     private final CpuClock cpuClock;
     private final HeapAllocation heapAllocation;
+    private final QueryMemoryTracker memoryTracker;
     private final long cpuTimeNanosWhenQueryStarted;
     private final long heapAllocatedBytesWhenQueryStarted;
     private final Map<String,Object> transactionAnnotationData;
@@ -89,7 +90,8 @@ public class ExecutingQuery
             String threadExecutingTheQueryName,
             SystemNanoClock clock,
             CpuClock cpuClock,
-            HeapAllocation heapAllocation )
+            HeapAllocation heapAllocation,
+            QueryMemoryTracker memoryTracker )
     {
         // Capture timestamps first
         this.cpuTimeNanosWhenQueryStarted = cpuClock.cpuTimeNanos( threadExecutingTheQueryId );
@@ -108,6 +110,7 @@ public class ExecutingQuery
         this.threadExecutingTheQueryName = threadExecutingTheQueryName;
         this.cpuClock = cpuClock;
         this.heapAllocation = heapAllocation;
+        this.memoryTracker = memoryTracker;
         this.clock = clock;
         this.heapAllocatedBytesWhenQueryStarted = heapAllocation.allocatedBytes( this.threadExecutingTheQueryId );
     }
@@ -126,6 +129,11 @@ public class ExecutingQuery
         return lockTracer;
     }
 
+    public QueryMemoryTracker memoryTracker()
+    {
+        return memoryTracker;
+    }
+
     public void waitsForQuery( ExecutingQuery child )
     {
         if ( child == null )
@@ -164,6 +172,7 @@ public class ExecutingQuery
         // just needs to be captured at some point...
         long activeLockCount = this.activeLockCount.getAsLong();
         long heapAllocatedBytes = heapAllocation.allocatedBytes( threadExecutingTheQueryId );
+        long usedMemoryBytes = memoryTracker.usedBytes();
         PageCounterValues pageCounters = new PageCounterValues( pageCursorCounters );
 
         // - at this point we are done capturing the "live" state, and can start computing the snapshot -
@@ -189,7 +198,8 @@ public class ExecutingQuery
                 status.toMap( currentTimeNanos ),
                 waitingOnLocks,
                 activeLockCount,
-                heapAllocatedBytes
+                heapAllocatedBytes,
+                usedMemoryBytes
         );
     }
 
@@ -22,18 +22,30 @@ package org.neo4j.kernel.api.query;
 import java.util.List;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public class PlannerInfo
 {
     private final String planner;
     private final String runtime;
     private final List<IndexUsage> indexes;
+    private final String runtimeFallback;
 
     public PlannerInfo( @Nonnull String planner, @Nonnull String runtime, @Nonnull List<IndexUsage> indexes )
+    {
+        this( planner, runtime, indexes, null );
+    }
+
+    /**
+     * @param runtimeFallback why the preferred runtime could not run the query, or {@code null} if it did.
+     */
+    public PlannerInfo( @Nonnull String planner, @Nonnull String runtime, @Nonnull List<IndexUsage> indexes,
+            @Nullable String runtimeFallback )
     {
         this.planner = planner;
         this.runtime = runtime;
         this.indexes = indexes;
+        this.runtimeFallback = runtimeFallback;
     }
 
     public String planner()
@@ -50,4 +62,9 @@ public class PlannerInfo
     {
         return indexes;
     }
+
+    public String runtimeFallback()
+    {
+        return runtimeFallback;
+    }
 }
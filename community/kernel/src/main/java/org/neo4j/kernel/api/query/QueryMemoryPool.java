@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.query;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.kernel.api.exceptions.Status;
+
+import static java.lang.String.format;
+
+/**
+ * The memory that all running queries of a database hold on to, as reported through their {@link QueryMemoryTracker}s.
+ * Enforces a limit for each query and a limit for all queries together, where a limit of zero means no limit.
+ */
+public class QueryMemoryPool
+{
+    private final long maxBytes;
+    private final long maxBytesPerQuery;
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    public QueryMemoryPool( long maxBytes, long maxBytesPerQuery )
+    {
+        this.maxBytes = maxBytes;
+        this.maxBytesPerQuery = maxBytesPerQuery;
+    }
+
+    public QueryMemoryTracker newTracker()
+    {
+        return new PooledMemoryTracker();
+    }
+
+    public long usedBytes()
+    {
+        return usedBytes.get();
+    }
+
+    private void reserve( long bytes )
+    {
+        long used = usedBytes.addAndGet( bytes );
+        if ( maxBytes > 0 && used > maxBytes )
+        {
+            usedBytes.addAndGet( -bytes );
+            throw new QueryMemoryLimitExceededException( Status.Statement.GlobalMemoryLimitExceeded, format(
+                    "The query needed %d more bytes, but running queries are already using %d of the %d bytes " +
+                    "allowed for all queries.", bytes, used - bytes, maxBytes ) );
+        }
+    }
+
+    private void release( long bytes )
+    {
+        usedBytes.addAndGet( -bytes );
+    }
+
+    private class PooledMemoryTracker implements QueryMemoryTracker
+    {
+        private final AtomicLong usedBytes = new AtomicLong();
+        private final AtomicLong peakBytes = new AtomicLong();
+        private volatile boolean closed;
+
+        @Override
+        public void allocated( long bytes )
+        {
+            if ( closed )
+            {
+                return;
+            }
+            long used = usedBytes.addAndGet( bytes );
+            if ( maxBytesPerQuery > 0 && used > maxBytesPerQuery )
+            {
+                usedBytes.addAndGet( -bytes );
+                throw new QueryMemoryLimitExceededException( Status.Statement.MemoryLimitExceeded, format(
+                        "The query needed %d bytes of memory, which is more than the %d bytes a single query is " +
+                        "allowed to use.", used, maxBytesPerQuery ) );
+            }
+            try
+            {
+                reserve( bytes );
+            }
+            catch ( QueryMemoryLimitExceededException e )
+            {
+                usedBytes.addAndGet( -bytes );
+                throw e;
+            }
+            peakBytes.accumulateAndGet( used, Math::max );
+        }
+
+        @Override
+        public void released( long bytes )
+        {
+            long current;
+            long next;
+            do
+            {
+                current = usedBytes.get();
+                next = Math.max( 0, current - bytes );
+            }
+            while ( !usedBytes.compareAndSet( current, next ) );
+            release( current - next );
+        }
+
+        @Override
+        public long usedBytes()
+        {
+            return usedBytes.get();
+        }
+
+        @Override
+        public long peakBytes()
+        {
+            return peakBytes.get();
+        }
+
+        @Override
+        public void close()
+        {
+            closed = true;
+            release( usedBytes.getAndSet( 0 ) );
+        }
+    }
+}
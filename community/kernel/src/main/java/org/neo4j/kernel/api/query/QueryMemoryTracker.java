@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.query;
+
+/**
+ * Keeps track of the memory that the operators of a single query hold on to, such as hash tables, sort buffers,
+ * aggregation groups and collected lists. The sizes are estimates reported by the query runtime, not measured heap
+ * usage.
+ */
+public interface QueryMemoryTracker
+{
+    /**
+     * A tracker that keeps no account and never fails.
+     */
+    QueryMemoryTracker NONE = new QueryMemoryTracker()
+    {
+        @Override
+        public void allocated( long bytes )
+        {
+        }
+
+        @Override
+        public void released( long bytes )
+        {
+        }
+
+        @Override
+        public long usedBytes()
+        {
+            return 0;
+        }
+
+        @Override
+        public long peakBytes()
+        {
+            return 0;
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    };
+
+    /**
+     * Records that the query holds on to {@code bytes} more memory.
+     *
+     * @param bytes the estimated number of bytes.
+     * @throws QueryMemoryLimitExceededException if the query, or all running queries together, would use more memory
+     * than they are allowed to. The bytes are not recorded in that case.
+     */
+    void allocated( long bytes );
+
+    /**
+     * Records that the query no longer holds on to {@code bytes} of the memory it has allocated.
+     *
+     * @param bytes the estimated number of bytes.
+     */
+    void released( long bytes );
+
+    /**
+     * @return the estimated number of bytes the query holds on to right now.
+     */
+    long usedBytes();
+
+    /**
+     * @return the highest number of bytes the query has held on to at any time.
+     */
+    long peakBytes();
+
+    /**
+     * Releases all memory of the query, once it has finished. Allocations after this are not recorded.
+     */
+    void close();
+}
@@ -41,11 +41,13 @@ public class QuerySnapshot
     private final List<ActiveLock> waitingLocks;
     private final long activeLockCount;
     private final long allocatedBytes;
+    private final long usedMemoryBytes;
     private final PageCounterValues page;
 
     QuerySnapshot( ExecutingQuery query, PlannerInfo plannerInfo, PageCounterValues page, long planningTimeMillis,
             long elapsedTimeMillis, long cpuTimeMillis, long waitTimeMillis, String status,
-            Map<String,Object> resourceInfo, List<ActiveLock> waitingLocks, long activeLockCount, long allocatedBytes )
+            Map<String,Object> resourceInfo, List<ActiveLock> waitingLocks, long activeLockCount, long allocatedBytes,
+            long usedMemoryBytes )
     {
         this.query = query;
         this.plannerInfo = plannerInfo;
@@ -59,6 +61,7 @@ public class QuerySnapshot
         this.waitingLocks = waitingLocks;
         this.activeLockCount = activeLockCount;
         this.allocatedBytes = allocatedBytes;
+        this.usedMemoryBytes = usedMemoryBytes;
     }
 
     public long internalQueryId()
@@ -106,6 +109,11 @@ public class QuerySnapshot
         return plannerInfo == null ? null : plannerInfo.runtime();
     }
 
+    public String runtimeFallback()
+    {
+        return plannerInfo == null ? null : plannerInfo.runtimeFallback();
+    }
+
     public List<Map<String,String>> indexes()
     {
         if ( plannerInfo == null )
@@ -202,6 +210,17 @@ public class QuerySnapshot
         return allocatedBytes < 0 ? null : allocatedBytes;
     }
 
+    /**
+     * The estimated number of bytes the query currently holds on to, such as hash tables, sort buffers and
+     * aggregation groups, as reported to its {@link QueryMemoryTracker}.
+     *
+     * @return the estimated number of bytes used by the query right now.
+     */
+    public long usedMemoryBytes()
+    {
+        return usedMemoryBytes;
+    }
+
     public long pageHits()
     {
         return page.hits;
@@ -20,6 +20,7 @@
 package org.neo4j.kernel.builtinprocs;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.neo4j.graphdb.security.AuthorizationViolationException;
@@ -102,6 +103,36 @@ public class BuiltInDbmsProcedures
         return Stream.of( new StringResult( result ) );
     }
 
+    @Description( "List the text of the cached queries, the most frequently used first. The list can be passed to " +
+                  "`dbms.warmUpQueryCache` to plan the same queries on another instance." )
+    @Procedure( name = "dbms.listCachedQueries", mode = DBMS )
+    public Stream<CachedQueryResult> listCachedQueries()
+    {
+        securityContext.assertCredentialsNotExpired();
+        if ( !securityContext.isAdmin() )
+        {
+            throw new AuthorizationViolationException( PERMISSION_DENIED );
+        }
+
+        QueryExecutionEngine queryExecutionEngine = graph.getDependencyResolver().resolveDependency( QueryExecutionEngine.class );
+        return queryExecutionEngine.cachedQueries().stream().map( CachedQueryResult::new );
+    }
+
+    @Description( "Plans the given queries in the background, so that their plans are cached before they are executed." )
+    @Procedure( name = "dbms.warmUpQueryCache", mode = DBMS )
+    public Stream<StringResult> warmUpQueryCache( @Name( "queries" ) List<String> queries )
+    {
+        securityContext.assertCredentialsNotExpired();
+        if ( !securityContext.isAdmin() )
+        {
+            throw new AuthorizationViolationException( PERMISSION_DENIED );
+        }
+
+        QueryExecutionEngine queryExecutionEngine = graph.getDependencyResolver().resolveDependency( QueryExecutionEngine.class );
+        long numberOfQueries = queryExecutionEngine.warmUpQueryCache( queries );
+        return Stream.of( new StringResult( "Planning " + numberOfQueries + " queries in the background." ) );
+    }
+
     public static class FunctionResult
     {
         public final String name;
@@ -130,6 +161,16 @@ public class BuiltInDbmsProcedures
         }
     }
 
+    public static class CachedQueryResult
+    {
+        public final String query;
+
+        private CachedQueryResult( String query )
+        {
+            this.query = query;
+        }
+    }
+
     public class StringResult
     {
         public final String value;
@@ -210,6 +210,17 @@ public class BuiltInProcedures
         }
     }
 
+    @Description( "Merge the segments of an index, to be used during maintenance windows " +
+                  "(for example: CALL db.compactIndex(\":Person(name)\"))." )
+    @Procedure( name = "db.compactIndex", mode = READ )
+    public void compactIndex( @Name( "index" ) String index ) throws ProcedureException
+    {
+        try ( IndexProcedures indexProcedures = indexProcedures() )
+        {
+            indexProcedures.compactIndex( index );
+        }
+    }
+
     @Description( "Schedule resampling of all outdated indexes." )
     @Procedure( name = "db.resampleOutdatedIndexes", mode = READ )
     public void resampleOutdatedIndexes()
@@ -19,6 +19,7 @@
  */
 package org.neo4j.kernel.builtinprocs;
 
+import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -74,6 +75,25 @@ public class IndexProcedures implements AutoCloseable
         }
     }
 
+    public void compactIndex( String indexSpecification ) throws ProcedureException
+    {
+        IndexSpecifier index = parse( indexSpecification );
+        int labelId = getLabelId( index.label() );
+        int[] propertyKeyIds = getPropertyIds( index.properties() );
+        try
+        {
+            indexingService.getIndexProxy( getIndex( labelId, propertyKeyIds, index ).schema() ).compact();
+        }
+        catch ( IndexNotFoundKernelException e )
+        {
+            throw new ProcedureException( e.status(), e.getMessage(), e );
+        }
+        catch ( IOException e )
+        {
+            throw new ProcedureException( Status.General.UnknownError, e, "Unable to compact index %s", index );
+        }
+    }
+
     public void resampleOutdatedIndexes()
     {
         indexingService.triggerIndexSampling( IndexSamplingMode.TRIGGER_REBUILD_UPDATED );
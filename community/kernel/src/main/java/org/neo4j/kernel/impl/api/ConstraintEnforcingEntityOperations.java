@@ -76,6 +76,7 @@ import org.neo4j.storageengine.api.Direction;
 import org.neo4j.storageengine.api.NodeItem;
 import org.neo4j.storageengine.api.PropertyItem;
 import org.neo4j.storageengine.api.RelationshipItem;
+import org.neo4j.storageengine.api.schema.IndexValueIterator;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
@@ -364,6 +365,14 @@ public class ConstraintEnforcingEntityOperations implements EntityOperations, Sc
         return entityReadOperations.indexQuery( statement, index, predicates );
     }
 
+    @Override
+    public IndexValueIterator indexQueryWithValues( KernelStatement statement, IndexDescriptor index,
+            IndexQuery[] predicates )
+            throws IndexNotFoundKernelException, IndexNotApplicableKernelException
+    {
+        return entityReadOperations.indexQueryWithValues( statement, index, predicates );
+    }
+
     @Override
     public long nodeGetFromUniqueIndexSeek(
             KernelStatement state,
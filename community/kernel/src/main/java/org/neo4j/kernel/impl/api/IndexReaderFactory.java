@@ -20,6 +20,7 @@
 package org.neo4j.kernel.impl.api;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 import org.neo4j.kernel.api.exceptions.index.IndexNotFoundKernelException;
@@ -27,6 +28,7 @@ import org.neo4j.kernel.api.schema.index.IndexDescriptor;
 import org.neo4j.kernel.impl.api.index.IndexProxy;
 import org.neo4j.kernel.impl.api.index.IndexingService;
 import org.neo4j.storageengine.api.schema.IndexReader;
+import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
 
 public interface IndexReaderFactory
 {
@@ -34,16 +36,41 @@ public interface IndexReaderFactory
 
     IndexReader newUnCachedReader( IndexDescriptor descriptor ) throws IndexNotFoundKernelException;
 
+    /**
+     * Called when the statement owning this factory is released at the end of a transaction, while the factory
+     * itself may be used again by a later transaction. Defaults to {@link #close()}.
+     */
+    default void release()
+    {
+        close();
+    }
+
     void close();
 
+    /**
+     * Caches one reader per index for the duration of a transaction. Readers which are still
+     * {@link IndexReader#isCurrent() current} when the transaction is released are kept and handed out to the
+     * next transaction using this factory, instead of acquiring new index searchers for every transaction.
+     */
     class Caching implements IndexReaderFactory
     {
+        private static final boolean REUSE_READERS =
+                FeatureToggles.flag( IndexReaderFactory.class, "reuse_readers", true );
+
         private Map<IndexDescriptor,IndexReader> indexReaders;
+        private Map<IndexDescriptor,IndexReader> releasedReaders;
         private final IndexingService indexingService;
+        private final boolean reuseReaders;
 
         public Caching( IndexingService indexingService )
+        {
+            this( indexingService, REUSE_READERS );
+        }
+
+        Caching( IndexingService indexingService, boolean reuseReaders )
         {
             this.indexingService = indexingService;
+            this.reuseReaders = reuseReaders;
         }
 
         @Override
@@ -57,7 +84,11 @@ public interface IndexReaderFactory
             IndexReader reader = indexReaders.get( descriptor );
             if ( reader == null )
             {
-                reader = newUnCachedReader( descriptor );
+                reader = releasedReader( descriptor );
+                if ( reader == null )
+                {
+                    reader = newUnCachedReader( descriptor );
+                }
                 indexReaders.put( descriptor, reader );
             }
             return reader;
@@ -70,16 +101,71 @@ public interface IndexReaderFactory
             return index.newReader();
         }
 
+        @Override
+        public void release()
+        {
+            if ( !reuseReaders )
+            {
+                close();
+                return;
+            }
+            if ( releasedReaders != null )
+            {
+                closeStale( releasedReaders );
+            }
+            if ( indexReaders != null && !indexReaders.isEmpty() )
+            {
+                closeStale( indexReaders );
+                if ( releasedReaders == null )
+                {
+                    releasedReaders = new HashMap<>();
+                }
+                releasedReaders.putAll( indexReaders );
+                indexReaders.clear();
+            }
+        }
+
         @Override
         public void close()
         {
-            if ( indexReaders != null )
+            closeAll( indexReaders );
+            closeAll( releasedReaders );
+        }
+
+        private IndexReader releasedReader( IndexDescriptor descriptor )
+        {
+            IndexReader reader = releasedReaders == null ? null : releasedReaders.remove( descriptor );
+            if ( reader != null && !reader.isCurrent() )
             {
-                for ( IndexReader indexReader : indexReaders.values() )
+                reader.close();
+                return null;
+            }
+            return reader;
+        }
+
+        private static void closeStale( Map<IndexDescriptor,IndexReader> readers )
+        {
+            Iterator<IndexReader> iterator = readers.values().iterator();
+            while ( iterator.hasNext() )
+            {
+                IndexReader reader = iterator.next();
+                if ( !reader.isCurrent() )
+                {
+                    reader.close();
+                    iterator.remove();
+                }
+            }
+        }
+
+        private static void closeAll( Map<IndexDescriptor,IndexReader> readers )
+        {
+            if ( readers != null )
+            {
+                for ( IndexReader indexReader : readers.values() )
                 {
                     indexReader.close();
                 }
-                indexReaders.clear();
+                readers.clear();
             }
         }
     }
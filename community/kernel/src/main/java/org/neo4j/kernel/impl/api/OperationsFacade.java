@@ -109,6 +109,7 @@ import org.neo4j.storageengine.api.PropertyItem;
 import org.neo4j.storageengine.api.RelationshipItem;
 import org.neo4j.storageengine.api.Token;
 import org.neo4j.storageengine.api.lock.ResourceType;
+import org.neo4j.storageengine.api.schema.IndexValueIterator;
 import org.neo4j.storageengine.api.schema.PopulationProgress;
 import org.neo4j.storageengine.api.schema.SchemaRule;
 import org.neo4j.values.storable.Value;
@@ -232,6 +233,14 @@ public class OperationsFacade
         return dataRead().indexQuery( statement, index, predicates );
     }
 
+    @Override
+    public IndexValueIterator indexQueryWithValues( IndexDescriptor index, IndexQuery... predicates )
+            throws IndexNotFoundKernelException, IndexNotApplicableKernelException
+    {
+        statement.assertOpen();
+        return dataRead().indexQueryWithValues( statement, index, predicates );
+    }
+
     @Override
     public long nodeGetFromUniqueIndexSeek( IndexDescriptor index, IndexQuery.ExactPredicate... predicates )
             throws IndexNotFoundKernelException, IndexBrokenKernelException, IndexNotApplicableKernelException
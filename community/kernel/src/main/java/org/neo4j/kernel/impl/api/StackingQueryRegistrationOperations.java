@@ -22,6 +22,7 @@ package org.neo4j.kernel.impl.api;
 import java.util.stream.Stream;
 
 import org.neo4j.kernel.api.query.ExecutingQuery;
+import org.neo4j.kernel.api.query.QueryMemoryPool;
 import org.neo4j.kernel.impl.api.operations.QueryRegistrationOperations;
 import org.neo4j.kernel.impl.query.clientconnection.ClientConnectionInfo;
 import org.neo4j.kernel.impl.util.MonotonicCounter;
@@ -36,15 +37,18 @@ public class StackingQueryRegistrationOperations implements QueryRegistrationOpe
     private final SystemNanoClock clock;
     private final CpuClock cpuClock;
     private final HeapAllocation heapAllocation;
+    private final QueryMemoryPool memoryPool;
 
     public StackingQueryRegistrationOperations(
             SystemNanoClock clock,
             CpuClock cpuClock,
-            HeapAllocation heapAllocation )
+            HeapAllocation heapAllocation,
+            QueryMemoryPool memoryPool )
     {
         this.clock = clock;
         this.cpuClock = cpuClock;
         this.heapAllocation = heapAllocation;
+        this.memoryPool = memoryPool;
     }
 
     @Override
@@ -75,7 +79,8 @@ public class StackingQueryRegistrationOperations implements QueryRegistrationOpe
                 new ExecutingQuery( queryId, clientConnection, statement.username(), queryText, queryParameters,
                         statement.getTransaction().getMetaData(), () -> statement.locks().activeLockCount(),
                         statement.getPageCursorTracer(),
-                        threadId, threadName, clock, cpuClock, heapAllocation );
+                        threadId, threadName, clock, cpuClock, heapAllocation,
+                        memoryPool.newTracker() );
         registerExecutingQuery( statement, executingQuery );
         return executingQuery;
     }
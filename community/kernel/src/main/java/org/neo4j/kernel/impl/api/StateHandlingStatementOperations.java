@@ -59,6 +59,7 @@ import org.neo4j.kernel.api.explicitindex.AutoIndexing;
 import org.neo4j.kernel.api.index.InternalIndexState;
 import org.neo4j.kernel.api.index.SchemaIndexProvider;
 import org.neo4j.kernel.api.properties.PropertyKeyIdIterator;
+import org.neo4j.internal.kernel.api.IndexOrder;
 import org.neo4j.internal.kernel.api.IndexQuery;
 import org.neo4j.kernel.api.schema.LabelSchemaDescriptor;
 import org.neo4j.kernel.api.schema.RelationTypeSchemaDescriptor;
@@ -88,6 +89,7 @@ import org.neo4j.kernel.impl.api.state.IndexTxStateUpdater;
 import org.neo4j.kernel.impl.api.store.RelationshipIterator;
 import org.neo4j.kernel.impl.index.ExplicitIndexStore;
 import org.neo4j.kernel.impl.index.IndexEntityType;
+import org.neo4j.kernel.impl.index.schema.NodeValueIterator;
 import org.neo4j.register.Register.DoubleLongRegister;
 import org.neo4j.storageengine.api.Direction;
 import org.neo4j.storageengine.api.EntityType;
@@ -99,15 +101,18 @@ import org.neo4j.storageengine.api.StorageStatement;
 import org.neo4j.storageengine.api.StoreReadLayer;
 import org.neo4j.storageengine.api.Token;
 import org.neo4j.storageengine.api.schema.IndexReader;
+import org.neo4j.storageengine.api.schema.IndexValueIterator;
 import org.neo4j.storageengine.api.schema.PopulationProgress;
 import org.neo4j.storageengine.api.txstate.NodeState;
 import org.neo4j.storageengine.api.txstate.ReadableDiffSets;
+import org.neo4j.values.storable.PointValue;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.ValueTuple;
 import org.neo4j.values.storable.Values;
 
 import static java.lang.String.format;
 import static org.neo4j.collection.primitive.PrimitiveIntCollections.filter;
+import static org.neo4j.collection.primitive.PrimitiveLongCollections.emptyIterator;
 import static org.neo4j.collection.primitive.PrimitiveLongCollections.resourceIterator;
 import static org.neo4j.collection.primitive.PrimitiveLongCollections.single;
 import static org.neo4j.function.Predicates.any;
@@ -829,6 +834,14 @@ public class StateHandlingStatementOperations implements
             KernelStatement state, IndexDescriptor index, IndexQuery.ExactPredicate... query )
             throws IndexNotFoundKernelException, IndexBrokenKernelException, IndexNotApplicableKernelException
     {
+        ValueTuple values = IndexQuery.asValueTuple( query );
+        if ( storeLayer.indexEntryDefinitelyAbsent( index, exactValues( query ) ) )
+        {
+            // The uniqueness filter of the index rules out any committed entry, only the tx state can have one
+            PrimitiveLongIterator changes = filterIndexStateChangesForSeek( state, emptyIterator(), index, values );
+            return single( changes, NO_SUCH_NODE );
+        }
+
         IndexReader reader = state.getStoreStatement().getFreshIndexReader( index );
 
         /* Here we have an intricate scenario where we need to return the PrimitiveLongIterator
@@ -839,11 +852,20 @@ public class StateHandlingStatementOperations implements
         PrimitiveLongResourceIterator committed = resourceIterator( reader.query( query ), reader );
         PrimitiveLongIterator exactMatches = reader.hasFullNumberPrecision( query )
                 ? committed : LookupFilter.exactIndexMatches( this, state, committed, query );
-        PrimitiveLongIterator changesFiltered =
-                filterIndexStateChangesForSeek( state, exactMatches, index, IndexQuery.asValueTuple( query ) );
+        PrimitiveLongIterator changesFiltered = filterIndexStateChangesForSeek( state, exactMatches, index, values );
         return single( resourceIterator( changesFiltered, committed ), NO_SUCH_NODE );
     }
 
+    private static Value[] exactValues( IndexQuery.ExactPredicate[] query )
+    {
+        Value[] values = new Value[query.length];
+        for ( int i = 0; i < query.length; i++ )
+        {
+            values[i] = query[i].value();
+        }
+        return values;
+    }
+
     @Override
     public PrimitiveLongIterator indexQuery( KernelStatement state, IndexDescriptor index, IndexQuery... predicates )
             throws IndexNotFoundKernelException, IndexNotApplicableKernelException
@@ -873,6 +895,12 @@ public class StateHandlingStatementOperations implements
             return filterIndexStateChangesForRangeSeekByNumber( state, index, numPred.from(),
                     numPred.fromInclusive(), numPred.to(), numPred.toInclusive(), exactMatches );
         }
+        case rangeGeometric:
+        {
+            assertSinglePredicate( predicates );
+            IndexQuery.GeometryRangePredicate geoPred = (IndexQuery.GeometryRangePredicate) firstPredicate;
+            return filterIndexStateChangesForRangeSeekByGeometry( state, index, geoPred.from(), geoPred.to(), committed );
+        }
         case rangeString:
         {
             assertSinglePredicate( predicates );
@@ -892,6 +920,22 @@ public class StateHandlingStatementOperations implements
         }
     }
 
+    @Override
+    public IndexValueIterator indexQueryWithValues( KernelStatement state, IndexDescriptor index,
+            IndexQuery... predicates ) throws IndexNotFoundKernelException, IndexNotApplicableKernelException
+    {
+        IndexReader reader = state.getStoreStatement().getIndexReader( index );
+        if ( state.hasTxStateWithChanges() || !reader.hasFullNumberPrecision( predicates ) )
+        {
+            // Committed index values can't be trusted for nodes changed in this transaction,
+            // and imprecise indexes need their results double-checked against the store anyway.
+            return IndexValueIterator.withoutValues( indexQuery( state, index, predicates ) );
+        }
+        NodeValueIterator nodeValues = new NodeValueIterator();
+        reader.query( nodeValues, IndexOrder.NONE, predicates );
+        return nodeValues;
+    }
+
     private IndexQuery.ExactPredicate[] assertOnlyExactPredicates( IndexQuery[] predicates )
     {
         IndexQuery.ExactPredicate[] exactPredicates;
@@ -1006,6 +1050,21 @@ public class StateHandlingStatementOperations implements
 
     }
 
+    private PrimitiveLongIterator filterIndexStateChangesForRangeSeekByGeometry( KernelStatement state,
+            IndexDescriptor index, PointValue lower, PointValue upper, PrimitiveLongIterator nodeIds )
+    {
+        if ( state.hasTxStateWithChanges() )
+        {
+            ReadableDiffSets<Long> labelPropertyChangesForGeometry =
+                    state.txState().indexUpdatesForRangeSeekByGeometry( index, lower, upper );
+            ReadableDiffSets<Long> nodes = state.txState().addedAndRemovedNodes();
+
+            // Apply to actual index lookup
+            return nodes.augmentWithRemovals( labelPropertyChangesForGeometry.augment( nodeIds ) );
+        }
+        return nodeIds;
+    }
+
     private PrimitiveLongIterator filterIndexStateChangesForRangeSeekByPrefix( KernelStatement state,
             IndexDescriptor index,
             String prefix,
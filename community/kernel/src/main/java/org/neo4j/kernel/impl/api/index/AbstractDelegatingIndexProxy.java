@@ -97,6 +97,12 @@ public abstract class AbstractDelegatingIndexProxy implements IndexProxy
         getDelegate().force();
     }
 
+    @Override
+    public void compact() throws IOException
+    {
+        getDelegate().compact();
+    }
+
     @Override
     public Future<Void> close() throws IOException
     {
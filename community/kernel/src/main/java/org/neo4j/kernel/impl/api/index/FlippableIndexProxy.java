@@ -141,6 +141,20 @@ public class FlippableIndexProxy implements IndexProxy
         }
     }
 
+    @Override
+    public void compact() throws IOException
+    {
+        lock.readLock().lock();
+        try
+        {
+            delegate.compact();
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
     /**
      * Acquire the {@code ReadLock} in an <i>unfair</i> way, without waiting for queued up writers.
      * <p/>
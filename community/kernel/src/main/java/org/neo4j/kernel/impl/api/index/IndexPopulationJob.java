@@ -126,6 +126,7 @@ public class IndexPopulationJob implements Runnable
     private void indexAllNodes() throws IndexPopulationFailedKernelException
     {
         storeScan = multiPopulator.indexAllNodes();
+        storeScan.setPartitionListener( monitor::indexPopulationScanPartitionComplete );
         storeScan.run();
     }
 
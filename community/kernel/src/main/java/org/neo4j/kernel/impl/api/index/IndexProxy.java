@@ -99,6 +99,14 @@ public interface IndexProxy extends LabelSchemaSupplier
 
     void force() throws IOException;
 
+    /**
+     * Compacts the underlying index, see {@link org.neo4j.kernel.api.index.IndexAccessor#compact()}.
+     * Does nothing for indexes that are not online.
+     */
+    default void compact() throws IOException
+    {
+    }
+
     /**
      * @throws IndexNotFoundKernelException if the index isn't online yet.
      */
@@ -28,6 +28,7 @@ import org.neo4j.kernel.api.index.IndexPopulator;
 import org.neo4j.kernel.api.index.SchemaIndexProvider;
 import org.neo4j.kernel.api.schema.index.IndexDescriptor;
 import org.neo4j.kernel.impl.api.index.sampling.IndexSamplingConfig;
+import org.neo4j.kernel.impl.api.index.sampling.IndexUpdateSketches;
 import org.neo4j.logging.LogProvider;
 
 import static java.lang.String.format;
@@ -39,18 +40,24 @@ class IndexProxyCreator
 {
     private final IndexSamplingConfig samplingConfig;
     private final IndexStoreView storeView;
+    private final IndexUpdateSketches sketches;
+    private final UniquenessFilters uniquenessFilters;
     private final SchemaIndexProviderMap providerMap;
     private final TokenNameLookup tokenNameLookup;
     private final LogProvider logProvider;
 
     IndexProxyCreator( IndexSamplingConfig samplingConfig,
             IndexStoreView storeView,
+            IndexUpdateSketches sketches,
+            UniquenessFilters uniquenessFilters,
             SchemaIndexProviderMap providerMap,
             TokenNameLookup tokenNameLookup,
             LogProvider logProvider )
     {
         this.samplingConfig = samplingConfig;
         this.storeView = storeView;
+        this.sketches = sketches;
+        this.uniquenessFilters = uniquenessFilters;
         this.providerMap = providerMap;
         this.tokenNameLookup = tokenNameLookup;
         this.logProvider = logProvider;
@@ -93,7 +100,10 @@ class IndexProxyCreator
                             indexMeta,
                             onlineAccessorFromProvider( providerDescriptor, ruleId, descriptor, samplingConfig ),
                             storeView,
+                            sketches,
+                            uniquenessFilters,
                             true );
+            uniquenessFilters.rebuild( ruleId, descriptor );
             if ( flipToTentative )
             {
                 return new TentativeConstraintIndexProxy( flipper, onlineProxy );
@@ -123,7 +133,8 @@ class IndexProxyCreator
                     onlineAccessorFromProvider( providerDescriptor, ruleId, descriptor, samplingConfig );
             IndexMeta indexMeta = indexMetaFromProvider( providerDescriptor, descriptor );
             IndexProxy proxy;
-            proxy = new OnlineIndexProxy( ruleId, indexMeta, onlineAccessor, storeView, false );
+            proxy = new OnlineIndexProxy( ruleId, indexMeta, onlineAccessor, storeView, sketches, uniquenessFilters,
+                    false );
             proxy = new ContractCheckingIndexProxy( proxy, true );
             return proxy;
         }
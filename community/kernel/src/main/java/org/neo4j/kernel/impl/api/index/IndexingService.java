@@ -60,6 +60,8 @@ import org.neo4j.logging.LogProvider;
 import org.neo4j.register.Register.DoubleLongRegister;
 import org.neo4j.register.Registers;
 import org.neo4j.scheduler.JobScheduler;
+import org.neo4j.storageengine.api.schema.PopulationProgress;
+import org.neo4j.values.storable.Value;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MINUTES;
@@ -86,6 +88,7 @@ import static org.neo4j.kernel.impl.api.index.IndexPopulationFailure.failure;
 public class IndexingService extends LifecycleAdapter implements IndexingUpdateService
 {
     private final IndexSamplingController samplingController;
+    private final UniquenessFilters uniquenessFilters;
     private final IndexProxyCreator indexProxyCreator;
     private final IndexStoreView storeView;
     private final SchemaIndexProviderMap providerMap;
@@ -113,6 +116,8 @@ public class IndexingService extends LifecycleAdapter implements IndexingUpdateS
 
         void indexPopulationScanComplete();
 
+        void indexPopulationScanPartitionComplete( int partition, int partitions, PopulationProgress progress );
+
         void awaitingPopulationOfRecoveredIndex( long indexId, IndexDescriptor descriptor );
     }
 
@@ -128,6 +133,11 @@ public class IndexingService extends LifecycleAdapter implements IndexingUpdateS
         {   // Do nothing
         }
 
+        @Override
+        public void indexPopulationScanPartitionComplete( int partition, int partitions, PopulationProgress progress )
+        {   // Do nothing
+        }
+
         @Override
         public void awaitingPopulationOfRecoveredIndex( long indexId, IndexDescriptor descriptor )
         {   // Do nothing
@@ -144,6 +154,7 @@ public class IndexingService extends LifecycleAdapter implements IndexingUpdateS
             IndexStoreView storeView,
             Iterable<IndexRule> indexRules,
             IndexSamplingController samplingController,
+            UniquenessFilters uniquenessFilters,
             TokenNameLookup tokenNameLookup,
             JobScheduler scheduler,
             SchemaState schemaState,
@@ -157,6 +168,7 @@ public class IndexingService extends LifecycleAdapter implements IndexingUpdateS
         this.storeView = storeView;
         this.indexRules = indexRules;
         this.samplingController = samplingController;
+        this.uniquenessFilters = uniquenessFilters;
         this.tokenNameLookup = tokenNameLookup;
         this.schemaState = schemaState;
         this.multiPopulatorFactory = multiPopulatorFactory;
@@ -235,7 +247,8 @@ public class IndexingService extends LifecycleAdapter implements IndexingUpdateS
                 switch ( state )
                 {
                 case ONLINE:
-                    // Don't do anything, index is ok.
+                    // Index is ok, only its in-memory uniqueness filter needs to be built
+                    uniquenessFilters.rebuild( indexId, descriptor );
                     break;
                 case POPULATING:
                     // Remember for rebuilding
@@ -412,7 +425,7 @@ public class IndexingService extends LifecycleAdapter implements IndexingUpdateS
     {
         try ( IndexUpdaterMap updaterMap = indexMapRef.createIndexUpdaterMap( updateMode ) )
         {
-            for ( IndexEntryUpdate<LabelSchemaDescriptor> indexUpdate : updates )
+            for ( IndexEntryUpdate<LabelSchemaDescriptor> indexUpdate : new SortedIndexUpdates( updates ) )
             {
                 processUpdate( updaterMap, indexUpdate );
             }
@@ -582,6 +595,32 @@ public class IndexingService extends LifecycleAdapter implements IndexingUpdateS
         }
     }
 
+    /**
+     * @param descriptor descriptor of a unique index.
+     * @param values value tuple to look for.
+     * @return {@code true} if the given index definitely has no entry for the given values, which means that
+     * uniqueness checks need not seek the index, or {@code false} if it may have one.
+     */
+    public boolean indexEntryDefinitelyAbsent( IndexDescriptor descriptor, Value[] values )
+    {
+        try
+        {
+            return uniquenessFilters.definitelyAbsent( indexMapRef.getIndexId( descriptor.schema() ), values );
+        }
+        catch ( IndexNotFoundKernelException e )
+        {
+            return false;
+        }
+    }
+
+    /**
+     * @return the highest estimated false positive rate among the uniqueness filters of all unique indexes.
+     */
+    public double uniquenessFilterFalsePositiveRate()
+    {
+        return uniquenessFilters.maximumFalsePositiveRate();
+    }
+
     public IndexProxy getIndexProxy( long indexId ) throws IndexNotFoundKernelException
     {
         return indexMapRef.getIndexProxy( indexId );
@@ -26,6 +26,7 @@ import org.neo4j.kernel.impl.api.SchemaState;
 import org.neo4j.kernel.impl.api.index.sampling.IndexSamplingConfig;
 import org.neo4j.kernel.impl.api.index.sampling.IndexSamplingController;
 import org.neo4j.kernel.impl.api.index.sampling.IndexSamplingControllerFactory;
+import org.neo4j.kernel.impl.api.index.sampling.IndexUpdateSketches;
 import org.neo4j.kernel.impl.store.record.IndexRule;
 import org.neo4j.logging.LogProvider;
 import org.neo4j.scheduler.JobScheduler;
@@ -59,14 +60,16 @@ public class IndexingServiceFactory
         IndexSamplingConfig samplingConfig = new IndexSamplingConfig( config );
         MultiPopulatorFactory multiPopulatorFactory = MultiPopulatorFactory.forConfig( config );
         IndexMapReference indexMapRef = new IndexMapReference();
-        IndexSamplingControllerFactory factory =
-                new IndexSamplingControllerFactory( samplingConfig, storeView, scheduler, tokenNameLookup, logProvider );
+        IndexUpdateSketches sketches = new IndexUpdateSketches();
+        IndexSamplingControllerFactory factory = new IndexSamplingControllerFactory( samplingConfig, storeView,
+                sketches, scheduler, tokenNameLookup, logProvider );
         IndexSamplingController indexSamplingController = factory.create( indexMapRef );
-        IndexProxyCreator proxySetup =
-                new IndexProxyCreator( samplingConfig, storeView, providerMap, tokenNameLookup, logProvider );
+        UniquenessFilters uniquenessFilters = new UniquenessFilters( storeView, scheduler, logProvider );
+        IndexProxyCreator proxySetup = new IndexProxyCreator( samplingConfig, storeView, sketches, uniquenessFilters,
+                providerMap, tokenNameLookup, logProvider );
 
         return new IndexingService( proxySetup, providerMap, indexMapRef, storeView, indexRules,
-                indexSamplingController, tokenNameLookup, scheduler, schemaState,
+                indexSamplingController, uniquenessFilters, tokenNameLookup, scheduler, schemaState,
                 multiPopulatorFactory, logProvider, monitor );
     }
 }
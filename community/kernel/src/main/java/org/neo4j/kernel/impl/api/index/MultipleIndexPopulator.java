@@ -597,5 +597,11 @@ public class MultipleIndexPopulator implements IndexPopulator
         {
             return delegate.getProgress();
         }
+
+        @Override
+        public void setPartitionListener( PartitionListener listener )
+        {
+            delegate.setPartitionListener( listener );
+        }
     }
 }
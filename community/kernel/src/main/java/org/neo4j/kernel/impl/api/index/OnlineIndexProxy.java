@@ -34,6 +34,7 @@ import org.neo4j.kernel.api.index.PropertyAccessor;
 import org.neo4j.kernel.api.index.SchemaIndexProvider;
 import org.neo4j.kernel.api.schema.LabelSchemaDescriptor;
 import org.neo4j.kernel.api.schema.index.IndexDescriptor;
+import org.neo4j.kernel.impl.api.index.sampling.IndexUpdateSketches;
 import org.neo4j.kernel.impl.api.index.updater.UpdateCountingIndexUpdater;
 import org.neo4j.storageengine.api.schema.IndexReader;
 import org.neo4j.storageengine.api.schema.PopulationProgress;
@@ -47,6 +48,8 @@ public class OnlineIndexProxy implements IndexProxy
     final IndexAccessor accessor;
     private final IndexStoreView storeView;
     private final IndexCountsRemover indexCountsRemover;
+    private final IndexUpdateSketches sketches;
+    private final UniquenessFilters uniquenessFilters;
     private boolean started;
 
     // About this flag: there are two online "modes", you might say...
@@ -79,12 +82,26 @@ public class OnlineIndexProxy implements IndexProxy
             IndexMeta indexMeta,
             IndexAccessor accessor,
             IndexStoreView storeView,
+            IndexUpdateSketches sketches,
+            boolean forcedIdempotentMode )
+    {
+        this( indexId, indexMeta, accessor, storeView, sketches, null, forcedIdempotentMode );
+    }
+
+    OnlineIndexProxy( long indexId,
+            IndexMeta indexMeta,
+            IndexAccessor accessor,
+            IndexStoreView storeView,
+            IndexUpdateSketches sketches,
+            UniquenessFilters uniquenessFilters,
             boolean forcedIdempotentMode )
     {
         this.indexId = indexId;
         this.indexMeta = indexMeta;
         this.accessor = accessor;
         this.storeView = storeView;
+        this.sketches = sketches;
+        this.uniquenessFilters = uniquenessFilters;
         this.forcedIdempotentMode = forcedIdempotentMode;
         this.indexCountsRemover = new IndexCountsRemover( storeView, indexId );
     }
@@ -92,6 +109,7 @@ public class OnlineIndexProxy implements IndexProxy
     @Override
     public void start()
     {
+        sketches.reset( indexId );
         started = true;
     }
 
@@ -99,18 +117,24 @@ public class OnlineIndexProxy implements IndexProxy
     public IndexUpdater newUpdater( final IndexUpdateMode mode )
     {
         IndexUpdater actual = accessor.newUpdater( forcedIdempotentMode ? IndexUpdateMode.RECOVERY : mode );
+        if ( uniquenessFilters != null )
+        {
+            actual = uniquenessFilters.updater( indexId, indexMeta.indexDescriptor(), actual );
+        }
         return started ? updateCountingUpdater( actual ) : actual;
     }
 
     private IndexUpdater updateCountingUpdater( final IndexUpdater indexUpdater )
     {
-        return new UpdateCountingIndexUpdater( storeView, indexId, indexUpdater );
+        return new UpdateCountingIndexUpdater( storeView, indexId, indexUpdater, sketches.sketch( indexId ) );
     }
 
     @Override
     public Future<Void> drop() throws IOException
     {
         indexCountsRemover.remove();
+        sketches.remove( indexId );
+        removeUniquenessFilter();
         accessor.drop();
         return VOID;
     }
@@ -151,13 +175,28 @@ public class OnlineIndexProxy implements IndexProxy
         accessor.force();
     }
 
+    @Override
+    public void compact() throws IOException
+    {
+        accessor.compact();
+    }
+
     @Override
     public Future<Void> close() throws IOException
     {
+        removeUniquenessFilter();
         accessor.close();
         return VOID;
     }
 
+    private void removeUniquenessFilter()
+    {
+        if ( uniquenessFilters != null )
+        {
+            uniquenessFilters.remove( indexId );
+        }
+    }
+
     @Override
     public IndexReader newReader()
     {
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.api.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.neo4j.collection.primitive.Primitive;
+import org.neo4j.collection.primitive.PrimitiveLongSet;
+import org.neo4j.helpers.collection.NestingIterator;
+import org.neo4j.kernel.api.index.IndexEntryUpdate;
+import org.neo4j.kernel.api.schema.LabelSchemaDescriptor;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.ValueTuple;
+import org.neo4j.values.storable.Values;
+
+/**
+ * Groups the index updates of a whole batch of transactions per index, so that every index updater gets all its
+ * updates in one go instead of interleaved with updates of other indexes.
+ * <p>
+ * The updates of an index are also sorted by value, i.e. in the order the native indexes keep their entries in,
+ * as long as no node occurs more than once among them and no value is both removed and added. Otherwise the
+ * updates for that index are kept in the order they happened, since later updates of a node depend on the earlier
+ * ones and a unique index must see a value being removed before it is added for another node.
+ */
+class SortedIndexUpdates implements Iterable<IndexEntryUpdate<LabelSchemaDescriptor>>
+{
+    private static final Comparator<IndexEntryUpdate<LabelSchemaDescriptor>> BY_VALUE = ( left, right ) ->
+    {
+        Value[] leftValues = left.values();
+        Value[] rightValues = right.values();
+        for ( int i = 0; i < leftValues.length; i++ )
+        {
+            int compare = Values.COMPARATOR.compare( leftValues[i], rightValues[i] );
+            if ( compare != 0 )
+            {
+                return compare;
+            }
+        }
+        return Long.compare( left.getEntityId(), right.getEntityId() );
+    };
+
+    private final Map<LabelSchemaDescriptor,List<IndexEntryUpdate<LabelSchemaDescriptor>>> updatesByIndex =
+            new LinkedHashMap<>();
+
+    SortedIndexUpdates( Iterable<IndexEntryUpdate<LabelSchemaDescriptor>> updates )
+    {
+        for ( IndexEntryUpdate<LabelSchemaDescriptor> update : updates )
+        {
+            updatesByIndex.computeIfAbsent( update.indexKey().schema(), schema -> new ArrayList<>() ).add( update );
+        }
+        for ( List<IndexEntryUpdate<LabelSchemaDescriptor>> indexUpdates : updatesByIndex.values() )
+        {
+            if ( indexUpdates.size() > 1 && allNodesDistinct( indexUpdates ) && noValueReAdded( indexUpdates ) )
+            {
+                indexUpdates.sort( BY_VALUE );
+            }
+        }
+    }
+
+    private static boolean allNodesDistinct( List<IndexEntryUpdate<LabelSchemaDescriptor>> indexUpdates )
+    {
+        try ( PrimitiveLongSet nodes = Primitive.longSet( indexUpdates.size() ) )
+        {
+            for ( IndexEntryUpdate<LabelSchemaDescriptor> update : indexUpdates )
+            {
+                if ( !nodes.add( update.getEntityId() ) )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static boolean noValueReAdded( List<IndexEntryUpdate<LabelSchemaDescriptor>> indexUpdates )
+    {
+        Set<ValueTuple> removed = new HashSet<>();
+        for ( IndexEntryUpdate<LabelSchemaDescriptor> update : indexUpdates )
+        {
+            switch ( update.updateMode() )
+            {
+            case CHANGED:
+                removed.add( ValueTuple.of( update.beforeValues() ) );
+                break;
+            case REMOVED:
+                removed.add( ValueTuple.of( update.values() ) );
+                break;
+            default:
+                break;
+            }
+        }
+        if ( removed.isEmpty() )
+        {
+            return true;
+        }
+        for ( IndexEntryUpdate<LabelSchemaDescriptor> update : indexUpdates )
+        {
+            if ( update.updateMode() != UpdateMode.REMOVED && removed.contains( ValueTuple.of( update.values() ) ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<IndexEntryUpdate<LabelSchemaDescriptor>> iterator()
+    {
+        return new NestingIterator<IndexEntryUpdate<LabelSchemaDescriptor>,List<IndexEntryUpdate<LabelSchemaDescriptor>>>(
+                updatesByIndex.values().iterator() )
+        {
+            @Override
+            protected Iterator<IndexEntryUpdate<LabelSchemaDescriptor>> createNestedIterator(
+                    List<IndexEntryUpdate<LabelSchemaDescriptor>> item )
+            {
+                return item.iterator();
+            }
+        };
+    }
+}
@@ -32,4 +32,23 @@ public interface StoreScan<FAILURE extends Exception>
             long currentlyIndexedNodeId );
 
     PopulationProgress getProgress();
+
+    /**
+     * Registers a listener which gets notified whenever a partition of this scan has been completely scanned.
+     * Scans which are not partitioned never notify the listener.
+     *
+     * @param listener {@link PartitionListener} to notify.
+     */
+    default void setPartitionListener( PartitionListener listener )
+    {
+    }
+
+    interface PartitionListener
+    {
+        PartitionListener NONE = ( partition, partitions, progress ) ->
+        {
+        };
+
+        void partitionScanned( int partition, int partitions, PopulationProgress progress );
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.api.index;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.neo4j.hashing.HashFunction;
+import org.neo4j.values.storable.Value;
+
+/**
+ * Bloom filter over the value tuples of a unique index. It is used to skip the index seek of uniqueness checks for
+ * value tuples that are definitely not in the index.
+ * <p>
+ * Entries are only ever added, never removed. This means removed index entries stay in the filter as false
+ * positives until it is rebuilt. A filter answers nothing until it has been {@link #markReady() marked ready}.
+ * Until then, and once it holds more entries than it was sized for, every tuple is reported as possibly present.
+ */
+public class UniquenessFilter
+{
+    private static final HashFunction HASH = HashFunction.incrementalXXH64();
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashFunctions;
+    private final long capacity;
+    private final LongAdder entries = new LongAdder();
+    private final LongAdder bitsSet = new LongAdder();
+    private final AtomicBoolean saturated = new AtomicBoolean();
+    private volatile boolean ready;
+
+    /**
+     * @param capacity number of entries this filter is sized for.
+     * @param bitsPerEntry number of bits to spend per entry, which decides the false positive rate.
+     */
+    UniquenessFilter( long capacity, int bitsPerEntry )
+    {
+        long words = Math.min( Integer.MAX_VALUE, (capacity * bitsPerEntry + Long.SIZE - 1) / Long.SIZE );
+        this.words = new AtomicLongArray( (int) words );
+        this.bits = words * Long.SIZE;
+        this.capacity = capacity;
+        this.hashFunctions = Math.max( 1, (int) Math.round( Math.log( 2 ) * bitsPerEntry ) );
+    }
+
+    static long hash( Value[] values )
+    {
+        return HASH.hashSingleValue( Arrays.hashCode( values ) );
+    }
+
+    void add( Value[] values )
+    {
+        long hash = hash( values );
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for ( int i = 0; i < hashFunctions; i++ )
+        {
+            long bit = Math.floorMod( h1 + (long) i * h2, bits );
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do
+            {
+                current = words.get( word );
+                if ( (current & mask) != 0 )
+                {
+                    break;
+                }
+            }
+            while ( !words.compareAndSet( word, current, current | mask ) );
+            if ( (current & mask) == 0 )
+            {
+                bitsSet.increment();
+            }
+        }
+        entries.increment();
+    }
+
+    /**
+     * @param values value tuple to look for.
+     * @return {@code true} if the tuple has definitely never been {@link #add(Value[]) added} to this filter,
+     * {@code false} if it may have been, or if this filter can not tell.
+     */
+    boolean definitelyAbsent( Value[] values )
+    {
+        if ( !ready || isSaturated() )
+        {
+            return false;
+        }
+        long hash = hash( values );
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for ( int i = 0; i < hashFunctions; i++ )
+        {
+            long bit = Math.floorMod( h1 + (long) i * h2, bits );
+            if ( (words.get( (int) (bit >>> 6) ) & (1L << bit)) == 0 )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void markReady()
+    {
+        ready = true;
+    }
+
+    boolean isReady()
+    {
+        return ready;
+    }
+
+    boolean isSaturated()
+    {
+        return entries.sum() > capacity;
+    }
+
+    /**
+     * @return {@code true} for exactly one caller once this filter has become saturated.
+     */
+    boolean claimSaturation()
+    {
+        return isSaturated() && saturated.compareAndSet( false, true );
+    }
+
+    long entries()
+    {
+        return entries.sum();
+    }
+
+    /**
+     * @return the probability that a tuple which was never added is reported as possibly present, estimated from
+     * the fraction of bits set.
+     */
+    double falsePositiveRate()
+    {
+        return Math.pow( (double) bitsSet.sum() / bits, hashFunctions );
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.api.index;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+
+import org.neo4j.helpers.collection.Visitor;
+import org.neo4j.kernel.api.exceptions.index.IndexEntryConflictException;
+import org.neo4j.kernel.api.index.IndexEntryUpdate;
+import org.neo4j.kernel.api.index.IndexUpdater;
+import org.neo4j.kernel.api.schema.index.IndexDescriptor;
+import org.neo4j.logging.Log;
+import org.neo4j.logging.LogProvider;
+import org.neo4j.register.Register.DoubleLongRegister;
+import org.neo4j.scheduler.JobScheduler;
+import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
+import org.neo4j.values.storable.Value;
+
+import static java.util.Collections.singletonList;
+import static org.neo4j.collection.primitive.PrimitiveIntCollections.contains;
+import static org.neo4j.register.Registers.newDoubleLongRegister;
+
+/**
+ * Keeps a {@link UniquenessFilter} per online unique index, which lets uniqueness checks skip the index seek for
+ * value tuples that are definitely not in the index.
+ * <p>
+ * Filters only live in memory. They are built by a background scan over the nodes of the indexed label, when the
+ * database starts and when a unique index comes online. Updates applied to the index while the scan runs, and
+ * after it, are added through the updaters returned from {@link #updater(long, IndexDescriptor, IndexUpdater)}.
+ * A filter that fills up beyond the size it was built for is replaced by a larger one.
+ */
+public class UniquenessFilters
+{
+    static final String ENABLED_NAME = "enabled";
+
+    private static final boolean ENABLED = FeatureToggles.flag( UniquenessFilters.class, ENABLED_NAME, false );
+    private static final int BITS_PER_ENTRY = FeatureToggles.getInteger( UniquenessFilters.class, "bits_per_entry", 10 );
+    private static final long MINIMUM_CAPACITY =
+            FeatureToggles.getLong( UniquenessFilters.class, "minimum_capacity", 1 << 16 );
+
+    private final boolean enabled;
+    private final IndexStoreView storeView;
+    private final JobScheduler scheduler;
+    private final Log log;
+    private final ConcurrentMap<Long,UniquenessFilter> filters = new ConcurrentHashMap<>();
+
+    public UniquenessFilters( IndexStoreView storeView, JobScheduler scheduler, LogProvider logProvider )
+    {
+        this( ENABLED, storeView, scheduler, logProvider );
+    }
+
+    UniquenessFilters( boolean enabled, IndexStoreView storeView, JobScheduler scheduler, LogProvider logProvider )
+    {
+        this.enabled = enabled;
+        this.storeView = storeView;
+        this.scheduler = scheduler;
+        this.log = logProvider.getLog( getClass() );
+    }
+
+    /**
+     * Replaces the filter of the given index with an empty one and schedules a scan filling it up.
+     * Does nothing for indexes which are not unique.
+     *
+     * @param indexId id of the index.
+     * @param descriptor descriptor of the index.
+     */
+    public void rebuild( long indexId, IndexDescriptor descriptor )
+    {
+        if ( !enabled || descriptor.type() != IndexDescriptor.Type.UNIQUE )
+        {
+            return;
+        }
+
+        DoubleLongRegister updatesAndSize = storeView.indexUpdatesAndSize( indexId, newDoubleLongRegister() );
+        UniquenessFilter previous = filters.get( indexId );
+        long expectedEntries = Math.max( updatesAndSize.readSecond(), previous == null ? 0 : previous.entries() );
+        UniquenessFilter filter = new UniquenessFilter( Math.max( MINIMUM_CAPACITY, expectedEntries * 2 ), BITS_PER_ENTRY );
+        filters.put( indexId, filter );
+        scheduler.schedule( JobScheduler.Groups.indexPopulation, () -> populate( indexId, descriptor, filter ) );
+    }
+
+    public void remove( long indexId )
+    {
+        filters.remove( indexId );
+    }
+
+    /**
+     * @param indexId id of the index.
+     * @param values value tuple to look for.
+     * @return {@code true} if the given index definitely has no entry for the given value tuple, {@code false} if
+     * it may have one, or if there is no usable filter for the index.
+     */
+    public boolean definitelyAbsent( long indexId, Value[] values )
+    {
+        UniquenessFilter filter = filters.get( indexId );
+        return filter != null && filter.definitelyAbsent( values );
+    }
+
+    /**
+     * @return the highest estimated false positive rate among all ready filters, or {@code 0} if there are none.
+     */
+    public double maximumFalsePositiveRate()
+    {
+        double rate = 0;
+        for ( UniquenessFilter filter : filters.values() )
+        {
+            if ( filter.isReady() )
+            {
+                rate = Math.max( rate, filter.falsePositiveRate() );
+            }
+        }
+        return rate;
+    }
+
+    IndexUpdater updater( long indexId, IndexDescriptor descriptor, IndexUpdater delegate )
+    {
+        if ( !enabled || descriptor.type() != IndexDescriptor.Type.UNIQUE )
+        {
+            return delegate;
+        }
+        return new FilterMaintainingUpdater( indexId, descriptor, delegate );
+    }
+
+    private void add( long indexId, IndexDescriptor descriptor, Value[] values )
+    {
+        UniquenessFilter filter = filters.get( indexId );
+        if ( filter != null )
+        {
+            filter.add( values );
+            if ( filter.claimSaturation() )
+            {
+                rebuild( indexId, descriptor );
+            }
+        }
+    }
+
+    private void populate( long indexId, IndexDescriptor descriptor, UniquenessFilter filter )
+    {
+        int[] propertyKeyIds = descriptor.schema().getPropertyIds();
+        IntPredicate propertyKeyIdFilter = propertyKeyId -> contains( propertyKeyIds, propertyKeyId );
+        AtomicReference<StoreScan<RuntimeException>> scan = new AtomicReference<>();
+        Visitor<NodeUpdates,RuntimeException> visitor = updates ->
+        {
+            if ( filters.get( indexId ) != filter )
+            {
+                // The filter has been replaced or the index dropped, no point in continuing
+                scan.get().stop();
+                return false;
+            }
+            for ( IndexEntryUpdate<IndexDescriptor> update : updates.forIndexKeys( singletonList( descriptor ) ) )
+            {
+                filter.add( update.values() );
+            }
+            return false;
+        };
+        try
+        {
+            scan.set( storeView.visitNodes( new int[]{descriptor.schema().getLabelId()}, propertyKeyIdFilter, visitor,
+                    null, false ) );
+            scan.get().run();
+            if ( filters.get( indexId ) == filter )
+            {
+                filter.markReady();
+                log.debug( "Built uniqueness filter for index %d with %d entries", indexId, filter.entries() );
+            }
+        }
+        catch ( RuntimeException e )
+        {
+            filters.remove( indexId, filter );
+            log.warn( "Unable to build uniqueness filter for index " + indexId + ", uniqueness checks will " +
+                    "seek the index", e );
+        }
+    }
+
+    private class FilterMaintainingUpdater implements IndexUpdater
+    {
+        private final long indexId;
+        private final IndexDescriptor descriptor;
+        private final IndexUpdater delegate;
+
+        FilterMaintainingUpdater( long indexId, IndexDescriptor descriptor, IndexUpdater delegate )
+        {
+            this.indexId = indexId;
+            this.descriptor = descriptor;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void process( IndexEntryUpdate<?> update ) throws IOException, IndexEntryConflictException
+        {
+            // Added before the update is applied, so that the filter never lags behind the index
+            switch ( update.updateMode() )
+            {
+            case ADDED:
+            case CHANGED:
+                add( indexId, descriptor, update.values() );
+                break;
+            default:
+                break;
+            }
+            delegate.process( update );
+        }
+
+        @Override
+        public void close() throws IOException, IndexEntryConflictException
+        {
+            delegate.close();
+        }
+    }
+}
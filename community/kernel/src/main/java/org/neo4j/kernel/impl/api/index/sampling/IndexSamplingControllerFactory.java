@@ -36,16 +36,18 @@ public class IndexSamplingControllerFactory
 {
     private final IndexSamplingConfig config;
     private final IndexStoreView storeView;
+    private final IndexUpdateSketches sketches;
     private final JobScheduler scheduler;
     private final TokenNameLookup tokenNameLookup;
     private final LogProvider logProvider;
 
     public IndexSamplingControllerFactory( IndexSamplingConfig config, IndexStoreView storeView,
-                                           JobScheduler scheduler, TokenNameLookup tokenNameLookup,
-                                           LogProvider logProvider )
+                                           IndexUpdateSketches sketches, JobScheduler scheduler,
+                                           TokenNameLookup tokenNameLookup, LogProvider logProvider )
     {
         this.config = config;
         this.storeView = storeView;
+        this.sketches = sketches;
         this.scheduler = scheduler;
         this.tokenNameLookup = tokenNameLookup;
         this.logProvider = logProvider;
@@ -54,7 +56,7 @@ public class IndexSamplingControllerFactory
     public IndexSamplingController create( IndexMapSnapshotProvider snapshotProvider )
     {
         OnlineIndexSamplingJobFactory jobFactory =
-                new OnlineIndexSamplingJobFactory( storeView, tokenNameLookup, logProvider );
+                new OnlineIndexSamplingJobFactory( storeView, sketches, tokenNameLookup, logProvider );
         Predicate<Long> samplingUpdatePredicate = createSamplingPredicate();
         IndexSamplingJobQueue<Long> jobQueue = new IndexSamplingJobQueue<>( samplingUpdatePredicate );
         IndexSamplingJobTracker jobTracker = new IndexSamplingJobTracker( config, scheduler );
@@ -78,7 +80,8 @@ public class IndexSamplingControllerFactory
                 long updates = output.readFirst();
                 long size = output.readSecond();
                 long threshold = Math.round( config.updateRatio() * size );
-                return updates > threshold;
+                // Refresh the counts from the updates themselves when possible, only rescan indexes that drifted
+                return updates > threshold && !sketches.sampleFromUpdates( indexId, storeView );
             }
         };
     }
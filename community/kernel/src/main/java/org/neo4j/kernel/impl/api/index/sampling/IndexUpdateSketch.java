@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.api.index.sampling;
+
+import java.util.Arrays;
+
+import org.neo4j.hashing.HashFunction;
+import org.neo4j.kernel.api.index.IndexEntryUpdate;
+
+/**
+ * Approximate statistics over the updates applied to an online index since it was last sampled, maintained as the
+ * updates are applied. Distinct values among the added entries are estimated using a HyperLogLog sketch, which
+ * together with counts of added and removed entries is enough to tell whether a previous sample still describes
+ * the index, or whether the value distribution has drifted and the index needs to be sampled again.
+ * <p>
+ * Updaters collect hashes of the values they see using {@link #hash(IndexEntryUpdate)} and hand them over in
+ * batches through {@link #include(long[], int, long, long)}.
+ */
+public class IndexUpdateSketch
+{
+    private static final int PRECISION = 12;
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+    private static final HashFunction HASH = HashFunction.incrementalXXH64();
+
+    private final byte[] registers = new byte[REGISTERS];
+    private long updates;
+    private long additions;
+    private long removals;
+
+    /**
+     * @param update an added or changed index entry.
+     * @return a 64-bit hash of the values of the given index entry.
+     */
+    public static long hash( IndexEntryUpdate<?> update )
+    {
+        return HASH.hashSingleValue( Arrays.hashCode( update.values() ) );
+    }
+
+    /**
+     * Includes the given hashes of added index entries, along with the number of removed entries and the number
+     * of updates they originate from.
+     *
+     * @param addedHashes hashes of added values, see {@link #hash(IndexEntryUpdate)}.
+     * @param numberOfAdded number of hashes to include from {@code addedHashes}.
+     * @param numberOfRemoved number of removed index entries.
+     * @param numberOfUpdates number of index updates the given additions and removals were part of.
+     */
+    public synchronized void include( long[] addedHashes, int numberOfAdded, long numberOfRemoved,
+            long numberOfUpdates )
+    {
+        for ( int i = 0; i < numberOfAdded; i++ )
+        {
+            long hash = addedHashes[i];
+            int register = (int) (hash >>> (Long.SIZE - PRECISION));
+            byte rank = (byte) (Long.numberOfLeadingZeros( (hash << PRECISION) | (1L << (PRECISION - 1)) ) + 1);
+            if ( rank > registers[register] )
+            {
+                registers[register] = rank;
+            }
+        }
+        additions += numberOfAdded;
+        removals += numberOfRemoved;
+        updates += numberOfUpdates;
+    }
+
+    /**
+     * Forgets everything seen so far, called whenever new index counts have been stored.
+     */
+    public synchronized void reset()
+    {
+        Arrays.fill( registers, (byte) 0 );
+        updates = 0;
+        additions = 0;
+        removals = 0;
+    }
+
+    public synchronized long updates()
+    {
+        return updates;
+    }
+
+    public synchronized long additions()
+    {
+        return additions;
+    }
+
+    public synchronized long removals()
+    {
+        return removals;
+    }
+
+    /**
+     * @return estimated number of distinct values among the added index entries.
+     */
+    public synchronized double distinctAdditions()
+    {
+        double sum = 0;
+        int zeroRegisters = 0;
+        for ( byte register : registers )
+        {
+            sum += 1.0 / (1L << register);
+            if ( register == 0 )
+            {
+                zeroRegisters++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if ( estimate <= 2.5 * REGISTERS && zeroRegisters > 0 )
+        {
+            // Linear counting is more accurate for small cardinalities
+            estimate = REGISTERS * Math.log( (double) REGISTERS / zeroRegisters );
+        }
+        return Math.min( estimate, additions );
+    }
+
+    /**
+     * Decides whether the updates seen by this sketch are consistent with the given previous sample of the index,
+     * i.e. whether the number of distinct values among the added entries is close to what a random draw of the same
+     * size from the sampled value distribution would produce, and the index has not shrunk considerably.
+     *
+     * @param uniqueValues number of unique values in the previous sample.
+     * @param sampleSize size of the previous sample.
+     * @param indexSize size of the index at the time of the previous sample.
+     * @param maximumDrift relative difference between expected and actual figures that is tolerated.
+     * @return {@code true} if the previous sample no longer describes the index.
+     */
+    public synchronized boolean hasDrifted( long uniqueValues, long sampleSize, long indexSize, double maximumDrift )
+    {
+        if ( removals - additions > maximumDrift * indexSize )
+        {
+            return true;
+        }
+        double estimatedUniqueValues = sampleSize == 0 ? uniqueValues : (double) uniqueValues * indexSize / sampleSize;
+        double expectedDistinct = estimatedUniqueValues == 0 ? 0 :
+                estimatedUniqueValues * (1 - Math.exp( -additions / estimatedUniqueValues ));
+        return Math.abs( distinctAdditions() - expectedDistinct ) > maximumDrift * Math.max( expectedDistinct, 1 );
+    }
+
+    /**
+     * @param indexSize size of the index at the time of the previous sample.
+     * @return the size of the index after the updates seen by this sketch.
+     */
+    public synchronized long estimatedIndexSize( long indexSize )
+    {
+        return Math.max( 0, indexSize + additions - removals );
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.api.index.sampling;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.neo4j.kernel.impl.api.index.IndexStoreView;
+import org.neo4j.register.Register.DoubleLongRegister;
+import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
+
+import static org.neo4j.register.Registers.newDoubleLongRegister;
+
+/**
+ * Keeps an {@link IndexUpdateSketch} per online index and uses them to refresh the index counts of indexes whose
+ * value distribution has not drifted since they were last sampled, without having to read through the index.
+ * <p>
+ * Sketches only live in memory. After a restart the update counts in the store include updates the sketches
+ * have not seen, which makes the first sampling of every index a full one.
+ */
+public class IndexUpdateSketches
+{
+    static final String INCREMENTAL_SAMPLING_NAME = "incremental_sampling";
+    static final String MAXIMUM_DRIFT_NAME = "maximum_drift";
+    static final String MINIMUM_ADDITIONS_NAME = "minimum_additions";
+
+    private final boolean INCREMENTAL_SAMPLING =
+            FeatureToggles.flag( IndexUpdateSketches.class, INCREMENTAL_SAMPLING_NAME, true );
+    private final double MAXIMUM_DRIFT = FeatureToggles.getDouble( IndexUpdateSketches.class, MAXIMUM_DRIFT_NAME, 0.1 );
+    private final long MINIMUM_ADDITIONS =
+            FeatureToggles.getLong( IndexUpdateSketches.class, MINIMUM_ADDITIONS_NAME, 1_000 );
+
+    private final ConcurrentMap<Long,IndexUpdateSketch> sketches = new ConcurrentHashMap<>();
+    private final DoubleLongRegister sample = newDoubleLongRegister();
+    private final DoubleLongRegister updatesAndSize = newDoubleLongRegister();
+
+    public IndexUpdateSketch sketch( long indexId )
+    {
+        return sketches.computeIfAbsent( indexId, id -> new IndexUpdateSketch() );
+    }
+
+    public void reset( long indexId )
+    {
+        IndexUpdateSketch sketch = sketches.get( indexId );
+        if ( sketch != null )
+        {
+            sketch.reset();
+        }
+    }
+
+    public void remove( long indexId )
+    {
+        sketches.remove( indexId );
+    }
+
+    /**
+     * Replaces the index counts of the given index with counts derived from the previous sample and the updates
+     * seen since, unless the sketch has missed updates, has seen too few of them or detects drift.
+     *
+     * @param indexId id of the index to sample.
+     * @param storeView {@link IndexStoreView} holding the counts of the index.
+     * @return {@code true} if new counts were stored, {@code false} if the index needs a full sampling.
+     */
+    public synchronized boolean sampleFromUpdates( long indexId, IndexStoreView storeView )
+    {
+        IndexUpdateSketch sketch = sketches.get( indexId );
+        if ( !INCREMENTAL_SAMPLING || sketch == null )
+        {
+            return false;
+        }
+
+        storeView.indexSample( indexId, sample );
+        storeView.indexUpdatesAndSize( indexId, updatesAndSize );
+        long uniqueValues = sample.readFirst();
+        long sampleSize = sample.readSecond();
+        long updates = updatesAndSize.readFirst();
+        long indexSize = updatesAndSize.readSecond();
+        if ( sampleSize == 0 || sketch.updates() < updates || sketch.additions() < MINIMUM_ADDITIONS ||
+             sketch.hasDrifted( uniqueValues, sampleSize, indexSize, MAXIMUM_DRIFT ) )
+        {
+            return false;
+        }
+
+        storeView.replaceIndexCounts( indexId, uniqueValues, sampleSize, sketch.estimatedIndexSize( indexSize ) );
+        sketch.reset();
+        return true;
+    }
+}
@@ -37,15 +37,17 @@ class OnlineIndexSamplingJob implements IndexSamplingJob
     private final long indexId;
     private final IndexProxy indexProxy;
     private final IndexStoreView storeView;
+    private final IndexUpdateSketches sketches;
     private final Log log;
     private final String indexUserDescription;
 
-    OnlineIndexSamplingJob( long indexId, IndexProxy indexProxy, IndexStoreView storeView, String indexUserDescription,
-            LogProvider logProvider )
+    OnlineIndexSamplingJob( long indexId, IndexProxy indexProxy, IndexStoreView storeView,
+            IndexUpdateSketches sketches, String indexUserDescription, LogProvider logProvider )
     {
         this.indexId = indexId;
         this.indexProxy = indexProxy;
         this.storeView = storeView;
+        this.sketches = sketches;
         this.log = logProvider.getLog( getClass() );
         this.indexUserDescription = indexUserDescription;
     }
@@ -73,6 +75,7 @@ class OnlineIndexSamplingJob implements IndexSamplingJob
                     {
                         storeView.replaceIndexCounts( indexId, sample.uniqueValues(), sample.sampleSize(),
                                 sample.indexSize() );
+                        sketches.reset( indexId );
                         durationLogger.markAsFinished();
                         log.debug(
                                 format( "Sampled index %s with %d unique values in sample of avg size %d taken from " +
@@ -27,12 +27,15 @@ import org.neo4j.logging.LogProvider;
 public class OnlineIndexSamplingJobFactory implements IndexSamplingJobFactory
 {
     private final IndexStoreView storeView;
+    private final IndexUpdateSketches sketches;
     private final LogProvider logProvider;
     private final TokenNameLookup nameLookup;
 
-    public OnlineIndexSamplingJobFactory( IndexStoreView storeView, TokenNameLookup nameLookup, LogProvider logProvider )
+    public OnlineIndexSamplingJobFactory( IndexStoreView storeView, IndexUpdateSketches sketches,
+            TokenNameLookup nameLookup, LogProvider logProvider )
     {
         this.storeView = storeView;
+        this.sketches = sketches;
         this.logProvider = logProvider;
         this.nameLookup = nameLookup;
     }
@@ -41,6 +44,7 @@ public class OnlineIndexSamplingJobFactory implements IndexSamplingJobFactory
     public IndexSamplingJob create( long indexId, IndexProxy indexProxy )
     {
         final String indexUserDescription = indexProxy.getDescriptor().userDescription( nameLookup );
-        return new OnlineIndexSamplingJob( indexId, indexProxy, storeView, indexUserDescription, logProvider );
+        return new OnlineIndexSamplingJob( indexId, indexProxy, storeView, sketches, indexUserDescription,
+                logProvider );
     }
 }
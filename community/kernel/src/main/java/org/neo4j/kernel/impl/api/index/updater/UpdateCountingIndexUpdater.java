@@ -25,19 +25,30 @@ import org.neo4j.kernel.api.exceptions.index.IndexEntryConflictException;
 import org.neo4j.kernel.api.index.IndexEntryUpdate;
 import org.neo4j.kernel.api.index.IndexUpdater;
 import org.neo4j.kernel.impl.api.index.IndexStoreView;
+import org.neo4j.kernel.impl.api.index.sampling.IndexUpdateSketch;
 
 public class UpdateCountingIndexUpdater implements IndexUpdater
 {
+    private static final int HASH_BATCH_SIZE = 1024;
+
     private final IndexStoreView storeView;
     private final long indexId;
     private final IndexUpdater delegate;
+    private final IndexUpdateSketch sketch;
     private long updates;
 
-    public UpdateCountingIndexUpdater( IndexStoreView storeView, long indexId, IndexUpdater delegate )
+    // Hashes of added values and number of removals not yet handed over to the sketch
+    private long[] addedHashes;
+    private int added;
+    private long removed;
+
+    public UpdateCountingIndexUpdater( IndexStoreView storeView, long indexId, IndexUpdater delegate,
+            IndexUpdateSketch sketch )
     {
         this.storeView = storeView;
         this.indexId = indexId;
         this.delegate = delegate;
+        this.sketch = sketch;
     }
 
     @Override
@@ -45,6 +56,43 @@ public class UpdateCountingIndexUpdater implements IndexUpdater
     {
         delegate.process( update );
         updates++;
+        if ( sketch != null )
+        {
+            sketch( update );
+        }
+    }
+
+    private void sketch( IndexEntryUpdate<?> update )
+    {
+        switch ( update.updateMode() )
+        {
+        case ADDED:
+            addHash( update );
+            break;
+        case CHANGED:
+            addHash( update );
+            removed++;
+            break;
+        case REMOVED:
+            removed++;
+            break;
+        default:
+            throw new IllegalStateException( "Unknown update mode " + update.updateMode() );
+        }
+    }
+
+    private void addHash( IndexEntryUpdate<?> update )
+    {
+        if ( addedHashes == null )
+        {
+            addedHashes = new long[HASH_BATCH_SIZE];
+        }
+        addedHashes[added++] = IndexUpdateSketch.hash( update );
+        if ( added == addedHashes.length )
+        {
+            sketch.include( addedHashes, added, 0, 0 );
+            added = 0;
+        }
     }
 
     @Override
@@ -52,5 +100,9 @@ public class UpdateCountingIndexUpdater implements IndexUpdater
     {
         delegate.close();
         storeView.incrementIndexUpdates( indexId, updates );
+        if ( sketch != null )
+        {
+            sketch.include( addedHashes, added, removed, updates );
+        }
     }
 }
@@ -37,6 +37,7 @@ import org.neo4j.storageengine.api.Direction;
 import org.neo4j.storageengine.api.NodeItem;
 import org.neo4j.storageengine.api.PropertyItem;
 import org.neo4j.storageengine.api.RelationshipItem;
+import org.neo4j.storageengine.api.schema.IndexValueIterator;
 import org.neo4j.values.storable.Value;
 
 public interface EntityReadOperations
@@ -59,6 +60,18 @@ public interface EntityReadOperations
     PrimitiveLongIterator indexQuery( KernelStatement statement, IndexDescriptor index, IndexQuery... predicates )
             throws IndexNotFoundKernelException, IndexNotApplicableKernelException;
 
+    /**
+     * Queries the given index with the given index query, exposing indexed property values where available.
+     *
+     * @param statement the KernelStatement to use.
+     * @param index the index to query against.
+     * @param predicates the {@link IndexQuery} predicates to query for.
+     * @return ids of the matching nodes, optionally with their indexed property values.
+     * @throws IndexNotFoundKernelException if no such index is found.
+     */
+    IndexValueIterator indexQueryWithValues( KernelStatement statement, IndexDescriptor index,
+            IndexQuery... predicates ) throws IndexNotFoundKernelException, IndexNotApplicableKernelException;
+
     /**
      * Returns the id of the matched node, or {@link StatementConstants#NO_SUCH_NODE} if no node was found.
      *
@@ -66,6 +66,8 @@ import org.neo4j.storageengine.api.txstate.ReadableRelationshipDiffSets;
 import org.neo4j.storageengine.api.txstate.ReadableTransactionState;
 import org.neo4j.storageengine.api.txstate.RelationshipState;
 import org.neo4j.storageengine.api.txstate.TxStateVisitor;
+import org.neo4j.values.storable.CoordinateReferenceSystem;
+import org.neo4j.values.storable.PointValue;
 import org.neo4j.values.storable.TextValue;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.ValueTuple;
@@ -1124,6 +1126,44 @@ public final class TxState implements TransactionState, RelationshipVisitor.Home
         return diffs;
     }
 
+    @Override
+    public ReadableDiffSets<Long> indexUpdatesForRangeSeekByGeometry( IndexDescriptor descriptor,
+                                                                      PointValue lower, PointValue upper )
+    {
+        return ReadableDiffSets.Empty.ifNull( getIndexUpdatesForRangeSeekByGeometry( descriptor, lower, upper ) );
+    }
+
+    private ReadableDiffSets<Long> getIndexUpdatesForRangeSeekByGeometry( IndexDescriptor descriptor,
+                                                                          PointValue lower, PointValue upper )
+    {
+        TreeMap<ValueTuple, DiffSets<Long>> sortedUpdates = getSortedIndexUpdates( descriptor.schema() );
+        if ( sortedUpdates == null )
+        {
+            return null;
+        }
+
+        // Points sort by x and then by y, so the x bounds give a contiguous range and y has to be filtered
+        CoordinateReferenceSystem crs = lower.getCoordinateReferenceSystem();
+        double[] lowerCoordinate = lower.coordinates();
+        double[] upperCoordinate = upper.coordinates();
+        ValueTuple selectedLower = ValueTuple.of( Values.pointValue( crs, lowerCoordinate[0], Double.NEGATIVE_INFINITY ) );
+        ValueTuple selectedUpper = ValueTuple.of( Values.pointValue( crs, upperCoordinate[0], Double.POSITIVE_INFINITY ) );
+
+        DiffSets<Long> diffs = new DiffSets<>();
+        for ( Map.Entry<ValueTuple,DiffSets<Long>> entry :
+                sortedUpdates.subMap( selectedLower, true, selectedUpper, true ).entrySet() )
+        {
+            double y = ((PointValue) entry.getKey().getOnlyValue()).coordinates()[1];
+            if ( y >= lowerCoordinate[1] && y <= upperCoordinate[1] )
+            {
+                DiffSets<Long> diffForSpecificValue = entry.getValue();
+                diffs.addAll( diffForSpecificValue.getAdded().iterator() );
+                diffs.removeAll( diffForSpecificValue.getRemoved().iterator() );
+            }
+        }
+        return diffs;
+    }
+
     @Override
     public ReadableDiffSets<Long> indexUpdatesForRangeSeekByPrefix( IndexDescriptor descriptor, String prefix )
     {
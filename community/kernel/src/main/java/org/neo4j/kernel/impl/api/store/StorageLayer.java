@@ -82,6 +82,7 @@ import org.neo4j.storageengine.api.StoreReadLayer;
 import org.neo4j.storageengine.api.Token;
 import org.neo4j.storageengine.api.schema.PopulationProgress;
 import org.neo4j.storageengine.api.schema.SchemaRule;
+import org.neo4j.values.storable.Value;
 
 import static org.neo4j.collection.primitive.Primitive.intSet;
 import static org.neo4j.function.Predicates.ALWAYS_TRUE_INT;
@@ -235,6 +236,12 @@ public class StorageLayer implements StoreReadLayer
         return indexService.getIndexProxy( descriptor.schema() ).getState();
     }
 
+    @Override
+    public boolean indexEntryDefinitelyAbsent( IndexDescriptor descriptor, Value... values )
+    {
+        return indexService.indexEntryDefinitelyAbsent( descriptor, values );
+    }
+
     @Override
     public SchemaIndexProvider.Descriptor indexGetProviderDescriptor( IndexDescriptor descriptor ) throws IndexNotFoundKernelException
     {
@@ -22,6 +22,7 @@ package org.neo4j.kernel.impl.api.store;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
+import org.neo4j.kernel.impl.store.GeometryType;
 import org.neo4j.kernel.impl.store.LongerShortString;
 import org.neo4j.kernel.impl.store.PropertyType;
 import org.neo4j.kernel.impl.store.RecordCursor;
@@ -38,6 +39,7 @@ import org.neo4j.values.storable.DoubleValue;
 import org.neo4j.values.storable.FloatValue;
 import org.neo4j.values.storable.IntValue;
 import org.neo4j.values.storable.LongValue;
+import org.neo4j.values.storable.PointValue;
 import org.neo4j.values.storable.ShortValue;
 import org.neo4j.values.storable.TextValue;
 import org.neo4j.values.storable.Value;
@@ -49,6 +51,7 @@ import static org.neo4j.kernel.impl.store.PropertyType.BYTE;
 import static org.neo4j.kernel.impl.store.PropertyType.CHAR;
 import static org.neo4j.kernel.impl.store.PropertyType.DOUBLE;
 import static org.neo4j.kernel.impl.store.PropertyType.FLOAT;
+import static org.neo4j.kernel.impl.store.PropertyType.GEOMETRY;
 import static org.neo4j.kernel.impl.store.PropertyType.INT;
 import static org.neo4j.kernel.impl.store.PropertyType.LONG;
 import static org.neo4j.kernel.impl.store.PropertyType.SHORT;
@@ -218,6 +221,12 @@ class StorePropertyPayloadCursor
         return ShortArray.decode( bits );
     }
 
+    private PointValue geometryValue()
+    {
+        assertOfType( GEOMETRY );
+        return GeometryType.decode( data, position );
+    }
+
     Value arrayValue()
     {
         assertOfType( ARRAY );
@@ -254,6 +263,8 @@ class StorePropertyPayloadCursor
             return shortArrayValue();
         case ARRAY:
             return arrayValue();
+        case GEOMETRY:
+            return geometryValue();
         default:
             throw new IllegalStateException( "No such type:" + type() );
         }
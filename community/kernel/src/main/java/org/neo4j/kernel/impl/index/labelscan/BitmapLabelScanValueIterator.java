@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.index.labelscan;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+
+import org.neo4j.collection.primitive.PrimitiveLongCollections.PrimitiveLongBaseIterator;
+import org.neo4j.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.cursor.RawCursor;
+import org.neo4j.index.internal.gbptree.GBPTree;
+import org.neo4j.index.internal.gbptree.Hit;
+
+/**
+ * {@link PrimitiveLongIterator} which combines the {@link LabelScanValue bitmaps} of multiple labels
+ * word by word, instead of merging node ids one at a time like {@link CompositeLabelScanValueIterator} does.
+ * <p>
+ * For {@code AND} merging the label cursors are leap-frogged on {@link LabelScanKey#idRange}: only ranges present
+ * for all labels are combined, and a cursor lagging more than {@code seekDistance} ranges behind is re-seeked
+ * directly to the wanted range rather than stepped through the ranges in between. For {@code OR} merging all cursors
+ * are stepped in range order and the bitmaps of the lowest range are combined.
+ * <p>
+ * Cursors are opened from the given {@link GBPTree} and registered in the given collection, which is managed
+ * externally, e.g. by {@link NativeLabelScanReader}. Cursors are closed and unregistered as soon as they are exhausted.
+ */
+class BitmapLabelScanValueIterator extends PrimitiveLongBaseIterator
+{
+    private final GBPTree<LabelScanKey,LabelScanValue> index;
+    private final Collection<RawCursor<Hit<LabelScanKey,LabelScanValue>,IOException>> openCursors;
+    private final LabelCursor[] cursors;
+    private final boolean trueForAll;
+    private final long seekDistance;
+
+    /**
+     * Base node id of the currently combined bitmap.
+     */
+    private long baseNodeId;
+
+    /**
+     * Remaining bits of the currently combined bitmap.
+     */
+    private long bits;
+
+    /**
+     * @param index {@link GBPTree} to seek label ranges from.
+     * @param labelIds ids of the labels to combine.
+     * @param trueForAll if {@code true} using {@code AND} merging, otherwise {@code OR} merging.
+     * @param openCursors collection to register opened cursors in, until they are exhausted.
+     * @param seekDistance number of ranges a cursor must lag behind before it is re-seeked, rather than stepped,
+     * during {@code AND} merging.
+     */
+    BitmapLabelScanValueIterator( GBPTree<LabelScanKey,LabelScanValue> index, int[] labelIds, boolean trueForAll,
+            Collection<RawCursor<Hit<LabelScanKey,LabelScanValue>,IOException>> openCursors, long seekDistance )
+    {
+        this.index = index;
+        this.openCursors = openCursors;
+        this.trueForAll = trueForAll;
+        this.seekDistance = seekDistance;
+        this.cursors = new LabelCursor[labelIds.length];
+        for ( int i = 0; i < labelIds.length; i++ )
+        {
+            cursors[i] = new LabelCursor( labelIds[i] );
+        }
+    }
+
+    @Override
+    protected boolean fetchNext()
+    {
+        try
+        {
+            while ( bits == 0 )
+            {
+                if ( !(trueForAll ? nextIntersection() : nextUnion()) )
+                {
+                    return false;
+                }
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+
+        int delta = Long.numberOfTrailingZeros( bits );
+        bits &= bits - 1;
+        return next( baseNodeId + delta );
+    }
+
+    private boolean nextIntersection() throws IOException
+    {
+        if ( cursors.length == 0 )
+        {
+            return false;
+        }
+
+        long target = 0;
+        while ( true )
+        {
+            boolean aligned = true;
+            for ( LabelCursor cursor : cursors )
+            {
+                if ( !cursor.skipTo( target ) )
+                {
+                    closeAll();
+                    return false;
+                }
+                if ( cursor.range != target )
+                {
+                    // this label has nothing in the target range, start over from the range it is at instead
+                    target = cursor.range;
+                    aligned = false;
+                }
+            }
+
+            if ( aligned )
+            {
+                long word = -1L;
+                for ( LabelCursor cursor : cursors )
+                {
+                    word &= cursor.bits;
+                    cursor.consumed = true;
+                }
+                setCurrent( target, word );
+                return true;
+            }
+        }
+    }
+
+    private boolean nextUnion() throws IOException
+    {
+        long lowest = Long.MAX_VALUE;
+        for ( LabelCursor cursor : cursors )
+        {
+            if ( cursor.skipTo( 0 ) )
+            {
+                lowest = Math.min( lowest, cursor.range );
+            }
+        }
+        if ( lowest == Long.MAX_VALUE )
+        {
+            return false;
+        }
+
+        long word = 0;
+        for ( LabelCursor cursor : cursors )
+        {
+            if ( !cursor.exhausted && cursor.range == lowest )
+            {
+                word |= cursor.bits;
+                cursor.consumed = true;
+            }
+        }
+        setCurrent( lowest, word );
+        return true;
+    }
+
+    private void setCurrent( long range, long word )
+    {
+        baseNodeId = range * LabelScanValue.RANGE_SIZE;
+        bits = word;
+    }
+
+    private void closeAll() throws IOException
+    {
+        for ( LabelCursor cursor : cursors )
+        {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Position of one label in the index, holding a copy of the range and bitmap currently positioned at,
+     * since the {@link Hit} instances handed out by the tree cursor may be reused.
+     */
+    private class LabelCursor
+    {
+        private final int labelId;
+        private RawCursor<Hit<LabelScanKey,LabelScanValue>,IOException> cursor;
+        private long range = -1;
+        private long bits;
+        private boolean consumed = true;
+        private boolean exhausted;
+
+        LabelCursor( int labelId )
+        {
+            this.labelId = labelId;
+        }
+
+        /**
+         * Positions this cursor at the first unconsumed range which is equal to or greater than {@code target}.
+         *
+         * @return {@code false} if there are no such ranges for this label, otherwise {@code true}.
+         */
+        boolean skipTo( long target ) throws IOException
+        {
+            if ( exhausted )
+            {
+                return false;
+            }
+            if ( !consumed && range >= target )
+            {
+                return true;
+            }
+
+            if ( cursor == null || target - range > seekDistance )
+            {
+                seek( target );
+            }
+            do
+            {
+                if ( !cursor.next() )
+                {
+                    close();
+                    exhausted = true;
+                    return false;
+                }
+                Hit<LabelScanKey,LabelScanValue> hit = cursor.get();
+                range = hit.key().idRange;
+                bits = hit.value().bits;
+            }
+            while ( range < target );
+            consumed = false;
+            return true;
+        }
+
+        private void seek( long fromRange ) throws IOException
+        {
+            close();
+            cursor = index.seek( new LabelScanKey( labelId, fromRange ), new LabelScanKey( labelId, Long.MAX_VALUE ) );
+            openCursors.add( cursor );
+        }
+
+        void close() throws IOException
+        {
+            if ( cursor != null )
+            {
+                cursor.close();
+                openCursors.remove( cursor );
+                cursor = null;
+            }
+        }
+    }
+}
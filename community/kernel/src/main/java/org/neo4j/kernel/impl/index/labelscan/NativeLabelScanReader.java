@@ -21,9 +21,7 @@ package org.neo4j.kernel.impl.index.labelscan;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import org.neo4j.collection.primitive.PrimitiveLongIterator;
@@ -38,11 +36,20 @@ import org.neo4j.storageengine.api.schema.LabelScanReader;
  * Each {@link PrimitiveLongIterator} returned from each of the methods is backed by {@link RawCursor}
  * directly from {@link GBPTree#seek(Object, Object)}.
  * <p>
+ * Multi-label queries combine the {@link LabelScanValue bitmaps} of the labels word by word,
+ * see {@link BitmapLabelScanValueIterator}.
+ * <p>
  * The returned {@link PrimitiveLongIterator} aren't closable so the cursors retrieved are managed
  * inside of this reader and closed between each new query and on {@link #close()}.
  */
 class NativeLabelScanReader implements LabelScanReader
 {
+    /**
+     * Number of ranges, i.e. {@code 64} nodes each, a label cursor may lag behind the others in an intersection
+     * before it is re-seeked from the root of the tree rather than stepped through the leaves.
+     */
+    static final long SEEK_DISTANCE = 1024;
+
     /**
      * {@link Index} which is queried when calling the methods below.
      */
@@ -96,34 +103,13 @@ class NativeLabelScanReader implements LabelScanReader
     @Override
     public PrimitiveLongIterator nodesWithAnyOfLabels( int... labelIds )
     {
-        List<PrimitiveLongIterator> iterators = iteratorsForLabels( labelIds );
-        return new CompositeLabelScanValueIterator( iterators, false );
+        return new BitmapLabelScanValueIterator( index, labelIds, false, openCursors, SEEK_DISTANCE );
     }
 
     @Override
     public PrimitiveLongIterator nodesWithAllLabels( int... labelIds )
     {
-        List<PrimitiveLongIterator> iterators = iteratorsForLabels( labelIds );
-        return new CompositeLabelScanValueIterator( iterators, true );
-    }
-
-    private List<PrimitiveLongIterator> iteratorsForLabels( int[] labelIds )
-    {
-        List<PrimitiveLongIterator> iterators = new ArrayList<>();
-        try
-        {
-            for ( int labelId : labelIds )
-            {
-                RawCursor<Hit<LabelScanKey,LabelScanValue>,IOException> cursor = seekerForLabel( labelId );
-                openCursors.add( cursor );
-                iterators.add( new LabelScanValueIterator( cursor, openCursors ) );
-            }
-        }
-        catch ( IOException e )
-        {
-            throw new UncheckedIOException( e );
-        }
-        return iterators;
+        return new BitmapLabelScanValueIterator( index, labelIds, true, openCursors, SEEK_DISTANCE );
     }
 
     private RawCursor<Hit<LabelScanKey,LabelScanValue>,IOException> seekerForLabel( int labelId ) throws IOException
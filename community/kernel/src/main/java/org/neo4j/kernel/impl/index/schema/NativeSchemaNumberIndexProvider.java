@@ -53,17 +53,24 @@ public class NativeSchemaNumberIndexProvider extends SchemaIndexProvider
     public static final Descriptor NATIVE_PROVIDER_DESCRIPTOR = new Descriptor( KEY, "1.0" );
     static final IndexCapability CAPABILITY = new NativeIndexCapability();
 
-    private final PageCache pageCache;
-    private final FileSystemAbstraction fs;
-    private final Monitor monitor;
-    private final RecoveryCleanupWorkCollector recoveryCleanupWorkCollector;
-    private final boolean readOnly;
+    final PageCache pageCache;
+    final FileSystemAbstraction fs;
+    final Monitor monitor;
+    final RecoveryCleanupWorkCollector recoveryCleanupWorkCollector;
+    final boolean readOnly;
 
     public NativeSchemaNumberIndexProvider( PageCache pageCache, FileSystemAbstraction fs,
             IndexDirectoryStructure.Factory directoryStructure, Monitor monitor, RecoveryCleanupWorkCollector recoveryCleanupWorkCollector,
             boolean readOnly )
     {
-        super( NATIVE_PROVIDER_DESCRIPTOR, 0, directoryStructure );
+        this( NATIVE_PROVIDER_DESCRIPTOR, pageCache, fs, directoryStructure, monitor, recoveryCleanupWorkCollector, readOnly );
+    }
+
+    NativeSchemaNumberIndexProvider( Descriptor descriptor, PageCache pageCache, FileSystemAbstraction fs,
+            IndexDirectoryStructure.Factory directoryStructure, Monitor monitor, RecoveryCleanupWorkCollector recoveryCleanupWorkCollector,
+            boolean readOnly )
+    {
+        super( descriptor, 0, directoryStructure );
         this.pageCache = pageCache;
         this.fs = fs;
         this.monitor = monitor;
@@ -182,7 +189,7 @@ public class NativeSchemaNumberIndexProvider extends SchemaIndexProvider
         return StoreMigrationParticipant.NOT_PARTICIPATING;
     }
 
-    private File nativeIndexFileFromIndexId( long indexId )
+    File nativeIndexFileFromIndexId( long indexId )
     {
         return new File( directoryStructure().directoryForIndex( indexId ), indexFileName( indexId ) );
     }
@@ -197,15 +204,23 @@ public class NativeSchemaNumberIndexProvider extends SchemaIndexProvider
         @Override
         public boolean compatibleWith( long layoutIdentifier, int majorVersion, int minorVersion )
         {
-            return (layoutIdentifier == UniqueNumberLayout.IDENTIFIER &&
-                    majorVersion == UniqueNumberLayout.MAJOR_VERSION &&
-                    minorVersion == UniqueNumberLayout.MINOR_VERSION) ||
-                    (layoutIdentifier == NonUniqueNumberLayout.IDENTIFIER &&
-                            majorVersion == NonUniqueNumberLayout.MAJOR_VERSION &&
-                            minorVersion == NonUniqueNumberLayout.MINOR_VERSION);
+            return compatibleLayout( layoutIdentifier, majorVersion, minorVersion );
         }
     }
 
+    /**
+     * @return whether or not a tree with the given layout identifier and version can have been written by this provider.
+     */
+    boolean compatibleLayout( long layoutIdentifier, int majorVersion, int minorVersion )
+    {
+        return (layoutIdentifier == UniqueNumberLayout.IDENTIFIER &&
+                majorVersion == UniqueNumberLayout.MAJOR_VERSION &&
+                minorVersion == UniqueNumberLayout.MINOR_VERSION) ||
+                (layoutIdentifier == NonUniqueNumberLayout.IDENTIFIER &&
+                        majorVersion == NonUniqueNumberLayout.MAJOR_VERSION &&
+                        minorVersion == NonUniqueNumberLayout.MINOR_VERSION);
+    }
+
     private static class NativeIndexCapability implements IndexCapability
     {
         private static final IndexOrder[] SUPPORTED_ORDER = {IndexOrder.ASCENDING};
@@ -51,11 +51,11 @@ import static java.lang.String.format;
 class NativeSchemaNumberIndexReader<KEY extends SchemaNumberKey, VALUE extends SchemaNumberValue>
         implements IndexReader
 {
-    private final GBPTree<KEY,VALUE> tree;
-    private final Layout<KEY,VALUE> layout;
+    final GBPTree<KEY,VALUE> tree;
+    final Layout<KEY,VALUE> layout;
     private final IndexSamplingConfig samplingConfig;
-    private final Set<RawCursor<Hit<KEY,VALUE>,IOException>> openSeekers;
-    private final int[] propertyKeys;
+    final Set<RawCursor<Hit<KEY,VALUE>,IOException>> openSeekers;
+    final int[] propertyKeys;
 
     NativeSchemaNumberIndexReader( GBPTree<KEY,VALUE> tree, Layout<KEY,VALUE> layout, IndexSamplingConfig samplingConfig,
             int[] propertyKeys )
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.index.schema;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.neo4j.index.internal.gbptree.RecoveryCleanupWorkCollector;
+import org.neo4j.internal.kernel.api.IndexCapability;
+import org.neo4j.internal.kernel.api.IndexOrder;
+import org.neo4j.internal.kernel.api.IndexValueCapability;
+import org.neo4j.io.fs.FileSystemAbstraction;
+import org.neo4j.io.pagecache.PageCache;
+import org.neo4j.kernel.api.index.IndexAccessor;
+import org.neo4j.kernel.api.index.IndexDirectoryStructure;
+import org.neo4j.kernel.api.index.IndexPopulator;
+import org.neo4j.kernel.api.schema.index.IndexDescriptor;
+import org.neo4j.kernel.impl.api.index.sampling.IndexSamplingConfig;
+import org.neo4j.values.storable.ValueGroup;
+
+/**
+ * Native index for points, backed by a {@link org.neo4j.index.internal.gbptree.GBPTree} keyed by the position
+ * of each point on a {@link SpaceFillingCurve}. Besides exact lookups it answers bounding box queries,
+ * see {@link SpatialSchemaIndexReader}.
+ */
+public class NativeSchemaSpatialIndexProvider extends NativeSchemaNumberIndexProvider
+{
+    public static final String KEY = "native-spatial";
+    public static final Descriptor SPATIAL_PROVIDER_DESCRIPTOR = new Descriptor( KEY, "1.0" );
+    private static final IndexCapability CAPABILITY = new SpatialIndexCapability();
+
+    public NativeSchemaSpatialIndexProvider( PageCache pageCache, FileSystemAbstraction fs,
+            IndexDirectoryStructure.Factory directoryStructure, Monitor monitor, RecoveryCleanupWorkCollector recoveryCleanupWorkCollector,
+            boolean readOnly )
+    {
+        super( SPATIAL_PROVIDER_DESCRIPTOR, pageCache, fs, directoryStructure, monitor, recoveryCleanupWorkCollector, readOnly );
+    }
+
+    @Override
+    public IndexPopulator getPopulator( long indexId, IndexDescriptor descriptor, IndexSamplingConfig samplingConfig )
+    {
+        if ( readOnly )
+        {
+            throw new UnsupportedOperationException( "Can't create populator for read only index" );
+        }
+
+        File storeFile = nativeIndexFileFromIndexId( indexId );
+        switch ( descriptor.type() )
+        {
+        case GENERAL:
+            return new NativeNonUniqueSchemaNumberIndexPopulator<>( pageCache, fs, storeFile, new NonUniqueSpatialLayout(), samplingConfig,
+                    monitor, descriptor, indexId );
+        case UNIQUE:
+            return new NativeUniqueSchemaNumberIndexPopulator<>( pageCache, fs, storeFile, new UniqueSpatialLayout(), monitor, descriptor,
+                    indexId );
+        default:
+            throw new UnsupportedOperationException( "Can not create index populator of type " + descriptor.type() );
+        }
+    }
+
+    @Override
+    public IndexAccessor getOnlineAccessor(
+            long indexId, IndexDescriptor descriptor, IndexSamplingConfig samplingConfig ) throws IOException
+    {
+        File storeFile = nativeIndexFileFromIndexId( indexId );
+        SpatialLayout layout;
+        switch ( descriptor.type() )
+        {
+        case GENERAL:
+            layout = new NonUniqueSpatialLayout();
+            break;
+        case UNIQUE:
+            layout = new UniqueSpatialLayout();
+            break;
+        default:
+            throw new UnsupportedOperationException( "Can not create index accessor of type " + descriptor.type() );
+        }
+        return new SpatialSchemaIndexAccessor(
+                pageCache, fs, storeFile, layout, recoveryCleanupWorkCollector, monitor, descriptor, indexId,
+                samplingConfig );
+    }
+
+    @Override
+    public IndexCapability getCapability( IndexDescriptor indexDescriptor )
+    {
+        return CAPABILITY;
+    }
+
+    @Override
+    boolean compatibleLayout( long layoutIdentifier, int majorVersion, int minorVersion )
+    {
+        return (layoutIdentifier == UniqueSpatialLayout.IDENTIFIER &&
+                majorVersion == UniqueSpatialLayout.MAJOR_VERSION &&
+                minorVersion == UniqueSpatialLayout.MINOR_VERSION) ||
+                (layoutIdentifier == NonUniqueSpatialLayout.IDENTIFIER &&
+                        majorVersion == NonUniqueSpatialLayout.MAJOR_VERSION &&
+                        minorVersion == NonUniqueSpatialLayout.MINOR_VERSION);
+    }
+
+    private static class SpatialIndexCapability implements IndexCapability
+    {
+        private static final IndexOrder[] EMPTY_ORDER = new IndexOrder[0];
+
+        @Override
+        public IndexOrder[] orderCapability( ValueGroup... valueGroups )
+        {
+            // Points are ordered along the space filling curve, which is of no use to anyone outside of the index
+            return EMPTY_ORDER;
+        }
+
+        @Override
+        public IndexValueCapability valueCapability( ValueGroup... valueGroups )
+        {
+            if ( valueGroups.length == 1 && valueGroups[0] == ValueGroup.GEOMETRY )
+            {
+                return IndexValueCapability.YES;
+            }
+            if ( valueGroups.length == 1 && valueGroups[0] == ValueGroup.UNKNOWN )
+            {
+                return IndexValueCapability.PARTIAL;
+            }
+            return IndexValueCapability.NO;
+        }
+    }
+}
@@ -35,9 +35,9 @@ public class NativeSelector implements FusionSchemaIndexProvider.Selector
         }
 
         Value singleValue = values[0];
-        if ( singleValue.valueGroup() == ValueGroup.NUMBER )
+        if ( singleValue.valueGroup() == ValueGroup.NUMBER || singleValue.valueGroup() == ValueGroup.GEOMETRY )
         {
-            // It's a number, the native can handle this
+            // It's a number or a point, the native can handle this
             return nativeInstance;
         }
         return luceneInstance;
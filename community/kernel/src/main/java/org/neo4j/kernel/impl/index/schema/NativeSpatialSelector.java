@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.index.schema;
+
+import org.neo4j.kernel.impl.index.schema.fusion.FusionSchemaIndexProvider;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.ValueGroup;
+
+/**
+ * Selects between the two native indexes, where the first instance is the number index
+ * and the second instance is the spatial index.
+ */
+public class NativeSpatialSelector implements FusionSchemaIndexProvider.Selector
+{
+    @Override
+    public <T> T select( T numberInstance, T spatialInstance, Value... values )
+    {
+        if ( values.length == 1 && values[0].valueGroup() == ValueGroup.GEOMETRY )
+        {
+            return spatialInstance;
+        }
+        return numberInstance;
+    }
+}
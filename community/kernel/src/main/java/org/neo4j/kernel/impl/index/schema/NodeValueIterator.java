@@ -23,16 +23,19 @@ import org.neo4j.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.collection.primitive.PrimitiveLongIterator;
 import org.neo4j.graphdb.Resource;
 import org.neo4j.storageengine.api.schema.IndexProgressor;
+import org.neo4j.storageengine.api.schema.IndexValueIterator;
 import org.neo4j.values.storable.Value;
 
 /**
  * A {@link IndexProgressor} + {@link IndexProgressor.NodeValueClient} combo presented as a {@link PrimitiveLongIterator}.
+ * Values handed to this client by the progressor are exposed through {@link IndexValueIterator}.
  */
 public class NodeValueIterator extends PrimitiveLongCollections.PrimitiveLongBaseIterator
-        implements IndexProgressor.NodeValueClient, Resource
+        implements IndexProgressor.NodeValueClient, IndexValueIterator, Resource
 {
     private boolean closed;
     private IndexProgressor progressor;
+    private Value[] values;
 
     @Override
     protected boolean fetchNext()
@@ -56,15 +59,29 @@ public class NodeValueIterator extends PrimitiveLongCollections.PrimitiveLongBas
     @Override
     public boolean acceptNode( long reference, Value... values )
     {
+        this.values = values;
         return next( reference );
     }
 
+    @Override
+    public boolean hasValue()
+    {
+        return values != null;
+    }
+
+    @Override
+    public Value propertyValue( int offset )
+    {
+        return values[offset];
+    }
+
     @Override
     public void close()
     {
         if ( !closed )
         {
             closed = true;
+            values = null;
             progressor.close();
         }
     }
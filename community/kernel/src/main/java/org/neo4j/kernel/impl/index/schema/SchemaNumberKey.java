@@ -88,7 +88,7 @@ class SchemaNumberKey extends ValueWriter.Adapter<RuntimeException>
         return asValue().toString();
     }
 
-    NumberValue asValue()
+    Value asValue()
     {
         return RawBits.asNumberValue( rawValueBits, type );
     }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.index.schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.values.storable.CoordinateReferenceSystem;
+
+/**
+ * Maps two dimensional coordinates onto a one dimensional Z-order (Morton) curve so that points can be stored
+ * in a {@link org.neo4j.index.internal.gbptree.GBPTree} ordered by a single {@code long}.
+ * <p>
+ * The envelope of the coordinate reference system is divided into a {@code 2^30 x 2^30} grid and the curve value of
+ * a point is its cell coordinates with the bits interleaved. Coordinates outside of the envelope are clamped to the
+ * border cells, which keeps the mapping monotonic in each dimension and thereby keeps range decomposition correct.
+ * <p>
+ * A bounding box is answered by {@link #rangesFor(double[], double[])}, which decomposes it into a small set of
+ * curve ranges by walking the quad tree implied by the curve. The ranges cover the box but may also cover some area
+ * outside of it, so hits must be filtered against the actual coordinates.
+ */
+class SpaceFillingCurve
+{
+    static final int BITS_PER_DIMENSION = 30;
+    private static final long MAX_CELL = (1L << BITS_PER_DIMENSION) - 1;
+
+    /**
+     * Cells partially overlapping the bounding box are not subdivided below this fraction of the box size,
+     * which bounds the number of ranges (and thereby seeks) per query at the cost of some false positives.
+     */
+    private static final int REFINEMENT_FACTOR = 4;
+
+    private static final SpaceFillingCurve WGS84 = new SpaceFillingCurve( -180, -90, 180, 90 );
+    private static final SpaceFillingCurve CARTESIAN = new SpaceFillingCurve( -1_000_000, -1_000_000, 1_000_000, 1_000_000 );
+
+    private final double minX;
+    private final double minY;
+    private final double cellWidth;
+    private final double cellHeight;
+
+    SpaceFillingCurve( double minX, double minY, double maxX, double maxY )
+    {
+        this.minX = minX;
+        this.minY = minY;
+        this.cellWidth = (maxX - minX) / (MAX_CELL + 1);
+        this.cellHeight = (maxY - minY) / (MAX_CELL + 1);
+    }
+
+    static SpaceFillingCurve forCrs( CoordinateReferenceSystem crs )
+    {
+        return crs == CoordinateReferenceSystem.WGS84 ? WGS84 : CARTESIAN;
+    }
+
+    /**
+     * @param coordinate two dimensional coordinate.
+     * @return the position of the cell containing {@code coordinate} along the curve.
+     */
+    long derivedValueFor( double[] coordinate )
+    {
+        return interleave( cellX( coordinate[0] ), cellY( coordinate[1] ) );
+    }
+
+    /**
+     * Decomposes the bounding box spanned by {@code from} and {@code to} into curve ranges.
+     *
+     * @param from lower left corner of the bounding box.
+     * @param to upper right corner of the bounding box.
+     * @return sorted, non-overlapping ranges of curve values which together cover the bounding box.
+     */
+    List<LongRange> rangesFor( double[] from, double[] to )
+    {
+        long fromX = cellX( from[0] );
+        long fromY = cellY( from[1] );
+        long toX = cellX( to[0] );
+        long toY = cellY( to[1] );
+        List<LongRange> ranges = new ArrayList<>();
+        if ( fromX > toX || fromY > toY )
+        {
+            return ranges;
+        }
+        long extent = Math.max( toX - fromX, toY - fromY ) + 1;
+        long minimumCellSize = Math.max( 1, Long.highestOneBit( extent / REFINEMENT_FACTOR ) );
+        collectRanges( 0, 0, MAX_CELL + 1, fromX, fromY, toX, toY, minimumCellSize, ranges );
+        return ranges;
+    }
+
+    private static void collectRanges( long x, long y, long size, long fromX, long fromY, long toX, long toY,
+            long minimumCellSize, List<LongRange> ranges )
+    {
+        long maxX = x + size - 1;
+        long maxY = y + size - 1;
+        if ( maxX < fromX || x > toX || maxY < fromY || y > toY )
+        {
+            return;
+        }
+        boolean covered = x >= fromX && maxX <= toX && y >= fromY && maxY <= toY;
+        if ( covered || size <= minimumCellSize )
+        {
+            long min = interleave( x, y );
+            add( ranges, min, min + size * size - 1 );
+            return;
+        }
+        long half = size >>> 1;
+        // Visit quadrants in curve order so that the ranges come out sorted
+        collectRanges( x, y, half, fromX, fromY, toX, toY, minimumCellSize, ranges );
+        collectRanges( x + half, y, half, fromX, fromY, toX, toY, minimumCellSize, ranges );
+        collectRanges( x, y + half, half, fromX, fromY, toX, toY, minimumCellSize, ranges );
+        collectRanges( x + half, y + half, half, fromX, fromY, toX, toY, minimumCellSize, ranges );
+    }
+
+    private static void add( List<LongRange> ranges, long min, long max )
+    {
+        if ( !ranges.isEmpty() )
+        {
+            LongRange last = ranges.get( ranges.size() - 1 );
+            if ( last.max + 1 == min )
+            {
+                ranges.set( ranges.size() - 1, new LongRange( last.min, max ) );
+                return;
+            }
+        }
+        ranges.add( new LongRange( min, max ) );
+    }
+
+    private long cellX( double x )
+    {
+        return clamp( (x - minX) / cellWidth );
+    }
+
+    private long cellY( double y )
+    {
+        return clamp( (y - minY) / cellHeight );
+    }
+
+    private static long clamp( double cell )
+    {
+        if ( !(cell > 0) )
+        {
+            // Also covers NaN
+            return 0;
+        }
+        return cell >= MAX_CELL ? MAX_CELL : (long) cell;
+    }
+
+    static long interleave( long x, long y )
+    {
+        return spread( x ) | (spread( y ) << 1);
+    }
+
+    private static long spread( long value )
+    {
+        value &= 0xFFFFFFFFL;
+        value = (value | (value << 16)) & 0x0000FFFF0000FFFFL;
+        value = (value | (value << 8)) & 0x00FF00FF00FF00FFL;
+        value = (value | (value << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        value = (value | (value << 2)) & 0x3333333333333333L;
+        value = (value | (value << 1)) & 0x5555555555555555L;
+        return value;
+    }
+
+    /**
+     * Inclusive range of curve values.
+     */
+    static class LongRange
+    {
+        final long min;
+        final long max;
+
+        LongRange( long min, long max )
+        {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean equals( Object o )
+        {
+            if ( this == o )
+            {
+                return true;
+            }
+            if ( o == null || getClass() != o.getClass() )
+            {
+                return false;
+            }
+            LongRange that = (LongRange) o;
+            return min == that.min && max == that.max;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * Long.hashCode( min ) + Long.hashCode( max );
+        }
+
+        @Override
+        public String toString()
+        {
+            return "[" + min + "," + max + "]";
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.index.schema;
+
+import org.neo4j.index.internal.gbptree.Layout;
+import org.neo4j.io.pagecache.PageCursor;
+
+/**
+ * {@link Layout} for points, keyed by their position on a {@link SpaceFillingCurve}.
+ */
+abstract class SpatialLayout extends Layout.Adapter<SpatialSchemaKey,SchemaNumberValue>
+{
+    @Override
+    public SpatialSchemaKey newKey()
+    {
+        return new SpatialSchemaKey();
+    }
+
+    @Override
+    public SpatialSchemaKey copyKey( SpatialSchemaKey key, SpatialSchemaKey into )
+    {
+        into.crsCode = key.crsCode;
+        into.rawValueBits = key.rawValueBits;
+        into.x = key.x;
+        into.y = key.y;
+        into.entityId = key.entityId;
+        into.entityIdIsSpecialTieBreaker = key.entityIdIsSpecialTieBreaker;
+        return into;
+    }
+
+    @Override
+    public SchemaNumberValue newValue()
+    {
+        return SchemaNumberValue.INSTANCE;
+    }
+
+    @Override
+    public int keySize()
+    {
+        return SpatialSchemaKey.SIZE;
+    }
+
+    @Override
+    public int valueSize()
+    {
+        return SchemaNumberValue.SIZE;
+    }
+
+    @Override
+    public void writeKey( PageCursor cursor, SpatialSchemaKey key )
+    {
+        cursor.putInt( key.crsCode );
+        cursor.putLong( key.rawValueBits );
+        cursor.putLong( Double.doubleToLongBits( key.x ) );
+        cursor.putLong( Double.doubleToLongBits( key.y ) );
+        cursor.putLong( key.entityId );
+    }
+
+    @Override
+    public void writeValue( PageCursor cursor, SchemaNumberValue value )
+    {
+    }
+
+    @Override
+    public void readKey( PageCursor cursor, SpatialSchemaKey into )
+    {
+        into.crsCode = cursor.getInt();
+        into.rawValueBits = cursor.getLong();
+        into.x = Double.longBitsToDouble( cursor.getLong() );
+        into.y = Double.longBitsToDouble( cursor.getLong() );
+        into.entityId = cursor.getLong();
+    }
+
+    @Override
+    public void readValue( PageCursor cursor, SchemaNumberValue into )
+    {
+    }
+}
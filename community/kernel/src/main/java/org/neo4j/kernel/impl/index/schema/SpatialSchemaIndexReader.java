@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.index.schema;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.neo4j.cursor.RawCursor;
+import org.neo4j.index.internal.gbptree.GBPTree;
+import org.neo4j.index.internal.gbptree.Hit;
+import org.neo4j.index.internal.gbptree.Layout;
+import org.neo4j.internal.kernel.api.IndexOrder;
+import org.neo4j.internal.kernel.api.IndexQuery;
+import org.neo4j.internal.kernel.api.IndexQuery.GeometryRangePredicate;
+import org.neo4j.kernel.impl.api.index.sampling.IndexSamplingConfig;
+import org.neo4j.kernel.impl.index.schema.SpaceFillingCurve.LongRange;
+import org.neo4j.storageengine.api.schema.IndexProgressor;
+import org.neo4j.values.storable.CoordinateReferenceSystem;
+
+import static java.lang.String.format;
+
+/**
+ * Reader of a spatial index. Exact lookups and scans are handled like in any other native index, whereas
+ * {@link GeometryRangePredicate bounding box queries} are decomposed into ranges on the {@link SpaceFillingCurve},
+ * each of which is one seek in the tree. Hits are filtered against their exact coordinates, which are part of the key.
+ */
+class SpatialSchemaIndexReader extends NativeSchemaNumberIndexReader<SpatialSchemaKey,SchemaNumberValue>
+{
+    SpatialSchemaIndexReader( GBPTree<SpatialSchemaKey,SchemaNumberValue> tree, Layout<SpatialSchemaKey,SchemaNumberValue> layout,
+            IndexSamplingConfig samplingConfig, int[] propertyKeys )
+    {
+        super( tree, layout, samplingConfig, propertyKeys );
+    }
+
+    @Override
+    public void query( IndexProgressor.NodeValueClient cursor, IndexOrder indexOrder, IndexQuery... predicates )
+    {
+        if ( predicates.length != 1 || !(predicates[0] instanceof GeometryRangePredicate) )
+        {
+            super.query( cursor, indexOrder, predicates );
+            return;
+        }
+        if ( indexOrder != IndexOrder.NONE )
+        {
+            throw new UnsupportedOperationException(
+                    format( "Tried to query index with unsupported order %s. Supported orders for query %s are %s.",
+                            indexOrder, predicates[0], IndexOrder.NONE ) );
+        }
+
+        GeometryRangePredicate rangePredicate = (GeometryRangePredicate) predicates[0];
+        List<LongRange> ranges = SpaceFillingCurve.forCrs( rangePredicate.crs() )
+                .rangesFor( rangePredicate.from().coordinates(), rangePredicate.to().coordinates() );
+        cursor.initialize( new BoundingBoxProgressor( cursor, rangePredicate, ranges.iterator() ), propertyKeys );
+    }
+
+    private class BoundingBoxProgressor implements IndexProgressor
+    {
+        private final NodeValueClient client;
+        private final CoordinateReferenceSystem crs;
+        private final double[] from;
+        private final double[] to;
+        private final Iterator<LongRange> ranges;
+        private final SpatialSchemaKey treeKeyFrom = layout.newKey();
+        private final SpatialSchemaKey treeKeyTo = layout.newKey();
+        private RawCursor<Hit<SpatialSchemaKey,SchemaNumberValue>,IOException> seeker;
+
+        BoundingBoxProgressor( NodeValueClient client, GeometryRangePredicate predicate, Iterator<LongRange> ranges )
+        {
+            this.client = client;
+            this.crs = predicate.crs();
+            this.from = predicate.from().coordinates();
+            this.to = predicate.to().coordinates();
+            this.ranges = ranges;
+        }
+
+        @Override
+        public boolean next()
+        {
+            try
+            {
+                while ( seeker != null || nextSeeker() )
+                {
+                    while ( seeker.next() )
+                    {
+                        SpatialSchemaKey key = seeker.get().key();
+                        if ( key.x >= from[0] && key.x <= to[0] && key.y >= from[1] && key.y <= to[1] &&
+                             client.acceptNode( key.entityId, key.asValue() ) )
+                        {
+                            return true;
+                        }
+                    }
+                    closeSeeker();
+                }
+                return false;
+            }
+            catch ( IOException e )
+            {
+                throw new UncheckedIOException( e );
+            }
+        }
+
+        private boolean nextSeeker() throws IOException
+        {
+            if ( !ranges.hasNext() )
+            {
+                return false;
+            }
+            LongRange range = ranges.next();
+            treeKeyFrom.initFromCurveValue( crs, range.min, false );
+            treeKeyTo.initFromCurveValue( crs, range.max, true );
+            seeker = tree.seek( treeKeyFrom, treeKeyTo );
+            openSeekers.add( seeker );
+            return true;
+        }
+
+        private void closeSeeker() throws IOException
+        {
+            if ( seeker != null )
+            {
+                seeker.close();
+                openSeekers.remove( seeker );
+                seeker = null;
+            }
+        }
+
+        @Override
+        public void close()
+        {
+            try
+            {
+                closeSeeker();
+            }
+            catch ( IOException e )
+            {
+                throw new UncheckedIOException( e );
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.index.schema;
+
+import org.neo4j.values.storable.CoordinateReferenceSystem;
+import org.neo4j.values.storable.PointValue;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
+
+import static java.lang.String.format;
+
+/**
+ * Includes point value and entity id (to be able to handle non-unique values).
+ * Keys are ordered by coordinate reference system, then by position on the {@link SpaceFillingCurve},
+ * which is kept in {@link #rawValueBits}, and lastly by the actual coordinates so that equal points are adjacent.
+ */
+class SpatialSchemaKey extends SchemaNumberKey
+{
+    static final int SIZE =
+            Integer.BYTES + /* coordinate reference system code */
+            Long.BYTES +    /* space filling curve value */
+            Long.BYTES +    /* x */
+            Long.BYTES +    /* y */
+            Long.BYTES;     /* entityId */
+
+    int crsCode;
+    double x;
+    double y;
+
+    @Override
+    void from( long entityId, Value... values )
+    {
+        PointValue point = assertValidSinglePoint( values );
+        CoordinateReferenceSystem crs = point.getCoordinateReferenceSystem();
+        double[] coordinate = point.coordinates();
+        crsCode = crs.code;
+        rawValueBits = SpaceFillingCurve.forCrs( crs ).derivedValueFor( coordinate );
+        x = coordinate[0];
+        y = coordinate[1];
+        this.entityId = entityId;
+        entityIdIsSpecialTieBreaker = false;
+    }
+
+    private static PointValue assertValidSinglePoint( Value... values )
+    {
+        if ( values.length > 1 )
+        {
+            throw new IllegalArgumentException( "Tried to create composite key with non-composite schema key layout" );
+        }
+        if ( values.length < 1 )
+        {
+            throw new IllegalArgumentException( "Tried to create key without value" );
+        }
+        if ( !Values.isGeometryValue( values[0] ) )
+        {
+            throw new IllegalArgumentException(
+                    "Key layout does only support points, tried to create key from " + values[0] );
+        }
+        return (PointValue) values[0];
+    }
+
+    /**
+     * Initializes this key as the first (or last, if {@code highest}) possible key for the given curve value.
+     */
+    void initFromCurveValue( CoordinateReferenceSystem crs, long curveValue, boolean highest )
+    {
+        crsCode = crs.code;
+        rawValueBits = curveValue;
+        x = highest ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        y = x;
+        entityId = highest ? Long.MAX_VALUE : Long.MIN_VALUE;
+        entityIdIsSpecialTieBreaker = true;
+    }
+
+    @Override
+    Value asValue()
+    {
+        return Values.pointValue( CoordinateReferenceSystem.get( crsCode ), x, y );
+    }
+
+    @Override
+    void initAsLowest()
+    {
+        crsCode = Integer.MIN_VALUE;
+        rawValueBits = Long.MIN_VALUE;
+        x = Double.NEGATIVE_INFINITY;
+        y = Double.NEGATIVE_INFINITY;
+        entityId = Long.MIN_VALUE;
+        entityIdIsSpecialTieBreaker = true;
+    }
+
+    @Override
+    void initAsHighest()
+    {
+        crsCode = Integer.MAX_VALUE;
+        rawValueBits = Long.MAX_VALUE;
+        x = Double.POSITIVE_INFINITY;
+        y = Double.POSITIVE_INFINITY;
+        entityId = Long.MAX_VALUE;
+        entityIdIsSpecialTieBreaker = true;
+    }
+
+    @Override
+    int compareValueTo( SchemaNumberKey other )
+    {
+        SpatialSchemaKey that = (SpatialSchemaKey) other;
+        int comparison = Integer.compare( crsCode, that.crsCode );
+        if ( comparison == 0 )
+        {
+            comparison = Long.compare( rawValueBits, that.rawValueBits );
+        }
+        if ( comparison == 0 )
+        {
+            comparison = Double.compare( x, that.x );
+        }
+        if ( comparison == 0 )
+        {
+            comparison = Double.compare( y, that.y );
+        }
+        return comparison;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "crs=%d,curveValue=%d,x=%s,y=%s,entityId=%d", crsCode, rawValueBits, x, y, entityId );
+    }
+}
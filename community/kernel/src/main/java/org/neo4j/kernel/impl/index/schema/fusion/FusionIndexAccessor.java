@@ -86,6 +86,13 @@ class FusionIndexAccessor implements IndexAccessor
         luceneAccessor.force();
     }
 
+    @Override
+    public void compact() throws IOException
+    {
+        nativeAccessor.compact();
+        luceneAccessor.compact();
+    }
+
     @Override
     public void close() throws IOException
     {
@@ -29,6 +29,7 @@ import org.neo4j.internal.kernel.api.IndexOrder;
 import org.neo4j.internal.kernel.api.IndexQuery;
 import org.neo4j.internal.kernel.api.IndexQuery.ExactPredicate;
 import org.neo4j.internal.kernel.api.IndexQuery.ExistsPredicate;
+import org.neo4j.internal.kernel.api.IndexQuery.GeometryRangePredicate;
 import org.neo4j.internal.kernel.api.IndexQuery.NumberRangePredicate;
 import org.neo4j.kernel.api.exceptions.index.IndexNotApplicableKernelException;
 import org.neo4j.kernel.impl.index.schema.fusion.FusionSchemaIndexProvider.Selector;
@@ -93,6 +94,12 @@ class FusionIndexReader implements IndexReader
             return selector.select( nativeReader, luceneReader, exactPredicate.value() ).query( predicates );
         }
 
+        if ( predicates[0] instanceof GeometryRangePredicate )
+        {
+            GeometryRangePredicate geometryRangePredicate = (GeometryRangePredicate) predicates[0];
+            return selector.select( nativeReader, luceneReader, geometryRangePredicate.from() ).query( predicates );
+        }
+
         if ( predicates[0] instanceof NumberRangePredicate )
         {
             return nativeReader.query( predicates[0] );
@@ -126,6 +133,13 @@ class FusionIndexReader implements IndexReader
             return;
         }
 
+        if ( predicates[0] instanceof GeometryRangePredicate )
+        {
+            GeometryRangePredicate geometryRangePredicate = (GeometryRangePredicate) predicates[0];
+            selector.select( nativeReader, luceneReader, geometryRangePredicate.from() ).query( cursor, indexOrder, predicates );
+            return;
+        }
+
         if ( predicates[0] instanceof NumberRangePredicate )
         {
             nativeReader.query( cursor, indexOrder, predicates[0] );
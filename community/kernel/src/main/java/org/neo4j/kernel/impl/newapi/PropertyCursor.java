@@ -23,6 +23,7 @@ import java.nio.ByteBuffer;
 import java.util.regex.Pattern;
 
 import org.neo4j.io.pagecache.PageCursor;
+import org.neo4j.kernel.impl.store.GeometryType;
 import org.neo4j.kernel.impl.store.LongerShortString;
 import org.neo4j.kernel.impl.store.PropertyType;
 import org.neo4j.kernel.impl.store.ShortArray;
@@ -163,6 +164,8 @@ public class PropertyCursor extends PropertyRecord implements org.neo4j.internal
         case CHAR:
         case SHORT_STRING:
             return ValueGroup.TEXT;
+        case GEOMETRY:
+            return ValueGroup.GEOMETRY;
         case SHORT_ARRAY:
         case ARRAY:
         default:
@@ -209,6 +212,8 @@ public class PropertyCursor extends PropertyRecord implements org.neo4j.internal
             return readLongString();
         case ARRAY:
             return readLongArray();
+        case GEOMETRY:
+            return GeometryType.decode( getBlocks(), block );
         default:
             throw new IllegalStateException( "Unsupported PropertyType: " + type.name() );
         }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.kernel.impl.query;
 
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.graphdb.Result;
@@ -64,6 +65,18 @@ enum NoQueryEngine implements QueryExecutionEngine
         throw noQueryEngine();
     }
 
+    @Override
+    public List<String> cachedQueries()
+    {
+        throw noQueryEngine();
+    }
+
+    @Override
+    public long warmUpQueryCache( List<String> queries )
+    {
+        throw noQueryEngine();
+    }
+
     private RuntimeException noQueryEngine()
     {
         return new UnsupportedOperationException( "No query engine installed." );
@@ -19,6 +19,7 @@
  */
 package org.neo4j.kernel.impl.query;
 
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.graphdb.Result;
@@ -40,5 +41,19 @@ public interface QueryExecutionEngine
     String prettify( String query );
 
     long clearQueryCaches();
+
+    /**
+     * @return the text of the cached queries, the most frequently used first, in a form that
+     * {@link #warmUpQueryCache(List)} accepts.
+     */
+    List<String> cachedQueries();
+
+    /**
+     * Plans the given queries in the background, so that their plans are cached before they are executed.
+     *
+     * @param queries the text of the queries to plan, as returned by {@link #cachedQueries()}.
+     * @return the number of queries that will be planned.
+     */
+    long warmUpQueryCache( List<String> queries );
 }
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.query;
+
+import org.neo4j.kernel.api.query.ExecutingQuery;
+import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+import org.neo4j.kernel.monitoring.Monitors;
+
+/**
+ * Releases the memory a query has reported to its {@link org.neo4j.kernel.api.query.QueryMemoryTracker} once the
+ * query has finished. The executing query outlives the statements and transactions it runs in, so the end of the
+ * query execution is the only point where we know that none of its operators are holding on to memory any more.
+ */
+public class QueryMemoryReleaser extends LifecycleAdapter implements QueryExecutionMonitor
+{
+    private final Monitors monitors;
+
+    public QueryMemoryReleaser( Monitors monitors )
+    {
+        this.monitors = monitors;
+    }
+
+    @Override
+    public void start()
+    {
+        monitors.addMonitorListener( this );
+    }
+
+    @Override
+    public void stop()
+    {
+        monitors.removeMonitorListener( this );
+    }
+
+    @Override
+    public void startQueryExecution( ExecutingQuery query )
+    {
+    }
+
+    @Override
+    public void endFailure( ExecutingQuery query, Throwable failure )
+    {
+        query.memoryTracker().close();
+    }
+
+    @Override
+    public void endSuccess( ExecutingQuery query )
+    {
+        query.memoryTracker().close();
+    }
+}
@@ -229,7 +229,11 @@ public class StoreStatement implements StorageStatement
     {
         assert !closed;
         assert acquired;
-        closeSchemaResources();
+        if ( indexReaderFactory != null )
+        {
+            indexReaderFactory.release();
+        }
+        closeLabelScanReader();
         acquired = false;
     }
 
@@ -250,6 +254,11 @@ public class StoreStatement implements StorageStatement
             indexReaderFactory.close();
             // we can actually keep this object around
         }
+        closeLabelScanReader();
+    }
+
+    private void closeLabelScanReader()
+    {
         if ( labelScanReader != null )
         {
             labelScanReader.close();
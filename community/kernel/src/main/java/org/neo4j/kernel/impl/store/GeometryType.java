@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.store;
+
+import org.neo4j.kernel.impl.store.record.PropertyBlock;
+import org.neo4j.values.storable.CoordinateReferenceSystem;
+import org.neo4j.values.storable.PointValue;
+import org.neo4j.values.storable.Values;
+
+/**
+ * Inlined encoding of points in property blocks. A point takes three blocks: the header block, which also holds the
+ * code of the {@link CoordinateReferenceSystem}, followed by the raw bits of the x and y coordinates.
+ * <pre>
+ *     [cccc,cccc][cccc,cccc][cccc,cccc][cccc,cccc][cccc,tttt][kkkk,kkkk][kkkk,kkkk][kkkk,kkkk]
+ *     [xxxx,xxxx] x 8
+ *     [yyyy,yyyy] x 8
+ * </pre>
+ */
+public final class GeometryType
+{
+    private static final int BLOCKS_USED = 3;
+
+    private GeometryType()
+    {
+    }
+
+    public static void encode( int keyId, PointValue point, PropertyBlock block )
+    {
+        double[] coordinate = point.coordinates();
+        long header = PropertyStore.singleBlockLongValue( keyId, PropertyType.GEOMETRY,
+                point.getCoordinateReferenceSystem().code() );
+        block.setValueBlocks( new long[]{header,
+                Double.doubleToRawLongBits( coordinate[0] ), Double.doubleToRawLongBits( coordinate[1] )} );
+    }
+
+    /**
+     * @param blocks the blocks of the property record.
+     * @param offset index of the header block of the point among the blocks.
+     * @return the decoded point.
+     */
+    public static PointValue decode( long[] blocks, int offset )
+    {
+        CoordinateReferenceSystem crs = CoordinateReferenceSystem.get( (int) PropertyBlock.fetchLong( blocks[offset] ) );
+        return Values.pointValue( crs,
+                Double.longBitsToDouble( blocks[offset + 1] ), Double.longBitsToDouble( blocks[offset + 2] ) );
+    }
+
+    public static int calculateNumberOfBlocksUsed( long firstBlock )
+    {
+        return BLOCKS_USED;
+    }
+}
@@ -43,6 +43,7 @@ import org.neo4j.kernel.impl.store.record.Record;
 import org.neo4j.kernel.impl.store.record.RecordLoad;
 import org.neo4j.logging.LogProvider;
 import org.neo4j.string.UTF8;
+import org.neo4j.values.storable.PointValue;
 import org.neo4j.values.storable.Value;
 
 import static org.neo4j.kernel.impl.store.DynamicArrayStore.getRightArray;
@@ -291,6 +292,10 @@ public class PropertyStore extends CommonAbstractStore<PropertyRecord,NoStoreHea
         {
             setSingleBlockValue( block, keyId, PropertyType.SHORT, ((Short) asObject).longValue() );
         }
+        else if ( asObject instanceof PointValue )
+        {
+            GeometryType.encode( keyId, (PointValue) asObject, block );
+        }
         else if ( asObject.getClass().isArray() )
         {   // Try short array first, i.e. inlined in the property block
             if ( ShortArray.encode( keyId, asObject, block, PropertyType.getPayloadSize() ) )
@@ -190,6 +190,20 @@ public enum PropertyType
         {
             return ShortArray.calculateNumberOfBlocksUsed( firstBlock );
         }
+    },
+    GEOMETRY( 13 )
+    {
+        @Override
+        public Value value( PropertyBlock block, PropertyStore store )
+        {
+            return GeometryType.decode( block.getValueBlocks(), 0 );
+        }
+
+        @Override
+        public int calculateNumberOfBlocksUsed( long firstBlock )
+        {
+            return GeometryType.calculateNumberOfBlocksUsed( firstBlock );
+        }
     };
 
     public static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
@@ -259,6 +273,8 @@ public enum PropertyType
             return SHORT_STRING;
         case 12:
             return SHORT_ARRAY;
+        case 13:
+            return GEOMETRY;
         default:
             return null;
         }
@@ -55,4 +55,11 @@ public class LabelScanViewNodeStoreScan<FAILURE extends Exception> extends Store
     {
         return new LabelScanViewIdIterator( labelScanStore.newReader(), labelIds );
     }
+
+    @Override
+    protected int numberOfPartitions()
+    {
+        // Label scan store readers can not be split up into id ranges
+        return 1;
+    }
 }
@@ -19,6 +19,14 @@
  */
 package org.neo4j.kernel.impl.transaction.state.storeview;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
 import org.neo4j.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.collection.primitive.PrimitiveLongResourceIterator;
 import org.neo4j.kernel.impl.api.index.StoreScan;
@@ -28,31 +36,49 @@ import org.neo4j.kernel.impl.store.NodeStore;
 import org.neo4j.kernel.impl.store.StoreIdIterator;
 import org.neo4j.kernel.impl.store.record.NodeRecord;
 import org.neo4j.storageengine.api.schema.PopulationProgress;
+import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
 
+import static org.neo4j.helpers.NamedThreadFactory.daemon;
 import static org.neo4j.kernel.impl.store.record.RecordLoad.FORCE;
 
 /**
  * Node scanner that will perform some sort of process over set of nodes
  * from nodeStore {@link NodeStore} based on node ids supplied by underlying store aware id iterator.
+ * <p>
+ * Large stores are split into {@link #MAXIMUM_PARTITIONS} id ranges of at least {@link #MINIMUM_PARTITION_SIZE} ids
+ * each, which are scanned concurrently, every partition with its own record and id iterator. Calls to
+ * {@link #process(NodeRecord)} may therefore happen from multiple threads at the same time.
  * @param <FAILURE> type of exception thrown on failure
  */
 public abstract class NodeStoreScan<FAILURE extends Exception> implements StoreScan<FAILURE>
 {
+    public static final String MAXIMUM_PARTITIONS_NAME = "maximum_partitions";
+    public static final String MINIMUM_PARTITION_SIZE_NAME = "minimum_partition_size";
+
+    private static final String SCAN_THREAD_NAME_PREFIX = "Node Store Scan Thread";
+
+    private final int MAXIMUM_PARTITIONS = FeatureToggles.getInteger( NodeStoreScan.class, MAXIMUM_PARTITIONS_NAME,
+            Runtime.getRuntime().availableProcessors() );
+    private final long MINIMUM_PARTITION_SIZE = FeatureToggles.getLong( NodeStoreScan.class,
+            MINIMUM_PARTITION_SIZE_NAME, 1_000_000 );
+
     private volatile boolean continueScanning;
-    private final NodeRecord record;
 
     protected final NodeStore nodeStore;
     protected final LockService locks;
     private final long totalCount;
 
-    private long count;
+    private volatile PartitionListener partitionListener = PartitionListener.NONE;
+    private volatile long partitionSize;
+    // Per partition the id of the node currently, or last, scanned in that partition
+    private volatile AtomicLongArray scannedUpTo;
+    private volatile long[] counts = new long[1];
 
     public abstract void process( NodeRecord loaded ) throws FAILURE;
 
     public NodeStoreScan( NodeStore nodeStore, LockService locks, long totalCount )
     {
         this.nodeStore = nodeStore;
-        this.record = nodeStore.newRecord();
         this.locks = locks;
         this.totalCount = totalCount;
     }
@@ -60,29 +86,172 @@ public abstract class NodeStoreScan<FAILURE extends Exception> implements StoreS
     @Override
     public void run() throws FAILURE
     {
-        try ( PrimitiveLongResourceIterator nodeIds = getNodeIdIterator() )
+        continueScanning = true;
+        int partitions = numberOfPartitions();
+        if ( partitions <= 1 )
+        {
+            try ( PrimitiveLongResourceIterator nodeIds = getNodeIdIterator() )
+            {
+                scan( nodeIds, nodeStore.newRecord(), 0 );
+            }
+            return;
+        }
+
+        long size = totalCount / partitions;
+        AtomicLongArray positions = new AtomicLongArray( partitions );
+        for ( int partition = 0; partition < partitions; partition++ )
+        {
+            positions.set( partition, partition * size - 1 );
+        }
+        this.counts = new long[partitions];
+        this.partitionSize = size;
+        this.scannedUpTo = positions;
+        runPartitions( partitions, size );
+    }
+
+    private void runPartitions( int partitions, long size ) throws FAILURE
+    {
+        ExecutorService executor = Executors.newFixedThreadPool( partitions, daemon( SCAN_THREAD_NAME_PREFIX ) );
+        try
+        {
+            List<Future<Void>> scans = new ArrayList<>( partitions );
+            for ( int partition = 0; partition < partitions; partition++ )
+            {
+                int current = partition;
+                scans.add( executor.submit( () ->
+                {
+                    scanPartition( current, partitions, size );
+                    return null;
+                } ) );
+            }
+            for ( Future<Void> scan : scans )
+            {
+                awaitPartition( scan );
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private void scanPartition( int partition, int partitions, long size ) throws FAILURE
+    {
+        long start = partition * size;
+        boolean last = partition == partitions - 1;
+        // The last partition follows the high id of the store, just like a non-partitioned scan would
+        PrimitiveLongResourceIterator nodeIds = PrimitiveLongCollections.resourceIterator( last
+                ? new StoreIdIterator( nodeStore, true, Math.max( start, nodeStore.getNumberOfReservedLowIds() ) )
+                : PrimitiveLongCollections.range( start, start + size - 1 ), null );
+        try ( PrimitiveLongResourceIterator ids = nodeIds )
+        {
+            scan( ids, nodeStore.newRecord(), partition );
+        }
+        if ( continueScanning )
+        {
+            scannedUpTo.set( partition, last ? Long.MAX_VALUE : start + size - 1 );
+            long partitionTotal = last ? Math.max( totalCount - start, counts[partition] ) : size;
+            partitionListener.partitionScanned( partition, partitions,
+                    new PopulationProgress( counts[partition], partitionTotal ) );
+        }
+    }
+
+    private void scan( PrimitiveLongResourceIterator nodeIds, NodeRecord record, int partition ) throws FAILURE
+    {
+        AtomicLongArray positions = scannedUpTo;
+        long[] partitionCounts = counts;
+        while ( continueScanning && nodeIds.hasNext() )
         {
-            continueScanning = true;
-            while ( continueScanning && nodeIds.hasNext() )
+            long id = nodeIds.next();
+            try ( Lock ignored = locks.acquireNodeLock( id, LockService.LockType.READ_LOCK ) )
             {
-                long id = nodeIds.next();
-                try ( Lock ignored = locks.acquireNodeLock( id, LockService.LockType.READ_LOCK ) )
+                if ( positions != null )
+                {
+                    positions.set( partition, id );
+                }
+                partitionCounts[partition]++;
+                if ( nodeStore.getRecord( id, record, FORCE ).inUse() )
                 {
-                    count++;
-                    if ( nodeStore.getRecord( id, record, FORCE ).inUse() )
-                    {
-                        process( record );
-                    }
+                    process( record );
                 }
             }
         }
     }
 
+    @SuppressWarnings( "unchecked" )
+    private void awaitPartition( Future<Void> scan ) throws FAILURE
+    {
+        try
+        {
+            scan.get();
+        }
+        catch ( InterruptedException e )
+        {
+            stop();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException( "Interrupted while waiting for node store scan partitions to complete", e );
+        }
+        catch ( ExecutionException e )
+        {
+            stop();
+            Throwable cause = e.getCause();
+            if ( cause instanceof RuntimeException )
+            {
+                throw (RuntimeException) cause;
+            }
+            if ( cause instanceof Error )
+            {
+                throw (Error) cause;
+            }
+            throw (FAILURE) cause;
+        }
+    }
+
+    /**
+     * Decides how many partitions this scan should be split into. Scans which supply their own
+     * {@link #getNodeIdIterator() id iterator} are never partitioned.
+     *
+     * @return number of partitions to scan concurrently, {@code 1} means a single-threaded scan.
+     */
+    protected int numberOfPartitions()
+    {
+        if ( MINIMUM_PARTITION_SIZE <= 0 )
+        {
+            return 1;
+        }
+        return (int) Math.max( 1, Math.min( MAXIMUM_PARTITIONS, totalCount / MINIMUM_PARTITION_SIZE ) );
+    }
+
     protected PrimitiveLongResourceIterator getNodeIdIterator()
     {
         return PrimitiveLongCollections.resourceIterator( new StoreIdIterator( nodeStore ), null );
     }
 
+    /**
+     * Whether or not the given node has already been seen by this scan, in which case concurrent updates to it
+     * must be applied to the index rather than being left to the scan.
+     *
+     * @param nodeId id of the node that was updated.
+     * @param currentlyIndexedNodeId id of the node most recently visited, used when the scan isn't partitioned.
+     * @return {@code true} if the scan has already passed the given node.
+     */
+    protected boolean isScanned( long nodeId, long currentlyIndexedNodeId )
+    {
+        AtomicLongArray positions = scannedUpTo;
+        if ( positions == null )
+        {
+            return nodeId <= currentlyIndexedNodeId;
+        }
+        int partition = (int) Math.min( nodeId / partitionSize, positions.length() - 1 );
+        return nodeId <= positions.get( partition );
+    }
+
+    @Override
+    public void setPartitionListener( PartitionListener listener )
+    {
+        this.partitionListener = listener;
+    }
+
     @Override
     public void stop()
     {
@@ -94,6 +263,11 @@ public abstract class NodeStoreScan<FAILURE extends Exception> implements StoreS
     {
         if ( totalCount > 0 )
         {
+            long count = 0;
+            for ( long partitionCount : counts )
+            {
+                count += partitionCount;
+            }
             return new PopulationProgress( count, totalCount );
         }
 
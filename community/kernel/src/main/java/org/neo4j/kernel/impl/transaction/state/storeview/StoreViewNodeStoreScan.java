@@ -88,7 +88,10 @@ public class StoreViewNodeStoreScan<FAILURE extends Exception> extends NodeStore
         if ( labelUpdateVisitor != null )
         {
             // Notify the label update visitor
-            labelUpdateVisitor.visit( labelChanges( node.getId(), EMPTY_LONG_ARRAY, labels ) );
+            synchronized ( this )
+            {
+                labelUpdateVisitor.visit( labelChanges( node.getId(), EMPTY_LONG_ARRAY, labels ) );
+            }
         }
 
         if ( propertyUpdatesVisitor != null && containsAnyLabel( labelIds, labels ) )
@@ -113,7 +116,12 @@ public class StoreViewNodeStoreScan<FAILURE extends Exception> extends NodeStore
 
             if ( hasRelevantProperty )
             {
-                propertyUpdatesVisitor.visit( updates.build() );
+                // Partitions are scanned concurrently, but visitors only ever see one node at a time
+                NodeUpdates nodeUpdates = updates.build();
+                synchronized ( this )
+                {
+                    propertyUpdatesVisitor.visit( nodeUpdates );
+                }
             }
         }
     }
@@ -146,7 +154,7 @@ public class StoreViewNodeStoreScan<FAILURE extends Exception> extends NodeStore
     public void acceptUpdate( MultipleIndexPopulator.MultipleIndexUpdater updater, IndexEntryUpdate<?> update,
             long currentlyIndexedNodeId )
     {
-        if ( update.getEntityId() <= currentlyIndexedNodeId )
+        if ( isScanned( update.getEntityId(), currentlyIndexedNodeId ) )
         {
             updater.process( update );
         }
@@ -37,16 +37,16 @@ import org.neo4j.graphdb.spatial.Geometry;
 import org.neo4j.graphdb.spatial.Point;
 import org.neo4j.helpers.collection.Iterables;
 import org.neo4j.values.AnyValue;
+import org.neo4j.values.storable.CoordinateReferenceSystem;
 import org.neo4j.values.storable.NumberValue;
+import org.neo4j.values.storable.PointValue;
 import org.neo4j.values.storable.TextValue;
 import org.neo4j.values.storable.Values;
-import org.neo4j.values.virtual.CoordinateReferenceSystem;
 import org.neo4j.values.virtual.EdgeValue;
 import org.neo4j.values.virtual.ListValue;
 import org.neo4j.values.virtual.MapValue;
 import org.neo4j.values.virtual.NodeValue;
 import org.neo4j.values.virtual.PathValue;
-import org.neo4j.values.virtual.PointValue;
 import org.neo4j.values.virtual.VirtualValues;
 
 import static java.util.stream.StreamSupport.stream;
@@ -155,11 +155,11 @@ public final class ValueUtils
         List<Double> coordinate = geometry.getCoordinates().get( 0 ).getCoordinate();
         if ( geometry.getCRS().getCode() == CoordinateReferenceSystem.Cartesian.code )
         {
-            return VirtualValues.pointCartesian( coordinate.get( 0 ), coordinate.get( 1 ) );
+            return Values.pointValue( CoordinateReferenceSystem.Cartesian, coordinate.get( 0 ), coordinate.get( 1 ) );
         }
         else if ( geometry.getCRS().getCode() == CoordinateReferenceSystem.WGS84.code )
         {
-            return VirtualValues.pointGeographic( coordinate.get( 0 ), coordinate.get( 1 ) );
+            return Values.pointValue( CoordinateReferenceSystem.WGS84, coordinate.get( 0 ), coordinate.get( 1 ) );
         }
         else
         {
@@ -230,17 +230,17 @@ public final class ValueUtils
             double y = ((NumberValue) map.get( "y" )).doubleValue();
             if ( !map.containsKey( "crs" ) )
             {
-                return VirtualValues.pointCartesian( x, y );
+                return Values.pointValue( CoordinateReferenceSystem.Cartesian, x, y );
             }
 
             TextValue crs = (TextValue) map.get( "crs" );
             if ( crs.stringValue().equals( CoordinateReferenceSystem.Cartesian.type() ) )
             {
-                return VirtualValues.pointCartesian( x, y );
+                return Values.pointValue( CoordinateReferenceSystem.Cartesian, x, y );
             }
             else if ( crs.stringValue().equals( CoordinateReferenceSystem.WGS84.type() ) )
             {
-                return VirtualValues.pointGeographic( x, y );
+                return Values.pointValue( CoordinateReferenceSystem.WGS84, x, y );
             }
             else
             {
@@ -253,13 +253,13 @@ public final class ValueUtils
             double longitude = ((NumberValue) map.get( "longitude" )).doubleValue();
             if ( !map.containsKey( "crs" ) )
             {
-                return VirtualValues.pointGeographic( longitude, latitude );
+                return Values.pointValue( CoordinateReferenceSystem.WGS84, longitude, latitude );
             }
 
             TextValue crs = (TextValue) map.get( "crs" );
             if ( crs.stringValue().equals( CoordinateReferenceSystem.WGS84.type() ) )
             {
-                return VirtualValues.pointGeographic( longitude, latitude );
+                return Values.pointValue( CoordinateReferenceSystem.WGS84, longitude, latitude );
             }
             else
             {
@@ -47,6 +47,7 @@ import org.neo4j.kernel.impl.api.RelationshipVisitor;
 import org.neo4j.kernel.impl.api.store.RelationshipIterator;
 import org.neo4j.register.Register.DoubleLongRegister;
 import org.neo4j.storageengine.api.schema.PopulationProgress;
+import org.neo4j.values.storable.Value;
 
 /**
  * Abstraction for reading committed data from {@link StorageEngine store}.
@@ -149,6 +150,15 @@ public interface StoreReadLayer
      */
     InternalIndexState indexGetState( IndexDescriptor descriptor ) throws IndexNotFoundKernelException;
 
+    /**
+     * Checks whether a stored unique index definitely has no entry for the given value tuple, without seeking it.
+     *
+     * @param descriptor {@link IndexDescriptor} of the index to check.
+     * @param values value tuple to look for.
+     * @return {@code true} if the index is known not to contain the values, {@code false} if it may contain them.
+     */
+    boolean indexEntryDefinitelyAbsent( IndexDescriptor descriptor, Value... values );
+
     /**
      * Return index provider descriptor of a stored index.
      *
@@ -85,6 +85,16 @@ public interface IndexReader extends Resource
      */
     boolean hasFullNumberPrecision( IndexQuery... predicates );
 
+    /**
+     * @return {@code true} if this reader still sees everything that has been applied to the index, meaning that it
+     * may be kept open and reused by later transactions instead of acquiring a new reader. Readers that can not
+     * tell return {@code false}.
+     */
+    default boolean isCurrent()
+    {
+        return false;
+    }
+
     IndexReader EMPTY = new IndexReader()
     {
         // Used for checking index correctness
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.storageengine.api.schema;
+
+import org.neo4j.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.values.storable.Value;
+
+/**
+ * A {@link PrimitiveLongIterator} over node ids from an index, which may also carry the indexed property values
+ * of the node most recently returned by {@link #next()}. Values are only valid until the next call to
+ * {@link #hasNext()} or {@link #next()}.
+ * <p>
+ * Usage pattern:
+ * <pre><code>
+ *     while ( iterator.hasNext() )
+ *     {
+ *         long node = iterator.next();
+ *         Value value = iterator.hasValue() ? iterator.propertyValue( 0 ) : getPropertyValueFromStore( node, key );
+ *     }
+ * </code></pre>
+ */
+public interface IndexValueIterator extends PrimitiveLongIterator
+{
+    /**
+     * @return {@code true} if {@link #propertyValue(int)} can be used to get the property value of the node
+     * most recently returned from {@link #next()}, otherwise {@code false}.
+     */
+    boolean hasValue();
+
+    /**
+     * @param offset offset of the property in the index schema.
+     * @return the indexed value of the property at the given offset.
+     */
+    Value propertyValue( int offset );
+
+    /**
+     * Wraps a plain {@link PrimitiveLongIterator} as an {@link IndexValueIterator} which never has values.
+     *
+     * @param nodeIds the node ids to wrap.
+     * @return an {@link IndexValueIterator} where {@link #hasValue()} is always {@code false}.
+     */
+    static IndexValueIterator withoutValues( PrimitiveLongIterator nodeIds )
+    {
+        return new IndexValueIterator()
+        {
+            @Override
+            public boolean hasValue()
+            {
+                return false;
+            }
+
+            @Override
+            public Value propertyValue( int offset )
+            {
+                throw new IllegalStateException( "This iterator does not carry any values" );
+            }
+
+            @Override
+            public boolean hasNext()
+            {
+                return nodeIds.hasNext();
+            }
+
+            @Override
+            public long next()
+            {
+                return nodeIds.next();
+            }
+        };
+    }
+}
@@ -36,6 +36,7 @@ import org.neo4j.storageengine.api.NodeItem;
 import org.neo4j.storageengine.api.PropertyItem;
 import org.neo4j.storageengine.api.RelationshipItem;
 import org.neo4j.storageengine.api.StorageProperty;
+import org.neo4j.values.storable.PointValue;
 import org.neo4j.values.storable.ValueTuple;
 
 /**
@@ -138,6 +139,8 @@ public interface ReadableTransactionState
 
     ReadableDiffSets<Long> indexUpdatesForRangeSeekByPrefix( IndexDescriptor index, String prefix );
 
+    ReadableDiffSets<Long> indexUpdatesForRangeSeekByGeometry( IndexDescriptor index, PointValue lower, PointValue upper );
+
     NodeState getNodeState( long id );
 
     RelationshipState getRelationshipState( long id );
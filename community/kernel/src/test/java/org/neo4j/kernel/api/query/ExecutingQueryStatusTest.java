@@ -106,7 +106,7 @@ public class ExecutingQueryStatusTest
                                 Thread.currentThread().getName(),
                                 clock,
                                 FakeCpuClock.NOT_AVAILABLE,
-                                HeapAllocation.NOT_AVAILABLE ), clock.nanos() );
+                                HeapAllocation.NOT_AVAILABLE, QueryMemoryTracker.NONE ), clock.nanos() );
         clock.forward( 1025, TimeUnit.MILLISECONDS );
 
         // when
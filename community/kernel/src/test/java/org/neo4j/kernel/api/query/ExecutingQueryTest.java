@@ -242,7 +242,7 @@ public class ExecutingQueryTest
                 Thread.currentThread().getName(),
                 clock,
                 FakeCpuClock.NOT_AVAILABLE,
-                HeapAllocation.NOT_AVAILABLE );
+                HeapAllocation.NOT_AVAILABLE, QueryMemoryTracker.NONE );
 
         // when
         QuerySnapshot snapshot = query.snapshot();
@@ -288,7 +288,7 @@ public class ExecutingQueryTest
                 Thread.currentThread().getName(),
                 clock,
                 FakeCpuClock.NOT_AVAILABLE,
-                HeapAllocation.NOT_AVAILABLE );
+                HeapAllocation.NOT_AVAILABLE, QueryMemoryTracker.NONE );
 
         // when
         QuerySnapshot snapshot = query.snapshot();
@@ -408,7 +408,7 @@ public class ExecutingQueryTest
     {
         return new ExecutingQuery( queryId, ClientConnectionInfo.EMBEDDED_CONNECTION, "neo4j", hello_world,
                 EMPTY_MAP, Collections.emptyMap(), () -> lockCount, page, Thread.currentThread().getId(),
-                Thread.currentThread().getName(), clock, cpuClock, heapAllocation );
+                Thread.currentThread().getName(), clock, cpuClock, heapAllocation, QueryMemoryTracker.NONE );
     }
 
     private static class PageCursorCountersStub implements PageCursorCounters
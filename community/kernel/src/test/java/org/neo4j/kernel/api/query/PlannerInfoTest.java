@@ -23,6 +23,7 @@ import org.junit.Test;
 
 import static java.util.Collections.emptyList;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 
 public class PlannerInfoTest
@@ -37,4 +38,16 @@ public class PlannerInfoTest
         assertThat( plannerInfo.planner(), is( "planner" ) );
         assertThat( plannerInfo.runtime(), is( "runtime" ) );
     }
+
+    @Test
+    public void shouldOnlyReportRuntimeFallbackWhenGiven() throws Exception
+    {
+        // given
+        PlannerInfo direct = new PlannerInfo( "PLANNER", "RUNTIME", emptyList() );
+        PlannerInfo fallback = new PlannerInfo( "PLANNER", "RUNTIME", emptyList(), "COMPILED: VarExpand" );
+
+        // then
+        assertThat( direct.runtimeFallback(), is( nullValue() ) );
+        assertThat( fallback.runtimeFallback(), is( "COMPILED: VarExpand" ) );
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.query;
+
+import org.junit.Test;
+
+import org.neo4j.kernel.api.exceptions.Status;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class QueryMemoryPoolTest
+{
+    @Test
+    public void shouldTrackMemoryOfEachQueryAndOfThePool() throws Exception
+    {
+        // given
+        QueryMemoryPool pool = new QueryMemoryPool( 0, 0 );
+        QueryMemoryTracker first = pool.newTracker();
+        QueryMemoryTracker second = pool.newTracker();
+
+        // when
+        first.allocated( 100 );
+        second.allocated( 50 );
+        first.released( 40 );
+
+        // then
+        assertEquals( 60, first.usedBytes() );
+        assertEquals( 100, first.peakBytes() );
+        assertEquals( 50, second.usedBytes() );
+        assertEquals( 110, pool.usedBytes() );
+    }
+
+    @Test
+    public void shouldNotReleaseMoreThanWasAllocated() throws Exception
+    {
+        // given
+        QueryMemoryPool pool = new QueryMemoryPool( 0, 0 );
+        QueryMemoryTracker tracker = pool.newTracker();
+        tracker.allocated( 10 );
+
+        // when
+        tracker.released( 30 );
+
+        // then
+        assertEquals( 0, tracker.usedBytes() );
+        assertEquals( 0, pool.usedBytes() );
+    }
+
+    @Test
+    public void shouldFailQueryThatExceedsItsOwnLimit() throws Exception
+    {
+        // given
+        QueryMemoryPool pool = new QueryMemoryPool( 0, 100 );
+        QueryMemoryTracker tracker = pool.newTracker();
+        tracker.allocated( 80 );
+
+        try
+        {
+            // when
+            tracker.allocated( 30 );
+            fail( "Expected the per query limit to be exceeded" );
+        }
+        catch ( QueryMemoryLimitExceededException e )
+        {
+            // then
+            assertEquals( Status.Statement.MemoryLimitExceeded, e.status() );
+        }
+        assertEquals( 80, tracker.usedBytes() );
+        assertEquals( 80, pool.usedBytes() );
+    }
+
+    @Test
+    public void shouldFailQueryThatExceedsTheGlobalLimit() throws Exception
+    {
+        // given
+        QueryMemoryPool pool = new QueryMemoryPool( 100, 0 );
+        QueryMemoryTracker first = pool.newTracker();
+        QueryMemoryTracker second = pool.newTracker();
+        first.allocated( 80 );
+
+        try
+        {
+            // when
+            second.allocated( 30 );
+            fail( "Expected the global limit to be exceeded" );
+        }
+        catch ( QueryMemoryLimitExceededException e )
+        {
+            // then
+            assertEquals( Status.Statement.GlobalMemoryLimitExceeded, e.status() );
+        }
+        assertEquals( 0, second.usedBytes() );
+        assertEquals( 80, pool.usedBytes() );
+
+        // and when
+        first.close();
+        second.allocated( 30 );
+
+        // then
+        assertEquals( 30, pool.usedBytes() );
+    }
+
+    @Test
+    public void shouldReleaseEverythingOnCloseAndIgnoreLaterAllocations() throws Exception
+    {
+        // given
+        QueryMemoryPool pool = new QueryMemoryPool( 0, 0 );
+        QueryMemoryTracker tracker = pool.newTracker();
+        tracker.allocated( 100 );
+
+        // when
+        tracker.close();
+        tracker.allocated( 10 );
+        tracker.released( 10 );
+
+        // then
+        assertEquals( 0, tracker.usedBytes() );
+        assertEquals( 0, pool.usedBytes() );
+    }
+}
@@ -217,6 +217,9 @@ public class BuiltInProceduresTest
                         "List all relationship types in the database." ),
                 record( "db.resampleIndex", "db.resampleIndex(index :: STRING?) :: VOID",
                         "Schedule resampling of an index (for example: CALL db.resampleIndex(\":Person(name)\"))." ),
+                record( "db.compactIndex", "db.compactIndex(index :: STRING?) :: VOID",
+                        "Merge the segments of an index, to be used during maintenance windows " +
+                        "(for example: CALL db.compactIndex(\":Person(name)\"))." ),
                 record( "db.resampleOutdatedIndexes", "db.resampleOutdatedIndexes() :: VOID",
                         "Schedule resampling of all outdated indexes." ),
                 record( "db.schema",
@@ -311,7 +314,15 @@ public class BuiltInProceduresTest
                         "Query JMX management data by domain and name. For instance, \"org.neo4j:*\"" ),
                 record( "dbms.clearQueryCaches",
                         "dbms.clearQueryCaches() :: (value :: STRING?)",
-                        "Clears all query caches." )
+                        "Clears all query caches." ),
+                record( "dbms.listCachedQueries",
+                        "dbms.listCachedQueries() :: (query :: STRING?)",
+                        "List the text of the cached queries, the most frequently used first. The list can be " +
+                        "passed to `dbms.warmUpQueryCache` to plan the same queries on another instance." ),
+                record( "dbms.warmUpQueryCache",
+                        "dbms.warmUpQueryCache(queries :: LIST? OF STRING?) :: (value :: STRING?)",
+                        "Plans the given queries in the background, so that their plans are cached before they " +
+                        "are executed." )
         ) );
     }
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.api;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.neo4j.kernel.api.schema.index.IndexDescriptor;
+import org.neo4j.kernel.api.schema.index.IndexDescriptorFactory;
+import org.neo4j.kernel.impl.api.index.IndexProxy;
+import org.neo4j.kernel.impl.api.index.IndexingService;
+import org.neo4j.storageengine.api.schema.IndexReader;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IndexReaderFactoryTest
+{
+    private static final IndexDescriptor DESCRIPTOR = IndexDescriptorFactory.forLabel( 0, 1 );
+
+    private final IndexingService indexingService = mock( IndexingService.class );
+    private final IndexProxy indexProxy = mock( IndexProxy.class );
+
+    @Before
+    public void setUp() throws Exception
+    {
+        when( indexingService.getIndexProxy( DESCRIPTOR.schema() ) ).thenReturn( indexProxy );
+    }
+
+    @Test
+    public void shouldReuseCurrentReaderAfterRelease() throws Exception
+    {
+        IndexReader reader = reader( true );
+        when( indexProxy.newReader() ).thenReturn( reader );
+        IndexReaderFactory.Caching factory = new IndexReaderFactory.Caching( indexingService, true );
+
+        assertSame( reader, factory.newReader( DESCRIPTOR ) );
+        factory.release();
+
+        assertSame( reader, factory.newReader( DESCRIPTOR ) );
+        verify( reader, never() ).close();
+        verify( indexProxy ).newReader();
+
+        factory.close();
+        verify( reader ).close();
+    }
+
+    @Test
+    public void shouldCloseStaleReaderOnRelease() throws Exception
+    {
+        IndexReader stale = reader( false );
+        IndexReader fresh = reader( true );
+        when( indexProxy.newReader() ).thenReturn( stale, fresh );
+        IndexReaderFactory.Caching factory = new IndexReaderFactory.Caching( indexingService, true );
+
+        assertSame( stale, factory.newReader( DESCRIPTOR ) );
+        factory.release();
+        verify( stale ).close();
+
+        assertSame( fresh, factory.newReader( DESCRIPTOR ) );
+    }
+
+    @Test
+    public void shouldNotReuseReaderThatTurnedStaleWhileReleased() throws Exception
+    {
+        IndexReader first = reader( true );
+        IndexReader second = reader( true );
+        when( indexProxy.newReader() ).thenReturn( first, second );
+        IndexReaderFactory.Caching factory = new IndexReaderFactory.Caching( indexingService, true );
+
+        factory.newReader( DESCRIPTOR );
+        factory.release();
+        when( first.isCurrent() ).thenReturn( false );
+
+        assertNotSame( first, factory.newReader( DESCRIPTOR ) );
+        verify( first ).close();
+    }
+
+    @Test
+    public void shouldCloseReadersOnReleaseWhenReuseIsDisabled() throws Exception
+    {
+        IndexReader reader = reader( true );
+        when( indexProxy.newReader() ).thenReturn( reader );
+        IndexReaderFactory.Caching factory = new IndexReaderFactory.Caching( indexingService, false );
+
+        factory.newReader( DESCRIPTOR );
+        factory.release();
+
+        verify( reader ).close();
+    }
+
+    private static IndexReader reader( boolean current )
+    {
+        IndexReader reader = mock( IndexReader.class );
+        when( reader.isCurrent() ).thenReturn( current );
+        return reader;
+    }
+}
@@ -591,10 +591,10 @@ public class IndexingServiceTest
         // When
         indexing.apply( updates( asList( add( 1, "foo" ), add( 2, "bar" ) ) ) );
 
-        // Then
+        // Then updates are applied in value order
         InOrder inOrder = inOrder( updater );
-        inOrder.verify( updater ).process( add( 1, "foo" ) );
         inOrder.verify( updater ).process( add( 2, "bar" ) );
+        inOrder.verify( updater ).process( add( 1, "foo" ) );
         inOrder.verify( updater ).close();
         inOrder.verifyNoMoreInteractions();
     }
@@ -1340,7 +1340,7 @@ public class IndexingServiceTest
     {
         return new IndexingService( mock( IndexProxyCreator.class ), mock( SchemaIndexProviderMap.class ),
                 indexMapReference, mock( IndexStoreView.class ), Collections.emptyList(),
-                mock( IndexSamplingController.class ), mock( TokenNameLookup.class ),
+                mock( IndexSamplingController.class ), mock( UniquenessFilters.class ), mock( TokenNameLookup.class ),
                 mock( JobScheduler.class ), mock( SchemaState.class ), mock( MultiPopulatorFactory.class ),
                 NullLogProvider.getInstance(), IndexingService.NO_MONITOR );
     }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.api.index;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.neo4j.kernel.api.index.IndexEntryUpdate;
+import org.neo4j.kernel.api.schema.LabelSchemaDescriptor;
+import org.neo4j.kernel.api.schema.SchemaDescriptorFactory;
+import org.neo4j.values.storable.Values;
+
+import static org.junit.Assert.assertEquals;
+import static org.neo4j.helpers.collection.Iterables.asList;
+import static org.neo4j.kernel.api.index.IndexEntryUpdate.add;
+import static org.neo4j.kernel.api.index.IndexEntryUpdate.change;
+import static org.neo4j.kernel.api.index.IndexEntryUpdate.remove;
+
+public class SortedIndexUpdatesTest
+{
+    private final LabelSchemaDescriptor index1 = SchemaDescriptorFactory.forLabel( 1, 1 );
+    private final LabelSchemaDescriptor index2 = SchemaDescriptorFactory.forLabel( 1, 2 );
+
+    @Test
+    public void shouldGroupUpdatesPerIndexAndSortThemByValue()
+    {
+        // given
+        IndexEntryUpdate<LabelSchemaDescriptor> a = add( 3, index1, Values.of( "c" ) );
+        IndexEntryUpdate<LabelSchemaDescriptor> b = add( 1, index2, Values.of( 10 ) );
+        IndexEntryUpdate<LabelSchemaDescriptor> c = remove( 2, index1, Values.of( "a" ) );
+        IndexEntryUpdate<LabelSchemaDescriptor> d = change( 5, index2, Values.of( 1 ), Values.of( 2 ) );
+        IndexEntryUpdate<LabelSchemaDescriptor> e = add( 4, index1, Values.of( "b" ) );
+
+        // when
+        List<IndexEntryUpdate<LabelSchemaDescriptor>> sorted = asList( new SortedIndexUpdates( Arrays.asList( a, b, c, d, e ) ) );
+
+        // then
+        assertEquals( Arrays.asList( c, e, a, d, b ), sorted );
+    }
+
+    @Test
+    public void shouldKeepOrderOfUpdatesForIndexWhereNodeIsUpdatedMoreThanOnce()
+    {
+        // given
+        IndexEntryUpdate<LabelSchemaDescriptor> a = change( 1, index1, Values.of( "x" ), Values.of( "z" ) );
+        IndexEntryUpdate<LabelSchemaDescriptor> b = add( 2, index2, Values.of( "b" ) );
+        IndexEntryUpdate<LabelSchemaDescriptor> c = add( 3, index2, Values.of( "a" ) );
+        IndexEntryUpdate<LabelSchemaDescriptor> d = change( 1, index1, Values.of( "z" ), Values.of( "a" ) );
+
+        // when
+        List<IndexEntryUpdate<LabelSchemaDescriptor>> sorted = asList( new SortedIndexUpdates( Arrays.asList( a, b, c, d ) ) );
+
+        // then
+        assertEquals( Arrays.asList( a, d, c, b ), sorted );
+    }
+
+    @Test
+    public void shouldKeepOrderOfUpdatesForIndexWhereValueIsRemovedAndAdded()
+    {
+        // given
+        IndexEntryUpdate<LabelSchemaDescriptor> a = change( 2, index1, Values.of( "a" ), Values.of( "c" ) );
+        IndexEntryUpdate<LabelSchemaDescriptor> b = add( 1, index1, Values.of( "a" ) );
+
+        // when
+        List<IndexEntryUpdate<LabelSchemaDescriptor>> sorted = asList( new SortedIndexUpdates( Arrays.asList( a, b ) ) );
+
+        // then
+        assertEquals( Arrays.asList( a, b ), sorted );
+    }
+
+    @Test
+    public void shouldSortCompositeUpdatesByAllValues()
+    {
+        // given
+        LabelSchemaDescriptor composite = SchemaDescriptorFactory.forLabel( 1, 1, 2 );
+        IndexEntryUpdate<LabelSchemaDescriptor> a = add( 1, composite, Values.of( 1 ), Values.of( "b" ) );
+        IndexEntryUpdate<LabelSchemaDescriptor> b = add( 2, composite, Values.of( 1 ), Values.of( "a" ) );
+        IndexEntryUpdate<LabelSchemaDescriptor> c = add( 3, composite, Values.of( 0 ), Values.of( "c" ) );
+
+        // when
+        List<IndexEntryUpdate<LabelSchemaDescriptor>> sorted = asList( new SortedIndexUpdates( Arrays.asList( a, b, c ) ) );
+
+        // then
+        assertEquals( Arrays.asList( c, b, a ), sorted );
+    }
+}
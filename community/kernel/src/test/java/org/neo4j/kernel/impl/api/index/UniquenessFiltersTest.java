@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.api.index;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.function.IntPredicate;
+
+import org.neo4j.helpers.collection.Visitor;
+import org.neo4j.kernel.api.index.IndexEntryUpdate;
+import org.neo4j.kernel.api.index.IndexUpdater;
+import org.neo4j.kernel.api.schema.index.IndexDescriptor;
+import org.neo4j.kernel.api.schema.index.IndexDescriptorFactory;
+import org.neo4j.logging.NullLogProvider;
+import org.neo4j.register.Register.DoubleLongRegister;
+import org.neo4j.scheduler.JobScheduler;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class UniquenessFiltersTest
+{
+    private static final long INDEX_ID = 7;
+
+    private final IndexDescriptor unique = IndexDescriptorFactory.uniqueForLabel( 1, 2 );
+    private final IndexStoreView storeView = mock( IndexStoreView.class );
+    private final JobScheduler scheduler = mock( JobScheduler.class );
+    private final UniquenessFilters filters =
+            new UniquenessFilters( true, storeView, scheduler, NullLogProvider.getInstance() );
+
+    @Test
+    public void shouldNotRuleOutAnythingBeforeFilterIsBuilt() throws Exception
+    {
+        // given
+        givenStoredValues();
+
+        // when
+        filters.rebuild( INDEX_ID, unique );
+
+        // then
+        assertFalse( filters.definitelyAbsent( INDEX_ID, values( "a" ) ) );
+    }
+
+    @Test
+    public void shouldRuleOutValuesNotInStoreAfterBuild() throws Exception
+    {
+        // given
+        givenStoredValues( "a", "b" );
+
+        // when
+        filters.rebuild( INDEX_ID, unique );
+        runScheduledJob();
+
+        // then
+        assertFalse( filters.definitelyAbsent( INDEX_ID, values( "a" ) ) );
+        assertFalse( filters.definitelyAbsent( INDEX_ID, values( "b" ) ) );
+        assertTrue( filters.definitelyAbsent( INDEX_ID, values( "c" ) ) );
+        assertTrue( filters.maximumFalsePositiveRate() < 0.01 );
+    }
+
+    @Test
+    public void shouldAddValuesFromUpdatesBeforeApplyingThemToIndex() throws Exception
+    {
+        // given
+        givenStoredValues( "a" );
+        filters.rebuild( INDEX_ID, unique );
+        runScheduledJob();
+        IndexUpdater delegate = mock( IndexUpdater.class );
+        IndexEntryUpdate<IndexDescriptor> update = IndexEntryUpdate.add( 10, unique, Values.stringValue( "c" ) );
+
+        // when
+        try ( IndexUpdater updater = filters.updater( INDEX_ID, unique, delegate ) )
+        {
+            updater.process( update );
+        }
+
+        // then
+        verify( delegate ).process( update );
+        assertFalse( filters.definitelyAbsent( INDEX_ID, values( "c" ) ) );
+    }
+
+    @Test
+    public void shouldForgetFilterOfRemovedIndex() throws Exception
+    {
+        // given
+        givenStoredValues( "a" );
+        filters.rebuild( INDEX_ID, unique );
+        runScheduledJob();
+
+        // when
+        filters.remove( INDEX_ID );
+
+        // then
+        assertFalse( filters.definitelyAbsent( INDEX_ID, values( "c" ) ) );
+        assertEquals( 0d, filters.maximumFalsePositiveRate(), 0d );
+    }
+
+    @Test
+    public void shouldIgnoreNonUniqueIndexes()
+    {
+        // given
+        IndexDescriptor general = IndexDescriptorFactory.forLabel( 1, 2 );
+        IndexUpdater delegate = mock( IndexUpdater.class );
+
+        // when
+        filters.rebuild( INDEX_ID, general );
+
+        // then
+        verifyZeroInteractions( scheduler );
+        assertEquals( delegate, filters.updater( INDEX_ID, general, delegate ) );
+    }
+
+    private static Value[] values( String value )
+    {
+        return new Value[]{Values.stringValue( value )};
+    }
+
+    private void runScheduledJob()
+    {
+        ArgumentCaptor<Runnable> job = ArgumentCaptor.forClass( Runnable.class );
+        verify( scheduler ).schedule( any( JobScheduler.Group.class ), job.capture() );
+        job.getValue().run();
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private void givenStoredValues( String... values )
+    {
+        when( storeView.indexUpdatesAndSize( anyLong(), any( DoubleLongRegister.class ) ) )
+                .thenAnswer( invocation -> invocation.getArgument( 1 ) );
+        when( storeView.visitNodes( any( int[].class ), any( IntPredicate.class ), any( Visitor.class ), any(),
+                anyBoolean() ) ).thenAnswer( invocation ->
+        {
+            Visitor<NodeUpdates,RuntimeException> visitor = invocation.getArgument( 2 );
+            StoreScan<RuntimeException> scan = mock( StoreScan.class );
+            doAnswer( run ->
+            {
+                long nodeId = 0;
+                for ( String value : values )
+                {
+                    visitor.visit( NodeUpdates.forNode( nodeId++, new long[]{1} )
+                            .added( 2, Values.stringValue( value ) ).build() );
+                }
+                return null;
+            } ).when( scan ).run();
+            return scan;
+        } );
+    }
+}
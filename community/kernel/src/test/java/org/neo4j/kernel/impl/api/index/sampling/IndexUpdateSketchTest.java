@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.api.index.sampling;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import org.neo4j.kernel.api.index.IndexEntryUpdate;
+import org.neo4j.kernel.api.schema.LabelSchemaDescriptor;
+import org.neo4j.kernel.api.schema.SchemaDescriptorFactory;
+import org.neo4j.values.storable.Values;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndexUpdateSketchTest
+{
+    private final LabelSchemaDescriptor schema = SchemaDescriptorFactory.forLabel( 1, 2 );
+    private final IndexUpdateSketch sketch = new IndexUpdateSketch();
+
+    @Test
+    public void shouldEstimateDistinctValuesOfAdditions()
+    {
+        // when
+        addValues( 100_000, 10_000 );
+
+        // then
+        assertEquals( 10_000, sketch.distinctAdditions(), 10_000 * 0.05 );
+        assertEquals( 100_000, sketch.additions() );
+        assertEquals( 100_000, sketch.updates() );
+    }
+
+    @Test
+    public void shouldCountSmallNumberOfDistinctValuesPrecisely()
+    {
+        // when
+        addValues( 1_000, 10 );
+
+        // then
+        assertEquals( 10, sketch.distinctAdditions(), 0.5 );
+    }
+
+    @Test
+    public void shouldNotDriftWhenAddingValuesFromSameDistribution()
+    {
+        // given a sample of 100 000 entries with 10 000 unique values
+        Random random = new Random( 42 );
+        long[] hashes = new long[10_000];
+        for ( int i = 0; i < hashes.length; i++ )
+        {
+            hashes[i] = IndexUpdateSketch.hash( IndexEntryUpdate.add( i, schema, Values.of( random.nextInt( 10_000 ) ) ) );
+        }
+
+        // when
+        sketch.include( hashes, hashes.length, 0, hashes.length );
+
+        // then
+        assertFalse( sketch.hasDrifted( 10_000, 100_000, 100_000, 0.1 ) );
+        assertEquals( 110_000, sketch.estimatedIndexSize( 100_000 ) );
+    }
+
+    @Test
+    public void shouldDriftWhenAddingFarFewerDistinctValuesThanExpected()
+    {
+        // given a sample of 100 000 unique entries
+
+        // when
+        addValues( 10_000, 10 );
+
+        // then
+        assertTrue( sketch.hasDrifted( 100_000, 100_000, 100_000, 0.1 ) );
+    }
+
+    @Test
+    public void shouldDriftWhenIndexShrinks()
+    {
+        // given
+        long[] hashes = new long[]{IndexUpdateSketch.hash( IndexEntryUpdate.add( 0, schema, Values.of( 1 ) ) )};
+
+        // when
+        sketch.include( hashes, 1, 20_000, 20_001 );
+
+        // then
+        assertTrue( sketch.hasDrifted( 100_000, 100_000, 100_000, 0.1 ) );
+        assertEquals( 80_001, sketch.estimatedIndexSize( 100_000 ) );
+    }
+
+    @Test
+    public void shouldForgetEverythingOnReset()
+    {
+        // given
+        addValues( 1_000, 1_000 );
+
+        // when
+        sketch.reset();
+
+        // then
+        assertEquals( 0, sketch.distinctAdditions(), 0.0 );
+        assertEquals( 0, sketch.additions() );
+        assertEquals( 0, sketch.removals() );
+        assertEquals( 0, sketch.updates() );
+    }
+
+    private void addValues( int count, int distinct )
+    {
+        long[] hashes = new long[count];
+        for ( int i = 0; i < count; i++ )
+        {
+            hashes[i] = IndexUpdateSketch.hash( IndexEntryUpdate.add( i, schema, Values.of( "value" + (i % distinct) ) ) );
+        }
+        sketch.include( hashes, count, 0, count );
+    }
+}
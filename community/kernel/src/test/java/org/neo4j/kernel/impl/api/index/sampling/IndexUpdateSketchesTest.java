@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.api.index.sampling;
+
+import org.junit.Test;
+
+import org.neo4j.kernel.impl.api.index.IndexStoreView;
+import org.neo4j.register.Register.DoubleLongRegister;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.hashing.HashFunction.incrementalXXH64;
+
+public class IndexUpdateSketchesTest
+{
+    private final long indexId = 1;
+    private final IndexStoreView storeView = mock( IndexStoreView.class );
+    private final IndexUpdateSketches sketches = new IndexUpdateSketches();
+
+    @Test
+    public void shouldStoreCountsDerivedFromUpdatesWhenThereIsNoDrift()
+    {
+        // given
+        storedCounts( 10_000, 10_000, 10_000, 2_000 );
+        addUniqueValues( sketches.sketch( indexId ), 2_000 );
+
+        // when
+        boolean sampled = sketches.sampleFromUpdates( indexId, storeView );
+
+        // then
+        assertTrue( sampled );
+        verify( storeView ).replaceIndexCounts( indexId, 10_000, 10_000, 12_000 );
+    }
+
+    @Test
+    public void shouldRequireFullSamplingWhenSketchHasMissedUpdates()
+    {
+        // given updates from before the sketch was created, e.g. before a restart
+        storedCounts( 10_000, 10_000, 10_000, 5_000 );
+        addUniqueValues( sketches.sketch( indexId ), 2_000 );
+
+        // when
+        boolean sampled = sketches.sampleFromUpdates( indexId, storeView );
+
+        // then
+        assertFalse( sampled );
+        verify( storeView, never() ).replaceIndexCounts( anyLong(), anyLong(), anyLong(), anyLong() );
+    }
+
+    @Test
+    public void shouldRequireFullSamplingWhenValueDistributionDrifted()
+    {
+        // given
+        storedCounts( 10_000, 10_000, 10_000, 2_000 );
+        IndexUpdateSketch sketch = sketches.sketch( indexId );
+        long[] hashes = new long[2_000];
+        sketch.include( hashes, hashes.length, 0, hashes.length );
+
+        // when
+        boolean sampled = sketches.sampleFromUpdates( indexId, storeView );
+
+        // then
+        assertFalse( sampled );
+        verify( storeView, never() ).replaceIndexCounts( anyLong(), anyLong(), anyLong(), anyLong() );
+    }
+
+    @Test
+    public void shouldRequireFullSamplingOfIndexWithoutSketch()
+    {
+        // given
+        storedCounts( 10_000, 10_000, 10_000, 2_000 );
+
+        // when
+        boolean sampled = sketches.sampleFromUpdates( indexId, storeView );
+
+        // then
+        assertFalse( sampled );
+    }
+
+    private void storedCounts( long uniqueValues, long sampleSize, long indexSize, long updates )
+    {
+        when( storeView.indexSample( eq( indexId ), any( DoubleLongRegister.class ) ) ).thenAnswer( invocation ->
+        {
+            DoubleLongRegister register = invocation.getArgument( 1 );
+            register.write( uniqueValues, sampleSize );
+            return register;
+        } );
+        when( storeView.indexUpdatesAndSize( eq( indexId ), any( DoubleLongRegister.class ) ) ).thenAnswer( invocation ->
+        {
+            DoubleLongRegister register = invocation.getArgument( 1 );
+            register.write( updates, indexSize );
+            return register;
+        } );
+    }
+
+    private static void addUniqueValues( IndexUpdateSketch sketch, int count )
+    {
+        long[] hashes = new long[count];
+        for ( int i = 0; i < count; i++ )
+        {
+            hashes[i] = incrementalXXH64().hashSingleValue( i );
+        }
+        sketch.include( hashes, count, 0, count );
+    }
+}
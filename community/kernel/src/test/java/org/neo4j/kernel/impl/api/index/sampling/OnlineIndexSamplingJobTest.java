@@ -46,7 +46,8 @@ public class OnlineIndexSamplingJobTest
     public void shouldSampleTheIndexAndStoreTheValueWhenTheIndexIsOnline()
     {
         // given
-        OnlineIndexSamplingJob job = new OnlineIndexSamplingJob( indexId, indexProxy, indexStoreView, "Foo", logProvider );
+        OnlineIndexSamplingJob job = new OnlineIndexSamplingJob( indexId, indexProxy, indexStoreView, sketches, "Foo",
+                logProvider );
         when( indexProxy.getState() ).thenReturn( ONLINE );
 
         // when
@@ -61,7 +62,8 @@ public class OnlineIndexSamplingJobTest
     public void shouldSampleTheIndexButDoNotStoreTheValuesIfTheIndexIsNotOnline()
     {
         // given
-        OnlineIndexSamplingJob job = new OnlineIndexSamplingJob( indexId, indexProxy, indexStoreView, "Foo", logProvider );
+        OnlineIndexSamplingJob job = new OnlineIndexSamplingJob( indexId, indexProxy, indexStoreView, sketches, "Foo",
+                logProvider );
         when( indexProxy.getState() ).thenReturn( FAILED );
 
         // when
@@ -75,6 +77,7 @@ public class OnlineIndexSamplingJobTest
     private final long indexId = 1;
     private final IndexProxy indexProxy = mock( IndexProxy.class );
     private final IndexStoreView indexStoreView = mock( IndexStoreView.class );
+    private final IndexUpdateSketches sketches = new IndexUpdateSketches();
     private final IndexDescriptor indexDescriptor = IndexDescriptorFactory.forLabel( 1, 2 );
     private final IndexReader indexReader = mock( IndexReader.class );
     private final IndexSampler indexSampler = mock( IndexSampler.class );
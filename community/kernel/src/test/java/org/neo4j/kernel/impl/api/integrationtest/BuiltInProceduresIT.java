@@ -134,6 +134,9 @@ public class BuiltInProceduresIT extends KernelIntegrationTest
                         "Wait for all indexes to come online (for example: CALL db.awaitIndexes(\"500\"))."} ),
                 equalTo( new Object[]{"db.resampleIndex", "db.resampleIndex(index :: STRING?) :: VOID",
                         "Schedule resampling of an index (for example: CALL db.resampleIndex(\":Person(name)\"))."} ),
+                equalTo( new Object[]{"db.compactIndex", "db.compactIndex(index :: STRING?) :: VOID",
+                        "Merge the segments of an index, to be used during maintenance windows " +
+                        "(for example: CALL db.compactIndex(\":Person(name)\"))."} ),
                 equalTo( new Object[]{"db.resampleOutdatedIndexes", "db.resampleOutdatedIndexes() :: VOID",
                         "Schedule resampling of all outdated indexes."} ),
                 equalTo( new Object[]{"db.propertyKeys", "db.propertyKeys() :: (propertyKey :: STRING?)",
@@ -254,6 +257,16 @@ public class BuiltInProceduresIT extends KernelIntegrationTest
                 equalTo( new Object[]{"dbms.clearQueryCaches",
                         "dbms.clearQueryCaches() :: (value :: STRING?)",
                         "Clears all query caches."
+                } ),
+                equalTo( new Object[]{"dbms.listCachedQueries",
+                        "dbms.listCachedQueries() :: (query :: STRING?)",
+                        "List the text of the cached queries, the most frequently used first. The list can be " +
+                        "passed to `dbms.warmUpQueryCache` to plan the same queries on another instance."
+                } ),
+                equalTo( new Object[]{"dbms.warmUpQueryCache",
+                        "dbms.warmUpQueryCache(queries :: LIST? OF STRING?) :: (value :: STRING?)",
+                        "Plans the given queries in the background, so that their plans are cached before they " +
+                        "are executed."
                 } )
         ) );
         commit();
@@ -32,6 +32,7 @@ import org.neo4j.graphdb.Resource;
 import org.neo4j.kernel.api.AssertOpen;
 import org.neo4j.kernel.api.index.InternalIndexState;
 import org.neo4j.kernel.api.properties.PropertyKeyValue;
+import org.neo4j.internal.kernel.api.IndexOrder;
 import org.neo4j.internal.kernel.api.IndexQuery;
 import org.neo4j.kernel.api.schema.index.IndexDescriptor;
 import org.neo4j.kernel.api.schema.index.IndexDescriptorFactory;
@@ -48,15 +49,20 @@ import org.neo4j.kernel.impl.index.ExplicitIndexStore;
 import org.neo4j.kernel.impl.storageengine.impl.recordstorage.StoreStatement;
 import org.neo4j.storageengine.api.NodeItem;
 import org.neo4j.storageengine.api.StoreReadLayer;
+import org.neo4j.storageengine.api.schema.IndexProgressor;
 import org.neo4j.storageengine.api.schema.IndexReader;
+import org.neo4j.storageengine.api.schema.IndexValueIterator;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.neo4j.helpers.collection.Iterators.asSet;
@@ -342,6 +348,48 @@ public class IndexQueryTransactionStateTest
         assertNoSuchNode( result );
     }
 
+    @Test
+    public void shouldProvideIndexValuesWhenThereAreNoTransactionStateChanges() throws Exception
+    {
+        // Given
+        when( indexReader.hasFullNumberPrecision( withValue ) ).thenReturn( true );
+        doAnswer( invocation ->
+        {
+            IndexProgressor.NodeValueClient client = invocation.getArgument( 0 );
+            IndexProgressor progressor = mock( IndexProgressor.class );
+            when( progressor.next() ).then( next -> client.acceptNode( 1L, value ) ).thenReturn( false );
+            client.initialize( progressor, new int[]{propertyKeyId} );
+            return null;
+        } ).when( indexReader ).query( any( IndexProgressor.NodeValueClient.class ), any( IndexOrder.class ), eq( withValue ) );
+
+        // When
+        IndexValueIterator result = txContext.indexQueryWithValues( state, indexDescriptor, withValue );
+
+        // Then
+        assertTrue( result.hasNext() );
+        assertThat( result.next(), equalTo( 1L ) );
+        assertTrue( result.hasValue() );
+        assertThat( result.propertyValue( 0 ), equalTo( value ) );
+        assertFalse( result.hasNext() );
+    }
+
+    @Test
+    public void shouldNotProvideIndexValuesWhenThereAreTransactionStateChanges() throws Exception
+    {
+        // Given
+        when( indexReader.hasFullNumberPrecision( withValue ) ).thenReturn( true );
+        when( indexReader.query( withValue ) ).then( answerAsPrimitiveLongIteratorFrom( asList( 2L, 3L ) ) );
+        state.txState().nodeDoAddProperty( 1L, propertyKeyId, Values.of( 10 ) );
+
+        // When
+        IndexValueIterator result = txContext.indexQueryWithValues( state, indexDescriptor, withValue );
+
+        // Then
+        assertTrue( result.hasNext() );
+        assertThat( result.next(), equalTo( 2L ) );
+        assertFalse( result.hasValue() );
+    }
+
     private void mockStoreProperty()
     {
         when( store.nodeGetProperties( eq( statement ), any( NodeItem.class ), any( AssertOpen.class ) ) )
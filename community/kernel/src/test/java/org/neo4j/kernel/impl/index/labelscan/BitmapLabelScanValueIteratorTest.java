@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.index.labelscan;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.neo4j.cursor.RawCursor;
+import org.neo4j.index.internal.gbptree.GBPTree;
+import org.neo4j.index.internal.gbptree.Hit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.neo4j.collection.primitive.PrimitiveLongCollections.asArray;
+
+public class BitmapLabelScanValueIteratorTest
+{
+    private final Map<Integer,TreeMap<Long,Long>> labels = new TreeMap<>();
+    private final Set<RawCursor<Hit<LabelScanKey,LabelScanValue>,IOException>> openCursors = new HashSet<>();
+    private final List<LabelScanKey> seeks = new ArrayList<>();
+
+    @Test
+    public void shouldIntersectBitmapsOfRangesPresentForAllLabels() throws Exception
+    {
+        // given
+        range( 1, 0, 0b1011L );
+        range( 1, 2, 0b1111L );
+        range( 1, 5, 0b0001L );
+        range( 2, 0, 0b0110L );
+        range( 2, 1, 0b1111L );
+        range( 2, 5, 0b0011L );
+
+        // when
+        long[] nodes = asArray( iterator( true, 1024, 1, 2 ) );
+
+        // then
+        assertArrayEquals( new long[]{1, 5 * 64}, nodes );
+        assertTrue( openCursors.isEmpty() );
+    }
+
+    @Test
+    public void shouldUnionBitmapsOfAllRanges() throws Exception
+    {
+        // given
+        range( 1, 0, 0b1001L );
+        range( 1, 2, 0b0001L );
+        range( 2, 0, 0b0011L );
+        range( 2, 1, 0b0100L );
+        range( 3, 2, 0b0010L );
+
+        // when
+        long[] nodes = asArray( iterator( false, 1024, 1, 2, 3 ) );
+
+        // then
+        assertArrayEquals( new long[]{0, 1, 3, 64 + 2, 128, 128 + 1}, nodes );
+        assertTrue( openCursors.isEmpty() );
+    }
+
+    @Test
+    public void shouldReseekLaggingLabelInsteadOfSteppingThroughRanges() throws Exception
+    {
+        // given
+        for ( long range = 0; range < 100; range++ )
+        {
+            range( 1, range, 1L );
+        }
+        range( 2, 50, 1L );
+        range( 2, 99, 1L );
+
+        // when
+        long[] nodes = asArray( iterator( true, 10, 1, 2 ) );
+
+        // then
+        assertArrayEquals( new long[]{50 * 64, 99 * 64}, nodes );
+        assertEquals( 4, seeks.size() );
+        assertEquals( 50, seeks.get( 2 ).idRange );
+        assertEquals( 99, seeks.get( 3 ).idRange );
+    }
+
+    @Test
+    public void shouldReturnNothingForNoLabels() throws Exception
+    {
+        assertArrayEquals( new long[0], asArray( iterator( true, 1024 ) ) );
+        assertArrayEquals( new long[0], asArray( iterator( false, 1024 ) ) );
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private BitmapLabelScanValueIterator iterator( boolean trueForAll, long seekDistance, int... labelIds )
+            throws IOException
+    {
+        GBPTree<LabelScanKey,LabelScanValue> index = mock( GBPTree.class );
+        when( index.seek( any( LabelScanKey.class ), any( LabelScanKey.class ) ) ).thenAnswer( invocation ->
+        {
+            LabelScanKey from = invocation.getArgument( 0 );
+            seeks.add( from );
+            TreeMap<Long,Long> ranges = labels.getOrDefault( from.labelId, new TreeMap<>() );
+            return new RangeCursor( from.labelId, ranges.tailMap( from.idRange, true ).entrySet().iterator() );
+        } );
+        return new BitmapLabelScanValueIterator( index, labelIds, trueForAll, openCursors, seekDistance );
+    }
+
+    private void range( int labelId, long range, long bits )
+    {
+        labels.computeIfAbsent( labelId, id -> new TreeMap<>() ).put( range, bits );
+    }
+
+    private static class RangeCursor implements RawCursor<Hit<LabelScanKey,LabelScanValue>,IOException>
+    {
+        private final int labelId;
+        private final Iterator<Map.Entry<Long,Long>> ranges;
+        private Hit<LabelScanKey,LabelScanValue> current;
+
+        RangeCursor( int labelId, Iterator<Map.Entry<Long,Long>> ranges )
+        {
+            this.labelId = labelId;
+            this.ranges = ranges;
+        }
+
+        @Override
+        public boolean next()
+        {
+            if ( !ranges.hasNext() )
+            {
+                return false;
+            }
+            Map.Entry<Long,Long> entry = ranges.next();
+            LabelScanValue value = new LabelScanValue();
+            value.bits = entry.getValue();
+            current = new MutableHit<>( new LabelScanKey( labelId, entry.getKey() ), value );
+            return true;
+        }
+
+        @Override
+        public Hit<LabelScanKey,LabelScanValue> get()
+        {
+            return current;
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.Test;
 import org.junit.rules.RuleChain;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Random;
 
@@ -94,7 +95,31 @@ public class NativeLabelScanStoreIT
                 long[] expectedNodes = nodesWithLabel( expected, i );
                 assertArrayEquals( expectedNodes, actualNodes );
             }
+
+            int[] labelIds = {random.nextInt( LABEL_COUNT ), random.nextInt( LABEL_COUNT ), random.nextInt( LABEL_COUNT )};
+            assertArrayEquals( nodesWithLabels( expected, labelIds, true ), asArray( reader.nodesWithAllLabels( labelIds ) ) );
+            assertArrayEquals( nodesWithLabels( expected, labelIds, false ), asArray( reader.nodesWithAnyOfLabels( labelIds ) ) );
+        }
+    }
+
+    private static long[] nodesWithLabels( long[] expected, int[] labelIds, boolean all )
+    {
+        int mask = 0;
+        for ( int labelId : labelIds )
+        {
+            mask |= 1 << labelId;
+        }
+        long[] result = new long[expected.length];
+        int cursor = 0;
+        for ( int nodeId = 0; nodeId < expected.length; nodeId++ )
+        {
+            long labels = expected[nodeId] & mask;
+            if ( all ? labels == mask : labels != 0 )
+            {
+                result[cursor++] = nodeId;
+            }
         }
+        return Arrays.copyOf( result, cursor );
     }
 
     public static long[] nodesWithLabel( long[] expected, int labelId )
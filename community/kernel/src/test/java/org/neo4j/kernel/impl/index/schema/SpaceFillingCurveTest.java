@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.impl.index.schema;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.List;
+
+import org.neo4j.kernel.impl.index.schema.SpaceFillingCurve.LongRange;
+import org.neo4j.test.rule.RandomRule;
+import org.neo4j.values.storable.CoordinateReferenceSystem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SpaceFillingCurveTest
+{
+    @Rule
+    public final RandomRule random = new RandomRule();
+
+    @Test
+    public void shouldInterleaveBits()
+    {
+        assertEquals( 0b0000, SpaceFillingCurve.interleave( 0b00, 0b00 ) );
+        assertEquals( 0b0001, SpaceFillingCurve.interleave( 0b01, 0b00 ) );
+        assertEquals( 0b0010, SpaceFillingCurve.interleave( 0b00, 0b01 ) );
+        assertEquals( 0b1010, SpaceFillingCurve.interleave( 0b00, 0b11 ) );
+        assertEquals( 0b1111, SpaceFillingCurve.interleave( 0b11, 0b11 ) );
+    }
+
+    @Test
+    public void shouldOrderCornersOfEnvelope()
+    {
+        SpaceFillingCurve curve = SpaceFillingCurve.forCrs( CoordinateReferenceSystem.WGS84 );
+        long lowerLeft = curve.derivedValueFor( new double[]{-180, -90} );
+        long upperRight = curve.derivedValueFor( new double[]{180, 90} );
+        long outside = curve.derivedValueFor( new double[]{1000, 1000} );
+
+        assertEquals( 0, lowerLeft );
+        assertEquals( (1L << (2 * SpaceFillingCurve.BITS_PER_DIMENSION)) - 1, upperRight );
+        assertEquals( upperRight, outside );
+    }
+
+    @Test
+    public void shouldDecomposeBoundingBoxIntoSortedRangesCoveringAllPointsInside()
+    {
+        SpaceFillingCurve curve = SpaceFillingCurve.forCrs( CoordinateReferenceSystem.Cartesian );
+        for ( int round = 0; round < 100; round++ )
+        {
+            double[] from = {random.nextDouble() * 2_000 - 1_000, random.nextDouble() * 2_000 - 1_000};
+            double[] to = {from[0] + random.nextDouble() * 500, from[1] + random.nextDouble() * 500};
+            List<LongRange> ranges = curve.rangesFor( from, to );
+
+            assertTrue( ranges.size() > 0 );
+            for ( int i = 1; i < ranges.size(); i++ )
+            {
+                assertTrue( ranges.get( i - 1 ).max + 1 < ranges.get( i ).min );
+            }
+            for ( int i = 0; i < 100; i++ )
+            {
+                double[] inside = {from[0] + random.nextDouble() * (to[0] - from[0]),
+                        from[1] + random.nextDouble() * (to[1] - from[1])};
+                assertTrue( covered( ranges, curve.derivedValueFor( inside ) ) );
+            }
+            assertTrue( covered( ranges, curve.derivedValueFor( from ) ) );
+            assertTrue( covered( ranges, curve.derivedValueFor( to ) ) );
+        }
+    }
+
+    @Test
+    public void shouldReturnNoRangesForInvertedBoundingBox()
+    {
+        SpaceFillingCurve curve = SpaceFillingCurve.forCrs( CoordinateReferenceSystem.Cartesian );
+        assertTrue( curve.rangesFor( new double[]{10, 10}, new double[]{0, 0} ).isEmpty() );
+    }
+
+    private static boolean covered( List<LongRange> ranges, long value )
+    {
+        for ( LongRange range : ranges )
+        {
+            if ( value >= range.min && value <= range.max )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
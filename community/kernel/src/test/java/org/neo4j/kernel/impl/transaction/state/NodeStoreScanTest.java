@@ -21,6 +21,9 @@ package org.neo4j.kernel.impl.transaction.state;
 
 import org.junit.Test;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
 import org.neo4j.kernel.api.index.IndexEntryUpdate;
@@ -32,9 +35,12 @@ import org.neo4j.kernel.impl.store.record.NodeRecord;
 import org.neo4j.kernel.impl.store.record.RecordLoad;
 import org.neo4j.kernel.impl.transaction.state.storeview.NodeStoreScan;
 import org.neo4j.storageengine.api.schema.PopulationProgress;
+import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_MOCKS;
@@ -89,6 +95,132 @@ public class NodeStoreScanTest
         scan.run();
     }
 
+    @Test
+    public void shouldScanAllNodesInConcurrentPartitions() throws Throwable
+    {
+        // given
+        long total = 100;
+        when( nodeStore.getHighId() ).thenReturn( total );
+        when( nodeStore.newRecord() ).thenAnswer( invocation -> new NodeRecord( -1 ) );
+        when( nodeStore.getRecord( anyLong(), any( NodeRecord.class ), any( RecordLoad.class ) ) ).thenAnswer(
+                invocation ->
+                {
+                    NodeRecord record = invocation.getArgument( 1 );
+                    record.setId( invocation.getArgument( 0 ) );
+                    record.setInUse( true );
+                    return record;
+                } );
+        FeatureToggles.set( NodeStoreScan.class, NodeStoreScan.MAXIMUM_PARTITIONS_NAME, 4 );
+        FeatureToggles.set( NodeStoreScan.class, NodeStoreScan.MINIMUM_PARTITION_SIZE_NAME, 10 );
+        try
+        {
+            Set<Long> processed = ConcurrentHashMap.newKeySet();
+            CopyOnWriteArrayList<Integer> scannedPartitions = new CopyOnWriteArrayList<>();
+            PartitionCheckingNodeStoreScan scan = new PartitionCheckingNodeStoreScan( nodeStore, locks, processed );
+            scan.setPartitionListener( ( partition, partitions, progress ) ->
+            {
+                assertEquals( 4, partitions );
+                assertEquals( 25, progress.getCompleted() );
+                scannedPartitions.add( partition );
+            } );
+
+            // when
+            scan.run();
+
+            // then
+            assertEquals( total, processed.size() );
+            assertEquals( 4, scannedPartitions.size() );
+            assertEquals( total, scan.getProgress().getCompleted() );
+            assertTrue( scan.scanned( 0 ) );
+            assertTrue( scan.scanned( total - 1 ) );
+            assertTrue( scan.scanned( total + 10 ) );
+        }
+        finally
+        {
+            FeatureToggles.clear( NodeStoreScan.class, NodeStoreScan.MAXIMUM_PARTITIONS_NAME );
+            FeatureToggles.clear( NodeStoreScan.class, NodeStoreScan.MINIMUM_PARTITION_SIZE_NAME );
+        }
+    }
+
+    @Test
+    public void shouldOnlyConsiderNodesInAlreadyScannedPartOfPartitionAsScanned() throws Throwable
+    {
+        // given
+        long total = 40;
+        when( nodeStore.getHighId() ).thenReturn( total );
+        when( nodeStore.newRecord() ).thenAnswer( invocation -> new NodeRecord( -1 ) );
+        when( nodeStore.getRecord( anyLong(), any( NodeRecord.class ), any( RecordLoad.class ) ) ).thenAnswer(
+                invocation ->
+                {
+                    NodeRecord record = invocation.getArgument( 1 );
+                    record.setId( invocation.getArgument( 0 ) );
+                    record.setInUse( true );
+                    return record;
+                } );
+        FeatureToggles.set( NodeStoreScan.class, NodeStoreScan.MAXIMUM_PARTITIONS_NAME, 2 );
+        FeatureToggles.set( NodeStoreScan.class, NodeStoreScan.MINIMUM_PARTITION_SIZE_NAME, 20 );
+        try
+        {
+            Set<Long> processed = ConcurrentHashMap.newKeySet();
+            PartitionCheckingNodeStoreScan scan = new PartitionCheckingNodeStoreScan( nodeStore, locks, processed )
+            {
+                @Override
+                public void process( NodeRecord node )
+                {
+                    super.process( node );
+                    if ( node.getId() == 5 )
+                    {
+                        // then nodes before the current position in the same partition are scanned, later ones are not
+                        assertTrue( scanned( 5 ) );
+                        assertTrue( scanned( 4 ) );
+                        assertFalse( scanned( 6 ) );
+                        assertFalse( scanned( 19 ) );
+                    }
+                }
+            };
+
+            // when
+            scan.run();
+
+            // then
+            assertEquals( total, processed.size() );
+        }
+        finally
+        {
+            FeatureToggles.clear( NodeStoreScan.class, NodeStoreScan.MAXIMUM_PARTITIONS_NAME );
+            FeatureToggles.clear( NodeStoreScan.class, NodeStoreScan.MINIMUM_PARTITION_SIZE_NAME );
+        }
+    }
+
+    private static class PartitionCheckingNodeStoreScan extends NodeStoreScan<RuntimeException>
+    {
+        private final Set<Long> processed;
+
+        PartitionCheckingNodeStoreScan( NodeStore nodeStore, LockService locks, Set<Long> processed )
+        {
+            super( nodeStore, locks, nodeStore.getHighId() );
+            this.processed = processed;
+        }
+
+        @Override
+        public void acceptUpdate( MultipleIndexPopulator.MultipleIndexUpdater updater, IndexEntryUpdate<?> update,
+                long currentlyIndexedNodeId )
+        {
+            // no-op
+        }
+
+        @Override
+        public void process( NodeRecord node )
+        {
+            assertTrue( "Node " + node.getId() + " processed more than once", processed.add( node.getId() ) );
+        }
+
+        boolean scanned( long nodeId )
+        {
+            return isScanned( nodeId, -1 );
+        }
+    }
+
     private static class PercentageSupplier implements Supplier<Float>
     {
         private StoreScan<?> storeScan;
@@ -40,6 +40,9 @@ import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
  * Since we cant rely on lucene per writer merge threads we need to perform writer tasks counting ourselves to prevent
  * cases while writer will be closed in the middle of merge and will wait for all writer related merges to complete
  * before allowing close of writer scheduler.
+ *
+ * Background merges of all writers share a single IO budget, see {@link #setMergeMBPerSec(double)}, while forced
+ * merges requested by maintenance operations always run unthrottled.
  */
 public class PooledConcurrentMergeScheduler extends ConcurrentMergeScheduler
 {
@@ -50,8 +53,47 @@ public class PooledConcurrentMergeScheduler extends ConcurrentMergeScheduler
     private static final int POOL_MAXIMUM_THREADS =
             FeatureToggles.getInteger( PooledConcurrentMergeScheduler.class, "pool.maximum.threads", 10 );
 
+    private static final double MERGE_MB_PER_SEC =
+            FeatureToggles.getDouble( PooledConcurrentMergeScheduler.class, "merge.mb.per.sec", 0 );
+
+    private static volatile double mergeMBPerSec = rateOrUnlimited( MERGE_MB_PER_SEC );
+    private static final LongAdder completedMerges = new LongAdder();
+    private static final LongAdder totalMergeTimeMillis = new LongAdder();
+
     private final LongAdder writerTaskCounter = new LongAdder();
 
+    /**
+     * Limit the write rate of background merges. The limit is picked up by merges started after this call.
+     *
+     * @param mbPerSec maximum number of megabytes per second each background merge may write, or zero or a negative
+     * number to disable throttling.
+     */
+    public static void setMergeMBPerSec( double mbPerSec )
+    {
+        mergeMBPerSec = rateOrUnlimited( mbPerSec );
+    }
+
+    public static double getMergeMBPerSec()
+    {
+        return mergeMBPerSec;
+    }
+
+    /**
+     * @return number of merges completed by all pooled schedulers since start.
+     */
+    public static long completedMerges()
+    {
+        return completedMerges.longValue();
+    }
+
+    /**
+     * @return total time, in milliseconds, spent in merges completed by all pooled schedulers since start.
+     */
+    public static long totalMergeTimeMillis()
+    {
+        return totalMergeTimeMillis.longValue();
+    }
+
     @Override
     public void merge( IndexWriter writer, MergeTrigger trigger, boolean newMergesFound )
             throws IOException
@@ -66,6 +108,7 @@ public class PooledConcurrentMergeScheduler extends ConcurrentMergeScheduler
             boolean success = false;
             try
             {
+                merge.rateLimiter.setMBPerSec( mergeRate( merge ) );
                 MergeThread mergeThread = getMergeThread( writer, merge );
                 writerTaskCounter.increment();
                 PooledConcurrentMergePool.mergeThreadsPool.submit( mergeTask( mergeThread ) );
@@ -106,6 +149,17 @@ public class PooledConcurrentMergeScheduler extends ConcurrentMergeScheduler
         return writerTaskCounter.longValue();
     }
 
+    private static double mergeRate( MergePolicy.OneMerge merge )
+    {
+        boolean forced = merge.maxNumSegments != -1 || merge.isExternal;
+        return forced ? Double.POSITIVE_INFINITY : mergeMBPerSec;
+    }
+
+    private static double rateOrUnlimited( double mbPerSec )
+    {
+        return mbPerSec > 0 ? mbPerSec : Double.POSITIVE_INFINITY;
+    }
+
     private Runnable mergeTask( MergeThread mergeThread )
     {
         return new MergeTask( mergeThread, writerTaskCounter );
@@ -150,12 +204,15 @@ public class PooledConcurrentMergeScheduler extends ConcurrentMergeScheduler
         @Override
         public void run()
         {
+            long startTime = System.currentTimeMillis();
             try
             {
                 mergeThread.run();
             }
             finally
             {
+                completedMerges.increment();
+                totalMergeTimeMillis.add( System.currentTimeMillis() - startTime );
                 taskCounter.decrement();
             }
         }
@@ -102,6 +102,16 @@ public interface EntityId
             this.endNode = endNode;
         }
 
+        public long startNode()
+        {
+            return startNode;
+        }
+
+        public long endNode()
+        {
+            return endNode;
+        }
+
         @Override
         public void enhance( Document document )
         {
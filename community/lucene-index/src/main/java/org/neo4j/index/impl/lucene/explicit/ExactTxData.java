@@ -19,8 +19,13 @@
  */
 package org.neo4j.index.impl.lucene.explicit;
 
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -32,6 +37,12 @@ import java.util.Set;
 import org.neo4j.index.lucene.QueryContext;
 import org.neo4j.index.lucene.ValueContext;
 
+/**
+ * Transaction state of an explicit index, kept as plain maps from key and value to the entities added or removed in
+ * the transaction. Lookups, and queries made up of nothing but exact term matches against an {@link IndexType#EXACT}
+ * index, are answered straight from these maps. Anything else, e.g. wildcard, range or fulltext queries, converts this
+ * state into a {@link FullTxData}, which is an in-memory Lucene index, for the rest of the transaction.
+ */
 public class ExactTxData extends TxData
 {
     private Map<String, Map<Object, Set<EntityId>>> data;
@@ -130,11 +141,142 @@ public class ExactTxData extends TxData
             return Collections.emptyList();
         }
 
+        Collection<EntityId> exactMatches = exactQuery( holder, query, contextOrNull );
+        if ( exactMatches != null )
+        {
+            return exactMatches;
+        }
+
         TxData fullTxData = toFullTxData();
         holder.set( fullTxData );
         return fullTxData.query( holder, query, contextOrNull );
     }
 
+    @Override
+    Collection<EntityId> exactQuery( TxDataHolder holder, Query query, QueryContext contextOrNull )
+    {
+        if ( contextOrNull != null && contextOrNull.getTradeCorrectnessForSpeed() )
+        {
+            return Collections.emptyList();
+        }
+        // Orphans match queries on their key, whatever the query is, which is left to FullTxData to figure out.
+        if ( hasOrphans || index.type != IndexType.EXACT )
+        {
+            return null;
+        }
+        Set<EntityId> matches = exactMatches( query );
+        return matches != null ? new HashSet<>( matches ) : null;
+    }
+
+    /**
+     * @return the entities matching the query, or {@code null} if the query is not made up of only exact matches.
+     * The returned set may be a live view of the transaction state and must not be modified.
+     */
+    private Set<EntityId> exactMatches( Query query )
+    {
+        if ( query instanceof TermQuery )
+        {
+            Term term = ((TermQuery) query).getTerm();
+            if ( LuceneExplicitIndex.KEY_START_NODE_ID.equals( term.field() ) ||
+                 LuceneExplicitIndex.KEY_END_NODE_ID.equals( term.field() ) )
+            {
+                return relationshipsWithNode( term );
+            }
+            Set<EntityId> ids = idCollection( term.field(), term.text(), false );
+            return ids != null ? ids : Collections.emptySet();
+        }
+        if ( query instanceof MatchAllDocsQuery )
+        {
+            return allEntities();
+        }
+        if ( query instanceof BooleanQuery )
+        {
+            return booleanMatches( (BooleanQuery) query );
+        }
+        return null;
+    }
+
+    private Set<EntityId> booleanMatches( BooleanQuery query )
+    {
+        if ( query.getMinimumNumberShouldMatch() > 0 )
+        {
+            return null;
+        }
+        Set<EntityId> required = null;
+        Set<EntityId> optional = new HashSet<>();
+        Set<EntityId> prohibited = new HashSet<>();
+        for ( BooleanClause clause : query.clauses() )
+        {
+            Set<EntityId> matches = exactMatches( clause.getQuery() );
+            if ( matches == null )
+            {
+                return null;
+            }
+            switch ( clause.getOccur() )
+            {
+            case MUST:
+            case FILTER:
+                if ( required == null )
+                {
+                    required = new HashSet<>( matches );
+                }
+                else
+                {
+                    required.retainAll( matches );
+                }
+                break;
+            case SHOULD:
+                optional.addAll( matches );
+                break;
+            case MUST_NOT:
+                prohibited.addAll( matches );
+                break;
+            default:
+                return null;
+            }
+        }
+        // Optional clauses only affect scoring once there is a required one, and a query of only prohibited
+        // clauses matches nothing.
+        Set<EntityId> result = required != null ? required : optional;
+        result.removeAll( prohibited );
+        return result;
+    }
+
+    private Set<EntityId> relationshipsWithNode( Term term )
+    {
+        boolean start = LuceneExplicitIndex.KEY_START_NODE_ID.equals( term.field() );
+        Set<EntityId> result = new HashSet<>();
+        for ( EntityId entityId : allEntities() )
+        {
+            if ( entityId instanceof EntityId.RelationshipData )
+            {
+                EntityId.RelationshipData relationship = (EntityId.RelationshipData) entityId;
+                long node = start ? relationship.startNode() : relationship.endNode();
+                if ( term.text().equals( String.valueOf( node ) ) )
+                {
+                    result.add( entityId );
+                }
+            }
+        }
+        return result;
+    }
+
+    private Set<EntityId> allEntities()
+    {
+        Set<EntityId> result = new HashSet<>();
+        if ( data != null )
+        {
+            for ( Map<Object,Set<EntityId>> keyMap : data.values() )
+            {
+                for ( Set<EntityId> ids : keyMap.values() )
+                {
+                    result.addAll( ids );
+                }
+            }
+        }
+        return result;
+    }
+
     @Override
     void remove( TxDataHolder holder, EntityId entityId, String key, Object value )
     {
@@ -143,7 +285,23 @@ public class ExactTxData extends TxData
             return;
         }
 
-        if ( key == null || value == null )
+        if ( value == null && !hasOrphans )
+        {
+            // Removes the entity from all values of the key, or from all keys, like FullTxData clearing its fields.
+            Collection<Map<Object,Set<EntityId>>> keyMaps =
+                    key == null ? data.values() : Collections.singleton( keyMap( key, false ) );
+            for ( Map<Object,Set<EntityId>> keyMap : keyMaps )
+            {
+                if ( keyMap != null )
+                {
+                    for ( Set<EntityId> ids : keyMap.values() )
+                    {
+                        ids.remove( entityId );
+                    }
+                }
+            }
+        }
+        else if ( key == null || value == null )
         {
             TxData fullData = toFullTxData();
             fullData.remove( holder, entityId, key, value );
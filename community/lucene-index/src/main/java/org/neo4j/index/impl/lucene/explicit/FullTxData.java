@@ -215,6 +215,12 @@ class FullTxData extends TxData
         return internalQuery( query, contextOrNull );
     }
 
+    @Override
+    Collection<EntityId> exactQuery( TxDataHolder holder, Query query, QueryContext contextOrNull )
+    {
+        return null;
+    }
+
     private Collection<EntityId> internalQuery( Query query, QueryContext contextOrNull )
     {
         if ( this.directory == null )
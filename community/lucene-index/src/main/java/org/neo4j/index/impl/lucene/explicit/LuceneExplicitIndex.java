@@ -250,7 +250,19 @@ public abstract class LuceneExplicitIndex implements ExplicitIndex
             }
             else
             {
-                fulltextTransactionStateSearcher = transaction.getAdditionsAsSearcher( this, additionalParametersOrNull );
+                // Sorted and top hits need the additions scored and sorted together with the committed documents.
+                boolean mergeWithCommitted = additionalParametersOrNull != null &&
+                        (additionalParametersOrNull.getSorting() != null || additionalParametersOrNull.getTop() > 0);
+                Collection<EntityId> addedIds = mergeWithCommitted ? null :
+                        transaction.getAddedIds( this, query, additionalParametersOrNull );
+                if ( addedIds != null )
+                {
+                    simpleTransactionStateIds.addAll( addedIds );
+                }
+                else
+                {
+                    fulltextTransactionStateSearcher = transaction.getAdditionsAsSearcher( this, additionalParametersOrNull );
+                }
             }
             removedIdsFromTransactionState = keyForDirectLookup != null ?
                     transaction.getRemovedIds( this, keyForDirectLookup, valueForDirectLookup ) :
@@ -243,6 +243,20 @@ class LuceneTransactionState implements Closeable
         }
     }
 
+    /**
+     * @return the ids added in this transaction that match the query, or {@code null} if the query can not be
+     * answered from the transaction state directly, in which case {@link #getAdditionsAsSearcher} has to be used.
+     */
+    Collection<EntityId> getAddedIds( LuceneExplicitIndex index, Query query, QueryContext contextOrNull )
+    {
+        TxDataHolder added = addedTxDataOrNull( index );
+        if ( added == null )
+        {
+            return Collections.emptySet();
+        }
+        return added.exactQuery( query, contextOrNull );
+    }
+
     IndexSearcher getAdditionsAsSearcher( LuceneExplicitIndex index,
             QueryContext context )
     {
@@ -41,6 +41,13 @@ abstract class TxData
 
     abstract Collection<EntityId> query( TxDataHolder holder, Query query, QueryContext contextOrNull );
 
+    /**
+     * Answers the query without building any Lucene index over the transaction state, if possible.
+     *
+     * @return the matching entities, or {@code null} if this query needs {@link #asSearcher(TxDataHolder, QueryContext)}.
+     */
+    abstract Collection<EntityId> exactQuery( TxDataHolder holder, Query query, QueryContext contextOrNull );
+
     abstract Collection<EntityId> get( TxDataHolder holder, String key, Object value );
 
     abstract Collection<EntityId> getOrphans( String key );
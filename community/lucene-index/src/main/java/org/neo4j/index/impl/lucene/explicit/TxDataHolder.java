@@ -53,6 +53,11 @@ class TxDataHolder implements Closeable
         return this.data.query( this, query, contextOrNull );
     }
 
+    Collection<EntityId> exactQuery( Query query, QueryContext contextOrNull )
+    {
+        return this.data.exactQuery( this, query, contextOrNull );
+    }
+
     Collection<EntityId> get( String key, Object value )
     {
         return this.data.get( this, key, value );
@@ -23,8 +23,6 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.index.KeepOnlyLastCommitDeletionPolicy;
-import org.apache.lucene.index.SnapshotDeletionPolicy;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.similarities.Similarity;
 import org.apache.lucene.store.Directory;
@@ -34,6 +32,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 import org.neo4j.kernel.api.exceptions.explicitindex.ExplicitIndexNotFoundKernelException;
+import org.neo4j.kernel.api.impl.index.IndexWriterConfigs;
 
 class WritableIndexReferenceFactory extends IndexReferenceFactory
 {
@@ -81,8 +80,7 @@ class WritableIndexReferenceFactory extends IndexReferenceFactory
         {
             Directory indexDirectory = getIndexDirectory( identifier );
             IndexType type = getType( identifier );
-            IndexWriterConfig writerConfig = new IndexWriterConfig( type.analyzer );
-            writerConfig.setIndexDeletionPolicy( new SnapshotDeletionPolicy( new KeepOnlyLastCommitDeletionPolicy() ) );
+            IndexWriterConfig writerConfig = IndexWriterConfigs.explicit( type.analyzer );
             Similarity similarity = type.getSimilarity();
             if ( similarity != null )
             {
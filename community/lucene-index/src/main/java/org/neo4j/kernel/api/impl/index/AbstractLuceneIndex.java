@@ -211,6 +211,24 @@ public abstract class AbstractLuceneIndex
         }
     }
 
+    /**
+     * @return total number of segments in all index partitions, as seen by their current searchers.
+     * @throws IOException on Lucene I/O error.
+     */
+    public int segmentCount() throws IOException
+    {
+        ensureOpen();
+        int segments = 0;
+        for ( AbstractIndexPartition partition : getPartitions() )
+        {
+            try ( PartitionSearcher searcher = partition.acquireSearcher() )
+            {
+                segments += searcher.getIndexSearcher().getIndexReader().leaves().size();
+            }
+        }
+        return segments;
+    }
+
     public void close() throws IOException
     {
         open = false;
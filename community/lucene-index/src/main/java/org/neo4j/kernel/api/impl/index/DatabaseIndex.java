@@ -95,6 +95,19 @@ public interface DatabaseIndex extends Closeable
      */
     void flush() throws IOException;
 
+    /**
+     * Commits all index partitions and merges each of them into a single segment.
+     *
+     * @throws IOException
+     */
+    void compact() throws IOException;
+
+    /**
+     * @return total number of segments in all index partitions.
+     * @throws IOException
+     */
+    int segmentCount() throws IOException;
+
     /**
      * Creates an iterable over all {@link org.apache.lucene.document.Document document}s in all partitions.
      *
@@ -27,7 +27,9 @@ import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.KeepOnlyLastCommitDeletionPolicy;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
 import org.apache.lucene.index.PooledConcurrentMergeScheduler;
+import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.SnapshotDeletionPolicy;
+import org.apache.lucene.index.TieredMergePolicy;
 
 import org.neo4j.index.impl.lucene.explicit.LuceneDataSource;
 import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
@@ -49,6 +51,12 @@ public final class IndexWriterConfigs
             FeatureToggles.getDouble( IndexWriterConfigs.class, "nocfs.ratio", 1.0 );
     private static final double MERGE_POLICY_MIN_MERGE_MB =
             FeatureToggles.getDouble( IndexWriterConfigs.class, "min.merge", 0.1 );
+    private static final int TIERED_SEGMENTS_PER_TIER =
+            FeatureToggles.getInteger( IndexWriterConfigs.class, "tiered.segments.per.tier", 10 );
+    private static final double TIERED_MAX_MERGED_SEGMENT_MB =
+            FeatureToggles.getDouble( IndexWriterConfigs.class, "tiered.max.merged.segment", 5 * 1024 );
+    private static final double TIERED_FLOOR_SEGMENT_MB =
+            FeatureToggles.getDouble( IndexWriterConfigs.class, "tiered.floor.segment", 2 );
     private static final boolean CODEC_BLOCK_TREE_ORDS_POSTING_FORMAT =
             FeatureToggles.flag( IndexWriterConfigs.class, "block.tree.ords.posting.format", true );
 
@@ -60,6 +68,29 @@ public final class IndexWriterConfigs
     private static final boolean CUSTOM_MERGE_SCHEDULER =
             FeatureToggles.flag( IndexWriterConfigs.class, "custom.merge.scheduler", true );
 
+    static final String LOG_BYTE_SIZE_MERGE_POLICY = "log_byte_size";
+    static final String TIERED_MERGE_POLICY = "tiered";
+
+    /**
+     * Kinds of lucene indexes that can be configured with their own merge policy, using the
+     * {@code <kind>.merge.policy} toggle with one of {@value #LOG_BYTE_SIZE_MERGE_POLICY} or
+     * {@value #TIERED_MERGE_POLICY}.
+     */
+    public enum IndexKind
+    {
+        SCHEMA( LOG_BYTE_SIZE_MERGE_POLICY ),
+        FULLTEXT( LOG_BYTE_SIZE_MERGE_POLICY ),
+        EXPLICIT( TIERED_MERGE_POLICY );
+
+        private final String mergePolicy;
+
+        IndexKind( String defaultMergePolicy )
+        {
+            this.mergePolicy = FeatureToggles.getString( IndexWriterConfigs.class,
+                    name().toLowerCase() + ".merge.policy", defaultMergePolicy );
+        }
+    }
+
     /**
      * Default postings format for schema and label scan store indexes.
      */
@@ -77,6 +108,11 @@ public final class IndexWriterConfigs
     }
 
     public static IndexWriterConfig standard( Analyzer analyzer )
+    {
+        return standard( analyzer, IndexKind.SCHEMA );
+    }
+
+    public static IndexWriterConfig standard( Analyzer analyzer, IndexKind kind )
     {
         IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
 
@@ -98,16 +134,51 @@ public final class IndexWriterConfigs
         {
             writerConfig.setMergeScheduler( new PooledConcurrentMergeScheduler() );
         }
+        writerConfig.setMergePolicy( mergePolicy( kind ) );
 
-        LogByteSizeMergePolicy mergePolicy = new LogByteSizeMergePolicy();
-        mergePolicy.setNoCFSRatio( MERGE_POLICY_NO_CFS_RATIO );
-        mergePolicy.setMinMergeMB( MERGE_POLICY_MIN_MERGE_MB );
-        mergePolicy.setMergeFactor( MERGE_POLICY_MERGE_FACTOR );
-        writerConfig.setMergePolicy( mergePolicy );
+        return writerConfig;
+    }
 
+    /**
+     * Writer configuration for explicit indexes. Keeps lucene defaults for everything except deletion policy,
+     * merge policy and merge scheduler, so that explicit index merges are throttled together with all other
+     * index merges.
+     */
+    public static IndexWriterConfig explicit( Analyzer analyzer )
+    {
+        IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
+        writerConfig.setIndexDeletionPolicy( new SnapshotDeletionPolicy( new KeepOnlyLastCommitDeletionPolicy() ) );
+        if ( CUSTOM_MERGE_SCHEDULER )
+        {
+            writerConfig.setMergeScheduler( new PooledConcurrentMergeScheduler() );
+        }
+        writerConfig.setMergePolicy( mergePolicy( IndexKind.EXPLICIT ) );
         return writerConfig;
     }
 
+    static MergePolicy mergePolicy( IndexKind kind )
+    {
+        switch ( kind.mergePolicy )
+        {
+        case LOG_BYTE_SIZE_MERGE_POLICY:
+            LogByteSizeMergePolicy logPolicy = new LogByteSizeMergePolicy();
+            logPolicy.setNoCFSRatio( MERGE_POLICY_NO_CFS_RATIO );
+            logPolicy.setMinMergeMB( MERGE_POLICY_MIN_MERGE_MB );
+            logPolicy.setMergeFactor( MERGE_POLICY_MERGE_FACTOR );
+            return logPolicy;
+        case TIERED_MERGE_POLICY:
+            TieredMergePolicy tieredPolicy = new TieredMergePolicy();
+            tieredPolicy.setSegmentsPerTier( TIERED_SEGMENTS_PER_TIER );
+            tieredPolicy.setMaxMergedSegmentMB( TIERED_MAX_MERGED_SEGMENT_MB );
+            tieredPolicy.setFloorSegmentMB( TIERED_FLOOR_SEGMENT_MB );
+            return tieredPolicy;
+        default:
+            throw new IllegalArgumentException( "Unknown merge policy '" + kind.mergePolicy + "' configured for " +
+                    kind.name().toLowerCase() + " indexes, expected one of: " + LOG_BYTE_SIZE_MERGE_POLICY + ", " +
+                    TIERED_MERGE_POLICY );
+        }
+    }
+
     public static IndexWriterConfig population()
     {
         Analyzer analyzer = LuceneDataSource.KEYWORD_ANALYZER;
@@ -112,6 +112,24 @@ public abstract class ReadOnlyAbstractDatabaseIndex<T extends AbstractLuceneInde
         // nothing to flush in read only mode
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void compact() throws IOException
+    {
+        // nothing to compact in read only mode
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int segmentCount() throws IOException
+    {
+        return luceneIndex.segmentCount();
+    }
+
     /**
      * {@inheritDoc}
      */
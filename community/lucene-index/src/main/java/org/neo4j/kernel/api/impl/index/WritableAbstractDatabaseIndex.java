@@ -132,6 +132,33 @@ public class WritableAbstractDatabaseIndex<T extends AbstractLuceneIndex> implem
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void compact() throws IOException
+    {
+        commitCloseLock.lock();
+        try
+        {
+            luceneIndex.flush( true );
+            luceneIndex.maybeRefreshBlocking();
+        }
+        finally
+        {
+            commitCloseLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int segmentCount() throws IOException
+    {
+        return luceneIndex.segmentCount();
+    }
+
     /**
      * {@inheritDoc}
      */
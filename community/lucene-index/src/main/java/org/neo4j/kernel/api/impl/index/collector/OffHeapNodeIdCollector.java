@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.index.collector;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.SimpleCollector;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.neo4j.collection.primitive.PrimitiveLongCollections.PrimitiveLongBaseIterator;
+import org.neo4j.collection.primitive.PrimitiveLongResourceIterator;
+import org.neo4j.graphdb.Resource;
+import org.neo4j.unsafe.impl.batchimport.cache.LongArray;
+import org.neo4j.unsafe.impl.batchimport.cache.NumberArrayFactory;
+
+/**
+ * Collector reading the numeric {@code DocValues} of a single field, e.g. node ids, of every hit as it is collected.
+ * <p>
+ * Unlike {@link DocValuesCollector}, which keeps a {@code DocIdSet} per segment and reads values when iterating,
+ * this collector keeps nothing but the values themselves. The first {@value #HEAP_CAPACITY} values go into a small,
+ * growing heap array, any further values into chunks allocated off heap when possible, so that queries with millions of hits
+ * don't produce garbage in proportion to their number of hits, nor to the size of the segments they hit.
+ * <p>
+ * Off heap memory is released when the {@link #iterator() iterator} is exhausted or closed, or when this
+ * collector is {@link #close() closed}, whichever happens first.
+ */
+public class OffHeapNodeIdCollector extends SimpleCollector implements Resource
+{
+    static final int HEAP_CAPACITY = 1024;
+    static final int CHUNK_SIZE = 1 << 16;
+
+    private final String field;
+    private final NumberArrayFactory chunkFactory;
+    private long[] heapValues = new long[16];
+    private final List<LongArray> chunks = new ArrayList<>();
+    private NumericDocValues docValues;
+    private long size;
+    private boolean closed;
+
+    /**
+     * @param field the field that contains the values.
+     */
+    public OffHeapNodeIdCollector( String field )
+    {
+        this( field, NumberArrayFactory.AUTO_WITHOUT_PAGECACHE );
+    }
+
+    OffHeapNodeIdCollector( String field, NumberArrayFactory chunkFactory )
+    {
+        this.field = field;
+        this.chunkFactory = chunkFactory;
+    }
+
+    @Override
+    protected void doSetNextReader( LeafReaderContext context ) throws IOException
+    {
+        docValues = context.reader().getNumericDocValues( field );
+        if ( docValues == null )
+        {
+            throw new IllegalStateException( "The field '" + field + "' is not indexed properly, expected NumericDV" );
+        }
+    }
+
+    @Override
+    public void collect( int doc )
+    {
+        long value = docValues.get( doc );
+        if ( size < HEAP_CAPACITY )
+        {
+            if ( size == heapValues.length )
+            {
+                heapValues = Arrays.copyOf( heapValues, heapValues.length * 2 );
+            }
+            heapValues[(int) size] = value;
+        }
+        else
+        {
+            long offHeapIndex = size - HEAP_CAPACITY;
+            int chunk = (int) (offHeapIndex / CHUNK_SIZE);
+            if ( chunk == chunks.size() )
+            {
+                chunks.add( chunkFactory.newLongArray( CHUNK_SIZE, 0 ) );
+            }
+            chunks.get( chunk ).set( offHeapIndex % CHUNK_SIZE, value );
+        }
+        size++;
+    }
+
+    @Override
+    public boolean needsScores()
+    {
+        return false;
+    }
+
+    /**
+     * @return the total number of hits across all segments.
+     */
+    public long getTotalHits()
+    {
+        return size;
+    }
+
+    /**
+     * @return whether any values have been stored in chunks which need to be released by {@link #close()}.
+     */
+    public boolean isOffHeap()
+    {
+        return !chunks.isEmpty();
+    }
+
+    /**
+     * @return whether this collector has been closed, directly or by exhausting or closing its iterator.
+     */
+    public boolean isClosed()
+    {
+        return closed;
+    }
+
+    /**
+     * @return iterator over the collected values, in the order they were collected.
+     */
+    public PrimitiveLongResourceIterator iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public void close()
+    {
+        for ( LongArray chunk : chunks )
+        {
+            chunk.close();
+        }
+        chunks.clear();
+        closed = true;
+    }
+
+    private class ValuesIterator extends PrimitiveLongBaseIterator implements PrimitiveLongResourceIterator
+    {
+        private long index;
+
+        @Override
+        protected boolean fetchNext()
+        {
+            if ( index >= size )
+            {
+                close();
+                return false;
+            }
+            long value;
+            if ( index < HEAP_CAPACITY )
+            {
+                value = heapValues[(int) index];
+            }
+            else
+            {
+                long offHeapIndex = index - HEAP_CAPACITY;
+                value = chunks.get( (int) (offHeapIndex / CHUNK_SIZE) ).get( offHeapIndex % CHUNK_SIZE );
+            }
+            index++;
+            return next( value );
+        }
+
+        @Override
+        public void close()
+        {
+            index = size;
+            OffHeapNodeIdCollector.this.close();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.index.partition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.function.ThrowingFunction;
+import org.neo4j.helpers.NamedThreadFactory;
+import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
+
+/**
+ * Runs work over multiple partitions of an index, or any other independent pieces of search work, in parallel on an
+ * executor shared by all indexes. The executor is bounded both in threads and queued tasks. Work which doesn't fit
+ * in the queue, and work submitted from the executor's own threads, runs on the calling thread, so that a search
+ * never waits for a thread which is itself waiting.
+ */
+public final class ParallelPartitionSearch
+{
+    private static final int PARALLELISM = FeatureToggles.getInteger( ParallelPartitionSearch.class, "parallelism",
+            Runtime.getRuntime().availableProcessors() );
+    private static final ThreadLocal<Boolean> SEARCH_THREAD = ThreadLocal.withInitial( () -> Boolean.FALSE );
+    private static final ThreadPoolExecutor EXECUTOR = newExecutor();
+
+    private ParallelPartitionSearch()
+    {
+        throw new AssertionError( "Not for instantiation!" );
+    }
+
+    /**
+     * Applies the given function to all the given items, in parallel if there is more than one.
+     *
+     * @param items items, typically partitions, to apply the function to.
+     * @param function function to apply.
+     * @param <T> type of items.
+     * @param <R> type of results.
+     * @param <E> type of exception thrown by the function.
+     * @return results of the function, in the order of the items.
+     * @throws E the first exception, in the order of the items, thrown by the function.
+     */
+    public static <T, R, E extends Exception> List<R> map( List<T> items, ThrowingFunction<T,R,E> function ) throws E
+    {
+        List<R> results = new ArrayList<>( items.size() );
+        if ( items.size() <= 1 || PARALLELISM <= 1 || SEARCH_THREAD.get() )
+        {
+            for ( T item : items )
+            {
+                results.add( function.apply( item ) );
+            }
+            return results;
+        }
+
+        List<Future<R>> futures = new ArrayList<>( items.size() - 1 );
+        for ( int i = 1; i < items.size(); i++ )
+        {
+            T item = items.get( i );
+            futures.add( EXECUTOR.submit( () -> apply( function, item ) ) );
+        }
+        // The calling thread does its share of the work rather than just waiting
+        R first;
+        try
+        {
+            first = function.apply( items.get( 0 ) );
+        }
+        catch ( Throwable t )
+        {
+            futures.forEach( future -> future.cancel( false ) );
+            throw t;
+        }
+        results.add( first );
+        for ( Future<R> future : futures )
+        {
+            results.add( await( future, futures ) );
+        }
+        return results;
+    }
+
+    private static <T, R, E extends Exception> R apply( ThrowingFunction<T,R,E> function, T item ) throws E
+    {
+        boolean nested = SEARCH_THREAD.get();
+        SEARCH_THREAD.set( Boolean.TRUE );
+        try
+        {
+            return function.apply( item );
+        }
+        finally
+        {
+            SEARCH_THREAD.set( nested );
+        }
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private static <R, E extends Exception> R await( Future<R> future, List<Future<R>> all ) throws E
+    {
+        try
+        {
+            return future.get();
+        }
+        catch ( InterruptedException e )
+        {
+            all.forEach( f -> f.cancel( false ) );
+            Thread.currentThread().interrupt();
+            throw new RuntimeException( "Interrupted while searching index partitions", e );
+        }
+        catch ( ExecutionException e )
+        {
+            all.forEach( f -> f.cancel( false ) );
+            Throwable cause = e.getCause();
+            if ( cause instanceof RuntimeException )
+            {
+                throw (RuntimeException) cause;
+            }
+            if ( cause instanceof Error )
+            {
+                throw (Error) cause;
+            }
+            // Only the function can have thrown a checked exception, and it only throws E
+            throw (E) cause;
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor()
+    {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor( PARALLELISM, PARALLELISM, 10, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>( PARALLELISM * 16 ), NamedThreadFactory.daemon( "Lucene partition search" ),
+                new ThreadPoolExecutor.CallerRunsPolicy() );
+        executor.allowCoreThreadTimeOut( true );
+        return executor;
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.kernel.api.impl.index.sampler;
 import java.util.List;
 
 import org.neo4j.kernel.api.exceptions.index.IndexNotFoundKernelException;
+import org.neo4j.kernel.api.impl.index.partition.ParallelPartitionSearch;
 import org.neo4j.storageengine.api.schema.IndexSample;
 import org.neo4j.storageengine.api.schema.IndexSampler;
 
@@ -41,24 +42,12 @@ public class AggregatingIndexSampler implements IndexSampler
     @Override
     public IndexSample sampleIndex() throws IndexNotFoundKernelException
     {
-        return indexSamplers.parallelStream()
-                .map( this::sampleIndex )
+        return ParallelPartitionSearch.map( indexSamplers, IndexSampler::sampleIndex )
+                .stream()
                 .reduce( this::combine )
                 .get();
     }
 
-    private IndexSample sampleIndex( IndexSampler sampler )
-    {
-        try
-        {
-            return sampler.sampleIndex();
-        }
-        catch ( IndexNotFoundKernelException e )
-        {
-            throw new RuntimeException( e );
-        }
-    }
-
     public IndexSample combine( IndexSample sample1, IndexSample sample2 )
     {
         long indexSize = Math.addExact( sample1.indexSize(), sample2.indexSize() );
@@ -21,12 +21,17 @@ package org.neo4j.kernel.api.impl.schema;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.neo4j.graphdb.ResourceIterator;
 import org.neo4j.helpers.collection.BoundedIterable;
 import org.neo4j.kernel.api.exceptions.index.IndexEntryConflictException;
 import org.neo4j.kernel.api.impl.schema.reader.LuceneAllEntriesIndexAccessorReader;
 import org.neo4j.kernel.api.impl.schema.writer.LuceneIndexWriter;
+import org.neo4j.kernel.api.index.DelegatingIndexReader;
 import org.neo4j.kernel.api.index.IndexAccessor;
 import org.neo4j.kernel.api.index.IndexEntryUpdate;
 import org.neo4j.kernel.api.index.IndexUpdater;
@@ -41,12 +46,29 @@ public class LuceneIndexAccessor implements IndexAccessor
     private final LuceneIndexWriter writer;
     private final SchemaIndex luceneIndex;
     private final IndexDescriptor descriptor;
+    private final LuceneIndexRefresher refresher;
+    /**
+     * Bumped whenever the contents or the structure of the index change, so that readers handed out before
+     * that can tell that they are no longer {@link IndexReader#isCurrent() current}.
+     */
+    private final AtomicLong generation = new AtomicLong();
 
     public LuceneIndexAccessor( SchemaIndex luceneIndex, IndexDescriptor descriptor ) throws IOException
+    {
+        this( luceneIndex, descriptor, null );
+    }
+
+    /**
+     * @param refreshScheduler scheduler to refresh the index searchers on after updates,
+     * or {@code null} for refreshing them when closing each updater.
+     */
+    public LuceneIndexAccessor( SchemaIndex luceneIndex, IndexDescriptor descriptor,
+            ScheduledExecutorService refreshScheduler ) throws IOException
     {
         this.luceneIndex = luceneIndex;
         this.descriptor = descriptor;
         this.writer = luceneIndex.isReadOnly() ? null : luceneIndex.getIndexWriter();
+        this.refresher = new LuceneIndexRefresher( luceneIndex, refreshScheduler );
     }
 
     @Override
@@ -72,6 +94,8 @@ public class LuceneIndexAccessor implements IndexAccessor
     @Override
     public void drop() throws IOException
     {
+        generation.incrementAndGet();
+        refresher.close();
         luceneIndex.drop();
     }
 
@@ -83,12 +107,25 @@ public class LuceneIndexAccessor implements IndexAccessor
         {
             luceneIndex.markAsOnline();
         }
-        luceneIndex.maybeRefreshBlocking();
+        refresher.refresh();
+    }
+
+    @Override
+    public void compact() throws IOException
+    {
+        if ( !luceneIndex.isReadOnly() )
+        {
+            luceneIndex.compact();
+            refresher.refresh();
+            generation.incrementAndGet();
+        }
     }
 
     @Override
     public void close() throws IOException
     {
+        generation.incrementAndGet();
+        refresher.close();
         luceneIndex.close();
     }
 
@@ -97,7 +134,13 @@ public class LuceneIndexAccessor implements IndexAccessor
     {
         try
         {
-            return luceneIndex.getIndexReader();
+            long readerGeneration = generation.get();
+            // Recent updates must be captured before the searchers they are overlaid on
+            Map<Long,Value[]> recentUpdates = refresher.recentUpdates();
+            IndexReader reader = luceneIndex.getIndexReader();
+            return new GenerationIndexReader(
+                    recentUpdates.isEmpty() ? reader : new RecentUpdatesIndexReader( reader, recentUpdates ),
+                    readerGeneration );
         }
         catch ( IOException e )
         {
@@ -108,6 +151,14 @@ public class LuceneIndexAccessor implements IndexAccessor
     @Override
     public BoundedIterable<Long> newAllEntriesReader()
     {
+        try
+        {
+            refresher.refresh();
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
         return new LuceneAllEntriesIndexAccessorReader( luceneIndex.allDocumentsReader() );
     }
 
@@ -121,13 +172,14 @@ public class LuceneIndexAccessor implements IndexAccessor
     public void verifyDeferredConstraints( PropertyAccessor propertyAccessor )
             throws IndexEntryConflictException, IOException
     {
+        refresher.refresh();
         luceneIndex.verifyUniqueness( propertyAccessor, descriptor.schema().getPropertyIds() );
     }
 
     private class LuceneIndexUpdater implements IndexUpdater
     {
         private final boolean isRecovery;
-        private boolean hasChanges;
+        private int updates;
 
         private LuceneIndexUpdater( boolean isRecovery )
         {
@@ -161,15 +213,16 @@ public class LuceneIndexAccessor implements IndexAccessor
             default:
                 throw new UnsupportedOperationException();
             }
-            hasChanges = true;
+            updates++;
         }
 
         @Override
         public void close() throws IOException, IndexEntryConflictException
         {
-            if ( hasChanges )
+            if ( updates > 0 )
             {
-                luceneIndex.maybeRefreshBlocking();
+                refresher.committed( updates );
+                generation.incrementAndGet();
             }
         }
 
@@ -177,22 +230,43 @@ public class LuceneIndexAccessor implements IndexAccessor
         {
             writer.updateDocument( LuceneDocumentStructure.newTermForChangeOrRemove( nodeId ),
                     LuceneDocumentStructure.documentRepresentingProperties( nodeId, values ) );
+            refresher.updated( nodeId, values );
         }
 
         private void add( long nodeId, Value[] values ) throws IOException
         {
             writer.addDocument( LuceneDocumentStructure.documentRepresentingProperties( nodeId, values ) );
+            refresher.updated( nodeId, values );
         }
 
         private void change( long nodeId, Value[] values ) throws IOException
         {
             writer.updateDocument( LuceneDocumentStructure.newTermForChangeOrRemove( nodeId ),
                     LuceneDocumentStructure.documentRepresentingProperties( nodeId, values ) );
+            refresher.updated( nodeId, values );
         }
 
         protected void remove( long nodeId ) throws IOException
         {
             writer.deleteDocuments( LuceneDocumentStructure.newTermForChangeOrRemove( nodeId ) );
+            refresher.removed( nodeId );
+        }
+    }
+
+    private class GenerationIndexReader extends DelegatingIndexReader
+    {
+        private final long readerGeneration;
+
+        GenerationIndexReader( IndexReader delegate, long readerGeneration )
+        {
+            super( delegate );
+            this.readerGeneration = readerGeneration;
+        }
+
+        @Override
+        public boolean isCurrent()
+        {
+            return readerGeneration == generation.get();
         }
     }
 }
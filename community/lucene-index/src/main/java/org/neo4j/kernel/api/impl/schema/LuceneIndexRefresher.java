@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.schema;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
+import org.neo4j.values.storable.Value;
+
+/**
+ * Coalesces searcher refreshes of a {@link SchemaIndex}, so that committing transactions don't have to reopen
+ * the searchers of every partition each time they update the index.
+ * <p>
+ * Entries written to the index since the last completed refresh are kept in {@link RecentUpdates}, a snapshot of
+ * which readers overlay on top of the possibly stale searchers, see {@link RecentUpdatesIndexReader}. Committed updates therefore
+ * stay visible to new readers even though the refresh making them visible in the index itself happens later,
+ * on the given scheduler. A refresh is scheduled at most {@code refresh_interval_millis} after a commit, immediately
+ * when {@code max_pending_updates} updates are pending, and done by the committing thread itself when the
+ * pending updates are four times that, to bound the size of the in-memory delta.
+ */
+class LuceneIndexRefresher
+{
+    /**
+     * Marker for an entry which has been removed from the index.
+     */
+    static final Value[] REMOVED = new Value[0];
+
+    private static final long REFRESH_INTERVAL_MILLIS =
+            FeatureToggles.getLong( LuceneIndexRefresher.class, "refresh_interval_millis", 50 );
+    private static final int MAX_PENDING_UPDATES =
+            FeatureToggles.getInteger( LuceneIndexRefresher.class, "max_pending_updates", 1_000 );
+
+    private final SchemaIndex luceneIndex;
+    private final ScheduledExecutorService scheduler;
+    private final Object refreshLock = new Object();
+    private final AtomicInteger pendingUpdates = new AtomicInteger();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private volatile RecentUpdates recentUpdates = new RecentUpdates( new ConcurrentHashMap<>(), Collections.emptyMap() );
+    private volatile IOException asyncRefreshFailure;
+    private boolean closed;
+
+    /**
+     * @param luceneIndex index to refresh.
+     * @param scheduler scheduler to refresh the index on, or {@code null} for refreshing it on every commit.
+     */
+    LuceneIndexRefresher( SchemaIndex luceneIndex, ScheduledExecutorService scheduler )
+    {
+        this.luceneIndex = luceneIndex;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Registers an entry which has been written to the index. Must be called after the index writer got the entry,
+     * so that a refresh clearing the entry from the recent updates is guaranteed to make it visible in the index.
+     */
+    void updated( long nodeId, Value[] values )
+    {
+        recentUpdates.active.put( nodeId, values );
+    }
+
+    /**
+     * Registers an entry which has been removed from the index, see {@link #updated(long, Value[])}.
+     */
+    void removed( long nodeId )
+    {
+        recentUpdates.active.put( nodeId, REMOVED );
+    }
+
+    /**
+     * Called when a batch of updates has been written to the index, refreshing the index now or later.
+     *
+     * @param updates number of updates in the batch.
+     * @throws IOException if refreshing, now or previously in the background, failed.
+     */
+    void committed( int updates ) throws IOException
+    {
+        if ( scheduler == null )
+        {
+            refresh();
+            return;
+        }
+
+        IOException failure = asyncRefreshFailure;
+        if ( failure != null )
+        {
+            // Retry on this thread so that the failure reaches someone able to report it
+            refresh();
+            return;
+        }
+
+        int pending = pendingUpdates.addAndGet( updates );
+        if ( pending >= MAX_PENDING_UPDATES * 4 )
+        {
+            refresh();
+        }
+        else
+        {
+            scheduleRefresh( pending >= MAX_PENDING_UPDATES ? 0 : REFRESH_INTERVAL_MILLIS );
+        }
+    }
+
+    /**
+     * @return snapshot of the latest values, or {@link #REMOVED}, of nodes which may not yet be visible in the
+     * searchers of the index. Must be called before acquiring the searchers which the returned updates are overlaid on.
+     */
+    Map<Long,Value[]> recentUpdates()
+    {
+        RecentUpdates updates = recentUpdates;
+        return updates.isEmpty() ? Collections.emptyMap() : new HashMap<>( updates.all() );
+    }
+
+    /**
+     * Refreshes the index, making all entries written to it so far visible to its searchers.
+     */
+    void refresh() throws IOException
+    {
+        synchronized ( refreshLock )
+        {
+            if ( closed )
+            {
+                return;
+            }
+
+            pendingUpdates.set( 0 );
+            recentUpdates = recentUpdates.beginRefresh();
+            luceneIndex.maybeRefreshBlocking();
+            recentUpdates = recentUpdates.refreshed();
+            asyncRefreshFailure = null;
+        }
+    }
+
+    /**
+     * Stops refreshing, waiting for an ongoing refresh to complete.
+     */
+    void close()
+    {
+        synchronized ( refreshLock )
+        {
+            closed = true;
+        }
+    }
+
+    private void scheduleRefresh( long delayMillis )
+    {
+        if ( refreshScheduled.compareAndSet( false, true ) )
+        {
+            scheduler.schedule( this::asyncRefresh, delayMillis, TimeUnit.MILLISECONDS );
+        }
+    }
+
+    private void asyncRefresh()
+    {
+        refreshScheduled.set( false );
+        try
+        {
+            refresh();
+        }
+        catch ( IOException e )
+        {
+            asyncRefreshFailure = e;
+        }
+    }
+
+    /**
+     * Latest values, or {@link #REMOVED}, of nodes updated in the index since the last completed refresh.
+     * Updates go into {@link #active}, which at the start of a refresh becomes {@link #refreshing},
+     * and is discarded once the refresh has made its entries visible. An instance never changes which maps it holds,
+     * so a snapshot of it can't miss entries that a concurrent refresh moved between the two.
+     */
+    private static class RecentUpdates
+    {
+        private final ConcurrentMap<Long,Value[]> active;
+        private final Map<Long,Value[]> refreshing;
+
+        private RecentUpdates( ConcurrentMap<Long,Value[]> active, Map<Long,Value[]> refreshing )
+        {
+            this.active = active;
+            this.refreshing = refreshing;
+        }
+
+        private boolean isEmpty()
+        {
+            return active.isEmpty() && refreshing.isEmpty();
+        }
+
+        private Map<Long,Value[]> all()
+        {
+            if ( refreshing.isEmpty() )
+            {
+                return active;
+            }
+            Map<Long,Value[]> all = new HashMap<>( refreshing );
+            all.putAll( active );
+            return all;
+        }
+
+        private RecentUpdates beginRefresh()
+        {
+            // A previously failed refresh leaves its entries in refreshing, so they need to be carried over
+            return new RecentUpdates( new ConcurrentHashMap<>(), all() );
+        }
+
+        private RecentUpdates refreshed()
+        {
+            return new RecentUpdates( active, Collections.emptyMap() );
+        }
+    }
+}
@@ -21,8 +21,11 @@ package org.neo4j.kernel.api.impl.schema;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.neo4j.graphdb.factory.GraphDatabaseSettings;
+import org.neo4j.helpers.NamedThreadFactory;
 import org.neo4j.internal.kernel.api.IndexCapability;
 import org.neo4j.io.fs.FileSystemAbstraction;
 import org.neo4j.io.pagecache.PageCache;
@@ -55,6 +58,8 @@ public class LuceneSchemaIndexProvider extends SchemaIndexProvider
     private final OperationalMode operationalMode;
     private final FileSystemAbstraction fileSystem;
     private final Monitor monitor;
+    private final ScheduledExecutorService refreshScheduler =
+            Executors.newSingleThreadScheduledExecutor( NamedThreadFactory.daemon( "Lucene index refresher" ) );
 
     public LuceneSchemaIndexProvider( FileSystemAbstraction fileSystem, DirectoryFactory directoryFactory,
             IndexDirectoryStructure.Factory directoryStructureFactory, Monitor monitor, Config config,
@@ -115,12 +120,13 @@ public class LuceneSchemaIndexProvider extends SchemaIndexProvider
                                             .withIndexStorage( getIndexStorage( indexId ) )
                                             .build();
         luceneIndex.open();
-        return new LuceneIndexAccessor( luceneIndex, descriptor );
+        return new LuceneIndexAccessor( luceneIndex, descriptor, refreshScheduler );
     }
 
     @Override
     public void shutdown() throws Throwable
-    {   // Nothing to shut down
+    {
+        refreshScheduler.shutdownNow();
     }
 
     @Override
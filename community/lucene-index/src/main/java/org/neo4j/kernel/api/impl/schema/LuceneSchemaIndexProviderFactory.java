@@ -19,8 +19,11 @@
  */
 package org.neo4j.kernel.api.impl.schema;
 
+import org.apache.lucene.index.PooledConcurrentMergeScheduler;
+
 import java.io.File;
 
+import org.neo4j.graphdb.factory.GraphDatabaseSettings;
 import org.neo4j.helpers.Service;
 import org.neo4j.io.fs.FileSystemAbstraction;
 import org.neo4j.kernel.api.impl.index.storage.DirectoryFactory;
@@ -35,6 +38,7 @@ import org.neo4j.kernel.impl.logging.LogService;
 import org.neo4j.kernel.impl.spi.KernelContext;
 import org.neo4j.kernel.monitoring.Monitors;
 import org.neo4j.logging.Log;
+import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
 
 import static org.neo4j.kernel.api.impl.index.LuceneKernelExtensions.directoryFactory;
 import static org.neo4j.kernel.api.index.IndexDirectoryStructure.directoriesByProviderKey;
@@ -48,6 +52,14 @@ public class LuceneSchemaIndexProviderFactory extends
     public static final SchemaIndexProvider.Descriptor PROVIDER_DESCRIPTOR =
             new SchemaIndexProvider.Descriptor( KEY, "1.0" );
 
+    /**
+     * When enabled, background lucene merges are throttled to the same write rate as the checkpointer, as configured
+     * by {@link GraphDatabaseSettings#check_point_iops_limit}.
+     */
+    private static final boolean MERGE_RATE_FROM_CHECKPOINT_IOPS =
+            FeatureToggles.flag( LuceneSchemaIndexProviderFactory.class, "merge.rate.from.checkpoint.iops", false );
+    private static final int KIB_PER_IO = 8;
+
     public interface Dependencies
     {
         Config getConfig();
@@ -75,9 +87,21 @@ public class LuceneSchemaIndexProviderFactory extends
         monitors.addMonitorListener( new LoggingMonitor( log ), KEY );
         SchemaIndexProvider.Monitor monitor = monitors.newMonitor( SchemaIndexProvider.Monitor.class, KEY );
         OperationalMode operationalMode = context.databaseInfo().operationalMode;
+        if ( MERGE_RATE_FROM_CHECKPOINT_IOPS )
+        {
+            PooledConcurrentMergeScheduler.setMergeMBPerSec(
+                    mergeMBPerSec( config.get( GraphDatabaseSettings.check_point_iops_limit ) ) );
+            config.registerDynamicUpdateListener( GraphDatabaseSettings.check_point_iops_limit,
+                    ( prev, update ) -> PooledConcurrentMergeScheduler.setMergeMBPerSec( mergeMBPerSec( update ) ) );
+        }
         return create( fileSystemAbstraction, storeDir, monitor, config, operationalMode );
     }
 
+    static double mergeMBPerSec( Integer iops )
+    {
+        return iops == null || iops <= 0 ? 0 : iops * KIB_PER_IO / 1024d;
+    }
+
     public static LuceneSchemaIndexProvider create( FileSystemAbstraction fileSystemAbstraction, File storeDir,
             SchemaIndexProvider.Monitor monitor, Config config, OperationalMode operationalMode )
     {
@@ -33,7 +33,9 @@ import org.neo4j.kernel.configuration.Config;
 import org.neo4j.kernel.extension.KernelExtensionFactory;
 import org.neo4j.kernel.impl.factory.OperationalMode;
 import org.neo4j.kernel.impl.index.schema.NativeSchemaNumberIndexProvider;
+import org.neo4j.kernel.impl.index.schema.NativeSchemaSpatialIndexProvider;
 import org.neo4j.kernel.impl.index.schema.NativeSelector;
+import org.neo4j.kernel.impl.index.schema.NativeSpatialSelector;
 import org.neo4j.kernel.impl.index.schema.fusion.FusionSchemaIndexProvider;
 import org.neo4j.kernel.impl.spi.KernelContext;
 import org.neo4j.kernel.monitoring.Monitors;
@@ -50,6 +52,8 @@ public class NativeLuceneFusionSchemaIndexProviderFactory
     private static final int PRIORITY = LuceneSchemaIndexProvider.PRIORITY + 1;
 
     public static final SchemaIndexProvider.Descriptor DESCRIPTOR = new SchemaIndexProvider.Descriptor( KEY, "1.0" );
+    private static final SchemaIndexProvider.Descriptor NATIVE_DESCRIPTOR =
+            new SchemaIndexProvider.Descriptor( NativeSchemaNumberIndexProvider.KEY + "+" + NativeSchemaSpatialIndexProvider.KEY, "1.0" );
 
     public interface Dependencies extends LuceneSchemaIndexProviderFactory.Dependencies
     {
@@ -85,8 +89,13 @@ public class NativeLuceneFusionSchemaIndexProviderFactory
     {
         IndexDirectoryStructure.Factory childDirectoryStructure = subProviderDirectoryStructure( storeDir );
         boolean readOnly = isReadOnly( config, operationalMode );
-        NativeSchemaNumberIndexProvider nativeProvider =
+        NativeSchemaNumberIndexProvider numberProvider =
                 new NativeSchemaNumberIndexProvider( pageCache, fs, childDirectoryStructure, monitor, recoveryCleanupWorkCollector, readOnly );
+        NativeSchemaSpatialIndexProvider spatialProvider =
+                new NativeSchemaSpatialIndexProvider( pageCache, fs, childDirectoryStructure, monitor, recoveryCleanupWorkCollector, readOnly );
+        // Numbers and points both go to native indexes, each in a directory of its own next to the lucene index
+        FusionSchemaIndexProvider nativeProvider = new FusionSchemaIndexProvider( numberProvider, spatialProvider,
+                new NativeSpatialSelector(), NATIVE_DESCRIPTOR, 0, childDirectoryStructure, fs );
         LuceneSchemaIndexProvider luceneProvider = LuceneSchemaIndexProviderFactory.create( fs, childDirectoryStructure, monitor, config,
                 operationalMode );
         boolean useNativeIndex = config.get( GraphDatabaseSettings.enable_native_schema_index );
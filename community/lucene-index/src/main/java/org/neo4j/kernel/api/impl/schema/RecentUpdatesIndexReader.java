@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.schema;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.neo4j.collection.primitive.PrimitiveLongCollections;
+import org.neo4j.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.internal.kernel.api.IndexQuery;
+import org.neo4j.kernel.api.exceptions.index.IndexNotApplicableKernelException;
+import org.neo4j.storageengine.api.schema.IndexReader;
+import org.neo4j.storageengine.api.schema.IndexSampler;
+import org.neo4j.values.storable.Value;
+
+import static org.neo4j.kernel.api.impl.schema.LuceneIndexRefresher.REMOVED;
+
+/**
+ * {@link IndexReader} overlaying a snapshot of {@link LuceneIndexRefresher#recentUpdates() recent updates} on top of
+ * a reader of searchers which may not have been refreshed since those updates were written. Nodes present in the recent updates are filtered out of the
+ * results of the underlying reader and matched against the query predicates from their latest values instead.
+ * <p>
+ * Sampling is left to the underlying reader, since a sample is an approximation anyway.
+ */
+class RecentUpdatesIndexReader implements IndexReader
+{
+    private final IndexReader delegate;
+    private final Map<Long,Value[]> recentUpdates;
+
+    RecentUpdatesIndexReader( IndexReader delegate, Map<Long,Value[]> recentUpdates )
+    {
+        this.delegate = delegate;
+        this.recentUpdates = recentUpdates;
+    }
+
+    @Override
+    public long countIndexedNodes( long nodeId, Value... propertyValues )
+    {
+        Value[] values = recentUpdates.get( nodeId );
+        if ( values == null )
+        {
+            return delegate.countIndexedNodes( nodeId, propertyValues );
+        }
+        return values != REMOVED && Arrays.equals( values, propertyValues ) ? 1 : 0;
+    }
+
+    @Override
+    public IndexSampler createSampler()
+    {
+        return delegate.createSampler();
+    }
+
+    @Override
+    public PrimitiveLongIterator query( IndexQuery... predicates ) throws IndexNotApplicableKernelException
+    {
+        PrimitiveLongIterator indexed = delegate.query( predicates );
+        long[] matching = new long[recentUpdates.size()];
+        int count = 0;
+        for ( Map.Entry<Long,Value[]> update : recentUpdates.entrySet() )
+        {
+            if ( update.getValue() != REMOVED && matches( update.getValue(), predicates ) )
+            {
+                matching[count++] = update.getKey();
+            }
+        }
+        return PrimitiveLongCollections.concat(
+                PrimitiveLongCollections.filter( indexed, nodeId -> !recentUpdates.containsKey( nodeId ) ),
+                PrimitiveLongCollections.iterator( Arrays.copyOf( matching, count ) ) );
+    }
+
+    @Override
+    public boolean hasFullNumberPrecision( IndexQuery... predicates )
+    {
+        return delegate.hasFullNumberPrecision( predicates );
+    }
+
+    @Override
+    public void close()
+    {
+        delegate.close();
+    }
+
+    private static boolean matches( Value[] values, IndexQuery[] predicates )
+    {
+        // Like the index itself, predicates are matched to the indexed properties by position
+        if ( predicates.length > values.length )
+        {
+            return false;
+        }
+        for ( int i = 0; i < predicates.length; i++ )
+        {
+            if ( !predicates[i].acceptsValue( values[i] ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -21,7 +21,6 @@ package org.neo4j.kernel.api.impl.schema.reader;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.neo4j.collection.primitive.PrimitiveLongCollections;
@@ -29,6 +28,7 @@ import org.neo4j.collection.primitive.PrimitiveLongIterator;
 import org.neo4j.helpers.TaskCoordinator;
 import org.neo4j.io.IOUtils;
 import org.neo4j.kernel.api.exceptions.index.IndexNotApplicableKernelException;
+import org.neo4j.kernel.api.impl.index.partition.ParallelPartitionSearch;
 import org.neo4j.kernel.api.impl.index.partition.PartitionSearcher;
 import org.neo4j.kernel.api.impl.index.sampler.AggregatingIndexSampler;
 import org.neo4j.internal.kernel.api.IndexQuery;
@@ -68,14 +68,8 @@ public class PartitionedIndexReader implements IndexReader
     @Override
     public PrimitiveLongIterator query( IndexQuery... predicates ) throws IndexNotApplicableKernelException
     {
-        try
-        {
-            return partitionedOperation( reader -> innerQuery( reader, predicates ) );
-        }
-        catch ( InnerException e )
-        {
-            throw e.getCause();
-        }
+        return PrimitiveLongCollections.concat( ParallelPartitionSearch.map( indexReaders,
+                reader -> reader.query( predicates ) ) );
     }
 
     @Override
@@ -84,44 +78,19 @@ public class PartitionedIndexReader implements IndexReader
         return false;
     }
 
-    private PrimitiveLongIterator innerQuery( IndexReader reader, IndexQuery[] predicates )
-    {
-        try
-        {
-            return reader.query( predicates );
-        }
-        catch ( IndexNotApplicableKernelException e )
-        {
-            throw new InnerException( e );
-        }
-    }
-
-    private static final class InnerException extends RuntimeException
-    {
-        private InnerException( IndexNotApplicableKernelException e )
-        {
-            super( e );
-        }
-
-        @Override
-        public synchronized IndexNotApplicableKernelException getCause()
-        {
-            return (IndexNotApplicableKernelException) super.getCause();
-        }
-    }
-
     @Override
     public long countIndexedNodes( long nodeId, Value... propertyValues )
     {
-        return indexReaders.parallelStream()
-                .mapToLong( reader -> reader.countIndexedNodes( nodeId, propertyValues ) )
+        return ParallelPartitionSearch.map( indexReaders, reader -> reader.countIndexedNodes( nodeId, propertyValues ) )
+                .stream()
+                .mapToLong( Long::longValue )
                 .sum();
     }
 
     @Override
     public IndexSampler createSampler()
     {
-        List<IndexSampler> indexSamplers = indexReaders.parallelStream()
+        List<IndexSampler> indexSamplers = indexReaders.stream()
                 .map( SimpleIndexReader::createSampler )
                 .collect( Collectors.toList() );
         return new AggregatingIndexSampler( indexSamplers );
@@ -139,12 +108,4 @@ public class PartitionedIndexReader implements IndexReader
             throw new IndexReaderCloseException( e );
         }
     }
-
-    private PrimitiveLongIterator partitionedOperation(
-            Function<SimpleIndexReader,PrimitiveLongIterator> readerFunction )
-    {
-        return PrimitiveLongCollections.concat( indexReaders.parallelStream()
-                .map( readerFunction::apply )
-                .collect( Collectors.toList() ) );
-    }
 }
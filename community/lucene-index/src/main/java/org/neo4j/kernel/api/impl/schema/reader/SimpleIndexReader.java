@@ -27,13 +27,16 @@ import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TotalHitCountCollector;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.neo4j.collection.primitive.PrimitiveLongIterator;
 import org.neo4j.helpers.TaskControl;
 import org.neo4j.helpers.TaskCoordinator;
 import org.neo4j.kernel.api.exceptions.index.IndexNotApplicableKernelException;
 import org.neo4j.kernel.api.impl.index.collector.DocValuesCollector;
+import org.neo4j.kernel.api.impl.index.collector.OffHeapNodeIdCollector;
 import org.neo4j.kernel.api.impl.index.partition.PartitionSearcher;
 import org.neo4j.kernel.api.impl.schema.LuceneDocumentStructure;
 import org.neo4j.kernel.api.impl.schema.sampler.NonUniqueLuceneIndexSampler;
@@ -44,6 +47,7 @@ import org.neo4j.kernel.api.schema.index.IndexDescriptor;
 import org.neo4j.kernel.impl.api.index.sampling.IndexSamplingConfig;
 import org.neo4j.storageengine.api.schema.IndexReader;
 import org.neo4j.storageengine.api.schema.IndexSampler;
+import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
 import org.neo4j.values.storable.Value;
 
 import static org.neo4j.kernel.api.impl.schema.LuceneDocumentStructure.NODE_ID_KEY;
@@ -57,6 +61,10 @@ import static org.neo4j.kernel.api.schema.index.IndexDescriptor.Type.UNIQUE;
  */
 public class SimpleIndexReader implements IndexReader
 {
+    private static final boolean OFF_HEAP_NODE_IDS =
+            FeatureToggles.flag( SimpleIndexReader.class, "off_heap_node_ids", true );
+
+    private final List<OffHeapNodeIdCollector> offHeapCollectors = new ArrayList<>();
     private final PartitionSearcher partitionSearcher;
     private final IndexDescriptor descriptor;
     private final IndexSamplingConfig samplingConfig;
@@ -209,6 +217,8 @@ public class SimpleIndexReader implements IndexReader
     @Override
     public void close()
     {
+        offHeapCollectors.forEach( OffHeapNodeIdCollector::close );
+        offHeapCollectors.clear();
         try
         {
             partitionSearcher.close();
@@ -223,6 +233,26 @@ public class SimpleIndexReader implements IndexReader
     {
         try
         {
+            if ( OFF_HEAP_NODE_IDS )
+            {
+                OffHeapNodeIdCollector nodeIdCollector = new OffHeapNodeIdCollector( NODE_ID_KEY );
+                try
+                {
+                    getIndexSearcher().search( query, nodeIdCollector );
+                }
+                catch ( IOException | RuntimeException e )
+                {
+                    nodeIdCollector.close();
+                    throw e;
+                }
+                if ( nodeIdCollector.isOffHeap() )
+                {
+                    // Results may be abandoned before exhausted, so off heap memory must be released on close as well
+                    offHeapCollectors.removeIf( OffHeapNodeIdCollector::isClosed );
+                    offHeapCollectors.add( nodeIdCollector );
+                }
+                return nodeIdCollector.iterator();
+            }
             DocValuesCollector docValuesCollector = new DocValuesCollector();
             getIndexSearcher().search( query, docValuesCollector );
             return docValuesCollector.getValuesIterator( NODE_ID_KEY );
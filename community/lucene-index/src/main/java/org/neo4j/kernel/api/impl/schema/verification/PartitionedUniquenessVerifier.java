@@ -33,6 +33,7 @@ import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.util.BytesRef;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -41,6 +42,7 @@ import java.util.Set;
 import org.neo4j.helpers.collection.Iterables;
 import org.neo4j.io.IOUtils;
 import org.neo4j.kernel.api.exceptions.index.IndexEntryConflictException;
+import org.neo4j.kernel.api.impl.index.partition.ParallelPartitionSearch;
 import org.neo4j.kernel.api.impl.index.partition.PartitionSearcher;
 import org.neo4j.kernel.api.impl.schema.LuceneDocumentStructure;
 import org.neo4j.kernel.api.index.PropertyAccessor;
@@ -54,6 +56,7 @@ import static java.util.stream.Collectors.toList;
  * <p>
  * This verifier reads all terms from all partitions using {@link MultiTerms}, checks document frequency for each term
  * and verifies uniqueness of values from the property store if document frequency is greater than 1.
+ * Terms with duplicate candidates are verified in batches, in parallel using {@link ParallelPartitionSearch}.
  *
  * @see MultiTerms
  * @see PartitionSearcher
@@ -61,6 +64,16 @@ import static java.util.stream.Collectors.toList;
  */
 public class PartitionedUniquenessVerifier implements UniquenessVerifier
 {
+    /**
+     * Number of duplicate candidates searched for by a single task.
+     */
+    private static final int BATCH_SIZE = 256;
+    /**
+     * Number of batches collected before searching them in parallel, which bounds the memory used for candidates.
+     */
+    private static final int BATCHES_PER_ROUND = 64;
+    private static final int UNKNOWN = -1;
+
     private final List<PartitionSearcher> searchers;
 
     public PartitionedUniquenessVerifier( List<PartitionSearcher> searchers )
@@ -71,6 +84,8 @@ public class PartitionedUniquenessVerifier implements UniquenessVerifier
     @Override
     public void verify( PropertyAccessor accessor, int[] propKeyIds ) throws IndexEntryConflictException, IOException
     {
+        List<List<DuplicateCandidates>> batches = new ArrayList<>();
+        List<DuplicateCandidates> batch = new ArrayList<>( BATCH_SIZE );
         for ( String field : allFields() )
         {
             if ( LuceneDocumentStructure.useFieldForUniquenessVerification( field ) )
@@ -81,23 +96,43 @@ public class PartitionedUniquenessVerifier implements UniquenessVerifier
                 {
                     if ( terms.docFreq() > 1 )
                     {
-                        TermQuery query = new TermQuery( new Term( field, termsRef ) );
-                        searchForDuplicates( query, accessor, propKeyIds, terms.docFreq() );
+                        Query query = new TermQuery( new Term( field, BytesRef.deepCopyOf( termsRef ) ) );
+                        batch.add( new DuplicateCandidates( query, terms.docFreq() ) );
+                        if ( batch.size() == BATCH_SIZE )
+                        {
+                            batches.add( batch );
+                            batch = new ArrayList<>( BATCH_SIZE );
+                        }
+                        if ( batches.size() == BATCHES_PER_ROUND )
+                        {
+                            searchForDuplicates( batches, accessor, propKeyIds );
+                            batches.clear();
+                        }
                     }
                 }
             }
         }
+        batches.add( batch );
+        searchForDuplicates( batches, accessor, propKeyIds );
     }
 
     @Override
     public void verify( PropertyAccessor accessor, int[] propKeyIds, List<Value[]> updatedValueTuples )
             throws IndexEntryConflictException, IOException
     {
+        List<List<DuplicateCandidates>> batches = new ArrayList<>();
+        List<DuplicateCandidates> batch = new ArrayList<>( BATCH_SIZE );
         for ( Value[] valueTuple : updatedValueTuples )
         {
-            Query query = LuceneDocumentStructure.newSeekQuery( valueTuple );
-            searchForDuplicates( query, accessor, propKeyIds );
+            batch.add( new DuplicateCandidates( LuceneDocumentStructure.newSeekQuery( valueTuple ), UNKNOWN ) );
+            if ( batch.size() == BATCH_SIZE )
+            {
+                batches.add( batch );
+                batch = new ArrayList<>( BATCH_SIZE );
+            }
         }
+        batches.add( batch );
+        searchForDuplicates( batches, accessor, propKeyIds );
     }
 
     @Override
@@ -131,38 +166,54 @@ public class PartitionedUniquenessVerifier implements UniquenessVerifier
     }
 
     /**
-     * Search for unknown number of duplicates duplicates
+     * Search for duplicates of each of the given batches of queries, in parallel across batches.
      *
-     * @param query query to find duplicates in
+     * @param batches batches of queries to find duplicates in
      * @param accessor accessor to load actual property value from store
      * @param propertyKeyIds property key ids
      * @throws IOException
      * @throws IndexEntryConflictException
      */
-    private void searchForDuplicates( Query query, PropertyAccessor accessor, int[] propertyKeyIds )
+    private void searchForDuplicates( List<List<DuplicateCandidates>> batches, PropertyAccessor accessor, int[] propertyKeyIds )
             throws IOException, IndexEntryConflictException
     {
-        DuplicateCheckingCollector collector = getDuplicateCollector( accessor, propertyKeyIds );
-        collector.init();
-        searchForDuplicates( query, collector );
+        try
+        {
+            ParallelPartitionSearch.map( batches, batch ->
+            {
+                for ( DuplicateCandidates candidates : batch )
+                {
+                    searchForDuplicates( candidates, accessor, propertyKeyIds );
+                }
+                return null;
+            } );
+        }
+        catch ( UncheckedIOException e )
+        {
+            throw e.getCause();
+        }
     }
 
-    /**
-     * Search for known number of duplicates duplicates
-     *
-     * @param query query to find duplicates in
-     * @param accessor accessor to load actual property value from store
-     * @param propertyKeyIds property key ids
-     * @param expectedNumberOfEntries expected number of duplicates in query
-     * @throws IOException
-     * @throws IndexEntryConflictException
-     */
-    private void searchForDuplicates( Query query, PropertyAccessor accessor, int[] propertyKeyIds,
-            int expectedNumberOfEntries ) throws IOException, IndexEntryConflictException
+    private void searchForDuplicates( DuplicateCandidates candidates, PropertyAccessor accessor, int[] propertyKeyIds )
+            throws IndexEntryConflictException
     {
         DuplicateCheckingCollector collector = getDuplicateCollector( accessor, propertyKeyIds );
-        collector.init( expectedNumberOfEntries );
-        searchForDuplicates( query, collector );
+        if ( candidates.expectedNumberOfEntries == UNKNOWN )
+        {
+            collector.init();
+        }
+        else
+        {
+            collector.init( candidates.expectedNumberOfEntries );
+        }
+        try
+        {
+            searchForDuplicates( candidates.query, collector );
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
     }
 
     private DuplicateCheckingCollector getDuplicateCollector( PropertyAccessor accessor, int[] propertyKeyIds )
@@ -213,4 +264,19 @@ public class PartitionedUniquenessVerifier implements UniquenessVerifier
                 .map( LeafReaderContext::reader )
                 .collect( toList() );
     }
+
+    /**
+     * Query for entries which may be duplicates of each other, with the number of such entries if known.
+     */
+    private static class DuplicateCandidates
+    {
+        private final Query query;
+        private final int expectedNumberOfEntries;
+
+        DuplicateCandidates( Query query, int expectedNumberOfEntries )
+        {
+            this.query = query;
+            this.expectedNumberOfEntries = expectedNumberOfEntries;
+        }
+    }
 }
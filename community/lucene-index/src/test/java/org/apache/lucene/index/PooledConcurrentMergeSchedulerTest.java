@@ -93,6 +93,32 @@ public class PooledConcurrentMergeSchedulerTest
         assertEquals( 2, mergeScheduler.getWriterTaskCount() );
     }
 
+    @Test
+    public void throttleBackgroundMergesButNotForcedMerges() throws IOException
+    {
+        SegmentCommitInfo segmentCommitInfo = getSegmentCommitInfo();
+        TestOneMerge backgroundMerge = new TestOneMerge( segmentCommitInfo );
+        TestOneMerge forcedMerge = new TestOneMerge( segmentCommitInfo );
+        forcedMerge.maxNumSegments = 1;
+
+        Mockito.when( indexWriter.getNextMerge() ).thenReturn( backgroundMerge ).thenReturn( forcedMerge )
+                .thenReturn( null );
+
+        PooledConcurrentMergeScheduler.setMergeMBPerSec( 5 );
+        try
+        {
+            mergeScheduler.merge( indexWriter, MergeTrigger.EXPLICIT, false );
+        }
+        finally
+        {
+            PooledConcurrentMergeScheduler.setMergeMBPerSec( 0 );
+        }
+
+        assertEquals( 5, backgroundMerge.rateLimiter.getMBPerSec(), 0.0 );
+        assertEquals( Double.POSITIVE_INFINITY, forcedMerge.rateLimiter.getMBPerSec(), 0.0 );
+        assertEquals( Double.POSITIVE_INFINITY, PooledConcurrentMergeScheduler.getMergeMBPerSec(), 0.0 );
+    }
+
     @Test( timeout = 10_000 )
     public void writerCloseWaitForMergesInMergeQueue() throws IOException, InterruptedException
     {
@@ -654,6 +654,54 @@ public class TestLuceneIndex extends AbstractLuceneIndexTest
         index.delete();
     }
 
+    @Test
+    public void makeSureExactCompositeQueriesSeeAdditionsAndRemovalsInSameTx()
+    {
+        Index<Node> index = nodeIndex( LuceneIndexImplementation.EXACT_CONFIG );
+        Node neo = graphDb.createNode();
+        Node trinity = graphDb.createNode();
+        Node morpheus = graphDb.createNode();
+        index.add( neo, "sex", "male" );
+        index.add( trinity, "sex", "female" );
+        restartTx();
+
+        index.add( morpheus, "sex", "male" );
+        index.add( morpheus, "ship", "nebuchadnezzar" );
+        index.add( trinity, "ship", "nebuchadnezzar" );
+        index.remove( neo, "sex" );
+
+        assertThat( index.query( "sex:male" ), Contains.contains( morpheus ) );
+        assertThat( index.query( "sex:male OR sex:female" ), Contains.contains( morpheus, trinity ) );
+        assertThat( index.query( "ship:nebuchadnezzar AND NOT sex:male" ), Contains.contains( trinity ) );
+        assertThat( index.query( new QueryContext( "ship:nebuchadnezzar sex:male" )
+                .defaultOperator( Operator.AND ) ), Contains.contains( morpheus ) );
+        restartTx();
+
+        assertThat( index.query( "sex:male" ), Contains.contains( morpheus ) );
+        assertThat( index.query( "ship:nebuchadnezzar AND NOT sex:male" ), Contains.contains( trinity ) );
+        index.delete();
+    }
+
+    @Test
+    public void makeSureExactRelationshipQueriesByNodeSeeAdditionsInSameTx()
+    {
+        RelationshipIndex index = relationshipIndex( LuceneIndexImplementation.EXACT_CONFIG );
+        Node start = graphDb.createNode();
+        Node otherStart = graphDb.createNode();
+        Node end = graphDb.createNode();
+        Relationship first = start.createRelationshipTo( end, withName( "TEST_TYPE" ) );
+        Relationship second = otherStart.createRelationshipTo( end, withName( "TEST_TYPE" ) );
+        index.add( first, "type", "road" );
+        index.add( second, "type", "road" );
+
+        assertThat( index.query( "type", "road", start, null ), Contains.contains( first ) );
+        assertThat( index.query( "type", "road", null, end ), Contains.contains( first, second ) );
+        assertThat( index.query( null, otherStart, end ), Contains.contains( second ) );
+        restartTx();
+        assertThat( index.query( "type", "road", start, null ), Contains.contains( first ) );
+        index.delete();
+    }
+
     @SuppressWarnings( "unchecked" )
     private <T extends PropertyContainer> void doSomeRandomUseCaseTestingWithExactIndex(
             Index<T> index, EntityCreator<T> creator )
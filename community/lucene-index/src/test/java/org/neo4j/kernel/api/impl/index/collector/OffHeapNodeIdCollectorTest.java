@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.index.collector;
+
+import org.apache.lucene.index.NumericDocValues;
+import org.junit.Test;
+
+import org.neo4j.collection.primitive.PrimitiveLongCollections;
+import org.neo4j.collection.primitive.PrimitiveLongResourceIterator;
+import org.neo4j.kernel.api.impl.index.IndexReaderStub;
+import org.neo4j.unsafe.impl.batchimport.cache.NumberArrayFactory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class OffHeapNodeIdCollectorTest
+{
+    @Test
+    public void shouldCollectValuesOfAllSegmentsInCollectionOrder() throws Exception
+    {
+        // given
+        OffHeapNodeIdCollector collector = new OffHeapNodeIdCollector( "id" );
+        IndexReaderStub readerStub = indexReaderWithMaxDocs( 42 );
+
+        // when
+        collector.doSetNextReader( readerStub.getContext() );
+        collector.collect( 1 );
+        collector.collect( 3 );
+        collector.doSetNextReader( readerStub.getContext() );
+        collector.collect( 5 );
+        collector.collect( 9 );
+
+        // then
+        assertEquals( 4, collector.getTotalHits() );
+        assertFalse( collector.isOffHeap() );
+        assertArrayEquals( new long[]{10, 30, 50, 90}, PrimitiveLongCollections.asArray( collector.iterator() ) );
+    }
+
+    @Test
+    public void shouldSpillValuesBeyondHeapCapacityToChunks() throws Exception
+    {
+        // given
+        OffHeapNodeIdCollector collector = new OffHeapNodeIdCollector( "id", NumberArrayFactory.OFF_HEAP );
+        IndexReaderStub readerStub = indexReaderWithMaxDocs( 10 );
+        int hits = OffHeapNodeIdCollector.HEAP_CAPACITY + OffHeapNodeIdCollector.CHUNK_SIZE * 2 + 7;
+
+        // when
+        collector.doSetNextReader( readerStub.getContext() );
+        for ( int doc = 0; doc < hits; doc++ )
+        {
+            collector.collect( doc );
+        }
+
+        // then
+        assertTrue( collector.isOffHeap() );
+        PrimitiveLongResourceIterator iterator = collector.iterator();
+        for ( int doc = 0; doc < hits; doc++ )
+        {
+            assertTrue( iterator.hasNext() );
+            assertEquals( doc * 10L, iterator.next() );
+        }
+        assertFalse( iterator.hasNext() );
+        assertTrue( collector.isClosed() );
+    }
+
+    @Test
+    public void shouldReleaseChunksWhenIteratorIsClosedBeforeExhausted() throws Exception
+    {
+        // given
+        OffHeapNodeIdCollector collector = new OffHeapNodeIdCollector( "id", NumberArrayFactory.OFF_HEAP );
+        IndexReaderStub readerStub = indexReaderWithMaxDocs( 10 );
+        collector.doSetNextReader( readerStub.getContext() );
+        for ( int doc = 0; doc < OffHeapNodeIdCollector.HEAP_CAPACITY * 2; doc++ )
+        {
+            collector.collect( doc );
+        }
+        PrimitiveLongResourceIterator iterator = collector.iterator();
+        iterator.next();
+
+        // when
+        iterator.close();
+
+        // then
+        assertTrue( collector.isClosed() );
+        assertFalse( collector.isOffHeap() );
+        assertFalse( iterator.hasNext() );
+    }
+
+    private IndexReaderStub indexReaderWithMaxDocs( int maxDocs )
+    {
+        NumericDocValues values = new NumericDocValues()
+        {
+            @Override
+            public long get( int docID )
+            {
+                return docID * 10L;
+            }
+        };
+        IndexReaderStub stub = new IndexReaderStub( values );
+        stub.setElements( new String[maxDocs] );
+        return stub;
+    }
+}
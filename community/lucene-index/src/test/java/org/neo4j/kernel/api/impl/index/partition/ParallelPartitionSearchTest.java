@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.index.partition;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelPartitionSearchTest
+{
+    @Test
+    public void shouldReturnResultsInOrderOfItems() throws Exception
+    {
+        // given
+        List<Integer> items = Arrays.asList( 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 );
+
+        // when
+        List<Integer> results = ParallelPartitionSearch.map( items, item -> item * 10 );
+
+        // then
+        assertEquals( Arrays.asList( 10, 20, 30, 40, 50, 60, 70, 80, 90, 100 ), results );
+    }
+
+    @Test
+    public void shouldHandleNoItems() throws Exception
+    {
+        assertTrue( ParallelPartitionSearch.map( Collections.<Integer>emptyList(), item -> item ).isEmpty() );
+    }
+
+    @Test
+    public void shouldPropagateCheckedExceptionFromAnyItem() throws Exception
+    {
+        // given
+        List<Integer> items = Arrays.asList( 1, 2, 3, 4 );
+
+        // when
+        try
+        {
+            ParallelPartitionSearch.map( items, item ->
+            {
+                if ( item == 3 )
+                {
+                    throw new IOException( "partition " + item );
+                }
+                return item;
+            } );
+            fail( "Should have failed" );
+        }
+        catch ( IOException e )
+        {
+            // then
+            assertEquals( "partition 3", e.getMessage() );
+        }
+    }
+
+    @Test
+    public void shouldRunNestedSearchesWithoutWaitingForExecutorThreads() throws Exception
+    {
+        // given
+        List<Integer> items = Collections.nCopies( 100, 1 );
+
+        // when
+        List<Integer> sums = ParallelPartitionSearch.map( items, item ->
+                ParallelPartitionSearch.map( items, nested -> nested ).stream().mapToInt( Integer::intValue ).sum() );
+
+        // then
+        assertEquals( Collections.nCopies( 100, 100 ), sums );
+    }
+}
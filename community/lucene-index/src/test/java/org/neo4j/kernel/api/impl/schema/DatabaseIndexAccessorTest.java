@@ -33,6 +33,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.neo4j.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.collection.primitive.PrimitiveLongIterator;
@@ -58,8 +59,11 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
 import static org.neo4j.helpers.collection.Iterators.asSet;
 import static org.neo4j.internal.kernel.api.IndexQuery.exact;
 import static org.neo4j.internal.kernel.api.IndexQuery.range;
@@ -88,6 +92,7 @@ public class DatabaseIndexAccessorTest
     private DirectoryFactory.InMemoryDirectoryFactory dirFactory;
     private static final IndexDescriptor GENERAL_INDEX = IndexDescriptorFactory.forLabel( 0, PROP_ID );
     private static final IndexDescriptor UNIQUE_INDEX = IndexDescriptorFactory.uniqueForLabel( 1, PROP_ID );
+    private static final IndexDescriptor DEFERRED_REFRESH_INDEX = IndexDescriptorFactory.forLabel( 2, PROP_ID );
     private static final Config CONFIG = Config.defaults();
 
     @Parameterized.Parameters( name = "{0}" )
@@ -118,6 +123,19 @@ public class DatabaseIndexAccessorTest
                     index.create();
                     index.open();
                     return new LuceneIndexAccessor( index, UNIQUE_INDEX );
+                } ),
+                arg( DEFERRED_REFRESH_INDEX, dirFactory1 ->
+                {
+                    SchemaIndex index = LuceneSchemaIndexBuilder.create( DEFERRED_REFRESH_INDEX, CONFIG )
+                            .withFileSystem( fileSystemRule.get() )
+                            .withDirectoryFactory( dirFactory1 )
+                            .withIndexRootFolder( new File( dir, "2" ) )
+                            .build();
+
+                    index.create();
+                    index.open();
+                    // refreshes are never run, so all reads of updates go through the recent updates
+                    return new LuceneIndexAccessor( index, DEFERRED_REFRESH_INDEX, mock( ScheduledExecutorService.class ) );
                 } )
         );
     }
@@ -265,6 +283,40 @@ public class DatabaseIndexAccessorTest
         reader.close();
     }
 
+    @Test
+    public void canCompactIndexWithoutLosingData() throws Exception
+    {
+        // GIVEN
+        updateAndCommit( asList( add( nodeId, value ) ) );
+        accessor.force();
+        updateAndCommit( asList( add( nodeId2, value2 ) ) );
+
+        // WHEN
+        accessor.compact();
+        IndexReader reader = accessor.newReader();
+
+        // THEN
+        assertEquals( asSet( nodeId, nodeId2 ), PrimitiveLongCollections.toSet( reader.query( IndexQuery.exists( PROP_ID ) ) ) );
+        assertEquals( asSet( nodeId2 ), PrimitiveLongCollections.toSet( reader.query( exact( PROP_ID, value2 ) ) ) );
+        reader.close();
+    }
+
+    @Test
+    public void readerStaysCurrentUntilIndexIsUpdated() throws Exception
+    {
+        // GIVEN
+        updateAndCommit( asList( add( nodeId, value ) ) );
+        IndexReader reader = accessor.newReader();
+        assertTrue( reader.isCurrent() );
+
+        // WHEN
+        updateAndCommit( asList( add( nodeId2, value2 ) ) );
+
+        // THEN
+        assertFalse( reader.isCurrent() );
+        reader.close();
+    }
+
     @Test
     public void canChangeExistingData() throws Exception
     {
@@ -303,6 +355,7 @@ public class DatabaseIndexAccessorTest
     {
         // given
         updateAndCommit( asList( add( nodeId, value ), add( nodeId2, value2 ) ) );
+        accessor.force(); // sampling only sees entries of refreshed searchers
 
         // when
         IndexReader indexReader = accessor.newReader(); // needs to be acquired before drop() is called
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.schema;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class LuceneIndexRefresherTest
+{
+    private final SchemaIndex index = mock( SchemaIndex.class );
+    private final ScheduledExecutorService scheduler = mock( ScheduledExecutorService.class );
+
+    @Test
+    public void shouldRefreshOnEveryCommitWithoutScheduler() throws Exception
+    {
+        // given
+        LuceneIndexRefresher refresher = new LuceneIndexRefresher( index, null );
+
+        // when
+        refresher.updated( 1, values( "a" ) );
+        refresher.committed( 1 );
+
+        // then
+        verify( index ).maybeRefreshBlocking();
+        assertTrue( refresher.recentUpdates().isEmpty() );
+    }
+
+    @Test
+    public void shouldScheduleSingleRefreshForMultipleCommits() throws Exception
+    {
+        // given
+        LuceneIndexRefresher refresher = new LuceneIndexRefresher( index, scheduler );
+
+        // when
+        refresher.updated( 1, values( "a" ) );
+        refresher.committed( 1 );
+        refresher.updated( 2, values( "b" ) );
+        refresher.committed( 1 );
+
+        // then
+        verify( scheduler, times( 1 ) ).schedule( any( Runnable.class ), anyLong(), any( TimeUnit.class ) );
+        verify( index, never() ).maybeRefreshBlocking();
+        assertEquals( 2, refresher.recentUpdates().size() );
+    }
+
+    @Test
+    public void shouldRefreshOnCommittingThreadWhenTooManyUpdatesArePending() throws Exception
+    {
+        // given
+        LuceneIndexRefresher refresher = new LuceneIndexRefresher( index, scheduler );
+        refresher.updated( 1, values( "a" ) );
+
+        // when
+        refresher.committed( 1_000_000 );
+
+        // then
+        verify( index ).maybeRefreshBlocking();
+        assertTrue( refresher.recentUpdates().isEmpty() );
+    }
+
+    @Test
+    public void shouldKeepLatestValueOfEachUpdatedNode() throws Exception
+    {
+        // given
+        LuceneIndexRefresher refresher = new LuceneIndexRefresher( index, scheduler );
+
+        // when
+        refresher.updated( 1, values( "a" ) );
+        refresher.updated( 1, values( "b" ) );
+        refresher.updated( 2, values( "c" ) );
+        refresher.removed( 2 );
+
+        // then
+        Map<Long,Value[]> recentUpdates = refresher.recentUpdates();
+        assertArrayEquals( values( "b" ), recentUpdates.get( 1L ) );
+        assertSame( LuceneIndexRefresher.REMOVED, recentUpdates.get( 2L ) );
+    }
+
+    @Test
+    public void shouldKeepRecentUpdatesWhenRefreshFails() throws Exception
+    {
+        // given
+        LuceneIndexRefresher refresher = new LuceneIndexRefresher( index, scheduler );
+        refresher.updated( 1, values( "a" ) );
+        doThrow( new IOException( "refresh failed" ) ).doNothing().when( index ).maybeRefreshBlocking();
+
+        // when
+        try
+        {
+            refresher.refresh();
+            fail( "Should have failed" );
+        }
+        catch ( IOException e )
+        {
+            // expected
+        }
+        refresher.updated( 2, values( "b" ) );
+
+        // then
+        assertEquals( 2, refresher.recentUpdates().size() );
+        refresher.refresh();
+        assertTrue( refresher.recentUpdates().isEmpty() );
+    }
+
+    private static Value[] values( String value )
+    {
+        return new Value[]{Values.stringValue( value )};
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.schema;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.collection.primitive.PrimitiveLongCollections;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.factory.GraphDatabaseSettings;
+import org.neo4j.internal.kernel.api.IndexQuery;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.Statement;
+import org.neo4j.kernel.api.schema.index.IndexDescriptor;
+import org.neo4j.kernel.api.schema.index.IndexDescriptorFactory;
+import org.neo4j.kernel.configuration.Settings;
+import org.neo4j.kernel.impl.core.ThreadToStatementContextBridge;
+import org.neo4j.test.rule.DatabaseRule;
+import org.neo4j.test.rule.EmbeddedDatabaseRule;
+import org.neo4j.values.storable.CoordinateReferenceSystem;
+import org.neo4j.values.storable.PointValue;
+import org.neo4j.values.storable.Values;
+
+import static org.junit.Assert.assertEquals;
+import static org.neo4j.helpers.collection.Iterators.asSet;
+
+public class SpatialIndexIT
+{
+    @Rule
+    public DatabaseRule db = new EmbeddedDatabaseRule()
+            .withSetting( GraphDatabaseSettings.enable_native_schema_index, Settings.TRUE );
+
+    private final Label label = Label.label( "Place" );
+    private final String propKey = "location";
+
+    @Test
+    public void shouldStoreAndFindPoints()
+    {
+        // given
+        createIndex();
+        PointValue point = Values.pointValue( CoordinateReferenceSystem.WGS84, 12.99, 55.61 );
+        long nodeId = createNode( point );
+
+        // then
+        try ( Transaction tx = db.beginTx() )
+        {
+            Node node = db.findNode( label, propKey, point );
+            assertEquals( nodeId, node.getId() );
+            assertEquals( point, node.getProperty( propKey ) );
+            tx.success();
+        }
+    }
+
+    @Test
+    public void shouldFindPointsInsideBoundingBox() throws Exception
+    {
+        // given
+        createIndex();
+        long inside = createNode( Values.pointValue( CoordinateReferenceSystem.Cartesian, 1, 1 ) );
+        long onBorder = createNode( Values.pointValue( CoordinateReferenceSystem.Cartesian, 2, 0 ) );
+        createNode( Values.pointValue( CoordinateReferenceSystem.Cartesian, 2.5, 1 ) );
+        createNode( Values.pointValue( CoordinateReferenceSystem.Cartesian, 1, -0.5 ) );
+        createNode( Values.pointValue( CoordinateReferenceSystem.WGS84, 1, 1 ) );
+        createNode( 1 );
+
+        // then
+        try ( Transaction tx = db.beginTx();
+              Statement statement = statement() )
+        {
+            long addedInTx = db.createNode( label ).getId();
+            db.getNodeById( addedInTx ).setProperty( propKey, Values.pointValue( CoordinateReferenceSystem.Cartesian, 0.5, 1.5 ) );
+            db.getNodeById( inside ).setProperty( propKey, Values.pointValue( CoordinateReferenceSystem.Cartesian, 10, 10 ) );
+
+            assertEquals( asSet( onBorder, addedInTx ), queryBoundingBox( statement, 0, 0, 2, 2 ) );
+            tx.success();
+        }
+    }
+
+    private Set<Long> queryBoundingBox( Statement statement, double fromX, double fromY, double toX, double toY )
+            throws Exception
+    {
+        ReadOperations read = statement.readOperations();
+        int labelId = read.labelGetForName( label.name() );
+        int propertyKeyId = read.propertyKeyGetForName( propKey );
+        IndexDescriptor index = IndexDescriptorFactory.forLabel( labelId, propertyKeyId );
+        IndexQuery query = IndexQuery.range( propertyKeyId,
+                Values.pointValue( CoordinateReferenceSystem.Cartesian, fromX, fromY ),
+                Values.pointValue( CoordinateReferenceSystem.Cartesian, toX, toY ) );
+        return PrimitiveLongCollections.toSet( read.indexQuery( index, query ) );
+    }
+
+    private Statement statement()
+    {
+        return db.getDependencyResolver().resolveDependency( ThreadToStatementContextBridge.class ).get();
+    }
+
+    private long createNode( Object value )
+    {
+        try ( Transaction tx = db.beginTx() )
+        {
+            Node node = db.createNode( label );
+            node.setProperty( propKey, value );
+            tx.success();
+            return node.getId();
+        }
+    }
+
+    private void createIndex()
+    {
+        try ( Transaction tx = db.beginTx() )
+        {
+            db.schema().indexFor( label ).on( propKey ).create();
+            tx.success();
+        }
+        try ( Transaction tx = db.beginTx() )
+        {
+            db.schema().awaitIndexesOnline( 10, TimeUnit.SECONDS );
+            tx.success();
+        }
+    }
+}
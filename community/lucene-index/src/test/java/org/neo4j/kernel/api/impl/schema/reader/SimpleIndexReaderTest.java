@@ -34,7 +34,7 @@ import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 import org.neo4j.helpers.TaskCoordinator;
-import org.neo4j.kernel.api.impl.index.collector.DocValuesCollector;
+import org.neo4j.kernel.api.impl.index.collector.OffHeapNodeIdCollector;
 import org.neo4j.kernel.api.impl.index.partition.PartitionSearcher;
 import org.neo4j.kernel.api.impl.schema.sampler.NonUniqueLuceneIndexSampler;
 import org.neo4j.kernel.api.impl.schema.sampler.UniqueLuceneIndexSampler;
@@ -82,7 +82,7 @@ public class SimpleIndexReaderTest
 
         simpleIndexReader.query( IndexQuery.exact( 1, "test" ) );
 
-        verify( indexSearcher ).search( any( BooleanQuery.class ), any( DocValuesCollector.class ) );
+        verify( indexSearcher ).search( any( BooleanQuery.class ), any( OffHeapNodeIdCollector.class ) );
     }
 
     @Test
@@ -92,7 +92,7 @@ public class SimpleIndexReaderTest
 
         simpleIndexReader.query( IndexQuery.exists( 1 ) );
 
-        verify( indexSearcher ).search( any( MatchAllDocsQuery.class ), any( DocValuesCollector.class ) );
+        verify( indexSearcher ).search( any( MatchAllDocsQuery.class ), any( OffHeapNodeIdCollector.class ) );
     }
 
     @Test
@@ -102,7 +102,7 @@ public class SimpleIndexReaderTest
 
         simpleIndexReader.query( range( 1, "a", false, "b", true ) );
 
-        verify( indexSearcher ).search( any( TermRangeQuery.class ), any( DocValuesCollector.class ) );
+        verify( indexSearcher ).search( any( TermRangeQuery.class ), any( OffHeapNodeIdCollector.class ) );
     }
 
     @Test
@@ -112,7 +112,7 @@ public class SimpleIndexReaderTest
 
         simpleIndexReader.query( IndexQuery.stringPrefix( 1, "bb" ) );
 
-        verify( indexSearcher ).search( any( MultiTermQuery.class ), any( DocValuesCollector.class ) );
+        verify( indexSearcher ).search( any( MultiTermQuery.class ), any( OffHeapNodeIdCollector.class ) );
     }
 
     @Test
@@ -122,7 +122,7 @@ public class SimpleIndexReaderTest
 
         simpleIndexReader.query( range( 1, 7, true, 8, true ) );
 
-        verify( indexSearcher ).search( any( NumericRangeQuery.class ), any( DocValuesCollector.class ) );
+        verify( indexSearcher ).search( any( NumericRangeQuery.class ), any( OffHeapNodeIdCollector.class ) );
     }
 
     @Test
@@ -93,6 +93,7 @@ import org.neo4j.storageengine.api.PropertyItem;
 import org.neo4j.storageengine.api.RelationshipItem;
 import org.neo4j.storageengine.api.Token;
 import org.neo4j.storageengine.api.lock.ResourceType;
+import org.neo4j.storageengine.api.schema.IndexValueIterator;
 import org.neo4j.storageengine.api.schema.PopulationProgress;
 import org.neo4j.test.rule.EmbeddedDatabaseRule;
 import org.neo4j.values.storable.Value;
@@ -462,6 +463,13 @@ public class QueryExecutionLocksIT
             return readOperations.indexQuery( index, predicates );
         }
 
+        @Override
+        public IndexValueIterator indexQueryWithValues( IndexDescriptor index, IndexQuery... predicates )
+                throws IndexNotFoundKernelException, IndexNotApplicableKernelException
+        {
+            return readOperations.indexQueryWithValues( index, predicates );
+        }
+
         @Override
         public PrimitiveLongIterator nodesGetAll()
         {
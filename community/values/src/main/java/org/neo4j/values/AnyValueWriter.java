@@ -19,10 +19,10 @@
  */
 package org.neo4j.values;
 
+import org.neo4j.values.storable.CoordinateReferenceSystem;
 import org.neo4j.values.storable.TextArray;
 import org.neo4j.values.storable.TextValue;
 import org.neo4j.values.storable.ValueWriter;
-import org.neo4j.values.virtual.CoordinateReferenceSystem;
 import org.neo4j.values.virtual.EdgeValue;
 import org.neo4j.values.virtual.MapValue;
 import org.neo4j.values.virtual.NodeValue;
@@ -54,6 +54,17 @@ public interface AnyValueWriter<E extends Exception> extends ValueWriter<E>
 
     void endPoint() throws E;
 
+    @Override
+    default void writePoint( CoordinateReferenceSystem crs, double[] coordinate ) throws E
+    {
+        beginPoint( crs );
+        for ( double value : coordinate )
+        {
+            writeFloatingPoint( value );
+        }
+        endPoint();
+    }
+
     default void writeVirtualNodeHack( Object node )
     {
         // do nothing, this is an ugly hack.
@@ -17,9 +17,11 @@
  * You should have received a copy of the GNU General Public License
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-package org.neo4j.values.virtual;
+package org.neo4j.values.storable;
 
-public enum CoordinateReferenceSystem
+import org.neo4j.graphdb.spatial.CRS;
+
+public enum CoordinateReferenceSystem implements CRS
 {
     Cartesian( "cartesian", 7203, "http://spatialreference.org/ref/sr-org/7203/" ),
     WGS84( "WGS-84", 4326, "http://spatialreference.org/ref/epsg/4326/" );
@@ -35,6 +37,23 @@ public enum CoordinateReferenceSystem
         this.href = href;
     }
 
+    /**
+     * @param code EPSG or SR-ORG code of a coordinate reference system.
+     * @return the {@link CoordinateReferenceSystem} with the given code.
+     * @throws IllegalArgumentException if there is no supported coordinate reference system with the given code.
+     */
+    public static CoordinateReferenceSystem get( int code )
+    {
+        for ( CoordinateReferenceSystem crs : values() )
+        {
+            if ( crs.code == code )
+            {
+                return crs;
+            }
+        }
+        throw new IllegalArgumentException( "Unknown coordinate reference system code: " + code );
+    }
+
     public int code()
     {
         return code;
@@ -49,4 +68,22 @@ public enum CoordinateReferenceSystem
     {
         return href;
     }
+
+    @Override
+    public int getCode()
+    {
+        return code;
+    }
+
+    @Override
+    public String getType()
+    {
+        return name;
+    }
+
+    @Override
+    public String getHref()
+    {
+        return href;
+    }
 }
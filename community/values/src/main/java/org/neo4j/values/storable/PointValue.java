@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.values.storable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.neo4j.graphdb.spatial.CRS;
+import org.neo4j.graphdb.spatial.Coordinate;
+import org.neo4j.graphdb.spatial.Point;
+
+import static java.lang.String.format;
+
+/**
+ * A point in a {@link CoordinateReferenceSystem}. Points are storable, they can be set as properties and be indexed.
+ * The value is immutable, which is why {@link #asObjectCopy()} returns the value itself.
+ */
+public class PointValue extends ScalarValue implements Point, Comparable<PointValue>
+{
+    private final CoordinateReferenceSystem crs;
+    private final double[] coordinate;
+
+    PointValue( CoordinateReferenceSystem crs, double... coordinate )
+    {
+        if ( coordinate.length != 2 )
+        {
+            throw new IllegalArgumentException( "Only two dimensional points are supported, got " +
+                                                Arrays.toString( coordinate ) );
+        }
+        this.crs = crs;
+        this.coordinate = coordinate;
+    }
+
+    @Override
+    public <E extends Exception> void writeTo( ValueWriter<E> writer ) throws E
+    {
+        writer.writePoint( crs, coordinate );
+    }
+
+    @Override
+    public Object asObjectCopy()
+    {
+        return this;
+    }
+
+    public CoordinateReferenceSystem getCoordinateReferenceSystem()
+    {
+        return crs;
+    }
+
+    public double[] coordinates()
+    {
+        return coordinate.clone();
+    }
+
+    @Override
+    public boolean equals( Value other )
+    {
+        if ( !(other instanceof PointValue) )
+        {
+            return false;
+        }
+        PointValue that = (PointValue) other;
+        return crs == that.crs && Arrays.equals( coordinate, that.coordinate );
+    }
+
+    @Override
+    public boolean equals( boolean x )
+    {
+        return false;
+    }
+
+    @Override
+    public boolean equals( long x )
+    {
+        return false;
+    }
+
+    @Override
+    public boolean equals( double x )
+    {
+        return false;
+    }
+
+    @Override
+    public boolean equals( char x )
+    {
+        return false;
+    }
+
+    @Override
+    public boolean equals( String x )
+    {
+        return false;
+    }
+
+    @Override
+    public int computeHash()
+    {
+        int result = crs.code;
+        for ( double value : coordinate )
+        {
+            result = 31 * result + NumberValues.hash( value );
+        }
+        return result;
+    }
+
+    @Override
+    public int compareTo( PointValue other )
+    {
+        int x = crs.compareTo( other.crs );
+        for ( int i = 0; x == 0 && i < coordinate.length; i++ )
+        {
+            x = Double.compare( coordinate[i], other.coordinate[i] );
+        }
+        return x;
+    }
+
+    @Override
+    public ValueGroup valueGroup()
+    {
+        return ValueGroup.GEOMETRY;
+    }
+
+    @Override
+    public NumberType numberType()
+    {
+        return NumberType.NO_NUMBER;
+    }
+
+    @Override
+    public String prettyPrint()
+    {
+        return format( "point({x: %s, y: %s, crs: '%s'})", coordinate[0], coordinate[1], crs.name );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "Point{ %s, %s, %s}", crs.name, coordinate[0], coordinate[1] );
+    }
+
+    @Override
+    public String getGeometryType()
+    {
+        return "Point";
+    }
+
+    @Override
+    public List<Coordinate> getCoordinates()
+    {
+        return Collections.singletonList( new Coordinate( coordinate.clone() ) );
+    }
+
+    @Override
+    public CRS getCRS()
+    {
+        return crs;
+    }
+}
@@ -93,6 +93,9 @@ public class ValueComparator implements Comparator<Value>
             case BOOLEAN_ARRAY:
                 return ((BooleanArray) v1).compareTo( (BooleanArray) v2 );
 
+            case GEOMETRY:
+                return ((PointValue) v1).compareTo( (PointValue) v2 );
+
             default:
                 throw new UnsupportedOperationException( format(
                         "Cannot compare ValueGroup id '%s' using ValueComparator", id1
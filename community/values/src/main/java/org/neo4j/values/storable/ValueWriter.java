@@ -82,6 +82,18 @@ public interface ValueWriter<E extends Exception>
 
     void writeByteArray( byte[] value ) throws E;
 
+    /**
+     * Writes a point. Writers that have no representation for points, which is the case for writers of values
+     * that predate storable points, throw {@link UnsupportedOperationException}.
+     *
+     * @param crs the {@link CoordinateReferenceSystem} of the point.
+     * @param coordinate the coordinate of the point.
+     */
+    default void writePoint( CoordinateReferenceSystem crs, double[] coordinate ) throws E
+    {
+        throw new UnsupportedOperationException( getClass().getSimpleName() + " does not support points" );
+    }
+
     class Adapter<E extends Exception> implements ValueWriter<E>
     {
         @Override
@@ -153,5 +165,10 @@ public interface ValueWriter<E extends Exception>
         public void writeByteArray( byte[] value ) throws E
         {   // no-op
         }
+
+        @Override
+        public void writePoint( CoordinateReferenceSystem crs, double[] coordinate ) throws E
+        {   // no-op
+        }
     }
 }
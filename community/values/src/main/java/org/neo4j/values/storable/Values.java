@@ -22,6 +22,9 @@ package org.neo4j.values.storable;
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+
+import org.neo4j.graphdb.spatial.Point;
 
 import static java.lang.String.format;
 
@@ -86,6 +89,11 @@ public final class Values
         return value instanceof TextValue;
     }
 
+    public static boolean isGeometryValue( Object value )
+    {
+        return value instanceof PointValue;
+    }
+
     public static boolean isArrayValue( Value value )
     {
         return value instanceof ArrayValue;
@@ -223,6 +231,33 @@ public final class Values
         return new FloatValue( value );
     }
 
+    public static PointValue pointValue( CoordinateReferenceSystem crs, double... coordinate )
+    {
+        return new PointValue( crs, coordinate );
+    }
+
+    /**
+     * Converts a {@link Point} of the public API to a {@link PointValue}.
+     *
+     * @param point the point to convert.
+     * @return a {@link PointValue} with the same coordinate reference system and coordinate as the given point.
+     * @throws IllegalArgumentException if the coordinate reference system of the point is not supported.
+     */
+    public static PointValue point( Point point )
+    {
+        if ( point instanceof PointValue )
+        {
+            return (PointValue) point;
+        }
+        List<Double> coordinate = point.getCoordinate().getCoordinate();
+        double[] values = new double[coordinate.size()];
+        for ( int i = 0; i < values.length; i++ )
+        {
+            values[i] = coordinate.get( i );
+        }
+        return pointValue( CoordinateReferenceSystem.get( point.getCRS().getCode() ), values );
+    }
+
     public static TextArray stringArray( String... value )
     {
         return new StringArray.Direct( value );
@@ -341,6 +376,10 @@ public final class Values
         {
             return shortArray( ((short[]) value).clone() );
         }
+        if ( value instanceof Point )
+        {
+            return point( (Point) value );
+        }
         if ( value == null )
         {
             if ( allowNull )
@@ -31,6 +31,9 @@ import java.util.stream.Collectors;
 import org.neo4j.values.virtual.VirtualValueTestUtil;
 
 import static java.lang.String.format;
+import static org.neo4j.values.storable.CoordinateReferenceSystem.Cartesian;
+import static org.neo4j.values.storable.CoordinateReferenceSystem.WGS84;
+import static org.neo4j.values.storable.Values.pointValue;
 import static org.neo4j.values.storable.Values.stringArray;
 import static org.neo4j.values.storable.Values.stringValue;
 import static org.neo4j.values.virtual.VirtualValueTestUtil.edges;
@@ -43,8 +46,6 @@ import static org.neo4j.values.virtual.VirtualValues.emptyMap;
 import static org.neo4j.values.virtual.VirtualValues.node;
 import static org.neo4j.values.virtual.VirtualValues.nodeValue;
 import static org.neo4j.values.virtual.VirtualValues.path;
-import static org.neo4j.values.virtual.VirtualValues.pointCartesian;
-import static org.neo4j.values.virtual.VirtualValues.pointGeographic;
 
 public class AnyValueComparatorTest
 {
@@ -120,14 +121,14 @@ public class AnyValueComparatorTest
             // SCALARS AND POINTS
 
             // Point
-            pointCartesian( -1.0, -1.0 ),
-            pointCartesian( 1.0, 1.0 ),
-            pointCartesian( 1.0, 2.0 ),
-            pointCartesian( 2.0, 1.0 ),
-            pointGeographic( -1.0, -1.0 ),
-            pointGeographic( 1.0, 1.0 ),
-            pointGeographic( 1.0, 2.0 ),
-            pointGeographic( 2.0, 1.0 ),
+            pointValue( Cartesian, -1.0, -1.0 ),
+            pointValue( Cartesian, 1.0, 1.0 ),
+            pointValue( Cartesian, 1.0, 2.0 ),
+            pointValue( Cartesian, 2.0, 1.0 ),
+            pointValue( WGS84, -1.0, -1.0 ),
+            pointValue( WGS84, 1.0, 1.0 ),
+            pointValue( WGS84, 1.0, 2.0 ),
+            pointValue( WGS84, 2.0, 1.0 ),
 
             // Scalars
             "hello",
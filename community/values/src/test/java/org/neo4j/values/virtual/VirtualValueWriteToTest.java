@@ -28,11 +28,13 @@ import java.util.Arrays;
 import org.neo4j.values.AnyValue;
 import org.neo4j.values.BufferAnyValueWriter;
 import org.neo4j.values.storable.BufferValueWriter.Specials;
+import org.neo4j.values.storable.CoordinateReferenceSystem;
 
 import static org.neo4j.values.storable.Values.booleanValue;
 import static org.neo4j.values.storable.Values.byteArray;
 import static org.neo4j.values.storable.Values.charValue;
 import static org.neo4j.values.storable.Values.intValue;
+import static org.neo4j.values.storable.Values.pointValue;
 import static org.neo4j.values.storable.Values.stringArray;
 import static org.neo4j.values.storable.Values.stringValue;
 import static org.neo4j.values.BufferAnyValueWriter.Specials.beginList;
@@ -107,14 +109,14 @@ public class VirtualValueWriteToTest
                                                 stringValue( "T" ), emptyMap() )} )
                 ),
                 shouldWrite(
-                        VirtualValues.pointCartesian( 2.0, -4.0 ),
+                        pointValue( CoordinateReferenceSystem.Cartesian, 2.0, -4.0 ),
                         beginPoint( CoordinateReferenceSystem.Cartesian ),
                         2.0,
                         -4.0,
                         endPoint()
                 ),
                 shouldWrite(
-                        VirtualValues.pointGeographic( 2.0, -4.0 ),
+                        pointValue( CoordinateReferenceSystem.WGS84, 2.0, -4.0 ),
                         beginPoint( CoordinateReferenceSystem.WGS84 ),
                         2.0,
                         -4.0,
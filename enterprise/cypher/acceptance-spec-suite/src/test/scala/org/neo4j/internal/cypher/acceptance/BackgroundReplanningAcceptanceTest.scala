@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.internal.cypher.acceptance
+
+import java.util.concurrent.TimeUnit.SECONDS
+import java.util.concurrent.{CopyOnWriteArrayList, CountDownLatch}
+
+import org.neo4j.cypher.ExecutionEngineFunSuite
+import org.neo4j.cypher.internal.StringCacheMonitor
+import org.neo4j.graphdb.config.Setting
+import org.neo4j.graphdb.factory.GraphDatabaseSettings
+
+import scala.collection.JavaConverters._
+import scala.collection.Map
+
+class BackgroundReplanningAcceptanceTest extends ExecutionEngineFunSuite {
+
+  class ReplanCounter extends StringCacheMonitor {
+    val discarded = new CopyOnWriteArrayList[String]()
+    val started = new CopyOnWriteArrayList[String]()
+    val swapped = new CountDownLatch(1)
+
+    override def cacheDiscard(key: String, userKey: String) {
+      discarded.add(userKey)
+    }
+
+    override def backgroundReplanStarted(query: String) {
+      started.add(query)
+    }
+
+    override def backgroundReplanCompleted(query: String, swapped: Boolean, millis: Long) {
+      if (swapped) this.swapped.countDown()
+    }
+  }
+
+  override def databaseConfig(): Map[Setting[_], String] = Map(
+    GraphDatabaseSettings.cypher_min_replan_interval -> "0",
+    GraphDatabaseSettings.cypher_replan_in_background -> "true")
+
+  test("should keep using a stale plan while the query is replanned in the background") {
+    // given
+    val query = "match (n:Person:Dog) return n"
+    createLabeledNode("Dog")
+    (0 until 50).foreach { _ => createLabeledNode("Person") }
+    execute(query).toList
+
+    val counter = new ReplanCounter()
+    kernelMonitors.addMonitorListener(counter)
+    (0 until 1000).foreach { _ => createLabeledNode("Dog") }
+
+    // when
+    execute(query).toList should be(empty)
+
+    // then
+    counter.discarded.asScala should be(empty)
+    counter.started.asScala should equal(Seq(s"CYPHER 3.4 $query"))
+    counter.swapped.await(30, SECONDS) should be(true)
+
+    // when
+    execute(query).toList
+
+    // then the new plan is not stale
+    counter.started.asScala should have size 1
+    counter.discarded.asScala should be(empty)
+  }
+}
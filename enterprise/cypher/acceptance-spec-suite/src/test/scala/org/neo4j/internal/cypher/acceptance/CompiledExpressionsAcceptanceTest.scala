@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.internal.cypher.acceptance
+
+import org.neo4j.cypher.ExecutionEngineFunSuite
+import org.neo4j.graphdb.QueryExecutionException
+import org.neo4j.graphdb.factory.GraphDatabaseSettings
+
+import scala.collection.JavaConverters._
+
+class CompiledExpressionsAcceptanceTest extends ExecutionEngineFunSuite {
+
+  private val filterHeavyQueries = Seq(
+    "MATCH (n:Person) WHERE n.age > 20 AND n.score <= 150 AND n.name <> $min RETURN n.name",
+    "MATCH (n:Person) WHERE n.age < 10 OR n.name = 'p42' OR NOT n.age <> 100 RETURN n.name",
+    "MATCH (n:Person) WHERE n.age >= $min AND n.score < $max AND (n.score > $min XOR n.score IS NULL) RETURN n.name",
+    "MATCH (a:Person)-[:KNOWS]->(b) WHERE a <> b AND (a.age > b.age OR b.score < a.score) RETURN a.name, b.name",
+    "MATCH (n:Person) RETURN n.age > 100 AND n.score IS NULL AS flag, count(*)",
+    "MATCH (a:Person) OPTIONAL MATCH (a)-[:KNOWS]->(b) WHERE b.age > 5 RETURN a.name, b.age > 150 OR b.age IS NULL",
+    "MATCH (n:Person) WHERE n.missing = 1 OR n.age = 7 RETURN n.name")
+
+  private val params: java.util.Map[String, Object] = Map[String, Object]("min" -> Long.box(50), "max" -> Long.box(120)).asJava
+
+  override protected def initTest() {
+    super.initTest()
+    createPeople()
+  }
+
+  test("should filter like the tree walking evaluation in the slotted runtime") {
+    shouldEvaluateLikeTreeWalking("slotted")
+  }
+
+  test("should filter like the tree walking evaluation in the interpreted runtime") {
+    shouldEvaluateLikeTreeWalking("interpreted")
+  }
+
+  test("should only raise errors that the tree walking evaluation raises") {
+    val failing = "MATCH (n:Person) WHERE n.age = 3 AND n.age / 0 > 1 RETURN n.name"
+    val decided = "MATCH (n:Person) WHERE n.age = -1 AND n.age / 0 > 1 RETURN n.name"
+
+    for (runtime <- Seq("slotted", "interpreted")) {
+      a[QueryExecutionException] should be thrownBy graph.execute(s"CYPHER runtime=$runtime $failing").resultAsString()
+      graph.execute(s"CYPHER runtime=$runtime $decided").hasNext should be(false)
+    }
+  }
+
+  private def shouldEvaluateLikeTreeWalking(runtime: String): Unit = {
+    val compiled = filterHeavyQueries.map(query => query -> execute(runtime, query)).toMap
+
+    // restart with the same graph, but with expressions evaluated by walking the interpreted expression tree
+    graph.shutdown()
+    graph = createGraphDatabase(databaseConfig() + (GraphDatabaseSettings.cypher_compiled_expressions -> "false"))
+    createPeople()
+
+    filterHeavyQueries.foreach { query =>
+      withClue(query) {
+        compiled(query) should not be empty
+        compiled(query) should equal(execute(runtime, query))
+      }
+    }
+  }
+
+  private def execute(runtime: String, query: String): List[Map[String, AnyRef]] = {
+    val result = graph.execute(s"CYPHER runtime=$runtime $query", params)
+    val rows = result.asScala.map(_.asScala.toMap).toList
+    withClue(query) { result.getExecutionPlanDescription.getArguments.get("runtime") should equal(runtime.toUpperCase) }
+    rows.sortBy(_.toString)
+  }
+
+  private def createPeople(): Unit = {
+    graph.execute("UNWIND range(0, 199) AS i " +
+                    "CREATE (:Person {age: i, name: 'p' + i, score: CASE WHEN i % 3 = 0 THEN null ELSE i * 1.5 END})").close()
+    graph.execute("MATCH (a:Person), (b:Person) WHERE b.age = (a.age * 7) % 200 CREATE (a)-[:KNOWS]->(b)").close()
+  }
+}
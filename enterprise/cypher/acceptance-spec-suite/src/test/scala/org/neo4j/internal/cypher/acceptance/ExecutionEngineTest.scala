@@ -367,7 +367,7 @@ return r""")
     val a = createNode("COL1" -> "A", "COL2" -> "A", "num" -> 1).getId
     val b = createNode("COL1" -> "B", "COL2" -> "B", "num" -> 2).getId
 
-    val result = executeWith(Configs.Interpreted,  """
+    val result = executeWith(Configs.Interpreted + Configs.Morsel,  """
 match (a)
 where id(a) IN [%d, %d]
 return a.COL1, a.COL2, avg(a.num)
@@ -469,7 +469,7 @@ order by a.COL1""".format(a, b))
   test("second piped query woot") {
     createNode()
     val q = "match (x) where id(x) = 0 with count(*) as apa WHERE apa = 1 RETURN apa"
-    val result = executeWith(Configs.Interpreted, q)
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, q)
 
     result.toList should equal(List(Map("apa" -> 1)))
   }
@@ -576,7 +576,7 @@ order by a.COL1""".format(a, b))
 
   test("params should survive with") {
     val n = createNode()
-    val result = executeWith(Configs.Interpreted, "match (n) where id(n) = 0 WITH collect(n) as coll where length(coll)={id} RETURN coll", params = Map("id"->1))
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "match (n) where id(n) = 0 WITH collect(n) as coll where length(coll)={id} RETURN coll", params = Map("id"->1))
 
     result.toList should equal(List(Map("coll" -> List(n))))
   }
@@ -603,7 +603,7 @@ order by a.COL1""".format(a, b))
 
   test("can alias and aggregate") {
     val a = createNode()
-    val result = executeWith(Configs.Interpreted, "match (n) where id(n) = 0 return sum(ID(n)), n as m")
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "match (n) where id(n) = 0 return sum(ID(n)), n as m")
 
     result.toList should equal(List(Map("sum(ID(n))"->0, "m"->a)))
   }
@@ -687,7 +687,7 @@ order by a.COL1""".format(a, b))
     val c = createNode()
 
     // WHEN
-    val result = executeWith(Configs.Interpreted, "MATCH (n) WHERE id(n) in [%d, %d, %d] AND n:foo RETURN n".format(a.getId, b.getId, c.getId))
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n) WHERE id(n) in [%d, %d, %d] AND n:foo RETURN n".format(a.getId, b.getId, c.getId))
 
     // THEN
     result.toList should equal(List(Map("n" -> a), Map("n" -> b)))
@@ -713,7 +713,7 @@ order by a.COL1""".format(a, b))
     val c = createNode()
 
     // WHEN
-    val result = executeWith(Configs.Interpreted, "MATCH (n) WHERE id(n) in [%d, %d, %d] AND n:foo:bar RETURN n"
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n) WHERE id(n) in [%d, %d, %d] AND n:foo:bar RETURN n"
         .format(a.getId, b.getId, c.getId))
 
     // THEN
@@ -785,7 +785,7 @@ order by a.COL1""".format(a, b))
     relate(p4, red, "ap_has_value")
 
     //WHEN
-    val result = executeWith(Configs.All, """
+    val result = executeWith(Configs.All + Configs.Morsel, """
        MATCH (advertiser:Advertiser) -[:adv_has_product] ->(out) -[:ap_has_value] ->(red)<-[:aa_has_value]- (thing:Thing)
        WHERE red.name = 'red' AND out.name = 'product1'
        RETURN out.name""")
@@ -917,7 +917,7 @@ order by a.COL1""".format(a, b))
     createNode("coll" -> Array(1, 2, 3), "bool" -> true)
     createLabeledNode("LABEL")
 
-    val foundNode = executeWith(Configs.All, "match (n:LABEL) where n.coll and n.bool return n").columnAs[Node]("n").next()
+    val foundNode = executeWith(Configs.All + Configs.Morsel, "match (n:LABEL) where n.coll and n.bool return n").columnAs[Node]("n").next()
 
     foundNode should equal(n)
   }
@@ -925,7 +925,7 @@ order by a.COL1""".format(a, b))
   test("should be able to coerce literal collections to predicates") {
     val n = createLabeledNode(Map("coll" -> Array(1, 2, 3), "bool" -> true), "LABEL")
 
-    val foundNode = executeWith(Configs.Interpreted, "match (n:LABEL) where [1,2,3] and n.bool return n").columnAs[Node]("n").next()
+    val foundNode = executeWith(Configs.Interpreted + Configs.Morsel, "match (n:LABEL) where [1,2,3] and n.bool return n").columnAs[Node]("n").next()
 
     foundNode should equal(n)
   }
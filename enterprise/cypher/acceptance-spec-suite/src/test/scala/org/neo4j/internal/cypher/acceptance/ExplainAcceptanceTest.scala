@@ -20,10 +20,17 @@
 package org.neo4j.internal.cypher.acceptance
 
 import org.neo4j.cypher.ExecutionEngineFunSuite
+import org.neo4j.graphdb.config.Setting
+import org.neo4j.graphdb.factory.GraphDatabaseSettings
 import org.neo4j.internal.cypher.acceptance.CypherComparisonSupport.Configs
 
 class ExplainAcceptanceTest extends ExecutionEngineFunSuite with CypherComparisonSupport {
 
+  // Need to override so that graph.execute falls back instead of failing on unsupported runtimes
+  override def databaseConfig(): collection.Map[Setting[_], String] = super.databaseConfig() ++ Map(
+    GraphDatabaseSettings.cypher_hints_error -> "false"
+  )
+
   test("normal query is marked as such") {
     createNode()
     val result = executeWith(Configs.All + Configs.Morsel, "match (n) return n")
@@ -40,6 +47,21 @@ class ExplainAcceptanceTest extends ExecutionEngineFunSuite with CypherCompariso
     result should be(empty)
   }
 
+  test("explain reports why the compiled runtime fell back") {
+    val result = graph.execute("CYPHER runtime=compiled EXPLAIN MATCH (n) RETURN collect(n)")
+    val arguments = result.getExecutionPlanDescription.getArguments
+
+    arguments.get("runtime") should equal("SLOTTED")
+    arguments.get("runtime-fallback") should equal("COMPILED: Collect is not supported")
+  }
+
+  test("explain does not report a fallback when the compiled runtime handles the query") {
+    val result = graph.execute("CYPHER runtime=compiled EXPLAIN MATCH (n) OPTIONAL MATCH (n)-[*1..2]->(m) RETURN n, m")
+    val arguments = result.getExecutionPlanDescription.getArguments
+
+    arguments.get("runtime") should equal("COMPILED")
+    arguments.containsKey("runtime-fallback") should equal(false)
+  }
 
   test("EXPLAIN for Cypher 3.1") {
     val result = eengine.execute("explain match (n) return n", Map.empty[String, Object])
@@ -58,7 +58,7 @@ class HelpfulErrorMessagesTest extends ExecutionEngineFunSuite with CypherCompar
     graph.execute("CREATE (n:Person {text:'abcxxxdefyyyfff'})")
     // Fixed in 3.2.8
     // Fixed in 3.3.1
-    failWithError(Configs.Version3_4 + Configs.Procs - Configs.Compiled - Configs.AllRulePlanners,
+    failWithError(Configs.Version3_4 + Configs.Procs - Configs.Compiled - Configs.AllRulePlanners + Configs.Morsel,
       "MATCH (x:Person) WHERE x.text =~ '*xxx*yyy*' RETURN x.text", List("Invalid Regex:"))
   }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.internal.cypher.acceptance
+
+import java.util.concurrent.TimeUnit
+
+import org.neo4j.cypher.ExecutionEngineFunSuite
+
+import scala.collection.JavaConverters._
+
+/**
+  * Runs LDBC-like read queries in the interpreted, slotted and compiled runtimes, and checks that all runtimes agree
+  * on the result and that the compiled runtime either handles a query or falls back for the expected reason.
+  *
+  * Setting the system property `cypher.runtimeComparison.iterations` to a positive number also warms up and times
+  * every runtime for that many iterations, and prints the median execution time per runtime.
+  */
+class LdbcRuntimeComparisonTest extends ExecutionEngineFunSuite {
+
+  import LdbcRuntimeComparisonTest._
+
+  private val runtimes = Seq("interpreted", "slotted", "compiled")
+
+  private val iterations = Integer.getInteger("cypher.runtimeComparison.iterations", 0)
+
+  QUERIES.foreach { ldbcQuery =>
+    test(ldbcQuery.name) {
+      // given
+      createSocialNetwork()
+
+      // when
+      val results = runtimes.map(runtime => runtime -> execute(runtime, ldbcQuery)).toMap
+
+      // then
+      val (compiledRows, compiledRuntime, compiledFallback) = results("compiled")
+      ldbcQuery.compiledFallback match {
+        case None =>
+          compiledFallback should equal(None)
+          compiledRuntime should equal("COMPILED")
+        case Some(reason) =>
+          compiledFallback.getOrElse("") should include(reason)
+      }
+      compiledRows should not be empty
+      results.foreach {
+        case (runtime, (rows, _, _)) => withClue(s"$runtime runtime: ")(rows should equal(compiledRows))
+      }
+
+      if (iterations > 0) {
+        // A runtime that cannot handle the query falls back, so report the runtime that actually ran it
+        val timings = runtimes.map(runtime => (runtime, results(runtime)._2, medianMillis(runtime, ldbcQuery)))
+        println(timings.map { case (runtime, usedRuntime, millis) => f"$runtime%12s ($usedRuntime%11s): $millis%10.3f ms" }
+                  .mkString(s"${ldbcQuery.name}\n", "\n", ""))
+      }
+    }
+  }
+
+  private def execute(runtime: String, ldbcQuery: LdbcLikeQuery): (List[String], String, Option[String]) = {
+    val result = graph.execute(s"CYPHER runtime=$runtime ${ldbcQuery.query}", ldbcQuery.params.asJava)
+    val rows = result.asScala.map(row => result.columns().asScala.map(column => String.valueOf(row.get(column))).mkString(", ")).toList
+    val arguments = result.getExecutionPlanDescription.getArguments
+    (if (ldbcQuery.ordered) rows else rows.sorted,
+      String.valueOf(arguments.get("runtime")),
+      Option(arguments.get("runtime-fallback")).map(String.valueOf))
+  }
+
+  private def medianMillis(runtime: String, ldbcQuery: LdbcLikeQuery): Double = {
+    (0 until iterations).foreach(_ => execute(runtime, ldbcQuery))
+    val nanos = (0 until iterations).map { _ =>
+      val start = System.nanoTime()
+      execute(runtime, ldbcQuery)
+      System.nanoTime() - start
+    }.sorted
+    nanos(nanos.size / 2).toDouble / TimeUnit.MILLISECONDS.toNanos(1)
+  }
+
+  private def createSocialNetwork(): Unit = {
+    graph.createIndex("Person", "id")
+    graph.createIndex("Person", "birthday")
+    graph.createIndex("Post", "id")
+    graph.createIndex("Post", "creationDate")
+    val params = Map[String, AnyRef]("persons" -> Int.box(PERSONS), "names" -> NAMES.asJava).asJava
+    Seq(
+      """UNWIND range(0, $persons - 1) AS i
+        |CREATE (:Person {id: i, firstName: $names[i % size($names)], birthday: 19700000 + (i * 37) % 1000})""",
+      """UNWIND range(0, 9) AS i
+        |CREATE (:City {id: i, name: 'City' + i})""",
+      """MATCH (p:Person), (c:City) WHERE p.id % 13 = c.id
+        |CREATE (p)-[:IS_LOCATED_IN]->(c)""",
+      """MATCH (a:Person), (b:Person) WHERE b.id = (a.id + 1) % $persons OR b.id = (a.id * 7 + 3) % $persons
+        |CREATE (a)-[:KNOWS]->(b)""",
+      """MATCH (p:Person) UNWIND range(0, p.id % 5) AS j
+        |CREATE (:Post {id: p.id * 10 + j, creationDate: 1000 + (p.id * 31 + j * 17) % 1000})-[:HAS_CREATOR]->(p)""",
+      """MATCH (p:Person), (m:Post) WHERE (p.id + m.id) % 11 = 0
+        |CREATE (p)-[:LIKES]->(m)"""
+    ).foreach(query => graph.execute(query.stripMargin, params).close())
+  }
+}
+
+object LdbcRuntimeComparisonTest {
+
+  private val PERSONS = 200
+
+  private val NAMES = List("Jan", "Maria", "Ali", "Chen", "Olga", "Pedro", "Aiko")
+
+  /**
+    * @param compiledFallback part of the reason the compiled runtime is expected to give when falling back, or
+    *                         `None` if the compiled runtime is expected to handle the query
+    */
+  case class LdbcLikeQuery(name: String, query: String, params: Map[String, AnyRef] = Map.empty,
+                           ordered: Boolean = false, compiledFallback: Option[String] = None)
+
+  val QUERIES = Seq(
+    LdbcLikeQuery(
+      "short read 1: profile of a person",
+      "MATCH (p:Person {id: $personId}) RETURN p.firstName, p.birthday",
+      Map("personId" -> Int.box(42))),
+    LdbcLikeQuery(
+      "short read 3: friends of a person",
+      "MATCH (p:Person {id: $personId})-[:KNOWS]-(friend:Person) RETURN friend.id, friend.firstName",
+      Map("personId" -> Int.box(42))),
+    LdbcLikeQuery(
+      "complex read 1: friends with a given name within three steps",
+      """MATCH (p:Person {id: $personId})-[:KNOWS*1..3]-(friend:Person)
+        |WHERE friend.firstName = $firstName
+        |RETURN DISTINCT friend.id""".stripMargin,
+      Map("personId" -> Int.box(42), "firstName" -> "Olga")),
+    LdbcLikeQuery(
+      "complex read 2: recent posts by friends",
+      """MATCH (p:Person {id: $personId})-[:KNOWS]-(friend:Person)<-[:HAS_CREATOR]-(post:Post)
+        |WHERE post.creationDate <= $maxDate
+        |RETURN friend.id, post.id, post.creationDate
+        |ORDER BY post.creationDate DESC, post.id ASC
+        |LIMIT $limit""".stripMargin,
+      Map("personId" -> Int.box(42), "maxDate" -> Int.box(1500), "limit" -> Int.box(20)),
+      ordered = true,
+      compiledFallback = Some("Predicate of LessThanOrEqual")),
+    LdbcLikeQuery(
+      "complex read 3: friends and the city they live in",
+      """MATCH (p:Person {id: $personId})-[:KNOWS*1..2]->(friend:Person)
+        |OPTIONAL MATCH (friend)-[:IS_LOCATED_IN]->(city:City)
+        |RETURN friend.id, city.name""".stripMargin,
+      Map("personId" -> Int.box(42))),
+    LdbcLikeQuery(
+      "complex read 9: posts created in a period",
+      """MATCH (post:Post)
+        |WHERE $minDate <= post.creationDate < $maxDate
+        |RETURN post.id
+        |SKIP $skip LIMIT $limit""".stripMargin,
+      Map("minDate" -> Int.box(1200), "maxDate" -> Int.box(1300), "skip" -> Int.box(0), "limit" -> Int.box(1000))),
+    LdbcLikeQuery(
+      "complex read 10: persons born in a period",
+      """MATCH (p:Person)
+        |WHERE $from <= p.birthday <= $to
+        |RETURN p.id, p.firstName""".stripMargin,
+      Map("from" -> Int.box(19700100), "to" -> Int.box(19700300))),
+    LdbcLikeQuery(
+      "complex read 11: friends who did not like a post",
+      """MATCH (p:Person {id: $personId})-[:KNOWS]-(friend:Person), (post:Post {id: $postId})
+        |WHERE NOT (friend)-[:LIKES]->(post)
+        |RETURN friend.id""".stripMargin,
+      Map("personId" -> Int.box(42), "postId" -> Int.box(1520))),
+    LdbcLikeQuery(
+      "complex read 12: friends who liked a post",
+      """MATCH (p:Person {id: $personId})-[:KNOWS*1..2]-(friend:Person), (post:Post {id: $postId})
+        |WHERE (friend)-[:LIKES]->(post)
+        |RETURN DISTINCT friend.id""".stripMargin,
+      Map("personId" -> Int.box(42), "postId" -> Int.box(1520))),
+    LdbcLikeQuery(
+      "short read 3 for many persons: friends of several persons",
+      """UNWIND $personIds AS personId
+        |MATCH (p:Person {id: personId})-[:KNOWS]->(friend:Person)
+        |RETURN p.id, friend.id""".stripMargin,
+      Map("personIds" -> List(1, 42, 99, 150).map(Int.box).asJava))
+  )
+}
@@ -531,7 +531,7 @@ class LoadCsvAcceptanceTest
 
 
       //make sure three unique movies are created
-      val result = executeWith(Configs.All, "match (m:Movie) return m.id AS id ORDER BY m.id").toList
+      val result = executeWith(Configs.All + Configs.Morsel, "match (m:Movie) return m.id AS id ORDER BY m.id").toList
 
       result should equal(List(Map("id" -> 1), Map("id" -> 2), Map("id" -> 3)))
       //empty database
@@ -38,7 +38,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     createNode()
     createNode()
 
-    val result = executeWith(Configs.All, "MATCH (n) RETURN count(n.name)")
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n) RETURN count(n.name)")
     result.toList should equal(List(Map("count(n.name)" -> 3)))
   }
 
@@ -176,7 +176,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
         | RETURN n, rel1, n1, rel2, n2;
         |""".stripMargin
 
-    val result = executeWith(Configs.Interpreted, query)
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, query)
     result.toList should equal(List(Map("n" -> n, "rel1" -> null, "rel2" -> null, "n1" -> null, "n2" -> null)))
   }
 
@@ -279,7 +279,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     graph.createIndex("Person", "name")
 
     // when
-    val result = executeWith(Configs.All, "MATCH (n:Person)-->() USING INDEX n:Person(name) WHERE n.name = 'Jacob' RETURN n")
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:Person)-->() USING INDEX n:Person(name) WHERE n.name = 'Jacob' RETURN n")
 
     // then
     result.toList should equal(List(Map("n" -> jake)))
@@ -297,7 +297,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     graph.createIndex("Person", "name")
 
     // when
-    val result = executeWith(Configs.Interpreted,
+    val result = executeWith(Configs.Interpreted + Configs.Morsel,
       "MATCH (n:Person)-->() USING INDEX n:Person(name) WHERE n.name STARTS WITH 'Jac' RETURN n")
 
     // then
@@ -315,7 +315,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     graph.createIndex("Person", "name")
 
     // when
-    val result = executeWith(Configs.Interpreted, "MATCH (n:Person)-->() USING INDEX n:Person(name) WHERE n.name > 'Jac' RETURN n")
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n:Person)-->() USING INDEX n:Person(name) WHERE n.name > 'Jac' RETURN n")
 
     // then
     result.toList should equal(List(Map("n" -> jake)))
@@ -378,7 +378,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     graph.createIndex("Label", "property")
 
     // when
-    val result = executeWith(Configs.All, "match (a:Label)-->(b:Label) where a.property = b.property return a, b")
+    val result = executeWith(Configs.All + Configs.Morsel, "match (a:Label)-->(b:Label) where a.property = b.property return a, b")
 
     // then does not throw exceptions
     result.toList should equal(List(Map("a" -> a, "b" -> b)))
@@ -414,7 +414,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     graph.createIndex("User", "email")
 
     // when
-    val result = executeWith(Configs.Interpreted, "MATCH (n:User) USING INDEX n:User(email) WHERE exists(n.email) RETURN n")
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n:User) USING INDEX n:User(email) WHERE exists(n.email) RETURN n")
 
     // then
     result.toList should equal(List(Map("n" -> n), Map("n" -> m)))
@@ -429,7 +429,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     graph.createIndex("User", "email")
 
     // when
-    val result = executeWith(Configs.Interpreted, "MATCH (n:User) USING INDEX n:User(email) WHERE n.email IS NOT NULL RETURN n")
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n:User) USING INDEX n:User(email) WHERE n.email IS NOT NULL RETURN n")
 
     // then
     result.toList should equal(List(Map("n" -> n), Map("n" -> m)))
@@ -453,7 +453,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     val nodes = setupIndexScanTest()
 
     // when
-    val result = executeWith(Configs.Interpreted, "MATCH (n:User) WHERE exists(n.email) RETURN n")
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n:User) WHERE exists(n.email) RETURN n")
 
     // then
     result.toSet should equal(Set(Map("n" -> nodes.head), Map("n" -> nodes(1))))
@@ -465,7 +465,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     val nodes = setupIndexScanTest()
 
     // when
-    val result = executeWith(Configs.Interpreted, "MATCH (n:User) WHERE exists(n.email) AND n.email = 'me@mine' RETURN n")
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n:User) WHERE exists(n.email) AND n.email = 'me@mine' RETURN n")
 
     // then
     result.toList should equal(List(Map("n" -> nodes.head)))
@@ -543,7 +543,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
       .length
     val second = executeWith(Configs.CommunityInterpreted - Configs.Cost2_3, query)
       .length
-    val check = executeWith(Configs.All, "MATCH (f:Folder) RETURN f.name").toSet
+    val check = executeWith(Configs.All + Configs.Morsel, "MATCH (f:Folder) RETURN f.name").toSet
 
     //THEN
     first should equal(second)
@@ -580,7 +580,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
       .length
     val second = executeWith(Configs.CommunityInterpreted - Configs.Cost2_3, query)
       .length
-    val check = executeWith(Configs.All, "MATCH (f:Folder) RETURN f.name").toSet
+    val check = executeWith(Configs.All + Configs.Morsel, "MATCH (f:Folder) RETURN f.name").toSet
 
     //THEN
     first should equal(second)
@@ -637,13 +637,13 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     createNode()
     createNode()
 
-    executeWith(Configs.All, "MATCH (n) RETURN n SKIP 0") should have size 5
-    executeWith(Configs.All, "MATCH (n) RETURN n SKIP 1") should have size 4
-    executeWith(Configs.All, "MATCH (n) RETURN n SKIP 2") should have size 3
-    executeWith(Configs.All, "MATCH (n) RETURN n SKIP 3") should have size 2
-    executeWith(Configs.All, "MATCH (n) RETURN n SKIP 4") should have size 1
-    executeWith(Configs.All, "MATCH (n) RETURN n SKIP 5") should have size 0
-    executeWith(Configs.All, "MATCH (n) RETURN n SKIP 6") should have size 0
+    executeWith(Configs.All + Configs.Morsel, "MATCH (n) RETURN n SKIP 0") should have size 5
+    executeWith(Configs.All + Configs.Morsel, "MATCH (n) RETURN n SKIP 1") should have size 4
+    executeWith(Configs.All + Configs.Morsel, "MATCH (n) RETURN n SKIP 2") should have size 3
+    executeWith(Configs.All + Configs.Morsel, "MATCH (n) RETURN n SKIP 3") should have size 2
+    executeWith(Configs.All + Configs.Morsel, "MATCH (n) RETURN n SKIP 4") should have size 1
+    executeWith(Configs.All + Configs.Morsel, "MATCH (n) RETURN n SKIP 5") should have size 0
+    executeWith(Configs.All + Configs.Morsel, "MATCH (n) RETURN n SKIP 6") should have size 0
 
   }
 
@@ -790,7 +790,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     createLabeledNode("B")
     createLabeledNode("C")
 
-    val result = executeWith(Configs.All, "MATCH (a) WHERE a:A:B RETURN a")
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (a) WHERE a:A:B RETURN a")
 
     // Then
     result.toList should equal(List(Map("a" -> n1), Map("a" -> n2)))
@@ -820,7 +820,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     createLabeledNode("B")
     createLabeledNode("C")
 
-    val result = executeWith(Configs.Interpreted, "MATCH (a) WHERE (a:A AND a:B) OR (a:A AND a:C) RETURN a")
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (a) WHERE (a:A AND a:B) OR (a:A AND a:C) RETURN a")
 
     // Then
     result.toList should equal(List(Map("a" -> n1), Map("a" -> n2), Map("a" -> n3)))
@@ -835,7 +835,7 @@ class MatchAcceptanceTest extends ExecutionEngineFunSuite with QueryStatisticsTe
     createLabeledNode("B")
     createLabeledNode("C")
 
-    val result = executeWith(Configs.All, "MATCH (a) WHERE a:A:B AND a:A:C RETURN a")
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (a) WHERE a:A:B AND a:A:C RETURN a")
 
     // Then
     result.toList should equal(List(Map("a" -> n)))
@@ -39,8 +39,8 @@ class MatchAggregationsBackedByCountStoreAcceptanceTest
     // one non-loop
     relate(n, createNode())
 
-    val resultStar = executeWith(Configs.Interpreted + Configs.BackwardsCompatibility, "MATCH (a)-->(a) RETURN count(*)")
-    val resultVar = executeWith(Configs.All, "MATCH (a)-[r]->(a) RETURN count(r)")
+    val resultStar = executeWith(Configs.Interpreted + Configs.BackwardsCompatibility + Configs.Morsel, "MATCH (a)-->(a) RETURN count(*)")
+    val resultVar = executeWith(Configs.All + Configs.Morsel, "MATCH (a)-[r]->(a) RETURN count(r)")
 
     resultStar.toList should equal(List(Map("count(*)" -> 2)))
     resultVar.toList should equal(List(Map("count(r)" -> 2)))
@@ -195,8 +195,8 @@ class MatchAggregationsBackedByCountStoreAcceptanceTest
     val query = "MATCH (:User)-[r:KNOWS]->(:User) RETURN count(r)"
 
     // Then
-    compareCount(query, 0, Configs.All, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners)
-    compareCount(query, 1, Configs.All, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners, executeBefore = executeBefore)
+    compareCount(query, 0, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners)
+    compareCount(query, 1, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners, executeBefore = executeBefore)
   }
 
   test("counts relationships with unspecified type and labeled source and destination without using count store") {
@@ -205,8 +205,8 @@ class MatchAggregationsBackedByCountStoreAcceptanceTest
     val query = "MATCH (:User)-[r]->(:User) RETURN count(r)"
 
     // Then
-    compareCount(query, 0, Configs.All, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners)
-    compareCount(query, 1, Configs.All, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners, executeBefore = executeBefore)
+    compareCount(query, 0, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners)
+    compareCount(query, 1, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners, executeBefore = executeBefore)
   }
 
   test("counts relationships with type, reverse direction and labeled source node using count store") {
@@ -235,8 +235,8 @@ class MatchAggregationsBackedByCountStoreAcceptanceTest
     val query = "MATCH (:User)-[r:KNOWS]-() RETURN count(r)"
 
     // Then
-    compareCount(query, 0, Configs.All, expectedLogicalPlan = "NodeByLabelScan")
-    compareCount(query, 2, Configs.All, expectedLogicalPlan = "NodeByLabelScan", executeBefore = executeBefore)
+    compareCount(query, 0, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan")
+    compareCount(query, 2, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", executeBefore = executeBefore)
   }
 
   test("counts relationships with type, any direction and labeled destination node without using count store") {
@@ -245,8 +245,8 @@ class MatchAggregationsBackedByCountStoreAcceptanceTest
     val query = "MATCH ()-[r:KNOWS]-(:User) RETURN count(r)"
 
     // Then
-    compareCount(query, 0, Configs.All, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners)
-    compareCount(query, 2, Configs.All, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners, executeBefore = executeBefore)
+    compareCount(query, 0, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners)
+    compareCount(query, 2, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners, executeBefore = executeBefore)
   }
 
   test("counts relationships with type, any direction and no labeled nodes without using count store") {
@@ -255,8 +255,8 @@ class MatchAggregationsBackedByCountStoreAcceptanceTest
     val query = "MATCH ()-[r:KNOWS]-() RETURN count(r)"
 
     // Then
-    compareCount(query, 0, Configs.All, expectedLogicalPlan = "AllNodesScan", expectOtherPlanIn = Configs.AllRulePlanners)
-    compareCount(query, 2, Configs.All, expectedLogicalPlan = "AllNodesScan", expectOtherPlanIn = Configs.AllRulePlanners, executeBefore = executeBefore)
+    compareCount(query, 0, Configs.All + Configs.Morsel, expectedLogicalPlan = "AllNodesScan", expectOtherPlanIn = Configs.AllRulePlanners)
+    compareCount(query, 2, Configs.All + Configs.Morsel, expectedLogicalPlan = "AllNodesScan", expectOtherPlanIn = Configs.AllRulePlanners, executeBefore = executeBefore)
   }
 
   test("counts nodes using count store considering transaction state") {
@@ -509,9 +509,9 @@ class MatchAggregationsBackedByCountStoreAcceptanceTest
     val query = "MATCH (:User)-[r:KNOWS]->(:User) RETURN count(r)"
 
     // Then
-    compareCount(query, 0, Configs.All, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners)
+    compareCount(query, 0, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners)
     setupBigModel()
-    compareCount(query, 3, Configs.All, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners, assertCountInTransaction = true, executeBefore = executeBefore)
+    compareCount(query, 3, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners, assertCountInTransaction = true, executeBefore = executeBefore)
   }
 
   test("counts relationships with unspecified type and labeled source and destination without using count store considering transaction state") {
@@ -520,9 +520,9 @@ class MatchAggregationsBackedByCountStoreAcceptanceTest
     val query = "MATCH (:User)-[r]->(:User) RETURN count(r)"
 
     // Then
-    compareCount(query, 0, Configs.All, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners)
+    compareCount(query, 0, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners)
     setupBigModel()
-    compareCount(query, 3, Configs.All, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners, assertCountInTransaction = true, executeBefore = executeBefore)
+    compareCount(query, 3, Configs.All + Configs.Morsel, expectedLogicalPlan = "NodeByLabelScan", expectOtherPlanIn = Configs.AllRulePlanners, assertCountInTransaction = true, executeBefore = executeBefore)
   }
 
   test("should work even when the tokens are already known") {
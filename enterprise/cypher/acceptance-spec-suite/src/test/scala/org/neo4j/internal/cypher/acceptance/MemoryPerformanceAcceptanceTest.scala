@@ -72,7 +72,7 @@ class MemoryPerformanceAcceptanceTest extends ExecutionEngineFunSuite with Cyphe
   test("should unwind a long range without going OOM") {
     val expectedResult = 20000000
 
-    val result = executeWith(Configs.All - Configs.Compiled, s"UNWIND range(1, $expectedResult) AS i RETURN count(*) AS c")
+    val result = executeWith(Configs.All - Configs.Compiled + Configs.Morsel, s"UNWIND range(1, $expectedResult) AS i RETURN count(*) AS c")
     result.columnAs[Long]("c").toList should equal(List(expectedResult))
   }
 
@@ -20,9 +20,18 @@
 package org.neo4j.internal.cypher.acceptance
 
 import org.neo4j.cypher.ExecutionEngineFunSuite
+import org.neo4j.graphdb.factory.GraphDatabaseSettings
+
+import scala.collection.JavaConverters._
 
 class MorselRuntimeAcceptanceTest extends ExecutionEngineFunSuite {
 
+  // Small morsels and several workers, so that leaf scans are split into many partitions
+  override def databaseConfig() = super.databaseConfig() ++ Map(
+    GraphDatabaseSettings.cypher_morsel_size -> "4",
+    GraphDatabaseSettings.cypher_worker_count -> "4"
+  )
+
   test("should not use morsel by default") {
     //Given
     val result = graph.execute("MATCH (n) RETURN n")
@@ -56,10 +65,19 @@ class MorselRuntimeAcceptanceTest extends ExecutionEngineFunSuite {
     result.getExecutionPlanDescription.getArguments.get("runtime") should not equal "MORSEL"
   }
 
-  test("should warn that morsels are experimental") {
+  test("should say why morsel doesn't support query") {
     //Given
-    import scala.collection.JavaConverters._
+    val result = graph.execute("CYPHER runtime=morsel EXPLAIN MATCH (n)-[*]->(m) RETURN n")
+
+    // When
+    val notifications = result.getNotifications.asScala.toList
+
+    //Then
+    notifications.map(_.getDescription).mkString should include("VarExpand is not supported by the morsel runtime")
+  }
 
+  test("should warn that morsels are experimental") {
+    //Given
     val result = graph.execute("CYPHER runtime=morsel EXPLAIN MATCH (n) RETURN n")
 
     // When (exhaust result)
@@ -70,4 +88,155 @@ class MorselRuntimeAcceptanceTest extends ExecutionEngineFunSuite {
                                                      "your own peril, not recommended to be run on production systems)")
 
   }
+
+  test("should scan all nodes in partitions") {
+    //Given
+    (0 until 100).foreach(i => createNode("id" -> i))
+    graph.execute("MATCH (n) WHERE n.id % 10 = 0 DELETE n").close()
+
+    //When
+    val result = graph.execute("CYPHER runtime=morsel MATCH (n) WHERE n.id > 50 RETURN n.id AS id")
+
+    //Then
+    val ids = result.asScala.map(_.get("id")).toList
+    result.getExecutionPlanDescription.getArguments.get("runtime") should equal("MORSEL")
+    ids.sortBy(_.asInstanceOf[Int]) should equal((51 until 100).filter(_ % 10 != 0).toList)
+  }
+
+  test("should scan nodes by label in partitions") {
+    //Given
+    (0 until 100).foreach(i => if (i % 2 == 0) createLabeledNode(Map("id" -> i), "L") else createNode("id" -> i))
+
+    //When
+    val result = graph.execute("CYPHER runtime=morsel MATCH (n:L) WHERE n.id > 10 RETURN n.id AS id")
+
+    //Then
+    val ids = result.asScala.map(_.get("id")).toList
+    result.getExecutionPlanDescription.getArguments.get("runtime") should equal("MORSEL")
+    ids.sortBy(_.asInstanceOf[Int]) should equal((12 until 100 by 2).toList)
+  }
+
+  test("should scan index in partitions") {
+    //Given
+    (0 until 100).foreach(i => createLabeledNode(Map("id" -> i), "L"))
+    (0 until 10).foreach(_ => createLabeledNode("L"))
+    graph.createIndex("L", "id")
+
+    //When
+    val result = graph.execute("CYPHER runtime=morsel MATCH (n:L) WHERE exists(n.id) RETURN n.id AS id")
+
+    //Then
+    val ids = result.asScala.map(_.get("id")).toList
+    result.getExecutionPlanDescription.getArguments.get("runtime") should equal("MORSEL")
+    result.getExecutionPlanDescription.toString should include("NodeIndexScan")
+    ids.sortBy(_.asInstanceOf[Int]) should equal((0 until 100).toList)
+  }
+
+  test("should aggregate without grouping") {
+    //Given
+    (0 until 100).foreach(i => createNode("id" -> i))
+
+    //When
+    val result = graph.execute("CYPHER runtime=morsel MATCH (n) RETURN count(*) AS c, sum(n.id) AS s, avg(n.id) AS a")
+
+    //Then
+    val rows = result.asScala.toList
+    result.getExecutionPlanDescription.getArguments.get("runtime") should equal("MORSEL")
+    rows.map(_.asScala.toMap) should equal(List(Map("c" -> 100L, "s" -> 4950L, "a" -> 49.5)))
+  }
+
+  test("should aggregate without grouping over no input") {
+    //When
+    val result = graph.execute("CYPHER runtime=morsel MATCH (n:Missing) RETURN count(*) AS c, collect(n) AS l")
+
+    //Then
+    val rows = result.asScala.toList
+    result.getExecutionPlanDescription.getArguments.get("runtime") should equal("MORSEL")
+    rows.map(_.asScala.toMap) should equal(List(Map("c" -> 0L, "l" -> List.empty.asJava)))
+  }
+
+  test("should aggregate with grouping") {
+    //Given
+    (0 until 100).foreach(i => createLabeledNode(Map("id" -> i), "L"))
+
+    //When
+    val result = graph.execute(
+      "CYPHER runtime=morsel MATCH (n:L) RETURN n.id % 3 AS k, count(n) AS c, min(n.id) AS min, max(n.id) AS max, " +
+        "size(collect(n.id)) AS size")
+
+    //Then
+    val rows = result.asScala.map(_.asScala.toMap).toSet
+    result.getExecutionPlanDescription.getArguments.get("runtime") should equal("MORSEL")
+    rows should equal(Set(
+      Map("k" -> 0L, "c" -> 34L, "min" -> 0L, "max" -> 99L, "size" -> 34L),
+      Map("k" -> 1L, "c" -> 33L, "min" -> 1L, "max" -> 97L, "size" -> 33L),
+      Map("k" -> 2L, "c" -> 33L, "min" -> 2L, "max" -> 98L, "size" -> 33L)))
+  }
+
+  test("should seek index") {
+    //Given
+    (0 until 100).foreach(i => createLabeledNode(Map("id" -> i), "L"))
+    graph.createIndex("L", "id")
+
+    //When
+    val result = graph.execute("CYPHER runtime=morsel MATCH (n:L) WHERE n.id IN [3, 42, 101] RETURN n.id AS id")
+
+    //Then
+    val ids = result.asScala.map(_.get("id")).toList
+    result.getExecutionPlanDescription.getArguments.get("runtime") should equal("MORSEL")
+    result.getExecutionPlanDescription.toString should include("NodeIndexSeek")
+    ids.sortBy(_.asInstanceOf[Int]) should equal(List(3, 42))
+  }
+
+  test("should expand into") {
+    //Given
+    (0 until 20).foreach { i =>
+      val a = createLabeledNode(Map("id" -> i), "A")
+      val b = createLabeledNode(Map("id" -> i), "B")
+      relate(a, b)
+      if (i % 2 == 0) relate(a, b)
+    }
+
+    //When
+    val result = graph.execute(
+      "CYPHER runtime=morsel MATCH (a:A)-[r1]->(b:B) MATCH (a)-[r2]->(b) WHERE r1 <> r2 RETURN a.id AS id")
+
+    //Then
+    val ids = result.asScala.map(_.get("id")).toList
+    result.getExecutionPlanDescription.getArguments.get("runtime") should equal("MORSEL")
+    result.getExecutionPlanDescription.toString should include("Expand(Into)")
+    ids.sortBy(_.asInstanceOf[Int]) should equal((0 until 20 by 2).flatMap(i => Seq(i, i)).toList)
+  }
+
+  test("should optionally expand") {
+    //Given
+    (0 until 20).foreach { i =>
+      val a = createLabeledNode(Map("id" -> i), "A")
+      (0 until i % 3).foreach(j => relate(a, createNode("id" -> j)))
+    }
+
+    //When
+    val result = graph.execute(
+      "CYPHER runtime=morsel MATCH (a:A) OPTIONAL MATCH (a)-->(b) WHERE b.id > 0 RETURN a.id AS a, b.id AS b")
+
+    //Then
+    val rows = result.asScala.map(row => (row.get("a"), row.get("b"))).toList
+    result.getExecutionPlanDescription.getArguments.get("runtime") should equal("MORSEL")
+    result.getExecutionPlanDescription.toString should include("OptionalExpand(All)")
+    rows.sortBy(_._1.asInstanceOf[Int]) should equal((0 until 20).map(i => (i, if (i % 3 == 2) 1 else null)).toList)
+  }
+
+  test("should skip and limit") {
+    //Given
+    (0 until 100).foreach(i => createNode("id" -> i))
+
+    //When
+    val result = graph.execute("CYPHER runtime=morsel MATCH (n) RETURN n.id AS id SKIP 10 LIMIT 25")
+
+    //Then
+    val ids = result.asScala.map(_.get("id")).toList
+    result.getExecutionPlanDescription.getArguments.get("runtime") should equal("MORSEL")
+    ids.size should equal(25)
+    ids.distinct.size should equal(25)
+  }
 }
@@ -38,7 +38,7 @@ class NodeIndexScanAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
     graph.createIndex("Person", "name")
 
     // When
-    val result = executeWith(expectedToSucceed,
+    val result = executeWith(expectedToSucceed + Configs.Morsel,
       "MATCH (p:Person) WHERE p.name IS NOT NULL RETURN p",
       planComparisonStrategy = ComparePlansWithAssertion((plan) => {
         //THEN
@@ -56,7 +56,7 @@ class NodeIndexScanAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
     graph.createIndex("Person", "name")
 
     // When
-    val result = executeWith(expectedToSucceed,
+    val result = executeWith(expectedToSucceed + Configs.Morsel,
       "MATCH (p:Person) WHERE exists(p.name) RETURN p",
       planComparisonStrategy = ComparePlansWithAssertion((plan) => {
         //THEN
@@ -84,7 +84,7 @@ class NodeIndexScanAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
     createLabeledNode(Map("id" -> "139dbf46f0dc8a325e27ffd118331ca2947e34f0", "label" -> "z"), "phone_type", "timed")
 
     // When
-    val result = executeWith(expectedToSucceed, "MATCH (n:phone_type:timed) where n.label =~ 'a.' return count(n)",
+    val result = executeWith(expectedToSucceed + Configs.Morsel, "MATCH (n:phone_type:timed) where n.label =~ 'a.' return count(n)",
       planComparisonStrategy = ComparePlansWithAssertion(_ should useOperators("NodeIndexScan"), expectPlansToFail = Configs.AllRulePlanners))
 
     // Then
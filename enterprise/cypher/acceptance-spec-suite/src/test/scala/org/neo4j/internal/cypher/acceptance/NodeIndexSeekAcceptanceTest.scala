@@ -37,7 +37,7 @@ class NodeIndexSeekAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
     createLabeledNode(Map("prop" -> 3), "L")
 
     // When
-    val result = executeWith(Configs.All, "MATCH (n:L) WHERE n.prop = 1 OR n.prop = 2 RETURN n",
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:L) WHERE n.prop = 1 OR n.prop = 2 RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion(_ should useOperatorTimes("NodeIndexSeek", 1), expectPlansToFail = Configs.AllRulePlanners + Configs.Cost2_3))
 
     // Then
@@ -52,7 +52,7 @@ class NodeIndexSeekAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
     createLabeledNode(Map("prop" -> 3), "L")
 
     // When
-    val result = executeWith(Configs.All, "MATCH (n:L) WHERE n.prop = 1 AND n.prop = 2 RETURN n",
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:L) WHERE n.prop = 1 AND n.prop = 2 RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion(_ should useOperatorTimes("NodeIndexSeek", 1), expectPlansToFail = Configs.AllRulePlanners + Configs.Cost2_3))
 
     // Then
@@ -161,7 +161,7 @@ class NodeIndexSeekAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
     setUpDatabaseForTests()
 
     // When
-    val result = executeWith(Configs.All, "MATCH (n:Crew) WHERE n.name = 'Neo' AND n.name = 'Morpheus' RETURN n",
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:Crew) WHERE n.name = 'Neo' AND n.name = 'Morpheus' RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion(_ should useOperators("NodeIndexSeek"), expectPlansToFail = Configs.AllRulePlanners))
 
     // Then
@@ -208,7 +208,7 @@ class NodeIndexSeekAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
     graph.createIndex("L", "l")
     graph.createIndex("R", "r")
 
-    val result = executeWith(Configs.All, "MATCH (l:L {l: 9})-[:REL]->(r:R {r: 23}) RETURN l, r",
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (l:L {l: 9})-[:REL]->(r:R {r: 23}) RETURN l, r",
       planComparisonStrategy = ComparePlansWithAssertion(_ should useOperators("NodeIndexSeek"), expectPlansToFail = Configs.AllRulePlanners))
     result should have size 100
   }
@@ -254,7 +254,7 @@ class NodeIndexSeekAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
         |RETURN m""".stripMargin
 
     // When
-    val result = executeWith(Configs.All - Configs.Compiled, query,
+    val result = executeWith(Configs.All - Configs.Compiled + Configs.Morsel, query,
       planComparisonStrategy = ComparePlansWithAssertion((planDescription) => {
         planDescription.toString() shouldNot include("index")
       }))
@@ -281,7 +281,7 @@ class NodeIndexSeekAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
         |RETURN m""".stripMargin
 
     // When
-    val result = executeWith(Configs.All - Configs.Compiled, query,
+    val result = executeWith(Configs.All - Configs.Compiled + Configs.Morsel, query,
       planComparisonStrategy = ComparePlansWithAssertion((planDescription) => {
         planDescription.toString() shouldNot include("index")
       }))
@@ -336,7 +336,7 @@ class NodeIndexSeekAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
     val node2 = createLabeledNode(Map("prop" -> Array(3,2,1)), "L")
 
     // When
-    val result = executeWith(Configs.All, "MATCH (n:L) WHERE n.prop = [1,2,3] RETURN n",
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:L) WHERE n.prop = [1,2,3] RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion(_ should useOperatorTimes("NodeIndexSeek", 1), expectPlansToFail = Configs.AllRulePlanners + Configs.Cost2_3))
 
     // Then
@@ -350,13 +350,56 @@ class NodeIndexSeekAcceptanceTest extends ExecutionEngineFunSuite with CypherCom
     val node2 = createLabeledNode(Map("prop" -> Array(3,2,1)), "L")
 
     // When
-    val result = executeWith(Configs.All, "MATCH (n:L) WHERE n.prop = [1,2,3] RETURN n",
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:L) WHERE n.prop = [1,2,3] RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion(_ should useOperatorTimes("NodeUniqueIndexSeek", 1), expectPlansToFail = Configs.AllRulePlanners + Configs.Cost2_3))
 
     // Then
     result.toList should equal(List(Map("n" -> node1)))
   }
 
+  test("should return property values of nodes found by index seek") {
+    // Given
+    graph.createIndex("L", "prop")
+    createLabeledNode(Map("prop" -> 1, "other" -> "a"), "L")
+    createLabeledNode(Map("prop" -> 2.5, "other" -> "b"), "L")
+    createLabeledNode(Map("prop" -> 3, "other" -> "c"), "L")
+    for (i <- 10 to 40) createLabeledNode(Map("prop" -> i), "L")
+
+    // When
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:L) WHERE n.prop IN [1, 2.5] RETURN n.prop AS prop, n.other AS other",
+      planComparisonStrategy = ComparePlansWithAssertion(_ should useOperatorTimes("NodeIndexSeek", 1), expectPlansToFail = Configs.AllRulePlanners))
+
+    // Then
+    result.toSet should equal(Set(Map("prop" -> 1, "other" -> "a"), Map("prop" -> 2.5, "other" -> "b")))
+  }
+
+  test("should return property values of nodes found by unique index seek") {
+    // Given
+    graph.createConstraint("L", "prop")
+    createLabeledNode(Map("prop" -> 1), "L")
+    createLabeledNode(Map("prop" -> 2), "L")
+    for (i <- 10 to 40) createLabeledNode(Map("prop" -> i), "L")
+
+    // When
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:L) WHERE n.prop = 2 RETURN n.prop AS prop",
+      planComparisonStrategy = ComparePlansWithAssertion(_ should useOperatorTimes("NodeUniqueIndexSeek", 1), expectPlansToFail = Configs.AllRulePlanners))
+
+    // Then
+    result.toList should equal(List(Map("prop" -> 2)))
+  }
+
+  test("should see property updates of nodes found by index seek") {
+    // Given
+    graph.createIndex("L", "prop")
+    createLabeledNode(Map("prop" -> 1), "L")
+
+    // When
+    val result = executeWith(Configs.CommunityInterpreted - Configs.Cost2_3, "MATCH (n:L) WHERE n.prop = 1 SET n.prop = 2 RETURN n.prop AS prop")
+
+    // Then
+    result.toList should equal(List(Map("prop" -> 2)))
+  }
+
   private def setUpDatabaseForTests() {
     executeWith(Configs.All - Configs.Compiled - Configs.Cost2_3,
       """CREATE (architect:Matrix { name:'The Architect' }),
@@ -320,7 +320,7 @@ class PatternExpressionImplementationAcceptanceTest extends ExecutionEngineFunSu
     createLabeledNode("A")
     relate(node, createNode(), "HAS")
 
-    val result = executeWith(Configs.Interpreted, "MATCH (n:A) WHERE (n)-[:HAS]->() RETURN n")
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n:A) WHERE (n)-[:HAS]->() RETURN n")
 
     val argumentPLan = result.executionPlanDescription().cd("NodeByLabelScan")
     val estimatedRows = argumentPLan.arguments.collect { case n: EstimatedRows => n }.head
@@ -362,21 +362,21 @@ class PatternExpressionImplementationAcceptanceTest extends ExecutionEngineFunSu
   test("use getDegree for simple pattern expression with length clause, outgoing") {
     setup()
 
-    executeWith(Configs.Interpreted, "MATCH (n:X) WHERE LENGTH((n)-->()) > 2 RETURN n",
+    executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n:X) WHERE LENGTH((n)-->()) > 2 RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion(_ shouldNot useOperators("RollUpApply")))
   }
 
   test("use getDegree for simple pattern expression with length clause, incoming") {
     setup()
 
-    executeWith(Configs.Interpreted, "MATCH (n:X) WHERE LENGTH((n)<--()) > 2 RETURN n",
+    executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n:X) WHERE LENGTH((n)<--()) > 2 RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion(_ shouldNot useOperators("RollUpApply")))
   }
 
   test("use getDegree for simple pattern expression with length clause, both") {
     setup()
 
-    executeWith(Configs.Interpreted, "MATCH (n:X) WHERE LENGTH((n)--()) > 2 RETURN n",
+    executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (n:X) WHERE LENGTH((n)--()) > 2 RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion(_ shouldNot useOperators("RollUpApply")))
   }
 
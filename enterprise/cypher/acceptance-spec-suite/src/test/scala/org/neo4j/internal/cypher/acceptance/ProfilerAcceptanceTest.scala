@@ -117,7 +117,7 @@ class ProfilerAcceptanceTest extends ExecutionEngineFunSuite with CreateTempFile
         relate( createLabeledNode("A"), createLabeledNode("B"))
 
         //WHEN
-        val result = profileWithExecute(Configs.All, "match (n:A)-->(x:B) return *")
+        val result = profileWithExecute(Configs.All + Configs.Morsel, "match (n:A)-->(x:B) return *")
 
         //THEN
         assertRows(1)(result)("ProduceResults", "Filter", "Expand(All)", "NodeByLabelScan")
@@ -243,7 +243,7 @@ class ProfilerAcceptanceTest extends ExecutionEngineFunSuite with CreateTempFile
         createNode()
 
         // WHEN
-        val result = profileWithExecute(Configs.Interpreted, "MATCH (n) optional match (n)-->(x) return x")
+        val result = profileWithExecute(Configs.Interpreted + Configs.Morsel, "MATCH (n) optional match (n)-->(x) return x")
 
         // THEN
         assertDbHits(0)(result)("ProduceResults")
@@ -264,7 +264,7 @@ class ProfilerAcceptanceTest extends ExecutionEngineFunSuite with CreateTempFile
         createNode()
         createNode()
         createNode()
-        val result = profileWithExecute(Configs.All, """MATCH (n) RETURN n LIMIT 1""")
+        val result = profileWithExecute(Configs.All + Configs.Morsel, """MATCH (n) RETURN n LIMIT 1""")
 
         // WHEN
         result.toList
@@ -279,31 +279,31 @@ class ProfilerAcceptanceTest extends ExecutionEngineFunSuite with CreateTempFile
 
       test("LIMIT should influence cardinality estimation even when parameterized") {
         (0 until 100).map(i => createLabeledNode("Person"))
-        val result = executeWith(Configs.All, s"PROFILE MATCH (p:Person) RETURN p LIMIT {limit}", params = Map("limit" -> 10))
+        val result = executeWith(Configs.All + Configs.Morsel, s"PROFILE MATCH (p:Person) RETURN p LIMIT {limit}", params = Map("limit" -> 10))
         assertEstimatedRows(GraphStatistics.DEFAULT_LIMIT_CARDINALITY.amount.toInt)(result)("Limit")
       }
 
       test("LIMIT should influence cardinality estimation with literal") {
         (0 until 100).map(i => createLabeledNode("Person"))
-        val result = executeWith(Configs.All, s"PROFILE MATCH (p:Person) RETURN p LIMIT 10")
+        val result = executeWith(Configs.All + Configs.Morsel, s"PROFILE MATCH (p:Person) RETURN p LIMIT 10")
         assertEstimatedRows(10)(result)("Limit")
       }
 
       test("LIMIT should influence cardinality estimation with literal and parameters") {
         (0 until 100).map(i => createLabeledNode("Person"))
-        val result = executeWith(Configs.All, s"PROFILE MATCH (p:Person) WHERE 50 = {fifty} RETURN p LIMIT 10", params = Map("fifty" -> 50))
+        val result = executeWith(Configs.All + Configs.Morsel, s"PROFILE MATCH (p:Person) WHERE 50 = {fifty} RETURN p LIMIT 10", params = Map("fifty" -> 50))
         assertEstimatedRows(10)(result)("Limit")
       }
 
       test("LIMIT should influence cardinality estimation with independent parameterless expression") {
         (0 until 100).map(i => createLabeledNode("Person"))
-        val result = executeWith(Configs.Interpreted, s"PROFILE MATCH (p:Person) with 10 as x, p RETURN p LIMIT toInt(ceil(cos(0))) + 4")
+        val result = executeWith(Configs.Interpreted + Configs.Morsel, s"PROFILE MATCH (p:Person) with 10 as x, p RETURN p LIMIT toInt(ceil(cos(0))) + 4")
         assertEstimatedRows(5)(result)("Limit")
       }
 
       test("LIMIT should influence cardinality estimation by default value when expression contains parameter") {
         (0 until 100).map(i => createLabeledNode("Person"))
-        val result = executeWith(Configs.Interpreted, s"PROFILE MATCH (p:Person) with 10 as x, p RETURN p LIMIT toInt(sin({limit}))", params = Map("limit" -> 1))
+        val result = executeWith(Configs.Interpreted + Configs.Morsel, s"PROFILE MATCH (p:Person) with 10 as x, p RETURN p LIMIT toInt(sin({limit}))", params = Map("limit" -> 1))
         assertEstimatedRows(GraphStatistics.DEFAULT_LIMIT_CARDINALITY.amount.toInt)(result)("Limit")
       }
 
@@ -316,7 +316,7 @@ class ProfilerAcceptanceTest extends ExecutionEngineFunSuite with CreateTempFile
 
       test("LIMIT should influence cardinality estimation by default value when expression contains timestamp()") {
         (0 until 100).map(i => createLabeledNode("Person"))
-        val result = executeWith(Configs.Interpreted, s"PROFILE MATCH (p:Person) with 10 as x, p RETURN p LIMIT timestamp()")
+        val result = executeWith(Configs.Interpreted + Configs.Morsel, s"PROFILE MATCH (p:Person) with 10 as x, p RETURN p LIMIT timestamp()")
         assertEstimatedRows(GraphStatistics.DEFAULT_LIMIT_CARDINALITY.amount.toInt)(result)("Limit")
       }
 
@@ -332,14 +332,14 @@ class ProfilerAcceptanceTest extends ExecutionEngineFunSuite with CreateTempFile
 
       test("should support profiling optional match queries") {
         createLabeledNode(Map("x" -> 1), "Label")
-        val result = profileWithExecute(Configs.Interpreted, "match (a:Label {x: 1}) optional match (a)-[:REL]->(b) return a.x as A, b.x as B").toList.head
+        val result = profileWithExecute(Configs.Interpreted + Configs.Morsel, "match (a:Label {x: 1}) optional match (a)-[:REL]->(b) return a.x as A, b.x as B").toList.head
         result("A") should equal(1)
         result("B") should equal(null.asInstanceOf[Int])
       }
 
       test("should support profiling optional match and with") {
         createLabeledNode(Map("x" -> 1), "Label")
-        val executionResult: InternalExecutionResult = profileWithExecute(Configs.Interpreted, "match (n) optional match (n)--(m) with n, m where m is null return n.x as A")
+        val executionResult: InternalExecutionResult = profileWithExecute(Configs.Interpreted + Configs.Morsel, "match (n) optional match (n)--(m) with n, m where m is null return n.x as A")
         val result = executionResult.toList.head
         result("A") should equal(1)
       }
@@ -382,7 +382,7 @@ class ProfilerAcceptanceTest extends ExecutionEngineFunSuite with CreateTempFile
       }
 
       test("does not use Apply for aggregation and order by") {
-        val a = profileWithExecute(Configs.Interpreted, "match (n) return n, count(*) as c order by c")
+        val a = profileWithExecute(Configs.Interpreted + Configs.Morsel, "match (n) return n, count(*) as c order by c")
 
         a.executionPlanDescription().toString should not include "Apply"
       }
@@ -440,7 +440,7 @@ class ProfilerAcceptanceTest extends ExecutionEngineFunSuite with CreateTempFile
         createLabeledNode("Label1")
 
         // when
-        val result = profileWithExecute(Configs.All, "match (n:Label1) return n")
+        val result = profileWithExecute(Configs.All + Configs.Morsel, "match (n:Label1) return n")
 
         // then
         assertDbHits(2)(result)("NodeByLabelScan")
@@ -523,7 +523,7 @@ class ProfilerAcceptanceTest extends ExecutionEngineFunSuite with CreateTempFile
         graph.createIndex("Glass", "name")
 
         // when
-        val result = profileWithExecute(Configs.All,
+        val result = profileWithExecute(Configs.All + Configs.Morsel,
           "match (n:Glass {name: 'Seymour'})-[:R1]->(o)-[:R2]->(p:Glass) USING INDEX n:Glass(name) return p.name")
 
         // then
@@ -21,6 +21,8 @@ package org.neo4j.internal.cypher.acceptance
 
 import org.neo4j.cypher._
 
+import scala.collection.JavaConverters._
+
 class QueryEngineProceduresAcceptanceTest extends ExecutionEngineFunSuite {
 
   test("Clearing the query caches should work with empty caches") {
@@ -64,4 +66,32 @@ class QueryEngineProceduresAcceptanceTest extends ExecutionEngineFunSuite {
     result2.hasNext should be (false)
 
   }
+
+  test("Listing the cached queries should list the executed queries") {
+    graph.execute("MATCH (n) RETURN n.prop").close()
+    graph.execute("EXPLAIN MATCH (n) RETURN n.prop").close()
+    graph.execute("CYPHER runtime=interpreted MATCH (n) RETURN n").close()
+
+    val result = graph.execute("CALL dbms.listCachedQueries()")
+    val queries = result.asScala.map(_.get("query")).toList
+
+    queries should contain allOf("CYPHER 3.4 MATCH (n) RETURN n.prop", "CYPHER 3.4 runtime=interpreted MATCH (n) RETURN n")
+    queries.count(_ == "CYPHER 3.4 MATCH (n) RETURN n.prop") should equal(1)
+  }
+
+  test("Warming up the query cache should plan the queries in the background") {
+    val query = "MATCH (n) WHERE n.prop = 5 RETURN n"
+    val result = graph.execute("CALL dbms.warmUpQueryCache($queries)", Map[String, AnyRef](
+      "queries" -> List(s"CYPHER 3.4 $query", "not a query").asJava).asJava)
+
+    result.next().toString should equal ("{value=Planning 2 queries in the background.}")
+    result.hasNext should be (false)
+
+    val endTime = System.currentTimeMillis() + 10000
+    def cachedQueries = graph.execute("CALL dbms.listCachedQueries()").asScala.map(_.get("query")).toList
+    while (!cachedQueries.contains(s"CYPHER 3.4 $query") && System.currentTimeMillis() < endTime)
+      Thread.sleep(50)
+
+    cachedQueries should contain(s"CYPHER 3.4 $query")
+  }
 }
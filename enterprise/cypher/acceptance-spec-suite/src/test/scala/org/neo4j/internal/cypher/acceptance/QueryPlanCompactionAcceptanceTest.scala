@@ -825,8 +825,8 @@ class QueryPlanCompactionAcceptanceTest extends ExecutionEngineFunSuite with Que
         || +NodeByLabelScan |              5 | n                                    | :Actor                      |
         |+------------------+----------------+--------------------------------------+-----------------------------+
         |""".stripMargin
-    val ignoreConfiguration = TestConfiguration(V2_3 -> V3_1, Planners.all, Runtimes.all ) + Configs.AllRulePlanners + Configs.SlottedInterpreted
-    executeWith(Configs.All, query, planComparisonStrategy = ComparePlansWithAssertion(_ should matchPlan(expectedPlan), expectPlansToFail = ignoreConfiguration))
+    val ignoreConfiguration = TestConfiguration(V2_3 -> V3_1, Planners.all, Runtimes.all ) + Configs.AllRulePlanners + Configs.SlottedInterpreted + Configs.Morsel
+    executeWith(Configs.All + Configs.Morsel, query, planComparisonStrategy = ComparePlansWithAssertion(_ should matchPlan(expectedPlan), expectPlansToFail = ignoreConfiguration))
   }
 
   test("plans are alike with different anon variable numbers") {
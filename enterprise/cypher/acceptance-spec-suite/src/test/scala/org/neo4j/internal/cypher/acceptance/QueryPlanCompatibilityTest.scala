@@ -28,13 +28,13 @@ class QueryPlanCompatibilityTest extends ExecutionEngineFunSuite with CypherComp
   test("should produce compatible plans for simple MATCH node query") {
     val query = "MATCH (n:Person) RETURN n"
     val expectedPlan = generateExpectedPlan(query)
-    executeWith(Configs.All, query,
+    executeWith(Configs.All + Configs.Morsel, query,
       planComparisonStrategy = ComparePlansWithAssertion(assertSimilarPlans(_, expectedPlan), expectPlansToFail = Configs.AllRulePlanners))
   }
 
   test("should produce compatible plans for simple MATCH relationship query") {
     val query = "MATCH (n:Person)-[r:KNOWS]->(m) RETURN r"
-    executeWith(Configs.All, query)
+    executeWith(Configs.All + Configs.Morsel, query)
   }
 
   test("should produce compatible plans with predicates") {
@@ -44,7 +44,7 @@ class QueryPlanCompatibilityTest extends ExecutionEngineFunSuite with CypherComp
         |RETURN count(n)
       """.stripMargin
     val expectedPlan = generateExpectedPlan(query)
-    executeWith(Configs.Interpreted, query,
+    executeWith(Configs.Interpreted + Configs.Morsel, query,
       planComparisonStrategy = ComparePlansWithAssertion(assertSimilarPlans(_, expectedPlan), expectPlansToFail = Configs.AllRulePlanners))
   }
 
@@ -59,7 +59,7 @@ class StartPointFindingAcceptanceTest extends ExecutionEngineFunSuite with Cyphe
     createLabeledNode("Person")
     val node = createLabeledNode("Person")
 
-    val result = executeWith(Configs.All, s"match (n) where n:Person and ${node.getId} = id(n) return n")
+    val result = executeWith(Configs.All + Configs.Morsel, s"match (n) where n:Person and ${node.getId} = id(n) return n")
     result.columnAs[Node]("n").toList should equal(List(node))
   }
 
@@ -67,7 +67,7 @@ class StartPointFindingAcceptanceTest extends ExecutionEngineFunSuite with Cyphe
     createLabeledNode("Person")
     val node = createLabeledNode("Person")
 
-    val result = executeWith(Configs.All, s"match (n) where ${node.getId} = id(n) and n:Person return n")
+    val result = executeWith(Configs.All + Configs.Morsel, s"match (n) where ${node.getId} = id(n) and n:Person return n")
     result.columnAs[Node]("n").toList should equal(List(node))
   }
 
@@ -128,7 +128,7 @@ class StartPointFindingAcceptanceTest extends ExecutionEngineFunSuite with Cyphe
     graph.createIndex("Person", "prop")
 
     val node = createLabeledNode(Map("prop" -> 42), "Person")
-    val result = executeWith(Configs.All, s"match (n:Person) where n.prop = 42 return n")
+    val result = executeWith(Configs.All + Configs.Morsel, s"match (n:Person) where n.prop = 42 return n")
     result.columnAs[Node]("n").toList should equal(List(node))
   }
 
@@ -137,7 +137,7 @@ class StartPointFindingAcceptanceTest extends ExecutionEngineFunSuite with Cyphe
     graph.createIndex("Person", "prop")
 
     val node = createLabeledNode(Map("prop" -> 42), "Person")
-    val result = executeWith(Configs.All, s"match (n:Person {prop: 42}) return n")
+    val result = executeWith(Configs.All + Configs.Morsel, s"match (n:Person {prop: 42}) return n")
     result.columnAs[Node]("n").toList should equal(List(node))
   }
 
@@ -146,7 +146,7 @@ class StartPointFindingAcceptanceTest extends ExecutionEngineFunSuite with Cyphe
     graph.createConstraint("Person", "prop")
 
     val node = createLabeledNode(Map("prop" -> 42), "Person")
-    val result = executeWith(Configs.All, s"match (n:Person) where n.prop = 42 return n")
+    val result = executeWith(Configs.All + Configs.Morsel, s"match (n:Person) where n.prop = 42 return n")
     result.columnAs[Node]("n").toList should equal(List(node))
   }
 
@@ -155,7 +155,7 @@ class StartPointFindingAcceptanceTest extends ExecutionEngineFunSuite with Cyphe
     graph.createConstraint("Person", "prop")
 
     val node = createLabeledNode(Map("prop" -> 42), "Person")
-    val result = executeWith(Configs.All, s"match (n:Person {prop: 42}) return n")
+    val result = executeWith(Configs.All + Configs.Morsel, s"match (n:Person {prop: 42}) return n")
     result.columnAs[Node]("n").toList should equal(List(node))
   }
 }
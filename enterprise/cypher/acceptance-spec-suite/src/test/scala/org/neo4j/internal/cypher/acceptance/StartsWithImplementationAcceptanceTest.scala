@@ -52,7 +52,7 @@ class StartsWithImplementationAcceptanceTest extends ExecutionEngineFunSuite wit
     createLabeledNode(Map("prop" -> "www123"), "Address")
     createLabeledNode(Map("prop" -> "www"), "Address")
 
-    val result = executeWith(Configs.Interpreted, "MATCH (a:Address) WHERE a.prop STARTS WITH 'www' RETURN a")
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (a:Address) WHERE a.prop STARTS WITH 'www' RETURN a")
 
     result should not(use(IndexSeekByRange.name))
   }
@@ -71,7 +71,7 @@ class StartsWithImplementationAcceptanceTest extends ExecutionEngineFunSuite wit
         drain(graph.execute("MATCH (u:User {name: 'Stefanie'}) SET u.name = 'steffi'"))
       }
 
-      executeWith(Configs.Interpreted, "MATCH (u:User) WHERE u.name STARTS WITH 'Ste' RETURN u.name as name", executeBefore = executeBefore,
+      executeWith(Configs.Interpreted + Configs.Morsel, "MATCH (u:User) WHERE u.name STARTS WITH 'Ste' RETURN u.name as name", executeBefore = executeBefore,
         resultAssertionInTx = Some(result => {
           result.toSet should equal(Set(Map("name" -> "Stefan"),Map("name" -> "Steven")))
         }))
@@ -31,7 +31,7 @@ class UniqueIndexUsageAcceptanceTest extends ExecutionEngineFunSuite with Cypher
     given()
 
     // When
-    val result = executeWith(Configs.All, "MATCH (n:Crew) WHERE n.name = 'Neo' RETURN n",
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:Crew) WHERE n.name = 'Neo' RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion((planDescription) => {
         planDescription.toString should include("NodeUniqueIndexSeek")
       }, expectPlansToFail))
@@ -45,7 +45,7 @@ class UniqueIndexUsageAcceptanceTest extends ExecutionEngineFunSuite with Cypher
     given()
 
     // When
-    val result = executeWith(Configs.All, "MATCH (n:Crew) WHERE n.name = 'Neo' AND n.name = 'Morpheus' RETURN n",
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:Crew) WHERE n.name = 'Neo' AND n.name = 'Morpheus' RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion((planDescription) => {
         planDescription.toString should include("NodeUniqueIndexSeek")
       }, expectPlansToFail))
@@ -59,7 +59,7 @@ class UniqueIndexUsageAcceptanceTest extends ExecutionEngineFunSuite with Cypher
     given()
 
     // When
-    val result = executeWith(Configs.All, "MATCH (n:Matrix:Crew) WHERE n.name = 'Cypher' RETURN n",
+    val result = executeWith(Configs.All + Configs.Morsel, "MATCH (n:Matrix:Crew) WHERE n.name = 'Cypher' RETURN n",
       planComparisonStrategy = ComparePlansWithAssertion((planDescription) => {
         planDescription.toString should include("NodeUniqueIndexSeek")
       }, expectPlansToFail))
@@ -129,7 +129,7 @@ class UniqueIndexUsageAcceptanceTest extends ExecutionEngineFunSuite with Cypher
         |RETURN m""".stripMargin
 
     // When
-    val result = executeWith(Configs.Interpreted, query)
+    val result = executeWith(Configs.Interpreted + Configs.Morsel, query)
 
     // Then
     result.toList should equal(List(
@@ -28,7 +28,7 @@ import org.neo4j.cypher.internal.compatibility.v3_4.runtime.executionplan._
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.phases.CompilationState
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.Pipe
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.SlottedPipeBuilder
-import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.expressions.SlottedExpressionConverters
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.expressions.{SlottedExpressionCompiler, SlottedExpressionConverters}
 import org.neo4j.cypher.internal.compiler.v3_4.CypherCompilerConfiguration
 import org.neo4j.cypher.internal.compiler.v3_4.phases.{CompilationContains, LogicalPlanState}
 import org.neo4j.cypher.internal.compiler.v3_4.planner.CantCompileQueryException
@@ -56,8 +56,12 @@ object BuildSlottedExecutionPlan extends Phase[EnterpriseRuntimeContext, Logical
     val runtimeSuccessRateMonitor = context.monitors.newMonitor[NewRuntimeSuccessRateMonitor]()
     try {
       val (logicalPlan, physicalPlan) = rewritePlan(context, from.logicalPlan)
-      val converters = new ExpressionConverters(SlottedExpressionConverters, CommunityExpressionConverter)
-      val pipeBuilderFactory = EnterprisePipeBuilderFactory(physicalPlan)
+      val converters =
+        if (context.config.compiledExpressions)
+          new ExpressionConverters(SlottedExpressionCompiler, SlottedExpressionConverters, CommunityExpressionConverter)
+        else
+          new ExpressionConverters(SlottedExpressionConverters, CommunityExpressionConverter)
+      val pipeBuilderFactory = EnterprisePipeBuilderFactory(physicalPlan, context.spillMemoryBudget)
       val executionPlanBuilder = new PipeExecutionPlanBuilder(context.clock, context.monitors,
                                                               expressionConverters = converters,
                                                               pipeBuilderFactory = pipeBuilderFactory)
@@ -112,7 +116,7 @@ object BuildSlottedExecutionPlan extends Phase[EnterpriseRuntimeContext, Logical
       BuildInterpretedExecutionPlan.checkForNotifications(pipe, planContext, config)
   }
 
-  case class EnterprisePipeBuilderFactory(physicalPlan: PhysicalPlan)
+  case class EnterprisePipeBuilderFactory(physicalPlan: PhysicalPlan, spillMemoryBudget: Long)
     extends PipeBuilderFactory {
     def apply(monitors: Monitors, recurse: LogicalPlan => Pipe, readOnly: Boolean,
               expressionConverters: ExpressionConverters)
@@ -122,7 +126,8 @@ object BuildSlottedExecutionPlan extends Phase[EnterpriseRuntimeContext, Logical
 
       val fallback = CommunityPipeBuilder(monitors, recurse, readOnly, expressionConverters, expressionToExpression)
 
-      new SlottedPipeBuilder(fallback, expressionConverters, monitors, physicalPlan, readOnly, expressionToExpression)
+      new SlottedPipeBuilder(fallback, expressionConverters, monitors, physicalPlan, readOnly, expressionToExpression,
+                             spillMemoryBudget)
     }
   }
 
@@ -31,7 +31,7 @@ import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.expressions.
 import org.neo4j.cypher.internal.compiler.v3_4.phases.LogicalPlanState
 import org.neo4j.cypher.internal.compiler.v3_4.planner.CantCompileQueryException
 import org.neo4j.cypher.internal.frontend.v3_4.PlannerName
-import org.neo4j.cypher.internal.frontend.v3_4.notification.{ExperimentalFeatureNotification, InternalNotification}
+import org.neo4j.cypher.internal.frontend.v3_4.notification.{ExperimentalFeatureNotification, InternalNotification, RuntimeFallbackNotification}
 import org.neo4j.cypher.internal.frontend.v3_4.phases.CompilationPhaseTracer.CompilationPhase
 import org.neo4j.cypher.internal.frontend.v3_4.phases.{CompilationPhaseTracer, Condition, InternalNotificationLogger, Phase}
 import org.neo4j.cypher.internal.planner.v3_4.spi.{GraphStatistics, PlanContext}
@@ -75,6 +75,7 @@ object BuildVectorizedExecutionPlan extends Phase[EnterpriseRuntimeContext, Logi
     } catch {
       case e: CantCompileQueryException =>
         runtimeSuccessRateMonitor.unableToHandlePlan(from.logicalPlan, e)
+        context.notificationLogger.log(RuntimeFallbackNotification("MORSEL", e.getMessage))
         new CompilationState(from, None)
     }
   }
@@ -134,8 +135,13 @@ class VectorizedOperatorExecutionResult(operators: Pipeline,
                                         dispatcher: Dispatcher) extends StandardInternalExecutionResult(queryContext, ProcedureRuntimeName, Some(taskCloser)) with IterateByAccepting {
 
 
-  override def accept[E <: Exception](visitor: QueryResultVisitor[E]): Unit =
-    dispatcher.execute(operators, queryContext, params, taskCloser)(visitor)
+  override def accept[E <: Exception](visitor: QueryResultVisitor[E]): Unit = {
+    // The parallel workers run in transactions of their own, which cannot see what this transaction has changed
+    val executor =
+      if (queryContext.transactionalContext.hasTxStateWithChanges) new SingleThreadedExecutor()
+      else dispatcher
+    executor.execute(operators, queryContext, params, taskCloser)(visitor)
+  }
 
   override def queryStatistics(): runtime.QueryStatistics = queryContext.getOptStatistics.getOrElse(QueryStatistics())
 
@@ -50,6 +50,7 @@ class EnterpriseCompatibilityFactory(inner: CompatibilityFactory, graph: GraphDa
         val settings = graph.getDependencyResolver.resolveDependency(classOf[Config])
         val morselSize: Int = settings.get(GraphDatabaseSettings.cypher_morsel_size)
         val workers: Int = settings.get(GraphDatabaseSettings.cypher_worker_count)
+        val spillMemoryBudget: Long = settings.get(GraphDatabaseSettings.cypher_spill_memory_budget)
         val dispatcher =
           if (workers == 1) new SingleThreadedExecutor(morselSize)
           else {
@@ -61,6 +62,6 @@ class EnterpriseCompatibilityFactory(inner: CompatibilityFactory, graph: GraphDa
           }
         CostCompatibility(config, CompilerEngineDelegator.CLOCK, kernelMonitors, logProvider.getLog(getClass),
                           spec.planner, spec.runtime, spec.updateStrategy, EnterpriseRuntimeBuilder,
-                          EnterpriseRuntimeContextCreator(GeneratedQueryStructure, dispatcher))
+                          EnterpriseRuntimeContextCreator(GeneratedQueryStructure, dispatcher, spillMemoryBudget))
     }
 }
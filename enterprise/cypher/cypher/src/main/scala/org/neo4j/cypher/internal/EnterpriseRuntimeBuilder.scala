@@ -20,7 +20,7 @@
 package org.neo4j.cypher.internal
 
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime._
-import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.{BuildCompiledExecutionPlan, EnterpriseRuntimeContext}
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.{BuildCompiledExecutionPlan, EnterpriseRuntimeContext, FallbackExecutionPlan}
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.phases.CompilationState
 import org.neo4j.cypher.internal.compiler.v3_4.phases.LogicalPlanState
 import org.neo4j.cypher.internal.frontend.v3_4.notification.RuntimeUnsupportedNotification
@@ -36,11 +36,25 @@ object EnterpriseRuntimeBuilder extends RuntimeBuilder[Transformer[EnterpriseRun
           BuildInterpretedExecutionPlan
         }
 
+    // Remembers why the preferred runtime gave up, on whatever plan the fallback runtime builds
+    def reportingFallback(fallback: Transformer[EnterpriseRuntimeContext, LogicalPlanState, CompilationState]) =
+      Do[EnterpriseRuntimeContext, LogicalPlanState, CompilationState]((from, context) => {
+        val state = fallback.transform(from, context)
+        val maybeFallback = from match {
+          case compilation: CompilationState => compilation.maybeRuntimeFallback
+          case _ => None
+        }
+        maybeFallback match {
+          case Some(reason) => state.withMaybeExecutionPlan(state.maybeExecutionPlan.map(new FallbackExecutionPlan(_, reason)))
+          case None => state
+        }
+      })
+
     runtimeName match {
       case None =>
         BuildCompiledExecutionPlan andThen
           If[EnterpriseRuntimeContext, LogicalPlanState, CompilationState](_.maybeExecutionPlan.isEmpty) {
-            pickInterpretedExecutionPlan()
+            reportingFallback(pickInterpretedExecutionPlan())
           }
 
       case Some(InterpretedRuntimeName) =>
@@ -53,10 +67,10 @@ object EnterpriseRuntimeBuilder extends RuntimeBuilder[Transformer[EnterpriseRun
           )
 
       case Some(MorselRuntimeName) =>
+        // BuildVectorizedExecutionPlan has already logged why the query could not be run with morsels
         BuildVectorizedExecutionPlan andThen
           If[EnterpriseRuntimeContext, LogicalPlanState, CompilationState](_.maybeExecutionPlan.isEmpty)(
-            Do((_: EnterpriseRuntimeContext).notificationLogger.log(RuntimeUnsupportedNotification)) andThen
-              pickInterpretedExecutionPlan()
+            pickInterpretedExecutionPlan()
           )
 
       case Some(SlottedRuntimeName) if useErrorsOverWarnings =>
@@ -82,7 +96,7 @@ object EnterpriseRuntimeBuilder extends RuntimeBuilder[Transformer[EnterpriseRun
         BuildCompiledExecutionPlan andThen
           If[EnterpriseRuntimeContext, LogicalPlanState, CompilationState](_.maybeExecutionPlan.isEmpty)(
             Do((_: EnterpriseRuntimeContext).notificationLogger.log(RuntimeUnsupportedNotification)) andThen
-              pickInterpretedExecutionPlan()
+              reportingFallback(pickInterpretedExecutionPlan())
           )
 
       case Some(x) =>
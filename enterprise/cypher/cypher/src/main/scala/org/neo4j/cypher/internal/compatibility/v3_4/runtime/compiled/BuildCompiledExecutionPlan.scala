@@ -59,7 +59,7 @@ object BuildCompiledExecutionPlan extends Phase[EnterpriseRuntimeContext, Logica
     } catch {
       case e: CantCompileQueryException =>
         runtimeSuccessRateMonitor.unableToHandlePlan(from.logicalPlan, e)
-        new CompilationState(from, None)
+        new CompilationState(from, None, Some(RuntimeFallback(CompiledRuntimeName, e.getMessage)))
     }
   }
 
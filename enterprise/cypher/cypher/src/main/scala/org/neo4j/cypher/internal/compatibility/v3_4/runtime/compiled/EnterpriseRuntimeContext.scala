@@ -43,12 +43,14 @@ class EnterpriseRuntimeContext(override val exceptionCreator: (String, InputPosi
                                override val debugOptions: Set[String],
                                override val clock: Clock,
                                val codeStructure: CodeStructure[GeneratedQuery],
-                               val dispatcher: Dispatcher)
+                               val dispatcher: Dispatcher,
+                               val spillMemoryBudget: Long)
   extends CommunityRuntimeContext(exceptionCreator, tracer,
                                   notificationLogger, planContext, monitors, metrics,
                                   config, queryGraphSolver, updateStrategy, debugOptions, clock)
 
-case class EnterpriseRuntimeContextCreator(codeStructure: CodeStructure[GeneratedQuery], dispatcher: Dispatcher) extends ContextCreator[EnterpriseRuntimeContext] {
+case class EnterpriseRuntimeContextCreator(codeStructure: CodeStructure[GeneratedQuery], dispatcher: Dispatcher,
+                                           spillMemoryBudget: Long) extends ContextCreator[EnterpriseRuntimeContext] {
 
   override def create(tracer: CompilationPhaseTracer,
                       notificationLogger: InternalNotificationLogger,
@@ -71,6 +73,7 @@ case class EnterpriseRuntimeContextCreator(codeStructure: CodeStructure[Generate
       metricsFactory.newMetrics(planContext.statistics, evaluator)
 
     new EnterpriseRuntimeContext(exceptionCreator, tracer, notificationLogger, planContext,
-                                monitors, metrics, config, queryGraphSolver, updateStrategy, debugOptions, clock, codeStructure, dispatcher)
+                                monitors, metrics, config, queryGraphSolver, updateStrategy, debugOptions, clock, codeStructure, dispatcher,
+                                 spillMemoryBudget)
   }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.RuntimeName
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.executionplan.{ExecutionPlan, RuntimeFallback}
+import org.neo4j.cypher.internal.frontend.v3_4.PlannerName
+import org.neo4j.cypher.internal.frontend.v3_4.notification.InternalNotification
+import org.neo4j.cypher.internal.planner.v3_4.spi.{GraphStatistics, PlanContext}
+import org.neo4j.cypher.internal.runtime.{ExecutionMode, InternalExecutionResult, QueryContext}
+import org.neo4j.cypher.internal.v3_4.logical.plans.IndexUsage
+import org.neo4j.values.virtual.MapValue
+
+/**
+  * An execution plan built by a fallback runtime, which remembers why the preferred runtime could not be used.
+  */
+class FallbackExecutionPlan(inner: ExecutionPlan, fallback: RuntimeFallback) extends ExecutionPlan {
+
+  override def run(queryContext: QueryContext, planType: ExecutionMode, params: MapValue): InternalExecutionResult =
+    inner.run(queryContext, planType, params)
+
+  override def isPeriodicCommit: Boolean = inner.isPeriodicCommit
+
+  override def plannerUsed: PlannerName = inner.plannerUsed
+
+  override def isStale(lastTxId: () => Long, statistics: GraphStatistics): Boolean = inner.isStale(lastTxId, statistics)
+
+  override def runtimeUsed: RuntimeName = inner.runtimeUsed
+
+  override def notifications(planContext: PlanContext): Seq[InternalNotification] = inner.notifications(planContext)
+
+  override def plannedIndexUsage: Seq[IndexUsage] = inner.plannedIndexUsage
+
+  override def runtimeFallback: Option[RuntimeFallback] = Some(fallback)
+}
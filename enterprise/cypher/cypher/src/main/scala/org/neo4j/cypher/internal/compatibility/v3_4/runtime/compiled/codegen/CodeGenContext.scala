@@ -36,6 +36,7 @@ class CodeGenContext(val semanticTable: SemanticTable,
   private val projectedVariables: mutable.Map[String, Variable] = mutable.Map.empty
   private val probeTables: mutable.Map[CodeGenPlan, JoinData] = mutable.Map()
   private val parents: mutable.Stack[CodeGenPlan] = mutable.Stack()
+  private val cachedProperties: mutable.Map[(Variable, String), (String, Int)] = mutable.Map.empty
   val operatorIds: mutable.Map[LogicalPlanId, String] = mutable.Map()
 
   def addVariable(queryVariable: String, variable: Variable) {
@@ -74,6 +75,15 @@ class CodeGenContext(val semanticTable: SemanticTable,
 
   def getProjectedVariables: Map[String, Variable] = projectedVariables.toMap
 
+  // Properties of a node that the index seek producing it can hand out, as the iterator variable of the seek and the
+  // offset of the property in the index
+  def addCachedProperty(variable: Variable, propName: String, iterVar: String, offset: Int) {
+    cachedProperties.put((variable, propName), (iterVar, offset))
+  }
+
+  def getCachedProperty(variable: Variable, propName: String): Option[(String, Int)] =
+    cachedProperties.get((variable, propName))
+
   def addProbeTable(plan: CodeGenPlan, codeThunk: JoinData) {
     probeTables.put(plan, codeThunk)
   }
@@ -55,7 +55,7 @@ class CodeGenerator(val structure: CodeStructure[GeneratedQuery], clock: Clock,
           generateQuery(plan, semanticTable, res.columns, conf)
         } catch {
           case e: CantCompileQueryException => throw e
-          case e: Exception => throw new CantCompileQueryException(cause = e)
+          case e: Exception => throw new CantCompileQueryException(s"Code generation failed: $e", e)
         }
 
         val fp = planContext.statistics match {
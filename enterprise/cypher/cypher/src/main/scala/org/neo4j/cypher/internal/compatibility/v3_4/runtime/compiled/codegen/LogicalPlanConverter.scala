@@ -30,7 +30,7 @@ import org.neo4j.cypher.internal.ir.v3_4.IdName
 import org.neo4j.cypher.internal.util.v3_4.Eagerly.immutableMapValues
 import org.neo4j.cypher.internal.util.v3_4.Foldable._
 import org.neo4j.cypher.internal.util.v3_4.{InternalException, One, ZeroOneOrMany, symbols}
-import org.neo4j.cypher.internal.v3_4.expressions.{Expression, FunctionInvocation}
+import org.neo4j.cypher.internal.v3_4.expressions.{Expression, FunctionInvocation, SemanticDirection}
 import org.neo4j.cypher.internal.v3_4.logical.plans
 import org.neo4j.cypher.internal.v3_4.logical.plans.ColumnOrder
 import org.neo4j.cypher.internal.v3_4.{expressions => ast, functions => ast_functions}
@@ -45,32 +45,43 @@ object LogicalPlanConverter {
     case p: plans.NodeByIdSeek => nodeByIdSeekAsCodeGenPlan(p)
     case p: plans.NodeUniqueIndexSeek => nodeUniqueIndexSeekAsCodeGen(p)
     case p: plans.Expand => expandAsCodeGenPlan(p)
+    case p: plans.OptionalExpand => optionalExpandAsCodeGenPlan(p)
+    case p: plans.VarExpand => varExpandAsCodeGenPlan(p)
+    case p: plans.PruningVarExpand => pruningVarExpandAsCodeGenPlan(p)
     case p: plans.NodeHashJoin => nodeHashJoinAsCodeGenPlan(p)
     case p: plans.CartesianProduct if p.findByAllClass[plans.NodeHashJoin].nonEmpty =>
-      throw new CantCompileQueryException(s"This logicalPlan is not yet supported: $logicalPlan")
+      throw new CantCompileQueryException(s"Not able to combine ${nameOf(p)} and NodeHashJoin")
     case p: plans.CartesianProduct => cartesianProductAsCodeGenPlan(p)
+    case p: plans.Apply => applyAsCodeGenPlan(p)
+    case p: plans.SemiApply => semiApplyAsCodeGenPlan(p, p.left, p.right, negated = false)
+    case p: plans.AntiSemiApply => semiApplyAsCodeGenPlan(p, p.left, p.right, negated = true)
     case p: plans.Selection => selectionAsCodeGenPlan(p)
-    case p: plans.Top if hasStandaloneLimit(p) => throw new CantCompileQueryException(s"Not able to combine LIMIT and $p")
+    case p: plans.Top if hasStandaloneLimit(p) => throw new CantCompileQueryException(s"Not able to combine LIMIT and ${nameOf(p)}")
     case p: plans.Top => topAsCodeGenPlan(p)
     case p: plans.Limit => limitAsCodeGenPlan(p)
     case p: plans.Skip => skipAsCodeGenPlan(p)
     case p: plans.ProduceResult => produceResultsAsCodeGenPlan(p)
     case p: plans.Projection => projectionAsCodeGenPlan(p)
-    case p: plans.Aggregation if hasLimit(p) || hasMultipleAggregations(p) =>
-      throw new CantCompileQueryException(s"Not able to combine aggregation with $p")
+    case p: plans.Aggregation if hasLimit(p) =>
+      throw new CantCompileQueryException(s"Not able to combine ${nameOf(p)} and LIMIT")
+    case p: plans.Aggregation if hasMultipleAggregations(p) =>
+      throw new CantCompileQueryException(s"Not able to combine several count aggregations in one ${nameOf(p)}")
     case p: plans.Aggregation => aggregationAsCodeGenPlan(p)
-    case p: plans.Distinct if hasStandaloneLimit(p) => throw new CantCompileQueryException(s"Not able to combine LIMIT and $p")
+    case p: plans.Distinct if hasStandaloneLimit(p) => throw new CantCompileQueryException(s"Not able to combine LIMIT and ${nameOf(p)}")
     case p: plans.Distinct => distinctAsCodeGenPlan(p)
     case p: plans.NodeCountFromCountStore => nodeCountFromCountStore(p)
     case p: plans.RelationshipCountFromCountStore => relCountFromCountStore(p)
     case p: plans.UnwindCollection => unwindAsCodeGenPlan(p)
-    case p: plans.Sort if hasStandaloneLimit(p) => throw new CantCompileQueryException(s"Not able to combine LIMIT and $p")
+    case p: plans.Sort if hasStandaloneLimit(p) => throw new CantCompileQueryException(s"Not able to combine LIMIT and ${nameOf(p)}")
     case p: plans.Sort => sortAsCodeGenPlan(p)
 
-    case _ =>
-      throw new CantCompileQueryException(s"This logicalPlan is not yet supported: $logicalPlan")
+    case p =>
+      throw new CantCompileQueryException(s"${nameOf(p)} is not supported by the compiled runtime")
   }
 
+  // The plan name rather than the whole plan tree, as this ends up in fallback reasons shown to users
+  private def nameOf(plan: plans.LogicalPlan) = plan.getClass.getSimpleName
+
   private def argumentAsCodeGenPlan(argument: plans.Argument) = new CodeGenPlan with LeafCodeGenPlan {
     override def produce(context: CodeGenContext): (Option[JoinTableMethod], List[Instruction]) = {
       val (methodHandle, actions) = context.popParent().consume(context, this)
@@ -178,7 +189,8 @@ object LogicalPlanConverter {
 
   // Used by both nodeIndexSeekAsCodeGenPlan and nodeUniqueIndexSeekAsCodeGenPlan
   private def sharedIndexSeekAsCodeGenPlan(indexSeekFun: IndexSeekFun)
-                                          (idName: String, valueExpr: plans.QueryExpression[Expression],
+                                          (idName: String, labelName: String, propertyKeys: Seq[ast.PropertyKeyToken],
+                                           valueExpr: plans.QueryExpression[Expression],
                                            indexSeek: plans.LogicalPlan) =
     new CodeGenPlan with LeafCodeGenPlan {
       override val logicalPlan: plans.LogicalPlan = indexSeek
@@ -186,6 +198,11 @@ object LogicalPlanConverter {
       override def produce(context: CodeGenContext): (Option[JoinTableMethod], List[Instruction]) = {
         val nodeVar = Variable(context.namer.newVarName(), CodeGenType.primitiveNode)
         context.addVariable(idName, nodeVar)
+        // Must be registered before consuming, so that the parent plans can read the properties from the index
+        propertyKeys.zipWithIndex.foreach {
+          case (propertyKey, offset) =>
+            context.addCachedProperty(nodeVar, propertyKey.name, WhileLoop.iteratorName(nodeVar), offset)
+        }
 
         val (methodHandle, actions :: tl) = context.popParent().consume(context, this)
         val opName = context.registerOperator(logicalPlan)
@@ -214,10 +231,26 @@ object LogicalPlanConverter {
 
           //collection used in composite index search, pass entire collection to index seek
           case plans.CompositeQueryExpression(e: ast.ListLiteral) =>
-            throw new CantCompileQueryException(s"To be done")
+            throw new CantCompileQueryException("Composite index seeks are not supported by the compiled runtime")
+
+          //inequality range, seek the index for all values between the bounds
+          case plans.RangeQueryExpression(plans.InequalitySeekRangeWrapper(range)) =>
+            def boundExpression(bounds: plans.Bounds[Expression]) = bounds.tailOption match {
+              case None => (createExpression(bounds.head.endPoint)(context), bounds.head.isInclusive)
+              case Some(_) => throw new CantCompileQueryException(
+                "Index range seeks with several bounds on one side are not supported by the compiled runtime")
+            }
+            val (lowerBound, upperBound) = range match {
+              case plans.RangeGreaterThan(greaterThan) => (Some(boundExpression(greaterThan)), None)
+              case plans.RangeLessThan(lessThan) => (None, Some(boundExpression(lessThan)))
+              case plans.RangeBetween(plans.RangeGreaterThan(greaterThan), plans.RangeLessThan(lessThan)) =>
+                (Some(boundExpression(greaterThan)), Some(boundExpression(lessThan)))
+            }
+            WhileLoop(nodeVar, IndexRangeSeek(opName, labelName, propertyKeys.head.name, context.namer.newVarName(),
+                                              lowerBound, upperBound), actions)
 
-          case e: plans.RangeQueryExpression[_] =>
-            throw new CantCompileQueryException(s"To be done")
+          case plans.RangeQueryExpression(_: plans.PrefixSeekRangeWrapper) =>
+            throw new CantCompileQueryException("Index seeks by string prefix are not supported by the compiled runtime")
 
           case e => throw new CantCompileQueryException(s"$e is not a valid QueryExpression")
         }
@@ -266,7 +299,8 @@ object LogicalPlanConverter {
       WhileLoop(nodeVar, IndexSeek(opName, indexSeek.label.name, indexSeek.propertyKeys.map(_.name),
                                    descriptorVar, expression), actions)
 
-    sharedIndexSeekAsCodeGenPlan(indexSeekFun)(indexSeek.idName.name, indexSeek.valueExpr, indexSeek)
+    sharedIndexSeekAsCodeGenPlan(indexSeekFun)(indexSeek.idName.name, indexSeek.label.name, indexSeek.propertyKeys,
+                                               indexSeek.valueExpr, indexSeek)
   }
 
   private def nodeUniqueIndexSeekAsCodeGen(indexSeek: plans.NodeUniqueIndexSeek) = {
@@ -275,7 +309,8 @@ object LogicalPlanConverter {
       WhileLoop(nodeVar, IndexSeek(opName, indexSeek.label.name, indexSeek.propertyKeys.map(_.name),
                                    descriptorVar, expression), actions)
 
-    sharedIndexSeekAsCodeGenPlan(indexSeekFun)(indexSeek.idName.name, indexSeek.valueExpr, indexSeek)
+    sharedIndexSeekAsCodeGenPlan(indexSeekFun)(indexSeek.idName.name, indexSeek.label.name, indexSeek.propertyKeys,
+                                               indexSeek.valueExpr, indexSeek)
   }
 
   private def nodeHashJoinAsCodeGenPlan(nodeHashJoin: plans.NodeHashJoin) = new CodeGenPlan {
@@ -295,7 +330,7 @@ object LogicalPlanConverter {
 
     override def consume(context: CodeGenContext, child: CodeGenPlan) = {
       if (child.logicalPlan eq logicalPlan.lhs.get) {
-        val joinNodes = nodeHashJoin.nodes.map(n => context.getVariable(n.name))
+        val joinNodes = nodeHashJoin.nodes.map(n => nonNullableNode(context, nodeHashJoin, n))
         val probeTableName = context.namer.newVarName()
 
         val lhsSymbols = nodeHashJoin.left.availableSymbols.map(_.name)
@@ -343,7 +378,7 @@ object LogicalPlanConverter {
     private def expandAllConsume(context: CodeGenContext,
                                  child: CodeGenPlan): (Option[JoinTableMethod], List[Instruction]) = {
       val relVar = Variable(context.namer.newVarName(), CodeGenType.primitiveRel)
-      val fromNodeVar = context.getVariable(expand.from.name)
+      val fromNodeVar = nonNullableNode(context, expand, expand.from)
       val toNodeVar = Variable(context.namer.newVarName(), CodeGenType.primitiveNode)
       context.addVariable(expand.relName.name, relVar)
       context.addVariable(expand.to.name, toNodeVar)
@@ -361,8 +396,8 @@ object LogicalPlanConverter {
                                   child: CodeGenPlan): (Option[JoinTableMethod], List[Instruction]) = {
       val relVar = Variable(context.namer.newVarName(), CodeGenType.primitiveRel)
       context.addVariable(expand.relName.name, relVar)
-      val fromNodeVar = context.getVariable(expand.from.name)
-      val toNodeVar = context.getVariable(expand.to.name)
+      val fromNodeVar = nonNullableNode(context, expand, expand.from)
+      val toNodeVar = nonNullableNode(context, expand, expand.to)
 
       val (methodHandle, action :: tl) = context.popParent().consume(context, this)
       val typeVar2TypeName = expand.types.map(t => context.namer.newVarName() -> t.name).toMap
@@ -374,6 +409,118 @@ object LogicalPlanConverter {
     }
   }
 
+  // Nodes from an OPTIONAL MATCH can be null, which the operators that use nodes to look up relationships or to join
+  // rows do not handle
+  private def nonNullableNode(context: CodeGenContext, plan: plans.LogicalPlan, node: IdName): Variable = {
+    val variable = context.getVariable(node.name)
+    if (variable.nullable)
+      throw new CantCompileQueryException(s"Not able to combine ${nameOf(plan)} with a node that can be null")
+    variable
+  }
+
+  // A single primitive grouping key is kept in a primitive long collection, which cannot hold the id used for null
+  private def checkNullableGroupingKey(plan: plans.LogicalPlan, groupingVariables: Map[String, CodeGenExpression])
+                                      (implicit context: CodeGenContext): Unit =
+    if (groupingVariables.size == 1 && groupingVariables.values.exists(e => e.nullable && e.codeGenType.repr == LongType))
+      throw new CantCompileQueryException(s"Not able to combine ${nameOf(plan)} with a grouping key that can be null")
+
+  private def optionalExpandAsCodeGenPlan(optionalExpand: plans.OptionalExpand) = new CodeGenPlan with SingleChildPlan {
+
+    override val logicalPlan: plans.LogicalPlan = optionalExpand
+
+    override def consume(context: CodeGenContext,
+                         child: CodeGenPlan): (Option[JoinTableMethod], List[Instruction]) = {
+      val relVar = Variable(context.namer.newVarName(), CodeGenType.primitiveRel, nullable = true)
+      val fromNodeVar = nonNullableNode(context, optionalExpand, optionalExpand.from)
+      context.addVariable(optionalExpand.relName.name, relVar)
+      val (toNodeVar, nullableVars) = optionalExpand.mode match {
+        case plans.ExpandAll =>
+          val toNodeVar = Variable(context.namer.newVarName(), CodeGenType.primitiveNode, nullable = true)
+          context.addVariable(optionalExpand.to.name, toNodeVar)
+          (toNodeVar, Seq(relVar, toNodeVar))
+        case plans.ExpandInto =>
+          (nonNullableNode(context, optionalExpand, optionalExpand.to), Seq(relVar))
+      }
+      val predicates = optionalExpand.predicates.map(ExpressionConverter.createPredicate(_)(context))
+
+      val (methodHandle, action :: tl) = context.popParent().consume(context, this)
+      val typeVar2TypeName = optionalExpand.types.map(t => context.namer.newVarName() -> t.name).toMap
+      val opName = context.registerOperator(optionalExpand)
+      val expandGenerator = optionalExpand.mode match {
+        case plans.ExpandAll =>
+          ExpandAllLoopDataGenerator(opName, fromNodeVar, optionalExpand.dir, typeVar2TypeName, toNodeVar, relVar)
+        case plans.ExpandInto =>
+          ExpandIntoLoopDataGenerator(opName, fromNodeVar, optionalExpand.dir, typeVar2TypeName, toNodeVar, relVar)
+      }
+
+      // The action runs for every matching relationship, or once with nulls if there were none
+      val yieldedFlag = context.namer.newVarName()
+      val checkAndAction = predicates.reverse.foldLeft[Instruction](CheckingInstruction(action, yieldedFlag)) {
+        case (acc, predicate) => If(predicate, acc)
+      }
+      val loop = WhileLoop(relVar, expandGenerator, checkAndAction)
+
+      (methodHandle, NullingInstruction(loop, yieldedFlag, action, nullableVars: _*) :: tl)
+    }
+  }
+
+  private def varExpandAsCodeGenPlan(varExpand: plans.VarExpand) = new CodeGenPlan with SingleChildPlan {
+
+    override val logicalPlan: plans.LogicalPlan = varExpand
+
+    override def consume(context: CodeGenContext,
+                         child: CodeGenPlan): (Option[JoinTableMethod], List[Instruction]) = {
+      varExpand match {
+        case plans.VarExpand(_, _, _, _, _, _, _, _, plans.ExpandAll, _, _, _: ast.True, _: ast.True, Seq()) =>
+        case plans.VarExpand(_, _, _, _, _, _, _, _, plans.ExpandInto, _, _, _, _, _) =>
+          throw new CantCompileQueryException(s"Not able to combine ${nameOf(varExpand)} with a bound end node")
+        case _ =>
+          throw new CantCompileQueryException(s"Not able to combine ${nameOf(varExpand)} with predicates on the path")
+      }
+      // Relationships are listed in the order of the pattern, which is not necessarily the order of traversal
+      val reversePaths =
+        if (varExpand.dir == SemanticDirection.BOTH) varExpand.projectedDir == SemanticDirection.INCOMING
+        else varExpand.dir != varExpand.projectedDir
+      varLengthExpand(context, this, varExpand.from, varExpand.dir, varExpand.types, varExpand.to,
+                      Some(varExpand.relName), varExpand.length.min, varExpand.length.max, reversePaths)
+    }
+  }
+
+  // Only distinct end nodes are needed, so the paths are expanded as for a var length expand of the same length
+  private def pruningVarExpandAsCodeGenPlan(varExpand: plans.PruningVarExpand) = new CodeGenPlan with SingleChildPlan {
+
+    override val logicalPlan: plans.LogicalPlan = varExpand
+
+    override def consume(context: CodeGenContext,
+                         child: CodeGenPlan): (Option[JoinTableMethod], List[Instruction]) = {
+      if (varExpand.predicates.nonEmpty)
+        throw new CantCompileQueryException(s"Not able to combine ${nameOf(varExpand)} with predicates on the path")
+      varLengthExpand(context, this, varExpand.from, varExpand.dir, varExpand.types, varExpand.to, None,
+                      varExpand.minLength, Some(varExpand.maxLength), reversePaths = false)
+    }
+  }
+
+  private def varLengthExpand(context: CodeGenContext, plan: CodeGenPlan, from: IdName, dir: SemanticDirection,
+                              types: Seq[ast.RelTypeName], to: IdName, relName: Option[IdName], minLength: Int,
+                              maxLength: Option[Int], reversePaths: Boolean) = {
+    val fromNodeVar = nonNullableNode(context, plan.logicalPlan, from)
+    // The list holds relationship id wrappers, which are only materialized when projected as any values
+    val relsVar = Variable(context.namer.newVarName(),
+                           CypherCodeGenType(symbols.CTList(symbols.CTAny), ListReferenceType(ReferenceType)))
+    val toNodeVar = Variable(context.namer.newVarName(), CodeGenType.primitiveNode)
+    relName.foreach(name => context.addVariable(name.name, relsVar))
+    context.addVariable(to.name, toNodeVar)
+
+    val (methodHandle, action :: tl) = context.popParent().consume(context, plan)
+    val typeVar2TypeName = types.map(t => context.namer.newVarName() -> t.name).toMap
+    val opName = context.registerOperator(plan.logicalPlan)
+    val expandGenerator = VarExpandLoopDataGenerator(opName, fromNodeVar, dir, typeVar2TypeName, minLength, maxLength,
+                                                     reversePaths, toNodeVar, relsVar)
+
+    (methodHandle, WhileLoop(relsVar, expandGenerator, action) :: tl)
+  }
+
+
   private def cartesianProductAsCodeGenPlan(cartesianProduct: plans.CartesianProduct) = new CodeGenPlan {
 
     override val logicalPlan: plans.LogicalPlan = cartesianProduct
@@ -400,6 +547,75 @@ object LogicalPlanConverter {
     }
   }
 
+  // The right hand side of an apply is generated as a loop nested in the loop of the left hand side, so it must
+  // stream its rows without building tables or changing which variables are projected
+  private def checkStreamingRhs(apply: plans.LogicalPlan): Unit = apply.rhs.get.findByAllClass[plans.LogicalPlan].foreach {
+    case _: plans.Argument | _: plans.AllNodesScan | _: plans.NodeByLabelScan | _: plans.NodeIndexSeek |
+         _: plans.NodeUniqueIndexSeek | _: plans.NodeByIdSeek | _: plans.Expand | _: plans.OptionalExpand |
+         _: plans.VarExpand | _: plans.PruningVarExpand | _: plans.Selection | _: plans.CartesianProduct |
+         _: plans.Apply | _: plans.SemiApply | _: plans.AntiSemiApply =>
+    case p =>
+      throw new CantCompileQueryException(s"Not able to combine ${nameOf(apply)} and ${nameOf(p)}")
+  }
+
+  private def applyAsCodeGenPlan(apply: plans.Apply) = new CodeGenPlan {
+
+    override val logicalPlan: plans.LogicalPlan = apply
+
+    override def produce(context: CodeGenContext): (Option[JoinTableMethod], List[Instruction]) = {
+      checkStreamingRhs(apply)
+      context.pushParent(this)
+      asCodeGenPlan(apply.lhs.get).produce(context)
+    }
+
+    override def consume(context: CodeGenContext, child: CodeGenPlan): (Option[JoinTableMethod], List[Instruction]) = {
+      if (child.logicalPlan eq apply.lhs.get) {
+        context.pushParent(this)
+        val (m, actions) = asCodeGenPlan(apply.rhs.get).produce(context)
+        if (actions.isEmpty) throw new InternalException("Illegal call chain")
+        (m, actions)
+      } else if (child.logicalPlan eq apply.rhs.get) {
+        val opName = context.registerOperator(apply)
+        val (m, instruction :: tl) = context.popParent().consume(context, this)
+        (m, ApplyInstruction(opName, instruction) :: tl)
+      }
+      else {
+        throw new InternalException(s"Unexpected consume call by $child")
+      }
+    }
+  }
+
+  private def semiApplyAsCodeGenPlan(semiApply: plans.LogicalPlan, left: plans.LogicalPlan, right: plans.LogicalPlan,
+                                     negated: Boolean) = new CodeGenPlan {
+
+    override val logicalPlan: plans.LogicalPlan = semiApply
+
+    private var yieldedFlag: String = _
+
+    override def produce(context: CodeGenContext): (Option[JoinTableMethod], List[Instruction]) = {
+      checkStreamingRhs(semiApply)
+      context.pushParent(this)
+      asCodeGenPlan(left).produce(context)
+    }
+
+    override def consume(context: CodeGenContext, child: CodeGenPlan): (Option[JoinTableMethod], List[Instruction]) = {
+      if (child.logicalPlan eq left) {
+        val opName = context.registerOperator(semiApply)
+        yieldedFlag = context.namer.newVarName()
+        context.pushParent(this)
+        val (_, rhs :: _) = asCodeGenPlan(right).produce(context)
+        val (m, action :: tl) = context.popParent().consume(context, this)
+        (m, SemiApplyInstruction(opName, yieldedFlag, rhs, action, negated) :: tl)
+      } else if (child.logicalPlan eq right) {
+        // The right hand side only records that it produced a row, the action runs after it is exhausted
+        (None, List(CheckingInstruction(Instruction.empty, yieldedFlag)))
+      }
+      else {
+        throw new InternalException(s"Unexpected consume call by $child")
+      }
+    }
+  }
+
   private def selectionAsCodeGenPlan(selection: plans.Selection) = new CodeGenPlan with SingleChildPlan {
 
     override val logicalPlan: plans.LogicalPlan = selection
@@ -467,6 +683,7 @@ object LogicalPlanConverter {
           context.addProjectedVariable(name, variable)
           variable.name -> expr
       }
+      checkNullableGroupingKey(aggregation, groupingVariables)
 
       // With aggregation we can only retain projected variables that are either grouping variables or aggregation variables.
       // The aggregation variables will be added to the context below by the aggregateExpressionConverter.
@@ -505,6 +722,7 @@ object LogicalPlanConverter {
           context.addProjectedVariable(name, variable)
           variable.name -> expr
       }
+      checkNullableGroupingKey(distinct, groupingVariables)
       // With DISTINCT we can only retain projected variables that are grouping variables.
       // The aggregation variables will be added to the context below by the aggregateExpressionConverter.
       context.retainProjectedVariables(distinct.groupingExpressions.keySet)
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.codegen.ir
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.codegen.CodeGenContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.codegen.spi.MethodStructure
+
+/**
+ * Generates code that runs the right hand side and then runs the action if the right hand side set the provided
+ * flag, or if it did not in the negated (anti semi apply) case
+ */
+case class SemiApplyInstruction(id: String, yieldedFlagVar: String, rhs: Instruction, action: Instruction,
+                                negated: Boolean) extends Instruction {
+
+  override def init[E](generator: MethodStructure[E])(implicit context: CodeGenContext) = super.init(generator)
+
+  override def body[E](generator: MethodStructure[E])(implicit context: CodeGenContext) =
+    generator.trace(id) { body =>
+      body.declareFlag(yieldedFlagVar, initialValue = false)
+      rhs.body(body)
+      val test = body.loadVariable(yieldedFlagVar)
+      val block = (inner: MethodStructure[E]) => {
+        inner.incrementRows()
+        action.body(inner)
+      }
+      if (negated) body.ifNotStatement(test)(block)
+      else body.ifStatement(test)(block)
+    }
+
+  override def children = Seq(rhs, action)
+
+  override protected def operatorId = Set(id)
+}
@@ -25,7 +25,7 @@ import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.codegen.{Co
 case class WhileLoop(variable: Variable, producer: LoopDataGenerator, action: Instruction) extends Instruction {
 
   override def body[E](generator: MethodStructure[E])(implicit context: CodeGenContext) = {
-    val iterator = s"${variable.name}Iter"
+    val iterator = WhileLoop.iteratorName(variable)
     generator.trace(producer.opName) { body =>
       producer.produceIterator(iterator, body)
       body.whileLoop(producer.hasNext(body, iterator)) { loopBody =>
@@ -45,3 +45,7 @@ case class WhileLoop(variable: Variable, producer: LoopDataGenerator, action: In
     producer.init(generator)
   }
 }
+
+object WhileLoop {
+  def iteratorName(variable: Variable): String = s"${variable.name}Iter"
+}
@@ -26,6 +26,7 @@ import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.codegen.spi
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.helpers.LiteralTypeSupport
 import org.neo4j.cypher.internal.compiler.v3_4.planner.CantCompileQueryException
 import org.neo4j.cypher.internal.util.v3_4.symbols._
+import org.neo4j.cypher.internal.v3_4.logical.plans
 import org.neo4j.cypher.internal.v3_4.{expressions => ast}
 
 object ExpressionConverter {
@@ -56,10 +57,13 @@ object ExpressionConverter {
       val nodeVariable = context.getVariable(name)
       HasLabel(nodeVariable, labelIdVariable, label.name).asPredicate
 
-    case exp@ast.Property(node@ast.Variable(name), propKey) if context.semanticTable.isNode(node) =>
+    case exp@ast.Property(node@ast.Variable(name), propKey) if isNode(node) =>
       createExpression(exp).asPredicate
 
-    case exp@ast.Property(node@ast.Variable(name), propKey) if context.semanticTable.isRelationship(node) =>
+    case exp@ast.Property(node@ast.Variable(name), propKey) if isRelationship(node) =>
+      createExpression(exp).asPredicate
+
+    case exp: plans.CachedNodeProperty =>
       createExpression(exp).asPredicate
 
     case ast.Not(e) => Not(createExpression(e)).asPredicate
@@ -117,17 +121,27 @@ object ExpressionConverter {
                       (implicit context: CodeGenContext): CodeGenExpression = {
 
     expression match {
-      case node@ast.Variable(name) if context.semanticTable.isNode(node) =>
+      case node@ast.Variable(name) if isNode(node) =>
         NodeExpression(context.getVariable(name))
 
-      case rel@ast.Variable(name) if context.semanticTable.isRelationship(rel) =>
+      case rel@ast.Variable(name) if isRelationship(rel) =>
         RelationshipExpression(context.getVariable(name))
 
-      case ast.Property(node@ast.Variable(name), propKey) if context.semanticTable.isNode(node) =>
+      case ast.Property(node@ast.Variable(name), propKey) if isNode(node) =>
         val token = context.semanticTable.id(propKey).map(_.id)
         NodeProperty(token, propKey.name, context.getVariable(name), context.namer.newVarName())
 
-      case ast.Property(rel@ast.Variable(name), propKey) if context.semanticTable.isRelationship(rel) =>
+      case plans.CachedNodeProperty(ast.Variable(name), propKey) =>
+        val token = context.semanticTable.id(propKey).map(_.id)
+        val nodeIdVar = context.getVariable(name)
+        context.getCachedProperty(nodeIdVar, propKey.name) match {
+          case Some((iterVar, offset)) =>
+            CachedNodeProperty(token, propKey.name, nodeIdVar, context.namer.newVarName(), iterVar, offset)
+          case None =>
+            NodeProperty(token, propKey.name, nodeIdVar, context.namer.newVarName())
+        }
+
+      case ast.Property(rel@ast.Variable(name), propKey) if isRelationship(rel) =>
         val token = context.semanticTable.id(propKey).map(_.id)
         RelProperty(token, propKey.name, context.getVariable(name), context.namer.newVarName())
 
@@ -183,4 +197,19 @@ object ExpressionConverter {
     }
   }
 
+  // Variables introduced by the planner, e.g. for pattern predicates solved with semi apply, are not
+  // known to the semantic table, so fall back on the type of the variable bound by the generated code
+  private def isNode(variable: ast.Variable)(implicit context: CodeGenContext) =
+    if (context.semanticTable.seen(variable)) context.semanticTable.isNode(variable)
+    else hasBoundType(variable, CTNode)
+
+  private def isRelationship(variable: ast.Variable)(implicit context: CodeGenContext) =
+    if (context.semanticTable.seen(variable)) context.semanticTable.isRelationship(variable)
+    else hasBoundType(variable, CTRelationship)
+
+  private def hasBoundType(variable: ast.Variable, cypherType: CypherType)(implicit context: CodeGenContext) =
+    context.hasVariable(variable.name) && (context.getVariable(variable.name).codeGenType match {
+      case CypherCodeGenType(ct, _) => ct == cypherType
+      case _ => false
+    })
 }
@@ -68,6 +68,35 @@ case class NodeProperty(token: Option[Int], propName: String, nodeIdVar: Variabl
   override def codeGenType(implicit context: CodeGenContext) = CodeGenType.Any
 }
 
+// Reads the value handed out by the index seek that produced the node, and falls back to the store when there is none
+case class CachedNodeProperty(token: Option[Int], propName: String, nodeIdVar: Variable, propKeyVar: String,
+                              iterVar: String, offset: Int) extends CodeGenExpression {
+
+  private val fromStore = NodeProperty(token, propName, nodeIdVar, propKeyVar)
+
+  override def init[E](generator: MethodStructure[E])(implicit context: CodeGenContext) = fromStore.init(generator)
+
+  override def generateExpression[E](structure: MethodStructure[E])(implicit context: CodeGenContext): E = {
+    val localName = context.namer.newVarName()
+    structure.declareProperty(localName)
+    structure.ifStatement(structure.hasIndexValue(iterVar)) { ifBody =>
+      ifBody.indexPropertyValue(iterVar, offset, localName)
+    }
+    structure.ifNotStatement(structure.hasIndexValue(iterVar)) { elseBody =>
+      if (token.isEmpty)
+        fromStore.propertyByName(elseBody, localName)
+      else
+        fromStore.propertyById(elseBody, localName)
+      elseBody.incrementDbHits()
+    }
+    structure.loadVariable(localName)
+  }
+
+  override def nullable(implicit context: CodeGenContext) = true
+
+  override def codeGenType(implicit context: CodeGenContext) = CodeGenType.Any
+}
+
 case class RelProperty(token: Option[Int], propName: String, relIdVar: Variable, propKeyVar: String)
   extends ElementProperty(token, propName, relIdVar.name, propKeyVar) {
 
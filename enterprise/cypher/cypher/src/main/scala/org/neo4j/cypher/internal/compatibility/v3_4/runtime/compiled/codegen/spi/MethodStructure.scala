@@ -163,6 +163,10 @@ trait MethodStructure[E] {
   def nextRelationship(iterVar: String, direction: SemanticDirection, relVar: String): Unit
   def hasNextNode(iterVar: String): E
   def hasNextRelationship(iterVar: String): E
+  def varLengthExpand(iterVar: String, nodeVar: String, nodeVarType: CodeGenType, direction: SemanticDirection,
+                      typeVars: Seq[String], minLength: Int, maxLength: Option[Int], reversePaths: Boolean): Unit
+  def nextPath(toNodeVar: String, relsVar: String, iterVar: String): Unit
+  def hasNextPath(iterVar: String): E
   def nodeGetPropertyById(nodeVar: String, nodeVarType: CodeGenType, propId: Int, propValueVar: String): Unit
   def nodeGetPropertyForVar(nodeVar: String, nodeVarType: CodeGenType, propIdVar: String, propValueVar: String): Unit
   def nodeIdSeek(nodeIdVar: String, expression: E, codeGenType: CodeGenType)(block: MethodStructure[E] => Unit): Unit
@@ -170,6 +174,10 @@ trait MethodStructure[E] {
   def relationshipGetPropertyForVar(nodeIdVar: String, propIdVar: String, propValueVar: String): Unit
   def lookupPropertyKey(propName: String, propVar: String)
   def indexSeek(iterVar: String, descriptorVar: String, value: E, codeGenType: CodeGenType): Unit
+  def indexRangeSeek(iterVar: String, descriptorVar: String, lowerBound: Option[(E, Boolean)],
+                     upperBound: Option[(E, Boolean)]): Unit
+  def hasIndexValue(iterVar: String): E
+  def indexPropertyValue(iterVar: String, offset: Int, propValueVar: String): Unit
   def relType(relIdVar: String, typeVar: String): Unit
   def newIndexDescriptor(descriptorVar: String, labelVar: String, propKeyVar: String): Unit
   def createRelExtractor(extractorName: String): Unit
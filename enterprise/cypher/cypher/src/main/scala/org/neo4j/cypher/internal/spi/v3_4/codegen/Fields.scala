@@ -30,4 +30,5 @@ case class Fields(closer: FieldReference,
                   params: FieldReference,
                   closeable: FieldReference,
                   queryContext: FieldReference,
-                  skip: FieldReference)
+                  skip: FieldReference,
+                  memoryTracker: FieldReference)
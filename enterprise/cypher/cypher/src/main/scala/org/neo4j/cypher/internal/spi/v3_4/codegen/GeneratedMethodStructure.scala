@@ -32,6 +32,7 @@ import org.neo4j.cypher.internal.util.v3_4.{ParameterNotFoundException, symbols}
 import org.neo4j.cypher.internal.util.v3_4.symbols.{CTInteger, CTNode, CTRelationship, ListType}
 import org.neo4j.cypher.internal.codegen.CompiledConversionUtils.CompositeKey
 import org.neo4j.cypher.internal.codegen._
+import org.neo4j.cypher.internal.runtime.interpreted.EstimatedValueSize
 import org.neo4j.cypher.internal.runtime.interpreted.commands.convert.DirectionConverter.toGraphDb
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.codegen.ir.expressions.{BoolType, CodeGenType, CypherCodeGenType, FloatType, ListReferenceType, LongType, ReferenceType, RepresentationType, Parameter => _}
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.codegen.spi._
@@ -46,11 +47,13 @@ import org.neo4j.cypher.internal.v3_4.expressions.SemanticDirection
 import org.neo4j.graphdb.{Direction, Node, Relationship}
 import org.neo4j.internal.kernel.api.IndexQuery
 import org.neo4j.kernel.api.ReadOperations
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.kernel.api.schema.index.{IndexDescriptor, IndexDescriptorFactory}
 import org.neo4j.kernel.api.schema.LabelSchemaDescriptor
 import org.neo4j.kernel.impl.api.RelationshipDataExtractor
 import org.neo4j.kernel.impl.api.store.RelationshipIterator
 import org.neo4j.kernel.impl.util.ValueUtils
+import org.neo4j.storageengine.api.schema.IndexValueIterator
 import org.neo4j.values.AnyValue
 import org.neo4j.values.storable._
 import org.neo4j.values.virtual.{EdgeValue, MapValue, NodeValue}
@@ -496,6 +499,23 @@ class GeneratedMethodStructure(val fields: Fields, val generator: CodeBlock, aux
     }
   }
 
+  override def varLengthExpand(iterVar: String, nodeVar: String, nodeVarType: CodeGenType,
+                               direction: SemanticDirection, typeVars: Seq[String], minLength: Int,
+                               maxLength: Option[Int], reversePaths: Boolean) = {
+    val types = if (typeVars.isEmpty) constant(null) else newArray(typeRef[Int], typeVars.map(generator.load): _*)
+    generator.assign(typeRef[CompiledVarLengthExpander], iterVar,
+                     invoke(Methods.varLengthExpand, readOperations, forceLong(nodeVar, nodeVarType), dir(direction),
+                            types, constant(minLength), constant(maxLength.getOrElse(-1)), constant(reversePaths)))
+  }
+
+  override def nextPath(toNodeVar: String, relsVar: String, iterVar: String) = {
+    generator.assign(typeRef[Long], toNodeVar, invoke(generator.load(iterVar), Methods.nextPathEndNode))
+    generator.assign(typeRef[Object], relsVar, invoke(generator.load(iterVar), Methods.pathRelationships))
+  }
+
+  override def hasNextPath(iterVar: String) =
+    invoke(generator.load(iterVar), Methods.hasNextPath)
+
   override def connectingRelationships(iterVar: String, fromNode: String, fromNodeType: CodeGenType, direction: SemanticDirection,
                                        toNode: String, toNodeType: CodeGenType) = {
     val local = generator.declare(typeRef[RelationshipIterator], iterVar)
@@ -543,6 +563,19 @@ class GeneratedMethodStructure(val fields: Fields, val generator: CodeBlock, aux
   private def readOperations: Expression =
     invoke(generator.self(), getOrLoadReadOperations)
 
+  private val getOrLoadMemoryTracker: MethodReference =
+    methodReference(generator.owner(), typeRef[QueryMemoryTracker], "getOrLoadMemoryTracker")
+
+  /*
+  Reports a tuple that is kept in a table until the query finishes. Only the tuple itself is counted, not the values
+  it refers to, so this is a lower bound of what the table holds on to.
+   */
+  private def trackTuple(block: CodeBlock, fieldCount: Int): Unit =
+    block.expression(
+      invoke(invoke(block.self(), getOrLoadMemoryTracker),
+             method[QueryMemoryTracker, Unit]("allocated", typeRef[Long]),
+             constant(Long.box(EstimatedValueSize.OBJECT_OVERHEAD + EstimatedValueSize.REFERENCE * (fieldCount + 1)))))
+
   private def nodeManager = get(generator.self(), fields.entityAccessor)
 
   private def resultRow = generator.load("row")
@@ -701,6 +734,7 @@ class GeneratedMethodStructure(val fields: Fields, val generator: CodeBlock, aux
       using(generator.ifStatement(not(invoke(generator.load(name),
                                              method[PrimitiveLongSet, Boolean]("contains", typeRef[Long]), value)))) { body =>
         body.expression(pop(invoke(generator.load(name), method[PrimitiveLongSet, Boolean]("add", typeRef[Long]), value)))
+        trackTuple(body, 1)
         block(copy(generator = body))
       }
     } else {
@@ -708,6 +742,7 @@ class GeneratedMethodStructure(val fields: Fields, val generator: CodeBlock, aux
       newUniqueAggregationKey(tmpName, structure)
       using(generator.ifStatement(not(invoke(generator.load(name), Methods.setContains, generator.load(tmpName))))) { body =>
         body.expression(pop(invoke(loadVariable(name), Methods.setAdd, generator.load(tmpName))))
+        trackTuple(body, structure.size)
         block(copy(generator = body))
       }
     }
@@ -817,6 +852,10 @@ class GeneratedMethodStructure(val fields: Fields, val generator: CodeBlock, aux
 
   override def sortTableAdd(name: String, tableDescriptor: SortTableDescriptor, value: Expression): Unit = {
     val tableType = sortTableType(tableDescriptor)
+    tableDescriptor match {
+      case FullSortTableDescriptor(tupleDescriptor) => trackTuple(generator, tupleDescriptor.structure.size)
+      case _: TopTableDescriptor => // holds a bounded number of tuples
+    }
     generator.expression(pop(invoke(generator.load(name),
       methodReference(tableType, typeRef[Boolean], "add", typeRef[Object]),
       box(value, CodeGenType.Any)))) // TODO: this boxing seems completely unnecessary
@@ -1235,6 +1274,7 @@ class GeneratedMethodStructure(val fields: Fields, val generator: CodeBlock, aux
                                 keyVars: Seq[String], element: Expression) = tableType match {
     case _: LongToListTable =>
       assert(keyVars.size == 1)
+      trackTuple(generator, tupleDescriptor.structure.size)
       val keyVar = keyVars.head
       val hashTable = extractHashTable(tableType)
       // generate the code
@@ -1262,6 +1302,7 @@ class GeneratedMethodStructure(val fields: Fields, val generator: CodeBlock, aux
       )
 
     case _: LongsToListTable =>
+      trackTuple(generator, tupleDescriptor.structure.size)
       val hashTable = extractHashTable(tableType)
       // generate the code
       val listName = context.namer.newVarName()
@@ -1389,6 +1430,13 @@ class GeneratedMethodStructure(val fields: Fields, val generator: CodeBlock, aux
     }
   }
 
+  override def hasIndexValue(iterVar: String) =
+    invoke(generator.load(iterVar), Methods.hasIndexValue)
+
+  override def indexPropertyValue(iterVar: String, offset: Int, propValueVar: String) =
+    generator.assign(locals(propValueVar),
+                     invoke(reboxValue, invoke(generator.load(iterVar), Methods.indexPropertyValue, constant(offset))))
+
   override def nodeIdSeek(nodeIdVar: String, expression: Expression, codeGenType: CodeGenType)(block: MethodStructure[Expression] => Unit) = {
     codeGenType match {
       case CypherCodeGenType(CTInteger, LongType) =>
@@ -1444,7 +1492,7 @@ class GeneratedMethodStructure(val fields: Fields, val generator: CodeBlock, aux
 
   override def indexSeek(iterVar: String, descriptorVar: String, value: Expression, codeGenType: CodeGenType) = {
     val predicate = generator.declare(typeRef[IndexQuery], s"${iterVar}Query")
-    val local = generator.declare(typeRef[PrimitiveLongIterator], iterVar)
+    val local = generator.declare(typeRef[IndexValueIterator], iterVar)
     val boxedValue =
       if (codeGenType.isPrimitive) Expression.box(value)
       else invoke(methodReference(typeRef[CompiledConversionUtils], typeRef[Object], "makeValueNeoSafe", typeRef[Object]), value)
@@ -1453,11 +1501,31 @@ class GeneratedMethodStructure(val fields: Fields, val generator: CodeBlock, aux
       val schema = invoke(descriptor, method[IndexDescriptor, LabelSchemaDescriptor]("schema"))
       val propertyKeyId = invoke(schema, method[LabelSchemaDescriptor, Int]("getPropertyId"))
       body.assign(predicate, invoke(indexQueryExact, propertyKeyId, boxedValue))
-      body.assign(local, invoke(readOperations, indexQuery, descriptor,
+      body.assign(local, invoke(readOperations, indexQueryWithValues, descriptor,
         newArray(typeRef[IndexQuery], predicate)))
     }
   }
 
+  override def indexRangeSeek(iterVar: String, descriptorVar: String, lowerBound: Option[(Expression, Boolean)],
+                              upperBound: Option[(Expression, Boolean)]) = {
+    val local = generator.declare(typeRef[IndexValueIterator], iterVar)
+    handleKernelExceptions(generator, fields, _finalizers) { body =>
+      val descriptor = body.load(descriptorVar)
+      val seek = (lowerBound, upperBound) match {
+        case (Some((from, fromInclusive)), Some((to, toInclusive))) =>
+          invoke(Methods.indexSeekBetween, readOperations, descriptor, from, constant(fromInclusive), to,
+                 constant(toInclusive))
+        case (Some((from, fromInclusive)), None) =>
+          invoke(Methods.indexSeekGreaterThan, readOperations, descriptor, from, constant(fromInclusive))
+        case (None, Some((to, toInclusive))) =>
+          invoke(Methods.indexSeekLessThan, readOperations, descriptor, to, constant(toInclusive))
+        case (None, None) =>
+          throw new IllegalArgumentException("An index range seek needs at least one bound")
+      }
+      body.assign(local, seek)
+    }
+  }
+
   def token(t: Int) = Expression.constant(t)
 
   def wildCardToken = Expression.constant(-1)
@@ -44,6 +44,7 @@ import org.neo4j.cypher.internal.v3_4.codegen.QueryExecutionTracer
 import org.neo4j.cypher.internal.v3_4.executionplan.{GeneratedQuery, GeneratedQueryExecution}
 import org.neo4j.cypher.result.QueryResult.QueryResultVisitor
 import org.neo4j.kernel.api.ReadOperations
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.kernel.impl.core.NodeManager
 import org.neo4j.values.virtual.MapValue
 
@@ -179,6 +180,7 @@ object GeneratedQueryStructure extends CodeStructure[GeneratedQuery] {
   private def addSimpleMethods(clazz: ClassGenerator, fields: Fields) = {
     clazz.generate(Templates.constructor(clazz.handle()))
     Templates.getOrLoadReadOperations(clazz, fields)
+    Templates.getOrLoadMemoryTracker(clazz, fields)
     clazz.generate(Templates.setCompletable(clazz.handle()))
     clazz.generate(Templates.executionMode(clazz.handle()))
     clazz.generate(Templates.executionPlanDescription(clazz.handle()))
@@ -205,7 +207,8 @@ object GeneratedQueryStructure extends CodeStructure[GeneratedQuery] {
       params = clazz.field(typeRef[MapValue], "params"),
       closeable = clazz.field(typeRef[Completable], "closeable"),
       queryContext = clazz.field(typeRef[QueryContext], "queryContext"),
-      skip = clazz.field(typeRef[Boolean], "skip"))
+      skip = clazz.field(typeRef[Boolean], "skip"),
+      memoryTracker = clazz.field(typeRef[QueryMemoryTracker], "memoryTracker"))
   }
 
   def method[O <: AnyRef, R](name: String, params: TypeReference*)
@@ -38,6 +38,7 @@ import org.neo4j.kernel.api.schema.index.IndexDescriptor
 import org.neo4j.kernel.impl.api.store.RelationshipIterator
 import org.neo4j.kernel.impl.api.{RelationshipDataExtractor, RelationshipVisitor}
 import org.neo4j.kernel.impl.core.{NodeManager, NodeProxy, RelationshipProxy}
+import org.neo4j.storageengine.api.schema.IndexValueIterator
 import org.neo4j.values.AnyValue
 import org.neo4j.values.storable.{Value, Values}
 
@@ -63,6 +64,10 @@ object Methods {
   val nodeGetRelationshipsWithDirectionAndTypes = method[ReadOperations, RelationshipIterator]("nodeGetRelationships", typeRef[Long], typeRef[Direction], typeRef[Array[Int]])
   val allConnectingRelationships = method[CompiledExpandUtils, RelationshipIterator]("connectingRelationships", typeRef[ReadOperations], typeRef[Long], typeRef[Direction], typeRef[Long])
   val connectingRelationships = method[CompiledExpandUtils, RelationshipIterator]("connectingRelationships", typeRef[ReadOperations], typeRef[Long], typeRef[Direction], typeRef[Long], typeRef[Array[Int]])
+  val varLengthExpand = method[CompiledVarLengthExpander, CompiledVarLengthExpander]("expand", typeRef[ReadOperations], typeRef[Long], typeRef[Direction], typeRef[Array[Int]], typeRef[Int], typeRef[Int], typeRef[Boolean])
+  val hasNextPath = method[CompiledVarLengthExpander, Boolean]("hasNext")
+  val nextPathEndNode = method[CompiledVarLengthExpander, Long]("next")
+  val pathRelationships = method[CompiledVarLengthExpander, util.List[RelationshipIdWrapper]]("relationships")
   val mathAdd = method[CompiledMathHelper, Object]("add", typeRef[Object], typeRef[Object])
   val mathSub = method[CompiledMathHelper, Object]("subtract", typeRef[Object], typeRef[Object])
   val mathMul = method[CompiledMathHelper, Object]("multiply", typeRef[Object], typeRef[Object])
@@ -88,7 +93,12 @@ object Methods {
   val nodeExists = method[ReadOperations, Boolean]("nodeExists", typeRef[Long])
   val nodesGetAll = method[ReadOperations, PrimitiveLongIterator]("nodesGetAll")
   val nodeGetProperty = method[ReadOperations, Value]("nodeGetProperty", typeRef[Long], typeRef[Int])
-  val indexQuery = method[ReadOperations, PrimitiveLongIterator]("indexQuery", typeRef[IndexDescriptor], typeRef[Array[IndexQuery]])
+  val indexQueryWithValues = method[ReadOperations, IndexValueIterator]("indexQueryWithValues", typeRef[IndexDescriptor], typeRef[Array[IndexQuery]])
+  val indexSeekLessThan = method[CompiledIndexUtils, IndexValueIterator]("indexSeekLessThan", typeRef[ReadOperations], typeRef[IndexDescriptor], typeRef[Object], typeRef[Boolean])
+  val indexSeekGreaterThan = method[CompiledIndexUtils, IndexValueIterator]("indexSeekGreaterThan", typeRef[ReadOperations], typeRef[IndexDescriptor], typeRef[Object], typeRef[Boolean])
+  val indexSeekBetween = method[CompiledIndexUtils, IndexValueIterator]("indexSeekBetween", typeRef[ReadOperations], typeRef[IndexDescriptor], typeRef[Object], typeRef[Boolean], typeRef[Object], typeRef[Boolean])
+  val hasIndexValue = method[IndexValueIterator, Boolean]("hasValue")
+  val indexPropertyValue = method[IndexValueIterator, Value]("propertyValue", typeRef[Int])
   val indexQueryExact = method[IndexQuery, IndexQuery.ExactPredicate]("exact", typeRef[Int], typeRef[Object])
   val nodeGetUniqueFromIndexLookup = method[ReadOperations, Long]("nodeGetFromUniqueIndexSeek", typeRef[IndexDescriptor], typeRef[Array[IndexQuery.ExactPredicate]])
   val countsForNode = method[ReadOperations, Long]("countsForNode", typeRef[Int])
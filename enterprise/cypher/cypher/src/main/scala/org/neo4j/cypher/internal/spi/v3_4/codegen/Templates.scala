@@ -41,6 +41,7 @@ import org.neo4j.graphdb.Direction
 import org.neo4j.internal.kernel.api.TokenNameLookup
 import org.neo4j.internal.kernel.api.exceptions.KernelException
 import org.neo4j.kernel.api.exceptions.EntityNotFoundException
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.kernel.api.{ReadOperations, StatementTokenNameLookup}
 import org.neo4j.kernel.impl.api.RelationshipDataExtractor
 import org.neo4j.kernel.impl.core.NodeManager
@@ -221,6 +222,21 @@ object Templates {
     }
   }
 
+  def getOrLoadMemoryTracker(clazz: ClassGenerator, fields: Fields) = {
+    val methodBuilder: Builder = MethodDeclaration.method(typeRef[QueryMemoryTracker], "getOrLoadMemoryTracker")
+    using(clazz.generate(methodBuilder)) { generate =>
+      val memoryTracker = Expression.get(generate.self(), fields.memoryTracker)
+      using(generate.ifStatement(Expression.isNull(memoryTracker))) { block =>
+        val transactionalContext: MethodReference = method[QueryContext, QueryTransactionalContext]("transactionalContext")
+        val loadMemoryTracker: MethodReference = method[QueryTransactionalContext, QueryMemoryTracker]("memoryTracker")
+        val queryContext = Expression.get(block.self(), fields.queryContext)
+        block.put(block.self(), fields.memoryTracker,
+          Expression.invoke(Expression.invoke(queryContext, transactionalContext), loadMemoryTracker))
+      }
+      generate.returns(memoryTracker)
+    }
+  }
+
   def setCompletable(classHandle: ClassHandle) = MethodTemplate.method(typeRef[Unit], "setCompletable",
                                                                                param[Completable]("closeable")).
     put(self(classHandle), typeRef[Completable], "closeable", load("closeable", typeRef[Completable])).
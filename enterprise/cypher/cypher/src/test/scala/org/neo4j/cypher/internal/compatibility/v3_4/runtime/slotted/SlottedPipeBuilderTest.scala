@@ -62,7 +62,7 @@ class SlottedPipeBuilderTest extends CypherFunSuite with LogicalPlanningTestSupp
     val logicalPlan = slottedRewriter(beforeRewrite, physicalPlan.slotConfigurations)
     val converters = new ExpressionConverters(CommunityExpressionConverter, SlottedExpressionConverters)
     val executionPlanBuilder = new PipeExecutionPlanBuilder(context.clock, context.monitors,
-      expressionConverters = converters, pipeBuilderFactory = EnterprisePipeBuilderFactory(physicalPlan))
+      expressionConverters = converters, pipeBuilderFactory = EnterprisePipeBuilderFactory(physicalPlan, context.spillMemoryBudget))
     val pipeBuildContext = PipeExecutionBuilderContext(context.metrics.cardinality, table, IDPPlannerName)
     executionPlanBuilder.build(None, logicalPlan)(pipeBuildContext, context.planContext).pipe
   }
@@ -524,6 +524,45 @@ class SlottedPipeBuilderTest extends CypherFunSuite with LogicalPlanningTestSupp
     )())
   }
 
+  test("distinct on nodes should group on the node ids") {
+    // given MATCH (x:label)-[r]->(z) RETURN DISTINCT x, z
+    val leaf = NodeByLabelScan(x, LabelName("label")(pos), Set.empty)(solved)
+    val expand = Expand(leaf, x, SemanticDirection.OUTGOING, Seq.empty, z, r, ExpandAll)(solved)
+    val distinct = Distinct(expand, Map("x" -> varFor("x"), "z" -> varFor("z")))(solved)
+
+    // when
+    val pipe = build(distinct)
+
+    // then
+    pipe shouldBe a[PrimitiveDistinctSlottedPipe]
+    pipe.asInstanceOf[PrimitiveDistinctSlottedPipe].primitiveGroupingKeys.toSet should equal(Set(0, 2))
+  }
+
+  test("distinct on properties should not group on long slots") {
+    // given MATCH (x:label) RETURN DISTINCT x.propertyKey
+    val leaf = NodeByLabelScan(x, LabelName("label")(pos), Set.empty)(solved)
+    val distinct = Distinct(leaf, Map("x.propertyKey" -> prop("x", "propertyKey")))(solved)
+
+    // when
+    val pipe = build(distinct)
+
+    // then
+    pipe shouldBe a[DistinctSlottedPipe]
+  }
+
+  test("aggregation grouped by node should group on the node id") {
+    // given MATCH (x:label) RETURN x, count(*)
+    val leaf = NodeByLabelScan(x, LabelName("label")(pos), Set.empty)(solved)
+    val aggregation = Aggregation(leaf, Map("x" -> varFor("x")), Map("count" -> CountStar()(pos)))(solved)
+
+    // when
+    val pipe = build(aggregation)
+
+    // then
+    pipe shouldBe a[PrimitiveEagerAggregationSlottedPipe]
+    pipe.asInstanceOf[PrimitiveEagerAggregationSlottedPipe].primitiveGroupingKeys should equal(Array(0))
+  }
+
   test("labelscan with projection") {
     // given
     val leaf = NodeByLabelScan(x, LabelName("label")(pos), Set.empty)(solved)
@@ -670,7 +709,7 @@ class SlottedPipeBuilderTest extends CypherFunSuite with LogicalPlanningTestSupp
       SlotConfiguration(numberOfLongs = 0, numberOfReferences = 1, slots = Map("x" -> xSlot))
 
     pipe should equal(
-      SortSlottedPipe(orderBy = Seq(slottedPipes.Ascending(xSlot)), slots = expectedSlots2,
+      SortSlottedPipe(orderBy = Seq(slottedPipes.Ascending(xSlot)), slots = expectedSlots2, spillMemoryBudget = Long.MaxValue,
         source = UnwindSlottedPipe(collection = commands.expressions.ListLiteral(commands.expressions.Literal(1),
           commands.expressions.Literal(2), commands.expressions.Literal(3)), offset = 0, slots = expectedSlots2,
           source = ArgumentSlottedPipe(expectedSlots1, Size.zero)()
@@ -39,6 +39,7 @@ import org.neo4j.cypher.internal.spi.v3_4.codegen.{GeneratedMethodStructure, Met
 import org.neo4j.cypher.internal.v3_4.codegen.QueryExecutionTracer
 import org.neo4j.cypher.internal.v3_4.expressions.SemanticDirection
 import org.neo4j.kernel.api.ReadOperations
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.kernel.impl.api.store.RelationshipIterator
 import org.neo4j.kernel.impl.core.NodeManager
 
@@ -237,13 +238,15 @@ class GeneratedMethodStructureTest extends CypherFunSuite {
         params = body.field(typeRef[util.Map[String, Object]], "params"),
         closeable = body.field(typeRef[Completable], "closeable"),
         queryContext = body.field(typeRef[QueryContext], "queryContext"),
-        skip = body.field(typeRef[Boolean], "skip"))
+        skip = body.field(typeRef[Boolean], "skip"),
+        memoryTracker = body.field(typeRef[QueryMemoryTracker], "memoryTracker"))
       // the "COLUMNS" static field
       body.staticField(typeRef[util.List[String]], "COLUMNS", Templates.asList[String](Seq.empty))
       using(body.generate(MethodDeclaration.method(typeRef[Unit], "foo"))) { methodBody =>
         block(new GeneratedMethodStructure(fields, methodBody, new AuxGenerator(packageName, codeGen)))
       }
       Templates.getOrLoadReadOperations(body, fields)
+      Templates.getOrLoadMemoryTracker(body, fields)
       body.handle()
     }
     clazz.newInstance()
@@ -20,8 +20,9 @@
 package org.neo4j.cypher.internal.compiled_runtime.v3_4
 
 import org.neo4j.cypher.internal.compatibility.v3_4.WrappedMonitors
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.CompiledRuntimeName
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.BuildCompiledExecutionPlan
-import org.neo4j.cypher.internal.compatibility.v3_4.runtime.executionplan.NewRuntimeSuccessRateMonitor
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.executionplan.{NewRuntimeSuccessRateMonitor, RuntimeFallback}
 import org.neo4j.cypher.internal.compiler.v3_4.NotImplementedPlanContext
 import org.neo4j.cypher.internal.compiler.v3_4.phases.LogicalPlanState
 import org.neo4j.cypher.internal.compiler.v3_4.planner.{CantCompileQueryException, HardcodedGraphStatistics}
@@ -62,6 +63,21 @@ class BuildCompiledExecutionPlanTest extends CypherFunSuite {
     monitor.failedToPlan should equal(true)
   }
 
+  test("should not report a fallback when building works") {
+    val state = process(WrappedMonitors(new Monitors), ProduceResult(Argument()(solved)(), Seq.empty))
+
+    state.maybeExecutionPlan should not be empty
+    state.maybeRuntimeFallback should equal(None)
+  }
+
+  test("should report why building does not work") {
+    val state = process(WrappedMonitors(new Monitors), Argument()(solved)())
+
+    state.maybeExecutionPlan should equal(None)
+    state.maybeRuntimeFallback should equal(
+      Some(RuntimeFallback(CompiledRuntimeName, "Can only compile plans with ProduceResult on top")))
+  }
+
   private def process(monitors: WrappedMonitors, plan: LogicalPlan) = {
     plan.assignIds()
     val context = codegen.CompiledRuntimeContextHelper.create(
@@ -31,7 +31,7 @@ import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.ExecutionPl
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.compiled.codegen.{ByteCodeMode, CodeGenConfiguration, CodeGenerator, SourceCodeMode}
 import org.neo4j.cypher.internal.compiler.v3_4.planner.LogicalPlanningTestSupport
 import org.neo4j.cypher.internal.frontend.v3_4.semantics.SemanticTable
-import org.neo4j.cypher.internal.ir.v3_4.IdName
+import org.neo4j.cypher.internal.ir.v3_4.{IdName, VarPatternLength}
 import org.neo4j.cypher.internal.planner.v3_4.spi.CostBasedPlannerName
 import org.neo4j.cypher.internal.runtime.interpreted.TransactionalContextWrapper
 import org.neo4j.cypher.internal.runtime.{InternalExecutionResult, NormalMode, QueryContext}
@@ -45,6 +45,7 @@ import org.neo4j.cypher.internal.v3_4.logical.plans.{Ascending, Descending, _}
 import org.neo4j.graphdb.Result.{ResultRow, ResultVisitor}
 import org.neo4j.graphdb._
 import org.neo4j.kernel.api.ReadOperations
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.kernel.impl.api.RelationshipVisitor
 import org.neo4j.kernel.impl.api.store.RelationshipIterator
 import org.neo4j.kernel.impl.core.{NodeManager, NodeProxy, RelationshipProxy}
@@ -429,6 +430,58 @@ abstract class CodeGeneratorTest extends CypherFunSuite with LogicalPlanningTest
     ))
   }
 
+  test("all nodes scan + optional expand incoming") { // MATCH (a) OPTIONAL MATCH (a)<-[r]-(b) RETURN a, b
+    //given
+    val plan = ProduceResult(
+      OptionalExpand(
+        AllNodesScan(IdName("a"), Set.empty)(solved), IdName("a"),
+        SemanticDirection.INCOMING, Seq.empty, IdName("b"), IdName("r"), ExpandAll)(solved),
+      List("a", "b"))
+
+    //when
+    val compiled = compileAndExecute(plan)
+
+    //then
+    val result = getNodesFromResult(compiled, "a", "b")
+
+    result.toSet should equal(Set(
+      Map("a" -> aNode, "b" -> null),
+      Map("a" -> bNode, "b" -> null),
+      Map("a" -> cNode, "b" -> null),
+      Map("a" -> dNode, "b" -> aNode),
+      Map("a" -> dNode, "b" -> bNode),
+      Map("a" -> dNode, "b" -> fNode),
+      Map("a" -> eNode, "b" -> cNode),
+      Map("a" -> eNode, "b" -> gNode),
+      Map("a" -> fNode, "b" -> null),
+      Map("a" -> gNode, "b" -> null),
+      Map("a" -> hNode, "b" -> iNode),
+      Map("a" -> iNode, "b" -> hNode)))
+  }
+
+  test("label scan + var length expand outgoing") { // MATCH (a:T3)-[r*1..]->(b) RETURN a, r, b
+    //given
+    val plan = ProduceResult(
+      VarExpand(
+        NodeByLabelScan(IdName("a"), lblName("T3"), Set.empty)(solved), IdName("a"),
+        SemanticDirection.OUTGOING, SemanticDirection.OUTGOING, Seq.empty, IdName("b"), IdName("r"),
+        VarPatternLength(1, None), ExpandAll, IdName("r_NODES"), IdName("r_EDGES"), True()(pos), True()(pos),
+        Seq.empty)(solved),
+      List("a", "r", "b"))
+
+    //when
+    val compiled = compileAndExecute(plan)
+
+    //then
+    val result = getResult(compiled, "a", "r", "b")
+
+    result.toSet should equal(Set(
+      Map("a" -> hNode, "r" -> Seq(relMap(16L).relationship), "b" -> iNode),
+      Map("a" -> hNode, "r" -> Seq(relMap(16L).relationship, relMap(17L).relationship), "b" -> hNode),
+      Map("a" -> iNode, "r" -> Seq(relMap(17L).relationship), "b" -> hNode),
+      Map("a" -> iNode, "r" -> Seq(relMap(17L).relationship, relMap(16L).relationship), "b" -> iNode)))
+  }
+
   test("hash join on top of two expands from two all node scans") {
     // MATCH (a)-[r1]->(b)<-[r2]-(c) RETURN a,b,c (kind of nothing enforcing that r1 and r2 are distinct)
 
@@ -1668,6 +1721,7 @@ abstract class CodeGeneratorTest extends CypherFunSuite with LogicalPlanningTest
     override def answer(invocationOnMock: InvocationOnMock): AnyRef = toObjectConverter(invocationOnMock.getArguments()(0))
   })
   when(transactionalContext.readOperations).thenReturn(ro)
+  when(transactionalContext.memoryTracker).thenReturn(QueryMemoryTracker.NONE)
   when(queryContext.entityAccessor).thenReturn(nodeManager.asInstanceOf[queryContext.EntityAccessor])
   when(ro.nodeGetProperty(anyLong(), anyInt())).thenAnswer(new Answer[Value] {
     override def answer(invocationOnMock: InvocationOnMock): Value = {
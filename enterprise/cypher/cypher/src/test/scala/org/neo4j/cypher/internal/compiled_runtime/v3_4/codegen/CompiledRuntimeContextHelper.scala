@@ -47,10 +47,11 @@ object CompiledRuntimeContextHelper extends MockitoSugar {
                updateStrategy: UpdateStrategy = mock[UpdateStrategy],
                debugOptions: Set[String] = Set.empty,
                clock: Clock = Clock.systemUTC(),
-               codeStructure: CodeStructure[GeneratedQuery] = mock[CodeStructure[GeneratedQuery]]): EnterpriseRuntimeContext = {
+               codeStructure: CodeStructure[GeneratedQuery] = mock[CodeStructure[GeneratedQuery]],
+               spillMemoryBudget: Long = Long.MaxValue): EnterpriseRuntimeContext = {
       new EnterpriseRuntimeContext(exceptionCreator, tracer, notificationLogger, planContext,
                                    monitors, metrics, config, queryGraphSolver, updateStrategy, debugOptions, clock, codeStructure,
-                                   new SingleThreadedExecutor())
+                                   new SingleThreadedExecutor(), spillMemoryBudget)
     }
 
 }
@@ -42,6 +42,7 @@ import org.neo4j.cypher.internal.v3_4.expressions.SignedDecimalIntegerLiteral
 import org.neo4j.internal.kernel.api.Transaction.Type
 import org.neo4j.io.pagecache.tracing.cursor.DefaultPageCursorTracer
 import org.neo4j.kernel.api._
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.kernel.api.security.AnonymousContext
 import org.neo4j.kernel.impl.core.{NodeManager, NodeProxy}
 import org.neo4j.test.TestGraphDatabaseFactory
@@ -66,6 +67,7 @@ class CompiledProfilingTest extends CypherFunSuite with CodeGenSugar {
     when(queryContext.transactionalContext).thenReturn(transactionalContext.asInstanceOf[QueryTransactionalContext])
     when(transactionalContext.kernelStatisticProvider).thenReturn(new DelegatingKernelStatisticProvider(new DefaultPageCursorTracer))
     when(transactionalContext.readOperations).thenReturn(readOps)
+    when(transactionalContext.memoryTracker).thenReturn(QueryMemoryTracker.NONE)
     when(entityAccessor.newNodeProxyById(anyLong())).thenReturn(mock[NodeProxy])
     when(queryContext.entityAccessor).thenReturn(entityAccessor.asInstanceOf[queryContext.EntityAccessor])
     when(readOps.nodesGetAll()).thenReturn(new PrimitiveLongIterator {
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized
+
+import java.util.concurrent.atomic.AtomicLong
+
+import org.neo4j.collection.primitive.{PrimitiveLongCollections, PrimitiveLongIterator}
+
+/*
+Shared source of work for the leaf tasks of one iteration. Every worker claims a new partition once it has exhausted
+the one it is scanning, until claim returns null.
+ */
+trait LeafPartitions {
+  def claim(): PrimitiveLongIterator
+}
+
+/*
+Splits the id space [0, highId) into ranges of partitionSize ids. Ids in a range are not guaranteed to be in use,
+so the consumer has to check each id before producing it.
+ */
+class IdRangePartitions(highId: Long, partitionSize: Int) extends LeafPartitions {
+  private val nextStart = new AtomicLong(0)
+
+  override def claim(): PrimitiveLongIterator = {
+    val start = nextStart.getAndAdd(partitionSize)
+    if (start >= highId) null
+    else PrimitiveLongCollections.range(start, Math.min(start + partitionSize, highId) - 1)
+  }
+}
+
+/*
+Hands out batches of at most partitionSize ids from a single source iterator, for sources such as label scans and
+index scans that cannot be split up front. Only the claiming is serialized, the rest of the pipeline runs in parallel.
+ */
+class SharedIteratorPartitions(source: PrimitiveLongIterator, partitionSize: Int) extends LeafPartitions {
+
+  override def claim(): PrimitiveLongIterator = source.synchronized {
+    if (!source.hasNext) null
+    else {
+      val batch = new Array[Long](partitionSize)
+      var size = 0
+      while (size < partitionSize && source.hasNext) {
+        batch(size) = source.next()
+        size += 1
+      }
+      PrimitiveLongCollections.iterator(java.util.Arrays.copyOf(batch, size): _*)
+    }
+  }
+}
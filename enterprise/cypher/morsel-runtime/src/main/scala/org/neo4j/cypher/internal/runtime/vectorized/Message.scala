@@ -31,6 +31,7 @@ sealed trait Message {
 * not other runs will be scheduled, giving the pipeline a chance to initialise global state.
 * */
 case class StartLeafLoop(iterationState: Iteration) extends Message
+case class StartPartitionedLeafLoop(partitions: LeafPartitions, iterationState: Iteration) extends Message
 case class StartLoopWithSingleMorsel(data: Morsel, iterationState: Iteration) extends Message
 case class StartLoopWithEagerData(data: Seq[Morsel], iterationState: Iteration) extends Message
 
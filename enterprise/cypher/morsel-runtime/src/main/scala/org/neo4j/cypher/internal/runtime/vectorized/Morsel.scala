@@ -20,6 +20,7 @@
 package org.neo4j.cypher.internal.runtime.vectorized
 
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.runtime.interpreted.EstimatedValueSize
 import org.neo4j.values.AnyValue
 
 /*
@@ -28,6 +29,19 @@ The lifetime of a Morsel instance is entirely controlled by the Dispatcher. No o
  */
 class Morsel(val longs: Array[Long], val refs: Array[AnyValue], var validRows: Int) {
   override def toString = s"Morsel(validRows=$validRows)"
+
+  /*
+  Rough estimate of the heap held by this morsel, used when morsels are kept around for an eager pipeline
+   */
+  def estimatedHeapUsage: Long = {
+    var size = 2 * EstimatedValueSize.OBJECT_OVERHEAD + 8L * longs.length + EstimatedValueSize.REFERENCE * refs.length
+    var i = 0
+    while (i < refs.length) {
+      size += EstimatedValueSize.of(refs(i))
+      i += 1
+    }
+    size
+  }
 }
 
 object Morsel {
@@ -20,10 +20,12 @@
 package org.neo4j.cypher.internal.runtime.vectorized
 
 import java.util
+import java.util.concurrent.ConcurrentHashMap
 
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
 import org.neo4j.cypher.internal.runtime.QueryContext
 import org.neo4j.cypher.result.QueryResult.QueryResultVisitor
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.values.virtual.MapValue
 
 trait Operator {
@@ -35,6 +37,14 @@ trait Operator {
   def addDependency(pipeline: Pipeline): Dependency
 }
 
+/*
+A leaf operator whose input can be split into partitions, so that several workers can scan it at the same time.
+The dispatcher creates the partitions once per iteration and hands the same instance to every leaf task.
+ */
+trait PartitionedLeafOperator extends Operator {
+  def partitions(context: QueryContext, partitionSize: Int): LeafPartitions
+}
+
 trait MiddleOperator {
   def operate(iterationState: Iteration,
               data: Morsel,
@@ -71,7 +81,25 @@ case object NoDependencies extends Dependency {
   override def pipeline = throw new IllegalArgumentException("No dependencies here!")
 }
 
-case class QueryState(params: MapValue, visitor: QueryResultVisitor[_])
+case class QueryState(params: MapValue, visitor: QueryResultVisitor[_],
+                      memoryTracker: QueryMemoryTracker = QueryMemoryTracker.NONE) {
+  private val operatorStates = new ConcurrentHashMap[AnyRef, AnyRef]()
+
+  /*
+  Operators are shared between all executions of a plan, so state that spans the whole query, such as the number of
+  rows a LIMIT has let through, is kept here. All workers of the query see the same instance.
+   */
+  def stateFor[T <: AnyRef](operator: AnyRef, create: => T): T = {
+    val existing = operatorStates.get(operator)
+    if (existing != null)
+      existing.asInstanceOf[T]
+    else {
+      val created = create
+      val raced = operatorStates.putIfAbsent(operator, created)
+      if (raced != null) raced.asInstanceOf[T] else created
+    }
+  }
+}
 
 case class Pipeline(start: Operator,
                     operators: Seq[MiddleOperator],
@@ -24,8 +24,11 @@ import org.neo4j.cypher.internal.compatibility.v3_4.runtime.{SlotConfiguration,
 import org.neo4j.cypher.internal.compiler.v3_4.planner.CantCompileQueryException
 import org.neo4j.cypher.internal.frontend.v3_4.semantics.SemanticTable
 import org.neo4j.cypher.internal.ir.v3_4.IdName
+import org.neo4j.cypher.internal.planner.v3_4.spi.IndexDescriptor
 import org.neo4j.cypher.internal.runtime.interpreted.commands.convert.ExpressionConverters
-import org.neo4j.cypher.internal.runtime.interpreted.pipes.LazyTypes
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.AggregationExpression
+import org.neo4j.cypher.internal.runtime.interpreted.commands.predicates.True
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.{IndexSeekModeFactory, LazyLabel, LazyTypes}
 import org.neo4j.cypher.internal.runtime.vectorized.operators._
 import org.neo4j.cypher.internal.util.v3_4.InternalException
 import org.neo4j.cypher.internal.v3_4.logical.plans
@@ -49,8 +52,32 @@ class PipelineBuilder(slotConfigurations: Map[LogicalPlanId, SlotConfiguration],
           slots.numberOfReferences,
           slots.getLongOffsetFor(column))
 
+      case plans.NodeByLabelScan(IdName(column), label, _) =>
+        new NodesByLabelScanOperator(
+          slots.numberOfLongs,
+          slots.getLongOffsetFor(column),
+          LazyLabel(label)(SemanticTable()))
+
+      case plans.NodeIndexScan(IdName(column), label, propertyKey, _) =>
+        new NodeIndexScanOperator(
+          slots.numberOfLongs,
+          slots.getLongOffsetFor(column),
+          IndexDescriptor(label.nameId.id, propertyKey.nameId.id))
+
+      case plans.NodeIndexSeek(IdName(column), label, propertyKeys, valueExpr, _) =>
+        val indexSeekMode = IndexSeekModeFactory(unique = false, readOnly = true).fromQueryExpression(valueExpr)
+        new NodeIndexSeekOperator(slots, column, label, propertyKeys,
+                                  valueExpr.map(converters.toCommandExpression), indexSeekMode)
+
+      case plans.NodeUniqueIndexSeek(IdName(column), label, propertyKeys, valueExpr, _) =>
+        val indexSeekMode = IndexSeekModeFactory(unique = true, readOnly = true).fromQueryExpression(valueExpr)
+        new NodeIndexSeekOperator(slots, column, label, propertyKeys,
+                                  valueExpr.map(converters.toCommandExpression), indexSeekMode)
+
       case plans.Argument(_) =>
         new ArgumentOperator
+
+      case p => throw unsupported(p)
     }
 
     Pipeline(thisOp, Seq.empty, slots, NoDependencies)()
@@ -76,6 +103,28 @@ class PipelineBuilder(slotConfigurations: Map[LogicalPlanId, SlotConfiguration],
           val lazyTypes = LazyTypes(types.toArray)(SemanticTable())
           new ExpandAllOperator(slots, fromPipe, fromOffset, relOffset, toOffset, dir, lazyTypes)
 
+        case plans.Expand(lhs, IdName(fromName), dir, types, IdName(to), IdName(relName), ExpandInto) =>
+          val fromOffset = slots.getLongOffsetFor(fromName)
+          val relOffset = slots.getLongOffsetFor(relName)
+          val toOffset = slots.getLongOffsetFor(to)
+          val fromPipe = slotConfigurations(lhs.assignedId)
+          val lazyTypes = LazyTypes(types.toArray)(SemanticTable())
+          new ExpandIntoOperator(slots, fromPipe, fromOffset, relOffset, toOffset, dir, lazyTypes)
+
+        case plans.OptionalExpand(lhs, IdName(fromName), dir, types, IdName(to), IdName(relName), mode, predicates) =>
+          val fromOffset = slots.getLongOffsetFor(fromName)
+          val relOffset = slots.getLongOffsetFor(relName)
+          val toOffset = slots.getLongOffsetFor(to)
+          val fromPipe = slotConfigurations(lhs.assignedId)
+          val lazyTypes = LazyTypes(types.toArray)(SemanticTable())
+          val predicate = predicates.map(converters.toCommandPredicate).reduceOption(_ andWith _).getOrElse(True())
+          mode match {
+            case ExpandAll =>
+              new OptionalExpandAllOperator(slots, fromPipe, fromOffset, relOffset, toOffset, dir, lazyTypes, predicate)
+            case ExpandInto =>
+              new OptionalExpandIntoOperator(slots, fromPipe, fromOffset, relOffset, toOffset, dir, lazyTypes, predicate)
+          }
+
         case plans.Projection(_, expressions) =>
           val projectionOps = expressions.map {
             case (key, e) => slots(key) -> converters.toCommandExpression(e)
@@ -88,6 +137,28 @@ class PipelineBuilder(slotConfigurations: Map[LogicalPlanId, SlotConfiguration],
           source = source.addOperator(preSorting)
           new MergeSortOperator(ordering, slots)
 
+        case plans.Aggregation(src, groupingExpressions, aggregationExpressions) =>
+          val groupings = groupingExpressions.map {
+            case (key, expression) => slots.getReferenceOffsetFor(key) -> converters.toCommandExpression(expression)
+          }.toArray
+          val aggregations = aggregationExpressions.map {
+            case (key, expression) =>
+              val aggregation = converters.toCommandExpression(expression) match {
+                case e: AggregationExpression => MorselAggregation(e)
+                case e => throw new InternalException(s"Expected an aggregation but got $e")
+              }
+              slots.getReferenceOffsetFor(key) -> aggregation
+          }.toArray
+          val mapper = new AggregationMapperOperator(slots, slotConfigurations(src.assignedId), groupings, aggregations)
+          source = Pipeline(mapper, Seq.empty, slots, mapper.addDependency(source))()
+          new AggregationReduceOperator(slots, groupings, aggregations)
+
+        case plans.Limit(_, count, DoNotIncludeTies) =>
+          new LimitOperator(converters.toCommandExpression(count))
+
+        case plans.Skip(_, count) =>
+          new SkipOperator(slots, converters.toCommandExpression(count))
+
         case plans.UnwindCollection(src, variable, collection) =>
           val offset = slots.get(variable.name) match {
             case Some(RefSlot(idx, _, _)) => idx
@@ -97,7 +168,7 @@ class PipelineBuilder(slotConfigurations: Map[LogicalPlanId, SlotConfiguration],
           val runtimeExpression = converters.toCommandExpression(collection)
           new UnwindOperator(runtimeExpression, offset, slotConfigurations(src.assignedId), slots)
 
-        case p => throw new CantCompileQueryException(s"$p not supported in morsel runtime")
+        case p => throw unsupported(p)
       }
 
     thisOp match {
@@ -108,8 +179,10 @@ class PipelineBuilder(slotConfigurations: Map[LogicalPlanId, SlotConfiguration],
     }
   }
 
-  override protected def build(plan: LogicalPlan, lhs: Pipeline, rhs: Pipeline): Pipeline =
-    throw new CantCompileQueryException(s"$plan is not supported in morsel runtime")
+  override protected def build(plan: LogicalPlan, lhs: Pipeline, rhs: Pipeline): Pipeline = throw unsupported(plan)
+
+  private def unsupported(plan: LogicalPlan) =
+    new CantCompileQueryException(s"${plan.getClass.getSimpleName} is not supported by the morsel runtime")
 }
 
 object IsPipelineBreaker {
@@ -20,7 +20,7 @@
 package org.neo4j.cypher.internal.runtime.vectorized.dispatcher
 
 import java.util.concurrent.Executor
-import java.util.concurrent.atomic.{AtomicInteger, AtomicReference}
+import java.util.concurrent.atomic.{AtomicInteger, AtomicLong, AtomicReference}
 import java.util.{concurrent, function}
 
 import org.neo4j.concurrent.BinaryLatch
@@ -28,6 +28,7 @@ import org.neo4j.cypher.internal.runtime.QueryContext
 import org.neo4j.cypher.internal.runtime.vectorized._
 import org.neo4j.cypher.internal.util.v3_4.{InternalException, TaskCloser}
 import org.neo4j.cypher.result.QueryResult.QueryResultVisitor
+import org.neo4j.kernel.api.query.QueryMemoryTracker
 import org.neo4j.values.virtual.MapValue
 
 import scala.collection.JavaConverters._
@@ -41,10 +42,18 @@ class ParallelDispatcher(morselSize: Int, workers: Int, executor: Executor) exte
     val leaf = getLeaf(operators)
     val iteration = new Iteration(None)
     val query = new Query()
-    val startMessage = StartLeafLoop(iteration)
-    val state = QueryState(params, visitor)
-    val action = createAction(query, startMessage, leaf, queryContext, state)
-    executor.execute(action)
+    val startMessages = leaf.start match {
+      case partitioned: PartitionedLeafOperator =>
+        // One leaf task per worker, all claiming partitions from the same source
+        val partitions = partitioned.partitions(queryContext, morselSize)
+        (0 until workers).map(_ => StartPartitionedLeafLoop(partitions, iteration))
+      case _ =>
+        Seq(StartLeafLoop(iteration))
+    }
+    val state = QueryState(params, visitor, queryContext.transactionalContext.memoryTracker)
+    // All leaf tasks are registered with the query before any of them is allowed to run and close the loop
+    val actions = startMessages.map(createAction(query, _, leaf, queryContext, state))
+    actions.foreach(executor.execute)
     query.blockUntilQueryFinishes()
     val failure = query.failure
     if (failure != null) {
@@ -78,11 +87,17 @@ class ParallelDispatcher(morselSize: Int, workers: Int, executor: Executor) exte
           query.eagerReceiver match {
             case None =>
               // We where the last pipeline! Cool! Let's signal the query that we are done here.
+              query.releaseEagerData(state.memoryTracker)
               query.releaseBlockedThreads()
 
             case Some(eagerConsumingPipeline) =>
               query.eagerReceiver = None
-              val startEager = StartLoopWithEagerData(query.eagerData.asScala.toSeq, incoming.iterationState)
+              // Nothing is producing anymore, so the collected morsels can be handed over and the queue reused by
+              // the next eager pipeline, e.g. a sort on top of an aggregation
+              val eagerData = query.eagerData.asScala.toVector
+              query.eagerData.clear()
+              query.handOverEagerData(state.memoryTracker)
+              val startEager = StartLoopWithEagerData(eagerData, incoming.iterationState)
               executor.execute(createAction(query, startEager, eagerConsumingPipeline, queryContext, state))
           }
 
@@ -102,11 +117,11 @@ class ParallelDispatcher(morselSize: Int, workers: Int, executor: Executor) exte
 
     pipeline.parent match {
       case Some(mother) if mother.dependency.isInstanceOf[Eager] && query.eagerReceiver.contains(mother) =>
-        query.eagerData.add(data)
+        query.addEagerData(data, state.memoryTracker)
 
       case Some(mother) if mother.dependency.isInstanceOf[Eager] && query.eagerReceiver.isEmpty =>
         query.eagerReceiver = Some(mother)
-        query.eagerData.add(data)
+        query.addEagerData(data, state.memoryTracker)
 
       case Some(mother) if mother.dependency.isInstanceOf[Eager] =>
         throw new InternalException("This is not the same eager receiver as I want to us")
@@ -135,6 +150,29 @@ class ParallelDispatcher(morselSize: Int, workers: Int, executor: Executor) exte
     private val latch = new BinaryLatch
     var eagerReceiver: Option[Pipeline] = None
     lazy val eagerData = new java.util.concurrent.ConcurrentLinkedQueue[Morsel]()
+    // Estimated heap of the morsels being collected for the eager receiver, and of the morsels handed over to it
+    private val eagerBytes = new AtomicLong()
+    @volatile private var handedOverBytes = 0L
+
+    def addEagerData(data: Morsel, memoryTracker: QueryMemoryTracker): Unit = {
+      val bytes = data.estimatedHeapUsage
+      memoryTracker.allocated(bytes)
+      eagerBytes.addAndGet(bytes)
+      eagerData.add(data)
+    }
+
+    /*
+    Called once all loops have finished, so the pipeline that consumed the previously handed over morsels is done
+     */
+    def handOverEagerData(memoryTracker: QueryMemoryTracker): Unit = {
+      memoryTracker.released(handedOverBytes)
+      handedOverBytes = eagerBytes.getAndSet(0)
+    }
+
+    def releaseEagerData(memoryTracker: QueryMemoryTracker): Unit = {
+      memoryTracker.released(handedOverBytes + eagerBytes.getAndSet(0))
+      handedOverBytes = 0
+    }
 
     def startLoop(iteration: Iteration): Unit = {
       loopCount.computeIfAbsent(iteration, createAtomicInteger).incrementAndGet()
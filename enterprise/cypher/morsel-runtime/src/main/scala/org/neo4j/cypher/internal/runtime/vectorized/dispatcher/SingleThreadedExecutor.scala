@@ -42,14 +42,21 @@ class SingleThreadedExecutor(morselSize: Int = 100000) extends Dispatcher {
     val jobStack: mutable.Stack[(Message, Pipeline)] = new mutable.Stack[(Message, Pipeline)]()
     val iteration = new Iteration(None)
     jobStack.push((StartLeafLoop(iteration), leafOp))
-    val state = QueryState(params, visitor)
+    val state = QueryState(params, visitor, queryContext.transactionalContext.memoryTracker)
     val eagerAcc = new mutable.ArrayBuffer[Morsel]()
     var eagerRecipient: Pipeline = null
+    // Estimated heap of the morsels being collected for the eager recipient, and of the morsels handed over to it
+    var eagerBytes = 0L
+    var handedOverBytes = 0L
     do {
       if(eagerAcc.nonEmpty) {
         jobStack.push((StartLoopWithEagerData(eagerAcc.toVector, iteration), eagerRecipient))
         eagerAcc.clear()
         eagerRecipient = null
+        // the job stack is empty here, so whoever consumed the previously handed over morsels is done with them
+        state.memoryTracker.released(handedOverBytes)
+        handedOverBytes = eagerBytes
+        eagerBytes = 0
       }
 
       while (jobStack.nonEmpty) {
@@ -67,6 +74,9 @@ class SingleThreadedExecutor(morselSize: Int = 100000) extends Dispatcher {
               throw new InternalException("oh noes")
             }
             eagerRecipient = mother
+            val bytes = data.estimatedHeapUsage
+            state.memoryTracker.allocated(bytes)
+            eagerBytes += bytes
             eagerAcc.append(data)
 
           case Some(mother) if mother.dependency.isInstanceOf[Lazy] =>
@@ -78,6 +88,7 @@ class SingleThreadedExecutor(morselSize: Int = 100000) extends Dispatcher {
     }
     while (eagerAcc.nonEmpty)
 
+    state.memoryTracker.released(handedOverBytes)
     taskCloser.close(success = true)
   }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import java.util
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expression
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.{QueryState => OldQueryState}
+import org.neo4j.cypher.internal.runtime.vectorized._
+import org.neo4j.cypher.internal.util.v3_4.InternalException
+import org.neo4j.values.AnyValue
+import org.neo4j.values.virtual.{ListValue, VirtualValues}
+
+/*
+First phase of an aggregation. Aggregates the rows of a single incoming morsel into one row per group, holding the
+partial results of the aggregating functions. Morsels are mapped independently of each other, on whichever worker
+produced them, and the partial results are merged by the AggregationReduceOperator.
+ */
+class AggregationMapperOperator(slots: SlotConfiguration,
+                                inputSlots: SlotConfiguration,
+                                groupings: Array[(Int, Expression)],
+                                aggregations: Array[(Int, MorselAggregation)]) extends Operator {
+
+  override def operate(message: Message,
+                       output: Morsel,
+                       context: QueryContext,
+                       state: QueryState): Continuation = {
+    val (input, iterationState) = message match {
+      case StartLoopWithSingleMorsel(data, is) => (data, is)
+      case _ => throw new InternalException("Unknown continuation received")
+    }
+
+    val queryState = new OldQueryState(context, resources = null, params = state.params)
+    val inputRow = new MorselExecutionContext(input, inputSlots.numberOfLongs, inputSlots.numberOfReferences, 0)
+    val groups = new util.LinkedHashMap[AnyValue, Array[AggregationMapper]]()
+
+    while (inputRow.currentRow < input.validRows) {
+      val key = AggregationMapperOperator.groupingKey(groupings, inputRow, queryState)
+      var mappers = groups.get(key)
+      if (mappers == null) {
+        mappers = aggregations.map(_._2.createMapper)
+        groups.put(key, mappers)
+      }
+      var i = 0
+      while (i < mappers.length) {
+        mappers(i).map(inputRow, queryState)
+        i += 1
+      }
+      inputRow.moveToNextRow()
+    }
+
+    val outputRow = new MorselExecutionContext(output, slots.numberOfLongs, slots.numberOfReferences, 0)
+    val entries = groups.entrySet().iterator()
+    while (entries.hasNext) {
+      val entry = entries.next()
+      AggregationMapperOperator.writeGroupingKey(groupings, outputRow, entry.getKey)
+      val mappers = entry.getValue
+      var i = 0
+      while (i < mappers.length) {
+        outputRow.setRefAt(aggregations(i)._1, mappers(i).result)
+        i += 1
+      }
+      outputRow.moveToNextRow()
+    }
+    output.validRows = outputRow.currentRow
+
+    EndOfLoop(iterationState)
+  }
+
+  override def addDependency(pipeline: Pipeline): Dependency = Lazy(pipeline)
+}
+
+object AggregationMapperOperator {
+
+  // Grouping keys of more than one expression are grouped on the list of their values
+  def groupingKey(groupings: Array[(Int, Expression)], row: MorselExecutionContext, state: OldQueryState): AnyValue =
+    groupings.length match {
+      case 0 => VirtualValues.EMPTY_LIST
+      case 1 => groupings(0)._2(row, state)
+      case _ => VirtualValues.list(groupings.map(_._2(row, state)): _*)
+    }
+
+  def writeGroupingKey(groupings: Array[(Int, Expression)], row: MorselExecutionContext, key: AnyValue): Unit =
+    groupings.length match {
+      case 0 =>
+      case 1 => row.setRefAt(groupings(0)._1, key)
+      case _ =>
+        val values = key.asInstanceOf[ListValue]
+        var i = 0
+        while (i < groupings.length) {
+          row.setRefAt(groupings(i)._1, values.value(i))
+          i += 1
+        }
+    }
+}
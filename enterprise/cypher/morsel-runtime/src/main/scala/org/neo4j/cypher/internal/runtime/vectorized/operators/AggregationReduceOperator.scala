@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import java.util
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.EstimatedValueSize
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expression
+import org.neo4j.cypher.internal.runtime.vectorized._
+import org.neo4j.cypher.internal.util.v3_4.InternalException
+import org.neo4j.values.AnyValue
+import org.neo4j.values.virtual.VirtualValues
+
+/*
+Second phase of an aggregation. Merges the partial results produced by the AggregationMapperOperator for every
+morsel into the final result, one row per group.
+ */
+class AggregationReduceOperator(slots: SlotConfiguration,
+                                groupings: Array[(Int, Expression)],
+                                aggregations: Array[(Int, MorselAggregation)]) extends Operator {
+
+  override def operate(message: Message,
+                       output: Morsel,
+                       context: QueryContext,
+                       state: QueryState): Continuation = {
+    var iterationState: Iteration = null
+    var reduced: ReducedGroups = null
+
+    message match {
+      case StartLoopWithEagerData(inputs, is) =>
+        iterationState = is
+        reduced = reduce(inputs, state)
+      case ContinueLoopWith(ContinueWithSource(source, is, _)) =>
+        iterationState = is
+        reduced = source.asInstanceOf[ReducedGroups]
+      case _ =>
+        throw new InternalException("Unknown continuation received")
+    }
+
+    val groups = reduced.groups
+    val outputRow = new MorselExecutionContext(output, slots.numberOfLongs, slots.numberOfReferences, 0)
+    while (groups.hasNext && outputRow.currentRow < output.validRows) {
+      val entry = groups.next()
+      AggregationMapperOperator.writeGroupingKey(groupings, outputRow, entry.getKey)
+      val reducers = entry.getValue
+      var i = 0
+      while (i < reducers.length) {
+        outputRow.setRefAt(aggregations(i)._1, reducers(i).result)
+        i += 1
+      }
+      outputRow.moveToNextRow()
+    }
+    output.validRows = outputRow.currentRow
+
+    if (groups.hasNext)
+      ContinueWithSource(reduced, iterationState, needsSameThread = false)
+    else {
+      state.memoryTracker.released(reduced.bytes)
+      EndOfLoop(iterationState)
+    }
+  }
+
+  private def reduce(inputs: Seq[Morsel], state: QueryState): ReducedGroups = {
+    val groups = new util.LinkedHashMap[AnyValue, Array[AggregationReducer]]()
+    var groupBytes = 0L
+
+    // Without grouping keys there is always exactly one result row, even when there was no input
+    if (groupings.isEmpty)
+      groups.put(VirtualValues.EMPTY_LIST, aggregations.map(_._2.createReducer))
+
+    inputs.foreach { input =>
+      val inputRow = new MorselExecutionContext(input, slots.numberOfLongs, slots.numberOfReferences, 0)
+      while (inputRow.currentRow < input.validRows) {
+        val key = groupingKey(inputRow)
+        var reducers = groups.get(key)
+        if (reducers == null) {
+          reducers = aggregations.map(_._2.createReducer)
+          groups.put(key, reducers)
+          val bytes = EstimatedValueSize.of(key) + AggregationReduceOperator.GROUP_OVERHEAD * reducers.length
+          state.memoryTracker.allocated(bytes)
+          groupBytes += bytes
+        }
+        var i = 0
+        while (i < reducers.length) {
+          reducers(i).reduce(inputRow.getRefAt(aggregations(i)._1))
+          i += 1
+        }
+        inputRow.moveToNextRow()
+      }
+    }
+    new ReducedGroups(groups.entrySet().iterator(), groupBytes)
+  }
+
+  // The mapper has already evaluated the grouping expressions, so the key is read back from the grouping slots
+  private def groupingKey(row: MorselExecutionContext): AnyValue =
+    groupings.length match {
+      case 0 => VirtualValues.EMPTY_LIST
+      case 1 => row.getRefAt(groupings(0)._1)
+      case _ => VirtualValues.list(groupings.map(g => row.getRefAt(g._1)): _*)
+    }
+
+  override def addDependency(pipeline: Pipeline): Dependency = Eager(pipeline)
+
+  /*
+  The groups left to write, and their estimated heap usage as reported to the memory tracker
+   */
+  private class ReducedGroups(val groups: util.Iterator[util.Map.Entry[AnyValue, Array[AggregationReducer]]],
+                              val bytes: Long)
+}
+
+object AggregationReduceOperator {
+  // rough heap usage of a group, per aggregation function
+  private val GROUP_OVERHEAD = 64L
+}
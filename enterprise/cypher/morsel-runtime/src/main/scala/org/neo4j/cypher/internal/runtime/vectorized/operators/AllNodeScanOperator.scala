@@ -19,43 +19,17 @@
  */
 package org.neo4j.cypher.internal.runtime.vectorized.operators
 
-import org.neo4j.collection.primitive.PrimitiveLongIterator
-import org.neo4j.cypher.internal.runtime.vectorized._
 import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.vectorized._
 
-class AllNodeScanOperator(longsPerRow: Int, refsPerRow: Int, offset: Int) extends Operator {
-
-  override def operate(message: Message,
-                       data: Morsel,
-                       context: QueryContext,
-                       state: QueryState): Continuation = {
-    var nodeIterator: PrimitiveLongIterator = null
-    var iterationState: Iteration = null
-
-    message match {
-      case StartLeafLoop(is) =>
-        nodeIterator = context.nodeOps.allPrimitive
-        iterationState = is
-      case ContinueLoopWith(ContinueWithSource(it, is, _)) =>
-        nodeIterator = it.asInstanceOf[PrimitiveLongIterator]
-        iterationState = is
-    }
-
-    val longs: Array[Long] = data.longs
-
-    var processedRows = 0
-    while (nodeIterator.hasNext && processedRows < data.validRows) {
-      longs(processedRows * longsPerRow + offset) = nodeIterator.next()
-      processedRows += 1
-    }
-
-    data.validRows = processedRows
+/*
+Scans the node store in ranges of node ids, so that every worker reads its own part of the store.
+ */
+class AllNodeScanOperator(longsPerRow: Int, refsPerRow: Int, offset: Int)
+  extends PartitionedNodeScanOperator(longsPerRow, offset) {
 
-    if (nodeIterator.hasNext)
-      ContinueWithSource(nodeIterator, iterationState, needsSameThread = true)
-    else
-      EndOfLoop(iterationState)
-  }
+  override def partitions(context: QueryContext, partitionSize: Int): LeafPartitions =
+    new IdRangePartitions(context.transactionalContext.nodeHighId, partitionSize)
 
-  override def addDependency(pipeline: Pipeline): Dependency = NoDependencies
-}
\ No newline at end of file
+  override protected def accept(node: Long, context: QueryContext): Boolean = context.nodeOps.exists(node)
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import org.neo4j.collection.primitive.PrimitiveLongIterator
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.NullChecker.nodeIsNull
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.pipes.{PrimitiveCachingExpandInto, PrimitiveRelationshipsCache}
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.LazyTypes
+import org.neo4j.cypher.internal.runtime.vectorized._
+import org.neo4j.cypher.internal.util.v3_4.InternalException
+import org.neo4j.cypher.internal.v3_4.expressions.SemanticDirection
+
+/*
+Expands between two nodes that are both already bound, producing one row per relationship connecting them. Known
+connections are cached for the duration of one input morsel.
+ */
+class ExpandIntoOperator(toSlots: SlotConfiguration,
+                         fromSlots: SlotConfiguration,
+                         fromOffset: Int,
+                         relOffset: Int,
+                         toOffset: Int,
+                         dir: SemanticDirection,
+                         types: LazyTypes) extends Operator with PrimitiveCachingExpandInto {
+
+  private final val CACHE_SIZE = 100000
+
+  override def operate(source: Message,
+                       output: Morsel,
+                       context: QueryContext,
+                       state: QueryState): Continuation = {
+
+    var readPos = 0
+    var writePos = 0
+    var relationships: PrimitiveLongIterator = null
+    var input: Morsel = null
+    var iterationState: Iteration = null
+
+    source match {
+      case StartLoopWithSingleMorsel(data, is) =>
+        input = data
+        iterationState = is
+      case ContinueLoopWith(ContinueWithData(data, index, is)) =>
+        input = data
+        readPos = index
+        iterationState = is
+      case ContinueLoopWith(ContinueWithDataAndSource(data, index, rels, is)) =>
+        input = data
+        readPos = index
+        iterationState = is
+        relationships = rels.asInstanceOf[PrimitiveLongIterator]
+      case _ =>
+        throw new InternalException("Unknown continuation received")
+    }
+
+    val inputLongCount = fromSlots.numberOfLongs
+    val inputRefCount = fromSlots.numberOfReferences
+    val outputLongCount = toSlots.numberOfLongs
+    val outputRefCount = toSlots.numberOfReferences
+    val relCache = new PrimitiveRelationshipsCache(CACHE_SIZE)
+
+    while (readPos < input.validRows && writePos < output.validRows) {
+
+      val fromNode = input.longs(readPos * inputLongCount + fromOffset)
+      val toNode = input.longs(readPos * inputLongCount + toOffset)
+      if (nodeIsNull(fromNode) || nodeIsNull(toNode))
+        readPos += 1
+      else {
+        if (relationships == null) {
+          relationships = relCache.get(fromNode, toNode, dir)
+            .getOrElse(findRelationships(context, fromNode, toNode, relCache, dir, types.types(context)))
+        }
+
+        while (writePos < output.validRows && relationships.hasNext) {
+          val relId = relationships.next()
+          System.arraycopy(input.longs, readPos * inputLongCount, output.longs, writePos * outputLongCount, inputLongCount)
+          System.arraycopy(input.refs, readPos * inputRefCount, output.refs, writePos * outputRefCount, inputRefCount)
+          output.longs(writePos * outputLongCount + relOffset) = relId
+          writePos += 1
+        }
+
+        if (!relationships.hasNext) {
+          relationships = null
+          readPos += 1
+        }
+      }
+    }
+
+    val next = if (readPos < input.validRows || relationships != null) {
+      if (relationships == null)
+        ContinueWithData(input, readPos, iterationState)
+      else
+        ContinueWithDataAndSource(input, readPos, relationships, iterationState)
+    } else
+      EndOfLoop(iterationState)
+
+    output.validRows = writePos
+    next
+  }
+
+  override def addDependency(pipeline: Pipeline): Dependency = Lazy(pipeline)
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import java.util.concurrent.atomic.AtomicLong
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.{Expression, NumericHelper}
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.{QueryState => OldQueryState}
+import org.neo4j.cypher.internal.runtime.vectorized._
+
+/*
+Cuts morsels short once the query has let through as many rows as the limit allows. The count is shared by all
+workers of a query, so the rows that make it through depend on the order in which morsels arrive here.
+ */
+class LimitOperator(count: Expression) extends MiddleOperator {
+  override def operate(iterationState: Iteration,
+                       data: Morsel,
+                       context: QueryContext,
+                       state: QueryState): Unit = {
+    val counter = state.stateFor(this, RowCounter(count, context, state))
+    val seen = counter.rows.getAndAdd(data.validRows)
+    data.validRows = Math.max(0L, Math.min(data.validRows, counter.limit - seen)).toInt
+  }
+}
+
+/*
+The evaluated count of a LIMIT or SKIP, together with the number of rows that have reached the operator so far
+ */
+case class RowCounter(limit: Long, rows: AtomicLong)
+
+object RowCounter extends NumericHelper {
+  def apply(count: Expression, context: QueryContext, state: QueryState): RowCounter = {
+    val queryState = new OldQueryState(context, resources = null, params = state.params)
+    RowCounter(asInt(count(PrimitiveExecutionContext.empty, queryState)).value(), new AtomicLong())
+  }
+}
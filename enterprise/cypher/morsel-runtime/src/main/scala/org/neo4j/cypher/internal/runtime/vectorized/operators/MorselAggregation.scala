@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import org.neo4j.cypher.internal.compiler.v3_4.planner.CantCompileQueryException
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.cypher.internal.runtime.interpreted.commands.TypeSafeMathSupport
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions._
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.aggregation.NumericExpressionOnly
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.{QueryState => OldQueryState}
+import org.neo4j.values.storable.{NumberValue, Values}
+import org.neo4j.values.virtual.{ListValue, VirtualValues}
+import org.neo4j.values.{AnyValue, AnyValues}
+
+import scala.collection.JavaConverters._
+import scala.collection.mutable.ArrayBuffer
+
+/*
+An aggregating function split into two phases. A mapper aggregates the rows of a single morsel into a partial result
+on the worker that produced the morsel, and a reducer combines the partial results of all morsels into the final value.
+ */
+trait MorselAggregation {
+  def createMapper: AggregationMapper
+
+  def createReducer: AggregationReducer
+}
+
+trait AggregationMapper {
+  def map(data: ExecutionContext, state: OldQueryState): Unit
+
+  def result: AnyValue
+}
+
+trait AggregationReducer {
+  def reduce(partial: AnyValue): Unit
+
+  def result: AnyValue
+}
+
+object MorselAggregation {
+  def apply(expression: AggregationExpression): MorselAggregation = expression match {
+    case CountStar() => CountStarAggregation
+    case Count(inner) => new CountAggregation(inner)
+    case Sum(inner) => new SumAggregation(inner)
+    case Avg(inner) => new AvgAggregation(inner)
+    case Min(inner) => new MinMaxAggregation(inner, keep = comparison => comparison > 0)
+    case Max(inner) => new MinMaxAggregation(inner, keep = comparison => comparison < 0)
+    case Collect(inner) => new CollectAggregation(inner)
+    case e => throw new CantCompileQueryException(s"Aggregation ${e.getClass.getSimpleName} is not supported by the morsel runtime")
+  }
+}
+
+// Partial counts are longs, the reducer adds them up
+class CountReducer extends AggregationReducer {
+  private var count = 0L
+
+  override def reduce(partial: AnyValue): Unit = count += partial.asInstanceOf[NumberValue].longValue()
+
+  override def result: AnyValue = Values.longValue(count)
+}
+
+object CountStarAggregation extends MorselAggregation {
+  override def createMapper: AggregationMapper = new AggregationMapper {
+    private var count = 0L
+
+    override def map(data: ExecutionContext, state: OldQueryState): Unit = count += 1
+
+    override def result: AnyValue = Values.longValue(count)
+  }
+
+  override def createReducer: AggregationReducer = new CountReducer
+}
+
+class CountAggregation(inner: Expression) extends MorselAggregation {
+  override def createMapper: AggregationMapper = new AggregationMapper {
+    private var count = 0L
+
+    override def map(data: ExecutionContext, state: OldQueryState): Unit =
+      if (inner(data, state) != Values.NO_VALUE) count += 1
+
+    override def result: AnyValue = Values.longValue(count)
+  }
+
+  override def createReducer: AggregationReducer = new CountReducer
+}
+
+// Partial sums are numbers, summed again by the reducer with the same overflow handling as the mapper
+class SumAggregation(inner: Expression) extends MorselAggregation {
+  override def createMapper: AggregationMapper = new AggregationMapper with TypeSafeMathSupport with NumericExpressionOnly {
+    private var sum: OverflowAwareSum[_] = OverflowAwareSum(0L)
+
+    override def name: String = "SUM"
+
+    override def value: Expression = inner
+
+    override def map(data: ExecutionContext, state: OldQueryState): Unit =
+      actOnNumber(inner(data, state), number => sum = sum.add(number))
+
+    override def result: AnyValue = asNumberValue(sum.value)
+  }
+
+  override def createReducer: AggregationReducer = new AggregationReducer with TypeSafeMathSupport {
+    private var sum: OverflowAwareSum[_] = OverflowAwareSum(0L)
+
+    override def reduce(partial: AnyValue): Unit = sum = sum.add(partial)
+
+    override def result: AnyValue = asNumberValue(sum.value)
+  }
+}
+
+// Partial averages are lists of [count, sum], as the average of averages is not the average
+class AvgAggregation(inner: Expression) extends MorselAggregation {
+  override def createMapper: AggregationMapper = new AggregationMapper with TypeSafeMathSupport with NumericExpressionOnly {
+    private var count = 0L
+    private var sum: OverflowAwareSum[_] = OverflowAwareSum(0L)
+
+    override def name: String = "AVG"
+
+    override def value: Expression = inner
+
+    override def map(data: ExecutionContext, state: OldQueryState): Unit =
+      actOnNumber(inner(data, state), number => {
+        count += 1
+        sum = sum.add(number)
+      })
+
+    override def result: AnyValue = VirtualValues.list(Values.longValue(count), asNumberValue(sum.value))
+  }
+
+  override def createReducer: AggregationReducer = new AggregationReducer with TypeSafeMathSupport {
+    private var count = 0L
+    private var sum: OverflowAwareSum[_] = OverflowAwareSum(0L)
+
+    override def reduce(partial: AnyValue): Unit = {
+      val countAndSum = partial.asInstanceOf[ListValue]
+      count += countAndSum.value(0).asInstanceOf[NumberValue].longValue()
+      sum = sum.add(countAndSum.value(1))
+    }
+
+    override def result: AnyValue =
+      if (count > 0) Values.doubleValue(asNumberValue(sum.value).doubleValue() / count)
+      else Values.NO_VALUE
+  }
+}
+
+// Partial results are the smallest or largest value seen, or null when there was none
+class MinMaxAggregation(inner: Expression, keep: Int => Boolean) extends MorselAggregation {
+
+  private class Extreme extends AggregationMapper with AggregationReducer {
+    private var extreme: AnyValue = Values.NO_VALUE
+
+    override def map(data: ExecutionContext, state: OldQueryState): Unit = reduce(inner(data, state))
+
+    override def reduce(value: AnyValue): Unit =
+      if (value != Values.NO_VALUE && (extreme == Values.NO_VALUE || keep(AnyValues.COMPARATOR.compare(extreme, value))))
+        extreme = value
+
+    override def result: AnyValue = extreme
+  }
+
+  override def createMapper: AggregationMapper = new Extreme
+
+  override def createReducer: AggregationReducer = new Extreme
+}
+
+// Partial results are lists of the non-null values of a morsel, concatenated by the reducer
+class CollectAggregation(inner: Expression) extends MorselAggregation {
+  override def createMapper: AggregationMapper = new AggregationMapper {
+    private val collection = new ArrayBuffer[AnyValue]()
+
+    override def map(data: ExecutionContext, state: OldQueryState): Unit = inner(data, state) match {
+      case Values.NO_VALUE =>
+      case v => collection += v
+    }
+
+    override def result: AnyValue = VirtualValues.list(collection.toArray: _*)
+  }
+
+  override def createReducer: AggregationReducer = new AggregationReducer {
+    private val collection = new ArrayBuffer[AnyValue]()
+
+    override def reduce(partial: AnyValue): Unit = collection ++= partial.asInstanceOf[ListValue].asScala
+
+    override def result: AnyValue = VirtualValues.list(collection.toArray: _*)
+  }
+}
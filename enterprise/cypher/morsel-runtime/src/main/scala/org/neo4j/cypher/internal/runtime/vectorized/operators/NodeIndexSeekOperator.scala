@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.{RefSlot, SlotConfiguration}
+import org.neo4j.cypher.internal.planner.v3_4.spi.IndexDescriptor
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expression
+import org.neo4j.cypher.internal.runtime.interpreted.commands.indexQuery
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.{IndexSeekMode, QueryState => OldQueryState}
+import org.neo4j.cypher.internal.runtime.vectorized._
+import org.neo4j.cypher.internal.v3_4.expressions.{LabelToken, PropertyKeyToken}
+import org.neo4j.cypher.internal.v3_4.logical.plans.{CachedNodeProperty, QueryExpression}
+import org.neo4j.values.storable.{Value, Values}
+
+class NodeIndexSeekOperator(slots: SlotConfiguration,
+                            ident: String,
+                            label: LabelToken,
+                            propertyKeys: Seq[PropertyKeyToken],
+                            valueExpr: QueryExpression[Expression],
+                            indexMode: IndexSeekMode) extends Operator {
+
+  private val longsPerRow = slots.numberOfLongs
+
+  private val refsPerRow = slots.numberOfReferences
+
+  private val offset = slots.getLongOffsetFor(ident)
+
+  private val descriptor = IndexDescriptor(label.nameId.id, propertyKeys.map(_.nameId.id).toArray)
+
+  private val indexFactory = indexMode.indexFactory(descriptor)
+
+  // Slots for the cached values of the seeked properties, or -1 for properties that are not read from the cache
+  private val cachedPropertyOffsets: Array[Int] = propertyKeys.map { p =>
+    slots.get(CachedNodeProperty.cacheKey(ident, p.name)) match {
+      case Some(RefSlot(cachedOffset, _, _)) => cachedOffset
+      case _ => -1
+    }
+  }.toArray
+
+  private val indexFactoryWithValues =
+    if (cachedPropertyOffsets.exists(_ >= 0)) indexMode.indexFactoryWithValues(descriptor) else None
+
+  override def operate(message: Message,
+                       data: Morsel,
+                       context: QueryContext,
+                       state: QueryState): Continuation = {
+    var nodes: Iterator[(Long, Array[Value])] = null
+    var iterationState: Iteration = null
+
+    message match {
+      case StartLeafLoop(is) =>
+        nodes = seek(context, state)
+        iterationState = is
+      case ContinueLoopWith(ContinueWithSource(it, is, _)) =>
+        nodes = it.asInstanceOf[Iterator[(Long, Array[Value])]]
+        iterationState = is
+    }
+
+    var processedRows = 0
+    while (nodes.hasNext && processedRows < data.validRows) {
+      val (node, values) = nodes.next()
+      data.longs(processedRows * longsPerRow + offset) = node
+      // Without values from the index the cached slots are set to NO_VALUE, and the properties are read from the store
+      var i = 0
+      while (i < cachedPropertyOffsets.length) {
+        if (cachedPropertyOffsets(i) >= 0) {
+          val value = if (values != null) values(i) else Values.NO_VALUE
+          data.refs(processedRows * refsPerRow + cachedPropertyOffsets(i)) = value
+        }
+        i += 1
+      }
+      processedRows += 1
+    }
+
+    data.validRows = processedRows
+
+    if (nodes.hasNext)
+      ContinueWithSource(nodes, iterationState, needsSameThread = true)
+    else
+      EndOfLoop(iterationState)
+  }
+
+  private def seek(context: QueryContext, state: QueryState): Iterator[(Long, Array[Value])] = {
+    val queryState = new OldQueryState(context, resources = null, params = state.params)
+    val propertyNames = propertyKeys.map(_.name)
+    indexFactoryWithValues match {
+      case Some(factory) =>
+        indexQuery(valueExpr, PrimitiveExecutionContext.empty, queryState, factory(queryState), label.name, propertyNames).map {
+          case (node, values) => (node.getId, values)
+        }
+      case None =>
+        indexQuery(valueExpr, PrimitiveExecutionContext.empty, queryState, indexFactory(queryState), label.name, propertyNames).map {
+          node => (node.getId, null)
+        }
+    }
+  }
+
+  override def addDependency(pipeline: Pipeline): Dependency = NoDependencies
+}
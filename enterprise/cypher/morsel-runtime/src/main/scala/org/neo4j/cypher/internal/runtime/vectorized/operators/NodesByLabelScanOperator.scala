@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import org.neo4j.collection.primitive.PrimitiveLongCollections
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.LazyLabel
+import org.neo4j.cypher.internal.runtime.vectorized._
+
+class NodesByLabelScanOperator(longsPerRow: Int, offset: Int, label: LazyLabel)
+  extends PartitionedNodeScanOperator(longsPerRow, offset) {
+
+  override def partitions(context: QueryContext, partitionSize: Int): LeafPartitions = {
+    val nodes = label.getOptId(context) match {
+      case Some(labelId) => context.getNodesByLabelPrimitive(labelId.id)
+      case None => PrimitiveLongCollections.emptyIterator()
+    }
+    new SharedIteratorPartitions(nodes, partitionSize)
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import org.neo4j.collection.primitive.PrimitiveLongIterator
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.NullChecker.nodeIsNull
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.commands.predicates.Predicate
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.LazyTypes
+import org.neo4j.cypher.internal.runtime.vectorized._
+import org.neo4j.cypher.internal.util.v3_4.InternalException
+import org.neo4j.cypher.internal.v3_4.expressions.SemanticDirection
+import org.neo4j.kernel.impl.api.RelationshipVisitor
+import org.neo4j.kernel.impl.api.store.RelationshipIterator
+
+class OptionalExpandAllOperator(toSlots: SlotConfiguration,
+                                fromSlots: SlotConfiguration,
+                                fromOffset: Int,
+                                relOffset: Int,
+                                toOffset: Int,
+                                dir: SemanticDirection,
+                                types: LazyTypes,
+                                predicate: Predicate)
+  extends OptionalExpandOperator(toSlots, fromSlots, relOffset, predicate) {
+
+  override protected def relationships(context: QueryContext, input: Morsel, row: Int): PrimitiveLongIterator = {
+    val fromNode = input.longs(row * fromSlots.numberOfLongs + fromOffset)
+    if (nodeIsNull(fromNode)) null
+    else context.getRelationshipsForIdsPrimitive(fromNode, dir, types.types(context))
+  }
+
+  override protected def writeRelationship(relationships: PrimitiveLongIterator, relId: Long, output: Morsel,
+                                           row: Int): Unit = {
+    val rowStart = row * toSlots.numberOfLongs
+    val fromNode = output.longs(rowStart + fromOffset)
+    val relVisitor = new RelationshipVisitor[InternalException] {
+      override def visit(relationshipId: Long, typeId: Int, startNodeId: Long, endNodeId: Long): Unit =
+        output.longs(rowStart + toOffset) = if (fromNode == startNodeId) endNodeId else startNodeId
+    }
+    relationships.asInstanceOf[RelationshipIterator].relationshipVisit(relId, relVisitor)
+  }
+
+  override protected def writeNulls(output: Morsel, row: Int): Unit =
+    output.longs(row * toSlots.numberOfLongs + toOffset) = -1
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import org.neo4j.collection.primitive.PrimitiveLongIterator
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.commands.predicates.Predicate
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.{QueryState => OldQueryState}
+import org.neo4j.cypher.internal.runtime.vectorized._
+import org.neo4j.cypher.internal.util.v3_4.InternalException
+
+/*
+Base for optional expands. Every relationship found for an input row produces an output row if it matches the
+predicate, and input rows without any match produce a single row with nulls in the expanded slots.
+ */
+abstract class OptionalExpandOperator(toSlots: SlotConfiguration,
+                                      fromSlots: SlotConfiguration,
+                                      relOffset: Int,
+                                      predicate: Predicate) extends Operator {
+
+  /*
+  The relationships to expand for an input row, or null if the row can only produce nulls
+   */
+  protected def relationships(context: QueryContext, input: Morsel, row: Int): PrimitiveLongIterator
+
+  /*
+  Completes an output row for a relationship that was just returned by the iterator
+   */
+  protected def writeRelationship(relationships: PrimitiveLongIterator, relId: Long, output: Morsel, row: Int): Unit
+
+  /*
+  Completes an output row for an input row without matches
+   */
+  protected def writeNulls(output: Morsel, row: Int): Unit
+
+  override def operate(source: Message,
+                       output: Morsel,
+                       context: QueryContext,
+                       state: QueryState): Continuation = {
+
+    var readPos = 0
+    var writePos = 0
+    var expansion: OptionalExpansion = null
+    var input: Morsel = null
+    var iterationState: Iteration = null
+
+    source match {
+      case StartLoopWithSingleMorsel(data, is) =>
+        input = data
+        iterationState = is
+      case ContinueLoopWith(ContinueWithData(data, index, is)) =>
+        input = data
+        readPos = index
+        iterationState = is
+      case ContinueLoopWith(ContinueWithDataAndSource(data, index, e, is)) =>
+        input = data
+        readPos = index
+        iterationState = is
+        expansion = e.asInstanceOf[OptionalExpansion]
+      case _ =>
+        throw new InternalException("Unknown continuation received")
+    }
+
+    val inputLongCount = fromSlots.numberOfLongs
+    val inputRefCount = fromSlots.numberOfReferences
+    val outputLongCount = toSlots.numberOfLongs
+    val outputRefCount = toSlots.numberOfReferences
+    val outputRow = new MorselExecutionContext(output, outputLongCount, outputRefCount, 0)
+    val queryState = new OldQueryState(context, resources = null, params = state.params)
+
+    while (readPos < input.validRows && writePos < output.validRows) {
+      if (expansion == null)
+        expansion = new OptionalExpansion(relationships(context, input, readPos))
+
+      System.arraycopy(input.longs, readPos * inputLongCount, output.longs, writePos * outputLongCount, inputLongCount)
+      System.arraycopy(input.refs, readPos * inputRefCount, output.refs, writePos * outputRefCount, inputRefCount)
+
+      if (expansion.relationships != null && expansion.relationships.hasNext) {
+        val relId = expansion.relationships.next()
+        output.longs(writePos * outputLongCount + relOffset) = relId
+        writeRelationship(expansion.relationships, relId, output, writePos)
+        outputRow.currentRow = writePos
+        if (predicate.isTrue(outputRow, queryState)) {
+          expansion.matched = true
+          writePos += 1
+        }
+      } else {
+        if (!expansion.matched) {
+          output.longs(writePos * outputLongCount + relOffset) = -1
+          writeNulls(output, writePos)
+          writePos += 1
+        }
+        expansion = null
+        readPos += 1
+      }
+    }
+
+    val next = if (readPos < input.validRows) {
+      if (expansion == null)
+        ContinueWithData(input, readPos, iterationState)
+      else
+        ContinueWithDataAndSource(input, readPos, expansion, iterationState)
+    } else
+      EndOfLoop(iterationState)
+
+    output.validRows = writePos
+    next
+  }
+
+  override def addDependency(pipeline: Pipeline): Dependency = Lazy(pipeline)
+}
+
+class OptionalExpansion(val relationships: PrimitiveLongIterator, var matched: Boolean = false)
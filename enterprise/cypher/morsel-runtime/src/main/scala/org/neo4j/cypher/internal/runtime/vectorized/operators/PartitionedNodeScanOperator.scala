@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import org.neo4j.collection.primitive.PrimitiveLongIterator
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.vectorized._
+
+/*
+Base for leaf operators producing one node per row from partitions claimed off a shared LeafPartitions. Since the
+partitions are claimed independently, a scan can be continued on any thread.
+ */
+abstract class PartitionedNodeScanOperator(longsPerRow: Int, offset: Int) extends PartitionedLeafOperator {
+
+  /*
+  Used to drop ids that are part of a partition but should not be produced, e.g. ids of nodes not in use
+   */
+  protected def accept(node: Long, context: QueryContext): Boolean = true
+
+  override def operate(message: Message,
+                       data: Morsel,
+                       context: QueryContext,
+                       state: QueryState): Continuation = {
+    var partitions: LeafPartitions = null
+    var nodeIterator: PrimitiveLongIterator = null
+    var iterationState: Iteration = null
+
+    message match {
+      case StartLeafLoop(is) =>
+        partitions = this.partitions(context, data.validRows)
+        iterationState = is
+      case StartPartitionedLeafLoop(p, is) =>
+        partitions = p
+        iterationState = is
+      case ContinueLoopWith(ContinueWithSource(source, is, _)) =>
+        val scan = source.asInstanceOf[PartitionScan]
+        partitions = scan.partitions
+        nodeIterator = scan.current
+        iterationState = is
+    }
+
+    if (nodeIterator == null)
+      nodeIterator = partitions.claim()
+
+    val longs: Array[Long] = data.longs
+
+    var processedRows = 0
+    while (nodeIterator != null && processedRows < data.validRows) {
+      if (nodeIterator.hasNext) {
+        val node = nodeIterator.next()
+        if (accept(node, context)) {
+          longs(processedRows * longsPerRow + offset) = node
+          processedRows += 1
+        }
+      }
+      else
+        nodeIterator = partitions.claim()
+    }
+
+    data.validRows = processedRows
+
+    if (nodeIterator != null)
+      ContinueWithSource(PartitionScan(partitions, nodeIterator), iterationState, needsSameThread = false)
+    else
+      EndOfLoop(iterationState)
+  }
+
+  override def addDependency(pipeline: Pipeline): Dependency = NoDependencies
+}
+
+case class PartitionScan(partitions: LeafPartitions, current: PrimitiveLongIterator)
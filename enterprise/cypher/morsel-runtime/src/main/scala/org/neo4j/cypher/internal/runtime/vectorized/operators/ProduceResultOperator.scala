@@ -25,6 +25,7 @@ import org.neo4j.cypher.internal.runtime.vectorized._
 import org.neo4j.cypher.internal.util.v3_4.symbols
 import org.neo4j.cypher.result.QueryResult
 import org.neo4j.values.AnyValue
+import org.neo4j.values.storable.Values
 import org.neo4j.values.virtual.VirtualValues._
 
 
@@ -49,13 +50,20 @@ class MorselResultRow(var morsel: Morsel,
     case None => throw new IllegalStateException()
     case Some(RefSlot(offset, _, _)) => () =>
        morsel.refs(currentPos * slots.numberOfReferences + offset)
-    case Some(LongSlot(offset, _, symbols.CTNode)) => () =>
+    case Some(LongSlot(offset, true, symbols.CTNode)) => () =>
+      nullOr(morsel.longs(currentPos * slots.numberOfLongs + offset), node)
+    case Some(LongSlot(offset, false, symbols.CTNode)) => () =>
       node(morsel.longs(currentPos * slots.numberOfLongs + offset))
-    case Some(LongSlot(offset, _, symbols.CTRelationship)) => () =>
+    case Some(LongSlot(offset, true, symbols.CTRelationship)) => () =>
+      nullOr(morsel.longs(currentPos * slots.numberOfLongs + offset), edge)
+    case Some(LongSlot(offset, false, symbols.CTRelationship)) => () =>
       edge(morsel.longs(currentPos * slots.numberOfLongs + offset))
     case _ => throw new IllegalStateException
   })
 
+  private def nullOr(id: Long, toValue: Long => AnyValue): AnyValue =
+    if (id == -1) Values.NO_VALUE else toValue(id)
+
   override def fields(): Array[AnyValue] = {
     var i = 0
     while ( i < array.length) {
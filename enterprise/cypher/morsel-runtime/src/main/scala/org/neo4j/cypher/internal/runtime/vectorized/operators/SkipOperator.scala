@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expression
+import org.neo4j.cypher.internal.runtime.vectorized._
+
+/*
+Drops rows from the beginning of morsels until the query has skipped as many rows as requested. Like LIMIT, which
+rows are skipped depends on the order in which morsels arrive here.
+ */
+class SkipOperator(slots: SlotConfiguration, count: Expression) extends MiddleOperator {
+  override def operate(iterationState: Iteration,
+                       data: Morsel,
+                       context: QueryContext,
+                       state: QueryState): Unit = {
+    val counter = state.stateFor(this, RowCounter(count, context, state))
+    val seen = counter.rows.getAndAdd(data.validRows)
+    val toSkip = Math.max(0L, Math.min(data.validRows, counter.limit - seen)).toInt
+
+    if (toSkip > 0) {
+      val longCount = slots.numberOfLongs
+      val refCount = slots.numberOfReferences
+      val remaining = data.validRows - toSkip
+      System.arraycopy(data.longs, toSkip * longCount, data.longs, 0, remaining * longCount)
+      System.arraycopy(data.refs, toSkip * refCount, data.refs, 0, remaining * refCount)
+      data.validRows = remaining
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized
+
+import java.util.concurrent.{Callable, Executors}
+
+import org.neo4j.collection.primitive.{PrimitiveLongCollections, PrimitiveLongIterator}
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+
+import scala.collection.mutable.ArrayBuffer
+
+class LeafPartitionsTest extends CypherFunSuite {
+
+  test("id ranges cover the id space") {
+    val partitions = new IdRangePartitions(10, 4)
+
+    drain(partitions.claim()) should equal(Seq(0, 1, 2, 3))
+    drain(partitions.claim()) should equal(Seq(4, 5, 6, 7))
+    drain(partitions.claim()) should equal(Seq(8, 9))
+    partitions.claim() should be(null)
+  }
+
+  test("no id ranges for an empty store") {
+    new IdRangePartitions(0, 4).claim() should be(null)
+  }
+
+  test("shared iterator is handed out in batches") {
+    val partitions = new SharedIteratorPartitions(PrimitiveLongCollections.range(0, 6), 3)
+
+    drain(partitions.claim()) should equal(Seq(0, 1, 2))
+    drain(partitions.claim()) should equal(Seq(3, 4, 5))
+    drain(partitions.claim()) should equal(Seq(6))
+    partitions.claim() should be(null)
+  }
+
+  test("concurrent claims see every id exactly once") {
+    val sources = Seq(
+      new IdRangePartitions(10000, 7),
+      new SharedIteratorPartitions(PrimitiveLongCollections.range(0, 9999), 7))
+    val executor = Executors.newFixedThreadPool(4)
+    try {
+      sources.foreach { partitions =>
+        val tasks = (0 until 4).map(_ => executor.submit(new Callable[Seq[Long]] {
+          override def call(): Seq[Long] = {
+            val seen = new ArrayBuffer[Long]()
+            var partition = partitions.claim()
+            while (partition != null) {
+              seen ++= drain(partition)
+              partition = partitions.claim()
+            }
+            seen
+          }
+        }))
+
+        tasks.flatMap(_.get()).sorted should equal(0L until 10000L)
+      }
+    } finally {
+      executor.shutdown()
+    }
+  }
+
+  private def drain(iterator: PrimitiveLongIterator): Seq[Long] = {
+    val result = new ArrayBuffer[Long]()
+    while (iterator.hasNext) result += iterator.next()
+    result
+  }
+}
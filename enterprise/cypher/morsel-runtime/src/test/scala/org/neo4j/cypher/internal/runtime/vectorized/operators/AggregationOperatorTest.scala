@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.expressions.ReferenceFromSlot
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.{Avg, CountStar, Expression}
+import org.neo4j.cypher.internal.runtime.vectorized._
+import org.neo4j.cypher.internal.util.v3_4.symbols.CTAny
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+import org.neo4j.values.AnyValue
+import org.neo4j.values.storable.Values.{doubleValue, longValue}
+
+class AggregationOperatorTest extends CypherFunSuite {
+
+  private val inputSlots = SlotConfiguration.empty.newReference("x", nullable = true, CTAny)
+  private val slots = SlotConfiguration.empty
+    .newReference("x", nullable = true, CTAny)
+    .newReference("agg", nullable = true, CTAny)
+
+  test("grouped count over two morsels") {
+    val groupings = Array[(Int, Expression)](0 -> ReferenceFromSlot(0))
+    val aggregations = Array(1 -> MorselAggregation(CountStar()))
+    val mapper = new AggregationMapperOperator(slots, inputSlots, groupings, aggregations)
+    val reducer = new AggregationReduceOperator(slots, groupings, aggregations)
+
+    val partials1 = map(mapper, longValue(1), longValue(2), longValue(1), longValue(3), longValue(1))
+    refs(partials1) should equal(Seq(longValue(1), longValue(3), longValue(2), longValue(1), longValue(3), longValue(1)))
+
+    val partials2 = map(mapper, longValue(2), longValue(2))
+    refs(partials2) should equal(Seq(longValue(2), longValue(2)))
+
+    val out = Morsel.create(slots, 10)
+    val continuation = reducer.operate(StartLoopWithEagerData(Seq(partials1, partials2), new Iteration(None)), out, null,
+                                       QueryState(null, null))
+
+    continuation shouldBe an[EndOfLoop]
+    refs(out) should equal(Seq(longValue(1), longValue(3), longValue(2), longValue(3), longValue(3), longValue(1)))
+  }
+
+  test("average is not the average of partial averages") {
+    val aggregations = Array(1 -> MorselAggregation(Avg(ReferenceFromSlot(0))))
+    val mapper = new AggregationMapperOperator(slots, inputSlots, Array.empty, aggregations)
+    val reducer = new AggregationReduceOperator(slots, Array.empty, aggregations)
+
+    val partials1 = map(mapper, longValue(1), longValue(2), longValue(3))
+    val partials2 = map(mapper, longValue(4))
+
+    val out = Morsel.create(slots, 10)
+    reducer.operate(StartLoopWithEagerData(Seq(partials1, partials2), new Iteration(None)), out, null,
+                    QueryState(null, null))
+
+    out.validRows should equal(1)
+    out.refs(1) should equal(doubleValue(2.5))
+  }
+
+  test("reduce continues when groups do not fit in one morsel") {
+    val groupings = Array[(Int, Expression)](0 -> ReferenceFromSlot(0))
+    val aggregations = Array(1 -> MorselAggregation(CountStar()))
+    val mapper = new AggregationMapperOperator(slots, inputSlots, groupings, aggregations)
+    val reducer = new AggregationReduceOperator(slots, groupings, aggregations)
+
+    val partials = map(mapper, longValue(1), longValue(2), longValue(3))
+    val out = Morsel.create(slots, 2)
+
+    val continuation1 = reducer.operate(StartLoopWithEagerData(Seq(partials), new Iteration(None)), out, null,
+                                        QueryState(null, null))
+    continuation1 shouldBe a[ContinueWithSource[_]]
+    refs(out) should equal(Seq(longValue(1), longValue(1), longValue(2), longValue(1)))
+
+    out.validRows = 2
+    val continuation2 = reducer.operate(ContinueLoopWith(continuation1), out, null, QueryState(null, null))
+    continuation2 shouldBe an[EndOfLoop]
+    refs(out) should equal(Seq(longValue(3), longValue(1)))
+  }
+
+  private def map(mapper: AggregationMapperOperator, values: AnyValue*): Morsel = {
+    val in = new Morsel(Array.empty, values.toArray, values.length)
+    val out = Morsel.create(slots, values.length)
+    mapper.operate(StartLoopWithSingleMorsel(in, new Iteration(None)), out, null, QueryState(null, null))
+    out
+  }
+
+  private def refs(morsel: Morsel): Seq[AnyValue] = morsel.refs.take(morsel.validRows * slots.numberOfReferences).toSeq
+}
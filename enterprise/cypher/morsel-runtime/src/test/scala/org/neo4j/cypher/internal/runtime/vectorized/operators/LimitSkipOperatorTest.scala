@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.runtime.vectorized.operators
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.{LongSlot, SlotConfiguration}
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Literal
+import org.neo4j.cypher.internal.runtime.vectorized.{Iteration, Morsel, QueryState}
+import org.neo4j.cypher.internal.util.v3_4.symbols._
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+import org.neo4j.values.AnyValue
+import org.neo4j.values.virtual.VirtualValues.EMPTY_MAP
+
+import scala.collection.mutable
+
+class LimitSkipOperatorTest extends CypherFunSuite {
+
+  private val slots = new SlotConfiguration(mutable.Map("a" -> LongSlot(0, nullable = false, CTNode)), 1, 0)
+
+  test("limit counts rows over all morsels of a query") {
+    val limit = new LimitOperator(Literal(5))
+    val state = QueryState(EMPTY_MAP, null)
+
+    val first = new Morsel(Array[Long](1, 2, 3), Array[AnyValue](), 3)
+    val second = new Morsel(Array[Long](4, 5, 6), Array[AnyValue](), 3)
+    val third = new Morsel(Array[Long](7, 8, 9), Array[AnyValue](), 3)
+    limit.operate(new Iteration(None), first, null, state)
+    limit.operate(new Iteration(None), second, null, state)
+    limit.operate(new Iteration(None), third, null, state)
+
+    first.validRows should equal(3)
+    second.validRows should equal(2)
+    third.validRows should equal(0)
+  }
+
+  test("limit starts counting from zero for every query") {
+    val limit = new LimitOperator(Literal(2))
+
+    val first = new Morsel(Array[Long](1, 2, 3), Array[AnyValue](), 3)
+    val second = new Morsel(Array[Long](1, 2, 3), Array[AnyValue](), 3)
+    limit.operate(new Iteration(None), first, null, QueryState(EMPTY_MAP, null))
+    limit.operate(new Iteration(None), second, null, QueryState(EMPTY_MAP, null))
+
+    first.validRows should equal(2)
+    second.validRows should equal(2)
+  }
+
+  test("skip drops rows from the start of the first morsels") {
+    val skip = new SkipOperator(slots, Literal(4))
+    val state = QueryState(EMPTY_MAP, null)
+
+    val first = new Morsel(Array[Long](1, 2, 3), Array[AnyValue](), 3)
+    val second = new Morsel(Array[Long](4, 5, 6), Array[AnyValue](), 3)
+    val third = new Morsel(Array[Long](7, 8, 9), Array[AnyValue](), 3)
+    skip.operate(new Iteration(None), first, null, state)
+    skip.operate(new Iteration(None), second, null, state)
+    skip.operate(new Iteration(None), third, null, state)
+
+    first.validRows should equal(0)
+    second.validRows should equal(2)
+    second.longs.take(2) should equal(Array[Long](5, 6))
+    third.validRows should equal(3)
+    third.longs should equal(Array[Long](7, 8, 9))
+  }
+}
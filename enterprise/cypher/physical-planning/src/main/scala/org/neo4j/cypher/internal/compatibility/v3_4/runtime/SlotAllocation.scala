@@ -21,6 +21,7 @@ package org.neo4j.cypher.internal.compatibility.v3_4.runtime
 
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration.Size
 import org.neo4j.cypher.internal.ir.v3_4.IdName
+import org.neo4j.cypher.internal.util.v3_4.Foldable._
 import org.neo4j.cypher.internal.util.v3_4.InternalException
 import org.neo4j.cypher.internal.util.v3_4.symbols._
 import org.neo4j.cypher.internal.v3_4.expressions.Expression
@@ -65,6 +66,9 @@ object SlotAllocation {
     val argumentStack = new mutable.Stack[SlotsAndArgument]()
     var comingFrom = lp
 
+    // Index provided property values only get a slot if some expression in the plan reads them
+    val cachedProperties = lp.findByAllClass[CachedNodeProperty].map(_.cacheKey).toSet
+
     def recordArgument(plan:LogicalPlan, argument: SlotsAndArgument) = {
       arguments += plan.assignedId -> argument.argumentSize
     }
@@ -97,7 +101,7 @@ object SlotAllocation {
           val argument = if (argumentStack.isEmpty) NO_ARGUMENT()
                          else argumentStack.top
           recordArgument(current, argument)
-          val result = allocate(current, nullable, argument.slotConfiguration)
+          val result = allocate(current, nullable, argument.slotConfiguration, cachedProperties)
           allocations += (current.assignedId -> result)
           resultStack.push(result)
 
@@ -142,13 +146,18 @@ object SlotAllocation {
     * @param lp the operator to compute slots for.
     * @param nullable
     * @param argument the logical plan argument slot configuration.
+    * @param cachedProperties the keys of all cached node properties that are read somewhere in the plan.
     * @return the slot configuration of lp
     */
-  private def allocate(lp: LogicalPlan, nullable: Boolean, argument: SlotConfiguration): SlotConfiguration =
+  private def allocate(lp: LogicalPlan, nullable: Boolean, argument: SlotConfiguration,
+                       cachedProperties: Set[String]): SlotConfiguration =
     lp match {
       case leaf: NodeLogicalLeafPlan =>
         val result = argument
         result.newLong(leaf.idName.name, nullable, CTNode)
+        indexProvidedProperties(leaf).filter(cachedProperties).foreach { key =>
+          result.newReference(key, nullable = true, CTAny)
+        }
         result
 
       case _:Argument =>
@@ -157,6 +166,15 @@ object SlotAllocation {
       case p => throw new SlotAllocationFailed(s"Don't know how to handle $p")
     }
 
+  private def indexProvidedProperties(leaf: NodeLogicalLeafPlan): Seq[String] = leaf match {
+    case NodeIndexSeek(IdName(node), _, propertyKeys, valueExpr, _) if !valueExpr.isInstanceOf[RangeQueryExpression[_]] =>
+      propertyKeys.map(p => CachedNodeProperty.cacheKey(node, p.name))
+    case NodeUniqueIndexSeek(IdName(node), _, propertyKeys, valueExpr, _) if !valueExpr.isInstanceOf[RangeQueryExpression[_]] =>
+      propertyKeys.map(p => CachedNodeProperty.cacheKey(node, p.name))
+    case _ =>
+      Seq.empty
+  }
+
   /**
     * Compute the slot configuration of a single source logical plan operator {@code lp}.
     *
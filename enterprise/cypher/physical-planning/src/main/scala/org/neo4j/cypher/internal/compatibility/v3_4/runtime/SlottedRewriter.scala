@@ -127,24 +127,21 @@ class SlottedRewriter(tokenContext: TokenContext) {
   private def rewriteCreator(pipelineInformation: SlotConfiguration, thisPlan: LogicalPlan): Rewriter = {
     val innerRewriter = Rewriter.lift {
       case prop@Property(Variable(key), PropertyKeyName(propKey)) =>
+        rewriteProperty(pipelineInformation, prop, key, propKey)
 
-        pipelineInformation(key) match {
-          case LongSlot(offset, nullable, typ) =>
-            val maybeToken: Option[Int] = tokenContext.getOptPropertyKeyId(propKey)
-
-            val propExpression = (typ, maybeToken) match {
-              case (CTNode, Some(token)) => NodeProperty(offset, token, s"$key.$propKey")
-              case (CTNode, None) => NodePropertyLate(offset, propKey, s"$key.$propKey")
-              case (CTRelationship, Some(token)) => RelationshipProperty(offset, token, s"$key.$propKey")
-              case (CTRelationship, None) => RelationshipPropertyLate(offset, propKey, s"$key.$propKey")
-              case _ => throw new InternalException(s"Expressions on object other then nodes and relationships are not yet supported")
-            }
+      case prop@CachedNodeProperty(Variable(key), PropertyKeyName(propKey)) =>
+        val maybeToken: Option[Int] = tokenContext.getOptPropertyKeyId(propKey)
+        (pipelineInformation(key), pipelineInformation.get(prop.cacheKey), maybeToken) match {
+          case (LongSlot(offset, nullable, CTNode), Some(RefSlot(cachedOffset, _, _)), Some(token)) =>
+            val propExpression = CachedNodePropertyFromSlot(offset, token, cachedOffset, s"$key.$propKey")
             if (nullable)
               NullCheck(offset, propExpression)
             else
               propExpression
 
-          case RefSlot(offset, _, _) => prop.copy(map = ReferenceFromSlot(offset))(prop.position)
+          // The cached value did not survive to this plan, so read the property like any other
+          case _ =>
+            rewriteProperty(pipelineInformation, Property(prop.variable, prop.propertyKey)(prop.position), key, propKey)
         }
 
       case e@Equals(Variable(k1), Variable(k2)) => // TODO: Handle nullability
@@ -213,6 +210,26 @@ class SlottedRewriter(tokenContext: TokenContext) {
     topDown(rewriter = innerRewriter, stopper = stopAtOtherLogicalPlans(thisPlan))
   }
 
+  private def rewriteProperty(pipelineInformation: SlotConfiguration, prop: Property, key: String, propKey: String) =
+    pipelineInformation(key) match {
+      case LongSlot(offset, nullable, typ) =>
+        val maybeToken: Option[Int] = tokenContext.getOptPropertyKeyId(propKey)
+
+        val propExpression = (typ, maybeToken) match {
+          case (CTNode, Some(token)) => NodeProperty(offset, token, s"$key.$propKey")
+          case (CTNode, None) => NodePropertyLate(offset, propKey, s"$key.$propKey")
+          case (CTRelationship, Some(token)) => RelationshipProperty(offset, token, s"$key.$propKey")
+          case (CTRelationship, None) => RelationshipPropertyLate(offset, propKey, s"$key.$propKey")
+          case _ => throw new InternalException(s"Expressions on object other then nodes and relationships are not yet supported")
+        }
+        if (nullable)
+          NullCheck(offset, propExpression)
+        else
+          propExpression
+
+      case RefSlot(offset, _, _) => prop.copy(map = ReferenceFromSlot(offset))(prop.position)
+    }
+
   private def checkIfPropertyExists(pipelineInformation: SlotConfiguration, key: String, propKey: String) = {
     val slot = pipelineInformation(key)
     val maybeToken = tokenContext.getOptPropertyKeyId(propKey)
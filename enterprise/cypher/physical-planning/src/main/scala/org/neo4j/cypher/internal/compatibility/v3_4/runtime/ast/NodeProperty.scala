@@ -28,6 +28,11 @@ case class NodePropertyLate(offset: Int, propKey: String, name: String) extends
   override def asCanonicalStringVal: String = name
 }
 
+// The value may already have been provided by the index seek that found the node, in which case it is in a ref slot
+case class CachedNodePropertyFromSlot(offset: Int, propToken: Int, cachedPropertyOffset: Int, name: String) extends RuntimeExpression {
+  override def asCanonicalStringVal: String = name
+}
+
 case class NodePropertyExists(offset: Int, propToken: Int, name: String) extends RuntimeExpression {
   override def asCanonicalStringVal: String = name
 }
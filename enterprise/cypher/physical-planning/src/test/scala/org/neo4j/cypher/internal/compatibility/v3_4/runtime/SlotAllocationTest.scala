@@ -21,7 +21,7 @@ package org.neo4j.cypher.internal.compatibility.v3_4.runtime
 
 import org.neo4j.cypher.internal.compiler.v3_4.planner.LogicalPlanningTestSupport2
 import org.neo4j.cypher.internal.ir.v3_4.{CardinalityEstimation, IdName, PlannerQuery, VarPatternLength}
-import org.neo4j.cypher.internal.util.v3_4.LabelId
+import org.neo4j.cypher.internal.util.v3_4.{LabelId, PropertyKeyId}
 import org.neo4j.cypher.internal.util.v3_4.symbols._
 import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
 import org.neo4j.cypher.internal.v3_4.expressions._
@@ -361,6 +361,40 @@ class SlotAllocationTest extends CypherFunSuite with LogicalPlanningTestSupport2
     allocations(projection.assignedId) shouldBe theSameInstanceAs(allocations(leaf.assignedId))
   }
 
+  test("index seek with cached property read") {
+    // given
+    val propertyKey = PropertyKeyToken(PropertyKeyName("prop")(pos), PropertyKeyId(0))
+    val leaf = NodeIndexSeek(x, LabelToken("label", LabelId(0)), Seq(propertyKey),
+      SingleQueryExpression(literalInt(42)), Set.empty)(solved)
+    val cached = CachedNodeProperty(varFor("x"), PropertyKeyName("prop")(pos))(pos)
+    val projection = Projection(leaf, Map("x.prop" -> cached))(solved)
+    projection.assignIds()
+
+    // when
+    val allocations = SlotAllocation.allocateSlots(projection).slotConfigurations
+
+    // then
+    allocations(leaf.assignedId) should equal(SlotConfiguration(numberOfLongs = 1, numberOfReferences = 2, slots = Map(
+      "x" -> LongSlot(0, nullable = false, CTNode),
+      cached.cacheKey -> RefSlot(0, nullable = true, CTAny),
+      "x.prop" -> RefSlot(1, nullable = true, CTAny)
+    )))
+  }
+
+  test("index seek without cached property reads") {
+    // given
+    val propertyKey = PropertyKeyToken(PropertyKeyName("prop")(pos), PropertyKeyId(0))
+    val leaf = NodeIndexSeek(x, LabelToken("label", LabelId(0)), Seq(propertyKey),
+      SingleQueryExpression(literalInt(42)), Set.empty)(solved)
+    leaf.assignIds()
+
+    // when
+    val allocations = SlotAllocation.allocateSlots(leaf).slotConfigurations
+
+    // then
+    allocations(leaf.assignedId) should equal(SlotConfiguration(Map("x" -> LongSlot(0, nullable = false, CTNode)), 1, 0))
+  }
+
   test("cartesian product") {
     // given
     val lhs = NodeByLabelScan(x, LabelName("label1")(pos), Set.empty)(solved)
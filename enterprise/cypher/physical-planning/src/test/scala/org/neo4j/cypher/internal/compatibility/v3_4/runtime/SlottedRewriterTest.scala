@@ -210,6 +210,55 @@ class SlottedRewriterTest extends CypherFunSuite with AstConstructionTestSupport
     lookup(result.assignedId) should equal(pipeline)
   }
 
+  test("cached property read of node from index seek MATCH (n:L) WHERE n.prop = 42 RETURN n.prop") {
+    // given
+    val cached = CachedNodeProperty(varFor("n"), PropertyKeyName("prop")(pos))(pos)
+    val argument = Argument(Set(IdName("n")))(solved)()
+    val projection = Projection(argument, Map("n.prop" -> cached))(solved)
+    projection.assignIds()
+    val pipeline = SlotConfiguration(Map(
+      "n" -> LongSlot(0, nullable = false, typ = CTNode),
+      cached.cacheKey -> RefSlot(0, nullable = true, typ = CTAny),
+      "n.prop" -> RefSlot(1, nullable = true, typ = CTAny)),
+      1, 2)
+    val lookup: Map[LogicalPlanId, SlotConfiguration] = Map(
+      argument.assignedId -> pipeline,
+      projection.assignedId -> pipeline)
+    val tokenContext = mock[TokenContext]
+    when(tokenContext.getOptPropertyKeyId("prop")).thenReturn(Some(666))
+    val rewriter = new SlottedRewriter(tokenContext)
+
+    // when
+    val result = rewriter(projection, lookup)
+
+    // then
+    result should equal(Projection(argument, Map("n.prop" -> CachedNodePropertyFromSlot(0, 666, 0, "n.prop")))(solved))
+  }
+
+  test("cached property read without a cache slot reads the property from the store") {
+    // given
+    val cached = CachedNodeProperty(varFor("n"), PropertyKeyName("prop")(pos))(pos)
+    val argument = Argument(Set(IdName("n")))(solved)()
+    val projection = Projection(argument, Map("n.prop" -> cached))(solved)
+    projection.assignIds()
+    val pipeline = SlotConfiguration(Map(
+      "n" -> LongSlot(0, nullable = false, typ = CTNode),
+      "n.prop" -> RefSlot(0, nullable = true, typ = CTAny)),
+      1, 1)
+    val lookup: Map[LogicalPlanId, SlotConfiguration] = Map(
+      argument.assignedId -> pipeline,
+      projection.assignedId -> pipeline)
+    val tokenContext = mock[TokenContext]
+    when(tokenContext.getOptPropertyKeyId("prop")).thenReturn(Some(666))
+    val rewriter = new SlottedRewriter(tokenContext)
+
+    // when
+    val result = rewriter(projection, lookup)
+
+    // then
+    result should equal(Projection(argument, Map("n.prop" -> NodeProperty(0, 666, "n.prop")))(solved))
+  }
+
   test("rewriting variable should always work, even if Variable is not part of a bigger tree") {
     // given
     val leaf = NodeByLabelScan(IdName("x"), LabelName("label")(pos), Set.empty)(solved)
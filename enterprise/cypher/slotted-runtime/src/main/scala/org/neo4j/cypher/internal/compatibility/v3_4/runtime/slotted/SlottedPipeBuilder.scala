@@ -48,7 +48,8 @@ class SlottedPipeBuilder(fallback: PipeBuilder,
                          monitors: Monitors,
                          physicalPlan: PhysicalPlan,
                          readOnly: Boolean,
-                         rewriteAstExpression: (frontEndAst.Expression) => frontEndAst.Expression)
+                         rewriteAstExpression: (frontEndAst.Expression) => frontEndAst.Expression,
+                         spillMemoryBudget: Long)
                         (implicit context: PipeExecutionBuilderContext, planContext: PlanContext)
   extends PipeBuilder {
 
@@ -205,7 +206,10 @@ class SlottedPipeBuilder(fallback: PipeBuilder,
             slots.getReferenceOffsetFor(key) -> expressionConverters.toCommandExpression(expression)
               .asInstanceOf[AggregationExpression]
         }
-        EagerAggregationSlottedPipe(source, slots, grouping, aggregation)(id)
+        SlottedPipeBuilder.primitiveGroupingKeys(grouping) match {
+          case Some(keys) => PrimitiveEagerAggregationSlottedPipe(source, slots, keys, grouping, aggregation)(id)
+          case None => EagerAggregationSlottedPipe(source, slots, grouping, aggregation, spillMemoryBudget)(id)
+        }
 
       case Distinct(_, groupingExpressions) =>
         val grouping = groupingExpressions.map {
@@ -213,7 +217,10 @@ class SlottedPipeBuilder(fallback: PipeBuilder,
             slots.getReferenceOffsetFor(key) -> expressionConverters.toCommandExpression(expression)
         }
 
-        DistinctSlottedPipe(source, slots, grouping)(id)
+        SlottedPipeBuilder.primitiveGroupingKeys(grouping) match {
+          case Some(keys) => PrimitiveDistinctSlottedPipe(source, slots, keys, grouping)(id)
+          case None => DistinctSlottedPipe(source, slots, grouping)(id)
+        }
 
       case CreateRelationship(_, idName, IdName(startNode), typ, IdName(endNode), props) =>
         val fromOffset = slots.getLongOffsetFor(startNode)
@@ -231,11 +238,12 @@ class SlottedPipeBuilder(fallback: PipeBuilder,
         Top1SlottedPipe(source, sortItems.map(translateColumnOrder(slots, _)).toList)(id = id)
 
       case Top(_, sortItems, limit) =>
-        TopNSlottedPipe(source, sortItems.map(translateColumnOrder(slots, _)).toList, convertExpressions(limit))(id = id)
+        TopNSlottedPipe(source, sortItems.map(translateColumnOrder(slots, _)).toList, convertExpressions(limit),
+                        spillMemoryBudget)(id = id)
 
       case Limit(_, count, IncludeTies) =>
         (source, count) match {
-          case (SortSlottedPipe(inner, sortDescription, _), SignedDecimalIntegerLiteral("1")) =>
+          case (SortSlottedPipe(inner, sortDescription, _, _), SignedDecimalIntegerLiteral("1")) =>
             Top1WithTiesSlottedPipe(inner, sortDescription.toList)(id = id)
 
           case _ => throw new InternalException("Including ties is only supported for very specific plans")
@@ -249,7 +257,7 @@ class SlottedPipeBuilder(fallback: PipeBuilder,
         fallback.build(plan, source)
 
       case Sort(_, sortItems) =>
-        SortSlottedPipe(source, sortItems.map(translateColumnOrder(slots, _)), slots)(id = id)
+        SortSlottedPipe(source, sortItems.map(translateColumnOrder(slots, _)), slots, spillMemoryBudget)(id = id)
 
       case Eager(_) =>
         EagerSlottedPipe(source, slots)(id)
@@ -395,6 +403,23 @@ object SlottedPipeBuilder {
       throw new InternalException(s"Do not know how to project $slot")
   }
 
+  /**
+    * If every grouping expression just reads a node or relationship from a long slot, the rows can be grouped on the
+    * ids in those slots instead of on the values of the expressions.
+    *
+    * @return the long slots read by the grouping expressions, in the same order as the expressions
+    */
+  def primitiveGroupingKeys(groupingExpressions: Map[Int, Expression]): Option[Array[Int]] = {
+    val offsets = groupingExpressions.values.toArray.map {
+      case slottedExpressions.NodeFromSlot(offset) => offset
+      case slottedExpressions.RelationshipFromSlot(offset) => offset
+      case slottedExpressions.NullCheck(offset, slottedExpressions.NodeFromSlot(inner)) if offset == inner => offset
+      case slottedExpressions.NullCheck(offset, slottedExpressions.RelationshipFromSlot(inner)) if offset == inner => offset
+      case _ => -1
+    }
+    if (offsets.isEmpty || offsets.contains(-1)) None else Some(offsets)
+  }
+
   type RowMapping = (ExecutionContext, QueryState) => ExecutionContext
 
   //compute mapping from incoming to outgoing pipe line, the slot order may differ
@@ -46,6 +46,18 @@ case class NodePropertyLate(offset: Int, propKey: String) extends Expression wit
 
 }
 
+case class CachedNodePropertyFromSlot(offset: Int, token: Int, cachedPropertyOffset: Int) extends Expression with SlottedExpression {
+
+  override def apply(ctx: ExecutionContext, state: QueryState): AnyValue = {
+    // A node found by an index seek always has the seeked property, so NO_VALUE means nothing was cached
+    val cached = ctx.getRefAt(cachedPropertyOffset)
+    if (cached ne Values.NO_VALUE)
+      cached
+    else
+      state.query.nodeOps.getProperty(ctx.getLongAt(offset), token)
+  }
+}
+
 case class NodePropertyExists(offset: Int, token: Int) extends Predicate with SlottedExpression {
 
   override def isMatch(m: ExecutionContext, state: QueryState): Option[Boolean] = {
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.expressions
+
+import org.neo4j.codegen.Expression._
+import org.neo4j.codegen.{CodeBlock, MethodReference, TypeReference, Expression => Code}
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.expressions.ExpressionCompiler
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.expressions.ExpressionCompiler._
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.{ast => runtimeAst}
+import org.neo4j.cypher.internal.frontend.v3_4.helpers.using
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.QueryState
+import org.neo4j.cypher.internal.runtime.{Operations, QueryContext}
+import org.neo4j.cypher.internal.v3_4.{expressions => ast}
+import org.neo4j.graphdb.{Node, Relationship}
+import org.neo4j.values.AnyValue
+import org.neo4j.values.storable.Value
+
+/**
+  * The expression compiler of the slotted runtime. On top of what the interpreted runtime compiles, the generated
+  * code reads long and reference slots directly, compares primitive ids without boxing them, and reads
+  * properties straight from the query context.
+  */
+object SlottedExpressionCompiler extends ExpressionCompiler {
+
+  override protected def isOperator(expression: ast.Expression): Boolean = expression match {
+    case _: runtimeAst.PrimitiveEquals => true
+    case _ => super.isOperator(expression)
+  }
+
+  override protected def compile(expression: ast.Expression, generation: Generation): Option[IntermediateExpression] =
+    expression match {
+      case runtimeAst.IdFromSlot(offset) =>
+        Some(leaf(LongRepresentation, longSlot(offset)))
+      case runtimeAst.ReferenceFromSlot(offset) =>
+        Some(leaf(ValueRepresentation, refSlot(offset)))
+      case runtimeAst.NodeProperty(offset, token, _) =>
+        Some(leaf(ValueRepresentation, property(NODE_OPS, offset, token), mayThrow = true))
+      case runtimeAst.RelationshipProperty(offset, token, _) =>
+        Some(leaf(ValueRepresentation, property(RELATIONSHIP_OPS, offset, token), mayThrow = true))
+      case runtimeAst.CachedNodePropertyFromSlot(offset, token, cachedPropertyOffset, _) =>
+        // A node found by an index seek always has the seeked property, so NO_VALUE means nothing was cached
+        Some(leaf(ValueRepresentation, block => ternary(notSame(refSlot(cachedPropertyOffset)(block), NO_VALUE),
+                                                        refSlot(cachedPropertyOffset)(block),
+                                                        property(NODE_OPS, offset, token)(block)), mayThrow = true))
+      case runtimeAst.NodePropertyExists(offset, token, _) =>
+        Some(leaf(BooleanRepresentation, hasProperty(NODE_OPS, offset, token), isPredicate = true, mayThrow = true))
+      case runtimeAst.RelationshipPropertyExists(offset, token, _) =>
+        Some(leaf(BooleanRepresentation, hasProperty(RELATIONSHIP_OPS, offset, token), isPredicate = true, mayThrow = true))
+
+      case runtimeAst.PrimitiveEquals(a, b) =>
+        val (lhs, rhs) = (generation.compileExpression(a), generation.compileExpression(b))
+        val primitive = lhs.representation == rhs.representation && lhs.representation != ValueRepresentation
+        val (left, right) = if (primitive) (lhs, rhs) else (toValue(lhs), toValue(rhs))
+        Some(IntermediateExpression(BooleanRepresentation, block => {
+          val l = if (right.hasStatements) generation.materialize(left, block) else left.code(block)
+          if (primitive) equal(l, right.code(block)) else invoke(l, OBJECT_EQUALS, right.code(block))
+        }, isPredicate = true, mayThrow = left.mayThrow || right.mayThrow,
+          hasStatements = left.hasStatements || right.hasStatements))
+
+      case runtimeAst.NullCheck(offset, inner) =>
+        val value = toValue(generation.compileExpression(inner))
+        Some(value.copy(hasStatements = true, code = block => {
+          val result = block.declare(typeRef[AnyValue], generation.name("nullChecked"))
+          block.assign(result, NO_VALUE)
+          val isNotNull = notEqual(longSlot(offset)(block), constant(-1L))
+          using(block.ifStatement(isNotNull)) { ifNotNull =>
+            ifNotNull.assign(result, value.code(ifNotNull))
+          }
+          load(result)
+        }))
+
+      case _ =>
+        super.compile(expression, generation)
+    }
+
+  private def longSlot(offset: Int)(block: CodeBlock): Code =
+    invoke(block.load(CONTEXT), GET_LONG_AT, constant(offset))
+
+  private def refSlot(offset: Int)(block: CodeBlock): Code =
+    invoke(block.load(CONTEXT), GET_REF_AT, constant(offset))
+
+  private def operations(ops: MethodReference, block: CodeBlock): Code =
+    invoke(invoke(block.load(STATE), QUERY), ops)
+
+  private def property(ops: MethodReference, offset: Int, token: Int)(block: CodeBlock): Code =
+    invoke(operations(ops, block), GET_PROPERTY, longSlot(offset)(block), constant(token))
+
+  private def hasProperty(ops: MethodReference, offset: Int, token: Int)(block: CodeBlock): Code =
+    invoke(operations(ops, block), HAS_PROPERTY, longSlot(offset)(block), constant(token))
+
+  private val GET_LONG_AT = method[ExecutionContext, Long]("getLongAt", TypeReference.INT)
+  private val GET_REF_AT = method[ExecutionContext, AnyValue]("getRefAt", TypeReference.INT)
+  private val QUERY = method[QueryState, QueryContext]("query")
+  private val NODE_OPS = method[QueryContext, Operations[Node]]("nodeOps")
+  private val RELATIONSHIP_OPS = method[QueryContext, Operations[Relationship]]("relationshipOps")
+  private val GET_PROPERTY = method[Operations[Node], Value]("getProperty", TypeReference.LONG, TypeReference.INT)
+  private val HAS_PROPERTY = method[Operations[Node], Boolean]("hasProperty", TypeReference.LONG, TypeReference.INT)
+  private val OBJECT_EQUALS = method[Object, Boolean]("equals", typeRef[Object])
+}
@@ -38,6 +38,8 @@ object SlottedExpressionConverters extends ExpressionConverter {
         Some(runtimeExpression.ReferenceFromSlot(offset))
       case runtimeAst.NodeProperty(offset, token, _) =>
         Some(runtimeExpression.NodeProperty(offset, token))
+      case runtimeAst.CachedNodePropertyFromSlot(offset, token, cachedPropertyOffset, _) =>
+        Some(runtimeExpression.CachedNodePropertyFromSlot(offset, token, cachedPropertyOffset))
       case runtimeAst.RelationshipProperty(offset, token, _) =>
         Some(runtimeExpression.RelationshipProperty(offset, token))
       case runtimeAst.IdFromSlot(offset) =>
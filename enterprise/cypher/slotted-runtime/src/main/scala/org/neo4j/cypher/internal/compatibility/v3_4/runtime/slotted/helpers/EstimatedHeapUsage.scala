@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.runtime.interpreted.EstimatedValueSize.{OBJECT_OVERHEAD, REFERENCE}
+import org.neo4j.cypher.internal.runtime.interpreted.{EstimatedValueSize, ExecutionContext}
+import org.neo4j.values.AnyValue
+
+/**
+  * Rough estimates of how much heap rows and values use. They are meant for deciding when an operator holds too much
+  * data, not for exact accounting, so nested values are only looked into where they can be large.
+  */
+object EstimatedHeapUsage {
+
+  def of(row: ExecutionContext): Long = row match {
+    case r: PrimitiveExecutionContext =>
+      var size = 3 * OBJECT_OVERHEAD + 8L * r.longs.length + REFERENCE * r.refs.length
+      var i = 0
+      while (i < r.refs.length) {
+        size += of(r.refs(i))
+        i += 1
+      }
+      size
+    case _ =>
+      OBJECT_OVERHEAD + row.size * (REFERENCE + OBJECT_OVERHEAD)
+  }
+
+  def of(value: AnyValue): Long = EstimatedValueSize.of(value)
+}
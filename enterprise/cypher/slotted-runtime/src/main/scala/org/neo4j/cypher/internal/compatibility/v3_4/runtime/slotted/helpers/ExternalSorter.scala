@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers
+
+import java.util
+import java.util.{Comparator, PriorityQueue}
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.SpillFormat.UnspillableValueException
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.kernel.api.query.QueryMemoryTracker
+
+import scala.collection.JavaConverters._
+import scala.collection.mutable.ArrayBuffer
+
+/**
+  * Sorts rows while keeping at most about `memoryBudget` bytes of them on heap. When the buffered rows grow above the
+  * budget they are sorted and written to a temporary file as a sorted run, and the runs are merged when the result is
+  * read. Rows with values that cannot be spilled are kept on heap, exactly as if there was no budget.
+  *
+  * Rows that compare as equal are returned in the order they were added.
+  *
+  * The rows on heap are reported to the memory tracker, and released when they are spilled or when the sorted rows
+  * have all been read.
+  */
+class ExternalSorter(comparator: Comparator[ExecutionContext], memoryBudget: Long, query: QueryContext,
+                     memoryTracker: QueryMemoryTracker) {
+
+  private val buffer = new util.ArrayList[ExecutionContext]()
+  private var bufferedBytes = 0L
+  private val runs = new ArrayBuffer[SpillFile]()
+  private var spillable = true
+
+  def add(row: ExecutionContext): Unit = {
+    val rowBytes = EstimatedHeapUsage.of(row)
+    memoryTracker.allocated(rowBytes)
+    buffer.add(row)
+    bufferedBytes += rowBytes
+    if (spillable && bufferedBytes > memoryBudget)
+      spill()
+  }
+
+  def spilledRuns: Int = runs.size
+
+  def sorted(): Iterator[ExecutionContext] = {
+    util.Collections.sort(buffer, comparator)
+    val rows =
+      if (runs.isEmpty)
+        buffer.asScala.iterator
+      else
+        merge(runs.map(_.read(query)) :+ buffer.asScala.iterator)
+    new MemoryReleasingIterator(rows, memoryTracker, bufferedBytes)
+  }
+
+  private def spill(): Unit = {
+    util.Collections.sort(buffer, comparator)
+    val slots = buffer.get(0) match {
+      case row: PrimitiveExecutionContext => row.slots
+      case _ =>
+        spillable = false
+        return
+    }
+    val run = new SpillFile(slots)
+    try {
+      val it = buffer.iterator()
+      while (it.hasNext)
+        run.write(it.next().asInstanceOf[PrimitiveExecutionContext])
+    } catch {
+      case _: UnspillableValueException | _: ClassCastException =>
+        run.delete()
+        spillable = false
+        return
+    }
+    runs += run
+    buffer.clear()
+    memoryTracker.released(bufferedBytes)
+    bufferedBytes = 0
+  }
+
+  /*
+   * K-way merge of sorted iterators. Ties are broken by the position of the iterator, which keeps the sort stable
+   * since earlier runs hold rows that were added earlier.
+   */
+  private def merge(sources: Seq[Iterator[ExecutionContext]]): Iterator[ExecutionContext] = {
+    val heads = new PriorityQueue[MergeHead](sources.size, new Comparator[MergeHead] {
+      override def compare(a: MergeHead, b: MergeHead): Int = {
+        val c = comparator.compare(a.row, b.row)
+        if (c != 0) c else Integer.compare(a.source, b.source)
+      }
+    })
+    sources.zipWithIndex.foreach {
+      case (it, i) => if (it.hasNext) heads.add(MergeHead(it.next(), i, it))
+    }
+
+    new Iterator[ExecutionContext] {
+      override def hasNext: Boolean = !heads.isEmpty
+
+      override def next(): ExecutionContext = {
+        val head = heads.poll()
+        if (head == null)
+          throw new NoSuchElementException
+        if (head.rest.hasNext)
+          heads.add(MergeHead(head.rest.next(), head.source, head.rest))
+        head.row
+      }
+    }
+  }
+
+  private case class MergeHead(row: ExecutionContext, source: Int, rest: Iterator[ExecutionContext])
+}
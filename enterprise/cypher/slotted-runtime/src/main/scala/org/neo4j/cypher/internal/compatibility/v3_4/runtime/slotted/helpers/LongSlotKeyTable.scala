@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers
+
+import org.neo4j.collection.primitive.{Primitive, PrimitiveLongObjectMap, PrimitiveLongObjectVisitor}
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+
+/**
+  * Hash table keyed on the values of one or more long slots, typically node or relationship ids.
+  *
+  * A single key goes straight into a primitive long map, so keys are never boxed. Composite keys are hashed into one
+  * long, and entries sharing that hash are chained. The key array of a composite key is only allocated when a new
+  * entry is added, looking up a row does not allocate.
+  *
+  * The primitive maps use -1 to mark empty buckets, so the value for a single key of -1, which is how null nodes and
+  * relationships are stored in slots, is kept on the side.
+  *
+  * The offsets to read the key from are given on every call, so that rows with different slot layouts, like the
+  * two sides of a hash join, can use the same table.
+  */
+class LongSlotKeyTable[T <: AnyRef](keySize: Int) extends AutoCloseable {
+
+  import LongSlotKeyTable._
+
+  private val table: PrimitiveLongObjectMap[AnyRef] = Primitive.longObjectMap()
+
+  private var nullKeyValue: AnyRef = _
+
+  def isEmpty: Boolean = table.isEmpty && nullKeyValue == null
+
+  def size: Int = if (nullKeyValue == null) table.size() else table.size() + 1
+
+  /**
+    * @return the value stored for the key of the row, or null if there is none
+    */
+  def get(row: ExecutionContext, offsets: Array[Int]): T =
+    if (keySize == 1) {
+      val key = row.getLongAt(offsets(0))
+      (if (key == NULL_KEY) nullKeyValue else table.get(key)).asInstanceOf[T]
+    } else {
+      var entry = table.get(hash(row, offsets)).asInstanceOf[Entry]
+      while (entry != null && !entry.matches(row, offsets))
+        entry = entry.next
+      if (entry == null) null.asInstanceOf[T] else entry.value.asInstanceOf[T]
+    }
+
+  def getOrElseUpdate(row: ExecutionContext, offsets: Array[Int], create: => T): T = {
+    val existing = get(row, offsets)
+    if (existing != null)
+      existing
+    else {
+      val value = create
+      put(row, offsets, value)
+      value
+    }
+  }
+
+  /**
+    * Adds a value for a key that is not in the table yet
+    */
+  def put(row: ExecutionContext, offsets: Array[Int], value: T): Unit =
+    if (keySize == 1) {
+      val key = row.getLongAt(offsets(0))
+      if (key == NULL_KEY) nullKeyValue = value else table.put(key, value)
+    } else {
+      val key = new Array[Long](keySize)
+      var i = 0
+      while (i < keySize) {
+        key(i) = row.getLongAt(offsets(i))
+        i += 1
+      }
+      val h = hash(row, offsets)
+      table.put(h, new Entry(key, value, table.get(h).asInstanceOf[Entry]))
+    }
+
+  def foreach(f: T => Unit): Unit = {
+    if (nullKeyValue != null)
+      f(nullKeyValue.asInstanceOf[T])
+    table.visitEntries(new PrimitiveLongObjectVisitor[AnyRef, RuntimeException] {
+      override def visited(key: Long, value: AnyRef): Boolean = {
+        if (keySize == 1)
+          f(value.asInstanceOf[T])
+        else {
+          var entry = value.asInstanceOf[Entry]
+          while (entry != null) {
+            f(entry.value.asInstanceOf[T])
+            entry = entry.next
+          }
+        }
+        false
+      }
+    })
+  }
+
+  override def close(): Unit = {
+    nullKeyValue = null
+    table.close()
+  }
+}
+
+object LongSlotKeyTable {
+
+  private val NULL_KEY = -1L
+
+  private class Entry(key: Array[Long], val value: AnyRef, val next: Entry) {
+    def matches(row: ExecutionContext, offsets: Array[Int]): Boolean = {
+      var i = 0
+      while (i < key.length) {
+        if (key(i) != row.getLongAt(offsets(i)))
+          return false
+        i += 1
+      }
+      true
+    }
+  }
+
+  private def hash(row: ExecutionContext, offsets: Array[Int]): Long = {
+    var h = 0L
+    var i = 0
+    while (i < offsets.length) {
+      h = (h ^ row.getLongAt(offsets(i))) * 0x9E3779B97F4A7C15L
+      h ^= h >>> 29
+      i += 1
+    }
+    if (h == NULL_KEY) 0L else h
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers
+
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.kernel.api.query.QueryMemoryTracker
+
+/**
+  * Passes on the rows of an operator, and releases the memory the operator has reported to the tracker once all
+  * rows have been read. The bytes are looked up at that point, so operators that keep growing while their output is
+  * read, like distinct, release everything they reported.
+  */
+class MemoryReleasingIterator(rows: Iterator[ExecutionContext], tracker: QueryMemoryTracker, bytes: => Long)
+  extends Iterator[ExecutionContext] {
+
+  private var released = false
+
+  override def hasNext: Boolean = {
+    if (rows.hasNext)
+      true
+    else {
+      if (!released) {
+        released = true
+        tracker.released(bytes)
+      }
+      false
+    }
+  }
+
+  override def next(): ExecutionContext = rows.next()
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers
+
+import java.io._
+import java.nio.file.{Files, Path}
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+
+/**
+  * A temporary file of rows that all share the same slot configuration. Rows are appended with [[write]], and then
+  * read back once, in the order they were written. The file is deleted when all rows have been read, or on [[delete]].
+  * A row that cannot be written is not added to the file at all.
+  */
+class SpillFile(slots: SlotConfiguration) {
+
+  private val path: Path = Files.createTempFile("cypher-spill", ".rows")
+  path.toFile.deleteOnExit()
+
+  private var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), SpillFile.BUFFER_SIZE))
+  private var count = 0L
+
+  // rows are serialized here first, so that a row that fails to serialize leaves no partial data in the file
+  private val scratch = new ByteArrayOutputStream()
+  private val scratchOut = new DataOutputStream(scratch)
+
+  def size: Long = count
+
+  def write(row: PrimitiveExecutionContext): Unit = {
+    scratch.reset()
+    SpillFormat.writeRow(row, scratchOut)
+    scratch.writeTo(out)
+    count += 1
+  }
+
+  def read(query: QueryContext): Iterator[ExecutionContext] = {
+    if (count == 0) {
+      delete()
+      return Iterator.empty
+    }
+    closeOutput()
+    val in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), SpillFile.BUFFER_SIZE))
+
+    new Iterator[ExecutionContext] {
+      private var remaining = SpillFile.this.count
+
+      override def hasNext: Boolean = remaining > 0
+
+      override def next(): ExecutionContext = {
+        if (remaining <= 0)
+          throw new NoSuchElementException
+        val row = SpillFormat.readRow(slots, in, query)
+        remaining -= 1
+        if (remaining == 0) {
+          in.close()
+          delete()
+        }
+        row
+      }
+    }
+  }
+
+  def delete(): Unit = {
+    closeOutput()
+    Files.deleteIfExists(path)
+  }
+
+  private def closeOutput(): Unit = if (out != null) {
+    out.close()
+    out = null
+  }
+}
+
+object SpillFile {
+  private val BUFFER_SIZE = 1 << 16
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers
+
+import java.io.{DataInput, DataOutput}
+import java.nio.charset.StandardCharsets
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.kernel.impl.util.ValueUtils
+import org.neo4j.values.AnyValue
+import org.neo4j.values.storable._
+import org.neo4j.values.virtual._
+
+/**
+  * Binary format for rows that are spilled to temporary files. Longs are written as zig-zag encoded var-longs,
+  * since most of them are small entity ids, and reference values are written with a one byte tag in front.
+  *
+  * Nodes and relationships are written as ids only, and read back through the query context.
+  */
+object SpillFormat {
+
+  /**
+    * Thrown when a row holds a value that cannot be written to disk. Operators catch it and keep their rows on heap.
+    */
+  class UnspillableValueException(value: AnyValue)
+    extends RuntimeException(s"Cannot spill value of type ${if (value == null) "null" else value.getClass.getSimpleName}")
+
+  private final val NO_VALUE: Byte = 0
+  private final val TRUE: Byte = 1
+  private final val FALSE: Byte = 2
+  private final val BYTE: Byte = 3
+  private final val SHORT: Byte = 4
+  private final val INT: Byte = 5
+  private final val LONG: Byte = 6
+  private final val FLOAT: Byte = 7
+  private final val DOUBLE: Byte = 8
+  private final val TEXT: Byte = 9
+  private final val CHAR: Byte = 10
+  private final val POINT: Byte = 11
+  private final val ARRAY: Byte = 12
+  private final val LIST: Byte = 13
+  private final val MAP: Byte = 14
+  private final val NODE: Byte = 15
+  private final val RELATIONSHIP: Byte = 16
+  private final val PATH: Byte = 17
+
+  // tags for the element type of storable arrays
+  private final val BOOLEANS: Byte = 0
+  private final val BYTES: Byte = 1
+  private final val SHORTS: Byte = 2
+  private final val INTS: Byte = 3
+  private final val LONGS: Byte = 4
+  private final val FLOATS: Byte = 5
+  private final val DOUBLES: Byte = 6
+  private final val CHARS: Byte = 7
+  private final val STRINGS: Byte = 8
+
+  def writeRow(row: PrimitiveExecutionContext, out: DataOutput): Unit = {
+    var i = 0
+    while (i < row.longs.length) {
+      writeVarLong(row.longs(i), out)
+      i += 1
+    }
+    i = 0
+    while (i < row.refs.length) {
+      writeValue(row.refs(i), out)
+      i += 1
+    }
+  }
+
+  def readRow(slots: SlotConfiguration, in: DataInput, query: QueryContext): PrimitiveExecutionContext = {
+    val row = PrimitiveExecutionContext(slots)
+    var i = 0
+    while (i < row.longs.length) {
+      row.longs(i) = readVarLong(in)
+      i += 1
+    }
+    i = 0
+    while (i < row.refs.length) {
+      row.refs(i) = readValue(in, query)
+      i += 1
+    }
+    row
+  }
+
+  def writeValue(value: AnyValue, out: DataOutput): Unit = value match {
+    case null => throw new UnspillableValueException(value)
+    case x if x eq Values.NO_VALUE => out.writeByte(NO_VALUE)
+    case b: BooleanValue => out.writeByte(if (b.booleanValue()) TRUE else FALSE)
+    case b: ByteValue =>
+      out.writeByte(BYTE)
+      out.writeByte(b.value())
+    case s: ShortValue =>
+      out.writeByte(SHORT)
+      out.writeShort(s.value())
+    case i: IntValue =>
+      out.writeByte(INT)
+      writeVarLong(i.value(), out)
+    case l: LongValue =>
+      out.writeByte(LONG)
+      writeVarLong(l.value(), out)
+    case f: FloatValue =>
+      out.writeByte(FLOAT)
+      out.writeFloat(f.value())
+    case d: DoubleValue =>
+      out.writeByte(DOUBLE)
+      out.writeDouble(d.doubleValue())
+    case c: CharValue =>
+      out.writeByte(CHAR)
+      out.writeChar(c.value())
+    case t: TextValue =>
+      out.writeByte(TEXT)
+      writeString(t.stringValue(), out)
+    case p: PointValue =>
+      out.writeByte(POINT)
+      writeVarLong(p.getCoordinateReferenceSystem.getCode, out)
+      writeDoubles(p.coordinates(), out)
+    case a: ArrayValue =>
+      out.writeByte(ARRAY)
+      writeArray(a, out)
+    case l: ListValue =>
+      out.writeByte(LIST)
+      writeVarLong(l.size(), out)
+      val it = l.iterator()
+      while (it.hasNext)
+        writeValue(it.next(), out)
+    case m: MapValue =>
+      out.writeByte(MAP)
+      writeVarLong(m.size(), out)
+      val it = m.entrySet().iterator()
+      while (it.hasNext) {
+        val entry = it.next()
+        writeString(entry.getKey, out)
+        writeValue(entry.getValue, out)
+      }
+    case n: NodeValue =>
+      out.writeByte(NODE)
+      writeVarLong(n.id(), out)
+    case n: NodeReference =>
+      out.writeByte(NODE)
+      writeVarLong(n.id(), out)
+    case r: EdgeValue =>
+      out.writeByte(RELATIONSHIP)
+      writeVarLong(r.id(), out)
+    case r: EdgeReference =>
+      out.writeByte(RELATIONSHIP)
+      writeVarLong(r.id(), out)
+    case p: PathValue =>
+      // nodes and relationships alternate, starting and ending with a node
+      val entities = p.asList()
+      out.writeByte(PATH)
+      writeVarLong(entities.size(), out)
+      val it = entities.iterator()
+      while (it.hasNext) it.next() match {
+        case n: NodeValue => writeVarLong(n.id(), out)
+        case r: EdgeValue => writeVarLong(r.id(), out)
+        case other => throw new UnspillableValueException(other)
+      }
+    case _ => throw new UnspillableValueException(value)
+  }
+
+  def readValue(in: DataInput, query: QueryContext): AnyValue = in.readByte() match {
+    case NO_VALUE => Values.NO_VALUE
+    case TRUE => Values.TRUE
+    case FALSE => Values.FALSE
+    case BYTE => Values.byteValue(in.readByte())
+    case SHORT => Values.shortValue(in.readShort())
+    case INT => Values.intValue(readVarLong(in).toInt)
+    case LONG => Values.longValue(readVarLong(in))
+    case FLOAT => Values.floatValue(in.readFloat())
+    case DOUBLE => Values.doubleValue(in.readDouble())
+    case CHAR => Values.charValue(in.readChar())
+    case TEXT => Values.stringValue(readString(in))
+    case POINT =>
+      val crs = CoordinateReferenceSystem.get(readVarLong(in).toInt)
+      Values.pointValue(crs, readDoubles(in): _*)
+    case ARRAY => readArray(in)
+    case LIST =>
+      val values = new Array[AnyValue](readVarLong(in).toInt)
+      var i = 0
+      while (i < values.length) {
+        values(i) = readValue(in, query)
+        i += 1
+      }
+      VirtualValues.list(values: _*)
+    case MAP =>
+      val size = readVarLong(in).toInt
+      val keys = new Array[String](size)
+      val values = new Array[AnyValue](size)
+      var i = 0
+      while (i < size) {
+        keys(i) = readString(in)
+        values(i) = readValue(in, query)
+        i += 1
+      }
+      VirtualValues.map(keys, values)
+    case NODE => node(readVarLong(in), query)
+    case RELATIONSHIP => relationship(readVarLong(in), query)
+    case PATH =>
+      val length = readVarLong(in).toInt
+      val nodes = new Array[NodeValue](length / 2 + 1)
+      val relationships = new Array[EdgeValue](length / 2)
+      var i = 0
+      while (i < length) {
+        val id = readVarLong(in)
+        if (i % 2 == 0) nodes(i / 2) = node(id, query)
+        else relationships(i / 2) = relationship(id, query)
+        i += 1
+      }
+      VirtualValues.path(nodes, relationships)
+    case tag => throw new IllegalStateException(s"Unknown value tag $tag in spill file")
+  }
+
+  def writeVarLong(value: Long, out: DataOutput): Unit = {
+    var zigZag = (value << 1) ^ (value >> 63)
+    while ((zigZag & ~0x7FL) != 0) {
+      out.writeByte(((zigZag & 0x7F) | 0x80).toInt)
+      zigZag >>>= 7
+    }
+    out.writeByte(zigZag.toInt)
+  }
+
+  def readVarLong(in: DataInput): Long = {
+    var zigZag = 0L
+    var shift = 0
+    var b = in.readByte()
+    while ((b & 0x80) != 0) {
+      zigZag |= (b & 0x7FL) << shift
+      shift += 7
+      b = in.readByte()
+    }
+    zigZag |= (b & 0x7FL) << shift
+    (zigZag >>> 1) ^ -(zigZag & 1)
+  }
+
+  private def node(id: Long, query: QueryContext): NodeValue = ValueUtils.fromNodeProxy(query.nodeOps.getById(id))
+
+  private def relationship(id: Long, query: QueryContext): EdgeValue =
+    ValueUtils.fromRelationshipProxy(query.relationshipOps.getById(id))
+
+  private def writeString(s: String, out: DataOutput): Unit = {
+    val bytes = s.getBytes(StandardCharsets.UTF_8)
+    writeVarLong(bytes.length, out)
+    out.write(bytes)
+  }
+
+  private def readString(in: DataInput): String = {
+    val bytes = new Array[Byte](readVarLong(in).toInt)
+    in.readFully(bytes)
+    new String(bytes, StandardCharsets.UTF_8)
+  }
+
+  private def writeDoubles(values: Array[Double], out: DataOutput): Unit = {
+    writeVarLong(values.length, out)
+    values.foreach(out.writeDouble)
+  }
+
+  private def readDoubles(in: DataInput): Array[Double] = Array.fill(readVarLong(in).toInt)(in.readDouble())
+
+  private def writeArray(array: ArrayValue, out: DataOutput): Unit = array.asObjectCopy() match {
+    case a: Array[Boolean] =>
+      out.writeByte(BOOLEANS)
+      writeVarLong(a.length, out)
+      a.foreach(out.writeBoolean)
+    case a: Array[Byte] =>
+      out.writeByte(BYTES)
+      writeVarLong(a.length, out)
+      out.write(a)
+    case a: Array[Short] =>
+      out.writeByte(SHORTS)
+      writeVarLong(a.length, out)
+      a.foreach(s => out.writeShort(s))
+    case a: Array[Int] =>
+      out.writeByte(INTS)
+      writeVarLong(a.length, out)
+      a.foreach(i => writeVarLong(i, out))
+    case a: Array[Long] =>
+      out.writeByte(LONGS)
+      writeVarLong(a.length, out)
+      a.foreach(l => writeVarLong(l, out))
+    case a: Array[Float] =>
+      out.writeByte(FLOATS)
+      writeVarLong(a.length, out)
+      a.foreach(out.writeFloat)
+    case a: Array[Double] =>
+      out.writeByte(DOUBLES)
+      writeDoubles(a, out)
+    case a: Array[Char] =>
+      out.writeByte(CHARS)
+      writeVarLong(a.length, out)
+      a.foreach(c => out.writeChar(c))
+    case a: Array[String] =>
+      out.writeByte(STRINGS)
+      writeVarLong(a.length, out)
+      a.foreach(s => writeString(s, out))
+    case _ => throw new UnspillableValueException(array)
+  }
+
+  private def readArray(in: DataInput): ArrayValue = {
+    val kind = in.readByte()
+    val length = readVarLong(in).toInt
+    kind match {
+      case BOOLEANS => Values.booleanArray(Array.fill(length)(in.readBoolean()))
+      case BYTES =>
+        val bytes = new Array[Byte](length)
+        in.readFully(bytes)
+        Values.byteArray(bytes)
+      case SHORTS => Values.shortArray(Array.fill(length)(in.readShort()))
+      case INTS => Values.intArray(Array.fill(length)(readVarLong(in).toInt))
+      case LONGS => Values.longArray(Array.fill(length)(readVarLong(in)))
+      case FLOATS => Values.floatArray(Array.fill(length)(in.readFloat()))
+      case DOUBLES => Values.doubleArray(Array.fill(length)(in.readDouble()))
+      case CHARS => Values.charArray(Array.fill(length)(in.readChar()))
+      case STRINGS => Values.stringArray(Array.fill(length)(readString(in)): _*)
+      case _ => throw new IllegalStateException(s"Unknown array tag $kind in spill file")
+    }
+  }
+}
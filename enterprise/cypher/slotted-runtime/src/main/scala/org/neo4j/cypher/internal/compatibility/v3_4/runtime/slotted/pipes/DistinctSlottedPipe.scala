@@ -21,9 +21,10 @@ package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.pipes
 
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.MemoryReleasingIterator
 import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expression
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.{Pipe, PipeWithSource, QueryState}
-import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.cypher.internal.runtime.interpreted.{EstimatedValueSize, ExecutionContext}
 import org.neo4j.cypher.internal.v3_4.logical.plans.LogicalPlanId
 import org.neo4j.values.AnyValue
 import org.neo4j.values.virtual.VirtualValues
@@ -55,14 +56,19 @@ case class DistinctSlottedPipe(source: Pipe,
      * Filter out rows we have already seen
      */
     var seen = mutable.Set[AnyValue]()
-    result.filter { ctx =>
+    var seenBytes = 0L
+    val distinct = result.filter { ctx =>
       val values = VirtualValues.list(keyOffsets.map(ctx.getRefAt): _*)
       if (seen.contains(values)) {
         false
       } else {
+        val bytes = EstimatedValueSize.REFERENCE + EstimatedValueSize.of(values)
+        state.memoryTracker.allocated(bytes)
+        seenBytes += bytes
         seen += values
         true
       }
     }
+    new MemoryReleasingIterator(distinct, state.memoryTracker, seenBytes)
   }
 }
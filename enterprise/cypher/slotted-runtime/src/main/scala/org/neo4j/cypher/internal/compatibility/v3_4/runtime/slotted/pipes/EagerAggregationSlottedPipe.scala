@@ -21,6 +21,8 @@ package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.pipes
 
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.SpillFormat.UnspillableValueException
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.{EstimatedHeapUsage, MemoryReleasingIterator, SpillFile}
 import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.{AggregationExpression, Expression}
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.aggregation.AggregationFunction
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.{Pipe, PipeWithSource, QueryState}
@@ -31,14 +33,20 @@ import org.neo4j.values.virtual.{ListValue, MapValue, VirtualValues}
 
 import scala.collection.immutable
 import scala.collection.mutable.{Map => MutableMap}
+import scala.util.hashing.MurmurHash3
 
 // Eager aggregation means that this pipe will eagerly load the whole resulting sub graphs before starting
 // to emit aggregated results.
 // Cypher is lazy until it can't - this pipe will eagerly load the full match
+//
+// When the groups grow beyond the spill memory budget, the groups already in memory keep aggregating, while input rows
+// of all other groups are written to partition files by the hash of their grouping key. Each partition is aggregated
+// on its own afterwards, spilling again if it is still too large.
 case class EagerAggregationSlottedPipe(source: Pipe,
                                        slots: SlotConfiguration,
                                        groupingExpressions: Map[Int, Expression],
-                                       aggregations: Map[Int, AggregationExpression])
+                                       aggregations: Map[Int, AggregationExpression],
+                                       spillMemoryBudget: Long)
                                       (val id: LogicalPlanId = LogicalPlanId.DEFAULT)
   extends PipeWithSource(source) {
 
@@ -100,8 +108,6 @@ case class EagerAggregationSlottedPipe(source: Pipe,
   protected def internalCreateResults(input: Iterator[ExecutionContext],
                                       state: QueryState): Iterator[ExecutionContext] = {
 
-    val result = MutableMap[AnyValue, Seq[AggregationFunction]]()
-
     // Used when we have no input and no grouping expressions. In this case, we'll return a single row
     def createEmptyResult(params: MapValue): Iterator[ExecutionContext] = {
       val context = PrimitiveExecutionContext(slots)
@@ -114,6 +120,20 @@ case class EagerAggregationSlottedPipe(source: Pipe,
       Iterator.single(context)
     }
 
+    val result = aggregate(input, state, level = 0)
+    if (!result.hasNext && groupingExpressions.isEmpty) {
+      createEmptyResult(state.params)
+    } else {
+      result
+    }
+  }
+
+  private def aggregate(input: Iterator[ExecutionContext], state: QueryState, level: Int): Iterator[ExecutionContext] = {
+    val result = MutableMap[AnyValue, Seq[AggregationFunction]]()
+    var groupBytes = 0L
+    var spillable = level < EagerAggregationSlottedPipe.MAX_SPILL_LEVEL
+    var partitions: Array[SpillFile] = null
+
     def writeAggregationResultToContext(groupingKey: AnyValue, aggregator: Seq[AggregationFunction]): ExecutionContext = {
       val context = PrimitiveExecutionContext(slots)
       addGroupingValuesToResult(context, groupingKey)
@@ -123,20 +143,63 @@ case class EagerAggregationSlottedPipe(source: Pipe,
       context
     }
 
+    def aggregateInMemory(ctx: ExecutionContext, groupingValue: AnyValue): Unit = {
+      val functions = result.getOrElseUpdate(groupingValue, {
+        val bytes = EstimatedHeapUsage.of(groupingValue) + EagerAggregationSlottedPipe.GROUP_OVERHEAD * aggregationFunctions.size
+        state.memoryTracker.allocated(bytes)
+        groupBytes += bytes
+        aggregationFunctions.map(_.createAggregationFunction)
+      })
+      functions.foreach(func => func(ctx, state))
+    }
+
     // Consume all input and aggregate
     input.foreach(ctx => {
       val groupingValue: AnyValue = groupingFunction(ctx, state)
-      val functions = result.getOrElseUpdate(groupingValue, aggregationFunctions.map(_.createAggregationFunction))
-      functions.foreach(func => func(ctx, state))
+      if (partitions == null || result.contains(groupingValue)) {
+        aggregateInMemory(ctx, groupingValue)
+        if (partitions == null && spillable && groupBytes > spillMemoryBudget) ctx match {
+          case row: PrimitiveExecutionContext =>
+            partitions = Array.fill(EagerAggregationSlottedPipe.PARTITIONS)(new SpillFile(row.slots))
+          case _ =>
+            spillable = false
+        }
+      } else {
+        try {
+          partitions(partitionOf(groupingValue, level)).write(ctx.asInstanceOf[PrimitiveExecutionContext])
+        } catch {
+          case _: UnspillableValueException =>
+            // Give up on spilling, and aggregate the rows spilled so far in memory
+            val spilled = partitions
+            partitions = null
+            spillable = false
+            spilled.foreach(_.read(state.query).foreach(row => aggregateInMemory(row, groupingFunction(row, state))))
+            aggregateInMemory(ctx, groupingValue)
+        }
+      }
     })
 
     // Write the produced aggregation map to the output pipeline
-    if (result.isEmpty && groupingExpressions.isEmpty) {
-      createEmptyResult(state.params)
+    val inMemory = new MemoryReleasingIterator(result.map {
+      case (key, aggregator) => writeAggregationResultToContext(key, aggregator)
+    }.toIterator, state.memoryTracker, groupBytes)
+
+    if (partitions == null) {
+      inMemory
     } else {
-      result.map {
-        case (key, aggregator) => writeAggregationResultToContext(key, aggregator)
-      }.toIterator
+      inMemory ++ partitions.iterator.flatMap(partition => aggregate(partition.read(state.query), state, level + 1))
     }
   }
+
+  // Every level uses a different hash, so that the rows of one partition are spread out when it is partitioned again
+  private def partitionOf(groupingValue: AnyValue, level: Int): Int =
+    Math.floorMod(MurmurHash3.finalizeHash(MurmurHash3.mix(level, groupingValue.hashCode()), 1),
+                  EagerAggregationSlottedPipe.PARTITIONS)
+}
+
+object EagerAggregationSlottedPipe {
+  private val PARTITIONS = 16
+  private val MAX_SPILL_LEVEL = 3
+  // rough heap usage of a group in the aggregation map, per aggregation function
+  private val GROUP_OVERHEAD = 64L
 }
@@ -21,6 +21,7 @@ package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.pipes
 
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.{EstimatedHeapUsage, MemoryReleasingIterator}
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.{Pipe, PipeWithSource, QueryState}
 import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
 import org.neo4j.cypher.internal.v3_4.logical.plans.LogicalPlanId
@@ -29,11 +30,16 @@ case class EagerSlottedPipe(source: Pipe, slots: SlotConfiguration)(val id: Logi
   extends PipeWithSource(source) {
 
   override protected def internalCreateResults(input: Iterator[ExecutionContext], state: QueryState): Iterator[ExecutionContext] = {
-    input.map { inputRow =>
+    var bufferedBytes = 0L
+    val rows = input.map { inputRow =>
       // this is necessary because Eager is the beginning of a new pipeline
       val outputRow = PrimitiveExecutionContext(slots)
       inputRow.copyTo(outputRow)
+      val rowBytes = EstimatedHeapUsage.of(outputRow)
+      state.memoryTracker.allocated(rowBytes)
+      bufferedBytes += rowBytes
       outputRow
-    }.toIndexedSeq.iterator
+    }.toIndexedSeq
+    new MemoryReleasingIterator(rows.iterator, state.memoryTracker, bufferedBytes)
   }
 }
@@ -23,12 +23,13 @@ import java.util
 
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.{EstimatedHeapUsage, LongSlotKeyTable, MemoryReleasingIterator}
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.NullChecker.nodeIsNull
-import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.cypher.internal.runtime.interpreted.{EstimatedValueSize, ExecutionContext}
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.{Pipe, PipeWithSource, QueryState}
 import org.neo4j.cypher.internal.v3_4.logical.plans.LogicalPlanId
 
-import scala.collection.mutable
+import scala.collection.JavaConverters._
 
 case class NodeHashJoinSlottedPipe(leftNodes: Array[Int],
                                    rightNodes: Array[Int],
@@ -49,71 +50,68 @@ case class NodeHashJoinSlottedPipe(leftNodes: Array[Int],
     if (rhsIterator.isEmpty)
       return Iterator.empty
 
-    val table = buildProbeTable(input)
+    val (table, tableBytes) = buildProbeTable(input, state)
 
     if (table.isEmpty)
       return Iterator.empty
 
     val result = for {rhs: ExecutionContext <- rhsIterator
-                      joinKey <- computeKey(rhs, rightNodes)}
+                      if !hasNullKey(rhs, rightNodes)}
       yield {
-        val matchesFromLhs: mutable.Seq[ExecutionContext] = table.getOrElse(joinKey, mutable.MutableList.empty)
-
-        matchesFromLhs.map{ lhs =>
-          val newRow = PrimitiveExecutionContext(slots)
-          lhs.copyTo(newRow)
-          longsToCopy foreach {
-            case (from, to) => newRow.setLongAt(to, rhs.getLongAt(from))
-          }
-          refsToCopy foreach {
-            case (from, to) => newRow.setRefAt(to, rhs.getRefAt(from))
+        val matchesFromLhs = table.get(rhs, rightNodes)
+
+        if (matchesFromLhs == null)
+          Iterator.empty
+        else
+          matchesFromLhs.iterator().asScala.map { lhs =>
+            val newRow = PrimitiveExecutionContext(slots)
+            lhs.copyTo(newRow)
+            longsToCopy foreach {
+              case (from, to) => newRow.setLongAt(to, rhs.getLongAt(from))
+            }
+            refsToCopy foreach {
+              case (from, to) => newRow.setRefAt(to, rhs.getRefAt(from))
+            }
+            newRow
           }
-          newRow
-        }
       }
 
-    result.flatten
+    new MemoryReleasingIterator(result.flatten, state.memoryTracker, tableBytes)
   }
 
-  private def buildProbeTable(input: Iterator[ExecutionContext]): mutable.HashMap[HashKey, mutable.MutableList[ExecutionContext]] = {
-    val table = new mutable.HashMap[HashKey, mutable.MutableList[ExecutionContext]]
+  /**
+    * @return the probe table, and the estimated heap usage of the rows in it as reported to the memory tracker
+    */
+  private def buildProbeTable(input: Iterator[ExecutionContext],
+                              state: QueryState): (LongSlotKeyTable[util.ArrayList[ExecutionContext]], Long) = {
+    val table = new LongSlotKeyTable[util.ArrayList[ExecutionContext]](leftNodes.length)
+    var tableBytes = 0L
 
     for {context <- input
-         joinKey <- computeKey(context, leftNodes)} {
-      val matchingRows = table.getOrElseUpdate(joinKey, mutable.MutableList.empty)
-      matchingRows += context
+         if !hasNullKey(context, leftNodes)} {
+      val matchingRows = table.getOrElseUpdate(context, leftNodes, new util.ArrayList[ExecutionContext]())
+      val rowBytes = EstimatedHeapUsage.of(context) + EstimatedValueSize.REFERENCE
+      state.memoryTracker.allocated(rowBytes)
+      tableBytes += rowBytes
+      matchingRows.add(context)
     }
 
-    table
+    (table, tableBytes)
   }
 
   /**
-    * Creates an array of longs to do the hash join on. If any of the nodes is null, nothing will match and we'll simply return a None
+    * If any of the nodes is null, nothing will match and the row can be skipped
     *
     * @param context The execution context to get the node ids from
-    * @return A Some[Array] if all nodes are valid, or None if any is null
+    * @return true if any of the join nodes is null
     */
-  private def computeKey(context: ExecutionContext, keyColumns: Array[Int]): Option[HashKey] = {
-    val key = new Array[Long](keyColumns.length)
-    for (i <- keyColumns.indices) {
-      val idx = keyColumns(i)
-      val nodeId = context.getLongAt(idx)
-      if (nodeIsNull(nodeId))
-        return None
-      key(i) = nodeId
-    }
-    Some(HashKey(key))
-  }
-
-  private case class HashKey(longs: Array[Long]) {
-    override def hashCode(): Int = util.Arrays.hashCode(longs)
-
-    override def equals(obj: scala.Any): Boolean = obj match {
-      case HashKey(other) => util.Arrays.equals(longs, other)
-      case _ => false
+  private def hasNullKey(context: ExecutionContext, keyColumns: Array[Int]): Boolean = {
+    var i = 0
+    while (i < keyColumns.length) {
+      if (nodeIsNull(context.getLongAt(keyColumns(i))))
+        return true
+      i += 1
     }
-
-    override def canEqual(that: Any): Boolean = that.isInstanceOf[HashKey]
+    false
   }
-
 }
@@ -19,7 +19,7 @@
  */
 package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.pipes
 
-import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.{RefSlot, SlotConfiguration}
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
 import org.neo4j.cypher.internal.planner.v3_4.spi.IndexDescriptor
 import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expression
@@ -27,7 +27,8 @@ import org.neo4j.cypher.internal.runtime.interpreted.commands.indexQuery
 import org.neo4j.cypher.internal.runtime.interpreted.pipes._
 import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
 import org.neo4j.cypher.internal.v3_4.expressions.{LabelToken, PropertyKeyToken}
-import org.neo4j.cypher.internal.v3_4.logical.plans.{LogicalPlanId, QueryExpression}
+import org.neo4j.cypher.internal.v3_4.logical.plans.{CachedNodeProperty, LogicalPlanId, QueryExpression}
+import org.neo4j.values.storable.Values
 
 case class NodeIndexSeekSlottedPipe(ident: String,
                                     label: LabelToken,
@@ -46,17 +47,49 @@ case class NodeIndexSeekSlottedPipe(ident: String,
 
   private val indexFactory = indexMode.indexFactory(descriptor)
 
+  // Slots for the cached values of the seeked properties, or -1 for properties that are not read from the cache
+  private val cachedPropertyOffsets: Array[Int] = propertyKeys.map { p =>
+    slots.get(CachedNodeProperty.cacheKey(ident, p.name)) match {
+      case Some(RefSlot(cachedOffset, _, _)) => cachedOffset
+      case _ => -1
+    }
+  }.toArray
+
+  private val indexFactoryWithValues =
+    if (cachedPropertyOffsets.exists(_ >= 0)) indexMode.indexFactoryWithValues(descriptor) else None
+
   valueExpr.expressions.foreach(_.registerOwningPipe(this))
 
   protected def internalCreateResults(state: QueryState): Iterator[ExecutionContext] = {
-    val index = indexFactory(state)
     val baseContext = state.initialContext.getOrElse(PrimitiveExecutionContext.empty)
-    val resultNodes = indexQuery(valueExpr, baseContext, state, index, label.name, propertyKeys.map(_.name))
-    resultNodes.map { node =>
-      val context = PrimitiveExecutionContext(slots)
-      state.copyArgumentStateTo(context, argumentSize.nLongs, argumentSize.nReferences)
-      context.setLongAt(offset, node.getId)
-      context
+    indexFactoryWithValues match {
+      case Some(factory) =>
+        val index = factory(state)
+        val results = indexQuery(valueExpr, baseContext, state, index, label.name, propertyKeys.map(_.name))
+        results.map {
+          case (node, values) =>
+            val context = PrimitiveExecutionContext(slots)
+            state.copyArgumentStateTo(context, argumentSize.nLongs, argumentSize.nReferences)
+            context.setLongAt(offset, node.getId)
+            // Without values from the index the cached slots are set to NO_VALUE, and the properties are read from the store
+            var i = 0
+            while (i < cachedPropertyOffsets.length) {
+              if (cachedPropertyOffsets(i) >= 0)
+                context.setRefAt(cachedPropertyOffsets(i), if (values != null) values(i) else Values.NO_VALUE)
+              i += 1
+            }
+            context
+        }
+
+      case None =>
+        val index = indexFactory(state)
+        val resultNodes = indexQuery(valueExpr, baseContext, state, index, label.name, propertyKeys.map(_.name))
+        resultNodes.map { node =>
+          val context = PrimitiveExecutionContext(slots)
+          state.copyArgumentStateTo(context, argumentSize.nLongs, argumentSize.nReferences)
+          context.setLongAt(offset, node.getId)
+          context
+        }
     }
   }
 
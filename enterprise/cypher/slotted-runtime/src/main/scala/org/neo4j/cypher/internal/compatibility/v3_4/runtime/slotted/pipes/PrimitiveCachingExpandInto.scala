@@ -142,7 +142,7 @@ trait PrimitiveCachingExpandInto {
   }
 }
 
-protected final class PrimitiveRelationshipsCache(capacity: Int) {
+final class PrimitiveRelationshipsCache(capacity: Int) {
 
   val table = new mutable.OpenHashMap[(Long, Long), Array[Long]]()
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.pipes
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.{LongSlotKeyTable, MemoryReleasingIterator}
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expression
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.{Pipe, PipeWithSource, QueryState}
+import org.neo4j.cypher.internal.runtime.interpreted.{EstimatedValueSize, ExecutionContext}
+import org.neo4j.cypher.internal.v3_4.logical.plans.LogicalPlanId
+
+/**
+  * Distinct on grouping expressions that only read nodes and relationships from long slots. Rows are compared on the
+  * ids in those slots, and the grouping expressions are only evaluated for rows that have not been seen before.
+  *
+  * @param primitiveGroupingKeys the long slots of the incoming rows that the grouping expressions read
+  */
+case class PrimitiveDistinctSlottedPipe(source: Pipe,
+                                        slots: SlotConfiguration,
+                                        primitiveGroupingKeys: Array[Int],
+                                        groupingExpressions: Map[Int, Expression])
+                                       (val id: LogicalPlanId = LogicalPlanId.DEFAULT)
+  extends PipeWithSource(source) {
+
+  groupingExpressions.values.foreach(_.registerOwningPipe(this))
+
+  protected def internalCreateResults(input: Iterator[ExecutionContext],
+                                      state: QueryState): Iterator[ExecutionContext] = {
+    val seen = new LongSlotKeyTable[java.lang.Boolean](primitiveGroupingKeys.length)
+    val keyBytes = 8L * primitiveGroupingKeys.length + EstimatedValueSize.OBJECT_OVERHEAD
+    var seenBytes = 0L
+
+    val result = input.filter { incoming =>
+      if (seen.get(incoming, primitiveGroupingKeys) != null) {
+        false
+      } else {
+        state.memoryTracker.allocated(keyBytes)
+        seenBytes += keyBytes
+        seen.put(incoming, primitiveGroupingKeys, java.lang.Boolean.TRUE)
+        true
+      }
+    }.map { incoming =>
+      val outgoing = PrimitiveExecutionContext(slots)
+      groupingExpressions.foreach {
+        case (offset, expression) => outgoing.setRefAt(offset, expression(incoming, state))
+      }
+      outgoing
+    }
+    new MemoryReleasingIterator(result, state.memoryTracker, seenBytes)
+  }
+}
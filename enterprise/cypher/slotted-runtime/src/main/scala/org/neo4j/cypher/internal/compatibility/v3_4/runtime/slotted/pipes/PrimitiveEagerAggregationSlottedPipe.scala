@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.pipes
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.{EstimatedHeapUsage, LongSlotKeyTable, MemoryReleasingIterator}
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.{AggregationExpression, Expression}
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.aggregation.AggregationFunction
+import org.neo4j.cypher.internal.runtime.interpreted.pipes.{Pipe, PipeWithSource, QueryState}
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.cypher.internal.v3_4.logical.plans.LogicalPlanId
+
+import scala.collection.mutable
+
+/**
+  * Eager aggregation on grouping expressions that only read nodes and relationships from long slots. Groups are
+  * looked up on the ids in those slots, and the grouping expressions are evaluated once per group instead of once
+  * per row.
+  *
+  * @param primitiveGroupingKeys the long slots of the incoming rows that the grouping expressions read
+  */
+case class PrimitiveEagerAggregationSlottedPipe(source: Pipe,
+                                                slots: SlotConfiguration,
+                                                primitiveGroupingKeys: Array[Int],
+                                                groupingExpressions: Map[Int, Expression],
+                                                aggregations: Map[Int, AggregationExpression])
+                                               (val id: LogicalPlanId = LogicalPlanId.DEFAULT)
+  extends PipeWithSource(source) {
+
+  aggregations.values.foreach(_.registerOwningPipe(this))
+  groupingExpressions.values.foreach(_.registerOwningPipe(this))
+
+  private val (aggregationOffsets: Array[Int], aggregationFunctions: Array[AggregationExpression]) = {
+    val (a, b) = aggregations.unzip
+    (a.toArray, b.toArray)
+  }
+
+  protected def internalCreateResults(input: Iterator[ExecutionContext],
+                                      state: QueryState): Iterator[ExecutionContext] = {
+
+    val groups = new LongSlotKeyTable[Group](primitiveGroupingKeys.length)
+    var groupBytes = 0L
+
+    // Consume all input and aggregate
+    input.foreach { ctx =>
+      val group = groups.getOrElseUpdate(ctx, primitiveGroupingKeys, {
+        val group = createGroup(ctx, state)
+        val bytes = EstimatedHeapUsage.of(group.context) + GROUP_OVERHEAD * aggregationFunctions.length
+        state.memoryTracker.allocated(bytes)
+        groupBytes += bytes
+        group
+      })
+      var i = 0
+      while (i < group.functions.length) {
+        group.functions(i)(ctx, state)
+        i += 1
+      }
+    }
+
+    // Write the produced aggregations to the output pipeline
+    val result = new mutable.ArrayBuffer[ExecutionContext](groups.size)
+    groups.foreach { group =>
+      var i = 0
+      while (i < aggregationOffsets.length) {
+        group.context.setRefAt(aggregationOffsets(i), group.functions(i).result(state))
+        i += 1
+      }
+      result += group.context
+    }
+    groups.close()
+    new MemoryReleasingIterator(result.iterator, state.memoryTracker, groupBytes)
+  }
+
+  private def createGroup(ctx: ExecutionContext, state: QueryState): Group = {
+    val context = PrimitiveExecutionContext(slots)
+    groupingExpressions.foreach {
+      case (offset, expression) => context.setRefAt(offset, expression(ctx, state))
+    }
+    new Group(context, aggregationFunctions.map(_.createAggregationFunction))
+  }
+
+  private class Group(val context: PrimitiveExecutionContext, val functions: Array[AggregationFunction])
+
+  // rough heap usage of a group in the table, per aggregation function
+  private val GROUP_OVERHEAD = 64L
+}
@@ -21,6 +21,7 @@ package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.pipes
 
 import java.util.Comparator
 
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.ExternalSorter
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.{LongSlot, SlotConfiguration, RefSlot, Slot}
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.{Pipe, PipeWithSource, QueryState}
 import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
@@ -29,7 +30,8 @@ import org.neo4j.values.{AnyValue, AnyValues}
 
 case class SortSlottedPipe(source: Pipe,
                            orderBy: Seq[ColumnOrder],
-                           slots: SlotConfiguration)
+                           slots: SlotConfiguration,
+                           spillMemoryBudget: Long)
                           (val id: LogicalPlanId = LogicalPlanId.DEFAULT)
   extends PipeWithSource(source) {
   assert(orderBy.nonEmpty)
@@ -39,9 +41,9 @@ case class SortSlottedPipe(source: Pipe,
     .reduceLeft[Comparator[ExecutionContext]]((a, b) => a.thenComparing(b))
 
   override protected def internalCreateResults(input: Iterator[ExecutionContext], state: QueryState): Iterator[ExecutionContext] = {
-    val array = input.toArray
-    java.util.Arrays.sort(array, comparator)
-    array.toIterator
+    val sorter = new ExternalSorter(comparator, spillMemoryBudget, state.query, state.memoryTracker)
+    input.foreach(sorter.add)
+    sorter.sorted()
   }
 }
 
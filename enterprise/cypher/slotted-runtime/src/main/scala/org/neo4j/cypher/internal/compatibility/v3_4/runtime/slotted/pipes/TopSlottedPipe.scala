@@ -22,6 +22,7 @@ package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.pipes
 import java.util.Comparator
 
 import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.DefaultComparatorTopTable
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.{EstimatedHeapUsage, ExternalSorter, MemoryReleasingIterator}
 import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.Expression
 import org.neo4j.cypher.internal.runtime.interpreted.pipes.{Pipe, PipeWithSource, QueryState}
 import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
@@ -42,7 +43,11 @@ abstract class TopSlottedPipe(source: Pipe, orderBy: Seq[ColumnOrder])
     .reduceLeft[Comparator[ExecutionContext]]((a, b) => a.thenComparing(b))
 }
 
-case class TopNSlottedPipe(source: Pipe, orderBy: Seq[ColumnOrder], countExpression: Expression)
+/*
+ * When the limit is so large that the top rows would not fit in the spill memory budget, all rows are sorted with an
+ * external sort instead, and only the first rows of the result are read.
+ */
+case class TopNSlottedPipe(source: Pipe, orderBy: Seq[ColumnOrder], countExpression: Expression, spillMemoryBudget: Long)
                            (val id: LogicalPlanId = LogicalPlanId.DEFAULT) extends TopSlottedPipe(source, orderBy) {
 
   countExpression.registerOwningPipe(this)
@@ -55,19 +60,40 @@ case class TopNSlottedPipe(source: Pipe, orderBy: Seq[ColumnOrder], countExpress
     else {
       val first = input.next()
       val count = countExpression(first, state).asInstanceOf[NumberValue].longValue().toInt
-      val topTable = new DefaultComparatorTopTable(comparator, count)
-      topTable.add(first)
-
-      input.foreach {
-        ctx =>
+      if (EstimatedHeapUsage.of(first) * count > spillMemoryBudget)
+        sortAndTake(first, input, count, state)
+      else {
+        val topTable = new DefaultComparatorTopTable(comparator, count)
+        // the table never holds more than count rows, so only the first count rows are reported
+        var rowsInTable = 0
+        var tableBytes = 0L
+        def add(ctx: ExecutionContext): Unit = {
+          if (rowsInTable < count) {
+            val rowBytes = EstimatedHeapUsage.of(ctx)
+            state.memoryTracker.allocated(rowBytes)
+            tableBytes += rowBytes
+            rowsInTable += 1
+          }
           topTable.add(ctx)
-      }
+        }
+
+        add(first)
+        input.foreach(add)
 
-      topTable.sort()
+        topTable.sort()
 
-      topTable.iterator.asScala
+        new MemoryReleasingIterator(topTable.iterator.asScala, state.memoryTracker, tableBytes)
+      }
     }
   }
+
+  private def sortAndTake(first: ExecutionContext, input: Iterator[ExecutionContext], count: Int,
+                          state: QueryState): Iterator[ExecutionContext] = {
+    val sorter = new ExternalSorter(comparator, spillMemoryBudget, state.query, state.memoryTracker)
+    sorter.add(first)
+    input.foreach(sorter.add)
+    sorter.sorted().take(count)
+  }
 }
 
 /*
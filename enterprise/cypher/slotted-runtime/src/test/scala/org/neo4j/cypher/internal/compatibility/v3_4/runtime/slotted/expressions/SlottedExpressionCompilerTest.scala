@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.expressions
+
+import org.mockito.ArgumentMatchers.{anyInt, anyLong}
+import org.mockito.Mockito.when
+import org.mockito.invocation.InvocationOnMock
+import org.mockito.stubbing.Answer
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.expressions.CompiledPredicate
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.{ast => runtimeAst}
+import org.neo4j.cypher.internal.runtime.interpreted.QueryStateHelper
+import org.neo4j.cypher.internal.runtime.interpreted.commands.convert.{CommunityExpressionConverter, ExpressionConverters}
+import org.neo4j.cypher.internal.runtime.{Operations, QueryContext}
+import org.neo4j.cypher.internal.util.v3_4.DummyPosition
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+import org.neo4j.cypher.internal.v3_4.expressions._
+import org.neo4j.graphdb.Node
+import org.neo4j.values.storable.Value
+import org.neo4j.values.storable.Values.{NO_VALUE, longValue, stringValue}
+
+class SlottedExpressionCompilerTest extends CypherFunSuite {
+  private val pos = DummyPosition(0)
+
+  private val compiling = new ExpressionConverters(SlottedExpressionCompiler, SlottedExpressionConverters,
+                                                   CommunityExpressionConverter)
+  private val interpreting = new ExpressionConverters(SlottedExpressionConverters, CommunityExpressionConverter)
+
+  // node ids are stored in long slots 0 and 1, the cached property of node 0 in reference slot 0
+  private val ids = Seq(-1L, 0L, 1L, 2L)
+  private val properties: Map[Long, Value] = Map(0L -> longValue(5), 1L -> longValue(15), 2L -> stringValue("x"))
+
+  test("should compare ids like the interpreter") {
+    val comparisons: Seq[(Expression, Expression) => Expression] = Seq(
+      runtimeAst.PrimitiveEquals(_, _), Equals(_, _)(pos), LessThan(_, _)(pos), GreaterThanOrEqual(_, _)(pos))
+
+    for (comparison <- comparisons; first <- ids; second <- ids) {
+      shouldEvaluateLikeTheInterpreter(comparison(runtimeAst.IdFromSlot(0), runtimeAst.IdFromSlot(1)), first, second)
+    }
+  }
+
+  test("should read properties like the interpreter") {
+    val property = runtimeAst.NullCheck(0, runtimeAst.NodeProperty(0, 1, "x"))
+    val exists = runtimeAst.NullCheck(1, runtimeAst.NodePropertyExists(1, 1, "x"))
+
+    for (first <- ids; second <- ids) {
+      shouldEvaluateLikeTheInterpreter(GreaterThan(property, SignedDecimalIntegerLiteral("10")(pos))(pos),
+                                       first, second)
+      shouldEvaluateLikeTheInterpreter(Or(IsNull(property)(pos), exists)(pos), first, second)
+      shouldEvaluateLikeTheInterpreter(
+        Equals(runtimeAst.CachedNodePropertyFromSlot(0, 1, 0, "x"), SignedDecimalIntegerLiteral("5")(pos))(pos),
+        first, second)
+    }
+  }
+
+  private def shouldEvaluateLikeTheInterpreter(expression: Expression, first: Long, second: Long): Unit = {
+    val command = compiling.toCommandExpression(expression)
+    withClue(expression) {
+      command shouldBe a[CompiledPredicate]
+    }
+    val expected = interpreting.toCommandExpression(expression)(context(first, second), state)
+    withClue(s"$expression with ids $first and $second") {
+      command(context(first, second), state) should equal(expected)
+    }
+  }
+
+  private def context(first: Long, second: Long) = {
+    val context = PrimitiveExecutionContext(SlotConfiguration(Map.empty, 2, 1))
+    context.setLongAt(0, first)
+    context.setLongAt(1, second)
+    context.setRefAt(0, if (first == 0L) properties(first) else NO_VALUE)
+    context
+  }
+
+  private def state = {
+    val nodeOps = mock[Operations[Node]]
+    when(nodeOps.getProperty(anyLong(), anyInt())).thenAnswer(new Answer[Value] {
+      override def answer(invocation: InvocationOnMock): Value =
+        properties.getOrElse(invocation.getArgument[Long](0), NO_VALUE)
+    })
+    when(nodeOps.hasProperty(anyLong(), anyInt())).thenAnswer(new Answer[Boolean] {
+      override def answer(invocation: InvocationOnMock): Boolean =
+        properties.contains(invocation.getArgument[Long](0))
+    })
+    val query = mock[QueryContext]
+    when(query.nodeOps).thenReturn(nodeOps)
+    QueryStateHelper.emptyWith(query = query)
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers
+
+import java.util.Comparator
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.runtime.interpreted.ExecutionContext
+import org.neo4j.cypher.internal.util.v3_4.symbols._
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+import org.neo4j.kernel.api.query.{QueryMemoryLimitExceededException, QueryMemoryPool, QueryMemoryTracker}
+import org.neo4j.values.storable.{TextValue, Values}
+
+import scala.util.Random
+
+class ExternalSorterTest extends CypherFunSuite {
+
+  private val query = mock[QueryContext]
+
+  private val slots = SlotConfiguration.empty
+    .newLong("key", nullable = false, CTInteger)
+    .newReference("name", nullable = true, CTString)
+
+  private val byKey = new Comparator[ExecutionContext] {
+    override def compare(a: ExecutionContext, b: ExecutionContext): Int = java.lang.Long.compare(a.getLongAt(0), b.getLongAt(0))
+  }
+
+  private def row(key: Long, name: String): ExecutionContext = {
+    val context = PrimitiveExecutionContext(slots)
+    context.setLongAt(0, key)
+    context.setRefAt(0, Values.stringValue(name))
+    context
+  }
+
+  private def sort(rows: Seq[ExecutionContext], memoryBudget: Long): (Seq[(Long, String)], Int) = {
+    val sorter = new ExternalSorter(byKey, memoryBudget, query, QueryMemoryTracker.NONE)
+    rows.foreach(sorter.add)
+    val result = sorter.sorted().map(r => (r.getLongAt(0), r.getRefAt(0).asInstanceOf[TextValue].stringValue())).toList
+    (result, sorter.spilledRuns)
+  }
+
+  test("should sort in memory when the rows fit the budget") {
+    val keys = Random.shuffle((0L until 100L).toList)
+
+    val (result, runs) = sort(keys.map(k => row(k, s"name$k")), Long.MaxValue)
+
+    runs should equal(0)
+    result should equal((0L until 100L).map(k => (k, s"name$k")))
+  }
+
+  test("should spill sorted runs and merge them when the rows do not fit the budget") {
+    val keys = Random.shuffle((0L until 1000L).toList)
+
+    val (result, runs) = sort(keys.map(k => row(k, s"name$k")), 1024)
+
+    runs should be > 1
+    result should equal((0L until 1000L).map(k => (k, s"name$k")))
+  }
+
+  test("should keep rows with equal keys in input order across runs") {
+    val rows = (0 until 500).map(i => row(i % 3, s"row$i"))
+
+    val (result, runs) = sort(rows, 512)
+
+    runs should be > 1
+    result should equal((0 until 500).map(i => (i % 3L, s"row$i")).sortBy(_._1))
+  }
+
+  test("should report the rows on heap to the memory tracker until they are read") {
+    val tracker = new QueryMemoryPool(0, 0).newTracker()
+    val sorter = new ExternalSorter(byKey, Long.MaxValue, query, tracker)
+    (0L until 100L).foreach(k => sorter.add(row(k, s"name$k")))
+
+    tracker.usedBytes() should be > 0L
+
+    val sorted = sorter.sorted()
+    sorted.size should equal(100)
+    tracker.usedBytes() should equal(0L)
+  }
+
+  test("should release the rows it spills") {
+    val tracker = new QueryMemoryPool(0, 0).newTracker()
+    val sorter = new ExternalSorter(byKey, 1024, query, tracker)
+    (0L until 1000L).foreach(k => sorter.add(row(k, s"name$k")))
+
+    tracker.usedBytes() should be <= 1024L + EstimatedHeapUsage.of(row(0, "name0"))
+  }
+
+  test("should fail when the rows on heap exceed the memory limit of the query") {
+    val tracker = new QueryMemoryPool(0, 1024).newTracker()
+    val sorter = new ExternalSorter(byKey, Long.MaxValue, query, tracker)
+
+    a[QueryMemoryLimitExceededException] should be thrownBy {
+      (0L until 1000L).foreach(k => sorter.add(row(k, s"name$k")))
+    }
+  }
+}
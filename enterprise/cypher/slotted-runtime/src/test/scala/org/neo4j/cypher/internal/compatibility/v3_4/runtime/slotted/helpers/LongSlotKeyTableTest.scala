@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.util.v3_4.symbols._
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+
+import scala.collection.mutable
+
+class LongSlotKeyTableTest extends CypherFunSuite {
+
+  private val slots = SlotConfiguration.empty
+    .newLong("a", nullable = true, CTNode)
+    .newLong("b", nullable = true, CTNode)
+    .newLong("c", nullable = true, CTNode)
+
+  private def row(longs: Long*): PrimitiveExecutionContext = {
+    val context = PrimitiveExecutionContext(slots)
+    longs.zipWithIndex.foreach {
+      case (l, i) => context.setLongAt(i, l)
+    }
+    context
+  }
+
+  test("should find values by a single long key") {
+    val table = new LongSlotKeyTable[String](1)
+
+    table.put(row(1), Array(0), "one")
+    table.put(row(2), Array(0), "two")
+
+    table.get(row(1), Array(0)) should equal("one")
+    table.get(row(2), Array(0)) should equal("two")
+    table.get(row(3), Array(0)) should be(null)
+    table.size should equal(2)
+  }
+
+  test("should keep the null node id as a key") {
+    val table = new LongSlotKeyTable[String](1)
+
+    table.isEmpty should be(true)
+    table.put(row(-1), Array(0), "null")
+    table.put(row(0), Array(0), "zero")
+
+    table.isEmpty should be(false)
+    table.get(row(-1), Array(0)) should equal("null")
+    table.get(row(0), Array(0)) should equal("zero")
+    table.size should equal(2)
+  }
+
+  test("should find values by composite keys read from different offsets") {
+    val table = new LongSlotKeyTable[String](2)
+
+    table.put(row(1, 2), Array(0, 1), "1-2")
+    table.put(row(2, 1), Array(0, 1), "2-1")
+    table.put(row(-1, -1), Array(0, 1), "null-null")
+
+    table.get(row(0, 1, 2), Array(1, 2)) should equal("1-2")
+    table.get(row(0, 2, 1), Array(1, 2)) should equal("2-1")
+    table.get(row(0, -1, -1), Array(1, 2)) should equal("null-null")
+    table.get(row(0, 1, 1), Array(1, 2)) should be(null)
+  }
+
+  test("should only create a value the first time a key is seen") {
+    val table = new LongSlotKeyTable[mutable.ArrayBuffer[Long]](2)
+
+    for (i <- 0 until 1000) {
+      val r = row(i % 10, i % 7, i)
+      table.getOrElseUpdate(r, Array(0, 1), mutable.ArrayBuffer.empty[Long]) += i
+    }
+
+    table.size should equal(70)
+    val seen = mutable.ArrayBuffer.empty[Long]
+    table.foreach(values => seen ++= values)
+    seen.sorted should equal(0L until 1000L)
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers
+
+import java.io.{ByteArrayInputStream, ByteArrayOutputStream, DataInputStream, DataOutputStream}
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.PrimitiveExecutionContext
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.helpers.SpillFormat.UnspillableValueException
+import org.neo4j.cypher.internal.runtime.QueryContext
+import org.neo4j.cypher.internal.util.v3_4.symbols._
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+import org.neo4j.values.AnyValue
+import org.neo4j.values.storable.{CoordinateReferenceSystem, Values}
+import org.neo4j.values.virtual.VirtualValues
+
+class SpillFormatTest extends CypherFunSuite {
+
+  private val query = mock[QueryContext]
+
+  private def roundTrip(value: AnyValue): AnyValue = {
+    val bytes = new ByteArrayOutputStream()
+    SpillFormat.writeValue(value, new DataOutputStream(bytes))
+    SpillFormat.readValue(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray)), query)
+  }
+
+  test("should read back scalar values with their type") {
+    val values = Seq(Values.NO_VALUE, Values.TRUE, Values.FALSE, Values.byteValue(-3), Values.shortValue(300),
+                     Values.intValue(-70000), Values.longValue(Long.MinValue), Values.longValue(Long.MaxValue),
+                     Values.floatValue(1.5f), Values.doubleValue(-0.25), Values.charValue('x'),
+                     Values.stringValue(""), Values.stringValue("smörgåsbord"),
+                     Values.pointValue(CoordinateReferenceSystem.WGS84, 12.9, 56.7))
+
+    values.foreach { value =>
+      val read = roundTrip(value)
+      read should equal(value)
+      read.getClass should equal(value.getClass)
+    }
+  }
+
+  test("should read back arrays, lists and maps") {
+    val values = Seq(Values.longArray(Array(1L, -2L, 3L)), Values.intArray(Array(4, 5)),
+                     Values.stringArray("a", "b"), Values.booleanArray(Array(true, false)),
+                     Values.doubleArray(Array(0.5, 1.5)), Values.charArray(Array('a', 'b')),
+                     VirtualValues.list(Values.longValue(1), Values.stringValue("two"), Values.NO_VALUE),
+                     VirtualValues.map(Array("a", "b"), Array(Values.longValue(1), VirtualValues.list(Values.TRUE))))
+
+    values.foreach { value =>
+      roundTrip(value) should equal(value)
+    }
+  }
+
+  test("should read back rows") {
+    val slots = SlotConfiguration.empty
+      .newLong("n", nullable = true, CTNode)
+      .newReference("x", nullable = true, CTAny)
+    val row = PrimitiveExecutionContext(slots)
+    row.setLongAt(0, -1)
+    row.setRefAt(0, Values.stringValue("value"))
+
+    val bytes = new ByteArrayOutputStream()
+    SpillFormat.writeRow(row, new DataOutputStream(bytes))
+    val read = SpillFormat.readRow(slots, new DataInputStream(new ByteArrayInputStream(bytes.toByteArray)), query)
+
+    read.getLongAt(0) should equal(-1)
+    read.getRefAt(0) should equal(Values.stringValue("value"))
+  }
+
+  test("should encode small longs in few bytes") {
+    Seq(0L, 1L, -1L, 63L, -64L, 64L, Int.MaxValue.toLong, Long.MinValue, Long.MaxValue).foreach { l =>
+      val bytes = new ByteArrayOutputStream()
+      SpillFormat.writeVarLong(l, new DataOutputStream(bytes))
+      SpillFormat.readVarLong(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray))) should equal(l)
+      if (l >= -64 && l <= 63) bytes.size() should equal(1)
+    }
+  }
+
+  test("should refuse values it cannot write") {
+    intercept[UnspillableValueException] {
+      SpillFormat.writeValue(null, new DataOutputStream(new ByteArrayOutputStream()))
+    }
+    intercept[UnspillableValueException] {
+      SpillFormat.writeValue(VirtualValues.list(mock[AnyValue]), new DataOutputStream(new ByteArrayOutputStream()))
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.pipes
+
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.SlotConfiguration
+import org.neo4j.cypher.internal.compatibility.v3_4.runtime.slotted.expressions.ReferenceFromSlot
+import org.neo4j.cypher.internal.runtime.interpreted.QueryStateHelper
+import org.neo4j.cypher.internal.runtime.interpreted.commands.expressions.{CountStar, Sum}
+import org.neo4j.cypher.internal.util.v3_4.symbols._
+import org.neo4j.cypher.internal.util.v3_4.test_helpers.CypherFunSuite
+import org.neo4j.values.storable.{NumberValue, TextValue}
+
+class EagerAggregationSlottedPipeTest extends CypherFunSuite {
+
+  private val inputSlots = SlotConfiguration.empty
+    .newReference("k", nullable = true, CTString)
+    .newReference("v", nullable = true, CTInteger)
+
+  private val outputSlots = SlotConfiguration.empty
+    .newReference("k", nullable = true, CTString)
+    .newReference("count", nullable = true, CTInteger)
+    .newReference("sum", nullable = true, CTInteger)
+
+  private def aggregate(input: Seq[(String, Int)], spillMemoryBudget: Long): Map[String, (Long, Long)] = {
+    val source = FakeSlottedPipe(input.map { case (k, v) => Map("k" -> k, "v" -> v) }.toIterator, inputSlots)
+    val pipe = EagerAggregationSlottedPipe(source, outputSlots, Map(0 -> ReferenceFromSlot(0)),
+                                           Map(1 -> CountStar(), 2 -> Sum(ReferenceFromSlot(1))), spillMemoryBudget)()
+
+    val rows = pipe.createResults(QueryStateHelper.empty).toList
+    val result = rows.map { row =>
+      row.getRefAt(0).asInstanceOf[TextValue].stringValue() ->
+        (row.getRefAt(1).asInstanceOf[NumberValue].longValue(), row.getRefAt(2).asInstanceOf[NumberValue].longValue())
+    }
+    result.map(_._1).distinct.size should equal(result.size)
+    result.toMap
+  }
+
+  private def expected(input: Seq[(String, Int)]): Map[String, (Long, Long)] =
+    input.groupBy(_._1).map {
+      case (k, rows) => k -> (rows.size.toLong, rows.map(_._2.toLong).sum)
+    }
+
+  test("should aggregate in memory when the groups fit the budget") {
+    val input = (0 until 1000).map(i => (s"key${i % 37}", i))
+
+    aggregate(input, Long.MaxValue) should equal(expected(input))
+  }
+
+  test("should aggregate spilled partitions when the groups do not fit the budget") {
+    val input = (0 until 5000).map(i => (s"key${i % 997}", i))
+
+    aggregate(input, 4096) should equal(expected(input))
+  }
+
+  test("should aggregate when every group is larger than the budget") {
+    val input = (0 until 2000).map(i => (s"key${i % 400}", i))
+
+    aggregate(input, 0) should equal(expected(input))
+  }
+}
@@ -213,7 +213,7 @@ object TopSlottedPipeTestSupport {
       Top1SlottedPipe(source, orderBy)()
     }
     else {
-      TopNSlottedPipe(source, orderBy, Literal(limit))()
+      TopNSlottedPipe(source, orderBy, Literal(limit), Long.MaxValue)()
     }
   }
 
@@ -140,6 +140,31 @@ public class FulltextProvider implements AutoCloseable
         }
     }
 
+    /**
+     * @return the number of index updates queued for the background applier, that it has not yet picked up.
+     */
+    public int getApplierQueueDepth()
+    {
+        return applier.queueDepth();
+    }
+
+    /**
+     * @return how many milliseconds the oldest update in the most recently applied batch waited, from being queued
+     * until it became visible in its index.
+     */
+    public long getApplierLagMillis()
+    {
+        return applier.applyLagMillis();
+    }
+
+    /**
+     * @return the total number of index updates the background applier has applied.
+     */
+    public long getAppliedUpdates()
+    {
+        return applier.appliedUpdates();
+    }
+
     public void openIndex( String identifier, FulltextIndexType type ) throws IOException
     {
         LuceneFulltext index = factory.openFulltextIndex( identifier, type );
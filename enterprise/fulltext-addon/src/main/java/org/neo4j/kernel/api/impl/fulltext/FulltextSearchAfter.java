@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.fulltext;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * Position in a fulltext result, in descending score order, after which a paged fulltext query continues.
+ * <p>
+ * The position is identified the same way {@link org.apache.lucene.search.TopDocs#merge(int, org.apache.lucene.search.TopDocs[])}
+ * orders hits from multiple partitions: by score, then partition, then document id. Document ids are only stable for as
+ * long as the underlying index segments are not merged, so a continuation is a best effort position; it never causes
+ * an error, but a page fetched after the index has changed may skip or repeat hits.
+ */
+public final class FulltextSearchAfter
+{
+    private static final char SEPARATOR = '-';
+
+    private final float score;
+    private final int partition;
+    private final int doc;
+
+    FulltextSearchAfter( float score, int partition, int doc )
+    {
+        this.score = score;
+        this.partition = partition;
+        this.doc = doc;
+    }
+
+    /**
+     * Parses a continuation token, as produced by {@link #toString()}.
+     *
+     * @param token The token to parse, or {@code null} or an empty string to start from the best scoring hit.
+     * @return The parsed position, or {@code null} if the query should start from the beginning.
+     * @throws IllegalArgumentException If the token is not a valid continuation token.
+     */
+    public static FulltextSearchAfter parse( String token )
+    {
+        if ( token == null || token.isEmpty() )
+        {
+            return null;
+        }
+        String[] parts = token.split( String.valueOf( SEPARATOR ) );
+        try
+        {
+            if ( parts.length == 3 )
+            {
+                float score = Float.intBitsToFloat( Integer.parseUnsignedInt( parts[0], 16 ) );
+                int partition = Integer.parseInt( parts[1] );
+                int doc = Integer.parseInt( parts[2] );
+                if ( partition >= 0 && doc >= 0 )
+                {
+                    return new FulltextSearchAfter( score, partition, doc );
+                }
+            }
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new IllegalArgumentException( "Invalid fulltext continuation token: '" + token + "'.", e );
+        }
+        throw new IllegalArgumentException( "Invalid fulltext continuation token: '" + token + "'." );
+    }
+
+    /**
+     * The position to search after, within the given partition, such that only hits ordered after this position
+     * across all partitions are returned.
+     *
+     * @param partition The partition that will be searched.
+     * @param maxDoc The number of documents in the partition.
+     * @return The position to pass to {@link org.apache.lucene.search.IndexSearcher#searchAfter}.
+     */
+    ScoreDoc forPartition( int partition, int maxDoc )
+    {
+        int lastDoc = maxDoc - 1;
+        if ( partition < this.partition )
+        {
+            // Hits with an equal score in an earlier partition were all on the previous pages.
+            return new ScoreDoc( lastDoc, score );
+        }
+        if ( partition > this.partition )
+        {
+            // Hits with an equal score in a later partition are all still to come.
+            return new ScoreDoc( -1, score );
+        }
+        return new ScoreDoc( Math.min( doc, lastDoc ), score );
+    }
+
+    @Override
+    public String toString()
+    {
+        return Integer.toHexString( Float.floatToIntBits( score ) ) + SEPARATOR + partition + SEPARATOR + doc;
+    }
+}
@@ -27,9 +27,12 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.locks.Lock;
 
+import org.neo4j.graphdb.Entity;
 import org.neo4j.graphdb.NotFoundException;
+import org.neo4j.graphdb.event.PropertyEntry;
 import org.neo4j.graphdb.event.TransactionData;
 import org.neo4j.graphdb.event.TransactionEventHandler;
+import org.neo4j.helpers.ArrayUtil;
 
 class FulltextTransactionEventUpdater implements TransactionEventHandler<FulltextTransactionEventUpdater.FulltextTransactionContext>
 {
@@ -51,38 +54,43 @@ class FulltextTransactionEventUpdater implements TransactionEventHandler<Fulltex
         FulltextTransactionContext fulltextTransactionContext = new FulltextTransactionContext( nodeMap, relationshipMap, lock );
 
         String[] nodeProperties = fulltextProvider.getNodeProperties();
-        data.removedNodeProperties().forEach( propertyEntry ->
-        {
-            try
-            {
-                nodeMap.put( propertyEntry.entity().getId(), propertyEntry.entity().getProperties( nodeProperties ) );
-            }
-            catch ( NotFoundException e )
-            {
-                //This means that the node was deleted.
-            }
-        } );
-        data.assignedNodeProperties().forEach(
-                propertyEntry -> nodeMap.put( propertyEntry.entity().getId(),
-                        propertyEntry.entity().getProperties( nodeProperties ) ) );
+        collectIndexedProperties( data.removedNodeProperties(), nodeProperties, nodeMap );
+        collectIndexedProperties( data.assignedNodeProperties(), nodeProperties, nodeMap );
 
         String[] relationshipProperties = fulltextProvider.getRelationshipProperties();
-        data.removedRelationshipProperties().forEach( propertyEntry ->
+        collectIndexedProperties( data.removedRelationshipProperties(), relationshipProperties, relationshipMap );
+        collectIndexedProperties( data.assignedRelationshipProperties(), relationshipProperties, relationshipMap );
+        return fulltextTransactionContext;
+    }
+
+    /**
+     * Reads the indexed properties of every entity that had an indexed property changed. Each entity is read at most
+     * once, no matter how many of its properties changed, and entities whose changes are all to properties that no
+     * index cares about are not read at all.
+     */
+    private static <E extends Entity> void collectIndexedProperties(
+            Iterable<PropertyEntry<E>> propertyEntries, String[] indexedKeys, Map<Long,Map<String,Object>> state )
+    {
+        if ( indexedKeys.length == 0 )
+        {
+            return;
+        }
+        for ( PropertyEntry<E> propertyEntry : propertyEntries )
         {
+            E entity = propertyEntry.entity();
+            if ( state.containsKey( entity.getId() ) || !ArrayUtil.contains( indexedKeys, propertyEntry.key() ) )
+            {
+                continue;
+            }
             try
             {
-                relationshipMap.put( propertyEntry.entity().getId(),
-                        propertyEntry.entity().getProperties( relationshipProperties ) );
+                state.put( entity.getId(), entity.getProperties( indexedKeys ) );
             }
             catch ( NotFoundException e )
             {
-                //This means that the relationship was deleted.
+                //This means that the entity was deleted.
             }
-        } );
-        data.assignedRelationshipProperties().forEach(
-                propertyEntry -> relationshipMap.put( propertyEntry.entity().getId(),
-                        propertyEntry.entity().getProperties( relationshipProperties ) ) );
-        return fulltextTransactionContext;
+        }
     }
 
     @Override
@@ -24,12 +24,13 @@ import org.apache.lucene.document.Document;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -48,29 +49,78 @@ import org.neo4j.kernel.api.impl.schema.writer.PartitionedIndexWriter;
 import org.neo4j.kernel.lifecycle.LifecycleAdapter;
 import org.neo4j.logging.Log;
 import org.neo4j.scheduler.JobScheduler;
+import org.neo4j.unsafe.impl.internal.dragons.FeatureToggles;
 
 import static org.neo4j.kernel.api.impl.fulltext.LuceneFulltextDocumentStructure.documentRepresentingProperties;
 import static org.neo4j.kernel.api.impl.fulltext.LuceneFulltextDocumentStructure.newTermForChangeOrRemove;
 
+/**
+ * Applies fulltext index updates asynchronously, off the committing threads.
+ * <p>
+ * Updates are queued on a bounded queue, so that committing transactions are held back when the applier falls behind,
+ * rather than letting the queue grow without bound. The applier thread drains the queue in batches, groups the updates
+ * of each batch per index, and applies and refreshes the different indexes in parallel, while updates to the same index
+ * are still applied in the order they were queued. The completion latches of a batch are released once all indexes
+ * touched by the batch have been refreshed.
+ */
 class FulltextUpdateApplier extends LifecycleAdapter
 {
     private static final FulltextIndexUpdate STOP_SIGNAL = new FulltextIndexUpdate( null, null );
     private static final int POPULATING_BATCH_SIZE = 10_000;
     private static final JobScheduler.Group UPDATE_APPLIER = new JobScheduler.Group( "FulltextIndexUpdateApplier" );
     private static final String APPLIER_THREAD_NAME = "Fulltext Index Add-On Applier Thread";
+    private static final int QUEUE_CAPACITY =
+            FeatureToggles.getInteger( FulltextUpdateApplier.class, "queue_capacity", 10_000 );
+    private static final int PARALLELISM = FeatureToggles.getInteger( FulltextUpdateApplier.class, "parallelism",
+            Math.min( 4, Runtime.getRuntime().availableProcessors() ) );
 
-    private final LinkedBlockingQueue<FulltextIndexUpdate> workQueue;
+    private final BlockingQueue<FulltextIndexUpdate> workQueue;
     private final Log log;
     private final AvailabilityGuard availabilityGuard;
     private final JobScheduler scheduler;
+    private final int parallelism;
+    private final ApplierStatistics statistics;
     private JobScheduler.JobHandle workerThread;
 
     FulltextUpdateApplier( Log log, AvailabilityGuard availabilityGuard, JobScheduler scheduler )
+    {
+        this( log, availabilityGuard, scheduler, QUEUE_CAPACITY, PARALLELISM );
+    }
+
+    FulltextUpdateApplier( Log log, AvailabilityGuard availabilityGuard, JobScheduler scheduler,
+                           int queueCapacity, int parallelism )
     {
         this.log = log;
         this.availabilityGuard = availabilityGuard;
         this.scheduler = scheduler;
-        workQueue = new LinkedBlockingQueue<>();
+        this.parallelism = Math.max( 1, parallelism );
+        workQueue = new ArrayBlockingQueue<>( queueCapacity );
+        statistics = new ApplierStatistics();
+    }
+
+    /**
+     * @return the number of updates that are queued, but not yet picked up by the applier.
+     */
+    int queueDepth()
+    {
+        return workQueue.size();
+    }
+
+    /**
+     * @return the number of milliseconds the oldest update of the most recently applied batch spent between being
+     * queued, and being visible in its index.
+     */
+    long applyLagMillis()
+    {
+        return statistics.lastApplyLagMillis;
+    }
+
+    /**
+     * @return the total number of updates applied since this applier was created.
+     */
+    long appliedUpdates()
+    {
+        return statistics.appliedUpdates;
     }
 
     <E extends Entity> AsyncFulltextIndexOperation updatePropertyData(
@@ -213,6 +263,8 @@ class FulltextUpdateApplier extends LifecycleAdapter
     {
         try
         {
+            // Blocks when the queue is full, which holds back the committing transaction until the applier catches up.
+            update.queuedAtNanos = System.nanoTime();
             workQueue.put( update );
         }
         catch ( InterruptedException e )
@@ -228,7 +280,8 @@ class FulltextUpdateApplier extends LifecycleAdapter
         {
             throw new IllegalStateException( APPLIER_THREAD_NAME + " already started." );
         }
-        workerThread = scheduler.schedule( UPDATE_APPLIER, new ApplierWorker( workQueue, log, availabilityGuard ) );
+        workerThread = scheduler.schedule( UPDATE_APPLIER,
+                new ApplierWorker( workQueue, log, availabilityGuard, scheduler, parallelism, statistics ) );
     }
 
     @Override
@@ -261,6 +314,7 @@ class FulltextUpdateApplier extends LifecycleAdapter
         private final WritableFulltext index;
         private final ThrowingAction<IOException> action;
         private volatile Throwable throwable;
+        private long queuedAtNanos;
 
         private FulltextIndexUpdate( WritableFulltext index, ThrowingAction<IOException> action )
         {
@@ -292,18 +346,36 @@ class FulltextUpdateApplier extends LifecycleAdapter
         }
     }
 
+    private static class ApplierStatistics
+    {
+        private volatile long lastApplyLagMillis;
+        private volatile long appliedUpdates;
+
+        void batchApplied( int updates, long oldestQueuedAtNanos )
+        {
+            lastApplyLagMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - oldestQueuedAtNanos );
+            appliedUpdates += updates;
+        }
+    }
+
     private static class ApplierWorker implements Runnable
     {
-        private LinkedBlockingQueue<FulltextIndexUpdate> workQueue;
+        private final BlockingQueue<FulltextIndexUpdate> workQueue;
         private final Log log;
         private final AvailabilityGuard availabilityGuard;
+        private final JobScheduler scheduler;
+        private final int parallelism;
+        private final ApplierStatistics statistics;
 
-        ApplierWorker( LinkedBlockingQueue<FulltextIndexUpdate> workQueue, Log log,
-                       AvailabilityGuard availabilityGuard )
+        ApplierWorker( BlockingQueue<FulltextIndexUpdate> workQueue, Log log, AvailabilityGuard availabilityGuard,
+                       JobScheduler scheduler, int parallelism, ApplierStatistics statistics )
         {
             this.workQueue = workQueue;
             this.log = log;
             this.availabilityGuard = availabilityGuard;
+            this.scheduler = scheduler;
+            this.parallelism = parallelism;
+            this.statistics = statistics;
         }
 
         @Override
@@ -311,17 +383,23 @@ class FulltextUpdateApplier extends LifecycleAdapter
         {
             Thread.currentThread().setName( APPLIER_THREAD_NAME );
             waitForDatabaseToBeAvailable();
-            Set<WritableFulltext> refreshableSet = new HashSet<>();
-            List<BinaryLatch> latches = new ArrayList<>();
+            List<FulltextIndexUpdate> batch = new ArrayList<>();
 
             FulltextIndexUpdate update;
             while ( (update = getNextUpdate()) != STOP_SIGNAL )
             {
-                update = drainQueueAndApplyUpdates( update, refreshableSet, latches );
-                refreshAndClearIndexes( refreshableSet );
-                releaseAndClearLatches( latches );
+                batch.add( update );
+                workQueue.drainTo( batch );
+                int stop = batch.indexOf( STOP_SIGNAL );
+                if ( stop != -1 )
+                {
+                    batch.subList( stop, batch.size() ).clear();
+                }
 
-                if ( update == STOP_SIGNAL )
+                applyBatch( batch );
+                releaseAndClearLatches( batch );
+
+                if ( stop != -1 )
                 {
                     return;
                 }
@@ -338,36 +416,87 @@ class FulltextUpdateApplier extends LifecycleAdapter
             while ( !isAvailable && !availabilityGuard.isShutdown() );
         }
 
-        private FulltextIndexUpdate drainQueueAndApplyUpdates(
-                FulltextIndexUpdate update,
-                Set<WritableFulltext> refreshableSet,
-                List<BinaryLatch> latches )
+        private void applyBatch( List<FulltextIndexUpdate> batch )
         {
-            do
+            // Updates to the same index must be applied in queue order, but different indexes are independent.
+            Map<WritableFulltext,List<FulltextIndexUpdate>> updatesPerIndex = new LinkedHashMap<>();
+            for ( FulltextIndexUpdate update : batch )
             {
-                applyUpdate( update, refreshableSet, latches );
-                update = workQueue.poll();
+                updatesPerIndex.computeIfAbsent( update.index, index -> new ArrayList<>() ).add( update );
             }
-            while ( update != null && update != STOP_SIGNAL );
-            return update;
+
+            List<List<List<FulltextIndexUpdate>>> workloads = new ArrayList<>();
+            int workers = Math.min( parallelism, updatesPerIndex.size() );
+            for ( int i = 0; i < workers; i++ )
+            {
+                workloads.add( new ArrayList<>() );
+            }
+            int next = 0;
+            for ( List<FulltextIndexUpdate> indexUpdates : updatesPerIndex.values() )
+            {
+                workloads.get( next++ % workers ).add( indexUpdates );
+            }
+
+            List<JobScheduler.JobHandle> handles = new ArrayList<>( workers - 1 );
+            for ( int i = 1; i < workers; i++ )
+            {
+                List<List<FulltextIndexUpdate>> workload = workloads.get( i );
+                handles.add( scheduler.schedule( UPDATE_APPLIER, () -> applyAndRefresh( workload ) ) );
+            }
+            applyAndRefresh( workloads.get( 0 ) );
+            for ( JobScheduler.JobHandle handle : handles )
+            {
+                awaitTermination( handle );
+            }
+            statistics.batchApplied( batch.size(), batch.get( 0 ).queuedAtNanos );
         }
 
-        private void refreshAndClearIndexes( Set<WritableFulltext> refreshableSet )
+        private void applyAndRefresh( List<List<FulltextIndexUpdate>> workload )
         {
-            for ( WritableFulltext index : refreshableSet )
+            for ( List<FulltextIndexUpdate> indexUpdates : workload )
             {
-                refreshIndex( index );
+                for ( FulltextIndexUpdate update : indexUpdates )
+                {
+                    update.applyUpdate();
+                }
+                refreshIndex( indexUpdates.get( 0 ).index );
             }
-            refreshableSet.clear();
         }
 
-        private void releaseAndClearLatches( List<BinaryLatch> latches )
+        private void awaitTermination( JobScheduler.JobHandle handle )
         {
-            for ( BinaryLatch latch : latches )
+            boolean interrupted = false;
+            while ( true )
+            {
+                try
+                {
+                    handle.waitTermination();
+                    break;
+                }
+                catch ( InterruptedException e )
+                {
+                    // The latches of the batch must not be released before all of its updates have been applied.
+                    interrupted = true;
+                }
+                catch ( ExecutionException e )
+                {
+                    log.error( "Failed to apply fulltext index updates.", e );
+                    break;
+                }
+            }
+            if ( interrupted )
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void releaseAndClearLatches( List<FulltextIndexUpdate> batch )
+        {
+            for ( BinaryLatch latch : batch )
             {
                 latch.release();
             }
-            latches.clear();
+            batch.clear();
         }
 
         private FulltextIndexUpdate getNextUpdate()
@@ -388,15 +517,6 @@ class FulltextUpdateApplier extends LifecycleAdapter
             return update;
         }
 
-        private void applyUpdate( FulltextIndexUpdate update,
-                                  Set<WritableFulltext> refreshableSet,
-                                  List<BinaryLatch> latches )
-        {
-            latches.add( update );
-            update.applyUpdate();
-            refreshableSet.add( update.index );
-        }
-
         private void refreshIndex( WritableFulltext index )
         {
             try
@@ -20,12 +20,17 @@
 package org.neo4j.kernel.api.impl.fulltext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.neo4j.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.collection.primitive.PrimitiveLongIterator;
@@ -42,7 +47,7 @@ import org.neo4j.kernel.api.impl.schema.reader.IndexReaderCloseException;
 class PartitionedFulltextReader implements ReadOnlyFulltext
 {
 
-    private final List<ReadOnlyFulltext> indexReaders;
+    private final List<SimpleFulltextReader> indexReaders;
 
     PartitionedFulltextReader( List<PartitionSearcher> partitionSearchers, String[] properties, Analyzer analyzer )
     {
@@ -50,7 +55,7 @@ class PartitionedFulltextReader implements ReadOnlyFulltext
                 Collectors.toList() ) );
     }
 
-    private PartitionedFulltextReader( List<ReadOnlyFulltext> readers )
+    private PartitionedFulltextReader( List<SimpleFulltextReader> readers )
     {
         this.indexReaders = readers;
     }
@@ -67,6 +72,46 @@ class PartitionedFulltextReader implements ReadOnlyFulltext
         return partitionedOperation( reader -> innerFuzzyQuery( reader, matchAll, terms ) );
     }
 
+    @Override
+    public List<ScoredEntity> topQuery( Collection<String> terms, boolean fuzzy, boolean matchAll, int limit,
+            FulltextSearchAfter after )
+    {
+        List<ScoredEntity> entities = new ArrayList<>();
+        if ( indexReaders.isEmpty() )
+        {
+            return entities;
+        }
+        Query query = indexReaders.get( 0 ).parseQuery( SimpleFulltextReader.queryString( terms, fuzzy ), matchAll );
+        if ( query == null )
+        {
+            return entities;
+        }
+
+        // Every partition contributes at most its own top hits, and merging them orders ties by partition, which is
+        // what FulltextSearchAfter relies on to resume in the right place in each partition.
+        TopDocs[] partitionTopDocs = new TopDocs[indexReaders.size()];
+        IntStream.range( 0, indexReaders.size() ).parallel().forEach( partition ->
+        {
+            SimpleFulltextReader reader = indexReaders.get( partition );
+            ScoreDoc partitionAfter = after == null ? null : after.forPartition( partition, reader.maxDoc() );
+            partitionTopDocs[partition] = reader.topDocs( query, partitionAfter, limit );
+        } );
+        TopDocs merged;
+        try
+        {
+            merged = TopDocs.merge( limit, partitionTopDocs );
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( e );
+        }
+        for ( ScoreDoc scoreDoc : merged.scoreDocs )
+        {
+            entities.add( indexReaders.get( scoreDoc.shardIndex ).scoredEntity( scoreDoc, scoreDoc.shardIndex ) );
+        }
+        return entities;
+    }
+
     private PrimitiveLongIterator innerQuery( ReadOnlyFulltext reader, boolean matchAll, Collection<String> query )
     {
 
@@ -21,6 +21,7 @@ package org.neo4j.kernel.api.impl.fulltext;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 
 import org.neo4j.collection.primitive.PrimitiveLongIterator;
 
@@ -46,6 +47,20 @@ public interface ReadOnlyFulltext extends AutoCloseable
      */
     PrimitiveLongIterator fuzzyQuery( Collection<String> terms, boolean matchAll );
 
+    /**
+     * Searches the fulltext index like {@link #query(Collection, boolean)} or {@link #fuzzyQuery(Collection, boolean)},
+     * but only scores and returns the {@code limit} best matches after the given position, instead of every match.
+     *
+     * @param terms The terms to query for.
+     * @param fuzzy If true, terms are matched fuzzily, like {@link #fuzzyQuery(Collection, boolean)} does.
+     * @param matchAll If true, only results that match all the given terms will be returned
+     * @param limit The maximum number of results to return.
+     * @param after The position to continue from, as given by a previous page, or {@code null} to get the first page.
+     * @return At most {@code limit} matching entities, in descending score order.
+     */
+    List<ScoredEntity> topQuery( Collection<String> terms, boolean fuzzy, boolean matchAll, int limit,
+            FulltextSearchAfter after );
+
     @Override
     void close();
 
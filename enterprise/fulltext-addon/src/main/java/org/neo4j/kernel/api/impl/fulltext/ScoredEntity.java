@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.fulltext;
+
+/**
+ * An entity matching a fulltext query, with its Lucene score, and the position to continue the query from to get the
+ * hits after it.
+ */
+public final class ScoredEntity
+{
+    private final long entityId;
+    private final float score;
+    private final FulltextSearchAfter position;
+
+    ScoredEntity( long entityId, float score, FulltextSearchAfter position )
+    {
+        this.entityId = entityId;
+        this.score = score;
+        this.position = position;
+    }
+
+    public long entityId()
+    {
+        return entityId;
+    }
+
+    public float score()
+    {
+        return score;
+    }
+
+    /**
+     * @return The continuation token that resumes the query right after this entity.
+     */
+    public String continuation()
+    {
+        return position.toString();
+    }
+}
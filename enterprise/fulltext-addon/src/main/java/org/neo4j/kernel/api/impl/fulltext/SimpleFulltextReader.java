@@ -20,17 +20,23 @@
 package org.neo4j.kernel.api.impl.fulltext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.neo4j.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.collection.primitive.PrimitiveLongIterator;
@@ -62,15 +68,68 @@ class SimpleFulltextReader implements ReadOnlyFulltext
     @Override
     public PrimitiveLongIterator query( Collection<String> terms, boolean matchAll )
     {
-        String query = terms.stream().map( QueryParser::escape ).collect( joining( " " ) );
-        return innerQuery( query, matchAll );
+        return innerQuery( queryString( terms, false ), matchAll );
     }
 
     @Override
     public PrimitiveLongIterator fuzzyQuery( Collection<String> terms, boolean matchAll )
     {
-        String query = terms.stream().map( QueryParser::escape ).collect( joining( "~ ", "", "~" ) );
-        return innerQuery( query, matchAll );
+        return innerQuery( queryString( terms, true ), matchAll );
+    }
+
+    @Override
+    public List<ScoredEntity> topQuery( Collection<String> terms, boolean fuzzy, boolean matchAll, int limit,
+            FulltextSearchAfter after )
+    {
+        Query query = parseQuery( queryString( terms, fuzzy ), matchAll );
+        if ( query == null )
+        {
+            return new ArrayList<>();
+        }
+        TopDocs topDocs = topDocs( query, after == null ? null : after.forPartition( 0, maxDoc() ), limit );
+        List<ScoredEntity> entities = new ArrayList<>( topDocs.scoreDocs.length );
+        for ( ScoreDoc scoreDoc : topDocs.scoreDocs )
+        {
+            entities.add( scoredEntity( scoreDoc, 0 ) );
+        }
+        return entities;
+    }
+
+    /**
+     * The best scoring documents matching the query, after the given position within this partition.
+     */
+    TopDocs topDocs( Query query, ScoreDoc after, int limit )
+    {
+        try
+        {
+            return getIndexSearcher().searchAfter( after, query, limit );
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( e );
+        }
+    }
+
+    int maxDoc()
+    {
+        return getIndexSearcher().getIndexReader().maxDoc();
+    }
+
+    ScoredEntity scoredEntity( ScoreDoc scoreDoc, int partition )
+    {
+        List<LeafReaderContext> leaves = getIndexSearcher().getIndexReader().leaves();
+        LeafReaderContext leaf = leaves.get( ReaderUtil.subIndex( scoreDoc.doc, leaves ) );
+        try
+        {
+            NumericDocValues entityIds = leaf.reader().getNumericDocValues( FIELD_ENTITY_ID );
+            long entityId = entityIds.get( scoreDoc.doc - leaf.docBase );
+            return new ScoredEntity( entityId, scoreDoc.score,
+                    new FulltextSearchAfter( scoreDoc.score, partition, scoreDoc.doc ) );
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( e );
+        }
     }
 
     @Override
@@ -98,7 +157,26 @@ class SimpleFulltextReader implements ReadOnlyFulltext
         return new FulltextIndexConfiguration( indexSearcher.doc( docs.scoreDocs[0].doc ) );
     }
 
+    static String queryString( Collection<String> terms, boolean fuzzy )
+    {
+        if ( fuzzy )
+        {
+            return terms.stream().map( QueryParser::escape ).collect( joining( "~ ", "", "~" ) );
+        }
+        return terms.stream().map( QueryParser::escape ).collect( joining( " " ) );
+    }
+
     private PrimitiveLongIterator innerQuery( String queryString, boolean matchAll )
+    {
+        Query query = parseQuery( queryString, matchAll );
+        if ( query == null )
+        {
+            return PrimitiveLongCollections.emptyIterator();
+        }
+        return indexQuery( query );
+    }
+
+    Query parseQuery( String queryString, boolean matchAll )
     {
         MultiFieldQueryParser multiFieldQueryParser = new MultiFieldQueryParser( properties, analyzer );
         if ( matchAll )
@@ -109,17 +187,15 @@ class SimpleFulltextReader implements ReadOnlyFulltext
         {
             multiFieldQueryParser.setDefaultOperator( QueryParser.Operator.OR );
         }
-        Query query;
         try
         {
-            query = multiFieldQueryParser.parse( queryString );
+            return multiFieldQueryParser.parse( queryString );
         }
         catch ( ParseException e )
         {
             assert false;
-            return PrimitiveLongCollections.emptyIterator();
+            return null;
         }
-        return indexQuery( query );
     }
 
     private PrimitiveLongIterator indexQuery( Query query )
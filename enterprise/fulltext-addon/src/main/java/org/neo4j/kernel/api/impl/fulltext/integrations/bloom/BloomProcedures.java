@@ -28,8 +28,11 @@ import java.util.stream.StreamSupport;
 
 import org.neo4j.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.kernel.api.impl.fulltext.FulltextIndexType;
 import org.neo4j.kernel.api.impl.fulltext.FulltextProvider;
+import org.neo4j.kernel.api.impl.fulltext.FulltextSearchAfter;
 import org.neo4j.kernel.api.impl.fulltext.ReadOnlyFulltext;
+import org.neo4j.kernel.api.impl.fulltext.ScoredEntity;
 import org.neo4j.kernel.api.index.InternalIndexState;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
@@ -95,6 +98,14 @@ public class BloomProcedures
         return Stream.of( nodeIndexState, relationshipIndexState ).map( StatusOutput::new );
     }
 
+    @Description( "Report how far the Bloom fulltext index add-on is lagging behind committed transactions" )
+    @Procedure( name = "bloom.applierStatus", mode = READ )
+    public Stream<ApplierStatusOutput> applierStatus()
+    {
+        return Stream.of( new ApplierStatusOutput(
+                provider.getApplierQueueDepth(), provider.getApplierLagMillis(), provider.getAppliedUpdates() ) );
+    }
+
     @Description( "Query the Bloom fulltext index for nodes" )
     @Procedure( name = "bloom.searchNodes", mode = READ )
     public Stream<EntityOutput> bloomFulltextNodes(
@@ -121,6 +132,47 @@ public class BloomProcedures
         }
     }
 
+    @Description( "Query the Bloom fulltext index for the best scoring nodes, one page at a time. Pass the " +
+                  "continuation of the last row of a page to get the next page" )
+    @Procedure( name = "bloom.searchNodesPage", mode = READ )
+    public Stream<ScoredEntityOutput> bloomFulltextNodesPage(
+            @Name( "terms" ) List<String> terms,
+            @Name( value = "limit", defaultValue = "20" ) long limit,
+            @Name( value = "continuation", defaultValue = "" ) String continuation,
+            @Name( value = "fuzzy", defaultValue = "true" ) boolean fuzzy,
+            @Name( value = "matchAll", defaultValue = "false" ) boolean matchAll ) throws Exception
+    {
+        return queryPage( BLOOM_NODES, NODES, terms, limit, continuation, fuzzy, matchAll );
+    }
+
+    @Description( "Query the Bloom fulltext index for the best scoring relationships, one page at a time. Pass " +
+                  "the continuation of the last row of a page to get the next page" )
+    @Procedure( name = "bloom.searchRelationshipsPage", mode = READ )
+    public Stream<ScoredEntityOutput> bloomFulltextRelationshipsPage(
+            @Name( "terms" ) List<String> terms,
+            @Name( value = "limit", defaultValue = "20" ) long limit,
+            @Name( value = "continuation", defaultValue = "" ) String continuation,
+            @Name( value = "fuzzy", defaultValue = "true" ) boolean fuzzy,
+            @Name( value = "matchAll", defaultValue = "false" ) boolean matchAll ) throws Exception
+    {
+        return queryPage( BLOOM_RELATIONSHIPS, RELATIONSHIPS, terms, limit, continuation, fuzzy, matchAll );
+    }
+
+    private Stream<ScoredEntityOutput> queryPage( String identifier, FulltextIndexType type, List<String> terms,
+            long limit, String continuation, boolean fuzzy, boolean matchAll ) throws Exception
+    {
+        if ( limit < 1 || limit > Integer.MAX_VALUE )
+        {
+            throw new IllegalArgumentException( "The page limit must be a positive integer, but was " + limit + "." );
+        }
+        FulltextSearchAfter after = FulltextSearchAfter.parse( continuation );
+        try ( ReadOnlyFulltext indexReader = provider.getReader( identifier, type ) )
+        {
+            return indexReader.topQuery( terms, fuzzy, matchAll, (int) limit, after ).stream()
+                    .map( ScoredEntityOutput::new );
+        }
+    }
+
     private Stream<EntityOutput> queryAsStream( List<String> terms, ReadOnlyFulltext indexReader, boolean fuzzy, boolean matchAll )
     {
         PrimitiveLongIterator primitiveLongIterator;
@@ -146,6 +198,20 @@ public class BloomProcedures
         }
     }
 
+    public static class ScoredEntityOutput
+    {
+        public final long entityid;
+        public final double score;
+        public final String continuation;
+
+        public ScoredEntityOutput( ScoredEntity entity )
+        {
+            this.entityid = entity.entityId();
+            this.score = entity.score();
+            this.continuation = entity.continuation();
+        }
+    }
+
     public static class PropertyOutput
     {
         public final String propertyKey;
@@ -156,6 +222,20 @@ public class BloomProcedures
         }
     }
 
+    public static class ApplierStatusOutput
+    {
+        public final long queueDepth;
+        public final long lagMillis;
+        public final long appliedUpdates;
+
+        public ApplierStatusOutput( long queueDepth, long lagMillis, long appliedUpdates )
+        {
+            this.queueDepth = queueDepth;
+            this.lagMillis = lagMillis;
+            this.appliedUpdates = appliedUpdates;
+        }
+    }
+
     public class StatusOutput
     {
         public final String state;
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.kernel.api.impl.fulltext;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FulltextSearchAfterTest
+{
+    @Test
+    public void mustRoundTripThroughContinuationToken() throws Exception
+    {
+        FulltextSearchAfter after = new FulltextSearchAfter( 0.4242f, 3, 1234 );
+
+        FulltextSearchAfter parsed = FulltextSearchAfter.parse( after.toString() );
+
+        assertEquals( after.toString(), parsed.toString() );
+        ScoreDoc scoreDoc = parsed.forPartition( 3, 10_000 );
+        assertEquals( 0.4242f, scoreDoc.score, 0f );
+        assertEquals( 1234, scoreDoc.doc );
+    }
+
+    @Test
+    public void emptyTokenMustStartFromTheBeginning() throws Exception
+    {
+        assertNull( FulltextSearchAfter.parse( "" ) );
+        assertNull( FulltextSearchAfter.parse( null ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void mustRejectMalformedToken() throws Exception
+    {
+        FulltextSearchAfter.parse( "not-a-token" );
+    }
+
+    @Test
+    public void mustOnlyResumeEqualScoresInLaterPartitions() throws Exception
+    {
+        FulltextSearchAfter after = new FulltextSearchAfter( 1.5f, 1, 7 );
+
+        assertEquals( 99, after.forPartition( 0, 100 ).doc );
+        assertEquals( 7, after.forPartition( 1, 100 ).doc );
+        assertEquals( -1, after.forPartition( 2, 100 ).doc );
+        assertEquals( 4, after.forPartition( 1, 5 ).doc );
+    }
+}
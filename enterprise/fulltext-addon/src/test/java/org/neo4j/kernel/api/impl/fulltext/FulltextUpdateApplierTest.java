@@ -25,6 +25,11 @@ import org.junit.Test;
 
 import java.time.Clock;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.kernel.AvailabilityGuard;
@@ -37,6 +42,7 @@ import org.neo4j.scheduler.JobScheduler;
 
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -127,4 +133,70 @@ public class FulltextUpdateApplierTest
         }
         assertThat( index.getState(), is( InternalIndexState.FAILED ) );
     }
+
+    @Test
+    public void enqueueMustBlockWhileTheQueueIsFull() throws Exception
+    {
+        FulltextUpdateApplier boundedApplier = new FulltextUpdateApplier( log, availabilityGuard, scheduler, 1, 2 );
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            AsyncFulltextIndexOperation first = boundedApplier.writeBarrier();
+            Future<AsyncFulltextIndexOperation> second = executor.submit( boundedApplier::writeBarrier );
+            try
+            {
+                second.get( 100, TimeUnit.MILLISECONDS );
+                fail( "second update should not fit in the queue before the applier is started" );
+            }
+            catch ( TimeoutException e )
+            {
+                // expected
+            }
+            assertEquals( 1, boundedApplier.queueDepth() );
+
+            life.add( boundedApplier );
+            first.awaitCompletion();
+            second.get( 1, TimeUnit.MINUTES ).awaitCompletion();
+            assertEquals( 0, boundedApplier.queueDepth() );
+            assertEquals( 2, boundedApplier.appliedUpdates() );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void failedUpdatesOfOneIndexMustNotAffectUpdatesOfOtherIndexesInTheSameBatch() throws Exception
+    {
+        FulltextUpdateApplier boundedApplier = new FulltextUpdateApplier( log, availabilityGuard, scheduler, 16, 4 );
+        WritableFulltext first = new WritableFulltext( new StubLuceneFulltext() );
+        WritableFulltext second = new WritableFulltext( new StubLuceneFulltext() );
+        AsyncFulltextIndexOperation firstPopulation =
+                boundedApplier.populateNodes( first, new StubGraphDatabaseService() );
+        AsyncFulltextIndexOperation secondPopulation =
+                boundedApplier.populateRelationships( second, new StubGraphDatabaseService() );
+        AsyncFulltextIndexOperation barrier = boundedApplier.writeBarrier();
+
+        life.add( boundedApplier );
+        barrier.awaitCompletion();
+        assertFailed( firstPopulation );
+        assertFailed( secondPopulation );
+        assertThat( first.getState(), is( InternalIndexState.FAILED ) );
+        assertThat( second.getState(), is( InternalIndexState.FAILED ) );
+        assertEquals( 3, boundedApplier.appliedUpdates() );
+    }
+
+    private static void assertFailed( AsyncFulltextIndexOperation operation )
+    {
+        try
+        {
+            operation.awaitCompletion();
+            fail( "awaitCompletion should have thrown" );
+        }
+        catch ( ExecutionException e )
+        {
+            assertThat( e.getCause(), is( instanceOf( NullPointerException.class ) ) );
+        }
+    }
 }
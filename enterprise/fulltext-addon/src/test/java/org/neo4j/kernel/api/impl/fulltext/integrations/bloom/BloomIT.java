@@ -30,6 +30,9 @@ import org.junit.rules.ExpectedException;
 
 import java.io.File;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 import org.neo4j.consistency.ConsistencyCheckService;
 import org.neo4j.consistency.checking.full.ConsistencyFlags;
@@ -53,6 +56,7 @@ import org.neo4j.test.rule.TestDirectory;
 import org.neo4j.test.rule.fs.DefaultFileSystemRule;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
@@ -65,6 +69,7 @@ public class BloomIT
 {
     private static final String NODES = "CALL bloom.searchNodes([%s])";
     private static final String NODES_ADVANCED = "CALL bloom.searchNodes([%s], %b, %b)";
+    private static final String NODES_PAGE = "CALL bloom.searchNodesPage([%s], %d, \"%s\")";
     private static final String RELS = "CALL bloom.searchRelationships([%s])";
     private static final String RELS_ADVANCED = "CALL bloom.searchRelationships([%s], %b, %b)";
     private static final String ENTITYID = "entityid";
@@ -138,6 +143,53 @@ public class BloomIT
         assertFalse( result.hasNext() );
     }
 
+    @Test
+    public void pagedQueryMustReturnAllMatchesInScoreOrderAcrossPages() throws Exception
+    {
+        db = getDb();
+        db.execute( String.format( SET_NODE_KEYS, "\"prop\"" ) );
+        int matching = 25;
+        try ( Transaction transaction = db.beginTx() )
+        {
+            for ( int i = 0; i < matching; i++ )
+            {
+                StringBuilder text = new StringBuilder( "integration" );
+                for ( int j = 0; j < i % 7; j++ )
+                {
+                    text.append( " filler" );
+                }
+                db.createNode().setProperty( "prop", text.toString() );
+            }
+            db.createNode().setProperty( "prop", "unrelated" );
+            transaction.success();
+        }
+
+        Set<Long> seen = new HashSet<>();
+        double lastScore = Double.MAX_VALUE;
+        String continuation = "";
+        int pages = 0;
+        boolean morePages = true;
+        while ( morePages )
+        {
+            Result result = db.execute( String.format( NODES_PAGE, "\"integration\"", 10, continuation ) );
+            int rows = 0;
+            while ( result.hasNext() )
+            {
+                Map<String,Object> row = result.next();
+                assertTrue( seen.add( (Long) row.get( ENTITYID ) ) );
+                double score = (Double) row.get( "score" );
+                assertThat( score, lessThanOrEqualTo( lastScore ) );
+                lastScore = score;
+                continuation = (String) row.get( "continuation" );
+                rows++;
+            }
+            morePages = rows == 10;
+            pages++;
+        }
+        assertEquals( matching, seen.size() );
+        assertEquals( 3, pages );
+    }
+
     @Test
     public void exactQueryShouldBeExact() throws Exception
     {
@@ -81,6 +81,8 @@ public class QueryStatusResult
     public final Long idleTimeMillis; // TODO: we want this field to be of a Duration type (when Cypher supports that)
     /** @since Neo4j 3.2, will be {@code null} if measuring allocation is not supported. */
     public final Long allocatedBytes;
+    /** @since Neo4j 3.4, the estimated memory held by operators such as sorting, aggregation and hash joins. */
+    public final long usedMemoryBytes;
     /** @since Neo4j 3.2 */
     public final long pageHits;
     /** @since Neo4j 3.2 */
@@ -116,6 +118,7 @@ public class QueryStatusResult
         this.runtime = query.runtime();
         this.indexes = query.indexes();
         this.allocatedBytes = query.allocatedBytes();
+        this.usedMemoryBytes = query.usedMemoryBytes();
         this.pageHits = query.pageHits();
         this.pageFaults = query.pageFaults();
     }
@@ -175,6 +175,10 @@ public class ListQueriesProcedureTest
             // then
             assertThat( data, hasEntry( equalTo( "pageHits" ), instanceOf( Long.class ) ) );
             assertThat( data, hasEntry( equalTo( "pageFaults" ), instanceOf( Long.class ) ) );
+
+            //ContainUsedMemoryBytes
+            // then
+            assertThat( data, hasEntry( equalTo( "usedMemoryBytes" ), instanceOf( Long.class ) ) );
         }
     }
 
@@ -33,6 +33,7 @@ import org.neo4j.kernel.api.KernelTransaction;
 import org.neo4j.kernel.api.KernelTransactionHandle;
 import org.neo4j.kernel.api.exceptions.InvalidArgumentsException;
 import org.neo4j.kernel.api.query.ExecutingQuery;
+import org.neo4j.kernel.api.query.QueryMemoryTracker;
 import org.neo4j.kernel.api.query.QuerySnapshot;
 import org.neo4j.kernel.impl.api.KernelTransactionImplementation;
 import org.neo4j.kernel.impl.api.TestKernelTransactionHandle;
@@ -151,7 +152,7 @@ public class TransactionStatusResultTest
         return new ExecutingQuery( queryId, getTestConnectionInfo(), "testUser", "testQuery", VirtualValues.EMPTY_MAP,
                 Collections.emptyMap(), () -> 1L, PageCursorTracer.NULL,
                 Thread.currentThread().getId(), Thread.currentThread().getName(),
-                new CountingSystemNanoClock(), new CountingCpuClock(), new CountingHeapAllocation() );
+                new CountingSystemNanoClock(), new CountingCpuClock(), new CountingHeapAllocation(), QueryMemoryTracker.NONE );
     }
 
     private HttpConnectionInfo getTestConnectionInfo()
@@ -77,6 +77,11 @@ public class MetricsSettings implements LoadableConfig
     public static Setting<Boolean> neoCountsEnabled = buildSetting(
             "metrics.neo4j.counts.enabled", BOOLEAN ).inherits( neoEnabled ).build();
 
+    @Description( "Enable reporting metrics about schema indexes, such as the false positive rate of the uniqueness " +
+                  "filters of unique indexes." )
+    public static Setting<Boolean> neoIndexEnabled = buildSetting(
+            "metrics.neo4j.index.enabled", BOOLEAN ).inherits( neoEnabled ).build();
+
     @Description( "Enable reporting metrics about the network usage." )
     public static Setting<Boolean> neoNetworkEnabled = buildSetting(
             "metrics.neo4j.network.enabled", BOOLEAN ).inherits( neoEnabled ).build();
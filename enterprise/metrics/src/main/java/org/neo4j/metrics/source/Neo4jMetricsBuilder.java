@@ -28,6 +28,7 @@ import org.neo4j.io.pagecache.monitoring.PageCacheCounters;
 import org.neo4j.kernel.configuration.Config;
 import org.neo4j.kernel.ha.cluster.member.ClusterMembers;
 import org.neo4j.kernel.impl.api.LogRotationMonitor;
+import org.neo4j.kernel.impl.api.index.IndexingService;
 import org.neo4j.kernel.impl.factory.Edition;
 import org.neo4j.kernel.impl.factory.OperationalMode;
 import org.neo4j.kernel.impl.logging.LogService;
@@ -49,6 +50,7 @@ import org.neo4j.metrics.source.db.BoltMetrics;
 import org.neo4j.metrics.source.db.CheckPointingMetrics;
 import org.neo4j.metrics.source.db.CypherMetrics;
 import org.neo4j.metrics.source.db.EntityCountMetrics;
+import org.neo4j.metrics.source.db.IndexMetrics;
 import org.neo4j.metrics.source.db.LogRotationMetrics;
 import org.neo4j.metrics.source.db.PageCacheMetrics;
 import org.neo4j.metrics.source.db.TransactionMetrics;
@@ -87,6 +89,8 @@ public class Neo4jMetricsBuilder
         Supplier<CoreMetaData> raft();
 
         Supplier<TransactionIdStore> transactionIdStore();
+
+        Supplier<IndexingService> indexingService();
     }
 
     public Neo4jMetricsBuilder( MetricRegistry registry, EventReporter reporter, Config config, LogService logService,
@@ -141,6 +145,12 @@ public class Neo4jMetricsBuilder
             }
         }
 
+        if ( config.get( MetricsSettings.neoIndexEnabled ) )
+        {
+            life.add( new IndexMetrics( registry, dependencies.indexingService() ) );
+            result = true;
+        }
+
         if ( config.get( MetricsSettings.neoNetworkEnabled ) )
         {
             life.add( new NetworkMetrics( registry, dependencies.monitors() ) );
@@ -37,6 +37,28 @@ public class CypherMetrics extends LifecycleAdapter
     @Documented( "The total number of times Cypher has decided to re-plan a query" )
     public static final String REPLAN_EVENTS = name( NAME_PREFIX, "replan_events" );
 
+    @Documented( "The total number of times a query found its plan in the query cache" )
+    public static final String PLAN_CACHE_HITS = name( NAME_PREFIX, "plan_cache_hits" );
+
+    @Documented( "The total number of times a query had to be planned because its plan was not in the query cache" )
+    public static final String PLAN_CACHE_MISSES = name( NAME_PREFIX, "plan_cache_misses" );
+
+    @Documented( "The ratio of query cache hits to all query cache lookups" )
+    public static final String PLAN_CACHE_HIT_RATIO = name( NAME_PREFIX, "plan_cache_hit_ratio" );
+
+    @Documented( "The number of saved or imported queries that are still to be planned to warm up the query cache" )
+    public static final String PLAN_CACHE_WARMUP_REMAINING = name( NAME_PREFIX, "plan_cache_warmup_remaining" );
+
+    @Documented( "The total number of times a query has been replanned in the background while its stale plan was in use" )
+    public static final String BACKGROUND_REPLANS = name( NAME_PREFIX, "background_replans" );
+
+    @Documented( "The total number of stale plans that have been replaced by plans made in the background" )
+    public static final String BACKGROUND_REPLAN_SWAPS = name( NAME_PREFIX, "background_replan_swaps" );
+
+    @Documented( "The accumulated time in milliseconds from finding plans stale until replacing them with plans " +
+                 "made in the background" )
+    public static final String BACKGROUND_REPLAN_TIME_TO_SWAP = name( NAME_PREFIX, "background_replan_time_to_swap" );
+
     private final MetricRegistry registry;
     private final Monitors monitors;
     private final PlanCacheMetricsMonitor cacheMonitor = new PlanCacheMetricsMonitor();
@@ -52,12 +74,26 @@ public class CypherMetrics extends LifecycleAdapter
     {
         monitors.addMonitorListener( cacheMonitor );
         registry.register( REPLAN_EVENTS, (Gauge<Long>) cacheMonitor::numberOfReplans );
+        registry.register( PLAN_CACHE_HITS, (Gauge<Long>) cacheMonitor::numberOfHits );
+        registry.register( PLAN_CACHE_MISSES, (Gauge<Long>) cacheMonitor::numberOfMisses );
+        registry.register( PLAN_CACHE_HIT_RATIO, (Gauge<Double>) cacheMonitor::hitRatio );
+        registry.register( PLAN_CACHE_WARMUP_REMAINING, (Gauge<Long>) cacheMonitor::numberOfQueriesToWarmUp );
+        registry.register( BACKGROUND_REPLANS, (Gauge<Long>) cacheMonitor::numberOfBackgroundReplans );
+        registry.register( BACKGROUND_REPLAN_SWAPS, (Gauge<Long>) cacheMonitor::numberOfBackgroundReplanSwaps );
+        registry.register( BACKGROUND_REPLAN_TIME_TO_SWAP, (Gauge<Long>) cacheMonitor::backgroundReplanTimeToSwapMillis );
     }
 
     @Override
     public void stop()
     {
         registry.remove( REPLAN_EVENTS );
+        registry.remove( PLAN_CACHE_HITS );
+        registry.remove( PLAN_CACHE_MISSES );
+        registry.remove( PLAN_CACHE_HIT_RATIO );
+        registry.remove( PLAN_CACHE_WARMUP_REMAINING );
+        registry.remove( BACKGROUND_REPLANS );
+        registry.remove( BACKGROUND_REPLAN_SWAPS );
+        registry.remove( BACKGROUND_REPLAN_TIME_TO_SWAP );
         monitors.removeMonitorListener( cacheMonitor );
     }
 }
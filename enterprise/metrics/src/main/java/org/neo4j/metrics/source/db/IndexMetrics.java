@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.metrics.source.db;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.function.Supplier;
+
+import org.neo4j.kernel.impl.annotations.Documented;
+import org.neo4j.kernel.impl.api.index.IndexingService;
+import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+@Documented( ".Database Index Metrics" )
+public class IndexMetrics extends LifecycleAdapter
+{
+    private static final String INDEX_PREFIX = "neo4j.index";
+
+    @Documented( "The highest estimated false positive rate among the uniqueness filters of the unique indexes" )
+    public static final String UNIQUENESS_FILTER_FALSE_POSITIVE_RATE =
+            name( INDEX_PREFIX, "uniqueness_filter", "false_positive_rate" );
+
+    private final MetricRegistry registry;
+    private final Supplier<IndexingService> indexingService;
+
+    public IndexMetrics( MetricRegistry registry, Supplier<IndexingService> indexingService )
+    {
+        this.registry = registry;
+        this.indexingService = indexingService;
+    }
+
+    @Override
+    public void start()
+    {
+        registry.register( UNIQUENESS_FILTER_FALSE_POSITIVE_RATE,
+                (Gauge<Double>) () -> indexingService.get().uniquenessFilterFalsePositiveRate() );
+    }
+
+    @Override
+    public void stop()
+    {
+        registry.remove( UNIQUENESS_FILTER_FALSE_POSITIVE_RATE );
+    }
+}
@@ -190,6 +190,35 @@ public class MetricsKernelExtensionFactoryIT
         assertThat( events, greaterThan( 0L ) );
     }
 
+    @Test
+    public void showPlanCacheHits() throws Throwable
+    {
+        // WHEN
+        for ( int i = 0; i < 5; i++ )
+        {
+            try ( Transaction tx = db.beginTx() )
+            {
+                db.execute( "match (n:Label {name: 'Tobias'}) return n.name" ).close();
+                tx.success();
+            }
+        }
+
+        File metricFile = metricsCsv( outputPath, CypherMetrics.PLAN_CACHE_HITS );
+
+        // THEN see that all but the first execution found the plan in the cache
+        long endTime = currentTimeMillis() + TimeUnit.SECONDS.toMillis( 10 );
+        long hits = 0;
+        while ( currentTimeMillis() < endTime && hits < 4 )
+        {
+            hits = readLongValueAndAssert( metricFile, ( newValue, currentValue ) -> newValue >= currentValue );
+            if ( hits < 4 )
+            {
+                Thread.sleep( 300 );
+            }
+        }
+        assertThat( hits, greaterThanOrEqualTo( 4L ) );
+    }
+
     @Test
     public void shouldUseEventBasedReportingCorrectly() throws Throwable
     {
@@ -223,6 +223,7 @@ public class ProcedureResourcesIT
             proc.withParam( "'propKey'" );
             break;
         case "db.resampleIndex":
+        case "db.compactIndex":
             proc.withParam( "'" + indexDefinition + "'" );
             break;
         case "db.createRelationshipType":
@@ -244,6 +245,9 @@ public class ProcedureResourcesIT
         case "dbms.killQueries":
             proc.withParam( "['query-1234']" );
             break;
+        case "dbms.warmUpQueryCache":
+            proc.withParam( "['MATCH (n) RETURN n']" );
+            break;
         case "dbms.setTXMetaData":
             proc.withParam( "{realUser:'MyMan'}" );
             break;
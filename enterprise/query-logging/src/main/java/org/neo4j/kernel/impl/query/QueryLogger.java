@@ -138,6 +138,10 @@ class QueryLogger implements QueryExecutionMonitor
         if ( logRuntime )
         {
             result.append( " - runtime=" ).append( query.runtime() );
+            if ( query.runtimeFallback() != null )
+            {
+                result.append( " (fallback from " ).append( query.runtimeFallback() ).append( ")" );
+            }
         }
         QueryLogFormatter.formatMap( result.append(" - "), query.transactionAnnotationData() );
         return result.toString();
@@ -32,6 +32,7 @@ import java.util.concurrent.TimeUnit;
 import org.neo4j.io.pagecache.tracing.cursor.PageCursorCounters;
 import org.neo4j.kernel.api.query.ExecutingQuery;
 import org.neo4j.kernel.api.query.PlannerInfo;
+import org.neo4j.kernel.api.query.QueryMemoryTracker;
 import org.neo4j.kernel.impl.query.clientconnection.ClientConnectionInfo;
 import org.neo4j.kernel.impl.query.clientconnection.ShellConnectionInfo;
 import org.neo4j.kernel.impl.util.ValueUtils;
@@ -509,6 +510,29 @@ public class QueryLoggerTest
         );
     }
 
+    @Test
+    public void shouldLogWhyTheRuntimeFellBack() throws Exception
+    {
+        // given
+        AssertableLogProvider logProvider = new AssertableLogProvider();
+        ExecutingQuery query = query( SESSION_1, "TestUser", QUERY_1 );
+        QueryLogger queryLogger = queryLogger( logProvider, LOG_RUNTIME );
+
+        // when
+        queryLogger.startQueryExecution( query );
+        clock.forward( 11, TimeUnit.MILLISECONDS );
+        query.planningCompleted( new PlannerInfo( "magic", "quantum", Collections.emptyList(),
+                "CLASSICAL: Entanglement is not supported" ) );
+        queryLogger.endSuccess( query );
+
+        // then
+        String expectedSessionString = sessionConnectionDetails( SESSION_1, "TestUser" );
+        logProvider.assertExactly(
+                inLog( getClass() ).info( format( "%d ms: %s - %s - %s - {}", 11L, expectedSessionString, QUERY_1,
+                        "runtime=quantum (fallback from CLASSICAL: Entanglement is not supported)" ) )
+        );
+    }
+
     private QueryLogger queryLogger( LogProvider logProvider, QueryLogEntryContent... flags )
     {
         EnumSet<QueryLogEntryContent> flagSet = EnumSet.noneOf( QueryLogEntryContent.class );
@@ -612,6 +636,7 @@ public class QueryLoggerTest
                 thread.getName(),
                 clock,
                 cpuClock,
-                heapAllocation );
+                heapAllocation,
+                QueryMemoryTracker.NONE );
     }
 }
@@ -1051,6 +1051,31 @@ public abstract class BuiltInProceduresInteractionTestBase<S> extends ProcedureI
         // any answer is okay, as long as it isn't denied. That is why we don't care about the actual result here
     }
 
+    @Test
+    public void shouldNotListCachedQueriesIfNotAdmin()
+    {
+        assertFail( noneSubject, "CALL dbms.listCachedQueries()", PERMISSION_DENIED );
+        assertFail( readSubject, "CALL dbms.listCachedQueries()", PERMISSION_DENIED );
+        assertFail( writeSubject, "CALL dbms.listCachedQueries()", PERMISSION_DENIED );
+        assertFail( schemaSubject, "CALL dbms.listCachedQueries()", PERMISSION_DENIED );
+    }
+
+    @Test
+    public void shouldNotWarmUpQueryCacheIfNotAdmin()
+    {
+        assertFail( noneSubject, "CALL dbms.warmUpQueryCache(['RETURN 1'])", PERMISSION_DENIED );
+        assertFail( readSubject, "CALL dbms.warmUpQueryCache(['RETURN 1'])", PERMISSION_DENIED );
+        assertFail( writeSubject, "CALL dbms.warmUpQueryCache(['RETURN 1'])", PERMISSION_DENIED );
+        assertFail( schemaSubject, "CALL dbms.warmUpQueryCache(['RETURN 1'])", PERMISSION_DENIED );
+    }
+
+    @Test
+    public void shouldListCachedQueriesAndWarmUpQueryCacheIfAdmin()
+    {
+        assertSuccess( adminSubject, "CALL dbms.listCachedQueries()", ResourceIterator::close );
+        assertSuccess( adminSubject, "CALL dbms.warmUpQueryCache(['RETURN 1'])", ResourceIterator::close );
+    }
+
     /*
     This surface is hidden in 3.1, to possibly be completely removed or reworked later
     ==================================================================================